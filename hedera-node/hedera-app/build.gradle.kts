@@ -57,6 +57,11 @@ jmhModuleInfo {
     requires("com.hedera.node.app.test.fixtures")
     requires("com.hedera.node.hapi")
     requires("com.hedera.pbj.runtime")
+    requires("com.swirlds.common")
+    requires("com.swirlds.config.api")
+    requires("com.swirlds.merkledb")
+    requires("com.swirlds.state.impl")
+    requires("com.swirlds.virtualmap")
     requires("jmh.core")
     requires("org.hiero.base.crypto")
 }
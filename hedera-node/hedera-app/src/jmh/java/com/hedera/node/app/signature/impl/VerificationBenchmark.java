@@ -5,11 +5,22 @@ import com.hedera.hapi.node.base.Key;
 import com.hedera.hapi.node.base.SignaturePair;
 import com.hedera.node.app.fixtures.AppTestBase;
 import com.hedera.node.app.signature.ExpandedSignaturePair;
+import com.hedera.node.app.signature.SignatureVerificationFuture;
 import com.hedera.node.app.spi.fixtures.Scenarios;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
+import org.hiero.base.crypto.Cryptography;
+import org.hiero.base.crypto.CryptographyProvider;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
@@ -20,32 +31,60 @@ import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.infra.Blackhole;
 
-/** Measures the amount of time to prepare expanded signatures and call the crypto engine */
+/**
+ * Measures the amount of time to prepare expanded signatures and call the crypto engine. With {@code realCrypto},
+ * the signatures are valid Ed25519 signatures checked by the platform crypto engine, and the benchmark waits for all
+ * results, so batches verified on {@code verificationThreads} threads can be compared to verification on the
+ * calling thread ({@code verificationThreads == 0}).
+ */
 @State(Scope.Benchmark)
 @Fork(value = 1, warmups = 1)
 @BenchmarkMode(Mode.AverageTime)
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
 public class VerificationBenchmark extends AppTestBase implements Scenarios {
-    @Param({"1", "2", "5", "10"})
+    @Param({"1", "10", "100"})
     public int numSigPairs;
 
+    @Param({"false", "true"})
+    public boolean realCrypto;
+
+    @Param({"0", "4"})
+    public int verificationThreads;
+
+    @Param({"8"})
+    public int batchSize;
+
     private Set<ExpandedSignaturePair> sigPairs;
-    private Bytes fakeSignedBytes;
+    private Bytes signedBytes;
+    private ExecutorService executor;
     private SignatureVerifierImpl subject;
 
-    @Setup(Level.Invocation)
-    public void setUp() {
-        sigPairs = createSigPairs(numSigPairs);
-        final var fakeCryptoEngine = new DoNothingCryptoEngine();
-        fakeSignedBytes = Bytes.wrap(new byte[] {1, 2, 3, 4, 5});
-        subject = new SignatureVerifierImpl(fakeCryptoEngine);
+    @Setup(Level.Trial)
+    public void setUp() throws GeneralSecurityException {
+        signedBytes = Bytes.wrap(new byte[] {1, 2, 3, 4, 5});
+        sigPairs = realCrypto ? createSignedPairs(numSigPairs) : createSigPairs(numSigPairs);
+        final Cryptography cryptoEngine =
+                realCrypto ? CryptographyProvider.getInstance() : new DoNothingCryptoEngine();
+        executor = verificationThreads > 0 ? new ForkJoinPool(verificationThreads) : null;
+        subject = new SignatureVerifierImpl(cryptoEngine, executor, batchSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
     }
 
     @Benchmark
-    public void verifyBench(Blackhole blackhole) {
-        blackhole.consume(subject.verify(fakeSignedBytes, sigPairs));
+    public void verifyBench(Blackhole blackhole) throws InterruptedException, ExecutionException {
+        final var futures = subject.verify(signedBytes, sigPairs);
+        for (final SignatureVerificationFuture future : futures.values()) {
+            blackhole.consume(future.get());
+        }
     }
 
     private Set<ExpandedSignaturePair> createSigPairs(int numSigPairs) {
@@ -61,4 +100,25 @@ public class VerificationBenchmark extends AppTestBase implements Scenarios {
         }
         return pairs;
     }
+
+    private Set<ExpandedSignaturePair> createSignedPairs(int numSigPairs) throws GeneralSecurityException {
+        final var generator = KeyPairGenerator.getInstance("Ed25519");
+        final var pairs = new HashSet<ExpandedSignaturePair>();
+        for (int i = 0; i < numSigPairs; i++) {
+            final KeyPair keyPair = generator.generateKeyPair();
+            // The raw public key is the last 32 bytes of its X.509 encoding
+            final var encoded = keyPair.getPublic().getEncoded();
+            final var keyBytes = Bytes.wrap(Arrays.copyOfRange(encoded, encoded.length - 32, encoded.length));
+            final var signer = Signature.getInstance("Ed25519");
+            signer.initSign(keyPair.getPrivate());
+            signer.update(signedBytes.toByteArray());
+            final var sigPair = SignaturePair.newBuilder()
+                    .ed25519(Bytes.wrap(signer.sign()))
+                    .pubKeyPrefix(keyBytes.slice(0, 10))
+                    .build();
+            pairs.add(
+                    new ExpandedSignaturePair(Key.newBuilder().ed25519(keyBytes).build(), keyBytes, null, sigPair));
+        }
+        return pairs;
+    }
 }
@@ -0,0 +1,214 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.state.merkle.disk;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.hapi.node.base.TokenID;
+import com.hedera.hapi.node.state.common.EntityIDPair;
+import com.hedera.hapi.node.state.token.Account;
+import com.hedera.hapi.node.state.token.TokenRelation;
+import com.hedera.pbj.runtime.Codec;
+import com.swirlds.common.config.StateCommonConfig;
+import com.swirlds.common.io.config.FileSystemManagerConfig;
+import com.swirlds.common.io.config.TemporaryFileConfig;
+import com.swirlds.common.io.utility.LegacyTemporaryFileBuilder;
+import com.swirlds.config.api.Configuration;
+import com.swirlds.config.api.ConfigurationBuilder;
+import com.swirlds.merkledb.MerkleDbDataSourceBuilder;
+import com.swirlds.merkledb.MerkleDbTableConfig;
+import com.swirlds.merkledb.config.MerkleDbConfig;
+import com.swirlds.state.merkle.disk.OnDiskKey;
+import com.swirlds.state.merkle.disk.OnDiskKeySerializer;
+import com.swirlds.state.merkle.disk.OnDiskReadableKVState;
+import com.swirlds.state.merkle.disk.OnDiskValue;
+import com.swirlds.state.merkle.disk.OnDiskValueSerializer;
+import com.swirlds.state.merkle.disk.OnDiskWritableKVState;
+import com.swirlds.virtualmap.VirtualMap;
+import com.swirlds.virtualmap.config.VirtualMapConfig;
+import com.swirlds.virtualmap.internal.merkle.VirtualRootNode;
+import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+import org.hiero.base.crypto.DigestType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code ReadableKVState.get()} latency for on-disk accounts and token relations. All
+ * entries are flushed to disk before measurements, and state read caches are reset after every
+ * read, so every read goes to the virtual map data source.
+ *
+ * <p>Run with the GC profiler, as {@link #main(String...)} does, to see allocations per read
+ * ({@code gc.alloc.rate.norm}) along with latency.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OnDiskStateBenchmark {
+
+    private static final String ACCOUNTS_KEY = "ACCOUNTS";
+    private static final String TOKEN_RELS_KEY = "TOKEN_RELS";
+
+    // Class IDs only matter for saved states, any unique values will do
+    private static final long ACCOUNT_KEY_CLASS_ID = 0x1001L;
+    private static final long ACCOUNT_VALUE_CLASS_ID = 0x1002L;
+    private static final long TOKEN_REL_KEY_CLASS_ID = 0x2001L;
+    private static final long TOKEN_REL_VALUE_CLASS_ID = 0x2002L;
+
+    public static void main(String... args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] {"-prof", "gc", OnDiskStateBenchmark.class.getName()});
+    }
+
+    @Param({"100000"})
+    private int numEntries;
+
+    private final SplittableRandom random = new SplittableRandom(1_234_567L);
+
+    private VirtualMap<OnDiskKey<AccountID>, OnDiskValue<Account>> accountsMap;
+    private VirtualMap<OnDiskKey<EntityIDPair>, OnDiskValue<TokenRelation>> tokenRelsMap;
+
+    private OnDiskReadableKVState<AccountID, Account> accounts;
+    private OnDiskReadableKVState<EntityIDPair, TokenRelation> tokenRels;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, InterruptedException {
+        final Configuration config = ConfigurationBuilder.create()
+                .withConfigDataType(VirtualMapConfig.class)
+                .withConfigDataType(MerkleDbConfig.class)
+                .withConfigDataType(TemporaryFileConfig.class)
+                .withConfigDataType(StateCommonConfig.class)
+                .withConfigDataType(FileSystemManagerConfig.class)
+                .build();
+
+        accountsMap = createMap(
+                ACCOUNTS_KEY,
+                ACCOUNT_KEY_CLASS_ID,
+                AccountID.PROTOBUF,
+                ACCOUNT_VALUE_CLASS_ID,
+                Account.PROTOBUF,
+                OnDiskStateBenchmark::accountId,
+                OnDiskStateBenchmark::account,
+                config);
+        accounts = new OnDiskReadableKVState<>(ACCOUNTS_KEY, ACCOUNT_KEY_CLASS_ID, AccountID.PROTOBUF, accountsMap);
+
+        tokenRelsMap = createMap(
+                TOKEN_RELS_KEY,
+                TOKEN_REL_KEY_CLASS_ID,
+                EntityIDPair.PROTOBUF,
+                TOKEN_REL_VALUE_CLASS_ID,
+                TokenRelation.PROTOBUF,
+                OnDiskStateBenchmark::tokenRelId,
+                OnDiskStateBenchmark::tokenRel,
+                config);
+        tokenRels = new OnDiskReadableKVState<>(
+                TOKEN_RELS_KEY, TOKEN_REL_KEY_CLASS_ID, EntityIDPair.PROTOBUF, tokenRelsMap);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        accountsMap.release();
+        tokenRelsMap.release();
+    }
+
+    /**
+     * Creates a virtual map with the given number of entries, flushes all entries to disk, and
+     * returns a mutable copy of the map.
+     */
+    private <K, V> VirtualMap<OnDiskKey<K>, OnDiskValue<V>> createMap(
+            final String stateKey,
+            final long keyClassId,
+            final Codec<K> keyCodec,
+            final long valueClassId,
+            final Codec<V> valueCodec,
+            final LongFunction<K> keyFactory,
+            final LongFunction<V> valueFactory,
+            final Configuration config)
+            throws IOException, InterruptedException {
+        final var tableConfig = new MerkleDbTableConfig((short) 1, DigestType.SHA_384, numEntries * 2L, 0);
+        final var builder = new MerkleDbDataSourceBuilder(
+                LegacyTemporaryFileBuilder.buildTemporaryDirectory(stateKey, config), tableConfig, config);
+        final VirtualMap<OnDiskKey<K>, OnDiskValue<V>> map = new VirtualMap<>(
+                stateKey,
+                new OnDiskKeySerializer<>(keyClassId + 0x100, keyClassId, keyCodec),
+                new OnDiskValueSerializer<>(valueClassId + 0x100, valueClassId, valueCodec),
+                builder,
+                config);
+
+        final var state =
+                new OnDiskWritableKVState<>(stateKey, keyClassId, keyCodec, valueClassId, valueCodec, map);
+        for (long i = 0; i < numEntries; i++) {
+            state.put(keyFactory.apply(i), valueFactory.apply(i));
+        }
+        state.commit();
+
+        // Hash and flush the populated copy, so all reads from the mutable copy go to disk
+        final VirtualMap<OnDiskKey<K>, OnDiskValue<V>> copy = map.copy();
+        final VirtualRootNode<?, ?> root = map.getChild(1);
+        root.getHash();
+        root.enableFlush();
+        map.release();
+        root.waitUntilFlushed();
+        return copy;
+    }
+
+    private static AccountID accountId(final long num) {
+        return AccountID.newBuilder().accountNum(1000 + num).build();
+    }
+
+    private static Account account(final long num) {
+        return Account.newBuilder()
+                .accountId(accountId(num))
+                .memo("Account " + num)
+                .tinybarBalance(num * 100)
+                .ethereumNonce(num)
+                .numberAssociations(1)
+                .numberPositiveBalances(1)
+                .build();
+    }
+
+    private static EntityIDPair tokenRelId(final long num) {
+        return EntityIDPair.newBuilder()
+                .accountId(accountId(num))
+                .tokenId(TokenID.newBuilder().tokenNum(1_000_000 + num % 1000).build())
+                .build();
+    }
+
+    private static TokenRelation tokenRel(final long num) {
+        final EntityIDPair id = tokenRelId(num);
+        return TokenRelation.newBuilder()
+                .accountId(id.accountId())
+                .tokenId(id.tokenId())
+                .balance(num)
+                .kycGranted(true)
+                .build();
+    }
+
+    @Benchmark
+    public Account getAccount() {
+        final Account account = accounts.get(accountId(random.nextLong(numEntries)));
+        // Make sure the next read goes to the data source rather than the read cache
+        accounts.reset();
+        return account;
+    }
+
+    @Benchmark
+    public TokenRelation getTokenRelation() {
+        final TokenRelation tokenRel = tokenRels.get(tokenRelId(random.nextLong(numEntries)));
+        tokenRels.reset();
+        return tokenRel;
+    }
+}
@@ -905,6 +905,12 @@ public final class Hedera implements SwirldMain<MerkleNodeState>, PlatformStatus
 
             logger.debug("Shutting down the block manager");
             daggerApp.blockRecordManager().close();
+
+            final var signatureVerifierExecutor = daggerApp.signatureVerifierExecutor();
+            if (signatureVerifierExecutor != null) {
+                logger.debug("Shutting down the signature verifier executor");
+                signatureVerifierExecutor.shutdown();
+            }
         }
 
         platform = null;
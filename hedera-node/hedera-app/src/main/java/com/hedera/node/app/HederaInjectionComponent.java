@@ -68,9 +68,11 @@ import edu.umd.cs.findbugs.annotations.Nullable;
 import java.nio.charset.Charset;
 import java.time.InstantSource;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import javax.inject.Named;
 import javax.inject.Provider;
 import javax.inject.Singleton;
 
@@ -133,6 +135,10 @@ public interface HederaInjectionComponent {
 
     BlockNodeConnectionManager blockNodeConnectionManager();
 
+    @Nullable
+    @Named("SignatureVerifier")
+    ExecutorService signatureVerifierExecutor();
+
     BlockStreamManager blockStreamManager();
 
     NodeRewardManager nodeRewardManager();
@@ -36,6 +36,12 @@ public final class SignatureVerificationFutureImpl implements SignatureVerificat
      * signature check is complete,
      */
     private final TransactionSignature txSig;
+    /**
+     * The {@link Future} of the asynchronous signature check of {@link #txSig}, or {@code null} if the check was
+     * already completed when this instance was created.
+     */
+    @Nullable
+    private final Future<?> verification;
     /**
      * Whether *this* future has been canceled. Used for properly implementing {@link Future} semantics.
      */
@@ -51,9 +57,28 @@ public final class SignatureVerificationFutureImpl implements SignatureVerificat
      */
     public SignatureVerificationFutureImpl(
             @NonNull final Key key, @Nullable final Bytes evmAlias, @NonNull final TransactionSignature txSig) {
+        this(key, evmAlias, txSig, null);
+    }
+
+    /**
+     * Create a new instance for a signature check that may still be in progress.
+     *
+     * @param key The key associated with this sig check. Cannot be null.
+     * @param evmAlias The evm address alias, if any (always set if the key is an ECDSA_SECP256K1 key)
+     * @param txSig The {@link TransactionSignature}, from which the pass/fail status of the
+     * {@link SignatureVerification} is derived.
+     * @param verification The {@link Future} that completes when the status of {@code txSig} is set, or {@code null}
+     * if the status is already set.
+     */
+    public SignatureVerificationFutureImpl(
+            @NonNull final Key key,
+            @Nullable final Bytes evmAlias,
+            @NonNull final TransactionSignature txSig,
+            @Nullable final Future<?> verification) {
         this.key = requireNonNull(key);
         this.evmAlias = evmAlias;
         this.txSig = requireNonNull(txSig);
+        this.verification = verification;
     }
 
     /** {@inheritDoc} */
@@ -115,7 +140,7 @@ public final class SignatureVerificationFutureImpl implements SignatureVerificat
      */
     @Override
     public boolean isDone() {
-        return true;
+        return verification == null || verification.isDone();
     }
 
     /**
@@ -128,6 +153,9 @@ public final class SignatureVerificationFutureImpl implements SignatureVerificat
     @NonNull
     @Override
     public SignatureVerification get() throws InterruptedException, ExecutionException {
+        if (verification != null) {
+            verification.get();
+        }
         return new SignatureVerificationImpl(key, evmAlias, txSig.getSignatureStatus() == VALID);
     }
 
@@ -142,6 +170,9 @@ public final class SignatureVerificationFutureImpl implements SignatureVerificat
     @Override
     public SignatureVerification get(long timeout, TimeUnit unit)
             throws InterruptedException, ExecutionException, TimeoutException {
+        if (verification != null) {
+            verification.get(timeout, unit);
+        }
         return new SignatureVerificationImpl(key, evmAlias, txSig.getSignatureStatus() == VALID);
     }
 }
@@ -13,21 +13,39 @@ import com.hedera.node.app.signature.ExpandedSignaturePair;
 import com.hedera.node.app.signature.SignatureVerificationFuture;
 import com.hedera.node.app.signature.SignatureVerifier;
 import com.hedera.node.app.spi.signatures.SignatureVerifier.MessageType;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.data.HederaConfig;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.inject.Singleton;
 import org.hiero.base.crypto.Cryptography;
 import org.hiero.base.crypto.CryptographyProvider;
 import org.hiero.base.crypto.SignatureType;
 import org.hiero.base.crypto.TransactionSignature;
+import org.hiero.base.crypto.VerificationStatus;
 
 /**
  * A concrete implementation of {@link SignatureVerifier} that uses the {@link Cryptography} engine to verify the
  * signatures.
+ *
+ * <p>If {@code hedera.workflow.verificationThreads} is positive, signatures are verified in parallel on a dedicated
+ * executor. The signatures of a transaction are split into batches of at most
+ * {@code hedera.workflow.verificationBatchSize} signatures, each batch is verified in a separate task, and the
+ * returned futures complete when their batches are verified. Since pre-handle calls this verifier for all
+ * transactions of an event in parallel and doesn't wait for the results, the signatures of all transactions of an
+ * event are verified together on the executor. Otherwise, signatures are verified one by one on the calling thread.
  */
 @Singleton
 public final class SignatureVerifierImpl implements SignatureVerifier {
@@ -35,15 +53,49 @@ public final class SignatureVerifierImpl implements SignatureVerifier {
     /** The {@link Cryptography} engine to use for signature verification. */
     private final Cryptography cryptoEngine;
 
-    /** Create a new instance with new {@link Cryptography} engine. */
-    @Inject
+    /** The executor to verify signatures on, or {@code null} to verify them on the calling thread. */
+    @Nullable
+    private final Executor executor;
+
+    /** The maximum number of signatures to verify in a single task on the {@link #executor}. */
+    private final int batchSize;
+
+    /** Create a new instance with new {@link Cryptography} engine, verifying signatures on the calling thread. */
     public SignatureVerifierImpl() {
         this(CryptographyProvider.getInstance());
     }
 
-    /** Create a new instance with the given {@link Cryptography} engine. */
+    /**
+     * Create a new instance with new {@link Cryptography} engine, verifying signatures on the given executor if
+     * one is configured.
+     *
+     * @param executor the executor to verify signatures on, or {@code null} if no verification threads are configured
+     * @param configProvider the configuration provider
+     */
+    @Inject
+    public SignatureVerifierImpl(
+            @Nullable @Named("SignatureVerifier") final ExecutorService executor,
+            @NonNull final ConfigProvider configProvider) {
+        this(
+                CryptographyProvider.getInstance(),
+                executor,
+                configProvider.getConfiguration().getConfigData(HederaConfig.class).workflowVerificationBatchSize());
+    }
+
+    /** Create a new instance with the given {@link Cryptography} engine, verifying signatures on the calling thread. */
     SignatureVerifierImpl(@NonNull final Cryptography cryptoEngine) {
+        this(cryptoEngine, null, 1);
+    }
+
+    /** Create a new instance with the given {@link Cryptography} engine and executor. */
+    SignatureVerifierImpl(
+            @NonNull final Cryptography cryptoEngine, @Nullable final Executor executor, final int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive, got " + batchSize);
+        }
         this.cryptoEngine = requireNonNull(cryptoEngine);
+        this.executor = executor;
+        this.batchSize = batchSize;
     }
 
     @NonNull
@@ -62,6 +114,8 @@ public final class SignatureVerifierImpl implements SignatureVerifier {
 
         // Gather each TransactionSignature to send to the platform and the resulting SignatureVerificationFutures
         final var futures = HashMap.<Key, SignatureVerificationFuture>newHashMap(sigs.size());
+        final var batchSigPairs = new ArrayList<ExpandedSignaturePair>(Math.min(batchSize, sigs.size()));
+        final var batchTxSigs = new ArrayList<TransactionSignature>(Math.min(batchSize, sigs.size()));
         for (ExpandedSignaturePair sigPair : sigs) {
             final TransactionSignature txSig;
             final var kind = sigPair.sigPair().signature().kind();
@@ -78,12 +132,68 @@ public final class SignatureVerifierImpl implements SignatureVerifier {
             } else {
                 throw new IllegalArgumentException("Unsupported signature type: " + kind);
             }
-            cryptoEngine.verifySync(txSig);
-            final SignatureVerificationFuture future =
-                    new SignatureVerificationFutureImpl(sigPair.key(), sigPair.evmAlias(), txSig);
-            futures.put(sigPair.key(), future);
+            if (executor == null) {
+                cryptoEngine.verifySync(txSig);
+                final SignatureVerificationFuture future =
+                        new SignatureVerificationFutureImpl(sigPair.key(), sigPair.evmAlias(), txSig);
+                futures.put(sigPair.key(), future);
+            } else {
+                batchSigPairs.add(sigPair);
+                batchTxSigs.add(txSig);
+                if (batchTxSigs.size() == batchSize) {
+                    submitBatch(batchSigPairs, batchTxSigs, futures);
+                    batchSigPairs.clear();
+                    batchTxSigs.clear();
+                }
+            }
+        }
+        if (!batchTxSigs.isEmpty()) {
+            submitBatch(batchSigPairs, batchTxSigs, futures);
         }
 
         return futures;
     }
+
+    /**
+     * Submits a task to verify the given signatures to the executor, and adds a future for every signature to the
+     * given map. If the executor rejects the task, the signatures are verified on the calling thread.
+     */
+    private void submitBatch(
+            @NonNull final List<ExpandedSignaturePair> sigPairs,
+            @NonNull final List<TransactionSignature> txSigs,
+            @NonNull final Map<Key, SignatureVerificationFuture> futures) {
+        final var batch = List.copyOf(txSigs);
+        CompletableFuture<Void> verification;
+        try {
+            verification = CompletableFuture.runAsync(() -> verifyBatch(batch), requireNonNull(executor));
+        } catch (final RejectedExecutionException e) {
+            verifyBatch(batch);
+            verification = null;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            final var sigPair = sigPairs.get(i);
+            futures.put(
+                    sigPair.key(),
+                    new SignatureVerificationFutureImpl(sigPair.key(), sigPair.evmAlias(), batch.get(i), verification));
+        }
+    }
+
+    /**
+     * Verifies all signatures in the batch with a single call to the crypto engine. If the engine fails, falls back
+     * to verifying signatures one by one, so a single bad signature doesn't affect the status of other signatures
+     * in the batch. Signatures that can't be verified at all are marked as invalid.
+     */
+    private void verifyBatch(@NonNull final List<TransactionSignature> batch) {
+        try {
+            cryptoEngine.verifySync(batch);
+        } catch (final RuntimeException e) {
+            for (final var txSig : batch) {
+                try {
+                    cryptoEngine.verifySync(txSig);
+                } catch (final RuntimeException ignore) {
+                    txSig.setSignatureStatus(VerificationStatus.INVALID);
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,32 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.state;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Receives the keys that were read from and written to a {@link WrappedState}, see
+ * {@link WrappedState#recordAccesses(StateAccessRecorder, boolean)}.
+ *
+ * <p>Singleton and queue states don't have keys. For them, the state key itself is reported as the key, so any
+ * two accesses of such a state are considered as accesses of the same key.
+ */
+public interface StateAccessRecorder {
+
+    /**
+     * Records that the given key was read.
+     *
+     * @param serviceName the name of the service owning the state
+     * @param stateKey the state key
+     * @param key the key that was read
+     */
+    void recordRead(@NonNull String serviceName, @NonNull String stateKey, @NonNull Object key);
+
+    /**
+     * Records that the given key was written or removed.
+     *
+     * @param serviceName the name of the service owning the state
+     * @param stateKey the state key
+     * @param key the key that was written
+     */
+    void recordWrite(@NonNull String serviceName, @NonNull String stateKey, @NonNull Object key);
+}
@@ -86,6 +86,21 @@ public class WrappedState implements State, Hashable {
                 serviceName, s -> new WrappedWritableStates(delegate.getWritableStates(s)));
     }
 
+    /**
+     * Reports all keys read from and written to this {@link WrappedState} so far to the given recorder. Only
+     * accesses made through this {@link WrappedState} are reported, including reads made by other wrapped states
+     * on top of it.
+     *
+     * @param recorder the recorder to report the keys to
+     * @param includeWrites whether written keys should be reported, too
+     */
+    public void recordAccesses(@NonNull final StateAccessRecorder recorder, final boolean includeWrites) {
+        requireNonNull(recorder);
+        for (final var entry : writableStatesMap.entrySet()) {
+            entry.getValue().recordAccesses(entry.getKey(), recorder, includeWrites);
+        }
+    }
+
     /**
      * Writes all modifications to the underlying {@link State}.
      */
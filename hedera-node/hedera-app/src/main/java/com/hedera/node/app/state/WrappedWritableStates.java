@@ -96,6 +96,49 @@ public class WrappedWritableStates implements WritableStates {
         return false;
     }
 
+    /**
+     * Reports all keys read from and written to this {@link WrappedWritableStates} to the given recorder. Queue
+     * states are reported as written, if they were modified; reads from queues are not tracked separately.
+     *
+     * @param serviceName the name of the service these states belong to
+     * @param recorder the recorder to report the keys to
+     * @param includeWrites whether written keys should be reported, too
+     */
+    public void recordAccesses(
+            @NonNull final String serviceName,
+            @NonNull final StateAccessRecorder recorder,
+            final boolean includeWrites) {
+        for (final var entry : writableKVStateMap.entrySet()) {
+            final var stateKey = entry.getKey();
+            final var kvState = entry.getValue();
+            for (final Object key : kvState.readKeys()) {
+                recorder.recordRead(serviceName, stateKey, key);
+            }
+            if (includeWrites) {
+                for (final Object key : kvState.modifiedKeys()) {
+                    recorder.recordWrite(serviceName, stateKey, key);
+                }
+            }
+        }
+        for (final var entry : writableSingletonStateMap.entrySet()) {
+            final var stateKey = entry.getKey();
+            final var singletonState = entry.getValue();
+            if (singletonState.isRead()) {
+                recorder.recordRead(serviceName, stateKey, stateKey);
+            }
+            if (includeWrites && singletonState.isModified()) {
+                recorder.recordWrite(serviceName, stateKey, stateKey);
+            }
+        }
+        if (includeWrites) {
+            for (final var entry : writableQueueStateMap.entrySet()) {
+                if (entry.getValue().isModified()) {
+                    recorder.recordWrite(serviceName, entry.getKey(), entry.getKey());
+                }
+            }
+        }
+    }
+
     /**
      * Writes all modifications to the underlying {@link WritableStates}.
      */
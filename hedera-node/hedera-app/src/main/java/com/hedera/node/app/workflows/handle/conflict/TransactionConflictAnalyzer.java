@@ -0,0 +1,322 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.workflows.handle.conflict;
+
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.ACCOUNTS_KEY;
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.STAKING_INFO_KEY;
+import static com.hedera.node.app.service.token.impl.schemas.V0490TokenSchema.STAKING_NETWORK_REWARDS_KEY;
+import static java.util.Objects.requireNonNull;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.node.app.service.token.TokenService;
+import com.hedera.node.app.state.StateAccessRecorder;
+import com.hedera.node.app.workflows.handle.stack.SavepointStackImpl;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.data.AccountsConfig;
+import com.hedera.node.config.data.HederaConfig;
+import com.hedera.node.config.data.LedgerConfig;
+import com.hedera.node.config.data.StatsConfig;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.metrics.api.Counter;
+import com.swirlds.metrics.api.Metrics;
+import com.swirlds.state.lifecycle.EntityIdFactory;
+import com.swirlds.state.lifecycle.info.NetworkInfo;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Measures how many user transactions in a round could be executed in parallel, based on the keys every
+ * transaction read and wrote.
+ *
+ * <p>This class doesn't execute transactions in parallel. Speculative parallel execution against isolated savepoint
+ * stacks, with results committed in consensus order, re-execution on conflicts, and a determinism harness comparing
+ * state hashes with sequential execution, is not implemented. The analyzer only measures how much such an executor
+ * could gain, using the same read and write sets it would need.
+ *
+ * <p>Transactions are still executed one after another, in consensus order. The analyzer only records the read
+ * and write sets of every transaction and places the transaction into the earliest "wave" it could have been
+ * executed in without changing the outcome: a transaction must be executed after every earlier transaction that
+ * wrote a key it reads or writes, and after every earlier transaction that read a key it writes. The number of
+ * waves in a round is the minimum number of sequential steps needed to execute the round, so the ratio of
+ * transactions to waves is the best possible speedup of a parallel executor.
+ *
+ * <p>Fee and staking credits are not treated as conflicts with each other. Every user transaction credits the
+ * funding account, the submitting node's account and the staking and node reward accounts, and updates the stake of
+ * the nodes staked to. These updates are increments, which commute with each other, so a parallel executor can
+ * accumulate them per transaction and apply them in consensus order at the end of a round. A transaction that writes
+ * one of these accounts or staking states is therefore recorded as crediting it, and credits don't order transactions
+ * among themselves. A transaction that reads one of them without writing it, e.g. to compute node or staking rewards,
+ * reads back the credits accumulated so far. Such a read must be executed after all earlier credits of the key in the
+ * round, and before all later ones, so it's a conflict. Spending from one of these accounts can't be told apart from
+ * crediting it at the state level, so the parallelism of the rare transactions that spend from them is still
+ * over-estimated.
+ *
+ * <p>Analysis is only done if {@code hedera.workflow.conflictAnalysisEnabled} is set. It's not free, as every
+ * accessed key is copied to the analyzer's sets.
+ */
+@Singleton
+public class TransactionConflictAnalyzer implements StateAccessRecorder {
+    private static final Logger logger = LogManager.getLogger(TransactionConflictAnalyzer.class);
+
+    private static final RunningAverageMetric.Config TXNS_PER_ROUND_CONFIG = new RunningAverageMetric.Config(
+                    "app", "conflictAnalysisTxnsPerRound")
+            .withDescription("average number of analyzed user transactions per round");
+    private static final RunningAverageMetric.Config WAVES_PER_ROUND_CONFIG = new RunningAverageMetric.Config(
+                    "app", "conflictAnalysisWavesPerRound")
+            .withDescription("average number of sequential steps needed to execute a round with unlimited parallelism");
+    private static final RunningAverageMetric.Config PARALLELISM_CONFIG = new RunningAverageMetric.Config(
+                    "app", "conflictAnalysisParallelism")
+            .withDescription("average ratio of user transactions to sequential steps in a round");
+    private static final Counter.Config CONFLICTING_TXNS_CONFIG = new Counter.Config(
+                    "app", "conflictAnalysisConflictingTxns")
+            .withDescription("number of user transactions that conflict with an earlier transaction in the round");
+
+    /**
+     * A key accessed by a transaction.
+     *
+     * @param serviceName the service name
+     * @param stateKey the state key
+     * @param key the key in the state
+     */
+    private record AccessedKey(@NonNull String serviceName, @NonNull String stateKey, @NonNull Object key) {}
+
+    // States only updated by commutative increments of node stakes and reward sums
+    private static final Set<String> COMMUTATIVE_STATE_KEYS = Set.of(STAKING_INFO_KEY, STAKING_NETWORK_REWARDS_KEY);
+
+    private final ConfigProvider configProvider;
+    private final NetworkInfo networkInfo;
+    private final EntityIdFactory entityIdFactory;
+    private final RunningAverageMetric txnsPerRound;
+    private final RunningAverageMetric wavesPerRound;
+    private final RunningAverageMetric parallelism;
+    private final Counter conflictingTxns;
+
+    // The last wave every key was written in, in the current round
+    private final Map<AccessedKey, Integer> lastWriteWaves = new HashMap<>();
+    // The last wave every key was read in, in the current round
+    private final Map<AccessedKey, Integer> lastReadWaves = new HashMap<>();
+    // The last wave every commutative key was credited in, in the current round
+    private final Map<AccessedKey, Integer> lastCreditWaves = new HashMap<>();
+    // The last wave every commutative key was read back without being credited, in the current round
+    private final Map<AccessedKey, Integer> lastReadBackWaves = new HashMap<>();
+    // Number of conflicts per service and state key, used to find the hottest state in a round
+    private final Map<String, Integer> conflictsByState = new HashMap<>();
+
+    // Read and write sets of the current transaction
+    private final Set<AccessedKey> reads = new HashSet<>();
+    private final Set<AccessedKey> writes = new HashSet<>();
+    // Commutative keys read and written (credited) by the current transaction
+    private final Set<AccessedKey> commutativeReads = new HashSet<>();
+    private final Set<AccessedKey> credits = new HashSet<>();
+
+    // Accounts only credited by commutative fee and staking reward payments, in the current round
+    private final Set<AccountID> commutativeAccounts = new HashSet<>();
+
+    private boolean enabled;
+    private int numTxns;
+    private int numWaves;
+
+    /**
+     * Constructor for the analyzer.
+     *
+     * @param metrics the {@link Metrics} to register the analysis metrics in
+     * @param configProvider the configuration provider
+     * @param networkInfo the network info, used to find the node accounts
+     * @param entityIdFactory the entity id factory, used to create the ids of the system accounts
+     */
+    @Inject
+    public TransactionConflictAnalyzer(
+            @NonNull final Metrics metrics,
+            @NonNull final ConfigProvider configProvider,
+            @NonNull final NetworkInfo networkInfo,
+            @NonNull final EntityIdFactory entityIdFactory) {
+        requireNonNull(metrics);
+        this.configProvider = requireNonNull(configProvider);
+        this.networkInfo = requireNonNull(networkInfo);
+        this.entityIdFactory = requireNonNull(entityIdFactory);
+        final var halfLife =
+                configProvider.getConfiguration().getConfigData(StatsConfig.class).runningAvgHalfLifeSecs();
+        txnsPerRound = metrics.getOrCreate(TXNS_PER_ROUND_CONFIG.withHalfLife(halfLife));
+        wavesPerRound = metrics.getOrCreate(WAVES_PER_ROUND_CONFIG.withHalfLife(halfLife));
+        parallelism = metrics.getOrCreate(PARALLELISM_CONFIG.withHalfLife(halfLife));
+        conflictingTxns = metrics.getOrCreate(CONFLICTING_TXNS_CONFIG);
+    }
+
+    /**
+     * Starts the analysis of a new round. Whether analysis is enabled is checked once per round.
+     */
+    public void startRound() {
+        final var config = configProvider.getConfiguration();
+        enabled = config.getConfigData(HederaConfig.class).workflowConflictAnalysisEnabled();
+        clearRound();
+        commutativeAccounts.clear();
+        if (enabled) {
+            final var accountsConfig = config.getConfigData(AccountsConfig.class);
+            commutativeAccounts.add(entityIdFactory.newAccountId(
+                    config.getConfigData(LedgerConfig.class).fundingAccount()));
+            commutativeAccounts.add(entityIdFactory.newAccountId(accountsConfig.stakingRewardAccount()));
+            commutativeAccounts.add(entityIdFactory.newAccountId(accountsConfig.nodeRewardAccount()));
+            for (final var nodeInfo : networkInfo.addressBook()) {
+                commutativeAccounts.add(nodeInfo.accountId());
+            }
+        }
+    }
+
+    /**
+     * Starts recording the accesses of a user transaction executed in the given root stack.
+     *
+     * @param stack the root stack of the user transaction
+     */
+    public void startTransaction(@NonNull final SavepointStackImpl stack) {
+        requireNonNull(stack);
+        if (enabled) {
+            clearTransaction();
+            stack.setAccessRecorder(this);
+        }
+    }
+
+    /**
+     * Completes the analysis of the current user transaction, placing it into the earliest wave it could have
+     * been executed in.
+     *
+     * @param stack the root stack of the user transaction
+     */
+    public void endTransaction(@NonNull final SavepointStackImpl stack) {
+        requireNonNull(stack);
+        if (!enabled) {
+            return;
+        }
+        stack.setAccessRecorder(null);
+        int wave = 1;
+        AccessedKey conflictKey = null;
+        // A key both read and written is only checked as written, which is the stronger constraint
+        for (final var key : reads) {
+            if (!writes.contains(key)) {
+                final int lastWriteWave = lastWriteWaves.getOrDefault(key, 0);
+                if (lastWriteWave >= wave) {
+                    wave = lastWriteWave + 1;
+                    conflictKey = key;
+                }
+            }
+        }
+        for (final var key : writes) {
+            final int lastAccessWave =
+                    Math.max(lastWriteWaves.getOrDefault(key, 0), lastReadWaves.getOrDefault(key, 0));
+            if (lastAccessWave >= wave) {
+                wave = lastAccessWave + 1;
+                conflictKey = key;
+            }
+        }
+        // Credits commute with each other, but not with reads of the credited key that aren't credits themselves
+        commutativeReads.removeAll(credits);
+        for (final var key : commutativeReads) {
+            final int lastCreditWave = lastCreditWaves.getOrDefault(key, 0);
+            if (lastCreditWave >= wave) {
+                wave = lastCreditWave + 1;
+                conflictKey = key;
+            }
+        }
+        for (final var key : credits) {
+            final int lastReadBackWave = lastReadBackWaves.getOrDefault(key, 0);
+            if (lastReadBackWave >= wave) {
+                wave = lastReadBackWave + 1;
+                conflictKey = key;
+            }
+        }
+        for (final var key : reads) {
+            lastReadWaves.merge(key, wave, Math::max);
+        }
+        for (final var key : writes) {
+            lastWriteWaves.put(key, wave);
+        }
+        for (final var key : commutativeReads) {
+            lastReadBackWaves.merge(key, wave, Math::max);
+        }
+        for (final var key : credits) {
+            lastCreditWaves.merge(key, wave, Math::max);
+        }
+        if (conflictKey != null) {
+            conflictingTxns.increment();
+            conflictsByState.merge(conflictKey.serviceName() + "." + conflictKey.stateKey(), 1, Integer::sum);
+        }
+        numTxns++;
+        numWaves = Math.max(numWaves, wave);
+    }
+
+    /**
+     * Completes the analysis of the current round and updates the metrics.
+     */
+    public void endRound() {
+        if (enabled && numTxns > 0) {
+            txnsPerRound.update(numTxns);
+            wavesPerRound.update(numWaves);
+            parallelism.update((double) numTxns / numWaves);
+            if (logger.isDebugEnabled()) {
+                final var hottestState = conflictsByState.entrySet().stream()
+                        .max(Map.Entry.comparingByValue())
+                        .map(e -> e.getKey() + " (" + e.getValue() + " conflicts)")
+                        .orElse("none");
+                logger.debug(
+                        "Round of {} user transactions could be executed in {} steps, most conflicts in {}",
+                        numTxns,
+                        numWaves,
+                        hottestState);
+            }
+        }
+        clearRound();
+    }
+
+    @Override
+    public void recordRead(
+            @NonNull final String serviceName, @NonNull final String stateKey, @NonNull final Object key) {
+        (isCommutative(serviceName, stateKey, key) ? commutativeReads : reads)
+                .add(new AccessedKey(serviceName, stateKey, key));
+    }
+
+    @Override
+    public void recordWrite(
+            @NonNull final String serviceName, @NonNull final String stateKey, @NonNull final Object key) {
+        (isCommutative(serviceName, stateKey, key) ? credits : writes).add(new AccessedKey(serviceName, stateKey, key));
+    }
+
+    /**
+     * Checks whether the given key is updated by fee and staking increments, which commute with each other.
+     *
+     * @param serviceName the name of the service owning the state
+     * @param stateKey the state key
+     * @param key the key in the state
+     * @return true if writes of the key are credits, which don't order transactions among themselves
+     */
+    private boolean isCommutative(
+            @NonNull final String serviceName, @NonNull final String stateKey, @NonNull final Object key) {
+        if (!TokenService.NAME.equals(serviceName)) {
+            return false;
+        }
+        return COMMUTATIVE_STATE_KEYS.contains(stateKey)
+                || (ACCOUNTS_KEY.equals(stateKey) && key instanceof AccountID && commutativeAccounts.contains(key));
+    }
+
+    private void clearRound() {
+        lastWriteWaves.clear();
+        lastReadWaves.clear();
+        lastCreditWaves.clear();
+        lastReadBackWaves.clear();
+        conflictsByState.clear();
+        clearTransaction();
+        numTxns = 0;
+        numWaves = 0;
+    }
+
+    private void clearTransaction() {
+        reads.clear();
+        writes.clear();
+        commutativeReads.clear();
+        credits.clear();
+    }
+}
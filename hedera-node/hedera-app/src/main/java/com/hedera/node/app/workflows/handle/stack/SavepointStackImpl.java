@@ -37,6 +37,7 @@ import com.hedera.node.app.spi.workflows.HandleException;
 import com.hedera.node.app.spi.workflows.record.StreamBuilder;
 import com.hedera.node.app.state.ReadonlyStatesWrapper;
 import com.hedera.node.app.state.SingleTransactionRecord;
+import com.hedera.node.app.state.StateAccessRecorder;
 import com.hedera.node.app.state.WrappedState;
 import com.hedera.node.app.state.recordcache.BlockRecordSource;
 import com.hedera.node.app.state.recordcache.LegacyListRecordSource;
@@ -93,6 +94,11 @@ public class SavepointStackImpl implements HandleContext.SavepointStack, State {
 
     private final StreamMode streamMode;
 
+    // If set, all keys read and written by the transaction are reported to this recorder before they are
+    // committed or rolled back; only used for root stacks
+    @Nullable
+    private StateAccessRecorder accessRecorder;
+
     private int numPresetIds;
     private int noncesToSkipPerPresetId;
     private boolean presetIdsAllowed;
@@ -253,6 +259,7 @@ public class SavepointStackImpl implements HandleContext.SavepointStack, State {
         if (streamMode != RECORDS && kvStateChangeListener != null) {
             kvStateChangeListener.reset();
         }
+        recordAccesses(true);
         while (!stack.isEmpty()) {
             final var savepoint = stack.pop();
             // If this is a root stack, track the collected node fees for the block
@@ -271,12 +278,41 @@ public class SavepointStackImpl implements HandleContext.SavepointStack, State {
      * Rolls back all state changes captured in this stack.
      */
     public void rollbackFullStack() {
+        // Rolled back writes never reach the state, but the reads still influenced the transaction outcome
+        recordAccesses(false);
         while (!stack.isEmpty()) {
             stack.pop().rollback();
         }
         setupFirstSavepoint(baseBuilder.category());
     }
 
+    /**
+     * Sets the recorder to report all keys read and written in this stack to, every time the full stack is
+     * committed or rolled back. May only be used with root stacks, since child stacks are committed to their
+     * parent stacks, so their accesses are reported by the root stack.
+     *
+     * @param accessRecorder the recorder, or {@code null} to stop recording
+     */
+    public void setAccessRecorder(@Nullable final StateAccessRecorder accessRecorder) {
+        if (builderSink == null) {
+            throw new IllegalStateException("Accesses may only be recorded for root stacks");
+        }
+        this.accessRecorder = accessRecorder;
+    }
+
+    private void recordAccesses(final boolean includeWrites) {
+        if (accessRecorder == null) {
+            return;
+        }
+        // Every savepoint in the stack is reported, since changes in the savepoints on top of the stack aren't
+        // yet committed to the first savepoint. Reads are always propagated down to the first savepoint
+        for (final var savepoint : stack) {
+            if (savepoint.state() instanceof WrappedState wrappedState) {
+                wrappedState.recordAccesses(accessRecorder, includeWrites);
+            }
+        }
+    }
+
     /**
      * Returns true when this stack's base builder should be finalized with staking rewards. There are
      * two qualifying cases:
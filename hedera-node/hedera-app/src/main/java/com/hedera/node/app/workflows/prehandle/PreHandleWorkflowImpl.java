@@ -133,7 +133,9 @@ public class PreHandleWorkflowImpl implements PreHandleWorkflow {
         // Used for looking up payer account information.
         final var accountStore = readableStoreFactory.getStore(ReadableAccountStore.class);
 
-        // In parallel, we will pre-handle each transaction.
+        // In parallel, we will pre-handle each transaction. Signature checks are not awaited here; if the verifier
+        // has a dedicated executor, the signatures of all transactions of the event are verified there in parallel,
+        // and the results are only awaited when the transactions are handled.
         transactions.parallel().forEach(tx -> {
             try {
                 final var result = preHandleAllTransactions(
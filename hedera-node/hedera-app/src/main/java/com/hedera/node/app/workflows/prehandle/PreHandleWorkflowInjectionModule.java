@@ -5,11 +5,17 @@ import com.hedera.node.app.signature.SignatureExpander;
 import com.hedera.node.app.signature.SignatureVerifier;
 import com.hedera.node.app.signature.impl.SignatureExpanderImpl;
 import com.hedera.node.app.signature.impl.SignatureVerifierImpl;
+import com.hedera.node.config.ConfigProvider;
+import com.hedera.node.config.data.HederaConfig;
 import dagger.Binds;
 import dagger.Module;
 import dagger.Provides;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ForkJoinPool;
+import javax.inject.Named;
+import javax.inject.Singleton;
 
 @Module
 public interface PreHandleWorkflowInjectionModule {
@@ -26,4 +32,15 @@ public interface PreHandleWorkflowInjectionModule {
     static ExecutorService provideExecutorService() {
         return ForkJoinPool.commonPool();
     }
+
+    @Provides
+    @Nullable
+    @Singleton
+    @Named("SignatureVerifier")
+    static ExecutorService provideSignatureVerifierExecutor(@NonNull final ConfigProvider configProvider) {
+        // Only created if verification threads are configured, shut down with the node
+        final int threads =
+                configProvider.getConfiguration().getConfigData(HederaConfig.class).workflowVerificationThreads();
+        return threads > 0 ? new ForkJoinPool(threads) : null;
+    }
 }
@@ -99,6 +99,7 @@ module com.hedera.node.app {
     exports com.hedera.node.app.workflows.handle.throttle;
     exports com.hedera.node.app.workflows.handle.dispatch;
     exports com.hedera.node.app.workflows.handle.cache;
+    exports com.hedera.node.app.workflows.handle.conflict;
     exports com.hedera.node.app.ids;
     exports com.hedera.node.app.state.recordcache;
     exports com.hedera.node.app.records;
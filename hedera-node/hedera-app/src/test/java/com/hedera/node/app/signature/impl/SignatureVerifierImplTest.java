@@ -10,18 +10,25 @@ import static java.util.Collections.emptySet;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.hedera.hapi.node.base.Key;
 import com.hedera.node.app.fixtures.AppTestBase;
 import com.hedera.node.app.hapi.utils.MiscCryptoUtils;
 import com.hedera.node.app.signature.ExpandedSignaturePair;
 import com.hedera.node.app.signature.SignatureVerifier;
 import com.hedera.node.app.spi.fixtures.Scenarios;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import org.hiero.base.crypto.Cryptography;
 import org.hiero.base.crypto.TransactionSignature;
@@ -132,6 +139,86 @@ final class SignatureVerifierImplTest extends AppTestBase implements Scenarios {
                 .isEqualTo(true);
     }
 
+    @Test
+    @DisplayName("Batch size must be positive")
+    void failIfBatchSizeIsNotPositive() {
+        assertThatThrownBy(() -> new SignatureVerifierImpl(cryptoEngine, Runnable::run, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Signatures are verified in batches on the executor")
+    void signaturesAreVerifiedInBatches() {
+        // Given five signatures, an executor, and a batch size of two
+        final var sigs = ed25519Pairs(5);
+        final var executor = Executors.newFixedThreadPool(2);
+        try {
+            verifier = new SignatureVerifierImpl(cryptoEngine, executor, 2);
+            doAnswer((Answer<Boolean>) invocation -> {
+                        final List<TransactionSignature> batch = invocation.getArgument(0);
+                        batch.forEach(sig -> sig.setSignatureStatus(VerificationStatus.VALID));
+                        return true;
+                    })
+                    .when(cryptoEngine)
+                    .verifySync(anyList());
+
+            // When we verify them
+            final var map = verifier.verify(signedBytes, sigs);
+
+            // Then every signature is verified, in three batches
+            assertThat(map).hasSize(5);
+            for (final var sig : sigs) {
+                assertThat(map.get(sig.key()))
+                        .succeedsWithin(1, TimeUnit.SECONDS)
+                        .extracting("passed")
+                        .isEqualTo(true);
+            }
+            verify(cryptoEngine, times(3)).verifySync(anyList());
+            verify(cryptoEngine, never()).verifySync(any(TransactionSignature.class));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Failed batches are verified one by one")
+    void failedBatchesAreVerifiedOneByOne() {
+        // Given three signatures in a single batch, and a crypto engine that fails on batches and on one signature
+        final var sigs = new ArrayList<>(ed25519Pairs(3));
+        final var badKey = sigs.get(1).key();
+        verifier = new SignatureVerifierImpl(cryptoEngine, Runnable::run, 3);
+        given(cryptoEngine.verifySync(anyList())).willThrow(new IllegalStateException("batch failure"));
+        doAnswer((Answer<Boolean>) invocation -> {
+                    final TransactionSignature sig = invocation.getArgument(0);
+                    if (sig.getPublicKey().equals(badKey.ed25519OrThrow())) {
+                        throw new IllegalStateException("single failure");
+                    }
+                    sig.setSignatureStatus(VerificationStatus.VALID);
+                    return true;
+                })
+                .when(cryptoEngine)
+                .verifySync(any(TransactionSignature.class));
+
+        // When we verify them
+        final var map = verifier.verify(signedBytes, new LinkedHashSet<>(sigs));
+
+        // Then the bad signature fails, and the others pass
+        for (final var sig : sigs) {
+            assertThat(map.get(sig.key()))
+                    .succeedsWithin(1, TimeUnit.SECONDS)
+                    .extracting("passed")
+                    .isEqualTo(!sig.key().equals(badKey));
+        }
+    }
+
+    private Set<ExpandedSignaturePair> ed25519Pairs(final int numPairs) {
+        final var pairs = new LinkedHashSet<ExpandedSignaturePair>();
+        for (int i = 0; i < numPairs; i++) {
+            pairs.add(ed25519Pair(Key.newBuilder().ed25519(randomBytes(32)).build()));
+        }
+        return pairs;
+    }
+
     @ParameterizedTest
     @CsvSource({"RAW", "KECCAK_256_HASH"})
     @DisplayName("Crypto Engine is given array with all the required data")
@@ -40,6 +40,7 @@ import com.hedera.node.app.throttle.CongestionMetrics;
 import com.hedera.node.app.throttle.ThrottleServiceManager;
 import com.hedera.node.app.workflows.OpWorkflowMetrics;
 import com.hedera.node.app.workflows.handle.cache.CacheWarmer;
+import com.hedera.node.app.workflows.handle.conflict.TransactionConflictAnalyzer;
 import com.hedera.node.app.workflows.handle.record.SystemTransactions;
 import com.hedera.node.app.workflows.handle.steps.HollowAccountCompletions;
 import com.hedera.node.app.workflows.handle.steps.ParentTxnFactory;
@@ -163,6 +164,9 @@ class HandleWorkflowTest {
     @Mock
     private NodeRewardManager nodeRewardManager;
 
+    @Mock
+    private TransactionConflictAnalyzer conflictAnalyzer;
+
     private HandleWorkflow subject;
 
     @Test
@@ -475,6 +479,7 @@ class HandleWorkflowTest {
                 () -> PlatformStatus.ACTIVE,
                 blockHashSigner,
                 null,
-                nodeRewardManager);
+                nodeRewardManager,
+                conflictAnalyzer);
     }
 }
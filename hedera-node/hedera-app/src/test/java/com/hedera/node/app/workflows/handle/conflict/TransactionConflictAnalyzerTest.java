@@ -0,0 +1,212 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.workflows.handle.conflict;
+
+import static com.swirlds.metrics.api.Metric.ValueType.VALUE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import com.hedera.hapi.node.base.AccountID;
+import com.hedera.node.app.ids.AppEntityIdFactory;
+import com.hedera.node.app.utils.TestUtils;
+import com.hedera.node.app.workflows.handle.stack.SavepointStackImpl;
+import com.hedera.node.config.VersionedConfigImpl;
+import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
+import com.swirlds.metrics.api.Metrics;
+import com.swirlds.state.lifecycle.info.NetworkInfo;
+import com.swirlds.state.lifecycle.info.NodeInfo;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionConflictAnalyzerTest {
+    private static final String SERVICE = "TokenService";
+    private static final String STATE = "ACCOUNTS";
+    private static final AccountID NODE_ACCOUNT = AccountID.newBuilder().accountNum(3).build();
+    private static final AccountID FUNDING_ACCOUNT = AccountID.newBuilder().accountNum(98).build();
+
+    private final Metrics metrics = TestUtils.metrics();
+
+    @Mock
+    private SavepointStackImpl stack;
+
+    @Mock
+    private NetworkInfo networkInfo;
+
+    @Mock
+    private NodeInfo nodeInfo;
+
+    private TransactionConflictAnalyzer subject;
+
+    private void givenSubjectWith(final boolean enabled) {
+        final var config = HederaTestConfigBuilder.create()
+                .withValue("hedera.workflow.conflictAnalysisEnabled", "" + enabled)
+                .getOrCreateConfig();
+        subject = new TransactionConflictAnalyzer(
+                metrics, () -> new VersionedConfigImpl(config, 1), networkInfo, new AppEntityIdFactory(config));
+    }
+
+    private Object conflictingTxns() {
+        return metrics.getMetric("app", "conflictAnalysisConflictingTxns").get(VALUE);
+    }
+
+    @Test
+    void doesNothingIfDisabled() {
+        givenSubjectWith(false);
+
+        subject.startRound();
+        subject.startTransaction(stack);
+        subject.endTransaction(stack);
+        subject.endRound();
+
+        verify(stack, never()).setAccessRecorder(any());
+        assertThat(conflictingTxns()).isEqualTo(0L);
+    }
+
+    @Test
+    void recordsAccessesOnlyDuringTransaction() {
+        givenSubjectWith(true);
+
+        subject.startRound();
+        subject.startTransaction(stack);
+        verify(stack).setAccessRecorder(subject);
+        subject.endTransaction(stack);
+        verify(stack).setAccessRecorder(null);
+    }
+
+    @Test
+    void disjointTransactionsDoNotConflict() {
+        givenSubjectWith(true);
+
+        subject.startRound();
+        for (long i = 0; i < 10; i++) {
+            subject.startTransaction(stack);
+            subject.recordRead(SERVICE, STATE, i);
+            subject.recordWrite(SERVICE, STATE, i);
+            // Shared reads never conflict
+            subject.recordRead(SERVICE, STATE, "shared");
+            subject.endTransaction(stack);
+        }
+        subject.endRound();
+
+        assertThat(conflictingTxns()).isEqualTo(0L);
+    }
+
+    @Test
+    void detectsReadWriteConflicts() {
+        givenSubjectWith(true);
+
+        subject.startRound();
+        // Writes A
+        subject.startTransaction(stack);
+        subject.recordWrite(SERVICE, STATE, "A");
+        subject.endTransaction(stack);
+        // Reads A after it was written, conflicts
+        subject.startTransaction(stack);
+        subject.recordRead(SERVICE, STATE, "A");
+        subject.endTransaction(stack);
+        // Same key in another state, doesn't conflict
+        subject.startTransaction(stack);
+        subject.recordWrite(SERVICE, "TOKENS", "A");
+        subject.endTransaction(stack);
+        // Writes A after it was read, conflicts
+        subject.startTransaction(stack);
+        subject.recordWrite(SERVICE, STATE, "A");
+        subject.endTransaction(stack);
+        subject.endRound();
+
+        assertThat(conflictingTxns()).isEqualTo(2L);
+    }
+
+    @Test
+    void feeAndStakingCreditsDoNotConflict() {
+        givenSubjectWith(true);
+        given(networkInfo.addressBook()).willReturn(List.of(nodeInfo));
+        given(nodeInfo.accountId()).willReturn(NODE_ACCOUNT);
+
+        subject.startRound();
+        for (long i = 1001; i < 1011; i++) {
+            subject.startTransaction(stack);
+            final var payer = AccountID.newBuilder().accountNum(i).build();
+            subject.recordRead(SERVICE, STATE, payer);
+            subject.recordWrite(SERVICE, STATE, payer);
+            // Every transaction pays the node and the funding account, and updates node stakes
+            subject.recordRead(SERVICE, STATE, NODE_ACCOUNT);
+            subject.recordWrite(SERVICE, STATE, NODE_ACCOUNT);
+            subject.recordRead(SERVICE, STATE, FUNDING_ACCOUNT);
+            subject.recordWrite(SERVICE, STATE, FUNDING_ACCOUNT);
+            subject.recordWrite(SERVICE, "STAKING_INFOS", 0L);
+            subject.recordWrite(SERVICE, "STAKING_NETWORK_REWARDS", "STAKING_NETWORK_REWARDS");
+            subject.endTransaction(stack);
+        }
+        // Another account in the same state still conflicts
+        subject.startTransaction(stack);
+        subject.recordWrite(SERVICE, STATE, AccountID.newBuilder().accountNum(1001).build());
+        subject.endTransaction(stack);
+        subject.endRound();
+
+        assertThat(conflictingTxns()).isEqualTo(1L);
+    }
+
+    @Test
+    void creditsReadBackInTheSameRoundConflict() {
+        givenSubjectWith(true);
+        given(networkInfo.addressBook()).willReturn(List.of(nodeInfo));
+        given(nodeInfo.accountId()).willReturn(NODE_ACCOUNT);
+
+        subject.startRound();
+        // Credits the node and the funding account, and updates node stakes
+        subject.startTransaction(stack);
+        subject.recordRead(SERVICE, STATE, NODE_ACCOUNT);
+        subject.recordWrite(SERVICE, STATE, NODE_ACCOUNT);
+        subject.recordRead(SERVICE, STATE, FUNDING_ACCOUNT);
+        subject.recordWrite(SERVICE, STATE, FUNDING_ACCOUNT);
+        subject.recordWrite(SERVICE, "STAKING_INFOS", 0L);
+        subject.endTransaction(stack);
+        // Reads back the node account balance, conflicts
+        subject.startTransaction(stack);
+        subject.recordRead(SERVICE, STATE, NODE_ACCOUNT);
+        subject.endTransaction(stack);
+        // Reads back the node stakes, conflicts
+        subject.startTransaction(stack);
+        subject.recordRead(SERVICE, "STAKING_INFOS", 0L);
+        subject.endTransaction(stack);
+        // Credits the funding account after it was only credited, doesn't conflict
+        subject.startTransaction(stack);
+        subject.recordRead(SERVICE, STATE, FUNDING_ACCOUNT);
+        subject.recordWrite(SERVICE, STATE, FUNDING_ACCOUNT);
+        subject.endTransaction(stack);
+        // Credits the node account after it was read back, conflicts
+        subject.startTransaction(stack);
+        subject.recordRead(SERVICE, STATE, NODE_ACCOUNT);
+        subject.recordWrite(SERVICE, STATE, NODE_ACCOUNT);
+        subject.endTransaction(stack);
+        subject.endRound();
+
+        assertThat(conflictingTxns()).isEqualTo(3L);
+    }
+
+    @Test
+    void roundsAreAnalyzedIndependently() {
+        givenSubjectWith(true);
+
+        subject.startRound();
+        subject.startTransaction(stack);
+        subject.recordWrite(SERVICE, STATE, "A");
+        subject.endTransaction(stack);
+        subject.endRound();
+
+        subject.startRound();
+        subject.startTransaction(stack);
+        subject.recordWrite(SERVICE, STATE, "A");
+        subject.endTransaction(stack);
+        subject.endRound();
+
+        assertThat(conflictingTxns()).isEqualTo(0L);
+    }
+}
@@ -11,6 +11,11 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.hedera.hapi.node.base.AccountID;
@@ -21,6 +26,7 @@ import com.hedera.node.app.blocks.impl.KVStateChangeListener;
 import com.hedera.node.app.spi.workflows.HandleContext;
 import com.hedera.node.app.spi.workflows.HandleException;
 import com.hedera.node.app.spi.workflows.record.StreamBuilder;
+import com.hedera.node.app.state.StateAccessRecorder;
 import com.hedera.node.config.VersionedConfigImpl;
 import com.hedera.node.config.data.BlockStreamConfig;
 import com.hedera.node.config.testfixtures.HederaTestConfigBuilder;
@@ -762,6 +768,64 @@ class SavepointStackImplTest extends StateTestBase {
         }
     }
 
+    @Nested
+    @DisplayName("Tests for recording state accesses")
+    class AccessRecordingTests {
+        @Test
+        void testCommitFullStackRecordsAccesses() {
+            // given
+            final var recorder = mock(StateAccessRecorder.class);
+            final var stack = SavepointStackImpl.newRootStack(
+                    baseState, 3, 50, roundStateChangeListener, kvStateChangeListener, streamMode);
+            stack.setAccessRecorder(recorder);
+            stack.getWritableStates(FOOD_SERVICE).get(FRUIT_STATE_KEY).get(A_KEY);
+            stack.createSavepoint();
+            stack.getWritableStates(FOOD_SERVICE).get(FRUIT_STATE_KEY).get(C_KEY);
+            stack.getWritableStates(FOOD_SERVICE).get(FRUIT_STATE_KEY).put(B_KEY, BLUEBERRY);
+
+            // when
+            stack.commitFullStack();
+
+            // then
+            verify(recorder, atLeastOnce()).recordRead(FOOD_SERVICE, FRUIT_STATE_KEY, A_KEY);
+            verify(recorder, atLeastOnce()).recordRead(FOOD_SERVICE, FRUIT_STATE_KEY, C_KEY);
+            verify(recorder).recordWrite(FOOD_SERVICE, FRUIT_STATE_KEY, B_KEY);
+            verify(recorder, never()).recordWrite(FOOD_SERVICE, FRUIT_STATE_KEY, A_KEY);
+        }
+
+        @Test
+        void testRollbackFullStackRecordsOnlyReads() {
+            // given
+            final var recorder = mock(StateAccessRecorder.class);
+            final var stack = SavepointStackImpl.newRootStack(
+                    baseState, 3, 50, roundStateChangeListener, kvStateChangeListener, streamMode);
+            stack.setAccessRecorder(recorder);
+            stack.getWritableStates(FOOD_SERVICE).get(FRUIT_STATE_KEY).get(A_KEY);
+            stack.getWritableStates(FOOD_SERVICE).get(FRUIT_STATE_KEY).put(B_KEY, BLUEBERRY);
+
+            // when
+            stack.rollbackFullStack();
+
+            // then
+            verify(recorder).recordRead(FOOD_SERVICE, FRUIT_STATE_KEY, A_KEY);
+            verify(recorder, never()).recordWrite(any(), any(), any());
+        }
+
+        @Test
+        void testChildStackCannotRecordAccesses() {
+            given(parent.peek()).willReturn(savepoint);
+            given(savepoint.followingCapacity()).willReturn(123);
+            final var subject = SavepointStackImpl.newChildStack(
+                    parent,
+                    REVERSIBLE,
+                    HandleContext.TransactionCategory.CHILD,
+                    NOOP_TRANSACTION_CUSTOMIZER,
+                    StreamMode.BOTH);
+            assertThatThrownBy(() -> subject.setAccessRecorder(mock(StateAccessRecorder.class)))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
     private static Condition<ReadableStates> content(Map<String, String> expected) {
         return new Condition<>(contentCheck(expected), "state " + expected);
     }
@@ -6,6 +6,7 @@ import com.hedera.node.config.NodeProperty;
 import com.hedera.node.config.types.Profile;
 import com.swirlds.config.api.ConfigData;
 import com.swirlds.config.api.ConfigProperty;
+import com.swirlds.config.api.validation.annotation.Min;
 
 @ConfigData("hedera")
 public record HederaConfig(
@@ -37,6 +38,12 @@ public record HederaConfig(
         @ConfigProperty(value = "profiles.active", defaultValue = "PROD") @NodeProperty Profile activeProfile,
         @ConfigProperty(value = "workflow.verificationTimeoutMS", defaultValue = "20000") @NetworkProperty
                 long workflowVerificationTimeoutMS,
+        @ConfigProperty(value = "workflow.verificationThreads", defaultValue = "0") @Min(0) @NodeProperty
+                int workflowVerificationThreads,
+        @ConfigProperty(value = "workflow.verificationBatchSize", defaultValue = "8") @Min(1) @NodeProperty
+                int workflowVerificationBatchSize,
         // FUTURE: Set<HederaFunctionality>.
         @ConfigProperty(value = "ingestThrottle.enabled", defaultValue = "true") @NetworkProperty
-                boolean ingestThrottleEnabled) {}
+                boolean ingestThrottleEnabled,
+        @ConfigProperty(value = "workflow.conflictAnalysisEnabled", defaultValue = "false") @NodeProperty
+                boolean workflowConflictAnalysisEnabled) {}
@@ -1,5 +1,8 @@
 // SPDX-License-Identifier: Apache-2.0
-plugins { id("org.hiero.gradle.module.library") }
+plugins {
+    id("org.hiero.gradle.module.library")
+    id("org.hiero.gradle.feature.benchmark")
+}
 
 description = "Default Hedera Smart Contract Service Implementation"
 
@@ -20,3 +23,11 @@ testModuleInfo {
     requires("org.mockito")
     requires("org.mockito.junit.jupiter")
 }
+
+jmhModuleInfo {
+    requires("com.hedera.node.app.service.contract.impl")
+    requires("com.hedera.node.hapi")
+    requires("com.hedera.pbj.runtime")
+    requires("org.hyperledger.besu.evm")
+    requires("jmh.core")
+}
@@ -0,0 +1,85 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.service.contract.impl.infra;
+
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.pbjToTuweniBytes;
+
+import com.hedera.hapi.node.base.ContractID;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.hyperledger.besu.evm.Code;
+import org.hyperledger.besu.evm.code.CodeFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the cost of resolving the code of a called contract, as done by every contract call: the code hash is
+ * computed, the code is created, and its jump destinations are analysed when the first jump is executed. Compares
+ * creating the code on every call, as done without a cache, with taking it from the {@link CodeCache}.
+ *
+ * <p>Every call reads the bytecode from state as a new {@link Bytes} instance, so the cache has to compare
+ * bytecode contents, as it does in a real node.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class ContractCallCodeBenchmark {
+    private static final ContractID CONTRACT_ID =
+            ContractID.newBuilder().contractNum(1001L).build();
+    private static final byte JUMPDEST = 0x5b;
+
+    /** Bytecode size, 24576 bytes is the maximum size of a deployed contract */
+    @Param({"1024", "24576"})
+    public int bytecodeSize;
+
+    private byte[] bytecode;
+    private CodeCache codeCache;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final var random = new Random(42);
+        bytecode = new byte[bytecodeSize];
+        random.nextBytes(bytecode);
+        // Make sure there are some jump destinations to find
+        for (int i = 0; i < bytecodeSize; i += 64) {
+            bytecode[i] = JUMPDEST;
+        }
+        codeCache = new CodeCache();
+    }
+
+    @Benchmark
+    public void uncachedCall(final Blackhole blackhole) {
+        final var code = CodeFactory.createCode(pbjToTuweniBytes(readBytecode()), 0, false);
+        call(code, blackhole);
+    }
+
+    @Benchmark
+    public void cachedCall(final Blackhole blackhole) {
+        final var code = codeCache.getOrCreate(CONTRACT_ID, readBytecode());
+        call(code, blackhole);
+    }
+
+    private Bytes readBytecode() {
+        // Emulates a state read, which returns a fresh copy of the bytecode
+        return Bytes.wrap(bytecode.clone());
+    }
+
+    private void call(final Code code, final Blackhole blackhole) {
+        blackhole.consume(code.getCodeHash());
+        blackhole.consume(code.isJumpDestInvalid(bytecodeSize - 64));
+    }
+}
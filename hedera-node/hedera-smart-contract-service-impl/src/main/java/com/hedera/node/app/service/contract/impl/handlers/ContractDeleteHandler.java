@@ -23,6 +23,7 @@ import com.hedera.hapi.node.base.SubType;
 import com.hedera.hapi.node.contract.ContractDeleteTransactionBody;
 import com.hedera.hapi.node.state.token.Account;
 import com.hedera.node.app.hapi.utils.fee.SmartContractFeeBuilder;
+import com.hedera.node.app.service.contract.impl.infra.CodeCache;
 import com.hedera.node.app.service.contract.impl.records.ContractDeleteStreamBuilder;
 import com.hedera.node.app.service.token.ReadableAccountStore;
 import com.hedera.node.app.service.token.api.TokenServiceApi;
@@ -47,12 +48,14 @@ import javax.inject.Singleton;
 public class ContractDeleteHandler implements TransactionHandler {
     private final SmartContractFeeBuilder usageEstimator = new SmartContractFeeBuilder();
     private final EntityIdFactory entityIdFactory;
+    private final CodeCache codeCache;
     /**
      * Default constructor for injection.
      */
     @Inject
-    public ContractDeleteHandler(@NonNull final EntityIdFactory entityIdFactory) {
+    public ContractDeleteHandler(@NonNull final EntityIdFactory entityIdFactory, @NonNull final CodeCache codeCache) {
         this.entityIdFactory = entityIdFactory;
+        this.codeCache = requireNonNull(codeCache);
     }
 
     @Override
@@ -108,7 +111,9 @@ public class ContractDeleteHandler implements TransactionHandler {
         context.storeFactory()
                 .serviceApi(TokenServiceApi.class)
                 .deleteAndTransfer(deletedId, obtainer.accountIdOrThrow(), context.expiryValidator(), recordBuilder);
-        recordBuilder.contractID(asNumericContractId(entityIdFactory, deletedId));
+        final var deletedContractId = asNumericContractId(entityIdFactory, deletedId);
+        recordBuilder.contractID(deletedContractId);
+        codeCache.invalidate(deletedContractId);
     }
 
     private @Nullable Account getObtainer(
@@ -0,0 +1,90 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.service.contract.impl.infra;
+
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.pbjToTuweniBytes;
+import static java.util.Objects.requireNonNull;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hedera.hapi.node.base.ContractID;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.hyperledger.besu.evm.Code;
+import org.hyperledger.besu.evm.code.CodeFactory;
+
+/**
+ * A node-wide cache of the Besu {@link Code} of contracts, so the Keccak hash of a contract's bytecode and its
+ * jump destination analysis are computed once, and not every time the contract is called.
+ *
+ * <p>Entries are keyed by contract ID, and every entry keeps the bytecode it was created from. The state is
+ * always the source of truth: a cached entry is only used if its bytecode is equal to the bytecode currently in
+ * state, so a stale entry is never returned, even if an invalidation was missed. Comparing the bytecode is much
+ * cheaper than hashing it. Entries are invalidated when a contract's bytecode is set or the contract is deleted,
+ * and the cache is bounded by the total size of the cached bytecode.
+ */
+@Singleton
+public class CodeCache {
+    private static final long MAX_CACHED_BYTECODE_BYTES = 64L * 1024 * 1024;
+
+    /**
+     * The analysed code of a contract, together with the bytecode it was created from.
+     *
+     * @param bytecode the bytecode
+     * @param code the analysed code
+     */
+    private record CachedCode(@NonNull Bytes bytecode, @NonNull Code code) {}
+
+    private final Cache<ContractID, CachedCode> cache;
+
+    /**
+     * Default constructor for injection
+     */
+    @Inject
+    public CodeCache() {
+        this(MAX_CACHED_BYTECODE_BYTES);
+    }
+
+    /**
+     * Constructor with a custom size bound, for testing.
+     *
+     * @param maxCachedBytecodeBytes the maximum total size of the cached bytecode
+     */
+    public CodeCache(final long maxCachedBytecodeBytes) {
+        cache = Caffeine.newBuilder()
+                .maximumWeight(maxCachedBytecodeBytes)
+                .weigher((ContractID contractID, CachedCode cached) ->
+                        (int) Math.min(Integer.MAX_VALUE, cached.bytecode().length()))
+                .build();
+    }
+
+    /**
+     * Returns the analysed code of the given contract with the given bytecode, creating and caching it if there is
+     * no entry for this contract and bytecode.
+     *
+     * @param contractID the contract ID
+     * @param bytecode the current bytecode of the contract
+     * @return the analysed code
+     */
+    public @NonNull Code getOrCreate(@NonNull final ContractID contractID, @NonNull final Bytes bytecode) {
+        requireNonNull(contractID);
+        requireNonNull(bytecode);
+        final var cached = cache.getIfPresent(contractID);
+        if (cached != null && cached.bytecode().equals(bytecode)) {
+            return cached.code();
+        }
+        final var code = CodeFactory.createCode(pbjToTuweniBytes(bytecode), 0, false);
+        cache.put(contractID, new CachedCode(bytecode, code));
+        return code;
+    }
+
+    /**
+     * Removes the cached code of the given contract, if any.
+     *
+     * @param contractID the contract ID
+     */
+    public void invalidate(@NonNull final ContractID contractID) {
+        cache.invalidate(requireNonNull(contractID));
+    }
+}
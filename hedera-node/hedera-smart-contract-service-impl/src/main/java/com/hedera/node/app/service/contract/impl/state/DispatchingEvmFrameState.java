@@ -37,6 +37,7 @@ import com.hedera.node.app.service.contract.impl.exec.scope.ActiveContractVerifi
 import com.hedera.node.app.service.contract.impl.exec.scope.ActiveContractVerificationStrategy.UseTopLevelSigs;
 import com.hedera.node.app.service.contract.impl.exec.scope.HandleHederaNativeOperations;
 import com.hedera.node.app.service.contract.impl.exec.scope.HederaNativeOperations;
+import com.hedera.node.app.service.contract.impl.infra.CodeCache;
 import com.hedera.node.app.service.contract.impl.utils.RedirectBytecodeUtils;
 import com.swirlds.state.lifecycle.EntityIdFactory;
 import com.swirlds.state.spi.WritableKVState;
@@ -52,9 +53,11 @@ import org.apache.tuweni.units.bigints.UInt256;
 import org.hyperledger.besu.datatypes.Address;
 import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.datatypes.Wei;
+import org.hyperledger.besu.evm.Code;
 import org.hyperledger.besu.evm.account.Account;
 import org.hyperledger.besu.evm.account.MutableAccount;
 import org.hyperledger.besu.evm.code.CodeFactory;
+import org.hyperledger.besu.evm.code.CodeV0;
 import org.hyperledger.besu.evm.frame.ExceptionalHaltReason;
 import org.hyperledger.besu.evm.frame.MessageFrame;
 
@@ -67,7 +70,7 @@ import org.hyperledger.besu.evm.frame.MessageFrame;
  * point it might be necessary to cache the converted values and invalidate them when
  * the state changes.
  * <p>
- * TODO - get a little further to clarify DI strategy, then bring back a code cache.
+ * The analysed {@link Code} of contracts, and with it the code hash, is taken from the node-wide {@link CodeCache}.
  */
 public class DispatchingEvmFrameState implements EvmFrameState {
     /**
@@ -78,16 +81,20 @@ public class DispatchingEvmFrameState implements EvmFrameState {
 
     private final HederaNativeOperations nativeOperations;
     private final ContractStateStore contractStateStore;
+    private final CodeCache codeCache;
 
     /**
      * @param nativeOperations the Hedera native operation
      * @param contractStateStore the contract store that manages the key/value states
+     * @param codeCache the cache of analysed contract code
      */
     public DispatchingEvmFrameState(
             @NonNull final HederaNativeOperations nativeOperations,
-            @NonNull final ContractStateStore contractStateStore) {
+            @NonNull final ContractStateStore contractStateStore,
+            @NonNull final CodeCache codeCache) {
         this.nativeOperations = requireNonNull(nativeOperations);
         this.contractStateStore = requireNonNull(contractStateStore);
+        this.codeCache = requireNonNull(codeCache);
     }
 
     /**
@@ -200,8 +207,22 @@ public class DispatchingEvmFrameState implements EvmFrameState {
         if (numberedBytecode == null) {
             return Hash.EMPTY;
         } else {
-            return CodeFactory.createCode(pbjToTuweniBytes(numberedBytecode.code()), 0, false)
-                    .getCodeHash();
+            return codeCache.getOrCreate(contractID, numberedBytecode.code()).getCodeHash();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public @NonNull Code getEvmCode(@NonNull final ContractID contractID) {
+        requireNonNull(contractID);
+
+        final var numberedBytecode = contractStateStore.getBytecode(contractID);
+        if (numberedBytecode == null) {
+            return CodeV0.EMPTY_CODE;
+        } else {
+            return codeCache.getOrCreate(contractID, numberedBytecode.code());
         }
     }
 
@@ -299,6 +320,7 @@ public class DispatchingEvmFrameState implements EvmFrameState {
     @Override
     public void setCode(final ContractID contractID, @NonNull final Bytes code) {
         contractStateStore.putBytecode(contractID, new Bytecode(tuweniToPbjBytes(requireNonNull(code))));
+        codeCache.invalidate(contractID);
     }
 
     /**
@@ -29,6 +29,7 @@ import com.hedera.hapi.node.contract.ContractDeleteTransactionBody;
 import com.hedera.hapi.node.state.token.Account;
 import com.hedera.hapi.node.transaction.TransactionBody;
 import com.hedera.node.app.service.contract.impl.handlers.ContractDeleteHandler;
+import com.hedera.node.app.service.contract.impl.infra.CodeCache;
 import com.hedera.node.app.service.contract.impl.records.ContractDeleteStreamBuilder;
 import com.hedera.node.app.service.token.ReadableAccountStore;
 import com.hedera.node.app.service.token.api.TokenServiceApi;
@@ -73,11 +74,14 @@ class ContractDeleteHandlerTest {
     @Mock
     private HandleContext.SavepointStack stack;
 
+    @Mock
+    private CodeCache codeCache;
+
     private ContractDeleteHandler subject;
 
     @BeforeEach
     void setUp() {
-        subject = new ContractDeleteHandler(entityIdFactory);
+        subject = new ContractDeleteHandler(entityIdFactory, codeCache);
     }
 
     @Test
@@ -115,6 +119,7 @@ class ContractDeleteHandlerTest {
         subject.handle(context);
 
         verify(recordBuilder).contractID(asNumericContractId(TBD_CONTRACT.accountIdOrThrow()));
+        verify(codeCache).invalidate(asNumericContractId(TBD_CONTRACT.accountIdOrThrow()));
     }
 
     @Test
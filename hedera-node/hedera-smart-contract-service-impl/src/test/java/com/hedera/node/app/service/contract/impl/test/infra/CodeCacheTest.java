@@ -0,0 +1,52 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.hedera.node.app.service.contract.impl.test.infra;
+
+import static com.hedera.node.app.service.contract.impl.utils.ConversionUtils.pbjToTuweniBytes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.hedera.hapi.node.base.ContractID;
+import com.hedera.node.app.service.contract.impl.infra.CodeCache;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import org.hyperledger.besu.datatypes.Hash;
+import org.junit.jupiter.api.Test;
+
+class CodeCacheTest {
+    private static final ContractID CONTRACT_ID =
+            ContractID.newBuilder().contractNum(1234L).build();
+    private static final Bytes BYTECODE = Bytes.fromHex("6080604052348015600f57600080fd5b50");
+    private static final Bytes OTHER_BYTECODE = Bytes.fromHex("60806040526004361060");
+
+    private final CodeCache subject = new CodeCache();
+
+    @Test
+    void reusesCodeForSameBytecode() {
+        final var code = subject.getOrCreate(CONTRACT_ID, BYTECODE);
+
+        assertEquals(pbjToTuweniBytes(BYTECODE), code.getBytes());
+        assertEquals(Hash.hash(pbjToTuweniBytes(BYTECODE)), code.getCodeHash());
+        assertSame(code, subject.getOrCreate(CONTRACT_ID, Bytes.wrap(BYTECODE.toByteArray())));
+    }
+
+    @Test
+    void neverReturnsCodeForDifferentBytecode() {
+        final var code = subject.getOrCreate(CONTRACT_ID, BYTECODE);
+
+        final var otherCode = subject.getOrCreate(CONTRACT_ID, OTHER_BYTECODE);
+
+        assertEquals(pbjToTuweniBytes(OTHER_BYTECODE), otherCode.getBytes());
+        assertNotSame(code, otherCode);
+    }
+
+    @Test
+    void recreatesCodeAfterInvalidation() {
+        final var code = subject.getOrCreate(CONTRACT_ID, BYTECODE);
+
+        subject.invalidate(CONTRACT_ID);
+
+        final var recreatedCode = subject.getOrCreate(CONTRACT_ID, BYTECODE);
+        assertNotSame(code, recreatedCode);
+        assertEquals(code.getCodeHash(), recreatedCode.getCodeHash());
+    }
+}
@@ -48,6 +48,7 @@ import com.hedera.node.app.service.contract.impl.exec.failure.CustomExceptionalH
 import com.hedera.node.app.service.contract.impl.exec.scope.ActiveContractVerificationStrategy;
 import com.hedera.node.app.service.contract.impl.exec.scope.HederaNativeOperations;
 import com.hedera.node.app.service.contract.impl.exec.scope.VerificationStrategy;
+import com.hedera.node.app.service.contract.impl.infra.CodeCache;
 import com.hedera.node.app.service.contract.impl.state.ContractStateStore;
 import com.hedera.node.app.service.contract.impl.state.DispatchingEvmFrameState;
 import com.hedera.node.app.service.contract.impl.state.ProxyEvmAccount;
@@ -69,6 +70,7 @@ import org.hyperledger.besu.datatypes.Address;
 import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.datatypes.Wei;
 import org.hyperledger.besu.evm.code.CodeFactory;
+import org.hyperledger.besu.evm.code.CodeV0;
 import org.hyperledger.besu.evm.frame.MessageFrame;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -138,7 +140,7 @@ class DispatchingEvmFrameStateTest {
 
     @BeforeEach
     void setUp() {
-        subject = new DispatchingEvmFrameState(nativeOperations, contractStateStore);
+        subject = new DispatchingEvmFrameState(nativeOperations, contractStateStore, new CodeCache());
     }
 
     @Test
@@ -418,6 +420,22 @@ class DispatchingEvmFrameStateTest {
         assertSame(Hash.EMPTY, actualCodeHash);
     }
 
+    @Test
+    void reusesAnalysedEvmCode() {
+        givenWellKnownBytecode();
+
+        final var code = subject.getEvmCode(A_CONTRACT_ID);
+
+        assertEquals(pbjToTuweniBytes(SOME_PRETEND_CODE), code.getBytes());
+        assertEquals(SOME_PRETEND_CODE_HASH, code.getCodeHash());
+        assertSame(code, subject.getEvmCode(A_CONTRACT_ID));
+    }
+
+    @Test
+    void getsEmptyEvmCodeForMissing() {
+        assertSame(CodeV0.EMPTY_CODE, subject.getEvmCode(A_CONTRACT_ID));
+    }
+
     @Test
     void throwsOnMissingAddressWhenGettingHederaIdNumber() {
         given(nativeOperations.resolveAlias(
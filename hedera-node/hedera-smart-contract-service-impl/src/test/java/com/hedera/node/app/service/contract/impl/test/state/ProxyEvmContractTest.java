@@ -108,18 +108,16 @@ class ProxyEvmContractTest {
 
     @Test
     void returnsEvmCode() {
-        final var code = pbjToTuweniBytes(SOME_PRETEND_CODE);
-        given(hederaState.getCode(CONTRACT_ID)).willReturn(code);
-        assertEquals(CodeFactory.createCode(code, 0, false), subject.getEvmCode(org.apache.tuweni.bytes.Bytes.EMPTY));
+        final var code = CodeFactory.createCode(pbjToTuweniBytes(SOME_PRETEND_CODE), 0, false);
+        given(hederaState.getEvmCode(CONTRACT_ID)).willReturn(code);
+        assertSame(code, subject.getEvmCode(org.apache.tuweni.bytes.Bytes.EMPTY));
     }
 
     @Test
-    void returnsEvmCodeButSetsState() {
-        final var code = pbjToTuweniBytes(SOME_PRETEND_CODE);
-        given(hederaState.getCode(CONTRACT_ID)).willReturn(code);
-        assertEquals(
-                CodeFactory.createCode(code, 0, false),
-                subject.getEvmCode(org.apache.tuweni.bytes.Bytes.wrap(HBAR_ALLOWANCE_PROXY.selector())));
+    void returnsEvmCodeForAnySelector() {
+        final var code = CodeFactory.createCode(pbjToTuweniBytes(SOME_PRETEND_CODE), 0, false);
+        given(hederaState.getEvmCode(CONTRACT_ID)).willReturn(code);
+        assertSame(code, subject.getEvmCode(org.apache.tuweni.bytes.Bytes.wrap(HBAR_ALLOWANCE_PROXY.selector())));
     }
 
     @Test
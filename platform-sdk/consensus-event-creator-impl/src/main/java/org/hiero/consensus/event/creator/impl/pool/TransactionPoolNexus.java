@@ -10,11 +10,13 @@ import com.swirlds.common.utility.throttle.RateLimitedLogger;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hiero.consensus.config.TransactionConfig;
@@ -25,6 +27,11 @@ import org.hiero.consensus.model.status.PlatformStatus;
 /**
  * Store a list of transactions created by self, both system and non-system, for wrapping in the next event to be
  * created.
+ *
+ * <p>Transactions are submitted by many threads, e.g. gRPC ingest threads, and consumed by a single thread, the event
+ * creator. Submitting a transaction is lock-free: transactions are added to concurrent queues, and the queue size
+ * limit is enforced using an atomic counter. Only {@link #getTransactions()} and {@link #clear()} remove
+ * transactions, they are synchronized with each other, but never block submitting threads.
  */
 public class TransactionPoolNexus implements TransactionSupplier {
 
@@ -34,18 +41,31 @@ public class TransactionPoolNexus implements TransactionSupplier {
     /**
      * A list of transactions created by this node waiting to be put into a self-event.
      */
-    private final Queue<Bytes> bufferedTransactions = new LinkedList<>();
+    private final Queue<Bytes> bufferedTransactions = new ConcurrentLinkedQueue<>();
 
     /**
      * A list of high-priority transactions created by this node waiting to be put into a self-event. Transactions in
      * this queue are always inserted into an event before transactions waiting in {@link #bufferedTransactions}.
      */
-    private final Queue<Bytes> priorityBufferedTransactions = new LinkedList<>();
+    private final Queue<Bytes> priorityBufferedTransactions = new ConcurrentLinkedQueue<>();
 
     /**
-     * The number of buffered signature transactions waiting to be put into events.
+     * The number of transactions in {@link #bufferedTransactions}. Concurrent queues don't provide a constant time
+     * size, so the sizes are tracked separately. Counters are incremented before transactions are added to the queues,
+     * and decremented after they are removed, so they may be slightly higher than the queue sizes, but never lower.
      */
-    private int bufferedSignatureTransactionCount = 0;
+    private final AtomicInteger bufferedTransactionCount = new AtomicInteger(0);
+
+    /**
+     * The number of transactions in {@link #priorityBufferedTransactions}. All priority transactions are signature
+     * transactions, so this is also the number of buffered signature transactions waiting to be put into events.
+     */
+    private final AtomicInteger priorityBufferedTransactionCount = new AtomicInteger(0);
+
+    /**
+     * The total number of transactions in both queues. Used to enforce {@link #throttleTransactionQueueSize}.
+     */
+    private final AtomicInteger totalBufferedTransactionCount = new AtomicInteger(0);
 
     /**
      * The maximum number of bytes of transactions that can be put in an event.
@@ -71,7 +91,7 @@ public class TransactionPoolNexus implements TransactionSupplier {
     /**
      * The current status of the platform.
      */
-    private PlatformStatus platformStatus = PlatformStatus.STARTING_UP;
+    private volatile PlatformStatus platformStatus = PlatformStatus.STARTING_UP;
 
     /**
      * The maximum amount of time the platform may be in an unhealthy state before we start rejecting transactions.
@@ -81,7 +101,7 @@ public class TransactionPoolNexus implements TransactionSupplier {
     /**
      * Whether the platform is currently in a healthy state.
      */
-    private boolean healthy = true;
+    private volatile boolean healthy = true;
 
     /**
      * Creates a new transaction pool for transactions waiting to be put in an event.
@@ -119,7 +139,7 @@ public class TransactionPoolNexus implements TransactionSupplier {
      * @param appTransaction the transaction to submit
      * @return true if the transaction passed all validity checks and was accepted by the consumer
      */
-    public synchronized boolean submitApplicationTransaction(@NonNull final Bytes appTransaction) {
+    public boolean submitApplicationTransaction(@NonNull final Bytes appTransaction) {
         if (!healthy || platformStatus != PlatformStatus.ACTIVE) {
             return false;
         }
@@ -152,30 +172,32 @@ public class TransactionPoolNexus implements TransactionSupplier {
      *                    functionalities.
      * @return true if successful
      */
-    public synchronized boolean submitTransaction(@NonNull final Bytes transaction, final boolean priority) {
+    public boolean submitTransaction(@NonNull final Bytes transaction, final boolean priority) {
         Objects.requireNonNull(transaction);
 
-        // Always submit system transactions. If it's not a system transaction, then only submit it if we
-        // don't violate queue size capacity restrictions.
-        if (!priority
-                && (bufferedTransactions.size() + priorityBufferedTransactions.size()) > throttleTransactionQueueSize) {
-            transactionPoolMetrics.recordRejectedAppTransaction();
-            return false;
-        }
-
         if (priority) {
-            bufferedSignatureTransactionCount++;
+            // Always submit system transactions
+            totalBufferedTransactionCount.incrementAndGet();
+            priorityBufferedTransactionCount.incrementAndGet();
+            priorityBufferedTransactions.add(transaction);
             transactionPoolMetrics.recordSubmittedPlatformTransaction();
-        } else {
-            transactionPoolMetrics.recordAcceptedAppTransaction();
+            return true;
         }
 
-        if (priority) {
-            priorityBufferedTransactions.add(transaction);
-        } else {
-            bufferedTransactions.add(transaction);
-        }
+        // If it's not a system transaction, then only submit it if we don't violate queue size capacity
+        // restrictions. Reserve a slot in the queue atomically, so concurrent submitters can't exceed the limit
+        int count;
+        do {
+            count = totalBufferedTransactionCount.get();
+            if (count > throttleTransactionQueueSize) {
+                transactionPoolMetrics.recordRejectedAppTransaction();
+                return false;
+            }
+        } while (!totalBufferedTransactionCount.compareAndSet(count, count + 1));
 
+        bufferedTransactionCount.incrementAndGet();
+        bufferedTransactions.add(transaction);
+        transactionPoolMetrics.recordAcceptedAppTransaction();
         return true;
     }
 
@@ -184,7 +206,7 @@ public class TransactionPoolNexus implements TransactionSupplier {
      *
      * @param platformStatus the new platform status
      */
-    public synchronized void updatePlatformStatus(@NonNull final PlatformStatus platformStatus) {
+    public void updatePlatformStatus(@NonNull final PlatformStatus platformStatus) {
         this.platformStatus = platformStatus;
     }
 
@@ -194,12 +216,14 @@ public class TransactionPoolNexus implements TransactionSupplier {
      *
      * @param duration the amount of time that the system has been in an unhealthy state
      */
-    public synchronized void reportUnhealthyDuration(@NonNull final Duration duration) {
+    public void reportUnhealthyDuration(@NonNull final Duration duration) {
         healthy = isLessThan(duration, maximumPermissibleUnhealthyDuration);
     }
 
     /**
      * Get the next transaction that should be inserted into an event, or null if there is no available transaction.
+     * Must only be called by the consumer, which is the only thread removing transactions from the queues, so the
+     * transaction peeked from a queue is the same transaction polled from it.
      *
      * @param currentEventSize the current size in bytes of the event being constructed
      * @return the next transaction, or null if no transaction is available
@@ -213,14 +237,20 @@ public class TransactionPoolNexus implements TransactionSupplier {
             return null;
         }
 
-        if (!priorityBufferedTransactions.isEmpty()
-                && priorityBufferedTransactions.peek().length() <= maxSize) {
-            bufferedSignatureTransactionCount--;
-            return priorityBufferedTransactions.poll();
+        final Bytes priorityTransaction = priorityBufferedTransactions.peek();
+        if (priorityTransaction != null && priorityTransaction.length() <= maxSize) {
+            priorityBufferedTransactions.poll();
+            priorityBufferedTransactionCount.decrementAndGet();
+            totalBufferedTransactionCount.decrementAndGet();
+            return priorityTransaction;
         }
 
-        if (!bufferedTransactions.isEmpty() && bufferedTransactions.peek().length() <= maxSize) {
-            return bufferedTransactions.poll();
+        final Bytes transaction = bufferedTransactions.peek();
+        if (transaction != null && transaction.length() <= maxSize) {
+            bufferedTransactions.poll();
+            bufferedTransactionCount.decrementAndGet();
+            totalBufferedTransactionCount.decrementAndGet();
+            return transaction;
         }
 
         return null;
@@ -239,7 +269,7 @@ public class TransactionPoolNexus implements TransactionSupplier {
             return Collections.emptyList();
         }
 
-        final List<Bytes> selectedTrans = new LinkedList<>();
+        final List<Bytes> selectedTrans = new ArrayList<>();
         long currEventSize = 0;
 
         while (true) {
@@ -262,8 +292,8 @@ public class TransactionPoolNexus implements TransactionSupplier {
      *
      * @return true if there are any buffered signature transactions
      */
-    public synchronized boolean hasBufferedSignatureTransactions() {
-        return bufferedSignatureTransactionCount > 0;
+    public boolean hasBufferedSignatureTransactions() {
+        return priorityBufferedTransactionCount.get() > 0;
     }
 
     /**
@@ -271,8 +301,8 @@ public class TransactionPoolNexus implements TransactionSupplier {
      *
      * @return the number of transactions
      */
-    private synchronized int getBufferedTransactionCount() {
-        return bufferedTransactions.size();
+    private int getBufferedTransactionCount() {
+        return bufferedTransactionCount.get();
     }
 
     /**
@@ -280,16 +310,22 @@ public class TransactionPoolNexus implements TransactionSupplier {
      *
      * @return the number of transactions
      */
-    private synchronized int getPriorityBufferedTransactionCount() {
-        return priorityBufferedTransactions.size();
+    private int getPriorityBufferedTransactionCount() {
+        return priorityBufferedTransactionCount.get();
     }
 
     /**
      * Clear all the transactions
      */
     synchronized void clear() {
-        bufferedTransactions.clear();
-        priorityBufferedTransactions.clear();
-        bufferedSignatureTransactionCount = 0;
+        // Transactions may be submitted concurrently, remove them one by one to keep the counters consistent
+        while (priorityBufferedTransactions.poll() != null) {
+            priorityBufferedTransactionCount.decrementAndGet();
+            totalBufferedTransactionCount.decrementAndGet();
+        }
+        while (bufferedTransactions.poll() != null) {
+            bufferedTransactionCount.decrementAndGet();
+            totalBufferedTransactionCount.decrementAndGet();
+        }
     }
 }
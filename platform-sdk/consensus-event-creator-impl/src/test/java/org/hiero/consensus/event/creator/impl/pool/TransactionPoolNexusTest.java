@@ -2,6 +2,7 @@
 package org.hiero.consensus.event.creator.impl.pool;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -14,7 +15,10 @@ import com.swirlds.common.metrics.noop.NoOpMetrics;
 import com.swirlds.common.test.fixtures.Randotron;
 import com.swirlds.config.api.Configuration;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.hiero.consensus.config.TransactionConfig;
 import org.hiero.consensus.event.creator.impl.config.EventCreationConfig;
 import org.hiero.consensus.model.status.PlatformStatus;
@@ -110,4 +114,55 @@ class TransactionPoolNexusTest {
         assertNotNull(thirdBatch);
         assertTrue(thirdBatch.isEmpty());
     }
+
+    @Test
+    void testConcurrentSubmissionRespectsQueueSize() throws InterruptedException {
+        final int threadCount = 8;
+        final int transactionsPerThread = 20_000;
+        final int throttleQueueSize = 100_000;
+        final AtomicInteger accepted = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            final Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int j = 0; j < transactionsPerThread; j++) {
+                    if (nexus.submitApplicationTransaction(Bytes.wrap(new byte[] {1}))) {
+                        accepted.incrementAndGet();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        // The queue accepts transactions while its size doesn't exceed the limit
+        assertEquals(throttleQueueSize + 1, accepted.get());
+        assertFalse(nexus.submitApplicationTransaction(Bytes.wrap(new byte[] {1})));
+        // Priority transactions are always accepted
+        assertTrue(nexus.submitTransaction(Bytes.wrap(new byte[] {2}), true));
+        assertTrue(nexus.hasBufferedSignatureTransactions());
+
+        int drained = 0;
+        boolean priorityFirst = false;
+        List<Bytes> batch;
+        while (!(batch = nexus.getTransactions()).isEmpty()) {
+            if (drained == 0) {
+                priorityFirst = batch.getFirst().getByte(0) == 2;
+            }
+            drained += batch.size();
+        }
+        assertTrue(priorityFirst, "Priority transactions must be put into events first");
+        assertEquals(accepted.get() + 1, drained);
+        assertFalse(nexus.hasBufferedSignatureTransactions());
+    }
 }
@@ -0,0 +1,62 @@
+// SPDX-License-Identifier: Apache-2.0
+package org.hiero.consensus.model.event;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Monotonic timestamps, as returned by {@link System#nanoTime()}, recorded for a sampled event as it passes through
+ * the stages of the platform. A trace is local diagnostic data: it is never serialized, and it does not affect the hash
+ * of the event.
+ */
+public final class EventTrace {
+
+    /**
+     * The value of a stage that has not been stamped.
+     */
+    public static final long NOT_STAMPED = Long.MIN_VALUE;
+
+    /**
+     * The timestamp of each stage. Stages are stamped by different threads, so the timestamps are stored atomically.
+     */
+    private final AtomicLongArray timestamps;
+
+    /**
+     * Constructor.
+     *
+     * @param stageCount the number of stages that may be stamped
+     */
+    public EventTrace(final int stageCount) {
+        timestamps = new AtomicLongArray(stageCount);
+        for (int stage = 0; stage < stageCount; stage++) {
+            timestamps.set(stage, NOT_STAMPED);
+        }
+    }
+
+    /**
+     * @return the number of stages that may be stamped
+     */
+    public int getStageCount() {
+        return timestamps.length();
+    }
+
+    /**
+     * Stamp a stage. Only the first stamp of a stage is recorded.
+     *
+     * @param stage    the index of the stage
+     * @param nanoTime the time the event passed the stage
+     * @return true if the stage was stamped, false if it had already been stamped
+     */
+    public boolean stamp(final int stage, final long nanoTime) {
+        return timestamps.compareAndSet(stage, NOT_STAMPED, nanoTime);
+    }
+
+    /**
+     * Get the timestamp of a stage.
+     *
+     * @param stage the index of the stage
+     * @return the time the event passed the stage, or {@link #NOT_STAMPED} if it has not been stamped
+     */
+    public long getTimestamp(final int stage) {
+        return timestamps.get(stage);
+    }
+}
@@ -65,6 +65,12 @@ public class PlatformEvent implements ConsensusEvent, Hashable {
      */
     private long nGen = NonDeterministicGeneration.GENERATION_UNDEFINED;
 
+    /**
+     * The latency trace of this event, if it was sampled for tracing. Like the sender ID, the trace is not serialized
+     * and does not affect the hash of the event.
+     */
+    private EventTrace trace;
+
     /**
      * Construct a new instance from an unsigned event and a signature.
      *
@@ -267,6 +273,25 @@ public class PlatformEvent implements ConsensusEvent, Hashable {
         this.senderId = senderId;
     }
 
+    /**
+     * Get the latency trace of this event
+     *
+     * @return the latency trace, or null if this event was not sampled for tracing
+     */
+    @Nullable
+    public EventTrace getTrace() {
+        return trace;
+    }
+
+    /**
+     * Set the latency trace of this event
+     *
+     * @param trace the latency trace
+     */
+    public void setTrace(@NonNull final EventTrace trace) {
+        this.trace = trace;
+    }
+
     /**
      * @return this event's consensus data, this will be null if the event has not reached consensus
      */
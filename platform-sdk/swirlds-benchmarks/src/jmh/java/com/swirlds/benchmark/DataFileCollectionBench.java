@@ -2,6 +2,9 @@
 package com.swirlds.benchmark;
 
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import com.swirlds.config.api.ConfigurationBuilder;
+import com.swirlds.config.extensions.sources.LegacyFileConfigSource;
+import com.swirlds.config.extensions.sources.SimpleConfigSource;
 import com.swirlds.merkledb.collections.LongList;
 import com.swirlds.merkledb.collections.LongListOffHeap;
 import com.swirlds.merkledb.config.MerkleDbConfig;
@@ -9,7 +12,11 @@ import com.swirlds.merkledb.files.DataFileCollection;
 import com.swirlds.merkledb.files.DataFileCompactor;
 import com.swirlds.merkledb.files.DataFileReader;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
@@ -93,4 +100,84 @@ public class DataFileCollectionBench extends BaseBench {
             index.close();
         });
     }
+
+    /**
+     * Random data item reads from completed files using file channels.
+     */
+    @Benchmark
+    public void randomReads() throws Exception {
+        randomReads("randomReadsBench", false);
+    }
+
+    /**
+     * Random data item reads from completed files using memory mapped windows.
+     */
+    @Benchmark
+    public void randomReadsMmap() throws Exception {
+        randomReads("randomReadsMmapBench", true);
+    }
+
+    private void randomReads(final String storeName, final boolean mmapReadsEnabled) throws Exception {
+        beforeTest(storeName);
+
+        final LongListOffHeap index = new LongListOffHeap(1024 * 1024, maxKey, 256 * 1024);
+        final MerkleDbConfig dbConfig = mmapReadsConfig(mmapReadsEnabled);
+        final BenchmarkRecordSerializer serializer = new BenchmarkRecordSerializer();
+        final var store = new DataFileCollection(dbConfig, getTestDir(), storeName, null);
+        System.out.println();
+
+        // Write files
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < numFiles; i++) {
+            store.startWriting();
+            resetKeys();
+            for (int j = 0; j < numRecords; ++j) {
+                long id = nextAscKey();
+                BenchmarkRecord record = new BenchmarkRecord(id, nextValue());
+                index.put(id, store.storeDataItem(record::serialize, BenchmarkRecord.getSerializedSize()));
+            }
+            store.endWriting(0, maxKey);
+        }
+        System.out.println("Created " + numFiles + " files in " + (System.currentTimeMillis() - start) + "ms");
+
+        // Read random items in parallel
+        start = System.currentTimeMillis();
+        final AtomicLong found = new AtomicLong(0);
+        IntStream.range(0, numThreads).parallel().forEach(thread -> {
+            long count = 0;
+            for (int i = 0; i < numRecords; ++i) {
+                final long dataLocation = index.get(Utils.randomLong(maxKey), LongList.IMPERMISSIBLE_VALUE);
+                if (dataLocation == LongList.IMPERMISSIBLE_VALUE) {
+                    continue;
+                }
+                try {
+                    final BufferedData recordData = store.readDataItem(dataLocation);
+                    if ((recordData != null) && (serializer.deserialize(recordData) != null)) {
+                        count++;
+                    }
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            found.addAndGet(count);
+        });
+        System.out.println("Read " + ((long) numRecords * numThreads) + " random records (" + found.get()
+                + " found) from " + numThreads + " threads in " + (System.currentTimeMillis() - start) + "ms"
+                + ", mmap=" + mmapReadsEnabled);
+
+        afterTest(() -> {
+            store.close();
+            index.close();
+        });
+    }
+
+    private static MerkleDbConfig mmapReadsConfig(final boolean mmapReadsEnabled) throws IOException {
+        return ConfigurationBuilder.create()
+                .withSource(new LegacyFileConfigSource(Path.of(".", "settings.txt")))
+                .withSource(new SimpleConfigSource("merkleDb.dataFileMmapReadsEnabled", mmapReadsEnabled)
+                        .withOrdinal(Integer.MAX_VALUE))
+                .withConfigDataType(MerkleDbConfig.class)
+                .build()
+                .getConfigData(MerkleDbConfig.class);
+    }
 }
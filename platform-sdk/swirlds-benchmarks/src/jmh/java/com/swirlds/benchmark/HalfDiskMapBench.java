@@ -1,9 +1,15 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.swirlds.benchmark;
 
+import com.swirlds.config.api.Configuration;
+import com.swirlds.config.api.ConfigurationBuilder;
+import com.swirlds.config.extensions.sources.LegacyFileConfigSource;
+import com.swirlds.config.extensions.sources.SimpleConfigSource;
 import com.swirlds.merkledb.config.MerkleDbConfig;
 import com.swirlds.merkledb.files.DataFileCompactor;
 import com.swirlds.merkledb.files.hashmap.HalfDiskHashMap;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Arrays;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -23,6 +29,9 @@ public class HalfDiskMapBench extends BaseBench {
 
     private static final long INVALID_PATH = -1L;
 
+    /** Percentage of lookups for existing keys in miss-heavy benchmarks */
+    private static final int MISS_HEAVY_HIT_PERCENT = 10;
+
     String benchmarkName() {
         return "KeyValueStoreBench";
     }
@@ -84,4 +93,77 @@ public class HalfDiskMapBench extends BaseBench {
 
         afterTest(store::close);
     }
+
+    @Benchmark
+    public void missHeavyGet() throws Exception {
+        missHeavyGet(false);
+    }
+
+    @Benchmark
+    public void missHeavyGetWithBloomFilter() throws Exception {
+        missHeavyGet(true);
+    }
+
+    /**
+     * Populates a map with keys in [0, maxKey) range, then runs lookups, where most keys are
+     * from [maxKey, 2 * maxKey) range, i.e. absent in the map. This is a typical workload for
+     * new account creation, alias checks, and similar.
+     */
+    private void missHeavyGet(final boolean bloomFilterEnabled) throws Exception {
+        final String storeName = "missHeavyGetBench";
+        beforeTest(storeName);
+
+        final Configuration config = bloomFilterConfig(bloomFilterEnabled);
+        final var store = new HalfDiskHashMap(config, maxKey, getTestDir(), storeName, null, false);
+        System.out.println();
+
+        // Write files
+        final BenchmarkKeySerializer keySerializer = new BenchmarkKeySerializer();
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < numFiles; i++) {
+            store.startWriting();
+            resetKeys();
+            for (int j = 0; j < numRecords; ++j) {
+                final long id = nextAscKey();
+                final BenchmarkKey key = new BenchmarkKey(id);
+                store.put(keySerializer.toBytes(key), key.hashCode(), id);
+            }
+            store.endWriting();
+        }
+        System.out.println("Created " + numFiles + " files in " + (System.currentTimeMillis() - start) + "ms");
+
+        // Lookups, mostly misses
+        final int numLookups = numRecords * numFiles;
+        int found = 0;
+        start = System.currentTimeMillis();
+        for (int i = 0; i < numLookups; i++) {
+            final boolean hit = Utils.randomInt(100) < MISS_HEAVY_HIT_PERCENT;
+            final long id = hit ? Utils.randomLong(maxKey) : maxKey + Utils.randomLong(maxKey);
+            final BenchmarkKey key = new BenchmarkKey(id);
+            final long value = store.get(keySerializer.toBytes(key), key.hashCode(), INVALID_PATH);
+            if (value != INVALID_PATH) {
+                found++;
+                if (verify && (value != id)) {
+                    throw new RuntimeException("Bad value");
+                }
+            }
+        }
+        final long took = System.currentTimeMillis() - start;
+        System.out.println("Looked up " + numLookups + " keys (" + found + " found) in " + took + "ms"
+                + ", bloomFilter=" + bloomFilterEnabled
+                + ", avoidedReads=" + store.getAndResetBucketFilterAvoidedReads()
+                + ", falsePositives=" + store.getAndResetBucketFilterFalsePositives()
+                + ", filterSize=" + store.getBucketFilterSize());
+
+        afterTest(store::close);
+    }
+
+    private static Configuration bloomFilterConfig(final boolean bloomFilterEnabled) throws IOException {
+        return ConfigurationBuilder.create()
+                .withSource(new LegacyFileConfigSource(Path.of(".", "settings.txt")))
+                .withSource(new SimpleConfigSource("merkleDb.halfDiskHashMapBloomFilterEnabled", bloomFilterEnabled)
+                        .withOrdinal(Integer.MAX_VALUE))
+                .withConfigDataType(MerkleDbConfig.class)
+                .build();
+    }
 }
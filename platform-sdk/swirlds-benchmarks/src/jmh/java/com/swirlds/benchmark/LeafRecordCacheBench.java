@@ -0,0 +1,155 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.benchmark;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.merkledb.DirectMappedLeafRecordCache;
+import com.swirlds.merkledb.LeafRecordCache;
+import com.swirlds.merkledb.SetAssociativeLeafRecordCache;
+import com.swirlds.virtualmap.datasource.VirtualLeafBytes;
+import java.util.Arrays;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares hit rates of MerkleDb leaf records cache implementations for Zipfian key
+ * distributions. {@code cacheWays == 1} is the direct-mapped cache, other values are for
+ * set associative caches with frequency based admission.
+ */
+@Fork(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@State(Scope.Thread)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+public class LeafRecordCacheBench extends BaseBench {
+
+    @Param({"10000"})
+    public int cacheSize = 10_000;
+
+    @Param({"1", "4", "8"})
+    public int cacheWays = 1;
+
+    @Param({"0.99"})
+    public double zipfExponent = 0.99;
+
+    /** Every this number of lookups, a one-off scan is made in zipfianWithScans benchmark */
+    private static final int SCAN_INTERVAL = 10_000;
+
+    /** Scan length, in keys, relative to cache size */
+    private static final double SCAN_LENGTH_RATIO = 0.5;
+
+    private final BenchmarkKeySerializer keySerializer = new BenchmarkKeySerializer();
+
+    /** Cumulative distribution of key ranks, computed once per maxKey / exponent */
+    private double[] zipfCdf;
+
+    String benchmarkName() {
+        return "LeafRecordCacheBench";
+    }
+
+    private LeafRecordCache createCache() {
+        return (cacheWays <= 1)
+                ? new DirectMappedLeafRecordCache(cacheSize)
+                : new SetAssociativeLeafRecordCache(cacheSize, cacheWays);
+    }
+
+    private double[] zipfCdf() {
+        if ((zipfCdf == null) || (zipfCdf.length != maxKey)) {
+            zipfCdf = new double[maxKey];
+            double sum = 0;
+            for (int i = 0; i < maxKey; i++) {
+                sum += 1.0 / Math.pow(i + 1, zipfExponent);
+                zipfCdf[i] = sum;
+            }
+            for (int i = 0; i < maxKey; i++) {
+                zipfCdf[i] /= sum;
+            }
+        }
+        return zipfCdf;
+    }
+
+    /** Returns a random key ID. Ranks are shuffled, so hot keys are spread across the key space */
+    private long nextZipfKey(final double[] cdf) {
+        final int pos = Arrays.binarySearch(cdf, Math.random());
+        final long rank = (pos >= 0) ? pos : Math.min(-pos - 1, cdf.length - 1);
+        return (rank * 0x9E3779B97F4A7C15L >>> 1) % maxKey;
+    }
+
+    /** Emulates MerkleDbDataSource.loadLeafRecord(): cache lookup, then put on miss */
+    private void access(final LeafRecordCache cache, final long id) {
+        final BenchmarkKey key = new BenchmarkKey(id);
+        final Bytes keyBytes = keySerializer.toBytes(key);
+        final int keyHashCode = key.hashCode();
+        if (cache.get(keyBytes, keyHashCode) == null) {
+            cache.put(keyHashCode, new VirtualLeafBytes(id, keyBytes, keyHashCode, keyBytes));
+        }
+    }
+
+    @Benchmark
+    public void zipfian() throws Exception {
+        beforeTest("zipfian");
+        run(false);
+        afterTest();
+    }
+
+    @Benchmark
+    public void zipfianWithScans() throws Exception {
+        beforeTest("zipfianWithScans");
+        run(true);
+        afterTest();
+    }
+
+    private void run(final boolean withScans) {
+        final double[] cdf = zipfCdf();
+        final LeafRecordCache cache = createCache();
+        final long numLookups = (long) numFiles * numRecords;
+        final int scanLength = (int) (cacheSize * SCAN_LENGTH_RATIO);
+        // Scans are over keys outside [0, maxKey), i.e. never looked up otherwise
+        long scanKey = maxKey;
+
+        // Warm up the cache, so cold misses don't affect the hit rate
+        for (int i = 0; i < cacheSize * 10; i++) {
+            access(cache, nextZipfKey(cdf));
+        }
+        cache.getAndResetHits();
+        cache.getAndResetMisses();
+        cache.getAndResetEvictions();
+
+        long hits = 0;
+        long misses = 0;
+        final long start = System.currentTimeMillis();
+        for (long i = 0; i < numLookups; i++) {
+            access(cache, nextZipfKey(cdf));
+            if (withScans && (i % SCAN_INTERVAL == SCAN_INTERVAL - 1)) {
+                // Scans aren't counted in the hit rate, only their effect on Zipfian lookups is
+                hits += cache.getAndResetHits();
+                misses += cache.getAndResetMisses();
+                for (int j = 0; j < scanLength; j++) {
+                    access(cache, scanKey++);
+                }
+                cache.getAndResetHits();
+                cache.getAndResetMisses();
+            }
+        }
+        hits += cache.getAndResetHits();
+        misses += cache.getAndResetMisses();
+        final long took = System.currentTimeMillis() - start;
+
+        System.out.printf(
+                "%nCache %s, size=%d ways=%d: hit rate %.2f%% (%d hits, %d misses, %d evictions) in %d ms%n",
+                cache.getClass().getSimpleName(),
+                cacheSize,
+                cacheWays,
+                100.0 * hits / Math.max(1, hits + misses),
+                hits,
+                misses,
+                cache.getAndResetEvictions(),
+                took);
+    }
+}
@@ -13,6 +13,7 @@ import com.swirlds.common.merkle.synchronization.config.ReconnectConfig;
 import com.swirlds.common.merkle.synchronization.stats.ReconnectMapMetrics;
 import com.swirlds.common.merkle.synchronization.stats.ReconnectMapStats;
 import com.swirlds.common.merkle.synchronization.streams.AsyncOutputStream;
+import com.swirlds.common.merkle.synchronization.streams.TeacherStreams;
 import com.swirlds.common.merkle.synchronization.task.ReconnectNodeCount;
 import com.swirlds.common.merkle.synchronization.utility.MerkleSynchronizationException;
 import com.swirlds.common.merkle.synchronization.views.CustomReconnectRoot;
@@ -24,8 +25,11 @@ import com.swirlds.common.threading.pool.StandardWorkGroup;
 import com.swirlds.logging.legacy.payload.SynchronizationCompletePayload;
 import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Deque;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.ExecutionException;
@@ -55,6 +59,12 @@ public class LearningSynchronizer implements ReconnectNodeCount {
      */
     private final MerkleDataOutputStream outputStream;
 
+    /**
+     * Streams to additional teachers, which may serve parts of subtrees with custom views in parallel with the
+     * primary teacher. May be empty.
+     */
+    private final List<TeacherStreams> additionalTeachers;
+
     private final Queue<MerkleNode> rootsToReceive;
     private final Deque<LearnerTreeView<?>> viewsToInitialize;
     private final Runnable breakConnection;
@@ -63,6 +73,7 @@ public class LearningSynchronizer implements ReconnectNodeCount {
      */
     private MerkleNode newRoot;
 
+    // Node counts may be updated by multiple threads, if nodes are received from additional teachers
     private int leafNodesReceived;
     private int internalNodesReceived;
     private int redundantLeafNodes;
@@ -105,11 +116,41 @@ public class LearningSynchronizer implements ReconnectNodeCount {
             @NonNull final MerkleCryptography merkleCryptography,
             @NonNull final ReconnectConfig reconnectConfig,
             @NonNull final Metrics metrics) {
+        this(threadManager, in, out, List.of(), root, breakConnection, merkleCryptography, reconnectConfig, metrics);
+    }
+
+    /**
+     * Create a new learning synchronizer, which may receive parts of subtrees with custom views from additional
+     * teachers in parallel with the primary teacher.
+     *
+     * @param threadManager      responsible for managing thread lifecycles
+     * @param in                 the input stream from the primary teacher
+     * @param out                the output stream to the primary teacher
+     * @param additionalTeachers the streams to additional teachers, may be empty. Every additional teacher must run
+     *                           {@link TeachingSynchronizer#serveCustomRoots()} on a tree with the same hash as
+     *                           the primary teacher's tree
+     * @param root               the root of the tree
+     * @param breakConnection    a method that breaks the connection. Used iff an exception is encountered
+     * @param reconnectConfig    the configuration for the reconnect
+     * @param metrics            a Metrics instance for ReconnectMapStats
+     */
+    public LearningSynchronizer(
+            @NonNull final ThreadManager threadManager,
+            @NonNull final MerkleDataInputStream in,
+            @NonNull final MerkleDataOutputStream out,
+            @NonNull final List<TeacherStreams> additionalTeachers,
+            @NonNull final MerkleNode root,
+            @NonNull final Runnable breakConnection,
+            @NonNull final MerkleCryptography merkleCryptography,
+            @NonNull final ReconnectConfig reconnectConfig,
+            @NonNull final Metrics metrics) {
 
         this.threadManager = Objects.requireNonNull(threadManager, "threadManager is null");
 
         inputStream = Objects.requireNonNull(in, "inputStream is null");
         outputStream = Objects.requireNonNull(out, "outputStream is null");
+        this.additionalTeachers =
+                List.copyOf(Objects.requireNonNull(additionalTeachers, "additionalTeachers is null"));
         this.merkleCryptography = Objects.requireNonNull(merkleCryptography, "merkleCryptography is null");
         this.reconnectConfig = Objects.requireNonNull(reconnectConfig, "reconnectConfig is null");
 
@@ -185,10 +226,26 @@ public class LearningSynchronizer implements ReconnectNodeCount {
             }
         }
 
+        releaseAdditionalTeachers();
+
         synchronizationTimeMilliseconds = System.currentTimeMillis() - start;
         logger.info(RECONNECT.getMarker(), "synchronization complete");
     }
 
+    /**
+     * Tell all additional teachers that there are no more subtrees to serve.
+     */
+    private void releaseAdditionalTeachers() {
+        for (final TeacherStreams teacher : additionalTeachers) {
+            try {
+                teacher.out().writeSerializable(null, true);
+                teacher.out().flush();
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Failed to release an additional teacher", e);
+            }
+        }
+    }
+
     /**
      * Initialize the tree.
      */
@@ -239,6 +296,18 @@ public class LearningSynchronizer implements ReconnectNodeCount {
         logger.info(RECONNECT.getMarker(), () -> mapStats.format());
     }
 
+    /**
+     * Get the streams to additional teachers, which may be used by custom views to receive parts of their subtrees
+     * in parallel. The views must send the route of the subtree to every additional teacher they use, see {@link
+     * TeachingSynchronizer#serveCustomRoots()}.
+     *
+     * @return the streams to additional teachers, may be empty
+     */
+    @NonNull
+    public List<TeacherStreams> getAdditionalTeachers() {
+        return additionalTeachers;
+    }
+
     /**
      * Get the root of the resulting tree. May return an incomplete tree if called before synchronization is finished.
      */
@@ -279,7 +348,14 @@ public class LearningSynchronizer implements ReconnectNodeCount {
 
         final AtomicReference<T> reconstructedRoot = new AtomicReference<>();
 
-        view.startLearnerTasks(this, workGroup, inputStream, outputStream, rootsToReceive, reconstructedRoot);
+        try {
+            view.startLearnerTasks(this, workGroup, inputStream, outputStream, rootsToReceive, reconstructedRoot);
+        } catch (final RuntimeException e) {
+            // The view may fail before all its tasks are started, for example, if additional teachers
+            // have a different subtree. Tear down the started tasks and break the connection, so the
+            // teachers don't wait for requests forever
+            workGroup.handleError(e);
+        }
         InterruptedException interruptException = null;
         try {
             workGroup.waitForTermination();
@@ -347,7 +423,7 @@ public class LearningSynchronizer implements ReconnectNodeCount {
      * {@inheritDoc}
      */
     @Override
-    public void incrementLeafCount() {
+    public synchronized void incrementLeafCount() {
         leafNodesReceived++;
     }
 
@@ -355,7 +431,7 @@ public class LearningSynchronizer implements ReconnectNodeCount {
      * {@inheritDoc}
      */
     @Override
-    public void incrementRedundantLeafCount() {
+    public synchronized void incrementRedundantLeafCount() {
         redundantLeafNodes++;
     }
 
@@ -363,7 +439,7 @@ public class LearningSynchronizer implements ReconnectNodeCount {
      * {@inheritDoc}
      */
     @Override
-    public void incrementInternalCount() {
+    public synchronized void incrementInternalCount() {
         internalNodesReceived++;
     }
 
@@ -371,7 +447,7 @@ public class LearningSynchronizer implements ReconnectNodeCount {
      * {@inheritDoc}
      */
     @Override
-    public void incrementRedundantInternalCount() {
+    public synchronized void incrementRedundantInternalCount() {
         redundantInternalNodes++;
     }
 }
@@ -7,16 +7,19 @@ import com.swirlds.base.time.Time;
 import com.swirlds.common.io.streams.MerkleDataInputStream;
 import com.swirlds.common.io.streams.MerkleDataOutputStream;
 import com.swirlds.common.merkle.MerkleNode;
+import com.swirlds.common.merkle.route.MerkleRoute;
 import com.swirlds.common.merkle.synchronization.config.ReconnectConfig;
 import com.swirlds.common.merkle.synchronization.streams.AsyncOutputStream;
 import com.swirlds.common.merkle.synchronization.task.TeacherSubtree;
 import com.swirlds.common.merkle.synchronization.utility.MerkleSynchronizationException;
+import com.swirlds.common.merkle.synchronization.views.CustomReconnectRoot;
 import com.swirlds.common.merkle.synchronization.views.TeacherTreeView;
 import com.swirlds.common.threading.manager.ThreadManager;
 import com.swirlds.common.threading.pool.StandardWorkGroup;
 import com.swirlds.config.api.Configuration;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.IOException;
 import java.net.SocketException;
 import java.util.LinkedList;
 import java.util.Objects;
@@ -47,6 +50,11 @@ public class TeachingSynchronizer {
      */
     private final MerkleDataOutputStream outputStream;
 
+    /**
+     * The root of the tree.
+     */
+    private final MerkleNode root;
+
     /**
      * <p>
      * Subtrees that require reconnect using a custom view.
@@ -98,6 +106,7 @@ public class TeachingSynchronizer {
         this.threadManager = Objects.requireNonNull(threadManager, "threadManager must not be null");
         inputStream = Objects.requireNonNull(in, "in must not be null");
         outputStream = Objects.requireNonNull(out, "out must not be null");
+        this.root = root;
 
         subtrees = new LinkedList<>();
         subtrees.add(new TeacherSubtree(configuration, root));
@@ -125,6 +134,50 @@ public class TeachingSynchronizer {
         }
     }
 
+    /**
+     * <p>
+     * Perform synchronization in the role of an additional teacher. An additional teacher doesn't send the tree
+     * structure, it only sends the contents of subtrees with custom views, in parallel with the primary teacher, as
+     * requested by the learner.
+     * </p>
+     *
+     * <p>
+     * For every subtree, the learner sends its route, and this teacher responds with the hash of the subtree, so the
+     * learner can verify that all teachers send the same data. The subtree is then sent using its custom view. This
+     * repeats until the learner sends a null route.
+     * </p>
+     */
+    public void serveCustomRoots() throws InterruptedException {
+        try {
+            while (true) {
+                final MerkleRoute route = inputStream.readSerializable();
+                if (route == null) {
+                    logger.info(RECONNECT.getMarker(), "learner requested no more subtrees");
+                    break;
+                }
+                final MerkleNode node = root.getNodeAtRoute(route);
+                if (!(node instanceof CustomReconnectRoot<?, ?> customRoot)) {
+                    throw new MerkleSynchronizationException("No subtree with a custom view at route " + route);
+                }
+                try (final TeacherSubtree subtree =
+                        new TeacherSubtree(customRoot, customRoot.buildTeacherView(reconnectConfig))) {
+                    subtree.getView().waitUntilReady();
+                    outputStream.writeSerializable(customRoot.getHash(), false);
+                    outputStream.flush();
+                    sendTree(subtree.getRoot(), subtree.getView());
+                }
+            }
+        } catch (final IOException e) {
+            throw new MerkleSynchronizationException("Failed to serve subtrees as an additional teacher", e);
+        } finally {
+            // The subtrees queue only contains the tree as a whole, which is not sent by additional teachers
+            for (final TeacherSubtree subtree : subtrees) {
+                subtree.close();
+            }
+            subtrees.clear();
+        }
+    }
+
     /**
      * Send a tree (or subtree).
      */
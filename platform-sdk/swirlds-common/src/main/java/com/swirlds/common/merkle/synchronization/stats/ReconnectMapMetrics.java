@@ -92,7 +92,10 @@ public class ReconnectMapMetrics implements ReconnectMapStats {
     }
 
     private static void add(final LongGauge metric, final long value) {
-        metric.set(metric.get() + value);
+        // Nodes may be received from multiple teachers in parallel
+        synchronized (metric) {
+            metric.set(metric.get() + value);
+        }
     }
 
     /**
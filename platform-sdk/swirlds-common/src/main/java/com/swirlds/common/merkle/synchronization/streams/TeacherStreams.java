@@ -0,0 +1,26 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.common.merkle.synchronization.streams;
+
+import com.swirlds.common.io.streams.MerkleDataInputStream;
+import com.swirlds.common.io.streams.MerkleDataOutputStream;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Objects;
+
+/**
+ * The streams to communicate with an additional teacher during reconnect. Additional teachers don't send the tree
+ * structure, they only help the primary teacher to send the contents of subtrees with custom views, if the view
+ * supports receiving data from more than one teacher in parallel.
+ *
+ * @param in  the input stream from the teacher
+ * @param out the output stream to the teacher
+ */
+public record TeacherStreams(@NonNull MerkleDataInputStream in, @NonNull MerkleDataOutputStream out) {
+
+    /**
+     * Constructor.
+     */
+    public TeacherStreams {
+        Objects.requireNonNull(in, "in must not be null");
+        Objects.requireNonNull(out, "out must not be null");
+    }
+}
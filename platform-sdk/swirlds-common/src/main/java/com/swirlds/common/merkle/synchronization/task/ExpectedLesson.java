@@ -2,6 +2,8 @@
 package com.swirlds.common.merkle.synchronization.task;
 
 import com.swirlds.base.utility.ToStringBuilder;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import org.hiero.base.crypto.Hash;
 
 /**
  * This object is used to track a node for which the learner is expecting data.
@@ -28,6 +30,11 @@ public class ExpectedLesson<T> {
      */
     private final T originalNode;
 
+    /**
+     * The hash of the node on the teacher, if known.
+     */
+    private final Hash teacherHash;
+
     /**
      * Create a record for a node for which we are expecting data.
      *
@@ -42,10 +49,34 @@ public class ExpectedLesson<T> {
      */
     public ExpectedLesson(
             final T parent, final int positionInParent, final T originalNode, final boolean nodeAlreadyPresent) {
+        this(parent, positionInParent, originalNode, nodeAlreadyPresent, null);
+    }
+
+    /**
+     * Create a record for a node for which we are expecting data.
+     *
+     * @param parent
+     * 		the eventual parent of the node
+     * @param positionInParent
+     * 		the eventual position of the node within its parent
+     * @param originalNode
+     * 		the node that was originally in this location in the tree
+     * @param nodeAlreadyPresent
+     * 		does the learner already have the node being sent by the teacher?
+     * @param teacherHash
+     * 		the hash of the node on the teacher, or null if unknown
+     */
+    public ExpectedLesson(
+            final T parent,
+            final int positionInParent,
+            final T originalNode,
+            final boolean nodeAlreadyPresent,
+            @Nullable final Hash teacherHash) {
         this.parent = parent;
         this.positionInParent = positionInParent;
         this.originalNode = originalNode;
         this.nodeAlreadyPresent = nodeAlreadyPresent;
+        this.teacherHash = teacherHash;
     }
 
     /**
@@ -76,6 +107,14 @@ public class ExpectedLesson<T> {
         return originalNode;
     }
 
+    /**
+     * Get the hash of the node on the teacher, or null if unknown. It's unknown for the root of the tree.
+     */
+    @Nullable
+    public Hash getTeacherHash() {
+        return teacherHash;
+    }
+
     /**
      * For debugging purposes
      */
@@ -112,7 +112,7 @@ public class LearnerPushTask<T> {
         }
 
         if (originalNode != null && view.getClassId(originalNode) == lesson.getCustomViewClassId()) {
-            customRoot.setupWithOriginalNode(view.getMerkleRoot(originalNode));
+            customRoot.setupWithOriginalNode(view.getMerkleRoot(originalNode), expectedLesson.getTeacherHash());
         } else {
             customRoot.setupWithNoData();
         }
@@ -193,7 +193,7 @@ public class LearnerPushTask<T> {
             mapStats.incrementTransfersFromLearner();
             view.recordHashStats(mapStats, newParent, childIndex, nodeAlreadyPresent);
 
-            view.expectLessonFor(newParent, childIndex, originalChild, nodeAlreadyPresent);
+            view.expectLessonFor(newParent, childIndex, originalChild, nodeAlreadyPresent, teacherHash);
             in.anticipateMessage();
         }
     }
@@ -5,6 +5,8 @@ import com.swirlds.common.merkle.MerkleNode;
 import com.swirlds.common.merkle.synchronization.config.ReconnectConfig;
 import com.swirlds.common.merkle.synchronization.stats.ReconnectMapStats;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import org.hiero.base.crypto.Hash;
 
 /**
  * Nodes that are want to use a custom view for reconnect must extend this interface and
@@ -52,6 +54,19 @@ public interface CustomReconnectRoot<T, L> extends MerkleNode {
      */
     void setupWithOriginalNode(final MerkleNode originalNode);
 
+    /**
+     * Same as {@link #setupWithOriginalNode(MerkleNode)}, but also provides the hash of this subtree on the
+     * teacher, if the learner knows it before the subtree is synchronized.
+     *
+     * @param originalNode
+     * 		the original node in the learner's tree in the root position of this subtree
+     * @param teacherHash
+     * 		the hash of this subtree on the teacher, or null if unknown
+     */
+    default void setupWithOriginalNode(final MerkleNode originalNode, @Nullable final Hash teacherHash) {
+        setupWithOriginalNode(originalNode);
+    }
+
     /**
      * Called on a node if there is no data to be copied.
      */
@@ -2,6 +2,8 @@
 package com.swirlds.common.merkle.synchronization.views;
 
 import com.swirlds.common.merkle.synchronization.task.ExpectedLesson;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import org.hiero.base.crypto.Hash;
 
 /**
  * Used by the learner during reconnect. These methods implement a queue like interface for expected lessons.
@@ -45,6 +47,31 @@ public interface LearnerExpectedLessonQueue<T> {
      */
     void expectLessonFor(T parent, int childIndex, T original, boolean nodeAlreadyPresent);
 
+    /**
+     * Same as {@link #expectLessonFor(Object, int, Object, boolean)}, but also provides the hash of the
+     * node on the teacher. Views that pass expected lessons to roots of subtrees with custom views should
+     * keep the hash in the expected lesson.
+     *
+     * @param parent
+     * 		the parent of the node in question
+     * @param childIndex
+     * 		the position where the node is found
+     * @param original
+     * 		the node originally at the specified position
+     * @param nodeAlreadyPresent
+     * 		true if we already have a node with the teacher's hash
+     * @param teacherHash
+     * 		the hash of the node on the teacher
+     */
+    default void expectLessonFor(
+            final T parent,
+            final int childIndex,
+            final T original,
+            final boolean nodeAlreadyPresent,
+            @NonNull final Hash teacherHash) {
+        expectLessonFor(parent, childIndex, original, nodeAlreadyPresent);
+    }
+
     /**
      * Remove and return an element from the queue maintained by {@link #expectLessonFor(Object, int, Object, boolean)}.
      *
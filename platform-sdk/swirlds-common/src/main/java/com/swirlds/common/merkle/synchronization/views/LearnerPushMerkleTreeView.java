@@ -194,6 +194,19 @@ public class LearnerPushMerkleTreeView implements LearnerTreeView<MerkleNode> {
         expectedLessons.add(new ExpectedLesson<>(parent, childIndex, original, nodeAlreadyPresent));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void expectLessonFor(
+            final MerkleNode parent,
+            final int childIndex,
+            final MerkleNode original,
+            final boolean nodeAlreadyPresent,
+            @NonNull final Hash teacherHash) {
+        expectedLessons.add(new ExpectedLesson<>(parent, childIndex, original, nodeAlreadyPresent, teacherHash));
+    }
+
     /**
      * {@inheritDoc}
      */
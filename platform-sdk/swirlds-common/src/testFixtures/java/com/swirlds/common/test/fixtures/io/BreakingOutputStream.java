@@ -0,0 +1,75 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.common.test.fixtures.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A stream wrapper that breaks after a given number of bytes is written. All writes after that throw an
+ * {@link IOException}, like a stream of a broken connection.
+ */
+public class BreakingOutputStream extends OutputStream {
+
+    private final OutputStream baseStream;
+    private final long bytesBeforeBreak;
+    private long bytesWritten;
+
+    /**
+     * Create a new stream wrapper.
+     *
+     * @param baseStream       the stream to write to until the stream breaks
+     * @param bytesBeforeBreak the number of bytes that are written before the stream breaks
+     */
+    public BreakingOutputStream(final OutputStream baseStream, final long bytesBeforeBreak) {
+        this.baseStream = baseStream;
+        this.bytesBeforeBreak = bytesBeforeBreak;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void write(final int b) throws IOException {
+        checkBroken(1);
+        baseStream.write(b);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void write(final byte[] b, final int off, final int len) throws IOException {
+        checkBroken(len);
+        baseStream.write(b, off, len);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void flush() throws IOException {
+        baseStream.flush();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        baseStream.close();
+    }
+
+    /**
+     * Check if the stream has been broken.
+     */
+    public synchronized boolean isBroken() {
+        return bytesWritten > bytesBeforeBreak;
+    }
+
+    private void checkBroken(final int len) throws IOException {
+        bytesWritten += len;
+        if (bytesWritten > bytesBeforeBreak) {
+            throw new IOException("The stream is broken after " + bytesBeforeBreak + " bytes");
+        }
+    }
+}
@@ -11,6 +11,7 @@ import static org.mockito.Mockito.mock;
 
 import com.swirlds.base.time.Time;
 import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.io.streams.MerkleDataOutputStream;
 import com.swirlds.common.merkle.MerkleInternal;
 import com.swirlds.common.merkle.MerkleLeaf;
 import com.swirlds.common.merkle.MerkleNode;
@@ -18,6 +19,7 @@ import com.swirlds.common.merkle.iterators.MerkleIterator;
 import com.swirlds.common.merkle.synchronization.LearningSynchronizer;
 import com.swirlds.common.merkle.synchronization.TeachingSynchronizer;
 import com.swirlds.common.merkle.synchronization.config.ReconnectConfig;
+import com.swirlds.common.merkle.synchronization.streams.TeacherStreams;
 import com.swirlds.common.merkle.synchronization.utility.MerkleSynchronizationException;
 import com.swirlds.common.metrics.config.MetricsConfig;
 import com.swirlds.common.metrics.platform.DefaultPlatformMetrics;
@@ -43,6 +45,7 @@ import com.swirlds.virtualmap.internal.merkle.VirtualLeafNode;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -52,6 +55,7 @@ import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import org.hiero.base.io.streams.SerializableDataOutputStream;
 
@@ -1160,6 +1164,128 @@ public final class MerkleTestUtils {
         }
     }
 
+    /**
+     * Synchronize two trees using multiple teachers, and verify that the end result is the expected result. All
+     * teachers send the desired tree. Subtrees with custom views are received from all teachers in parallel, if
+     * their views support it.
+     *
+     * @param startingTree       the starting tree of the learner
+     * @param desiredTree        the tree of the teachers
+     * @param additionalTeachers the number of additional teachers, besides the primary teacher
+     * @param reconnectConfig    the reconnect configuration
+     * @return the tree generated by the learner
+     */
+    public static <T extends MerkleNode> T testMultiTeacherSynchronization(
+            final MerkleNode startingTree,
+            final MerkleNode desiredTree,
+            final int additionalTeachers,
+            final ReconnectConfig reconnectConfig)
+            throws Exception {
+        return testMultiTeacherSynchronization(
+                startingTree,
+                Collections.nCopies(additionalTeachers + 1, desiredTree),
+                (teacher, out) -> out,
+                reconnectConfig);
+    }
+
+    /**
+     * Synchronize two trees using multiple teachers, and verify that the end result is the expected result.
+     * Every teacher sends its own tree, which allows to test teachers with different trees. Subtrees with custom
+     * views are received from all teachers in parallel, if their views support it.
+     *
+     * @param startingTree    the starting tree of the learner
+     * @param teacherTrees    the trees of the teachers, the primary teacher's tree first. The learner is expected
+     *                        to end up with the primary teacher's tree
+     * @param teacherOutputs  builds the output stream of a teacher with the given index, 0 for the primary
+     *                        teacher, from its connection output stream. May be used to break a teacher
+     * @param reconnectConfig the reconnect configuration
+     * @return the tree generated by the learner
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends MerkleNode> T testMultiTeacherSynchronization(
+            final MerkleNode startingTree,
+            final List<? extends MerkleNode> teacherTrees,
+            final BiFunction<Integer, MerkleDataOutputStream, MerkleDataOutputStream> teacherOutputs,
+            final ReconnectConfig reconnectConfig)
+            throws Exception {
+        final MerkleNode desiredTree = teacherTrees.get(0);
+        final List<PairedStreams> allStreams = new ArrayList<>();
+        try {
+            for (int i = 0; i < teacherTrees.size(); i++) {
+                allStreams.add(new PairedStreams());
+            }
+            final Runnable disconnect = () -> allStreams.forEach(PairedStreams::disconnect);
+            final List<TeacherStreams> additionalTeacherStreams = allStreams.subList(1, allStreams.size()).stream()
+                    .map(streams -> new TeacherStreams(streams.getLearnerInput(), streams.getLearnerOutput()))
+                    .toList();
+
+            final LearningSynchronizer learner = new LearningSynchronizer(
+                    getStaticThreadManager(),
+                    allStreams.get(0).getLearnerInput(),
+                    allStreams.get(0).getLearnerOutput(),
+                    additionalTeacherStreams,
+                    startingTree,
+                    disconnect,
+                    TestMerkleCryptoFactory.getInstance(),
+                    reconnectConfig,
+                    metrics);
+            final PlatformContext platformContext = TestPlatformContextBuilder.create().build();
+            final List<TeachingSynchronizer> teachers = new ArrayList<>();
+            for (int i = 0; i < allStreams.size(); i++) {
+                final PairedStreams streams = allStreams.get(i);
+                teachers.add(new TeachingSynchronizer(
+                        platformContext.getConfiguration(),
+                        Time.getCurrent(),
+                        getStaticThreadManager(),
+                        streams.getTeacherInput(),
+                        teacherOutputs.apply(i, streams.getTeacherOutput()),
+                        teacherTrees.get(i),
+                        disconnect,
+                        reconnectConfig));
+            }
+
+            final AtomicReference<Throwable> firstReconnectException = new AtomicReference<>();
+            final Function<Throwable, Boolean> exceptionListener = t -> {
+                firstReconnectException.compareAndSet(null, t);
+                return false;
+            };
+            final StandardWorkGroup workGroup = new StandardWorkGroup(
+                    getStaticThreadManager(), "synchronization-test", null, exceptionListener, true);
+            workGroup.execute("teaching-synchronizer-main", () -> teachingSynchronizerThread(teachers.get(0)));
+            for (int i = 1; i < teachers.size(); i++) {
+                final TeachingSynchronizer teacher = teachers.get(i);
+                workGroup.execute("teaching-synchronizer-additional", () -> {
+                    try {
+                        teacher.serveCustomRoots();
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            workGroup.execute("learning-synchronizer-main", () -> learningSynchronizerThread(learner));
+
+            try {
+                workGroup.waitForTermination();
+            } catch (InterruptedException e) {
+                workGroup.shutdown();
+                Thread.currentThread().interrupt();
+            }
+
+            if (workGroup.hasExceptions()) {
+                throw new MerkleSynchronizationException(
+                        "Exception(s) in synchronization test", firstReconnectException.get());
+            }
+
+            final MerkleNode generatedTree = learner.getRoot();
+
+            assertReconnectValidity(startingTree, desiredTree, generatedTree);
+
+            return (T) generatedTree;
+        } finally {
+            allStreams.forEach(PairedStreams::close);
+        }
+    }
+
     /**
      * Check if a node is virtual. A required work around due to the incorrect package structure for the virtual tests.
      */
@@ -1292,6 +1418,46 @@ public final class MerkleTestUtils {
         return testSynchronization(startingTree, desiredTree, 0, reconnectConfig);
     }
 
+    /**
+     * Hash both trees, if needed, and synchronize them using multiple teachers. See
+     * {@link #testMultiTeacherSynchronization(MerkleNode, MerkleNode, int, ReconnectConfig)}.
+     */
+    public static <T extends MerkleNode> T hashAndTestMultiTeacherSynchronization(
+            final MerkleNode startingTree,
+            final MerkleNode desiredTree,
+            final int additionalTeachers,
+            final ReconnectConfig reconnectConfig)
+            throws Exception {
+        if (startingTree != null && startingTree.getHash() == null) {
+            TestMerkleCryptoFactory.getInstance().digestTreeSync(startingTree);
+        }
+        if (desiredTree != null && desiredTree.getHash() == null) {
+            TestMerkleCryptoFactory.getInstance().digestTreeSync(desiredTree);
+        }
+        return testMultiTeacherSynchronization(startingTree, desiredTree, additionalTeachers, reconnectConfig);
+    }
+
+    /**
+     * Hash all trees, if needed, and synchronize them using multiple teachers. See
+     * {@link #testMultiTeacherSynchronization(MerkleNode, List, BiFunction, ReconnectConfig)}.
+     */
+    public static <T extends MerkleNode> T hashAndTestMultiTeacherSynchronization(
+            final MerkleNode startingTree,
+            final List<? extends MerkleNode> teacherTrees,
+            final BiFunction<Integer, MerkleDataOutputStream, MerkleDataOutputStream> teacherOutputs,
+            final ReconnectConfig reconnectConfig)
+            throws Exception {
+        if (startingTree != null && startingTree.getHash() == null) {
+            TestMerkleCryptoFactory.getInstance().digestTreeSync(startingTree);
+        }
+        for (final MerkleNode teacherTree : teacherTrees) {
+            if (teacherTree.getHash() == null) {
+                TestMerkleCryptoFactory.getInstance().digestTreeSync(teacherTree);
+            }
+        }
+        return testMultiTeacherSynchronization(startingTree, teacherTrees, teacherOutputs, reconnectConfig);
+    }
+
     /**
      * Walk down a tree and return the node at the specified position.
      *
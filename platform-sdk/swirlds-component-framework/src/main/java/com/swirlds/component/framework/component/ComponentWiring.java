@@ -3,6 +3,7 @@ package com.swirlds.component.framework.component;
 
 import static com.swirlds.component.framework.model.diagram.HyperlinkBuilder.platformCoreHyperlink;
 
+import com.swirlds.component.framework.component.internal.BatchInputWireToBind;
 import com.swirlds.component.framework.component.internal.FilterToBind;
 import com.swirlds.component.framework.component.internal.InputWireToBind;
 import com.swirlds.component.framework.component.internal.TransformerToBind;
@@ -64,6 +65,12 @@ public class ComponentWiring<COMPONENT_TYPE, OUTPUT_TYPE> {
      */
     private final List<InputWireToBind<COMPONENT_TYPE, Object, OUTPUT_TYPE>> inputsToBind = new ArrayList<>();
 
+    /**
+     * Input wires with batch handlers that need to be bound.
+     */
+    private final List<BatchInputWireToBind<COMPONENT_TYPE, Object, OUTPUT_TYPE>> batchInputsToBind =
+            new ArrayList<>();
+
     /**
      * Previously created transformers/splitters/filters.
      */
@@ -290,6 +297,43 @@ public class ComponentWiring<COMPONENT_TYPE, OUTPUT_TYPE> {
         return getOrBuildInputWire(proxy.getMostRecentlyInvokedMethod(), null, null, null, handler);
     }
 
+    /**
+     * Get an input wire for this component that is handled by a method accepting a list of inputs. The wire accepts
+     * single inputs. A {@link TaskSchedulerType#BATCHING BATCHING} scheduler passes consecutive inputs to the method as
+     * one list, other scheduler types pass each input as a list of one element.
+     *
+     * @param handler      the component method that will handle the inputs, e.g. "MyComponent::handleInputs". Should be
+     *                     a method on the class, not a method on a specific instance. Non-null elements of the returned
+     *                     list are passed to the output wire, in order.
+     * @param <INPUT_TYPE> the type of the input
+     * @return the input wire
+     */
+    @NonNull
+    public <INPUT_TYPE> InputWire<INPUT_TYPE> getBatchInputWire(
+            @NonNull final BiFunction<COMPONENT_TYPE, List<INPUT_TYPE>, List<OUTPUT_TYPE>> handler) {
+        Objects.requireNonNull(handler);
+        handler.apply(proxyComponent, null);
+        return getOrBuildBatchInputWire(proxy.getMostRecentlyInvokedMethod(), handler, null);
+    }
+
+    /**
+     * Get an input wire for this component that is handled by a method accepting a list of inputs. The wire accepts
+     * single inputs. A {@link TaskSchedulerType#BATCHING BATCHING} scheduler passes consecutive inputs to the method as
+     * one list, other scheduler types pass each input as a list of one element.
+     *
+     * @param handler      the component method that will handle the inputs, e.g. "MyComponent::handleInputs". Should be
+     *                     a method on the class, not a method on a specific instance.
+     * @param <INPUT_TYPE> the type of the input
+     * @return the input wire
+     */
+    @NonNull
+    public <INPUT_TYPE> InputWire<INPUT_TYPE> getBatchInputWire(
+            @NonNull final BiConsumer<COMPONENT_TYPE, List<INPUT_TYPE>> handler) {
+        Objects.requireNonNull(handler);
+        handler.accept(proxyComponent, null);
+        return getOrBuildBatchInputWire(proxy.getMostRecentlyInvokedMethod(), null, handler);
+    }
+
     /**
      * Get the output wire of this component, transformed by a function.
      *
@@ -667,19 +711,8 @@ public class ComponentWiring<COMPONENT_TYPE, OUTPUT_TYPE> {
             return (InputWire<INPUT_TYPE>) inputWires.get(method);
         }
 
-        final String label;
-        if (name != null) {
-            label = name;
-        } else {
-            final InputWireLabel inputWireLabel = method.getAnnotation(InputWireLabel.class);
-            if (inputWireLabel == null) {
-                label = method.getName();
-            } else {
-                label = inputWireLabel.value();
-            }
-        }
-
-        final BindableInputWire<INPUT_TYPE, OUTPUT_TYPE> inputWire = scheduler.buildInputWire(label);
+        final BindableInputWire<INPUT_TYPE, OUTPUT_TYPE> inputWire =
+                scheduler.buildInputWire(name != null ? name : getInputWireLabel(method));
         inputWires.put(method, (BindableInputWire<Object, Object>) inputWire);
 
         if (component == null) {
@@ -711,6 +744,62 @@ public class ComponentWiring<COMPONENT_TYPE, OUTPUT_TYPE> {
         return inputWire;
     }
 
+    /**
+     * Get the input wire for a specified method that accepts a list of inputs.
+     *
+     * @param method               the method that will handle data on the input wire
+     * @param handlerWithReturn    the handler for the method if it has a return type
+     * @param handlerWithoutReturn the handler for the method if it does not have a return type
+     * @param <INPUT_TYPE>         the input type
+     * @return the input wire
+     */
+    private <INPUT_TYPE> InputWire<INPUT_TYPE> getOrBuildBatchInputWire(
+            @NonNull final Method method,
+            @Nullable final BiFunction<COMPONENT_TYPE, List<INPUT_TYPE>, List<OUTPUT_TYPE>> handlerWithReturn,
+            @Nullable final BiConsumer<COMPONENT_TYPE, List<INPUT_TYPE>> handlerWithoutReturn) {
+
+        if (inputWires.containsKey(method)) {
+            // We've already created this wire
+            return (InputWire<INPUT_TYPE>) inputWires.get(method);
+        }
+
+        final BindableInputWire<INPUT_TYPE, OUTPUT_TYPE> inputWire =
+                scheduler.buildInputWire(getInputWireLabel(method));
+        inputWires.put(method, (BindableInputWire<Object, Object>) inputWire);
+
+        if (component == null) {
+            // we will bind this later
+            batchInputsToBind.add((BatchInputWireToBind<COMPONENT_TYPE, Object, OUTPUT_TYPE>)
+                    new BatchInputWireToBind<>(inputWire, handlerWithReturn, handlerWithoutReturn));
+        } else {
+            // bind this now
+            if (handlerWithReturn != null) {
+                inputWire.bindBatch(x -> handlerWithReturn.apply(component, x));
+            } else {
+                assert handlerWithoutReturn != null;
+                inputWire.bindBatchConsumer(x -> handlerWithoutReturn.accept(component, x));
+            }
+        }
+
+        return inputWire;
+    }
+
+    /**
+     * Get the label of the input wire for a method, taken from its {@link InputWireLabel} annotation if present.
+     *
+     * @param method the method that will handle data on the input wire
+     * @return the label
+     */
+    @NonNull
+    private static String getInputWireLabel(@NonNull final Method method) {
+        final InputWireLabel inputWireLabel = method.getAnnotation(InputWireLabel.class);
+        if (inputWireLabel == null) {
+            return method.getName();
+        } else {
+            return inputWireLabel.value();
+        }
+    }
+
     /**
      * Flush all data in the task scheduler. Blocks until all data currently in flight has been processed.
      *
@@ -774,6 +863,19 @@ public class ComponentWiring<COMPONENT_TYPE, OUTPUT_TYPE> {
             }
         }
 
+        // Bind input wires with batch handlers
+        for (final BatchInputWireToBind<COMPONENT_TYPE, Object, OUTPUT_TYPE> wireToBind : batchInputsToBind) {
+            if (wireToBind.handlerWithReturn() != null) {
+                final BiFunction<COMPONENT_TYPE, List<Object>, List<OUTPUT_TYPE>> handlerWithReturn =
+                        wireToBind.handlerWithReturn();
+                wireToBind.inputWire().bindBatch(x -> handlerWithReturn.apply(component, x));
+            } else {
+                final BiConsumer<COMPONENT_TYPE, List<Object>> handlerWithoutReturn =
+                        Objects.requireNonNull(wireToBind.handlerWithoutReturn());
+                wireToBind.inputWire().bindBatchConsumer(x -> handlerWithoutReturn.accept(component, x));
+            }
+        }
+
         // Bind transformers
         for (final TransformerToBind<COMPONENT_TYPE, Object, Object> transformerToBind : transformersToBind) {
             final WireTransformer<Object, Object> transformer = transformerToBind.transformer();
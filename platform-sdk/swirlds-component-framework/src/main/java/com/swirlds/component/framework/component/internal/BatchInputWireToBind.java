@@ -0,0 +1,25 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.component.framework.component.internal;
+
+import com.swirlds.component.framework.wires.input.BindableInputWire;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+/**
+ * Contains information necessary to bind an input wire to a method accepting a list of inputs when we eventually get
+ * the implementation of the component.
+ *
+ * @param inputWire            the input wire to bind
+ * @param handlerWithReturn    non-null if the method has a non-void return type
+ * @param handlerWithoutReturn non-null if the method has a void return type
+ * @param <COMPONENT_TYPE>     the type of the component
+ * @param <INPUT_TYPE>         the input type of the input wire
+ * @param <OUTPUT_TYPE>        the output type of the component
+ */
+public record BatchInputWireToBind<COMPONENT_TYPE, INPUT_TYPE, OUTPUT_TYPE>(
+        @NonNull BindableInputWire<INPUT_TYPE, OUTPUT_TYPE> inputWire,
+        @Nullable BiFunction<COMPONENT_TYPE, List<INPUT_TYPE>, List<OUTPUT_TYPE>> handlerWithReturn,
+        @Nullable BiConsumer<COMPONENT_TYPE, List<INPUT_TYPE>> handlerWithoutReturn) {}
@@ -3,6 +3,7 @@ package com.swirlds.component.framework.model.internal.analysis;
 
 import static com.swirlds.component.framework.model.internal.analysis.ModelVertexMetaType.SCHEDULER;
 import static com.swirlds.component.framework.model.internal.analysis.ModelVertexMetaType.SUBSTITUTION;
+import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.BATCHING;
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.CONCURRENT;
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.DIRECT;
 import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerType.DIRECT_THREADSAFE;
@@ -294,7 +295,9 @@ public class WiringFlowchart {
                 return CONCURRENT;
             }
 
-            if (vertex.getType() == SEQUENTIAL || vertex.getType() == SEQUENTIAL_THREAD) {
+            if (vertex.getType() == SEQUENTIAL
+                    || vertex.getType() == SEQUENTIAL_THREAD
+                    || vertex.getType() == BATCHING) {
                 if (hasSequential) {
                     // We've detected more than one sequential scheduler type, so there is more than one logical
                     // thread of execution within this group.
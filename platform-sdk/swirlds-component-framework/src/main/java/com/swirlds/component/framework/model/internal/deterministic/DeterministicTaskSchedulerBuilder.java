@@ -59,7 +59,7 @@ public class DeterministicTaskSchedulerBuilder<OUT> extends AbstractTaskSchedule
 
         final TaskScheduler<OUT> scheduler =
                 switch (type) {
-                    case CONCURRENT, SEQUENTIAL, SEQUENTIAL_THREAD -> new DeterministicTaskScheduler<>(
+                    case CONCURRENT, SEQUENTIAL, SEQUENTIAL_THREAD, BATCHING -> new DeterministicTaskScheduler<>(
                             model,
                             name,
                             type,
@@ -173,6 +173,18 @@ public interface TaskSchedulerBuilder<OUT> {
     @NonNull
     TaskSchedulerBuilder<OUT> withDataCounter(@NonNull ToLongFunction<Object> dataCounter);
 
+    /**
+     * Configure the batches of a {@link TaskSchedulerType#BATCHING BATCHING} task scheduler. Ignored by other task
+     * scheduler types. Default is batches of up to 256 tasks without delay.
+     *
+     * @param maxBatchSize  the maximum number of tasks executed in one batch
+     * @param maxBatchDelay the maximum time the first task of a batch waits for more tasks before the batch is
+     *                      executed, zero to execute batches as soon as possible
+     * @return this
+     */
+    @NonNull
+    TaskSchedulerBuilder<OUT> withBatching(int maxBatchSize, @NonNull Duration maxBatchDelay);
+
     /**
      * Build the task scheduler.
      *
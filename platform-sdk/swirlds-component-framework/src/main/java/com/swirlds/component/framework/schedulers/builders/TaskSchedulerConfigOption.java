@@ -28,4 +28,12 @@ public enum TaskSchedulerConfigOption {
      * use a string in the form "CAPACITY(1234)" where 1234 is the desired capacity.
      */
     public static final String CAPACITY = "CAPACITY";
+
+    /**
+     * This is not defined as an enum constant because it is used in a special way. To specify the maximum batch size
+     * and delay of a {@link TaskSchedulerType#BATCHING BATCHING} scheduler, use a string in the form "BATCH(256,1ms)"
+     * where 256 is the maximum number of tasks in a batch and 1ms is the maximum time the first task of a batch waits
+     * for more tasks. The delay may be given in ns, us, ms or s.
+     */
+    public static final String BATCH = "BATCH";
 }
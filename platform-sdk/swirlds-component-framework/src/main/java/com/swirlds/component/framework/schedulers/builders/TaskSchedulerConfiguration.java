@@ -8,6 +8,7 @@ import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerC
 
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.time.Duration;
 
 /**
  * Configures a task scheduler.
@@ -20,6 +21,12 @@ import edu.umd.cs.findbugs.annotations.Nullable;
  * @param busyFractionMetricEnabled  whether the busy fraction metric should be enabled, if null then false is used
  * @param flushingEnabled            whether flushing is enabled, if null then false is used
  * @param squelchingEnabled          whether squelching is enabled, if null then false is used
+ * @param maxBatchSize               the maximum number of tasks executed in one batch by a
+ *                                   {@link TaskSchedulerType#BATCHING BATCHING} scheduler, if null then the builder
+ *                                   default is used
+ * @param maxBatchDelay              the maximum time the first task of a batch waits for more tasks in a
+ *                                   {@link TaskSchedulerType#BATCHING BATCHING} scheduler, if null then the builder
+ *                                   default is used
  */
 public record TaskSchedulerConfiguration(
         @Nullable TaskSchedulerType type,
@@ -27,28 +34,30 @@ public record TaskSchedulerConfiguration(
         @Nullable Boolean unhandledTaskMetricEnabled,
         @Nullable Boolean busyFractionMetricEnabled,
         @Nullable Boolean flushingEnabled,
-        @Nullable Boolean squelchingEnabled) {
+        @Nullable Boolean squelchingEnabled,
+        @Nullable Integer maxBatchSize,
+        @Nullable Duration maxBatchDelay) {
 
     /**
      * This configuration is for a no-op task scheduler. It is not necessary to use this constant for a no-op task
      * scheduler, but it is provided for convenience.
      */
     public static final TaskSchedulerConfiguration NO_OP_CONFIGURATION =
-            new TaskSchedulerConfiguration(TaskSchedulerType.NO_OP, 0L, false, false, false, false);
+            new TaskSchedulerConfiguration(TaskSchedulerType.NO_OP, 0L, false, false, false, false, null, null);
 
     /**
      * This configuration is for a simple direct task scheduler. It is not necessary to use this constant for a direct
      * task scheduler, but it is provided for convenience.
      */
     public static final TaskSchedulerConfiguration DIRECT_CONFIGURATION =
-            new TaskSchedulerConfiguration(TaskSchedulerType.DIRECT, 0L, false, false, false, false);
+            new TaskSchedulerConfiguration(TaskSchedulerType.DIRECT, 0L, false, false, false, false, null, null);
 
     /**
      * This configuration is for a thread-safe direct task scheduler. It is not necessary to use this constant for a
      * thread-safe direct task scheduler, but it is provided for convenience.
      */
-    public static final TaskSchedulerConfiguration DIRECT_THREADSAFE_CONFIGURATION =
-            new TaskSchedulerConfiguration(TaskSchedulerType.DIRECT_THREADSAFE, 0L, false, false, false, false);
+    public static final TaskSchedulerConfiguration DIRECT_THREADSAFE_CONFIGURATION = new TaskSchedulerConfiguration(
+            TaskSchedulerType.DIRECT_THREADSAFE, 0L, false, false, false, false, null, null);
 
     /**
      * Parse a string representation of a task scheduler configuration.
@@ -63,6 +72,10 @@ public record TaskSchedulerConfiguration(
      *         Zero or one string of the form "CAPACITY(1234)", specifies the maximum number of unhandled tasks.
      *     </li>
      *     <li>
+     *         Zero or one string of the form "BATCH(256,1ms)", specifies the maximum batch size and batch delay of a
+     *         {@link TaskSchedulerType#BATCHING BATCHING} scheduler.
+     *     </li>
+     *     <li>
      *         Zero or more values from the {@link TaskSchedulerConfigOption} enum, specifies the configuration options.
      *         Sets a boolean configuration option to true if the value is present, and false if the value is prefixed
      *         with a "!". If not present then the default is used.
@@ -84,6 +97,8 @@ public record TaskSchedulerConfiguration(
         Boolean busyFractionMetricEnabled = null;
         Boolean flushingEnabled = null;
         Boolean squelchingEnabled = null;
+        Integer maxBatchSize = null;
+        Duration maxBatchDelay = null;
 
         final String[] parts = string.split(" ");
         for (final String part : parts) {
@@ -110,6 +125,21 @@ public record TaskSchedulerConfiguration(
                 continue;
             }
 
+            if (strippedPart.startsWith(TaskSchedulerConfigOption.BATCH)) {
+                if (maxBatchSize != null) {
+                    throw new IllegalArgumentException("Multiple batch configurations specified: " + string);
+                }
+                // parse a string in the form "BATCH(256,1ms)"
+                final String[] batchArguments = parseArguments(strippedPart, 2);
+                try {
+                    maxBatchSize = Integer.parseInt(batchArguments[0]);
+                } catch (final NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid batch size \"" + strippedPart + "\"", e);
+                }
+                maxBatchDelay = parseDuration(batchArguments[1]);
+                continue;
+            }
+
             final Boolean parsedUnhandledTaskMetric = tryToParseOption(UNHANDLED_TASK_METRIC, strippedPart);
             if (parsedUnhandledTaskMetric != null) {
                 if (unhandledTaskMetricEnabled != null) {
@@ -157,7 +187,9 @@ public record TaskSchedulerConfiguration(
                 unhandledTaskMetricEnabled,
                 busyFractionMetricEnabled,
                 flushingEnabled,
-                squelchingEnabled);
+                squelchingEnabled,
+                maxBatchSize,
+                maxBatchDelay);
     }
 
     /**
@@ -201,6 +233,51 @@ public record TaskSchedulerConfiguration(
         return null;
     }
 
+    /**
+     * Parse the comma separated arguments of a string in the form "NAME(a,b)".
+     *
+     * @param string            the string to parse
+     * @param expectedArguments the number of arguments expected
+     * @return the arguments
+     */
+    @NonNull
+    private static String[] parseArguments(@NonNull final String string, final int expectedArguments) {
+        final int openParenIndex = string.indexOf('(');
+        final int closeParenIndex = string.indexOf(')');
+        if (openParenIndex == -1 || closeParenIndex < openParenIndex) {
+            throw new IllegalArgumentException("Invalid arguments \"" + string + "\"");
+        }
+        final String[] arguments = string.substring(openParenIndex + 1, closeParenIndex).split(",");
+        if (arguments.length != expectedArguments) {
+            throw new IllegalArgumentException("Expected " + expectedArguments + " arguments in \"" + string + "\"");
+        }
+        return arguments;
+    }
+
+    /**
+     * Parse a duration in the form "123ns", "123us", "123ms" or "123s".
+     *
+     * @param string the string to parse
+     * @return the parsed duration
+     */
+    @NonNull
+    private static Duration parseDuration(@NonNull final String string) {
+        try {
+            if (string.endsWith("ns")) {
+                return Duration.ofNanos(Long.parseLong(string.substring(0, string.length() - 2)));
+            } else if (string.endsWith("us")) {
+                return Duration.ofNanos(Long.parseLong(string.substring(0, string.length() - 2)) * 1_000);
+            } else if (string.endsWith("ms")) {
+                return Duration.ofMillis(Long.parseLong(string.substring(0, string.length() - 2)));
+            } else if (string.endsWith("s")) {
+                return Duration.ofSeconds(Long.parseLong(string.substring(0, string.length() - 1)));
+            }
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid duration \"" + string + "\"", e);
+        }
+        throw new IllegalArgumentException("Invalid duration \"" + string + "\", expected a unit of ns, us, ms or s");
+    }
+
     /**
      * Try to parse a string as a configuration option that is represented by an enum string and an optional "!".
      *
@@ -17,6 +17,18 @@ public enum TaskSchedulerType {
      * the implementation and performance characteristics are not identical.
      */
     SEQUENTIAL_THREAD,
+    /**
+     * Tasks are executed in a fork join pool in the order they were enqueued, in batches. A single pool task drains up
+     * to the configured maximum batch size of enqueued tasks and executes them one at a time, so there is a happens
+     * before relationship between each task, as with {@link #SEQUENTIAL}. This avoids the per-task scheduling overhead
+     * of {@link #SEQUENTIAL} for fine-grained tasks at high rates.
+     * <p>
+     * Input wires bound with a batch handler (see
+     * {@link com.swirlds.component.framework.wires.input.BindableInputWire#bindBatch(java.util.function.Function)
+     * BindableInputWire.bindBatch()}) receive consecutive inputs of a batch as a single list. If a maximum batch delay
+     * is configured, the first task of a batch may wait up to that long for more tasks before the batch is executed.
+     */
+    BATCHING,
     /**
      * Tasks are executed on a fork join pool. Tasks may be executed in parallel with each other. Ordering is not
      * guaranteed.
@@ -41,8 +53,8 @@ public enum TaskSchedulerType {
      * DIRECT or DIRECT_THREADSAFE vertices, but do not follow edges that lead into SEQUENTIAL, SEQUENTIAL_THREAD,
      * or CONCURRENT vertices.</li>
      * <li>If a DIRECT vertex is reachable starting from a CONCURRENT vertex, the wiring is illegal.</li>
-     * <li>For each vertex with type DIRECT, count the number of unique SEQUENTIAL or SEQUENTIAL_THREAD vertexes that
-     * it can be reached by. If that number exceeds 1, then the wiring is illegal.</li>
+     * <li>For each vertex with type DIRECT, count the number of unique SEQUENTIAL, SEQUENTIAL_THREAD or BATCHING
+     * vertexes that it can be reached by. If that number exceeds 1, then the wiring is illegal.</li>
      * </ul>
      *
      * <p>
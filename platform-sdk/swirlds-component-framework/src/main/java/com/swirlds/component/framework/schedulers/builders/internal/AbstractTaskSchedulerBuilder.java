@@ -51,6 +51,8 @@ public abstract class AbstractTaskSchedulerBuilder<OUT> implements TaskScheduler
     protected UncaughtExceptionHandler uncaughtExceptionHandler;
     protected String hyperlink;
     protected ToLongFunction<Object> dataCounter = data -> 1L;
+    protected int maxBatchSize = 256;
+    protected Duration maxBatchDelay = Duration.ZERO;
 
     protected boolean unhandledTaskMetricEnabled = false;
     protected boolean busyFractionMetricEnabled = false;
@@ -113,6 +115,11 @@ public abstract class AbstractTaskSchedulerBuilder<OUT> implements TaskScheduler
         if (configuration.squelchingEnabled() != null) {
             withSquelchingEnabled(configuration.squelchingEnabled());
         }
+        if (configuration.maxBatchSize() != null) {
+            withBatching(
+                    configuration.maxBatchSize(),
+                    configuration.maxBatchDelay() == null ? maxBatchDelay : configuration.maxBatchDelay());
+        }
         return this;
     }
 
@@ -257,6 +264,24 @@ public abstract class AbstractTaskSchedulerBuilder<OUT> implements TaskScheduler
         return this;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public AbstractTaskSchedulerBuilder<OUT> withBatching(
+            final int maxBatchSize, @NonNull final Duration maxBatchDelay) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Maximum batch size must be positive");
+        }
+        if (maxBatchDelay.isNegative()) {
+            throw new IllegalArgumentException("Maximum batch delay must not be negative");
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchDelay = maxBatchDelay;
+        return this;
+    }
+
     /**
      * Build an uncaught exception handler if one was not provided.
      *
@@ -12,6 +12,7 @@ import com.swirlds.common.metrics.extensions.StandardFractionalTimer;
 import com.swirlds.component.framework.model.StandardWiringModel;
 import com.swirlds.component.framework.schedulers.TaskScheduler;
 import com.swirlds.component.framework.schedulers.builders.TaskSchedulerType;
+import com.swirlds.component.framework.schedulers.internal.BatchingTaskScheduler;
 import com.swirlds.component.framework.schedulers.internal.ConcurrentTaskScheduler;
 import com.swirlds.component.framework.schedulers.internal.DirectTaskScheduler;
 import com.swirlds.component.framework.schedulers.internal.NoOpTaskScheduler;
@@ -140,6 +141,20 @@ public class StandardTaskSchedulerBuilder<OUT> extends AbstractTaskSchedulerBuil
                             flushingEnabled,
                             squelchingEnabled,
                             insertionIsBlocking);
+                    case BATCHING -> new BatchingTaskScheduler<>(
+                            model,
+                            name,
+                            pool,
+                            buildUncaughtExceptionHandler(),
+                            counters.onRamp(),
+                            counters.offRamp(),
+                            busyFractionTimer,
+                            unhandledTaskCapacity,
+                            maxBatchSize,
+                            maxBatchDelay,
+                            flushingEnabled,
+                            squelchingEnabled,
+                            insertionIsBlocking);
                     case SEQUENTIAL_THREAD -> new SequentialThreadTaskScheduler<>(
                             model,
                             name,
@@ -0,0 +1,250 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.component.framework.schedulers.internal;
+
+import com.swirlds.common.metrics.extensions.FractionalTimer;
+import com.swirlds.component.framework.counters.ObjectCounter;
+import com.swirlds.component.framework.model.TraceableWiringModel;
+import com.swirlds.component.framework.schedulers.TaskScheduler;
+import com.swirlds.component.framework.schedulers.builders.TaskSchedulerType;
+import com.swirlds.component.framework.wires.input.BatchHandler;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.lang.Thread.UncaughtExceptionHandler;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * A {@link TaskScheduler} that executes tasks sequentially in the order they are received, in batches. Instead of
+ * scheduling a pool task for each piece of data, a single pool task drains up to {@code maxBatchSize} queued tasks and
+ * executes them one after another. Consecutive tasks for an input wire bound with a {@link BatchHandler} are passed to
+ * the handler as a single list.
+ *
+ * @param <OUT> the output type of the scheduler (use {@link Void} for a task scheduler with no output type)
+ */
+public class BatchingTaskScheduler<OUT> extends TaskScheduler<OUT> {
+
+    /**
+     * A piece of data waiting to be handled.
+     *
+     * @param handler the method that will be called when this task is executed
+     * @param data    the data to be passed to the handler
+     */
+    private record Task(@NonNull Consumer<Object> handler, @NonNull Object data) {}
+
+    private final Queue<Task> tasks = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The number of tasks that have been added to {@link #tasks} and not yet executed. Whoever increments this count
+     * from zero starts the execution of batches, which continues until the count is back at zero. This ensures that at
+     * most one batch is executed at any time.
+     */
+    private final AtomicLong pendingTasks = new AtomicLong();
+
+    /**
+     * The tasks of the batch being executed. Only accessed by the pool task executing the batch.
+     */
+    private final List<Task> batch = new ArrayList<>();
+
+    private final ObjectCounter onRamp;
+    private final ObjectCounter offRamp;
+    private final FractionalTimer busyTimer;
+    private final UncaughtExceptionHandler uncaughtExceptionHandler;
+    private final ForkJoinPool pool;
+    private final Executor delayedPool;
+    private final long capacity;
+    private final int maxBatchSize;
+
+    /**
+     * Constructor.
+     *
+     * @param model                    the wiring model containing this scheduler
+     * @param name                     the name of the task scheduler
+     * @param pool                     the fork join pool that will execute batches on this scheduler
+     * @param uncaughtExceptionHandler the uncaught exception handler. In this scheduler, the handler is executed
+     *                                 immediately after the task that throws the exception.
+     * @param onRamp                   an object counter that is incremented when data is added to the task scheduler
+     * @param offRamp                  an object counter that is decremented when data is removed from the task
+     *                                 scheduler
+     * @param busyTimer                a timer that tracks the amount of time the scheduler is busy
+     * @param capacity                 the maximum desired capacity for this task scheduler
+     * @param maxBatchSize             the maximum number of tasks executed in one batch
+     * @param maxBatchDelay            the maximum time the first task waits for more tasks when the scheduler is idle,
+     *                                 zero to start executing immediately
+     * @param flushEnabled             if true, then {@link #flush()} will be enabled, otherwise it will throw.
+     * @param squelchingEnabled        if true, then squelching will be enabled, otherwise trying to squelch will throw
+     * @param insertionIsBlocking      when data is inserted into this task scheduler, will it block until capacity is
+     *                                 available?
+     */
+    public BatchingTaskScheduler(
+            @NonNull final TraceableWiringModel model,
+            @NonNull final String name,
+            @NonNull final ForkJoinPool pool,
+            @NonNull final UncaughtExceptionHandler uncaughtExceptionHandler,
+            @NonNull final ObjectCounter onRamp,
+            @NonNull final ObjectCounter offRamp,
+            @NonNull final FractionalTimer busyTimer,
+            final long capacity,
+            final int maxBatchSize,
+            @NonNull final Duration maxBatchDelay,
+            final boolean flushEnabled,
+            final boolean squelchingEnabled,
+            final boolean insertionIsBlocking) {
+
+        super(model, name, TaskSchedulerType.BATCHING, flushEnabled, squelchingEnabled, insertionIsBlocking);
+
+        this.pool = Objects.requireNonNull(pool);
+        this.uncaughtExceptionHandler = Objects.requireNonNull(uncaughtExceptionHandler);
+        this.onRamp = Objects.requireNonNull(onRamp);
+        this.offRamp = Objects.requireNonNull(offRamp);
+        this.busyTimer = Objects.requireNonNull(busyTimer);
+        this.capacity = capacity;
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive");
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.delayedPool = maxBatchDelay.isZero()
+                ? pool
+                : CompletableFuture.delayedExecutor(maxBatchDelay.toNanos(), TimeUnit.NANOSECONDS, pool);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void put(@NonNull final Consumer<Object> handler, @NonNull final Object data) {
+        onRamp.onRamp();
+        scheduleTask(handler, data);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean offer(@NonNull final Consumer<Object> handler, @NonNull final Object data) {
+        final boolean accepted = onRamp.attemptOnRamp();
+        if (accepted) {
+            scheduleTask(handler, data);
+        }
+        return accepted;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void inject(@NonNull final Consumer<Object> handler, @NonNull final Object data) {
+        onRamp.forceOnRamp();
+        scheduleTask(handler, data);
+    }
+
+    /**
+     * Schedule a task to be handled. This should only be called after successfully on-ramping (one way or another).
+     *
+     * @param handler the method that will be called when this task is executed
+     * @param data    the data to be passed to the consumer for this task
+     */
+    private void scheduleTask(@NonNull final Consumer<Object> handler, @NonNull final Object data) {
+        // The task must be in the queue before it is counted, so that the executing pool task finds all counted tasks.
+        tasks.add(new Task(handler, data));
+        if (pendingTasks.getAndIncrement() == 0) {
+            delayedPool.execute(this::executeBatch);
+        }
+    }
+
+    /**
+     * Execute the next batch of tasks. If more tasks are pending afterward, the next batch is scheduled on the pool.
+     */
+    private void executeBatch() {
+        while (batch.size() < maxBatchSize) {
+            final Task task = tasks.poll();
+            if (task == null) {
+                break;
+            }
+            batch.add(task);
+        }
+        final int batchSize = batch.size();
+
+        busyTimer.activate();
+        try {
+            int index = 0;
+            while (index < batchSize) {
+                index = executeTasks(index);
+            }
+        } finally {
+            batch.clear();
+            offRamp.offRamp(batchSize);
+            busyTimer.deactivate();
+
+            if (pendingTasks.addAndGet(-batchSize) > 0) {
+                pool.execute(this::executeBatch);
+            }
+        }
+    }
+
+    /**
+     * Execute the task at the given index of the batch. If it is for a {@link BatchHandler}, all following tasks for
+     * the same handler are executed with it.
+     *
+     * @param index the index of the first task to execute
+     * @return the index of the first task not executed
+     */
+    private int executeTasks(final int index) {
+        final Task task = batch.get(index);
+        int end = index + 1;
+        try {
+            if (task.handler() instanceof final BatchHandler batchHandler) {
+                while (end < batch.size() && batch.get(end).handler() == batchHandler) {
+                    end++;
+                }
+                if (end - index == 1) {
+                    batchHandler.accept(task.data());
+                } else {
+                    final List<Object> data = new ArrayList<>(end - index);
+                    for (int i = index; i < end; i++) {
+                        data.add(batch.get(i).data());
+                    }
+                    batchHandler.acceptBatch(data);
+                }
+            } else {
+                task.handler().accept(task.data());
+            }
+        } catch (final Throwable t) {
+            uncaughtExceptionHandler.uncaughtException(Thread.currentThread(), t);
+        }
+        return end;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getUnprocessedTaskCount() {
+        return onRamp.getCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void flush() {
+        throwIfFlushDisabled();
+        onRamp.waitUntilEmpty();
+    }
+}
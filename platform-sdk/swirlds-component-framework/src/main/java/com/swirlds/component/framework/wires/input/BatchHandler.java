@@ -0,0 +1,46 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.component.framework.wires.input;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * The handler of an input wire that is bound to a method accepting a list of inputs. A
+ * {@link com.swirlds.component.framework.schedulers.builders.TaskSchedulerType#BATCHING BATCHING} task scheduler
+ * passes consecutive inputs for the same handler as a single list to {@link #acceptBatch(List)}. Other task scheduler
+ * types pass each input on its own, as a list of one element.
+ */
+public final class BatchHandler implements Consumer<Object> {
+
+    private final Consumer<List<Object>> handler;
+
+    /**
+     * Constructor.
+     *
+     * @param handler the method that handles a list of inputs
+     */
+    BatchHandler(@NonNull final Consumer<List<Object>> handler) {
+        this.handler = Objects.requireNonNull(handler);
+    }
+
+    /**
+     * Handle a single input.
+     *
+     * @param data the input
+     */
+    @Override
+    public void accept(@NonNull final Object data) {
+        handler.accept(List.of(data));
+    }
+
+    /**
+     * Handle a list of inputs. The list must not be modified by the handler.
+     *
+     * @param batch the inputs, in the order they were received
+     */
+    public void acceptBatch(@NonNull final List<Object> batch) {
+        handler.accept(batch);
+    }
+}
@@ -6,6 +6,7 @@ import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerT
 import com.swirlds.component.framework.model.TraceableWiringModel;
 import com.swirlds.component.framework.schedulers.TaskScheduler;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -100,4 +101,62 @@ public class BindableInputWire<IN, OUT> extends InputWire<IN> implements Bindabl
         });
         model.registerInputWireBinding(taskSchedulerName, getName());
     }
+
+    /**
+     * Bind this input wire to a handler that accepts a list of inputs. For things that don't send data to the output
+     * wire. A {@link com.swirlds.component.framework.schedulers.builders.TaskSchedulerType#BATCHING BATCHING} task
+     * scheduler passes consecutive inputs as one list, other task schedulers pass each input as a list of one element.
+     *
+     * @param handler the handler to bind to this input wire, must not modify the list
+     * @throws IllegalStateException if a handler is already bound and this method is called a second time
+     */
+    @SuppressWarnings("unchecked")
+    public void bindBatchConsumer(@NonNull final Consumer<List<IN>> handler) {
+        Objects.requireNonNull(handler);
+        if (noOp) {
+            return;
+        }
+        setHandler(new BatchHandler(batch -> {
+            if (currentlySquelching.get()) {
+                return;
+            }
+
+            handler.accept((List<IN>) (List<?>) batch);
+        }));
+        model.registerInputWireBinding(taskSchedulerName, getName());
+    }
+
+    /**
+     * Bind this input wire to a handler that accepts a list of inputs. A
+     * {@link com.swirlds.component.framework.schedulers.builders.TaskSchedulerType#BATCHING BATCHING} task scheduler
+     * passes consecutive inputs as one list, other task schedulers pass each input as a list of one element.
+     *
+     * @param handler the handler to bind to this input wire, must not modify the list. Non-null values in the
+     *                returned list are passed to the primary output wire of the associated scheduler, in order. May
+     *                return null if there is no output.
+     * @throws IllegalStateException if a handler is already bound and this method is called a second time
+     */
+    @SuppressWarnings("unchecked")
+    public void bindBatch(@NonNull final Function<List<IN>, List<OUT>> handler) {
+        Objects.requireNonNull(handler);
+        if (noOp) {
+            return;
+        }
+        setHandler(new BatchHandler(batch -> {
+            if (currentlySquelching.get()) {
+                return;
+            }
+
+            final List<OUT> outputs = handler.apply((List<IN>) (List<?>) batch);
+            if (outputs == null) {
+                return;
+            }
+            for (final OUT output : outputs) {
+                if (output != null) {
+                    taskSchedulerInput.forward(output);
+                }
+            }
+        }));
+        model.registerInputWireBinding(taskSchedulerName, getName());
+    }
 }
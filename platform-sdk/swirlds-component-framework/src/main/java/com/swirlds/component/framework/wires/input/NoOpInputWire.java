@@ -4,6 +4,7 @@ package com.swirlds.component.framework.wires.input;
 import com.swirlds.component.framework.model.TraceableWiringModel;
 import com.swirlds.component.framework.schedulers.TaskScheduler;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -45,6 +46,22 @@ public class NoOpInputWire<IN, OUT> extends BindableInputWire<IN, OUT> {
         // intentional no-op
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void bindBatchConsumer(@NonNull final Consumer<List<IN>> handler) {
+        // intentional no-op
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void bindBatch(@NonNull final Function<List<IN>, List<OUT>> handler) {
+        // intentional no-op
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.swirlds.component.framework.schedulers.builders.TaskSchedulerConfiguration;
 import com.swirlds.component.framework.schedulers.builders.TaskSchedulerType;
+import java.time.Duration;
 import java.util.Random;
 import org.junit.jupiter.api.Test;
 
@@ -24,6 +25,8 @@ class TaskSchedulerConfigurationTests {
         assertNull(config.busyFractionMetricEnabled());
         assertNull(config.flushingEnabled());
         assertNull(config.squelchingEnabled());
+        assertNull(config.maxBatchSize());
+        assertNull(config.maxBatchDelay());
     }
 
     @Test
@@ -132,6 +135,24 @@ class TaskSchedulerConfigurationTests {
         assertThrows(IllegalArgumentException.class, () -> TaskSchedulerConfiguration.parse("SQUELCHABLE SQUELCHABLE"));
     }
 
+    @Test
+    void batchTest() {
+        final TaskSchedulerConfiguration config = TaskSchedulerConfiguration.parse("BATCHING BATCH(64,500us)");
+        assertEquals(TaskSchedulerType.BATCHING, config.type());
+        assertEquals(64, config.maxBatchSize());
+        assertEquals(Duration.ofNanos(500_000), config.maxBatchDelay());
+
+        assertEquals(Duration.ZERO, TaskSchedulerConfiguration.parse("BATCH(1,0ns)").maxBatchDelay());
+        assertEquals(Duration.ofMillis(2), TaskSchedulerConfiguration.parse("BATCH(1,2ms)").maxBatchDelay());
+        assertEquals(Duration.ofSeconds(3), TaskSchedulerConfiguration.parse("BATCH(1,3s)").maxBatchDelay());
+
+        assertThrows(IllegalArgumentException.class, () -> TaskSchedulerConfiguration.parse("BATCH(64)"));
+        assertThrows(IllegalArgumentException.class, () -> TaskSchedulerConfiguration.parse("BATCH(x,1ms)"));
+        assertThrows(IllegalArgumentException.class, () -> TaskSchedulerConfiguration.parse("BATCH(64,1)"));
+        assertThrows(
+                IllegalArgumentException.class, () -> TaskSchedulerConfiguration.parse("BATCH(64,1ms) BATCH(64,1ms)"));
+    }
+
     @Test
     void unmatchedFieldTest() {
         assertThrows(
@@ -14,6 +14,7 @@ import com.swirlds.component.framework.wires.input.InputWire;
 import com.swirlds.component.framework.wires.output.OutputWire;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -129,6 +130,28 @@ public class ComponentWiringTests {
         }
     }
 
+    private interface BatchComponent {
+        @NonNull
+        List<Long> handleBatch(@NonNull List<Integer> inputs);
+
+        void countBatch(@NonNull List<String> inputs);
+    }
+
+    private static class BatchComponentImpl implements BatchComponent {
+        private final List<Integer> counts = new ArrayList<>();
+
+        @NonNull
+        @Override
+        public List<Long> handleBatch(@NonNull final List<Integer> inputs) {
+            return inputs.stream().map(i -> (long) i * 2).toList();
+        }
+
+        @Override
+        public void countBatch(@NonNull final List<String> inputs) {
+            counts.add(inputs.size());
+        }
+    }
+
     /**
      * The framework should not permit methods that aren't on the component to be wired.
      */
@@ -504,4 +527,47 @@ public class ComponentWiringTests {
 
         assertEquals(expectedOutputData, outputData);
     }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1})
+    void batchInputWireTest(final int bindLocation) {
+        final WiringModel wiringModel =
+                WiringModelBuilder.create(new NoOpMetrics(), Time.getCurrent()).build();
+
+        final TaskSchedulerConfiguration schedulerConfiguration =
+                TaskSchedulerConfiguration.parse("BATCHING BATCH(8,0ns) FLUSHABLE");
+
+        final ComponentWiring<BatchComponent, Long> componentWiring =
+                new ComponentWiring<>(wiringModel, BatchComponent.class, schedulerConfiguration);
+
+        final BatchComponentImpl component = new BatchComponentImpl();
+        if (bindLocation == 0) {
+            componentWiring.bind(component);
+        }
+
+        final InputWire<Integer> handleInput = componentWiring.getBatchInputWire(BatchComponent::handleBatch);
+        assertSame(handleInput, componentWiring.getBatchInputWire(BatchComponent::handleBatch));
+        final InputWire<String> countInput = componentWiring.getBatchInputWire(BatchComponent::countBatch);
+        assertEquals("handleBatch", handleInput.getName());
+
+        final List<Long> outputData = Collections.synchronizedList(new ArrayList<>());
+        componentWiring.getOutputWire().solderTo("addToOutputData", "output", outputData::add);
+
+        if (bindLocation == 1) {
+            componentWiring.bind(component);
+        }
+
+        wiringModel.start();
+        final List<Long> expectedOutputData = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            handleInput.put(i);
+            countInput.put("count");
+            expectedOutputData.add(i * 2L);
+        }
+        componentWiring.flush();
+        wiringModel.stop();
+
+        assertEquals(expectedOutputData, List.copyOf(outputData));
+        assertEquals(100, component.counts.stream().mapToInt(Integer::intValue).sum());
+    }
 }
@@ -0,0 +1,139 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.component.framework.schedulers;
+
+import static com.swirlds.common.test.fixtures.AssertionUtils.assertEventuallyEquals;
+import static com.swirlds.component.framework.schedulers.builders.TaskSchedulerBuilder.UNLIMITED_CAPACITY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.component.framework.TestWiringModelBuilder;
+import com.swirlds.component.framework.model.WiringModel;
+import com.swirlds.component.framework.schedulers.builders.TaskSchedulerType;
+import com.swirlds.component.framework.wires.input.BindableInputWire;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class BatchingTaskSchedulerTests {
+
+    /**
+     * Inputs that queue up while a batch is being handled are passed to a batch handler as lists of up to the maximum
+     * batch size, in order.
+     */
+    @Test
+    void batchHandlerTest() {
+        final WiringModel model = TestWiringModelBuilder.create();
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        final List<Integer> handled = Collections.synchronizedList(new ArrayList<>());
+        final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+
+        final TaskScheduler<Integer> taskScheduler = model.<Integer>schedulerBuilder("test")
+                .withType(TaskSchedulerType.BATCHING)
+                .withBatching(4, Duration.ZERO)
+                .withUnhandledTaskCapacity(UNLIMITED_CAPACITY)
+                .build();
+        final BindableInputWire<Integer, Integer> channel = taskScheduler.buildInputWire("channel");
+        channel.bindBatch(batch -> {
+            if (batch.contains(0)) {
+                try {
+                    latch.await();
+                } catch (final InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+            batchSizes.add(batch.size());
+            handled.addAll(batch);
+            return batch.stream().map(x -> -x).toList();
+        });
+        final List<Integer> outputs = Collections.synchronizedList(new ArrayList<>());
+        taskScheduler.getOutputWire().solderTo("output", "output", outputs::add);
+
+        model.start();
+        for (int i = 0; i < 20; i++) {
+            channel.put(i);
+        }
+        latch.countDown();
+
+        final List<Integer> expected = IntStream.range(0, 20).boxed().toList();
+        assertEventuallyEquals(expected, () -> List.copyOf(handled), Duration.ofSeconds(10), "inputs not handled");
+        assertEventuallyEquals(
+                expected.stream().map(x -> -x).toList(),
+                () -> List.copyOf(outputs),
+                Duration.ofSeconds(10),
+                "outputs not forwarded");
+        assertTrue(batchSizes.stream().allMatch(size -> size <= 4));
+        // all inputs after the first batch were queued while it was being handled
+        assertEquals(4, batchSizes.get(1));
+
+        model.stop();
+    }
+
+    /**
+     * Inputs for batch handlers and plain handlers on the same scheduler are handled in the order they were received.
+     */
+    @Test
+    void mixedHandlersTest() {
+        final WiringModel model = TestWiringModelBuilder.create();
+
+        final List<Integer> handled = Collections.synchronizedList(new ArrayList<>());
+
+        final TaskScheduler<Void> taskScheduler = model.<Void>schedulerBuilder("test")
+                .withType(TaskSchedulerType.BATCHING)
+                .withBatching(16, Duration.ofMillis(1))
+                .withUnhandledTaskCapacity(UNLIMITED_CAPACITY)
+                .withFlushingEnabled(true)
+                .build();
+        final BindableInputWire<Integer, Void> batchChannel = taskScheduler.buildInputWire("batch");
+        batchChannel.bindBatchConsumer(handled::addAll);
+        final BindableInputWire<Integer, Void> plainChannel = taskScheduler.buildInputWire("plain");
+        plainChannel.bindConsumer(handled::add);
+
+        model.start();
+        for (int i = 0; i < 1000; i++) {
+            if (i % 7 < 4) {
+                batchChannel.put(i);
+            } else {
+                plainChannel.put(i);
+            }
+        }
+        taskScheduler.flush();
+
+        assertEquals(IntStream.range(0, 1000).boxed().toList(), List.copyOf(handled));
+        assertEquals(0, taskScheduler.getUnprocessedTaskCount());
+
+        model.stop();
+    }
+
+    /**
+     * A batch handler on a scheduler that is not batching receives each input as a list of one element.
+     */
+    @Test
+    void batchHandlerOnSequentialSchedulerTest() {
+        final WiringModel model = TestWiringModelBuilder.create();
+
+        final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+
+        final TaskScheduler<Void> taskScheduler = model.<Void>schedulerBuilder("test")
+                .withType(TaskSchedulerType.SEQUENTIAL)
+                .withUnhandledTaskCapacity(UNLIMITED_CAPACITY)
+                .withFlushingEnabled(true)
+                .build();
+        final BindableInputWire<Integer, Void> channel = taskScheduler.buildInputWire("channel");
+        channel.bindBatchConsumer(batch -> batchSizes.add(batch.size()));
+
+        model.start();
+        for (int i = 0; i < 10; i++) {
+            channel.put(i);
+        }
+        taskScheduler.flush();
+
+        assertEquals(Collections.nCopies(10, 1), List.copyOf(batchSizes));
+
+        model.stop();
+    }
+}
@@ -81,7 +81,7 @@ class SequentialTaskSchedulerTests {
      * Add values to the task scheduler, ensure that each value was processed in the correct order.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "BATCHING"})
     void orderOfOperationsTest(final String typeString) {
         final WiringModel model = TestWiringModelBuilder.create();
 
@@ -121,7 +121,7 @@ class SequentialTaskSchedulerTests {
      * (which will fail the test).
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "BATCHING"})
     void orderOfOperationsWithDelayTest(final String typeString) {
         final WiringModel model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -164,7 +164,7 @@ class SequentialTaskSchedulerTests {
      * sequentially regardless of the number of threads adding work.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "BATCHING"})
     void multipleChannelsTest(final String typeString) {
         final WiringModel model = TestWiringModelBuilder.create();
         final TaskSchedulerType type = TaskSchedulerType.valueOf(typeString);
@@ -444,7 +444,7 @@ class SequentialTaskSchedulerTests {
      * Make sure backpressure works.
      */
     @ParameterizedTest
-    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD"})
+    @ValueSource(strings = {"SEQUENTIAL", "SEQUENTIAL_THREAD", "BATCHING"})
     void backpressureTest(final String typeString) throws InterruptedException {
 
         final WiringModel model = WiringModelBuilder.create(new NoOpMetrics(), Time.getCurrent())
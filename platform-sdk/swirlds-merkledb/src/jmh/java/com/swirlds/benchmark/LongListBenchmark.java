@@ -1,9 +1,16 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.swirlds.benchmark;
 
+import com.swirlds.common.config.StateCommonConfig;
+import com.swirlds.common.io.config.TemporaryFileConfig;
+import com.swirlds.config.api.Configuration;
+import com.swirlds.config.api.ConfigurationBuilder;
 import com.swirlds.merkledb.collections.LongList;
+import com.swirlds.merkledb.collections.LongListDisk;
 import com.swirlds.merkledb.collections.LongListHeap;
+import com.swirlds.merkledb.collections.LongListMapped;
 import com.swirlds.merkledb.collections.LongListOffHeap;
+import com.swirlds.merkledb.config.MerkleDbConfig;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryPoolMXBean;
 import java.lang.management.MemoryType;
@@ -22,6 +29,7 @@ import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Warmup;
 
 @State(Scope.Thread)
@@ -37,15 +45,23 @@ public class LongListBenchmark {
     private LongList list;
     private int nextIndex = INITIAL_DATA_SIZE;
 
-    @Param({"LongListHeap", "LongListOffHeap"})
+    @Param({"LongListHeap", "LongListOffHeap", "LongListDisk", "LongListMapped"})
     public String listImpl;
 
     @Setup(Level.Trial)
     public void setup() {
         random = new Random(1234);
+        // Disk based lists need a config to create temp files
+        final Configuration config = ConfigurationBuilder.create()
+                .withConfigDataType(MerkleDbConfig.class)
+                .withConfigDataType(TemporaryFileConfig.class)
+                .withConfigDataType(StateCommonConfig.class)
+                .build();
         list = switch (listImpl) {
             default -> new LongListHeap(1024 * 1024, INITIAL_DATA_SIZE, 256 * 1024);
-            case "LongListOffHeap" -> new LongListOffHeap(1024 * 1024, INITIAL_DATA_SIZE, 256 * 1024);};
+            case "LongListOffHeap" -> new LongListOffHeap(1024 * 1024, INITIAL_DATA_SIZE, 256 * 1024);
+            case "LongListDisk" -> new LongListDisk(1024 * 1024, INITIAL_DATA_SIZE, 256 * 1024, config);
+            case "LongListMapped" -> new LongListMapped(1024 * 1024, INITIAL_DATA_SIZE, 256 * 1024, config);};
         // fill with some data
         for (int i = 0; i < INITIAL_DATA_SIZE; i++) {
             list.put(i, i + 1);
@@ -55,6 +71,11 @@ public class LongListBenchmark {
         printMemoryUsage();
     }
 
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        list.close();
+    }
+
     @Setup(Level.Invocation)
     public void randomIndex() {
         randomIndex = random.nextInt(INITIAL_DATA_SIZE - 1) + 1;
@@ -7,8 +7,12 @@ import com.swirlds.virtualmap.datasource.VirtualLeafBytes;
 import com.swirlds.virtualmap.datasource.VirtualLeafRecord;
 import com.swirlds.virtualmap.serialize.KeySerializer;
 import com.swirlds.virtualmap.serialize.ValueSerializer;
-import java.util.ArrayList;
-import java.util.List;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import org.hiero.base.crypto.Hash;
 
 // Note: This class is intended to be used with a human in the loop who is watching standard in and standard err.
@@ -20,6 +24,9 @@ public class DataSourceValidator<K extends VirtualKey, V extends VirtualValue> {
 
     private static final String WHITESPACE = " ".repeat(20);
 
+    /** Max number of paths to check in a single task without splitting, in parallel mode */
+    private static final int PATHS_PER_TASK = 1024;
+
     /** Virtual key serializer */
     private final KeySerializer<K> keySerializer;
 
@@ -53,32 +60,42 @@ public class DataSourceValidator<K extends VirtualKey, V extends VirtualValue> {
      * @return true if all data was valid
      */
     public boolean validate() {
+        return validate(1);
+    }
+
+    /**
+     * Validate all data in the data source using the given number of threads. If the number is
+     * greater than one, paths are split into ranges, which are checked in parallel using a fork-join
+     * task tree. Every stage, e.g. internal hashes or leaves by key, is still completed before the
+     * next stage is started.
+     *
+     * @param parallelism
+     * 		the number of threads to use
+     * @return true if all data was valid
+     */
+    public boolean validate(final int parallelism) {
+        final ForkJoinPool pool = parallelism > 1 ? new ForkJoinPool(parallelism) : null;
         try {
             final long firstLeafPath = dataSource.getFirstLeafPath();
             final long lastLeafPath = dataSource.getLastLeafPath();
             final int leafCount = Math.toIntExact((lastLeafPath - firstLeafPath) + 1);
             // iterate over internal nodes and get them all
             System.out.printf("Validating %,d internal node hashes...%n", firstLeafPath);
-            progressPercentage = 0;
-            for (long path = 0; path < firstLeafPath; path++) {
+            checkPaths(pool, 0, firstLeafPath, path -> {
                 final Hash hash = dataSource.loadHash(path);
                 assertTrue(hash != null, "internal record's hash for path [" + path + "] was null");
-                printProgress(path, firstLeafPath);
-            }
+            });
             System.out.println("All internal node hashes are valid :-)" + WHITESPACE);
             // iterate over leaf nodes and get them all
             System.out.printf("Validating %,d leaf hashes...%n", firstLeafPath);
-            progressPercentage = 0;
-            for (long path = firstLeafPath; path <= lastLeafPath; path++) {
+            checkPaths(pool, firstLeafPath, lastLeafPath + 1, path -> {
                 Hash leafHash = dataSource.loadHash(path);
                 assertTrue(leafHash == null, "leaf record's hash for path [" + path + "] was not null");
-                printProgress(path - firstLeafPath, leafCount);
-            }
+            });
             System.out.println("All leaf hashes are null :-)" + WHITESPACE);
             System.out.printf("Validating %,d leaf record by path...%n", firstLeafPath);
-            List<K> keys = new ArrayList<>(leafCount);
-            progressPercentage = 0;
-            for (long path = firstLeafPath; path <= lastLeafPath; path++) {
+            final AtomicReferenceArray<K> keys = new AtomicReferenceArray<>(leafCount);
+            checkPaths(pool, firstLeafPath, lastLeafPath + 1, path -> {
                 VirtualLeafBytes leafBytes = dataSource.loadLeafRecord(path);
                 assertTrue(leafBytes != null, "leaf record for path [" + path + "] was null");
                 assertTrue(
@@ -86,34 +103,120 @@ public class DataSourceValidator<K extends VirtualKey, V extends VirtualValue> {
                         "leaf record for path [" + path + "] had a bad path [" + leafBytes.path() + "]");
                 VirtualLeafRecord<K, V> leaf = leafBytes.toRecord(keySerializer, valueSerializer);
                 assertTrue(leaf.getKey() != null, "leaf record's key for path [" + path + "] was null");
-                keys.add(leaf.getKey());
-                printProgress(path - firstLeafPath, leafCount);
-            }
+                keys.set(Math.toIntExact(path - firstLeafPath), leaf.getKey());
+            });
             System.out.println("All leaf record by path are valid :-)" + WHITESPACE);
             System.out.printf("Validating %,d leaf record by key...%n", leafCount);
-            progressPercentage = 0;
-            for (int i = 0; i < keys.size(); i++) {
-                VirtualLeafBytes leafBytes = dataSource.loadLeafRecord(
-                        keySerializer.toBytes(keys.get(i)), keys.get(i).hashCode());
-                assertTrue(leafBytes != null, "leaf record for key [" + keys.get(i) + "] was null");
+            checkPaths(pool, 0, leafCount, i -> {
+                final K key = keys.get(Math.toIntExact(i));
+                VirtualLeafBytes leafBytes = dataSource.loadLeafRecord(keySerializer.toBytes(key), key.hashCode());
+                assertTrue(leafBytes != null, "leaf record for key [" + key + "] was null");
                 VirtualLeafRecord<K, V> leaf = leafBytes.toRecord(keySerializer, valueSerializer);
-                assertTrue(leaf.getKey() != null, "leaf record's key for key [" + keys.get(i) + "] was null");
+                assertTrue(leaf.getKey() != null, "leaf record's key for key [" + key + "] was null");
                 assertTrue(
-                        leaf.getKey().equals(keys.get(i)),
-                        "leaf record's key for key [" + keys.get(i) + "] did not match, it was [" + leaf.getKey()
-                                + "]");
-                printProgress(i, keys.size());
-            }
+                        leaf.getKey().equals(key),
+                        "leaf record's key for key [" + key + "] did not match, it was [" + leaf.getKey() + "]");
+            });
             System.out.println("All leaf record by key are valid :-)" + WHITESPACE);
             System.out.println("YAY all data is good!");
         } catch (final Exception e) {
             System.out.println(e.getMessage());
             e.printStackTrace();
             return false;
+        } finally {
+            if (pool != null) {
+                pool.shutdown();
+            }
         }
         return true;
     }
 
+    /**
+     * A check of a single path (or index), which may fail with an I/O error.
+     */
+    @FunctionalInterface
+    private interface PathCheck {
+        void check(long path) throws IOException;
+    }
+
+    /**
+     * Run the check for all paths in the given range and print progress. If the pool is null, paths
+     * are checked sequentially on the current thread.
+     *
+     * @param pool
+     * 		the pool to run checks in parallel, or null
+     * @param from
+     * 		the first path to check, inclusive
+     * @param to
+     * 		the last path to check, exclusive
+     * @param check
+     * 		the check to run
+     */
+    private void checkPaths(final ForkJoinPool pool, final long from, final long to, final PathCheck check)
+            throws IOException {
+        progressPercentage = 0;
+        final long total = to - from;
+        if (pool == null) {
+            for (long path = from; path < to; path++) {
+                check.check(path);
+                printProgress(path - from, total);
+            }
+        } else {
+            try {
+                pool.invoke(new CheckPathsTask(from, to, check, new AtomicLong(0), total));
+            } catch (final UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    /**
+     * A fork-join task to check a range of paths. The range is split in halves, till it's small
+     * enough to be checked by a single thread.
+     */
+    private class CheckPathsTask extends RecursiveAction {
+
+        private final long from;
+        private final long to;
+        private final PathCheck check;
+        private final AtomicLong checked;
+        private final long total;
+
+        CheckPathsTask(
+                final long from,
+                final long to,
+                final PathCheck check,
+                final AtomicLong checked,
+                final long total) {
+            this.from = from;
+            this.to = to;
+            this.check = check;
+            this.checked = checked;
+            this.total = total;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PATHS_PER_TASK) {
+                try {
+                    for (long path = from; path < to; path++) {
+                        check.check(path);
+                    }
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                if (to > from) {
+                    printProgress(checked.addAndGet(to - from), total);
+                }
+            } else {
+                final long mid = (from + to) >>> 1;
+                invokeAll(
+                        new CheckPathsTask(from, mid, check, checked, total),
+                        new CheckPathsTask(mid, to, check, checked, total));
+            }
+        }
+    }
+
     /**
      * Check something is true and throw an error if not
      */
@@ -131,7 +234,7 @@ public class DataSourceValidator<K extends VirtualKey, V extends VirtualValue> {
      * @param total
      * 		the position value for 100%
      */
-    private void printProgress(long position, long total) {
+    private synchronized void printProgress(long position, long total) {
         assert position >= 0 : "position [" + position + "] is < 0";
         assert total > 0 : "total [" + total + "] is <= 0";
         int newProgressPercentage = (int) (((double) position / (double) total) * 20);
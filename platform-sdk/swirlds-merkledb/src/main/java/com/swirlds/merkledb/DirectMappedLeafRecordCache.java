@@ -0,0 +1,96 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.merkledb;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.virtualmap.datasource.VirtualLeafBytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Virtual leaf records cache. It's a simple array indexed by leaf keys % cache size. Cache
+ * eviction is not needed, as array size is fixed and can be configured in MerkleDb settings.
+ * Index conflicts are resolved in a very straightforward way: whatever entry is read last, it's
+ * put to the cache.
+ */
+public final class DirectMappedLeafRecordCache implements LeafRecordCache {
+
+    private final VirtualLeafBytes[] entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a new direct-mapped cache.
+     *
+     * @param cacheSize cache size, in entries
+     */
+    public DirectMappedLeafRecordCache(final int cacheSize) {
+        if (cacheSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+        entries = new VirtualLeafBytes[cacheSize];
+    }
+
+    private int index(final int keyHashCode) {
+        return Math.abs(keyHashCode % entries.length);
+    }
+
+    /** {@inheritDoc} */
+    @Nullable
+    @Override
+    public VirtualLeafBytes get(@NonNull final Bytes keyBytes, final int keyHashCode) {
+        // No synchronization is needed here. Java guarantees (JLS 17.7) that reference writes
+        // are atomic, so we will never get corrupted objects from the array. The object may
+        // be overwritten in the cache in a different thread in parallel, but it isn't a
+        // problem as cached entry key is checked below anyway
+        final VirtualLeafBytes cached = entries[index(keyHashCode)];
+        if ((cached != null) && keyBytes.equals(cached.keyBytes())) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        return null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void put(final int keyHashCode, @NonNull final VirtualLeafBytes leafBytes) {
+        final int index = index(keyHashCode);
+        final VirtualLeafBytes prev = entries[index];
+        if ((prev != null) && !prev.keyBytes().equals(leafBytes.keyBytes())) {
+            evictions.increment();
+        }
+        // No synchronization is needed here, see the comment above
+        entries[index] = leafBytes;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void invalidate(@NonNull final Bytes keyBytes, final int keyHashCode) {
+        final int index = index(keyHashCode);
+        final VirtualLeafBytes cached = entries[index];
+        if ((cached != null) && keyBytes.equals(cached.keyBytes())) {
+            entries[index] = null;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getAndResetHits() {
+        return hits.sumThenReset();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getAndResetMisses() {
+        return misses.sumThenReset();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getAndResetEvictions() {
+        return evictions.sumThenReset();
+    }
+}
@@ -0,0 +1,80 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.merkledb;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.merkledb.config.MerkleDbConfig;
+import com.swirlds.virtualmap.datasource.VirtualLeafBytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Virtual leaf records cache used by {@link MerkleDbDataSource} to avoid disk reads for
+ * frequently accessed keys. Cache entries may contain full leaf records, or just keys and
+ * paths (with null values), or even keys with {@code INVALID_PATH} paths for negative lookup
+ * results.
+ *
+ * <p>Implementations don't use any locks. Cache methods may be called from multiple threads
+ * in parallel. Lookups may occasionally miss an entry, which has just been put to the cache
+ * by another thread, but they never return an entry for a different key.
+ */
+public interface LeafRecordCache {
+
+    /**
+     * Creates a leaf records cache as configured in the given MerkleDb config. If the cache is
+     * disabled, that is if {@link MerkleDbConfig#leafRecordCacheSize()} is zero, this method
+     * returns {@code null}.
+     *
+     * @param merkleDbConfig MerkleDb config
+     * @return the cache, or null if the cache is disabled
+     */
+    @Nullable
+    static LeafRecordCache create(@NonNull final MerkleDbConfig merkleDbConfig) {
+        final int cacheSize = merkleDbConfig.leafRecordCacheSize();
+        if (cacheSize <= 0) {
+            return null;
+        }
+        final int ways = merkleDbConfig.leafRecordCacheWays();
+        return (ways <= 1)
+                ? new DirectMappedLeafRecordCache(cacheSize)
+                : new SetAssociativeLeafRecordCache(cacheSize, ways);
+    }
+
+    /**
+     * Looks up a cache entry for the given key.
+     *
+     * @param keyBytes virtual key
+     * @param keyHashCode virtual key hash code
+     * @return the cache entry for the key, or null if the key isn't in the cache
+     */
+    @Nullable
+    VirtualLeafBytes get(@NonNull Bytes keyBytes, int keyHashCode);
+
+    /**
+     * Puts a cache entry for the given key. Depending on implementation, the entry may or may
+     * not be admitted to the cache, and some other entry may be evicted.
+     *
+     * @param keyHashCode virtual key hash code
+     * @param leafBytes cache entry to put, its key must match the key hash code
+     */
+    void put(int keyHashCode, @NonNull VirtualLeafBytes leafBytes);
+
+    /**
+     * Removes the given key from the cache, if present.
+     *
+     * @param keyBytes virtual key
+     * @param keyHashCode virtual key hash code
+     */
+    void invalidate(@NonNull Bytes keyBytes, int keyHashCode);
+
+    /** Gets the number of cache hits since the last call to this method and resets it to zero. */
+    long getAndResetHits();
+
+    /** Gets the number of cache misses since the last call to this method and resets it to zero. */
+    long getAndResetMisses();
+
+    /**
+     * Gets the number of cache entries evicted to free space for other entries since the last
+     * call to this method and resets it to zero.
+     */
+    long getAndResetEvictions();
+}
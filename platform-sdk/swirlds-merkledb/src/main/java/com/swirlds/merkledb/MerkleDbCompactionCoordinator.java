@@ -17,12 +17,17 @@ import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -33,6 +38,9 @@ import org.apache.logging.log4j.Logger;
  * and keep them disabled until they are explicitly enabled again.
  * The compaction tasks are executed in a background thread pool.
  * The number of threads in the pool is defined by {@link MerkleDbConfig#compactionThreads()} property.
+ * The pool is shared by all MerkleDb tables. If there are more pending compaction tasks than threads,
+ * the tasks expected to reclaim the most disk space per byte copied are executed first, see
+ * {@link DataFileCompactor#getCompactionPriority()}.
  *
  */
 class MerkleDbCompactionCoordinator {
@@ -58,12 +66,8 @@ class MerkleDbCompactionCoordinator {
         requireNonNull(merkleDbConfig);
 
         if (compactionExecutor == null) {
-            compactionExecutor = new ThreadPoolExecutor(
+            compactionExecutor = new PrioritizedCompactionExecutor(
                     merkleDbConfig.compactionThreads(),
-                    merkleDbConfig.compactionThreads(),
-                    50L,
-                    TimeUnit.MILLISECONDS,
-                    new LinkedBlockingQueue<>(),
                     new ThreadConfiguration(getStaticThreadManager())
                             .setThreadGroup(new ThreadGroup("Compaction"))
                             .setComponent(MERKLEDB_COMPONENT)
@@ -174,7 +178,7 @@ class MerkleDbCompactionCoordinator {
         assert !compactorsByName.containsKey(key);
         compactorsByName.put(key, compactor);
         final ExecutorService executor = getCompactionExecutor(merkleDbConfig);
-        final CompactionTask task = new CompactionTask(key, compactor);
+        final CompactionTask task = new CompactionTask(key, compactor, compactor.getCompactionPriority());
         futuresByName.put(key, executor.submit(task));
     }
 
@@ -203,9 +207,13 @@ class MerkleDbCompactionCoordinator {
         // Compactor to run
         private final DataFileCompactor compactor;
 
-        public CompactionTask(@NonNull String id, @NonNull DataFileCompactor compactor) {
+        // Task priority, estimated when the task is submitted
+        private final double priority;
+
+        public CompactionTask(@NonNull String id, @NonNull DataFileCompactor compactor, final double priority) {
             this.id = id;
             this.compactor = compactor;
+            this.priority = priority;
         }
 
         @Override
@@ -227,4 +235,51 @@ class MerkleDbCompactionCoordinator {
             return false;
         }
     }
+
+    /**
+     * A thread pool executor, which runs queued compaction tasks in priority order rather than
+     * in submission order. Tasks with equal priorities are executed in submission order.
+     */
+    private static class PrioritizedCompactionExecutor extends ThreadPoolExecutor {
+
+        // Submission order of tasks with equal priorities
+        private final AtomicLong sequence = new AtomicLong(0);
+
+        PrioritizedCompactionExecutor(final int threads, @NonNull final ThreadFactory threadFactory) {
+            super(threads, threads, 50L, TimeUnit.MILLISECONDS, new PriorityBlockingQueue<>(), threadFactory);
+        }
+
+        @Override
+        protected <T> RunnableFuture<T> newTaskFor(final Callable<T> callable) {
+            final double priority = (callable instanceof CompactionTask task) ? task.priority : 0;
+            return new PrioritizedFuture<>(callable, priority, sequence.getAndIncrement());
+        }
+
+        @Override
+        protected <T> RunnableFuture<T> newTaskFor(final Runnable runnable, final T value) {
+            return new PrioritizedFuture<>(Executors.callable(runnable, value), 0, sequence.getAndIncrement());
+        }
+    }
+
+    /**
+     * A future task, which can be ordered in a priority queue.
+     */
+    private static class PrioritizedFuture<T> extends FutureTask<T> implements Comparable<PrioritizedFuture<?>> {
+
+        private final double priority;
+        private final long sequence;
+
+        PrioritizedFuture(@NonNull final Callable<T> callable, final double priority, final long sequence) {
+            super(callable);
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(@NonNull final PrioritizedFuture<?> other) {
+            // Higher priorities first
+            final int result = Double.compare(other.priority, priority);
+            return (result != 0) ? result : Long.compare(sequence, other.sequence);
+        }
+    }
 }
@@ -24,10 +24,12 @@ import com.swirlds.config.api.Configuration;
 import com.swirlds.merkledb.collections.HashListByteBuffer;
 import com.swirlds.merkledb.collections.LongList;
 import com.swirlds.merkledb.collections.LongListDisk;
+import com.swirlds.merkledb.collections.LongListMapped;
 import com.swirlds.merkledb.collections.LongListOffHeap;
 import com.swirlds.merkledb.collections.OffHeapUser;
 import com.swirlds.merkledb.config.MerkleDbConfig;
-import com.swirlds.merkledb.files.DataFileCollection.LoadedDataCallback;
+import com.swirlds.merkledb.files.CompactionIoBudget;
+import com.swirlds.merkledb.files.DataFileCollection.ConcurrentLoadedDataCallback;
 import com.swirlds.merkledb.files.DataFileCompactor;
 import com.swirlds.merkledb.files.DataFileReader;
 import com.swirlds.merkledb.files.MemoryIndexDiskKeyValueStore;
@@ -46,9 +48,11 @@ import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
@@ -131,18 +135,11 @@ public final class MerkleDbDataSource implements VirtualDataSource {
     private final MemoryIndexDiskKeyValueStore pathToKeyValue;
 
     /**
-     * Cache size for reading virtual leaf records. Initialized in data source creation time from
-     * MerkleDb settings. If the value is zero, leaf records cache isn't used.
+     * Virtual leaf records cache. Initialized in data source creation time from MerkleDb settings.
+     * If cache size is zero, leaf records cache isn't used, and this field is null.
      */
-    private final int leafRecordCacheSize;
-
-    /**
-     * Virtual leaf records cache. It's a simple array indexed by leaf keys % cache size. Cache
-     * eviction is not needed, as array size is fixed and can be configured in MerkleDb settings.
-     * Index conflicts are resolved in a very straightforward way: whatever entry is read last, it's
-     * put to the cache.
-     */
-    private final VirtualLeafBytes[] leafRecordCache;
+    @Nullable
+    private final LeafRecordCache leafRecordCache;
 
     /** Thread pool storing internal records */
     private final ExecutorService storeHashesExecutor;
@@ -167,6 +164,9 @@ public final class MerkleDbDataSource implements VirtualDataSource {
     /** Runs compactions for the storages of this data source */
     final MerkleDbCompactionCoordinator compactionCoordinator;
 
+    /** Node-wide compaction I/O budget, notified about slow flushes */
+    private final CompactionIoBudget compactionIoBudget;
+
     private MerkleDbStatisticsUpdater statisticsUpdater;
 
     public MerkleDbDataSource(
@@ -244,26 +244,18 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         final boolean forceIndexRebuilding = merkleDbConfig.indexRebuildingEnforced();
         // Path to disk location index, hashes
         final Path pathToHashLocationFile = dbPaths.pathToDiskLocationInternalNodesFile;
-        if (Files.exists(pathToHashLocationFile) && !forceIndexRebuilding) {
-            pathToDiskLocationInternalNodes = preferDiskBasedIndices
-                    ? new LongListDisk(pathToHashLocationFile, pathIndexCapacity, config)
-                    : new LongListOffHeap(pathToHashLocationFile, pathIndexCapacity, config);
-        } else {
-            pathToDiskLocationInternalNodes = preferDiskBasedIndices
-                    ? new LongListDisk(pathIndexCapacity, config)
-                    : new LongListOffHeap(pathIndexCapacity, config);
-        }
+        pathToDiskLocationInternalNodes = createPathIndex(
+                (Files.exists(pathToHashLocationFile) && !forceIndexRebuilding) ? pathToHashLocationFile : null,
+                pathIndexCapacity,
+                preferDiskBasedIndices,
+                config);
         // Path to disk location index, leaf nodes
         final Path pathToLeafLocationFile = dbPaths.pathToDiskLocationLeafNodesFile;
-        if (Files.exists(pathToLeafLocationFile) && !forceIndexRebuilding) {
-            pathToDiskLocationLeafNodes = preferDiskBasedIndices
-                    ? new LongListDisk(pathToLeafLocationFile, pathIndexCapacity, config)
-                    : new LongListOffHeap(pathToLeafLocationFile, pathIndexCapacity, config);
-        } else {
-            pathToDiskLocationLeafNodes = preferDiskBasedIndices
-                    ? new LongListDisk(pathIndexCapacity, config)
-                    : new LongListOffHeap(pathIndexCapacity, config);
-        }
+        pathToDiskLocationLeafNodes = createPathIndex(
+                (Files.exists(pathToLeafLocationFile) && !forceIndexRebuilding) ? pathToLeafLocationFile : null,
+                pathIndexCapacity,
+                preferDiskBasedIndices,
+                config);
 
         // Hashes store, RAM
         final long hashesRamToDiskThreshold = tableConfig.getHashesRamToDiskThreshold();
@@ -282,17 +274,18 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         hasDiskStoreForHashes = tableConfig.getHashesRamToDiskThreshold() < Long.MAX_VALUE;
         if (hasDiskStoreForHashes) {
             final boolean needRestorePathToDiskLocationInternalNodes = pathToDiskLocationInternalNodes.size() == 0;
-            final LoadedDataCallback hashRecordLoadedCallback;
+            final ConcurrentLoadedDataCallback hashRecordLoadedCallback;
             if (needRestorePathToDiskLocationInternalNodes) {
                 if (validLeafPathRange.getMaxValidKey() >= 0) {
                     pathToDiskLocationInternalNodes.updateValidRange(0, validLeafPathRange.getMaxValidKey());
                 }
-                hashRecordLoadedCallback = (dataLocation, hashData) -> {
+                hashRecordLoadedCallback = (dataLocation, hashData, dataLocationRank) -> {
                     final VirtualHashRecord hashRecord = VirtualHashRecord.parseFrom(hashData);
                     final long path = hashRecord.path();
-                    // Old data files may contain entries with paths outside the current virtual node range
+                    // Old data files may contain entries with paths outside the current virtual node range.
+                    // Data files may be scanned in parallel, the highest ranked data location wins
                     if (path <= validLeafPathRange.getMaxValidKey()) {
-                        pathToDiskLocationInternalNodes.put(path, dataLocation);
+                        pathToDiskLocationInternalNodes.putIfHigherRank(path, dataLocation, dataLocationRank);
                     }
                 };
             } else {
@@ -310,7 +303,7 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         }
 
         // Leaves store (path to KV)
-        final LoadedDataCallback leafRecordLoadedCallback;
+        final ConcurrentLoadedDataCallback leafRecordLoadedCallback;
         final boolean needRestorePathToDiskLocationLeafNodes =
                 (pathToDiskLocationLeafNodes.size() == 0) && (validLeafPathRange.getMinValidKey() > 0);
         if (needRestorePathToDiskLocationLeafNodes) {
@@ -318,12 +311,13 @@ public final class MerkleDbDataSource implements VirtualDataSource {
                 pathToDiskLocationLeafNodes.updateValidRange(
                         validLeafPathRange.getMinValidKey(), validLeafPathRange.getMaxValidKey());
             }
-            leafRecordLoadedCallback = (dataLocation, leafData) -> {
+            leafRecordLoadedCallback = (dataLocation, leafData, dataLocationRank) -> {
                 final VirtualLeafBytes leafBytes = VirtualLeafBytes.parseFrom(leafData);
                 final long path = leafBytes.path();
-                // Old data files may contain entries with paths outside the current leaf range
+                // Old data files may contain entries with paths outside the current leaf range.
+                // Data files may be scanned in parallel, the highest ranked data location wins
                 if (validLeafPathRange.withinRange(path)) {
-                    pathToDiskLocationLeafNodes.put(path, dataLocation);
+                    pathToDiskLocationLeafNodes.putIfHigherRank(path, dataLocation, dataLocationRank);
                 }
             };
         } else {
@@ -360,14 +354,14 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         }
 
         // Leaf records cache
-        leafRecordCacheSize = merkleDbConfig.leafRecordCacheSize();
-        leafRecordCache = (leafRecordCacheSize > 0) ? new VirtualLeafBytes[leafRecordCacheSize] : null;
+        leafRecordCache = LeafRecordCache.create(merkleDbConfig);
 
         // Stats
         statisticsUpdater = new MerkleDbStatisticsUpdater(merkleDbConfig, tableName);
 
         // File compactions
         compactionCoordinator = new MerkleDbCompactionCoordinator(tableName, merkleDbConfig);
+        compactionIoBudget = CompactionIoBudget.getInstance(merkleDbConfig);
         if (compactionEnabled) {
             enableBackgroundCompaction();
         }
@@ -384,6 +378,33 @@ public final class MerkleDbDataSource implements VirtualDataSource {
                 tableConfig.getHashesRamToDiskThreshold());
     }
 
+    /**
+     * Creates a new path to data location index, or loads it from a file. If enabled with {@link
+     * MerkleDbConfig#longListMmapEnabled()}, the index is memory mapped. Otherwise it's either disk
+     * based or off-heap, depending on whether disk based indices are preferred.
+     *
+     * @param file the file to load the index from, or null to create an empty index
+     * @param capacity the index capacity
+     * @param preferDiskBasedIndex whether disk based indices are preferred
+     * @param config platform configuration
+     * @return the index
+     * @throws IOException if the index can't be loaded from the file
+     */
+    private static LongList createPathIndex(
+            @Nullable final Path file,
+            final long capacity,
+            final boolean preferDiskBasedIndex,
+            @NonNull final Configuration config)
+            throws IOException {
+        if (config.getConfigData(MerkleDbConfig.class).longListMmapEnabled()) {
+            return (file != null) ? new LongListMapped(file, capacity, config) : new LongListMapped(capacity, config);
+        } else if (preferDiskBasedIndex) {
+            return (file != null) ? new LongListDisk(file, capacity, config) : new LongListDisk(capacity, config);
+        } else {
+            return (file != null) ? new LongListOffHeap(file, capacity, config) : new LongListOffHeap(capacity, config);
+        }
+    }
+
     /**
      * Enables background compaction process.
      */
@@ -483,6 +504,7 @@ public final class MerkleDbDataSource implements VirtualDataSource {
             @NonNull final Stream<VirtualLeafBytes> leafRecordsToDelete,
             final boolean isReconnectContext)
             throws IOException {
+        final long flushStartNanos = System.nanoTime();
         try {
             validLeafPathRange = new KeyRange(firstLeafPath, lastLeafPath);
             final CountDownLatch countDownLatch = new CountDownLatch(lastLeafPath > 0 ? 2 : 1);
@@ -537,12 +559,20 @@ public final class MerkleDbDataSource implements VirtualDataSource {
                 Thread.currentThread().interrupt();
             }
         } finally {
+            // Slow flushes put compactions on hold, so they don't compete with flushes for disk I/O
+            compactionIoBudget.reportFlushLatency(tableName, System.nanoTime() - flushStartNanos);
             // Report total size on disk as sum of all store files. All metadata and other helper files
             // are considered small enough to be ignored. If/when we decide to use on-disk long lists
             // for indices, they should be added here
             statisticsUpdater.updateStoreFileStats(this);
             // update off-heap stats
             statisticsUpdater.updateOffHeapStats(this);
+            // update key to path bloom filter stats
+            statisticsUpdater.updateLeafKeysBloomFilterStats(keyToPath);
+            // update leaf records cache stats
+            if (leafRecordCache != null) {
+                statisticsUpdater.updateLeafRecordCacheStats(leafRecordCache);
+            }
         }
     }
 
@@ -560,17 +590,12 @@ public final class MerkleDbDataSource implements VirtualDataSource {
 
         final long path;
         VirtualLeafBytes cached = null;
-        int cacheIndex = -1;
         if (leafRecordCache != null) {
-            cacheIndex = Math.abs(keyHashCode % leafRecordCacheSize);
-            // No synchronization is needed here. Java guarantees (JLS 17.7) that reference writes
-            // are atomic, so we will never get corrupted objects from the array. The object may
-            // be overwritten in the cache in a different thread in parallel, but it isn't a
-            // problem as cached entry key is checked below anyway
-            cached = leafRecordCache[cacheIndex];
+            // The cache checks entry keys, so the entry is for the requested key, if found
+            cached = leafRecordCache.get(keyBytes, keyHashCode);
         }
-        // If an entry is found in the cache, and entry key is the one requested
-        if ((cached != null) && keyBytes.equals(cached.keyBytes())) {
+        // If an entry is found in the cache
+        if (cached != null) {
             // Some cache entries contain just key and path, but no value. If the value is there,
             // just return the cached entry. If not, at least make use of the path
             if (cached.valueBytes() != null) {
@@ -580,7 +605,6 @@ public final class MerkleDbDataSource implements VirtualDataSource {
             path = cached.path();
         } else {
             // Cache miss
-            cached = null;
             statisticsUpdater.countLeafKeyReads();
             path = keyToPath.get(keyBytes, keyHashCode, INVALID_PATH);
         }
@@ -589,7 +613,7 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         if (path == INVALID_PATH) {
             // Cache the result if not already cached
             if (leafRecordCache != null && cached == null) {
-                leafRecordCache[cacheIndex] = new VirtualLeafBytes(path, keyBytes, 0, null);
+                leafRecordCache.put(keyHashCode, new VirtualLeafBytes(path, keyBytes, keyHashCode, null));
             }
             return null;
         }
@@ -607,13 +631,97 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         assert leafBytes != null && leafBytes.keyBytes().equals(keyBytes);
 
         if (leafRecordCache != null) {
-            // No synchronization is needed here, see the comment above
-            leafRecordCache[cacheIndex] = leafBytes;
+            leafRecordCache.put(keyHashCode, leafBytes);
         }
 
         return leafBytes;
     }
 
+    /**
+     * Load leaf records for multiple keys. Keys found in the leaf records cache are not read from
+     * disk. For other keys, paths are looked up in the key to path map bucket by bucket, then
+     * leaf records are read from the path to key/value store file by file, in the order of their
+     * offsets in the files.
+     *
+     * @param keyBytes the keys to load leaf records for
+     * @param keyHashCodes key hash codes, in the same order as the keys
+     * @return loaded records, in the same order as the keys; an element is null, if not found
+     * @throws IOException If there was a problem reading records from db
+     */
+    @NonNull
+    @Override
+    public List<VirtualLeafBytes> loadLeafRecords(
+            @NonNull final List<Bytes> keyBytes, @NonNull final int[] keyHashCodes) throws IOException {
+        requireNonNull(keyBytes);
+        requireNonNull(keyHashCodes);
+        final int count = keyBytes.size();
+        final VirtualLeafBytes[] leafRecords = new VirtualLeafBytes[count];
+        final long[] paths = new long[count];
+
+        // Check the cache first, collect keys to look up in the key to path map
+        final List<Bytes> keysToFind = new ArrayList<>();
+        final int[] keysToFindIndices = new int[count];
+        final int[] keysToFindHashCodes = new int[count];
+        for (int i = 0; i < count; i++) {
+            final Bytes key = requireNonNull(keyBytes.get(i));
+            final VirtualLeafBytes cached =
+                    (leafRecordCache != null) ? leafRecordCache.get(key, keyHashCodes[i]) : null;
+            if (cached != null) {
+                if (cached.valueBytes() != null) {
+                    leafRecords[i] = cached;
+                    paths[i] = INVALID_PATH;
+                } else {
+                    // Note that the path may be INVALID_PATH here, this is perfectly legal
+                    paths[i] = cached.path();
+                }
+            } else {
+                keysToFindIndices[keysToFind.size()] = i;
+                keysToFindHashCodes[keysToFind.size()] = keyHashCodes[i];
+                keysToFind.add(key);
+            }
+        }
+        if (!keysToFind.isEmpty()) {
+            final long[] foundPaths = keyToPath.get(
+                    keysToFind, Arrays.copyOf(keysToFindHashCodes, keysToFind.size()), INVALID_PATH);
+            for (int k = 0; k < foundPaths.length; k++) {
+                statisticsUpdater.countLeafKeyReads();
+                final int i = keysToFindIndices[k];
+                paths[i] = foundPaths[k];
+                if ((leafRecordCache != null) && (foundPaths[k] == INVALID_PATH)) {
+                    // Cache negative results, the same way as in loadLeafRecord(key)
+                    final int keyHashCode = keyHashCodes[i];
+                    leafRecordCache.put(
+                            keyHashCode, new VirtualLeafBytes(INVALID_PATH, keysToFind.get(k), keyHashCode, null));
+                }
+            }
+        }
+
+        // Now read leaf records for all found paths
+        final KeyRange leafPathRange = validLeafPathRange;
+        final long[] pathsToRead = new long[count];
+        final int[] pathsToReadIndices = new int[count];
+        int numOfPathsToRead = 0;
+        for (int i = 0; i < count; i++) {
+            if ((leafRecords[i] == null) && (paths[i] != INVALID_PATH) && leafPathRange.withinRange(paths[i])) {
+                pathsToReadIndices[numOfPathsToRead] = i;
+                pathsToRead[numOfPathsToRead++] = paths[i];
+            }
+        }
+        if (numOfPathsToRead > 0) {
+            pathToKeyValue.get(Arrays.copyOf(pathsToRead, numOfPathsToRead), (k, leafData) -> {
+                statisticsUpdater.countLeafReads();
+                final int i = pathsToReadIndices[k];
+                final VirtualLeafBytes leafBytes = VirtualLeafBytes.parseFrom(leafData);
+                assert leafBytes != null && leafBytes.keyBytes().equals(keyBytes.get(i));
+                leafRecords[i] = leafBytes;
+                if ((leafRecordCache != null) && (leafBytes != null)) {
+                    leafRecordCache.put(keyHashCodes[i], leafBytes);
+                }
+            });
+        }
+        return Arrays.asList(leafRecords);
+    }
+
     /**
      * Load a leaf record by path. This method returns {@code null}, if the path is outside the
      * valid path range.
@@ -648,12 +756,9 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         requireNonNull(keyBytes);
 
         // Check the cache first
-        int cacheIndex = -1;
         if (leafRecordCache != null) {
-            cacheIndex = Math.abs(keyHashCode % leafRecordCacheSize);
-            // No synchronization is needed here. See the comment in loadLeafRecord(key) above
-            final VirtualLeafBytes cached = leafRecordCache[cacheIndex];
-            if (cached != null && keyBytes.equals(cached.keyBytes())) {
+            final VirtualLeafBytes cached = leafRecordCache.get(keyBytes, keyHashCode);
+            if (cached != null) {
                 // Cached path may be a valid path or INVALID_PATH, both are legal here
                 return cached.path();
             }
@@ -664,7 +769,7 @@ public final class MerkleDbDataSource implements VirtualDataSource {
 
         if (leafRecordCache != null) {
             // Path may be INVALID_PATH here. Still needs to be cached (negative result)
-            leafRecordCache[cacheIndex] = new VirtualLeafBytes(path, keyBytes, keyHashCode, null);
+            leafRecordCache.put(keyHashCode, new VirtualLeafBytes(path, keyBytes, keyHashCode, null));
         }
 
         return path;
@@ -702,6 +807,48 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         return hash;
     }
 
+    /**
+     * Load hashes for multiple paths. Hashes stored in RAM are just looked up, hashes stored on
+     * disk are read file by file, in the order of their offsets in the files.
+     *
+     * @param paths virtual node paths
+     * @return loaded hashes, in the same order as the paths; an element is null, if not found
+     * @throws IOException If there was a problem reading hashes from db
+     */
+    @NonNull
+    @Override
+    public Hash[] loadHashes(@NonNull final long[] paths) throws IOException {
+        requireNonNull(paths);
+        final Hash[] hashes = new Hash[paths.length];
+        final long lastLeaf = validLeafPathRange.getMaxValidKey();
+        final long[] pathsToRead = new long[paths.length];
+        final int[] pathsToReadIndices = new int[paths.length];
+        int numOfPathsToRead = 0;
+        for (int i = 0; i < paths.length; i++) {
+            final long path = paths[i];
+            if (path < 0) {
+                throw new IllegalArgumentException("Path (" + path + ") is not valid");
+            }
+            if (path > lastLeaf) {
+                continue;
+            }
+            if (path < tableConfig.getHashesRamToDiskThreshold()) {
+                hashes[i] = hashStoreRam.get(path);
+            } else {
+                pathsToReadIndices[numOfPathsToRead] = i;
+                pathsToRead[numOfPathsToRead++] = path;
+            }
+        }
+        if (numOfPathsToRead > 0) {
+            hashStoreDisk.get(Arrays.copyOf(pathsToRead, numOfPathsToRead), (k, hashData) -> {
+                final VirtualHashRecord rec = VirtualHashRecord.parseFrom(hashData);
+                hashes[pathsToReadIndices[k]] = (rec != null) ? rec.hash() : null;
+                statisticsUpdater.countHashReads();
+            });
+        }
+        return hashes;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -992,6 +1139,7 @@ public final class MerkleDbDataSource implements VirtualDataSource {
     @Override
     public void registerMetrics(final Metrics metrics) {
         statisticsUpdater.registerMetrics(metrics);
+        statisticsUpdater.updateIndexRebuildStats(this);
     }
 
     /** {@inheritDoc} */
@@ -1265,9 +1413,8 @@ public final class MerkleDbDataSource implements VirtualDataSource {
      * If the key is deleted, it's still updated in the cache. It means no record with the given
      * key exists in the data source, so further lookups for the key are skipped.
      * <p>
-     * Cache index is calculated as the key's hash code % cache size. The cache is only updated,
-     * if the current record at this index has the given key. If the key is different, no update is
-     * performed.
+     * The cache is only updated, if it contains a record with the given key. Otherwise no update
+     * is performed.
      *
      * @param keyBytes virtual key
      * @param keyHashCode virtual key hash code
@@ -1276,11 +1423,7 @@ public final class MerkleDbDataSource implements VirtualDataSource {
         if (leafRecordCache == null) {
             return;
         }
-        final int cacheIndex = Math.abs(keyHashCode % leafRecordCacheSize);
-        final VirtualLeafBytes cached = leafRecordCache[cacheIndex];
-        if ((cached != null) && keyBytes.equals(cached.keyBytes())) {
-            leafRecordCache[cacheIndex] = null;
-        }
+        leafRecordCache.invalidate(keyBytes, keyHashCode);
     }
 
     FileStatisticAware getHashStoreDisk() {
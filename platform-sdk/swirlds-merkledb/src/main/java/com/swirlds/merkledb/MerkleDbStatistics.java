@@ -3,6 +3,7 @@ package com.swirlds.merkledb;
 
 import com.swirlds.merkledb.config.MerkleDbConfig;
 import com.swirlds.metrics.api.DoubleAccumulator;
+import com.swirlds.metrics.api.DoubleGauge;
 import com.swirlds.metrics.api.FloatFormats;
 import com.swirlds.metrics.api.IntegerGauge;
 import com.swirlds.metrics.api.LongAccumulator;
@@ -32,6 +33,12 @@ public class MerkleDbStatistics {
     private static final String LEVEL_PREFIX = "level_";
     /** Prefix for all off-heap related metrics */
     private static final String OFFHEAP_PREFIX = "offheap_";
+    /** Prefix for all leaf keys bloom filter related metrics */
+    private static final String BLOOM_FILTER_PREFIX = "bloomFilter_";
+    /** Prefix for all leaf records cache related metrics */
+    private static final String CACHE_PREFIX = "cache_";
+    /** Prefix for all metrics related to index rebuilding on startup */
+    private static final String INDEX_REBUILD_PREFIX = "indexRebuild_";
 
     private final MerkleDbConfig dbConfig;
 
@@ -59,6 +66,12 @@ public class MerkleDbStatistics {
     /** Total file size in Mb */
     // Should all file sizes be doubles?
     private IntegerGauge totalFileSizeMb;
+    /** Hashes store - estimated ratio of garbage (overwritten or deleted) data in files */
+    private DoubleGauge hashesStoreGarbageRatio;
+    /** Leaves store - estimated ratio of garbage (overwritten or deleted) data in files */
+    private DoubleGauge leavesStoreGarbageRatio;
+    /** Leaf keys store - estimated ratio of garbage (overwritten or deleted) data in files */
+    private DoubleGauge leafKeysStoreGarbageRatio;
 
     private LongAccumulator flushHashesWritten;
     private DoubleAccumulator flushHashesStoreFileSizeMb;
@@ -99,6 +112,27 @@ public class MerkleDbStatistics {
     /** Total data source off-heap usage in MB */
     private IntegerGauge offHeapDataSourceMb;
 
+    /** Leaf keys bloom filter - size in Mb */
+    private IntegerGauge leafKeysBloomFilterSizeMb;
+    /** Leaf keys bloom filter - leaf key reads avoided / s */
+    private LongAccumulator leafKeysBloomFilterAvoidedReads;
+    /** Leaf keys bloom filter - false positive rate of lookups for absent keys */
+    private DoubleGauge leafKeysBloomFilterFalsePositiveRate;
+
+    /** Index rebuild - total time to scan data files of all stores, in ms */
+    private IntegerGauge indexRebuildTimeMs;
+    /** Index rebuild - data files scanning throughput, Mb / s */
+    private DoubleGauge indexRebuildMbPerSecond;
+    /** Index rebuild - data files scanning throughput, data items / s */
+    private DoubleGauge indexRebuildItemsPerSecond;
+
+    /** Leaf records cache - hits / s */
+    private LongAccumulator leafRecordCacheHits;
+    /** Leaf records cache - misses / s */
+    private LongAccumulator leafRecordCacheMisses;
+    /** Leaf records cache - evictions / s */
+    private LongAccumulator leafRecordCacheEvictions;
+
     /**
      * Create a new statistics object for a MerkleDb instances.
      *
@@ -187,6 +221,18 @@ public class MerkleDbStatistics {
                 metrics,
                 DS_PREFIX + FILES_PREFIX + "totalSizeMb_" + label,
                 "Total file size, data source, " + label + ", Mb");
+        hashesStoreGarbageRatio = metrics.getOrCreate(new DoubleGauge.Config(
+                        STAT_CATEGORY, DS_PREFIX + FILES_PREFIX + "hashesStoreGarbageRatio_" + label)
+                .withDescription("Garbage ratio, hashes store, " + label)
+                .withFormat(FloatFormats.FORMAT_1_4));
+        leavesStoreGarbageRatio = metrics.getOrCreate(new DoubleGauge.Config(
+                        STAT_CATEGORY, DS_PREFIX + FILES_PREFIX + "leavesStoreGarbageRatio_" + label)
+                .withDescription("Garbage ratio, leaves store, " + label)
+                .withFormat(FloatFormats.FORMAT_1_4));
+        leafKeysStoreGarbageRatio = metrics.getOrCreate(new DoubleGauge.Config(
+                        STAT_CATEGORY, DS_PREFIX + FILES_PREFIX + "leafKeysStoreGarbageRatio_" + label)
+                .withDescription("Garbage ratio, leaf keys store, " + label)
+                .withFormat(FloatFormats.FORMAT_1_4));
 
         // Flushes
         flushHashesWritten = buildLongAccumulator(
@@ -280,6 +326,48 @@ public class MerkleDbStatistics {
         offHeapDataSourceMb = metrics.getOrCreate(
                 new IntegerGauge.Config(STAT_CATEGORY, DS_PREFIX + OFFHEAP_PREFIX + "dataSourceMb_" + label)
                         .withDescription("Off-heap usage, data source, " + label + ", Mb"));
+
+        // Leaf keys bloom filter
+        leafKeysBloomFilterSizeMb = buildIntegerGauge(
+                metrics,
+                DS_PREFIX + BLOOM_FILTER_PREFIX + "leafKeysSizeMb_" + label,
+                "Bloom filter size, leaf keys store, " + label + ", Mb");
+        leafKeysBloomFilterAvoidedReads = buildLongAccumulator(
+                metrics,
+                DS_PREFIX + BLOOM_FILTER_PREFIX + "leafKeysAvoidedReads_" + label,
+                "Number of leaf key reads avoided by bloom filter, " + label);
+        leafKeysBloomFilterFalsePositiveRate = metrics.getOrCreate(new DoubleGauge.Config(
+                        STAT_CATEGORY, DS_PREFIX + BLOOM_FILTER_PREFIX + "leafKeysFalsePositiveRate_" + label)
+                .withDescription("Bloom filter false positive rate for absent keys, leaf keys store, " + label)
+                .withFormat(FloatFormats.FORMAT_1_4));
+
+        // Index rebuild
+        indexRebuildTimeMs = buildIntegerGauge(
+                metrics,
+                DS_PREFIX + INDEX_REBUILD_PREFIX + "timeMs_" + label,
+                "Time to rebuild indexes from data files on startup, " + label + ", ms");
+        indexRebuildMbPerSecond = metrics.getOrCreate(new DoubleGauge.Config(
+                        STAT_CATEGORY, DS_PREFIX + INDEX_REBUILD_PREFIX + "mbPerSec_" + label)
+                .withDescription("Data files scanning throughput during index rebuild, " + label + ", Mb/s")
+                .withFormat(FloatFormats.FORMAT_10_2));
+        indexRebuildItemsPerSecond = metrics.getOrCreate(new DoubleGauge.Config(
+                        STAT_CATEGORY, DS_PREFIX + INDEX_REBUILD_PREFIX + "itemsPerSec_" + label)
+                .withDescription("Data items scanning throughput during index rebuild, " + label + ", items/s")
+                .withFormat(FloatFormats.FORMAT_10_0));
+
+        // Leaf records cache
+        leafRecordCacheHits = buildLongAccumulator(
+                metrics,
+                DS_PREFIX + CACHE_PREFIX + "leafRecordHits_" + label,
+                "Number of leaf records cache hits, " + label);
+        leafRecordCacheMisses = buildLongAccumulator(
+                metrics,
+                DS_PREFIX + CACHE_PREFIX + "leafRecordMisses_" + label,
+                "Number of leaf records cache misses, " + label);
+        leafRecordCacheEvictions = buildLongAccumulator(
+                metrics,
+                DS_PREFIX + CACHE_PREFIX + "leafRecordEvictions_" + label,
+                "Number of leaf records cache evictions, " + label);
     }
 
     /**
@@ -393,6 +481,42 @@ public class MerkleDbStatistics {
         }
     }
 
+    /**
+     * Set the current value for the {@link #hashesStoreGarbageRatio} stat
+     *
+     * @param value
+     * 		the value to set
+     */
+    public void setHashesStoreGarbageRatio(final double value) {
+        if (hashesStoreGarbageRatio != null) {
+            hashesStoreGarbageRatio.set(value);
+        }
+    }
+
+    /**
+     * Set the current value for the {@link #leavesStoreGarbageRatio} stat
+     *
+     * @param value
+     * 		the value to set
+     */
+    public void setLeavesStoreGarbageRatio(final double value) {
+        if (leavesStoreGarbageRatio != null) {
+            leavesStoreGarbageRatio.set(value);
+        }
+    }
+
+    /**
+     * Set the current value for the {@link #leafKeysStoreGarbageRatio} stat
+     *
+     * @param value
+     * 		the value to set
+     */
+    public void setLeafKeysStoreGarbageRatio(final double value) {
+        if (leafKeysStoreGarbageRatio != null) {
+            leafKeysStoreGarbageRatio.set(value);
+        }
+    }
+
     public void countFlushHashesWritten(final long value) {
         if (flushHashesWritten != null) {
             flushHashesWritten.update(value);
@@ -622,4 +746,106 @@ public class MerkleDbStatistics {
             offHeapDataSourceMb.set(value);
         }
     }
+
+    /**
+     * Set the current value for the {@link #leafKeysBloomFilterSizeMb} stat
+     *
+     * @param value the value to set
+     */
+    public void setLeafKeysBloomFilterSizeMb(final int value) {
+        if (leafKeysBloomFilterSizeMb != null) {
+            leafKeysBloomFilterSizeMb.set(value);
+        }
+    }
+
+    /**
+     * Increments {@link #leafKeysBloomFilterAvoidedReads} stat by the given value
+     *
+     * @param value the value to add
+     */
+    public void countLeafKeysBloomFilterAvoidedReads(final long value) {
+        if (leafKeysBloomFilterAvoidedReads != null) {
+            leafKeysBloomFilterAvoidedReads.update(value);
+        }
+    }
+
+    /**
+     * Set the current value for the {@link #leafKeysBloomFilterFalsePositiveRate} stat
+     *
+     * @param value the value to set
+     */
+    public void setLeafKeysBloomFilterFalsePositiveRate(final double value) {
+        if (leafKeysBloomFilterFalsePositiveRate != null) {
+            leafKeysBloomFilterFalsePositiveRate.set(value);
+        }
+    }
+
+    /**
+     * Set the current value for the {@link #indexRebuildTimeMs} stat
+     *
+     * @param value
+     * 		the value to set
+     */
+    public void setIndexRebuildTimeMs(final int value) {
+        if (indexRebuildTimeMs != null) {
+            indexRebuildTimeMs.set(value);
+        }
+    }
+
+    /**
+     * Set the current value for the {@link #indexRebuildMbPerSecond} stat
+     *
+     * @param value
+     * 		the value to set
+     */
+    public void setIndexRebuildMbPerSecond(final double value) {
+        if (indexRebuildMbPerSecond != null) {
+            indexRebuildMbPerSecond.set(value);
+        }
+    }
+
+    /**
+     * Set the current value for the {@link #indexRebuildItemsPerSecond} stat
+     *
+     * @param value
+     * 		the value to set
+     */
+    public void setIndexRebuildItemsPerSecond(final double value) {
+        if (indexRebuildItemsPerSecond != null) {
+            indexRebuildItemsPerSecond.set(value);
+        }
+    }
+
+    /**
+     * Increments {@link #leafRecordCacheHits} stat by the given value
+     *
+     * @param value the value to add
+     */
+    public void countLeafRecordCacheHits(final long value) {
+        if (leafRecordCacheHits != null) {
+            leafRecordCacheHits.update(value);
+        }
+    }
+
+    /**
+     * Increments {@link #leafRecordCacheMisses} stat by the given value
+     *
+     * @param value the value to add
+     */
+    public void countLeafRecordCacheMisses(final long value) {
+        if (leafRecordCacheMisses != null) {
+            leafRecordCacheMisses.update(value);
+        }
+    }
+
+    /**
+     * Increments {@link #leafRecordCacheEvictions} stat by the given value
+     *
+     * @param value the value to add
+     */
+    public void countLeafRecordCacheEvictions(final long value) {
+        if (leafRecordCacheEvictions != null) {
+            leafRecordCacheEvictions.update(value);
+        }
+    }
 }
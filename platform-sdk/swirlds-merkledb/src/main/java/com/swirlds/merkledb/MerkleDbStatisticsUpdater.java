@@ -7,10 +7,14 @@ import com.swirlds.common.metrics.FunctionGauge;
 import com.swirlds.merkledb.collections.LongList;
 import com.swirlds.merkledb.collections.OffHeapUser;
 import com.swirlds.merkledb.config.MerkleDbConfig;
+import com.swirlds.merkledb.files.DataFileCollection;
+import com.swirlds.merkledb.files.DataFileCollection.IndexRebuildStats;
 import com.swirlds.merkledb.files.DataFileReader;
+import com.swirlds.merkledb.files.hashmap.HalfDiskHashMap;
 import com.swirlds.metrics.api.Metrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.util.LongSummaryStatistics;
+import java.util.concurrent.TimeUnit;
 import java.util.function.IntConsumer;
 
 /**
@@ -63,7 +67,7 @@ public class MerkleDbStatisticsUpdater {
     }
 
     /**
-     * Updates hashes store file stats: file count and total size in Mb. No-op if all hashes
+     * Updates hashes store file stats: file count, total size in Mb, and garbage ratio. No-op if all hashes
      * are cached in RAM.
      *
      * @return hashes store file size, Mb
@@ -75,13 +79,15 @@ public class MerkleDbStatisticsUpdater {
             statistics.setHashesStoreFileCount((int) internalHashesFileSizeStats.getCount());
             final int fileSizeInMb = (int) (internalHashesFileSizeStats.getSum() * BYTES_TO_MEBIBYTES);
             statistics.setHashesStoreFileSizeMb(fileSizeInMb);
+            statistics.setHashesStoreGarbageRatio(
+                    dataSource.getHashStoreDisk().getFileCollection().getGarbageRatio());
             return fileSizeInMb;
         }
         return 0;
     }
 
     /**
-     * Updates leaves store file stats: file count and total size in Mb.
+     * Updates leaves store file stats: file count, total size in Mb, and garbage ratio.
      *
      * @return leaves store file size, Mb
      */
@@ -91,11 +97,13 @@ public class MerkleDbStatisticsUpdater {
         statistics.setLeavesStoreFileCount((int) leafDataFileSizeStats.getCount());
         final int fileSizeInMb = (int) (leafDataFileSizeStats.getSum() * BYTES_TO_MEBIBYTES);
         statistics.setLeavesStoreFileSizeMb(fileSizeInMb);
+        statistics.setLeavesStoreGarbageRatio(
+                dataSource.getPathToKeyValue().getFileCollection().getGarbageRatio());
         return fileSizeInMb;
     }
 
     /**
-     * Updates leaf keys store file stats: file count and total size in Mb. No-op if keys are
+     * Updates leaf keys store file stats: file count, total size in Mb, and garbage ratio. No-op if keys are
      * longs and stored in a LongList rather than in a store on disk.
      *
      * @return leaf keys store file size, Mb
@@ -107,6 +115,8 @@ public class MerkleDbStatisticsUpdater {
             statistics.setLeafKeysStoreFileCount((int) leafKeyFileSizeStats.getCount());
             final int fileSizeInMb = (int) (leafKeyFileSizeStats.getSum() * BYTES_TO_MEBIBYTES);
             statistics.setLeafKeysStoreFileSizeMb(fileSizeInMb);
+            statistics.setLeafKeysStoreGarbageRatio(
+                    dataSource.getKeyToPath().getFileCollection().getGarbageRatio());
             return fileSizeInMb;
         }
         return 0;
@@ -119,6 +129,39 @@ public class MerkleDbStatisticsUpdater {
                 + updateLeafKeysStoreFileStats(dataSource));
     }
 
+    /**
+     * Updates index rebuild stats: total time and data files scanning throughput for all stores,
+     * which indexes were rebuilt from data files when the data source was loaded. No-op if no
+     * indexes were rebuilt.
+     */
+    void updateIndexRebuildStats(final MerkleDbDataSource dataSource) {
+        final long[] totals = new long[3]; // data items, bytes, nanos
+        if (dataSource.getHashStoreDisk() != null) {
+            addIndexRebuildStats(dataSource.getHashStoreDisk().getFileCollection(), totals);
+        }
+        addIndexRebuildStats(dataSource.getPathToKeyValue().getFileCollection(), totals);
+        if (dataSource.getKeyToPath() != null) {
+            addIndexRebuildStats(dataSource.getKeyToPath().getFileCollection(), totals);
+        }
+        final long nanos = totals[2];
+        if (nanos == 0) {
+            return;
+        }
+        final double seconds = (double) nanos / TimeUnit.SECONDS.toNanos(1);
+        statistics.setIndexRebuildTimeMs((int) TimeUnit.NANOSECONDS.toMillis(nanos));
+        statistics.setIndexRebuildItemsPerSecond(totals[0] / seconds);
+        statistics.setIndexRebuildMbPerSecond(totals[1] * BYTES_TO_MEBIBYTES / seconds);
+    }
+
+    private static void addIndexRebuildStats(final DataFileCollection fileCollection, final long[] totals) {
+        final IndexRebuildStats stats = fileCollection.getIndexRebuildStats();
+        if (stats != null) {
+            totals[0] += stats.dataItems();
+            totals[1] += stats.bytes();
+            totals[2] += stats.durationNanos();
+        }
+    }
+
     /**
      * Updates statistics with off-heap memory consumption.
      */
@@ -137,6 +180,37 @@ public class MerkleDbStatisticsUpdater {
         statistics.setOffHeapDataSourceMb(totalOffHeapMemoryConsumption);
     }
 
+    /**
+     * Updates leaf keys bloom filter stats: filter size, number of avoided reads, and false
+     * positive rate since the last update. No-op if the filter is disabled.
+     */
+    void updateLeafKeysBloomFilterStats(@NonNull final HalfDiskHashMap keyToPath) {
+        final long filterSize = keyToPath.getBucketFilterSize();
+        if (filterSize == 0) {
+            return;
+        }
+        statistics.setLeafKeysBloomFilterSizeMb((int) (filterSize * BYTES_TO_MEBIBYTES));
+        final long avoidedReads = keyToPath.getAndResetBucketFilterAvoidedReads();
+        final long falsePositives = keyToPath.getAndResetBucketFilterFalsePositives();
+        statistics.countLeafKeysBloomFilterAvoidedReads(avoidedReads);
+        // Rate is calculated for lookups for absent keys only: filter may either reject them (avoided
+        // reads), or let them through (false positives)
+        final long absentKeyLookups = avoidedReads + falsePositives;
+        if (absentKeyLookups > 0) {
+            statistics.setLeafKeysBloomFilterFalsePositiveRate((double) falsePositives / absentKeyLookups);
+        }
+    }
+
+    /**
+     * Updates leaf records cache stats: number of hits, misses, and evictions since the last
+     * update.
+     */
+    void updateLeafRecordCacheStats(@NonNull final LeafRecordCache leafRecordCache) {
+        statistics.countLeafRecordCacheHits(leafRecordCache.getAndResetHits());
+        statistics.countLeafRecordCacheMisses(leafRecordCache.getAndResetMisses());
+        statistics.countLeafRecordCacheEvictions(leafRecordCache.getAndResetEvictions());
+    }
+
     /** Updates statistics with number of leaf reads. */
     void countLeafReads() {
         statistics.countLeafReads();
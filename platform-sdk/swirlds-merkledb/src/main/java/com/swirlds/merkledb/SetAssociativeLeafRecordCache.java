@@ -0,0 +1,249 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.merkledb;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.virtualmap.datasource.VirtualLeafBytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * N-way set associative virtual leaf records cache with a TinyLFU admission filter.
+ *
+ * <p>The cache is an array of sets, each set contains up to N entries. A key is mapped to a set
+ * using its hash code, then the key may be stored in any of the set entries. Compared to a
+ * direct-mapped cache, two hot keys mapped to the same set don't evict each other on every
+ * access.
+ *
+ * <p>Access frequencies of all keys, both cached and not, are approximately tracked in a
+ * count-min sketch of 4-bit counters. When a new entry is put to a full set, the least frequently
+ * used entry in the set is the eviction candidate. The new entry is only admitted, if its
+ * estimated frequency is higher than the candidate's one. This way one-off scans, for example,
+ * by iterators, don't wipe out frequently used entries from the cache. Counters are periodically
+ * halved, so the cache adapts to changes in access patterns.
+ *
+ * <p>No locks are used. Concurrent updates to the same set may overwrite each other, and
+ * concurrent sketch updates may be lost, which is fine for a cache. Lookups always check entry
+ * keys, so an entry for a different key is never returned.
+ */
+public final class SetAssociativeLeafRecordCache implements LeafRecordCache {
+
+    /** Maximum number of entries in a single cache set */
+    public static final int MAX_WAYS = 64;
+
+    /** Number of sketch increments before counters are halved, per cache entry */
+    private static final int SAMPLE_SIZE_PER_ENTRY = 10;
+
+    /** Seeds to calculate sketch indices, one per counter, from Caffeine FrequencySketch */
+    private static final long[] SEEDS = {
+        0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+
+    /** Minimum sketch size, in longs. Sketches for very small caches are too noisy otherwise */
+    private static final int MIN_SKETCH_SIZE = 64;
+
+    /** A mask to halve all 16 4-bit counters in a long at once */
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    /** A mask of a single 4-bit counter */
+    private static final long COUNTER_MASK = 0xfL;
+
+    /** Number of entries per set */
+    private final int ways;
+
+    /** Number of sets */
+    private final int numOfSets;
+
+    /** Cache entries, set by set */
+    private final VirtualLeafBytes[] entries;
+
+    /**
+     * Key hash codes of cache entries. Not all entries put to the cache have correct hash codes
+     * in {@link VirtualLeafBytes#keyHashCode()}, this is why they are stored separately
+     */
+    private final int[] entryHashCodes;
+
+    /** Frequency sketch, every long contains 16 4-bit counters */
+    private final long[] sketch;
+
+    /** Sketch index mask, sketch length is always a power of two */
+    private final int sketchMask;
+
+    /** Number of sketch increments before the sketch is reset */
+    private final int sampleSize;
+
+    /** Number of sketch increments since the last reset. Not volatile, lost updates are fine */
+    private int sampleCount;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a new set associative cache.
+     *
+     * @param cacheSize cache size, in entries
+     * @param ways number of entries per set, from 1 to {@link #MAX_WAYS}
+     */
+    public SetAssociativeLeafRecordCache(final int cacheSize, final int ways) {
+        if (cacheSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+        if ((ways <= 0) || (ways > MAX_WAYS)) {
+            throw new IllegalArgumentException("Number of ways must be in 1 to " + MAX_WAYS + " range");
+        }
+        this.ways = ways;
+        numOfSets = Math.max(1, cacheSize / ways);
+        entries = new VirtualLeafBytes[numOfSets * ways];
+        entryHashCodes = new int[numOfSets * ways];
+        // One long, i.e. 16 counters, per cache entry, the same as in Caffeine
+        final int cacheSizePowerOfTwo = Integer.highestOneBit(Math.min(cacheSize, 1 << 30) - 1) << 1;
+        final int sketchSize = Math.max(MIN_SKETCH_SIZE, cacheSizePowerOfTwo);
+        sketch = new long[sketchSize];
+        sketchMask = sketchSize - 1;
+        sampleSize = (int) Math.min(Integer.MAX_VALUE, (long) SAMPLE_SIZE_PER_ENTRY * cacheSize);
+    }
+
+    /** {@inheritDoc} */
+    @Nullable
+    @Override
+    public VirtualLeafBytes get(@NonNull final Bytes keyBytes, final int keyHashCode) {
+        recordAccess(keyHashCode);
+        final int base = setIndex(keyHashCode) * ways;
+        for (int i = base; i < base + ways; i++) {
+            final VirtualLeafBytes cached = entries[i];
+            if ((cached != null) && keyBytes.equals(cached.keyBytes())) {
+                hits.increment();
+                return cached;
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void put(final int keyHashCode, @NonNull final VirtualLeafBytes leafBytes) {
+        final Bytes keyBytes = leafBytes.keyBytes();
+        final int base = setIndex(keyHashCode) * ways;
+        int freeIndex = -1;
+        int victimIndex = -1;
+        int victimFrequency = Integer.MAX_VALUE;
+        for (int i = base; i < base + ways; i++) {
+            final VirtualLeafBytes cached = entries[i];
+            if (cached == null) {
+                if (freeIndex == -1) {
+                    freeIndex = i;
+                }
+            } else if (keyBytes.equals(cached.keyBytes())) {
+                // The key is already cached, just update the entry
+                entries[i] = leafBytes;
+                return;
+            } else if (freeIndex == -1) {
+                final int frequency = frequency(entryHashCodes[i]);
+                if (frequency < victimFrequency) {
+                    victimFrequency = frequency;
+                    victimIndex = i;
+                }
+            }
+        }
+        if (freeIndex != -1) {
+            store(freeIndex, keyHashCode, leafBytes);
+        } else if (frequency(keyHashCode) > victimFrequency) {
+            // TinyLFU admission: only replace the victim, if the new key is used more often
+            store(victimIndex, keyHashCode, leafBytes);
+            evictions.increment();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void invalidate(@NonNull final Bytes keyBytes, final int keyHashCode) {
+        final int base = setIndex(keyHashCode) * ways;
+        // Check all entries in the set. Two concurrent puts for the same key may result in two
+        // entries for the key in the set
+        for (int i = base; i < base + ways; i++) {
+            final VirtualLeafBytes cached = entries[i];
+            if ((cached != null) && keyBytes.equals(cached.keyBytes())) {
+                entries[i] = null;
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getAndResetHits() {
+        return hits.sumThenReset();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getAndResetMisses() {
+        return misses.sumThenReset();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getAndResetEvictions() {
+        return evictions.sumThenReset();
+    }
+
+    private void store(final int index, final int keyHashCode, final VirtualLeafBytes leafBytes) {
+        // Hash code is written first. If a concurrent put overwrites the entry in between, the
+        // only consequence is a suboptimal victim choice later
+        entryHashCodes[index] = keyHashCode;
+        entries[index] = leafBytes;
+    }
+
+    private int setIndex(final int keyHashCode) {
+        // Spread the hash code, so set indices don't correlate with sketch indices
+        final int h = keyHashCode * 0x9e3779b9;
+        return Math.floorMod(h ^ (h >>> 16), numOfSets);
+    }
+
+    /**
+     * Increments all sketch counters for the given key hash code by one, unless they are
+     * already at max value. Halves all counters once enough increments are made.
+     */
+    private void recordAccess(final int keyHashCode) {
+        final int start = (keyHashCode & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < 4; i++) {
+            final int index = sketchIndex(keyHashCode, i);
+            final int offset = (start + i) << 2;
+            final long value = sketch[index];
+            if (((value >>> offset) & COUNTER_MASK) != COUNTER_MASK) {
+                sketch[index] = value + (1L << offset);
+                added = true;
+            }
+        }
+        if (added && (++sampleCount >= sampleSize)) {
+            reset();
+        }
+    }
+
+    /** Returns estimated access frequency of the given key hash code, from 0 to 15. */
+    int frequency(final int keyHashCode) {
+        final int start = (keyHashCode & 3) << 2;
+        int frequency = Integer.MAX_VALUE;
+        for (int i = 0; i < 4; i++) {
+            final int index = sketchIndex(keyHashCode, i);
+            final int offset = (start + i) << 2;
+            frequency = Math.min(frequency, (int) ((sketch[index] >>> offset) & COUNTER_MASK));
+        }
+        return frequency;
+    }
+
+    private int sketchIndex(final int keyHashCode, final int i) {
+        long hash = (keyHashCode + SEEDS[i]) * SEEDS[i];
+        hash += hash >>> 32;
+        return ((int) hash) & sketchMask;
+    }
+
+    private void reset() {
+        for (int i = 0; i < sketch.length; i++) {
+            sketch[i] = (sketch[i] >>> 1) & RESET_MASK;
+        }
+        sampleCount = sampleCount / 2;
+    }
+}
@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongUnaryOperator;
 import java.util.stream.LongStream;
 import java.util.stream.StreamSupport;
 
@@ -476,6 +477,36 @@ public abstract class AbstractLongList<C> implements LongList {
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final boolean putIfGreater(final long index, final long value) {
+        return putIfHigherRank(index, value, LongUnaryOperator.identity());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final boolean putIfHigherRank(final long index, final long value, @NonNull final LongUnaryOperator rank) {
+        requireNonNull(rank);
+        checkIndex(index);
+        checkValue(value);
+        final long valueRank = rank.applyAsLong(value);
+        final C chunk = createOrGetChunk(index);
+        final int subIndex = toIntExact(index % longsPerChunk);
+        while (true) {
+            final long oldValue = lookupInChunk(chunk, subIndex);
+            if ((oldValue != IMPERMISSIBLE_VALUE) && (rank.applyAsLong(oldValue) >= valueRank)) {
+                return false;
+            }
+            if (putIfEqual(chunk, subIndex, oldValue, value)) {
+                return true;
+            }
+        }
+    }
+
     /**
      * Stores a long in a given chunk at a given sub index, on the condition that the current long therein has a given
      * value.
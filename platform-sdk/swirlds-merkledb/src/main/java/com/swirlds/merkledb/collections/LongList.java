@@ -2,9 +2,11 @@
 package com.swirlds.merkledb.collections;
 
 import com.swirlds.merkledb.files.DataFileCommon;
+import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.Closeable;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.LongUnaryOperator;
 import java.util.stream.LongStream;
 
 /**
@@ -67,6 +69,36 @@ public interface LongList extends CASableLongIndex, Closeable {
     @Override
     boolean putIfEqual(long index, long oldValue, long newValue);
 
+    /**
+     * Stores a long at the given index, on the condition that the current long therein is less
+     * than the given value. If the index is not set yet, the value is always stored. This method
+     * is atomic, it can be used to resolve conflicts when multiple threads put values for the same
+     * index, and the greatest value must win regardless of the order of calls.
+     *
+     * @param index the index to use
+     * @param value the long to store
+     * @return whether the value was set
+     * @throws IndexOutOfBoundsException if the index is negative or beyond the max capacity of the list
+     * @throws IllegalArgumentException  if the value is zero
+     */
+    boolean putIfGreater(long index, long value);
+
+    /**
+     * Stores a long at the given index, on the condition that the rank of the current long therein
+     * is less than the rank of the given value. If the index is not set yet, the value is always
+     * stored. This method is atomic, it can be used to resolve conflicts when multiple threads put
+     * values for the same index, and the value with the highest rank must win regardless of the
+     * order of calls.
+     *
+     * @param index the index to use
+     * @param value the long to store
+     * @param rank  maps values to their ranks
+     * @return whether the value was set
+     * @throws IndexOutOfBoundsException if the index is negative or beyond the max capacity of the list
+     * @throws IllegalArgumentException  if the value is zero
+     */
+    boolean putIfHigherRank(long index, long value, @NonNull LongUnaryOperator rank);
+
     /**
      * Get the maximum capacity of this LongList; that is, one greater than the maximum legal value
      * of an {@code index} parameter used in a {@code put()} call.
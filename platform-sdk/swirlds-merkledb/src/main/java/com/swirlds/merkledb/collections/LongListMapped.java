@@ -0,0 +1,336 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.merkledb.collections;
+
+import static java.lang.Math.toIntExact;
+import static java.nio.file.Files.exists;
+import static java.util.Objects.requireNonNull;
+
+import com.swirlds.common.io.utility.LegacyTemporaryFileBuilder;
+import com.swirlds.config.api.Configuration;
+import com.swirlds.merkledb.utilities.MerkleDbFileUtils;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.hiero.base.utility.MemoryUtils;
+
+/**
+ * A disk based implementation of {@link LongList}, which memory maps its backing file. Like
+ * {@link LongListDisk}, this implementation stores the data in a temporary file, which doesn't
+ * contain the header, only the body. Unlike {@link LongListDisk}, every chunk is a separate
+ * {@link MappedByteBuffer} region of the file, {@link AbstractLongList#memoryChunkSize} bytes
+ * long and aligned to the chunk size. Values are read and written directly in mapped memory
+ * using volatile memory access and compare-and-swap, exactly like in {@link LongListOffHeap},
+ * so neither reads nor writes need file system calls or locks. The data is paged in and out
+ * by the OS page cache, which makes this implementation a good choice for lists that are too
+ * large to be kept in memory, but are accessed frequently.
+ *
+ * <p>Chunks released by {@link LongList#updateValidRange(long, long)} are zeroed and kept in a
+ * free list, they are reused for new chunks, so the backing file never shrinks. All mappings are
+ * released without zeroing, and the temporary file is deleted, when the list is closed.
+ *
+ * <p>Snapshot semantics are the same as in {@link LongListOffHeap}: {@link #writeToFile(Path)}
+ * copies data from mapped memory to the target file chunk by chunk, the list may be modified
+ * concurrently while a snapshot is written.
+ *
+ * <p>Per the {@link LongList} contract, this class is thread-safe for both concurrent reads and
+ * writes.
+ */
+public final class LongListMapped extends AbstractLongList<MappedByteBuffer> {
+
+    private static final String STORE_POSTFIX = "longListMapped";
+    private static final String DEFAULT_FILE_NAME = "LongListMapped.ll";
+
+    /**
+     * File channel to the temporary file. All chunks are mapped using this channel.
+     * The field is effectively immutable, however it can't be declared final because in some
+     * cases it has to be initialized in {@link #readBodyFromFileChannelOnInit}, which is called
+     * from the parent class constructor
+     */
+    private FileChannel currentFileChannel;
+
+    /** Path to the temporary file used to store the data. Effectively immutable, see above */
+    private Path tempFile;
+
+    /** Path to the temp directory where tempFile above is located. Effectively immutable */
+    private Path tempDir;
+
+    /** Offset in the temporary file of the next chunk to map. Effectively immutable */
+    private AtomicLong nextChunkOffset;
+
+    /** Chunks that are free to be used. Their memory is zeroed. Effectively immutable */
+    private Deque<MappedByteBuffer> freeChunks;
+
+    /** A helper flag to make sure close() can be called multiple times */
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    /**
+     * Create a new memory mapped long list with the specified capacity. Number of longs per chunk
+     * and reserved buffer size are read from the provided configuration.
+     *
+     * @param capacity Maximum number of longs permissible for this long list
+     * @param configuration Platform configuration
+     */
+    public LongListMapped(final long capacity, @NonNull final Configuration configuration) {
+        super(capacity, configuration);
+        initFileChannel(DEFAULT_FILE_NAME, configuration);
+    }
+
+    /**
+     * Create a new memory mapped long list with the specified chunk size, capacity, and reserved
+     * buffer size.
+     *
+     * @param longsPerChunk Number of longs to store in each chunk
+     * @param capacity Maximum number of longs permissible for this long list
+     * @param reservedBufferSize Reserved buffer length that the list should have before
+     *                           minimal index in the list
+     * @param configuration Platform configuration
+     */
+    public LongListMapped(
+            final int longsPerChunk,
+            final long capacity,
+            final long reservedBufferSize,
+            @NonNull final Configuration configuration) {
+        super(longsPerChunk, capacity, reservedBufferSize);
+        initFileChannel(DEFAULT_FILE_NAME, configuration);
+    }
+
+    /**
+     * Create a new memory mapped long list from a file that was saved and the specified capacity.
+     * Number of longs per chunk and reserved buffer size are read from the provided configuration.
+     *
+     * <p>If the list size in the file is greater than the capacity, an {@link IllegalArgumentException}
+     * is thrown.
+     *
+     * @param file The file to load the long list from
+     * @param capacity Maximum number of longs permissible for this long list
+     * @param configuration Platform configuration
+     *
+     * @throws IOException If the file doesn't exist or there was a problem reading the file
+     */
+    public LongListMapped(@NonNull final Path file, final long capacity, @NonNull final Configuration configuration)
+            throws IOException {
+        super(file, capacity, configuration);
+        if (tempFile == null) {
+            throw new IllegalStateException("The temp file is not initialized");
+        }
+    }
+
+    /**
+     * Create a long list from the specified file with the specified chunk size, capacity, and reserved
+     * buffer size. The file must exist.
+     *
+     * <p>If the list size in the file is greater than the capacity, an {@link IllegalArgumentException}
+     * is thrown.
+     *
+     * @param path The file to load the long list from
+     * @param longsPerChunk Number of longs to store in each chunk
+     * @param capacity Maximum number of longs permissible for this long list
+     * @param reservedBufferSize Reserved buffer length that the list should have before minimal index in the list
+     * @param configuration Platform configuration
+     *
+     * @throws IOException If the file doesn't exist or there was a problem reading the file
+     */
+    public LongListMapped(
+            @NonNull final Path path,
+            final int longsPerChunk,
+            final long capacity,
+            final long reservedBufferSize,
+            @NonNull final Configuration configuration)
+            throws IOException {
+        super(path, longsPerChunk, capacity, reservedBufferSize, configuration);
+        // tempFile is initialized in readBodyFromFileChannelOnInit, which is called from
+        // the constructor of the parent class
+        if (tempFile == null) {
+            throw new IllegalStateException("The temp file is not initialized");
+        }
+    }
+
+    private void initFileChannel(final String fileName, @NonNull final Configuration configuration) {
+        requireNonNull(configuration);
+        if (tempFile != null) {
+            throw new IllegalStateException("The temp file has been already initialized");
+        }
+        try {
+            // FileSystemManager.create() deletes the temp directory created previously, so
+            // a legacy temp directory is used instead, see LongListDisk.createTempFile()
+            tempDir = LegacyTemporaryFileBuilder.buildTemporaryDirectory(STORE_POSTFIX, configuration);
+            if (!exists(tempDir)) {
+                Files.createDirectories(tempDir);
+            }
+            tempFile = tempDir.resolve(fileName);
+            currentFileChannel = FileChannel.open(
+                    tempFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        nextChunkOffset = new AtomicLong(0);
+        freeChunks = new ConcurrentLinkedDeque<>();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void readBodyFromFileChannelOnInit(
+            final String sourceFileName, final FileChannel fileChannel, final Configuration configuration)
+            throws IOException {
+        initFileChannel(sourceFileName, configuration);
+        super.readBodyFromFileChannelOnInit(sourceFileName, fileChannel, configuration);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected MappedByteBuffer readChunkData(
+            final FileChannel fileChannel, final int chunkIndex, final int startIndex, final int endIndex)
+            throws IOException {
+        final MappedByteBuffer chunk = createChunk();
+        readDataIntoBuffer(fileChannel, chunkIndex, startIndex, endIndex, chunk);
+        // All chunks are stored with position == 0 and limit == capacity, see LongListOffHeap
+        chunk.clear();
+        return chunk;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void putToChunk(final MappedByteBuffer chunk, final int subIndex, final long value) {
+        MemoryUtils.putLongVolatile(chunk, (long) subIndex * Long.BYTES, value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean putIfEqual(
+            final MappedByteBuffer chunk, final int subIndex, final long oldValue, final long newValue) {
+        return MemoryUtils.compareAndSwapLong(chunk, (long) subIndex * Long.BYTES, oldValue, newValue);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void writeLongsData(final FileChannel fc) throws IOException {
+        final int totalNumOfChunks = calculateNumberOfChunks(size());
+        final long currentMinValidIndex = minValidIndex.get();
+        final int firstChunkWithDataIndex = toIntExact(currentMinValidIndex / longsPerChunk);
+        // Allocated lazily, only if there are missing chunks
+        ByteBuffer emptyBuffer = null;
+        for (int i = firstChunkWithDataIndex; i < totalNumOfChunks; i++) {
+            final MappedByteBuffer chunk = chunkList.get(i);
+            final ByteBuffer buf;
+            if (chunk != null) {
+                // Slice so we don't mess with the chunk buffer pointers
+                buf = chunk.slice(0, memoryChunkSize);
+            } else {
+                if (emptyBuffer == null) {
+                    emptyBuffer = ByteBuffer.allocate(memoryChunkSize);
+                }
+                buf = emptyBuffer.clear();
+            }
+            if (i == firstChunkWithDataIndex) {
+                // writing starts from the first valid index in the first valid chunk
+                final int firstValidIndexInChunk = toIntExact(currentMinValidIndex % longsPerChunk);
+                buf.position(firstValidIndexInChunk * Long.BYTES);
+            }
+            if (i == (totalNumOfChunks - 1)) {
+                // last chunk, so set limit to only the data needed
+                final long bytesWrittenSoFar = (long) memoryChunkSize * i;
+                final long remainingBytes = size() * Long.BYTES - bytesWrittenSoFar;
+                buf.limit(toIntExact(remainingBytes));
+            }
+            MerkleDbFileUtils.completelyWrite(fc, buf);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected long lookupInChunk(@NonNull final MappedByteBuffer chunk, final long subIndex) {
+        return MemoryUtils.getLongVolatile(chunk, subIndex * Long.BYTES);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void partialChunkCleanup(
+            @NonNull final MappedByteBuffer chunk, final boolean leftSide, final long entriesToCleanUp) {
+        if (leftSide) {
+            // cleans up all values up to newMinValidIndex in the first chunk
+            MemoryUtils.setMemory(chunk, 0, entriesToCleanUp * Long.BYTES, (byte) 0);
+        } else {
+            // cleans up all values on the right side of the last chunk
+            final long offset = (longsPerChunk - entriesToCleanUp) * Long.BYTES;
+            MemoryUtils.setMemory(chunk, offset, entriesToCleanUp * Long.BYTES, (byte) 0);
+        }
+    }
+
+    /**
+     * Returns a free chunk, if available, or maps a new region at the end of the temporary file.
+     * Newly mapped regions are filled with zeroes by the file system.
+     */
+    @Override
+    protected MappedByteBuffer createChunk() {
+        final MappedByteBuffer freeChunk = freeChunks.poll();
+        if (freeChunk != null) {
+            return freeChunk;
+        }
+        final long chunkOffset = nextChunkOffset.getAndAdd(memoryChunkSize);
+        try {
+            // Mapping a region beyond the end of the file extends the file
+            final MappedByteBuffer chunk = currentFileChannel.map(MapMode.READ_WRITE, chunkOffset, memoryChunkSize);
+            chunk.order(ByteOrder.nativeOrder());
+            return chunk;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Zeroes the chunk and moves it to the free list. If the list is being closed, the chunk is
+     * unmapped right away instead, there is no need to zero the memory, since the file is deleted.
+     */
+    @Override
+    protected void closeChunk(@NonNull final MappedByteBuffer chunk) {
+        if (closed.get()) {
+            MemoryUtils.closeMmapBuffer(chunk);
+            return;
+        }
+        MemoryUtils.setMemory(chunk, 0, memoryChunkSize, (byte) 0);
+        freeChunks.add(chunk);
+    }
+
+    /**
+     * Releases all memory mapped chunks, closes the file channel, and deletes the temporary file.
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            // Already closed
+            return;
+        }
+        // unmap all chunks in use, see closeChunk()
+        super.close();
+        // unmap all free chunks
+        MappedByteBuffer chunk;
+        while ((chunk = freeChunks.poll()) != null) {
+            MemoryUtils.closeMmapBuffer(chunk);
+        }
+        try {
+            currentFileChannel.close();
+            Files.delete(tempFile);
+            // The directory must be empty at this point
+            Files.delete(tempDir);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // exposed for test purposes only - DO NOT USE IN PROD CODE
+    FileChannel getCurrentFileChannel() {
+        return currentFileChannel;
+    }
+}
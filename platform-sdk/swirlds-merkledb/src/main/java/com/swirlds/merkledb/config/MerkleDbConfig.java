@@ -8,6 +8,7 @@ import com.swirlds.config.api.ConfigProperty;
 import com.swirlds.config.api.Configuration;
 import com.swirlds.config.api.validation.ConfigViolation;
 import com.swirlds.config.api.validation.annotation.ConstraintMethod;
+import com.swirlds.config.api.validation.annotation.Max;
 import com.swirlds.config.api.validation.annotation.Min;
 import com.swirlds.config.api.validation.annotation.Positive;
 import com.swirlds.config.extensions.validators.DefaultConfigViolation;
@@ -39,6 +40,23 @@ import com.swirlds.config.extensions.validators.DefaultConfigViolation;
  * @param minNumberOfFilesInCompaction
  * 		The minimum number of files before we do a compaction. If there are less than this number then it is
  * 		acceptable to not do a compaction.
+ * @param compactionGarbageRatioThreshold
+ *      If there are not enough files to compact by compaction levels, data files with at least this fraction of
+ *      data items no longer referenced from the store index are compacted, regardless of their levels and the
+ *      number of such files. Must be between 0.0 and 1.0. If zero, which is the default, files are only compacted
+ *      by compaction levels.
+ * @param compactionReadMbPerSecond
+ *      Node-wide budget for data file reads by all compactions, in MB per second. If zero, compaction reads are
+ *      not throttled.
+ * @param compactionWriteMbPerSecond
+ *      Node-wide budget for data file writes by all compactions, in MB per second. If zero, compaction writes are
+ *      not throttled.
+ * @param compactionBackOffFlushLatencyMs
+ *      If a data source flush takes longer than this number of milliseconds, all compactions are put on hold for
+ *      {@link #compactionBackOffDurationMs} to give the disk bandwidth back to flushes and reads. If zero,
+ *      compactions never back off because of slow flushes.
+ * @param compactionBackOffDurationMs
+ *      How long compactions are put on hold, in milliseconds, when flush latency is elevated.
  * @param iteratorInputBufferBytes
  *      Size of buffer used by data file iterators, in bytes.
  * @param reconnectKeyLeakMitigationEnabled
@@ -50,6 +68,11 @@ import com.swirlds.config.extensions.validators.DefaultConfigViolation;
  * @param indexRebuildingEnforced
  * 		Configuration used to avoid reading stored indexes from a saved state and enforce rebuilding those indexes from
  * 		data files.
+ * @param indexRebuildingParallelism
+ *      Max number of threads used to rebuild indexes from data files, when indexes are missing or rebuilding is
+ *      enforced with {@link #indexRebuildingEnforced}. Every thread scans its own data file at a time and uses its
+ *      own {@link #iteratorInputBufferBytes} buffer. If 1, data files are scanned sequentially. The same number
+ *      of threads is used to repair key to path maps, see {@link #tablesToRepairHdhm}.
  * @param tablesToRepairHdhm
  *      Comma-delimited list of data source names, may be empty. When a MerkleDb data source with a name from the
  *      list is loaded from a snapshot, its key to path map will be rebuilt from path to KV data files. Note that
@@ -63,10 +86,32 @@ import com.swirlds.config.extensions.validators.DefaultConfigViolation;
  * @param leafRecordCacheSize
  *      Cache size in bytes for reading virtual leaf records. Initialized in data source creation time from MerkleDb config.
  *      If the value is zero, leaf records cache isn't used.
+ * @param leafRecordCacheWays
+ *      Number of entries per set in the leaf records cache. If set to 1, the cache is direct-mapped, every key
+ *      has a single cache slot, and the last read entry always wins. If greater than 1, the cache is set associative,
+ *      and a frequency based admission filter is used to keep frequently accessed entries in the cache.
  * @param maxFileChannelsPerFileReader
  *     Maximum number of file channels per file reader.
  * @param maxThreadsPerFileChannel
  *    Maximum number of threads per file channel.
+ * @param halfDiskHashMapBloomFilterEnabled
+ *      Indicates whether half disk hash maps should maintain an off-heap bloom filter per bucket to
+ *      answer lookups for absent keys without reading buckets from disk.
+ * @param halfDiskHashMapBloomFilterBitsPerBucket
+ *      Number of bloom filter bits per half disk hash map bucket. Must be a power of two, at least 64.
+ *      Filter memory usage is number of buckets times this value divided by 8, in bytes.
+ * @param dataFileMmapReadsEnabled
+ *      Indicates whether data items in completed (immutable) data files should be read from memory mapped file
+ *      windows rather than using file channel reads. Mapped reads don't need a system call per data item. Data
+ *      items are still copied out of the windows, so windows can be unmapped when their data file is closed, e.g.
+ *      when it's deleted by compaction.
+ * @param dataFileMmapWindowSize
+ *      Size of a single memory mapped data file window, in bytes. Data files larger than this size are mapped
+ *      in multiple windows.
+ * @param longListMmapEnabled
+ *      Indicates whether data location indices (path to data location, bucket index to bucket location) should be
+ *      stored in memory mapped temporary files, see {@code LongListMapped}, rather than in off-heap memory or, when
+ *      disk based indices are preferred, in temporary files accessed using file channels.
  */
 @ConfigData("merkleDb")
 public record MerkleDbConfig(
@@ -81,16 +126,29 @@ public record MerkleDbConfig(
         @ConstraintMethod("minNumberOfFilesInCompactionValidation") @ConfigProperty(defaultValue = "8")
                 int minNumberOfFilesInCompaction,
         @Min(3) @ConfigProperty(defaultValue = "5") int maxCompactionLevel,
+        @Min(0) @Max(1) @ConfigProperty(defaultValue = "0.0") double compactionGarbageRatioThreshold,
+        @Min(0) @ConfigProperty(defaultValue = "0") int compactionReadMbPerSecond,
+        @Min(0) @ConfigProperty(defaultValue = "0") int compactionWriteMbPerSecond,
+        @Min(0) @ConfigProperty(defaultValue = "0") long compactionBackOffFlushLatencyMs,
+        @Min(0) @ConfigProperty(defaultValue = "1000") long compactionBackOffDurationMs,
         /* FUTURE WORK - https://github.com/hashgraph/hedera-services/issues/5178 */
         @Positive @ConfigProperty(defaultValue = "16777216") int iteratorInputBufferBytes,
         @ConfigProperty(defaultValue = "false") boolean reconnectKeyLeakMitigationEnabled,
         @ConfigProperty(defaultValue = "false") boolean indexRebuildingEnforced,
+        @Min(1) @ConfigProperty(defaultValue = "4") int indexRebuildingParallelism,
         @ConfigProperty(defaultValue = "") String tablesToRepairHdhm,
         @ConfigProperty(defaultValue = "75.0") double percentHalfDiskHashMapFlushThreads,
         @ConfigProperty(defaultValue = "-1") int numHalfDiskHashMapFlushThreads,
         @ConfigProperty(defaultValue = "1048576") int leafRecordCacheSize,
+        @Min(1) @Max(64) @ConfigProperty(defaultValue = "1") int leafRecordCacheWays,
         @Min(1) @ConfigProperty(defaultValue = "8") int maxFileChannelsPerFileReader,
-        @Min(1) @ConfigProperty(defaultValue = "8") int maxThreadsPerFileChannel) {
+        @Min(1) @ConfigProperty(defaultValue = "8") int maxThreadsPerFileChannel,
+        @ConfigProperty(defaultValue = "false") boolean halfDiskHashMapBloomFilterEnabled,
+        @ConstraintMethod("halfDiskHashMapBloomFilterBitsPerBucketValidation") @ConfigProperty(defaultValue = "512")
+                int halfDiskHashMapBloomFilterBitsPerBucket,
+        @ConfigProperty(defaultValue = "false") boolean dataFileMmapReadsEnabled,
+        @Min(1048576) @Max(1073741824) @ConfigProperty(defaultValue = "268435456") int dataFileMmapWindowSize,
+        @ConfigProperty(defaultValue = "false") boolean longListMmapEnabled) {
 
     static double UNIT_FRACTION_PERCENT = 100.0;
 
@@ -108,6 +166,20 @@ public record MerkleDbConfig(
         return null;
     }
 
+    public ConfigViolation halfDiskHashMapBloomFilterBitsPerBucketValidation(final Configuration configuration) {
+        final int bitsPerBucket =
+                configuration.getConfigData(MerkleDbConfig.class).halfDiskHashMapBloomFilterBitsPerBucket();
+        if ((bitsPerBucket < Long.SIZE) || (Integer.bitCount(bitsPerBucket) != 1)) {
+            return new DefaultConfigViolation(
+                    "halfDiskHashMapBloomFilterBitsPerBucket",
+                    "%d".formatted(bitsPerBucket),
+                    true,
+                    "Cannot configure halfDiskHashMapBloomFilterBitsPerBucket to " + bitsPerBucket
+                            + ", it must be a power of two and >= " + Long.SIZE);
+        }
+        return null;
+    }
+
     public int getNumHalfDiskHashMapFlushThreads() {
         final int numProcessors = Runtime.getRuntime().availableProcessors();
         final int threads = (numHalfDiskHashMapFlushThreads() == -1)
@@ -0,0 +1,208 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.merkledb.files;
+
+import static com.swirlds.base.units.UnitConstants.MEBIBYTES_TO_BYTES;
+import static com.swirlds.logging.legacy.LogMarker.MERKLE_DB;
+import static java.util.Objects.requireNonNull;
+
+import com.swirlds.merkledb.config.MerkleDbConfig;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Node-wide disk I/O budget shared by all data file compactions of all MerkleDb tables.
+ *
+ * <p>Compaction is a background process, but it competes for disk bandwidth with data source
+ * flushes and leaf reads during transaction handling. To limit the impact, compactors report
+ * every chunk of bytes they read and write to this budget, and the budget blocks the compaction
+ * thread, if compactions are faster than the configured read and write rates. Rates are enforced
+ * with token buckets, one for reads and one for writes. Every bucket is refilled at its rate and
+ * can hold up to one second of tokens, so short bursts after idle periods are allowed.
+ *
+ * <p>In addition, compactions can be put on hold completely for a while. This is done
+ * automatically, when a data source flush is slower than {@link
+ * MerkleDbConfig#compactionBackOffFlushLatencyMs()}, and can also be requested by other
+ * components using {@link #backOff(Duration)}, for example, when transaction handling latency is
+ * elevated.
+ *
+ * <p>Compactors must never call {@link #acquire(long, long)} while holding any locks, which
+ * may be needed by snapshots or flushes.
+ */
+public final class CompactionIoBudget {
+
+    private static final Logger logger = LogManager.getLogger(CompactionIoBudget.class);
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * The budget instance. Accessed using {@link #getInstance(MerkleDbConfig)}.
+     */
+    private static CompactionIoBudget instance = null;
+
+    /**
+     * Returns the node-wide compaction I/O budget. Similar to the compaction executor, the budget
+     * is initialized using the configuration provided by the first call to this method. Subsequent
+     * calls will reuse the same budget, regardless of any new configurations provided.
+     *
+     * @param merkleDbConfig MerkleDb config
+     * @return the compaction I/O budget
+     */
+    public static synchronized CompactionIoBudget getInstance(@NonNull final MerkleDbConfig merkleDbConfig) {
+        requireNonNull(merkleDbConfig);
+        if (instance == null) {
+            instance = new CompactionIoBudget(
+                    (long) merkleDbConfig.compactionReadMbPerSecond() * MEBIBYTES_TO_BYTES,
+                    (long) merkleDbConfig.compactionWriteMbPerSecond() * MEBIBYTES_TO_BYTES,
+                    Duration.ofMillis(merkleDbConfig.compactionBackOffFlushLatencyMs()),
+                    Duration.ofMillis(merkleDbConfig.compactionBackOffDurationMs()));
+        }
+        return instance;
+    }
+
+    private final TokenBucket readBucket;
+    private final TokenBucket writeBucket;
+
+    // Flushes slower than this trigger compaction back off. Zero means flushes never trigger it
+    private final long flushLatencyThresholdNanos;
+
+    // How long compactions are on hold after a slow flush
+    private final Duration backOffDuration;
+
+    // Compactions are on hold till this time, as returned by System.nanoTime()
+    private volatile long backOffUntilNanos;
+
+    /**
+     * Creates a new compaction I/O budget.
+     *
+     * @param readBytesPerSecond read budget, in bytes per second, or zero for unlimited reads
+     * @param writeBytesPerSecond write budget, in bytes per second, or zero for unlimited writes
+     * @param flushLatencyThreshold flushes slower than this trigger compaction back off, zero to
+     *                              never back off because of slow flushes
+     * @param backOffDuration how long compactions are on hold after a slow flush
+     */
+    CompactionIoBudget(
+            final long readBytesPerSecond,
+            final long writeBytesPerSecond,
+            @NonNull final Duration flushLatencyThreshold,
+            @NonNull final Duration backOffDuration) {
+        final long now = System.nanoTime();
+        this.readBucket = new TokenBucket(readBytesPerSecond, now);
+        this.writeBucket = new TokenBucket(writeBytesPerSecond, now);
+        this.flushLatencyThresholdNanos = flushLatencyThreshold.toNanos();
+        this.backOffDuration = requireNonNull(backOffDuration);
+        this.backOffUntilNanos = now;
+    }
+
+    /**
+     * Blocks the current compaction thread, while compactions are on hold or have exceeded their
+     * read or write budget.
+     *
+     * @param bytesRead the number of bytes read by the compaction since the previous call
+     * @param bytesWritten the number of bytes written by the compaction since the previous call
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public void acquire(final long bytesRead, final long bytesWritten) throws InterruptedException {
+        long waitNanos = backOffWaitNanos(System.nanoTime());
+        while (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+            waitNanos = backOffWaitNanos(System.nanoTime());
+        }
+        waitNanos = reserve(bytesRead, bytesWritten, System.nanoTime());
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    /**
+     * Puts all compactions on hold for the given duration. Compactions that are already on hold
+     * for a longer time are not affected.
+     *
+     * @param duration the duration
+     */
+    public void backOff(@NonNull final Duration duration) {
+        backOff(duration.toNanos(), System.nanoTime());
+    }
+
+    /**
+     * Reports the duration of a data source flush. If the flush was slower than the configured
+     * threshold, all compactions are put on hold for a while.
+     *
+     * @param tableName the name of the flushed table, used for logging
+     * @param flushNanos the flush duration, in nanoseconds
+     */
+    public void reportFlushLatency(@NonNull final String tableName, final long flushNanos) {
+        if ((flushLatencyThresholdNanos > 0) && (flushNanos > flushLatencyThresholdNanos)) {
+            logger.debug(
+                    MERKLE_DB.getMarker(),
+                    "[{}] Flush took {} ms, compactions are put on hold for {} ms",
+                    tableName,
+                    TimeUnit.NANOSECONDS.toMillis(flushNanos),
+                    backOffDuration.toMillis());
+            backOff(backOffDuration);
+        }
+    }
+
+    synchronized void backOff(final long durationNanos, final long nowNanos) {
+        final long until = nowNanos + durationNanos;
+        // nanoTime values must only be compared using differences
+        if (until - backOffUntilNanos > 0) {
+            backOffUntilNanos = until;
+        }
+    }
+
+    /**
+     * Returns how long, in nanoseconds, compactions are still on hold at the given time.
+     */
+    long backOffWaitNanos(final long nowNanos) {
+        return Math.max(0, backOffUntilNanos - nowNanos);
+    }
+
+    /**
+     * Takes the given number of bytes from the read and write buckets. If there are not enough
+     * tokens in any of the buckets, the tokens are still taken, and the caller must wait for the
+     * returned time before doing any more I/O, so the debt is paid back.
+     *
+     * @return the time to wait, in nanoseconds
+     */
+    synchronized long reserve(final long bytesRead, final long bytesWritten, final long nowNanos) {
+        return Math.max(readBucket.take(bytesRead, nowNanos), writeBucket.take(bytesWritten, nowNanos));
+    }
+
+    /**
+     * A simple token bucket. Not thread safe, all access must be synchronized externally.
+     */
+    private static final class TokenBucket {
+
+        // Refill rate, in tokens (bytes) per second. Zero means unlimited
+        private final long rate;
+
+        // Available tokens. May be negative, if the bucket is in debt
+        private double tokens;
+
+        // Last refill time, as returned by System.nanoTime()
+        private long lastRefillNanos;
+
+        TokenBucket(final long rate, final long nowNanos) {
+            this.rate = rate;
+            this.tokens = rate;
+            this.lastRefillNanos = nowNanos;
+        }
+
+        long take(final long count, final long nowNanos) {
+            if (rate == 0) {
+                return 0;
+            }
+            final long elapsedNanos = nowNanos - lastRefillNanos;
+            if (elapsedNanos > 0) {
+                // The bucket can hold up to one second of tokens
+                tokens = Math.min(rate, tokens + (double) elapsedNanos * rate / NANOS_PER_SECOND);
+                lastRefillNanos = nowNanos;
+            }
+            tokens -= count;
+            return tokens >= 0 ? 0 : (long) Math.ceil(-tokens * NANOS_PER_SECOND / rate);
+        }
+    }
+}
@@ -28,24 +28,35 @@ import com.swirlds.merkledb.collections.ImmutableIndexedObjectListUsingArray;
 import com.swirlds.merkledb.collections.LongList;
 import com.swirlds.merkledb.config.MerkleDbConfig;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.ClosedByInterruptException;
 import java.nio.channels.ClosedChannelException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.LongSummaryStatistics;
 import java.util.Set;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -155,6 +166,12 @@ public class DataFileCollection implements FileStatisticAware, Snapshotable {
     private final ConcurrentSkipListSet<Integer> setOfNewFileIndexes =
             logger.isTraceEnabled() ? new ConcurrentSkipListSet<>() : null;
 
+    /**
+     * Index rebuild statistics, if an index was rebuilt from data files, when this collection was
+     * loaded, or null otherwise.
+     */
+    private volatile IndexRebuildStats indexRebuildStats = null;
+
     /**
      * Construct a new DataFileCollection.
      *
@@ -314,6 +331,94 @@ public class DataFileCollection implements FileStatisticAware, Snapshotable {
                         .summaryStatistics();
     }
 
+    /**
+     * Get the fraction of space taken by data items, which are no longer live, in all fully
+     * written files of this collection. See {@link DataFileReader#getGarbageSize()} for details.
+     *
+     * @return the garbage ratio, from 0.0 to 1.0
+     */
+    public double getGarbageRatio() {
+        long totalSize = 0;
+        long garbageSize = 0;
+        for (final DataFileReader reader : getAllCompletedFiles()) {
+            totalSize += reader.getSize();
+            garbageSize += reader.getGarbageSize();
+        }
+        return totalSize == 0 ? 0 : (double) garbageSize / totalSize;
+    }
+
+    /**
+     * Updates live data item counts in data files, when an index entry is changed from one data
+     * location to another. This method must be called every time an index entry is set, changed,
+     * or removed, including entries removed from the index because of valid key range changes.
+     *
+     * <p>Data items are written to files, and index entries are updated by the flushing thread
+     * and compaction threads without any locks between the two. If a flush reads an index entry
+     * right before compaction moves it to a new location, and then overwrites it, the count of the
+     * old location file is decremented twice, and the count of the compacted file isn't decremented
+     * at all. The old file is being compacted and will be deleted soon anyway, so the only effect
+     * is a slightly underestimated garbage ratio of the compacted file.
+     *
+     * @param oldDataLocation the data location the index entry pointed to, or zero if the entry
+     *                        is new
+     * @param newDataLocation the data location the index entry points to now, or zero if the entry
+     *                        is removed
+     */
+    public void updateLiveItems(final long oldDataLocation, final long newDataLocation) {
+        final ImmutableIndexedObjectList<DataFileReader> currentFiles = dataFiles.get();
+        if (currentFiles == null) {
+            return;
+        }
+        if (oldDataLocation > 0) {
+            final DataFileReader oldFile = currentFiles.get(fileIndexFromDataLocation(oldDataLocation));
+            if (oldFile != null) {
+                oldFile.addLiveItems(-1);
+            }
+        }
+        if (newDataLocation > 0) {
+            final DataFileReader newFile = currentFiles.get(fileIndexFromDataLocation(newDataLocation));
+            if (newFile != null) {
+                newFile.addLiveItems(1);
+            }
+        }
+    }
+
+    /**
+     * Counts live data items in all files of this collection from scratch, using the given index.
+     * This method is called when the collection is loaded from disk. After that, live item counts
+     * are updated incrementally using {@link #updateLiveItems(long, long)}.
+     *
+     * @param index the index of all live data items in this collection
+     * @throws InterruptedException if the thread is interrupted while iterating over the index
+     */
+    public void countLiveItems(@NonNull final CASableLongIndex index) throws InterruptedException {
+        final ImmutableIndexedObjectList<DataFileReader> currentFiles = dataFiles.get();
+        if (currentFiles == null) {
+            return;
+        }
+        final List<DataFileReader> files = currentFiles.stream().toList();
+        if (files.isEmpty()) {
+            return;
+        }
+        int minFileIndex = Integer.MAX_VALUE;
+        int maxFileIndex = 0;
+        for (final DataFileReader file : files) {
+            minFileIndex = Math.min(minFileIndex, file.getIndex());
+            maxFileIndex = Math.max(maxFileIndex, file.getIndex());
+        }
+        final int firstFileIndex = minFileIndex;
+        final long[] counts = new long[maxFileIndex - minFileIndex + 1];
+        index.forEach((key, dataLocation) -> {
+            final int i = fileIndexFromDataLocation(dataLocation) - firstFileIndex;
+            if ((i >= 0) && (i < counts.length)) {
+                counts[i]++;
+            }
+        });
+        for (final DataFileReader file : files) {
+            file.setLiveItems(counts[file.getIndex() - firstFileIndex]);
+        }
+    }
+
     /** Close all the data files */
     public void close() throws IOException {
         // finish writing if we still are
@@ -553,6 +658,106 @@ public class DataFileCollection implements FileStatisticAware, Snapshotable {
         throw new IOException("Read failed after 5 retries");
     }
 
+    /**
+     * Read multiple data items using a LongList index. Data locations for all keys are looked up
+     * in the index first, then sorted by file and offset. Items from the same file are read in
+     * offset order, items close to each other in the file are read with a single file read.
+     * Items from different files are read in parallel.
+     *
+     * <p>If a file is closed during reading, for example, because of a parallel compaction, the
+     * remaining items from the file are read one by one using {@link #readDataItemUsingIndex},
+     * which provides the same retry guarantees as for single item reads.
+     *
+     * @param index key-&gt;dataLocation index
+     * @param keysIntoIndex The keys to lookup in index
+     * @param consumer called for every key with its index in the keys array and data item bytes,
+     *     or null if the key is not found in the index. May be called from multiple threads in
+     *     parallel, but never for the same key more than once. Data item bytes are only valid
+     *     during the call
+     * @throws IOException If there was a problem reading data items
+     */
+    public void readDataItemsUsingIndex(
+            final LongList index, final long[] keysIntoIndex, final DataItemConsumer consumer) throws IOException {
+        final int count = keysIntoIndex.length;
+        final long[] dataLocations = new long[count];
+        for (int i = 0; i < count; i++) {
+            dataLocations[i] = index.get(keysIntoIndex[i], LongList.IMPERMISSIBLE_VALUE);
+            if (dataLocations[i] == LongList.IMPERMISSIBLE_VALUE) {
+                consumer.accept(i, null);
+            }
+        }
+        // Sorting by data location is the same as sorting by file index, then by offset
+        final int[] order = IntStream.range(0, count)
+                .filter(i -> dataLocations[i] != LongList.IMPERMISSIBLE_VALUE)
+                .boxed()
+                .sorted(Comparator.comparingLong(i -> dataLocations[i]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        // Split into file groups, every group is [from, to) range in the order array
+        final List<int[]> fileGroups = new ArrayList<>();
+        int from = 0;
+        while (from < order.length) {
+            final int fileIndex = fileIndexFromDataLocation(dataLocations[order[from]]);
+            int to = from + 1;
+            while ((to < order.length) && (fileIndexFromDataLocation(dataLocations[order[to]]) == fileIndex)) {
+                to++;
+            }
+            fileGroups.add(new int[] {from, to});
+            from = to;
+        }
+        if (fileGroups.size() == 1) {
+            readDataItemsFromFile(index, keysIntoIndex, dataLocations, order, 0, order.length, consumer);
+            return;
+        }
+        try {
+            fileGroups.parallelStream().forEach(group -> {
+                try {
+                    readDataItemsFromFile(index, keysIntoIndex, dataLocations, order, group[0], group[1], consumer);
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void readDataItemsFromFile(
+            final LongList index,
+            final long[] keysIntoIndex,
+            final long[] dataLocations,
+            final int[] order,
+            final int from,
+            final int to,
+            final DataItemConsumer consumer)
+            throws IOException {
+        final int[] itemsRead = {0};
+        try {
+            final DataFileReader file = readerForDataLocation(dataLocations[order[from]]);
+            if (file != null) {
+                file.readDataItems(dataLocations, order, from, to, (i, dataItem) -> {
+                    consumer.accept(i, dataItem);
+                    itemsRead[0]++;
+                });
+            }
+        } catch (final ClosedByInterruptException e) {
+            throw e;
+        } catch (final IOException e) {
+            logger.warn(
+                    EXCEPTION.getMarker(),
+                    "Store [{}] had IOException while reading a batch of {} items from file [{}],"
+                            + " falling back to reading items one by one",
+                    storeName,
+                    to - from,
+                    fileIndexFromDataLocation(dataLocations[order[from]]),
+                    e);
+        }
+        // If the file was closed or failed, read the rest one by one with retries
+        for (int i = from + itemsRead[0]; i < to; i++) {
+            consumer.accept(order[i], readDataItemUsingIndex(index, keysIntoIndex[order[i]]));
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public void snapshot(final Path snapshotDirectory) throws IOException {
@@ -590,9 +795,70 @@ public class DataFileCollection implements FileStatisticAware, Snapshotable {
         void newIndexEntry(long dataLocation, @NonNull BufferedData dataValue);
     }
 
+    /**
+     * A {@link LoadedDataCallback}, which can be called concurrently from multiple threads. When
+     * such a callback is provided, existing data files are scanned in parallel, see {@link
+     * MerkleDbConfig#indexRebuildingParallelism()}. Data items are then reported in no particular
+     * order, and the callback is responsible to resolve conflicts. If there are multiple data items
+     * for the same key, the one with the highest rank must win, which is what a sequential scan of
+     * data files results in.
+     *
+     * <p>Data files are ranked the same way as they are sorted for a sequential scan, by creation
+     * date, then by file index, see {@link DataFileReader#compareTo(DataFileReader)}. Note that data
+     * locations can't be compared directly: a compacted file gets the creation date of the newest
+     * file it was compacted from, so it may have a greater file index, but a lower rank than a file
+     * flushed while the compaction was in progress. Ranks of data locations are provided to the
+     * callback as a function, which can be used with {@link LongList#putIfHigherRank(long, long,
+     * LongUnaryOperator)}.
+     */
+    @FunctionalInterface
+    public interface ConcurrentLoadedDataCallback extends LoadedDataCallback {
+
+        /**
+         * Add an index entry for the given data location and value, unless there is already an
+         * entry with a higher ranked data location for the same key.
+         *
+         * @param dataLocation the data location
+         * @param dataValue the data value
+         * @param dataLocationRank maps data locations to their ranks, non-zero locations in loaded
+         *                         data files have positive ranks, higher for newer data items
+         */
+        void newIndexEntry(
+                long dataLocation, @NonNull BufferedData dataValue, @NonNull LongUnaryOperator dataLocationRank);
+
+        /**
+         * Not supported, concurrent callbacks must be called with data location ranks.
+         */
+        @Override
+        default void newIndexEntry(final long dataLocation, @NonNull final BufferedData dataValue) {
+            throw new UnsupportedOperationException("Data location ranks are required");
+        }
+    }
+
+    /**
+     * Statistics of an index rebuild from existing data files.
+     *
+     * @param dataFiles the number of scanned data files
+     * @param dataItems the number of scanned data items
+     * @param bytes the total size of scanned data files, in bytes
+     * @param durationNanos how long it took to scan the files, in nanoseconds
+     */
+    public record IndexRebuildStats(int dataFiles, long dataItems, long bytes, long durationNanos) {}
+
     // =================================================================================================================
     // Private API
 
+    /**
+     * Get index rebuild statistics, if an index was rebuilt using a {@link LoadedDataCallback},
+     * when this collection was loaded from existing data files.
+     *
+     * @return index rebuild statistics, or null if no index was rebuilt
+     */
+    @Nullable
+    public IndexRebuildStats getIndexRebuildStats() {
+        return indexRebuildStats;
+    }
+
     /**
      * Used by tests to get data files for checking
      *
@@ -781,15 +1047,7 @@ public class DataFileCollection implements FileStatisticAware, Snapshotable {
         nextFileIndex.set(getMaxFileReaderIndex(dataFileReaders) + 1);
         // now call indexEntryCallback
         if (loadedDataCallback != null) {
-            // now iterate over every file and every key
-            for (final DataFileReader reader : dataFileReaders) {
-                try (final DataFileIterator iterator = reader.createIterator()) {
-                    while (iterator.next()) {
-                        loadedDataCallback.newIndexEntry(
-                                iterator.getDataItemDataLocation(), iterator.getDataItemData());
-                    }
-                }
-            }
+            rebuildIndex(dataFileReaders, loadedDataCallback);
         }
         // Mark all files we loaded as being available for compactions
         for (final DataFileReader dataFileReader : dataFileReaders) {
@@ -799,10 +1057,161 @@ public class DataFileCollection implements FileStatisticAware, Snapshotable {
                 MERKLE_DB.getMarker(), "Finished loading existing data files for DataFileCollection [{}]", storeName);
     }
 
+    /**
+     * Iterates over every data item in every given file and reports it to the callback. If the
+     * callback supports concurrent calls, files are scanned in parallel using a fork-join task tree,
+     * otherwise they are scanned sequentially in the given order.
+     *
+     * @param dataFileReaders data files to scan, sorted by {@link DataFileReader#compareTo(DataFileReader)}
+     */
+    private void rebuildIndex(final DataFileReader[] dataFileReaders, final LoadedDataCallback loadedDataCallback)
+            throws IOException {
+        final long start = System.nanoTime();
+        final LoadedDataCallback callback;
+        final int parallelism;
+        if (loadedDataCallback instanceof ConcurrentLoadedDataCallback concurrentCallback) {
+            final LongUnaryOperator dataLocationRank = dataLocationRank(dataFileReaders);
+            callback = (dataLocation, dataValue) ->
+                    concurrentCallback.newIndexEntry(dataLocation, dataValue, dataLocationRank);
+            parallelism = Math.min(dbConfig.indexRebuildingParallelism(), dataFileReaders.length);
+        } else {
+            callback = loadedDataCallback;
+            parallelism = 1;
+        }
+        final LongAdder dataItems = new LongAdder();
+        if (parallelism > 1) {
+            final ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                pool.invoke(new LoadFilesTask(dataFileReaders, 0, dataFileReaders.length, callback, dataItems));
+            } catch (final UncheckedIOException e) {
+                throw e.getCause();
+            } finally {
+                pool.shutdown();
+            }
+        } else {
+            for (final DataFileReader reader : dataFileReaders) {
+                dataItems.add(loadDataFile(reader, callback));
+            }
+        }
+        final long bytes = Arrays.stream(dataFileReaders).mapToLong(DataFileReader::getSize).sum();
+        final IndexRebuildStats stats =
+                new IndexRebuildStats(dataFileReaders.length, dataItems.sum(), bytes, System.nanoTime() - start);
+        indexRebuildStats = stats;
+        logger.info(
+                MERKLE_DB.getMarker(),
+                "Index for DataFileCollection [{}] is rebuilt from {} data files, {} data items, {} bytes, "
+                        + "in {} ms using {} threads",
+                storeName,
+                stats.dataFiles(),
+                stats.dataItems(),
+                stats.bytes(),
+                TimeUnit.NANOSECONDS.toMillis(stats.durationNanos()),
+                parallelism);
+    }
+
+    /**
+     * Creates a function to map data locations in the given files to their ranks. The rank of a data
+     * location is a data location itself, but with the file index replaced with the position of the
+     * file in the given array. Data locations in other files have zero rank.
+     *
+     * @param dataFileReaders data files, sorted by {@link DataFileReader#compareTo(DataFileReader)}
+     */
+    private LongUnaryOperator dataLocationRank(final DataFileReader[] dataFileReaders) {
+        final int[] filePositions = new int[getMaxFileReaderIndex(dataFileReaders) + 1];
+        Arrays.fill(filePositions, -1);
+        for (int i = 0; i < dataFileReaders.length; i++) {
+            filePositions[dataFileReaders[i].getIndex()] = i;
+        }
+        return dataLocation -> {
+            final int fileIndex = fileIndexFromDataLocation(dataLocation);
+            if ((fileIndex < 0) || (fileIndex >= filePositions.length) || (filePositions[fileIndex] < 0)) {
+                return 0;
+            }
+            return DataFileCommon.dataLocation(filePositions[fileIndex], byteOffsetFromDataLocation(dataLocation));
+        };
+    }
+
+    /**
+     * Reports all data items from the given file to the callback.
+     *
+     * @return the number of data items in the file
+     */
+    private static long loadDataFile(final DataFileReader reader, final LoadedDataCallback loadedDataCallback)
+            throws IOException {
+        long dataItems = 0;
+        // Every iterator uses its own input buffer, so multiple files can be scanned in parallel
+        try (final DataFileIterator iterator = reader.createIterator()) {
+            while (iterator.next()) {
+                loadedDataCallback.newIndexEntry(iterator.getDataItemDataLocation(), iterator.getDataItemData());
+                dataItems++;
+            }
+        }
+        return dataItems;
+    }
+
+    /**
+     * A fork-join task to load data items from a range of data files. The range is split in halves,
+     * till there is a single file to load, so idle threads can steal the remaining files from busy
+     * ones.
+     */
+    private static final class LoadFilesTask extends RecursiveAction {
+
+        private final DataFileReader[] dataFileReaders;
+        private final int from;
+        private final int to;
+        private final LoadedDataCallback loadedDataCallback;
+        private final LongAdder dataItems;
+
+        LoadFilesTask(
+                final DataFileReader[] dataFileReaders,
+                final int from,
+                final int to,
+                final LoadedDataCallback loadedDataCallback,
+                final LongAdder dataItems) {
+            this.dataFileReaders = dataFileReaders;
+            this.from = from;
+            this.to = to;
+            this.loadedDataCallback = loadedDataCallback;
+            this.dataItems = dataItems;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                try {
+                    dataItems.add(loadDataFile(dataFileReaders[from], loadedDataCallback));
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            } else {
+                final int mid = (from + to) >>> 1;
+                invokeAll(
+                        new LoadFilesTask(dataFileReaders, from, mid, loadedDataCallback, dataItems),
+                        new LoadFilesTask(dataFileReaders, mid, to, loadedDataCallback, dataItems));
+            }
+        }
+    }
+
     private int getMaxFileReaderIndex(final DataFileReader[] dataFileReaders) {
         return Stream.of(dataFileReaders)
                 .mapToInt(DataFileReader::getIndex)
                 .max()
                 .orElse(-1);
     }
+
+    /**
+     * A callback to process data items read in a batch, see {@link #readDataItemsUsingIndex}.
+     */
+    @FunctionalInterface
+    public interface DataItemConsumer {
+
+        /**
+         * Process a data item.
+         *
+         * @param index data item index in the batch
+         * @param dataItem data item bytes, or null if the item is not found
+         * @throws IOException If there was a problem processing the data item
+         */
+        void accept(int index, BufferedData dataItem) throws IOException;
+    }
 }
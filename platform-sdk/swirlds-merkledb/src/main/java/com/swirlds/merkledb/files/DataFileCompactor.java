@@ -49,6 +49,12 @@ public class DataFileCompactor {
      */
     public static final int INITIAL_COMPACTION_LEVEL = 0;
 
+    /**
+     * Copied data items are reported to the compaction I/O budget in chunks of at least this
+     * many bytes, so the budget isn't checked for every small data item.
+     */
+    private static final long IO_BUDGET_CHUNK_BYTES = 64 * 1024;
+
     private final MerkleDbConfig dbConfig;
 
     /**
@@ -66,6 +72,11 @@ public class DataFileCompactor {
      */
     private final CASableLongIndex index;
 
+    /**
+     * Node-wide compaction I/O budget.
+     */
+    private final CompactionIoBudget ioBudget;
+
     /**
      * A function that will be called to report the duration of the compaction.
      */
@@ -156,6 +167,7 @@ public class DataFileCompactor {
         this.storeName = storeName;
         this.dataFileCollection = dataFileCollection;
         this.index = index;
+        this.ioBudget = CompactionIoBudget.getInstance(dbConfig);
         this.reportDurationMetricFunction = reportDurationMetricFunction;
         this.reportSavedSpaceMetricFunction = reportSavedSpaceMetricFunction;
         this.reportFileSizeByLevelMetricFunction = reportFileSizeByLevelMetricFunction;
@@ -174,12 +186,32 @@ public class DataFileCompactor {
      * @throws IOException          If there was a problem with the compaction
      * @throws InterruptedException If the compaction thread was interrupted
      */
-    synchronized List<Path> compactFiles(
+    List<Path> compactFiles(
             final CASableLongIndex index,
             final List<? extends DataFileReader> filesToCompact,
             final int targetCompactionLevel)
             throws IOException, InterruptedException {
-        if (filesToCompact.size() < getMinNumberOfFilesToCompact()) {
+        return compactFiles(index, filesToCompact, targetCompactionLevel, getMinNumberOfFilesToCompact());
+    }
+
+    /**
+     * Compacts all files in compactionPlan, if there are at least the given number of files.
+     *
+     * @param index          index to update
+     * @param filesToCompact list of files to compact
+     * @param targetCompactionLevel target compaction level
+     * @param minFilesToCompact min number of files to compact
+     * @return list of files created during the compaction
+     * @throws IOException          If there was a problem with the compaction
+     * @throws InterruptedException If the compaction thread was interrupted
+     */
+    private synchronized List<Path> compactFiles(
+            final CASableLongIndex index,
+            final List<? extends DataFileReader> filesToCompact,
+            final int targetCompactionLevel,
+            final int minFilesToCompact)
+            throws IOException, InterruptedException {
+        if (filesToCompact.isEmpty() || (filesToCompact.size() < minFilesToCompact)) {
             // nothing to do we have merged since the last data update
             logger.debug(MERKLE_DB.getMarker(), "No files were available for merging [{}]", storeName);
             return Collections.emptyList();
@@ -217,6 +249,8 @@ public class DataFileCompactor {
             readers[r.getIndex() - firstIndexInc] = r;
         }
 
+        // Number of bytes copied, but not reported to the I/O budget yet
+        final long[] bytesCopiedSinceBudgetCheck = new long[1];
         boolean allDataItemsProcessed = false;
         try {
             final KeyRange keyRange = dataFileCollection.getValidKeyRange();
@@ -242,8 +276,12 @@ public class DataFileCompactor {
                     final BufferedData itemBytes = reader.readDataItem(fileOffset);
                     assert itemBytes != null;
                     long newLocation = newFileWriter.storeDataItem(itemBytes);
-                    // update the index
-                    index.putIfEqual(path, dataLocation, newLocation);
+                    // update the index. If the entry has been changed in parallel, the new copy
+                    // of the data item is garbage from the very beginning
+                    if (index.putIfEqual(path, dataLocation, newLocation)) {
+                        dataFileCollection.updateLiveItems(dataLocation, newLocation);
+                    }
+                    bytesCopiedSinceBudgetCheck[0] += itemBytes.length();
                 } catch (final ClosedByInterruptException e) {
                     logger.info(
                             MERKLE_DB.getMarker(),
@@ -258,6 +296,13 @@ public class DataFileCompactor {
                 } finally {
                     snapshotCompactionLock.release();
                 }
+                // Check the budget outside the lock, so snapshots are never blocked by it. Every
+                // copied byte is read once and written once
+                final long bytesCopied = bytesCopiedSinceBudgetCheck[0];
+                if (bytesCopied >= IO_BUDGET_CHUNK_BYTES) {
+                    bytesCopiedSinceBudgetCheck[0] = 0;
+                    ioBudget.acquire(bytesCopied, bytesCopied);
+                }
             });
             allDataItemsProcessed = true;
         } finally {
@@ -393,17 +438,33 @@ public class DataFileCompactor {
     public boolean compact() throws IOException, InterruptedException {
         final List<DataFileReader> completedFiles = dataFileCollection.getAllCompletedFiles();
         reportFileSizeByLevel(completedFiles);
-        final List<DataFileReader> filesToCompact =
+        List<DataFileReader> filesToCompact =
                 compactionPlan(completedFiles, getMinNumberOfFilesToCompact(), dbConfig.maxCompactionLevel());
+        final boolean garbageDriven = filesToCompact.isEmpty();
+        if (garbageDriven) {
+            filesToCompact = garbageCompactionPlan(completedFiles, dbConfig.compactionGarbageRatioThreshold());
+        }
         if (filesToCompact.isEmpty()) {
             logger.debug(MERKLE_DB.getMarker(), "[{}] No need to compact, as the compaction plan is empty", storeName);
             return false;
         }
 
         final int filesCount = filesToCompact.size();
-        logger.info(MERKLE_DB.getMarker(), "[{}] Starting compaction", storeName);
-
-        final int targetCompactionLevel = getTargetCompactionLevel(filesToCompact, filesCount);
+        logger.info(
+                MERKLE_DB.getMarker(),
+                "[{}] Starting {} compaction",
+                storeName,
+                garbageDriven ? "garbage ratio" : "level");
+
+        // Files compacted because of garbage are rewritten at the same level, even if it's a
+        // single file, while level compactions promote files to the next level
+        final int targetCompactionLevel = garbageDriven
+                ? filesToCompact.stream()
+                        .mapToInt(r -> r.getMetadata().getCompactionLevel())
+                        .max()
+                        .orElse(INITIAL_COMPACTION_LEVEL)
+                : getTargetCompactionLevel(filesToCompact, filesCount);
+        final int minFilesToCompact = garbageDriven ? 1 : getMinNumberOfFilesToCompact();
 
         final long start = System.currentTimeMillis();
 
@@ -415,7 +476,8 @@ public class DataFileCompactor {
                 filesCount,
                 formatSizeBytes(filesToCompactSize));
 
-        final List<Path> newFilesCreated = compactFiles(index, filesToCompact, targetCompactionLevel);
+        final List<Path> newFilesCreated =
+                compactFiles(index, filesToCompact, targetCompactionLevel, minFilesToCompact);
 
         final long end = System.currentTimeMillis();
         final long tookMillis = end - start;
@@ -455,6 +517,47 @@ public class DataFileCompactor {
         return true;
     }
 
+    /**
+     * Estimates how much disk space compaction of this store would reclaim per byte copied, if
+     * started now. Compactions with higher priorities are executed first, when there are more
+     * pending compactions than compaction threads.
+     *
+     * <p>Garbage is estimated using live data item counts per file. Files written before item
+     * counts were stored in file metadata have unknown garbage ratios. If there are such files
+     * in the plan, the estimate is based on file sizes instead: files in a compaction plan mostly
+     * contain different versions of the same data items, so the compacted file is expected to
+     * be about as large as the largest file in the plan, and all other bytes are garbage.
+     *
+     * @return estimated number of reclaimed bytes per copied byte, or zero if there is nothing
+     *      to compact
+     */
+    public double getCompactionPriority() {
+        final List<DataFileReader> completedFiles = dataFileCollection.getAllCompletedFiles();
+        List<DataFileReader> filesToCompact =
+                compactionPlan(completedFiles, getMinNumberOfFilesToCompact(), dbConfig.maxCompactionLevel());
+        if (filesToCompact.isEmpty()) {
+            filesToCompact = garbageCompactionPlan(completedFiles, dbConfig.compactionGarbageRatioThreshold());
+        }
+        long totalSize = 0;
+        long largestSize = 0;
+        long garbageSize = 0;
+        boolean garbageKnown = true;
+        for (final DataFileReader reader : filesToCompact) {
+            final long size = reader.getSize();
+            totalSize += size;
+            largestSize = Math.max(largestSize, size);
+            garbageSize += reader.getGarbageSize();
+            garbageKnown &= reader.getMetadata().getItemsCount() > 0;
+        }
+        if (largestSize == 0) {
+            return 0;
+        }
+        if (garbageKnown) {
+            return (double) garbageSize / Math.max(1, totalSize - garbageSize);
+        }
+        return (double) (totalSize - largestSize) / largestSize;
+    }
+
     private void reportFileSizeByLevel(List<DataFileReader> allCompletedFiles) {
         if (reportFileSizeByLevelMetricFunction != null) {
             final Map<Integer, List<DataFileReader>> readersByLevel = getReadersByLevel(allCompletedFiles);
@@ -516,6 +619,26 @@ public class DataFileCompactor {
         return readersToCompact;
     }
 
+    /**
+     * This method creates a garbage ratio driven compaction plan. All files with the ratio of
+     * data items no longer referenced from the index equal to or greater than the given threshold
+     * are included to the plan, regardless of their compaction levels.
+     *
+     * @param dataFileReaders files to create a compaction plan for
+     * @param garbageRatioThreshold garbage ratio threshold. If zero or negative, the plan is
+     *      always empty
+     * @return compaction plan
+     */
+    static List<DataFileReader> garbageCompactionPlan(
+            final List<DataFileReader> dataFileReaders, final double garbageRatioThreshold) {
+        if (garbageRatioThreshold <= 0) {
+            return Collections.emptyList();
+        }
+        return dataFileReaders.stream()
+                .filter(r -> r.getGarbageRatio() >= garbageRatioThreshold)
+                .toList();
+    }
+
     private static Map<Integer, List<DataFileReader>> getReadersByLevel(final List<DataFileReader> dataFileReaders) {
         return dataFileReaders.stream()
                 .collect(Collectors.groupingBy(r -> r.getMetadata().getCompactionLevel()));
@@ -35,7 +35,6 @@ public final class DataFileMetadata {
     private static final FieldDefinition FIELD_CREATION_NANOS =
             new FieldDefinition("creationDateNanos", FieldType.UINT32, false, false, false, 3);
 
-    @Deprecated
     private static final FieldDefinition FIELD_ITEMS_COUNT =
             new FieldDefinition("itemsCount", FieldType.FIXED64, false, false, false, 4);
 
@@ -60,6 +59,13 @@ public final class DataFileMetadata {
     /** The level of compaction this file has. See {@link DataFileCompactor}*/
     private final byte compactionLevel;
 
+    /**
+     * The number of data items in this file. Updated, when the file is fully written, see {@link
+     * DataFileWriter#close()}. Zero for files, which are still being written, and for files
+     * written before data item counts were stored in metadata
+     */
+    private volatile long itemsCount;
+
     /**
      * Create a new metadata with complete set of data
      *
@@ -76,6 +82,20 @@ public final class DataFileMetadata {
         this.compactionLevel = (byte) compactionLevel;
     }
 
+    /**
+     * Create a new metadata with complete set of data, including the number of data items
+     *
+     * @param index The file index, in a data file collection
+     * @param creationDate The creation data of this file
+     * @param compactionLevel The level of compaction this file has. See {@link DataFileCompactor}
+     * @param itemsCount The number of data items in the file
+     */
+    public DataFileMetadata(
+            final int index, final Instant creationDate, final int compactionLevel, final long itemsCount) {
+        this(index, creationDate, compactionLevel);
+        this.itemsCount = itemsCount;
+    }
+
     /**
      * Load new metadata from the file header.
      *
@@ -88,6 +108,7 @@ public final class DataFileMetadata {
         long creationSeconds = 0;
         int creationNanos = 0;
         byte compactionLevel = 0;
+        long itemsCount = 0;
 
         // Read values from the file, skipping all data items
         try (final ReadableStreamingData in = new ReadableStreamingData(file)) {
@@ -109,7 +130,7 @@ public final class DataFileMetadata {
                             } else if (metadataFieldNum == FIELD_CREATION_NANOS.number()) {
                                 creationNanos = in.readVarInt(false);
                             } else if (metadataFieldNum == FIELD_ITEMS_COUNT.number()) {
-                                in.readLong(); // data items count is not used
+                                itemsCount = in.readLong();
                             } else if (metadataFieldNum == FIELD_ITEM_VERSION.number()) {
                                 in.readVarLong(false); // this field is no longer used
                             } else if (metadataFieldNum == FIELD_COMPACTION_LEVEL.number()) {
@@ -142,7 +163,8 @@ public final class DataFileMetadata {
             throw new IllegalArgumentException("No metadata found in file: " + file);
         }
 
-        return new DataFileMetadata(index, Instant.ofEpochSecond(creationSeconds, creationNanos), compactionLevel);
+        return new DataFileMetadata(
+                index, Instant.ofEpochSecond(creationSeconds, creationNanos), compactionLevel, itemsCount);
     }
 
     <T extends WritableSequentialData> void writeTo(final T out) {
@@ -165,6 +187,11 @@ public final class DataFileMetadata {
         ProtoWriterTools.writeTag(out, FIELD_CREATION_NANOS);
         out.writeVarInt(creationInstant.getNano(), false);
 
+        // Items count is always written as a fixed size field, so the header can be overwritten
+        // in place, when the count is known, without moving any data items
+        ProtoWriterTools.writeTag(out, FIELD_ITEMS_COUNT);
+        out.writeLong(itemsCount);
+
         if (getCompactionLevel() != 0) {
             ProtoWriterTools.writeTag(out, FIELD_COMPACTION_LEVEL);
             out.writeVarInt(compactionLevel, false);
@@ -198,6 +225,9 @@ public final class DataFileMetadata {
         size += ProtoWriterTools.sizeOfTag(FIELD_CREATION_NANOS, ProtoConstants.WIRE_TYPE_VARINT_OR_ZIGZAG);
         size += ProtoWriterTools.sizeOfVarInt64(creationDate.getNano());
 
+        size += ProtoWriterTools.sizeOfTag(FIELD_ITEMS_COUNT, ProtoConstants.WIRE_TYPE_FIXED_64_BIT);
+        size += Long.BYTES;
+
         if (compactionLevel != 0) {
             size += ProtoWriterTools.sizeOfTag(FIELD_COMPACTION_LEVEL, ProtoConstants.WIRE_TYPE_VARINT_OR_ZIGZAG);
             size += ProtoWriterTools.sizeOfVarInt32(compactionLevel);
@@ -209,6 +239,19 @@ public final class DataFileMetadata {
         return compactionLevel;
     }
 
+    /**
+     * Get the number of data items in this file, including items, which are no longer live.
+     *
+     * @return the number of data items, or zero if unknown
+     */
+    public long getItemsCount() {
+        return itemsCount;
+    }
+
+    void setItemsCount(final long itemsCount) {
+        this.itemsCount = itemsCount;
+    }
+
     /** toString for debugging */
     @Override
     public String toString() {
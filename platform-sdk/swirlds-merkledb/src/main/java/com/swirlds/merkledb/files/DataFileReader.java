@@ -3,6 +3,7 @@ package com.swirlds.merkledb.files;
 
 import static com.hedera.pbj.runtime.ProtoParserTools.TAG_FIELD_OFFSET;
 import static com.swirlds.merkledb.files.DataFileCommon.FIELD_DATAFILE_ITEMS;
+import static com.swirlds.merkledb.files.DataFileCommon.byteOffsetFromDataLocation;
 
 import com.hedera.pbj.runtime.ProtoConstants;
 import com.hedera.pbj.runtime.ProtoWriterTools;
@@ -14,9 +15,11 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.ClosedByInterruptException;
 import java.nio.channels.ClosedChannelException;
 import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
@@ -25,6 +28,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.hiero.base.utility.MemoryUtils;
 
 /**
  * The aim for a DataFileReader is to facilitate fast highly concurrent random reading of items from
@@ -60,6 +64,31 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
     private static final ThreadLocal<ByteBuffer> BUFFER_CACHE = new ThreadLocal<>();
     private static final ThreadLocal<BufferedData> BUFFEREDDATA_CACHE = new ThreadLocal<>();
 
+    /**
+     * Buffer size to read data item tag and size. If the whole item is small and fits into this
+     * buffer, there is no need to make an extra file read
+     */
+    private static final int PRE_READ_BUF_SIZE = 2048;
+
+    /**
+     * Max number of bytes to read with a single file read, when multiple data items are read
+     * in a batch. Data items within this distance from each other are read together
+     */
+    private static final int MAX_BATCH_READ_SIZE = 64 * 1024;
+
+    /**
+     * Max number of bytes of a data item header, tag and size. Both are varints, up to 5 bytes
+     * each
+     */
+    private static final int MAX_DATA_ITEM_HEADER_SIZE = 10;
+
+    /**
+     * Memory mapped windows overlap by this number of bytes, so data items that start close to
+     * the end of a window are still fully in the window. Larger items crossing window boundaries
+     * are read using file channels
+     */
+    private static final int MMAP_WINDOW_OVERLAP = 64 * 1024;
+
     private final MerkleDbConfig dbConfig;
 
     /** Max number of file channels to use for reading */
@@ -104,6 +133,54 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
      */
     private final AtomicLong fileSizeBytes = new AtomicLong(0);
 
+    /**
+     * The number of live data items in this file, i.e. items referenced from the store index.
+     * Incremented, when an index entry is set to a data item in this file, and decremented,
+     * when an index entry pointing to this file is overwritten or removed. See {@link
+     * DataFileCollection#updateLiveItems(long, long)} for details.
+     */
+    private final AtomicLong liveItems = new AtomicLong(0);
+
+    /** Indicates whether completed data files should be read using memory mapped windows */
+    private final boolean mmapReadsEnabled;
+
+    /** Size of a single memory mapped window, not including the overlap with the next window */
+    private final int mmapWindowSize;
+
+    /**
+     * A memory mapped window of this file.
+     *
+     * @param buffer the mapped buffer, used to copy data items and to unmap the window
+     * @param data the mapped buffer wrapped as buffered data, used to parse data item headers
+     */
+    private record MappedWindow(MappedByteBuffer buffer, BufferedData data) {}
+
+    /**
+     * Memory mapped windows of this file. Created in {@link #setFileCompleted()}, if memory
+     * mapped reads are enabled. Windows are mapped lazily, on the first read from them.
+     *
+     * <p>Data items are copied out of windows, so no references to mapped memory escape this
+     * reader. Windows are unmapped explicitly, when the reader is closed and no thread is
+     * reading from them anymore, see {@link #mmapLeases}. This releases the address space and,
+     * for files deleted by compaction, the disk space right away rather than on a future GC.
+     *
+     * <p>Data items are intentionally not returned as zero-copy slices of windows. Callers of
+     * {@link #readDataItem(long)} don't release the returned data, so slices would either keep
+     * windows mapped until they are garbage collected, or would have to be reference counted
+     * with a release call added to every caller. A single missing release would then keep a
+     * deleted file mapped, and an extra one would unmap a window that is still being read,
+     * which crashes the JVM rather than throwing an exception. Copying an item of a few hundred
+     * bytes is cheap compared to the system call per item that mapped reads avoid.
+     */
+    private volatile AtomicReferenceArray<MappedWindow> mmapWindows = null;
+
+    /**
+     * Number of threads currently reading from {@link #mmapWindows}. Windows are unmapped by
+     * whichever of {@link #close()} or the last reading thread observes the reader closed with
+     * no reads in progress.
+     */
+    private final AtomicInteger mmapLeases = new AtomicInteger(0);
+
     /**
      * Open an existing data file, reading the metadata from the file
      *
@@ -125,6 +202,8 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
         this.dbConfig = dbConfig;
         maxFileChannels = dbConfig.maxFileChannelsPerFileReader();
         threadsPerFileChannel = dbConfig.maxThreadsPerFileChannel();
+        mmapReadsEnabled = dbConfig.dataFileMmapReadsEnabled();
+        mmapWindowSize = dbConfig.dataFileMmapWindowSize();
         fileChannels = new AtomicReferenceArray<>(maxFileChannels);
         if (!Files.exists(path)) {
             throw new IllegalArgumentException(
@@ -152,7 +231,13 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
      */
     void setFileCompleted() {
         try {
-            fileSizeBytes.set(fileChannels.get(0).size());
+            final long size = fileChannels.get(0).size();
+            fileSizeBytes.set(size);
+            // Completed files are immutable, it's safe to map them to memory
+            if (mmapReadsEnabled && isOpen()) {
+                final int numWindows = Math.toIntExact((size + mmapWindowSize - 1) / mmapWindowSize);
+                mmapWindows = new AtomicReferenceArray<>(numWindows);
+            }
         } catch (final IOException e) {
             throw new UncheckedIOException("Failed to update data file reader size", e);
         } finally {
@@ -208,10 +293,113 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
      * @throws ClosedChannelException if the data file was closed
      */
     public BufferedData readDataItem(final long dataLocation) throws IOException {
-        final long byteOffset = DataFileCommon.byteOffsetFromDataLocation(dataLocation);
+        final long byteOffset = byteOffsetFromDataLocation(dataLocation);
+        final AtomicReferenceArray<MappedWindow> windows = mmapWindows;
+        if ((windows != null) && leaseMmapWindows()) {
+            try {
+                final BufferedData dataItem = readMapped(windows, byteOffset);
+                if (dataItem != null) {
+                    return dataItem;
+                }
+            } finally {
+                releaseMmapWindows();
+            }
+        }
         return read(byteOffset);
     }
 
+    /**
+     * Read multiple data items from this file. Data items, which are close to each other in the
+     * file, are read with a single file read rather than one by one.
+     *
+     * <p>Data item locations to read are provided in an array. The order to read them is
+     * specified in a separate array of indices into the locations array. All data locations in
+     * the range to read must belong to this file and be sorted by offset.
+     *
+     * @param dataLocations data item locations, which combine data file index and offset in the file
+     * @param order indices in the data locations array, sorted by data item offsets
+     * @param from first index in the order array to read, inclusive
+     * @param to last index in the order array to read, exclusive
+     * @param consumer called for every read data item with its index in the data locations array.
+     *     Data item bytes are only valid during the call
+     * @return number of data items read, may be less than {@code to - from}, if the file was closed
+     * @throws IOException If there was a problem reading from data file
+     */
+    int readDataItems(
+            final long[] dataLocations,
+            final int[] order,
+            final int from,
+            final int to,
+            final DataFileCollection.DataItemConsumer consumer)
+            throws IOException {
+        final AtomicReferenceArray<MappedWindow> windows = mmapWindows;
+        if ((windows != null) && leaseMmapWindows()) {
+            // No need to coalesce reads, when the file is mapped to memory
+            try {
+                for (int i = from; i < to; i++) {
+                    final long itemOffset = byteOffsetFromDataLocation(dataLocations[order[i]]);
+                    BufferedData dataItem = readMapped(windows, itemOffset);
+                    if (dataItem == null) {
+                        dataItem = read(itemOffset);
+                        if (dataItem == null) {
+                            return i - from;
+                        }
+                    }
+                    consumer.accept(order[i], dataItem);
+                }
+                return to - from;
+            } finally {
+                releaseMmapWindows();
+            }
+        }
+        ByteBuffer batchBB = null;
+        BufferedData batchBuf = null;
+        int i = from;
+        while (i < to) {
+            final long windowStart = byteOffsetFromDataLocation(dataLocations[order[i]]);
+            int j = i + 1;
+            while ((j < to)
+                    && (byteOffsetFromDataLocation(dataLocations[order[j]]) + PRE_READ_BUF_SIZE - windowStart
+                            <= MAX_BATCH_READ_SIZE)) {
+                j++;
+            }
+            if (j == i + 1) {
+                // Nothing to coalesce with, read the item as usual
+                final BufferedData dataItem = read(windowStart);
+                if (dataItem == null) {
+                    return i - from;
+                }
+                consumer.accept(order[i], dataItem);
+                i++;
+                continue;
+            }
+            if (batchBB == null) {
+                batchBB = ByteBuffer.allocate(MAX_BATCH_READ_SIZE);
+                batchBuf = BufferedData.wrap(batchBB);
+            }
+            final int windowSize =
+                    (int) (byteOffsetFromDataLocation(dataLocations[order[j - 1]]) + PRE_READ_BUF_SIZE - windowStart);
+            final int windowBytesRead = readWindow(batchBB, windowStart, windowSize);
+            if (windowBytesRead < 0) {
+                return i - from;
+            }
+            for (; i < j; i++) {
+                final long itemOffset = byteOffsetFromDataLocation(dataLocations[order[i]]);
+                BufferedData dataItem =
+                        dataItemInWindow(batchBuf, (int) (itemOffset - windowStart), windowBytesRead, itemOffset);
+                if (dataItem == null) {
+                    // The item isn't fully in the window, read it separately
+                    dataItem = read(itemOffset);
+                    if (dataItem == null) {
+                        return i - from;
+                    }
+                }
+                consumer.accept(order[i], dataItem);
+            }
+        }
+        return to - from;
+    }
+
     /**
      * Get the size of this file in bytes. This method should only be called for files available to
      * merging (compaction), i.e. after they are fully written.
@@ -222,6 +410,51 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
         return fileSizeBytes.get();
     }
 
+    /**
+     * Get the number of live data items in this file, i.e. items referenced from the store index.
+     *
+     * @return the number of live data items
+     */
+    public long getLiveItems() {
+        return liveItems.get();
+    }
+
+    void addLiveItems(final long delta) {
+        liveItems.addAndGet(delta);
+    }
+
+    void setLiveItems(final long count) {
+        liveItems.set(count);
+    }
+
+    /**
+     * Get the fraction of data items in this file, which are no longer referenced from the store
+     * index and would be dropped by compaction. This method should only be called for files
+     * available to compaction, i.e. after they are fully written.
+     *
+     * @return the garbage ratio, from 0.0 to 1.0, or 0.0 if the number of data items in the file
+     *      is unknown
+     */
+    public double getGarbageRatio() {
+        final long itemsCount = metadata.getItemsCount();
+        if (itemsCount <= 0) {
+            return 0;
+        }
+        final double liveRatio = (double) liveItems.get() / itemsCount;
+        return Math.min(1.0, Math.max(0.0, 1.0 - liveRatio));
+    }
+
+    /**
+     * Get the estimated number of bytes in this file taken by data items, which are no longer
+     * live. Live data items are tracked by count rather than by size, so the estimate assumes
+     * that all data items in the file are of the same size.
+     *
+     * @return estimated number of garbage bytes
+     */
+    public long getGarbageSize() {
+        return (long) (getSize() * getGarbageRatio());
+    }
+
     /** Equals for use when comparing in collections, based on matching file paths */
     @Override
     public boolean equals(final Object o) {
@@ -283,6 +516,11 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
         if (!open.compareAndSet(true, false)) {
             return;
         }
+        // If no thread is reading from mapped windows, unmap them now. Otherwise, the last
+        // reading thread unmaps them, see releaseMmapWindows()
+        if (mmapLeases.get() == 0) {
+            unmapWindows();
+        }
 
         for (int i = 0; i < maxFileChannels; i++) {
             final FileChannel fileChannel = fileChannels.getAndSet(i, null);
@@ -384,9 +622,6 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
      * @throws ClosedChannelException if the file was closed
      */
     private BufferedData read(final long byteOffsetInFile) throws IOException {
-        // Buffer size to read data item tag and size. If the whole item is small and
-        // fits into this buffer, there is no need to make an extra file read
-        final int PRE_READ_BUF_SIZE = 2048;
         ByteBuffer readBB = BUFFER_CACHE.get();
         BufferedData readBuf = BUFFEREDDATA_CACHE.get();
         if (readBuf == null) {
@@ -467,9 +702,231 @@ public final class DataFileReader implements AutoCloseable, Comparable<DataFileR
         throw new IOException("Failed to read from file, file channel keeps getting closed");
     }
 
+    /**
+     * Registers the current thread as reading from mapped windows of this file, so the windows
+     * aren't unmapped while the thread reads from them. Must be followed by {@link
+     * #releaseMmapWindows()}, if successful.
+     *
+     * @return true if the windows can be read, false if the reader is closed
+     */
+    private boolean leaseMmapWindows() {
+        mmapLeases.incrementAndGet();
+        if (!isOpen()) {
+            releaseMmapWindows();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Unregisters the current thread as reading from mapped windows of this file. If the reader
+     * is closed, and this was the last reading thread, the windows are unmapped.
+     */
+    private void releaseMmapWindows() {
+        if ((mmapLeases.decrementAndGet() == 0) && !isOpen()) {
+            unmapWindows();
+        }
+    }
+
+    /**
+     * Unmaps all mapped windows of this file. This method is safe to call multiple times and
+     * from multiple threads, every window is unmapped once. It must only be called when the
+     * reader is closed and no thread is reading from the windows.
+     */
+    private void unmapWindows() {
+        final AtomicReferenceArray<MappedWindow> windows = mmapWindows;
+        if (windows == null) {
+            return;
+        }
+        for (int i = 0; i < windows.length(); i++) {
+            final MappedWindow window = windows.getAndSet(i, null);
+            if (window != null) {
+                MemoryUtils.closeMmapBuffer(window.buffer());
+            }
+        }
+    }
+
+    /**
+     * Reads a data item at the given offset from a memory mapped window of this file. Data item
+     * bytes are copied from the window to a reused per thread buffer, the same way as {@link
+     * #read(long)} does, so no references to mapped memory escape this reader. The calling
+     * thread must hold a lease, see {@link #leaseMmapWindows()}.
+     *
+     * @param windows memory mapped windows of this file
+     * @param byteOffsetInFile data item offset in the file
+     * @return data item bytes, or null if the item can't be read from a mapped window and should
+     *     be read using file channels. It includes the case when the file reader is closed
+     * @throws IOException if there was a problem mapping a window to memory
+     */
+    private BufferedData readMapped(final AtomicReferenceArray<MappedWindow> windows, final long byteOffsetInFile)
+            throws IOException {
+        final int windowIndex = (int) (byteOffsetInFile / mmapWindowSize);
+        if (windowIndex >= windows.length()) {
+            return null;
+        }
+        MappedWindow window = windows.get(windowIndex);
+        if (window == null) {
+            window = mapWindow(windows, windowIndex);
+            if (window == null) {
+                return null;
+            }
+        }
+        final BufferedData windowData = window.data();
+        final long windowStart = (long) windowIndex * mmapWindowSize;
+        final int pos = (int) (byteOffsetInFile - windowStart);
+        final long windowLength = windowData.length();
+        // Unless the window is the last one, tag and size must be fully in the window
+        if ((pos + MAX_DATA_ITEM_HEADER_SIZE > windowLength) && (windowStart + windowLength < getSize())) {
+            return null;
+        }
+        // Only absolute reads from the window below, so it can be shared by all threads
+        final int tag = windowData.getVarInt(pos, false);
+        if (tag
+                != ((FIELD_DATAFILE_ITEMS.number() << TAG_FIELD_OFFSET)
+                        | ProtoConstants.WIRE_TYPE_DELIMITED.ordinal())) {
+            throw new IOException(
+                    "Unknown data item tag: tag=" + tag + " file=" + getIndex() + " off=" + byteOffsetInFile);
+        }
+        final int sizeOfTag = ProtoWriterTools.sizeOfUnsignedVarInt32(tag);
+        final int size = windowData.getVarInt(pos + sizeOfTag, false);
+        final int itemStart = pos + sizeOfTag + ProtoWriterTools.sizeOfUnsignedVarInt32(size);
+        if (itemStart + size > windowLength) {
+            return null;
+        }
+        ByteBuffer readBB = BUFFER_CACHE.get();
+        BufferedData readBuf = BUFFEREDDATA_CACHE.get();
+        if ((readBuf == null) || (readBB.capacity() < size)) {
+            readBB = ByteBuffer.allocate(Math.max(size, PRE_READ_BUF_SIZE));
+            BUFFER_CACHE.set(readBB);
+            readBuf = BufferedData.wrap(readBB);
+            BUFFEREDDATA_CACHE.set(readBuf);
+        }
+        readBB.clear();
+        readBB.put(0, window.buffer(), itemStart, size);
+        readBuf.reset();
+        readBuf.position(0);
+        readBuf.limit(size);
+        return readBuf;
+    }
+
+    /**
+     * Maps a window of this file to memory. This method is safe to call from multiple threads.
+     * If two threads map the same window concurrently, only one mapping is used, while the other
+     * one is unmapped immediately. The calling thread must hold a lease, see {@link
+     * #leaseMmapWindows()}.
+     *
+     * @return the mapped window, or null if the file reader is closed
+     * @throws IOException if an I/O error occurs
+     */
+    private MappedWindow mapWindow(final AtomicReferenceArray<MappedWindow> windows, final int windowIndex)
+            throws IOException {
+        final int fcIndex = leaseFileChannel();
+        try {
+            final FileChannel fileChannel = fileChannels.get(fcIndex);
+            if (fileChannel == null) {
+                return null;
+            }
+            final long windowStart = (long) windowIndex * mmapWindowSize;
+            final long windowLength = Math.min(getSize() - windowStart, (long) mmapWindowSize + MMAP_WINDOW_OVERLAP);
+            final MappedByteBuffer buffer = fileChannel.map(MapMode.READ_ONLY, windowStart, windowLength);
+            final MappedWindow window = new MappedWindow(buffer, BufferedData.wrap(buffer));
+            final MappedWindow existing = windows.compareAndExchange(windowIndex, null, window);
+            if (existing != null) {
+                MemoryUtils.closeMmapBuffer(buffer);
+                return existing;
+            }
+            return window;
+        } catch (final ClosedByInterruptException e) {
+            throw e;
+        } catch (final ClosedChannelException e) {
+            // The channel was closed by a different thread. Let the caller fall back to file channel
+            // reads, they reopen the channel as needed
+            return null;
+        } finally {
+            releaseFileChannel();
+        }
+    }
+
+    /**
+     * Reads up to the given number of bytes from the file to the given buffer, starting at the
+     * given offset. Fewer bytes are read, if the end of file is reached.
+     *
+     * @return number of bytes read, or -1 if the file was closed
+     */
+    private int readWindow(final ByteBuffer windowBB, final long byteOffsetInFile, final int bytesToRead)
+            throws IOException {
+        // Retries are the same as in read() above
+        for (int retries = 3; retries > 0; retries--) {
+            final int fcIndex = leaseFileChannel();
+            final FileChannel fileChannel = fileChannels.get(fcIndex);
+            if (fileChannel == null) {
+                return -1;
+            }
+            try {
+                windowBB.clear();
+                windowBB.limit(bytesToRead);
+                return MerkleDbFileUtils.completelyRead(fileChannel, windowBB, byteOffsetInFile);
+            } catch (final ClosedByInterruptException e) {
+                throw e;
+            } catch (final ClosedChannelException e) {
+                reopenFileChannel(fcIndex, fileChannel);
+            } finally {
+                releaseFileChannel();
+            }
+        }
+        throw new IOException("Failed to read from file, file channel keeps getting closed");
+    }
+
+    /**
+     * Parses a data item at the given position in a window buffer, which contains bytes read from
+     * the file in a single read.
+     *
+     * @return data item bytes, or null if the item isn't fully in the window
+     */
+    private BufferedData dataItemInWindow(
+            final BufferedData windowBuf, final int posInWindow, final int windowBytes, final long byteOffsetInFile)
+            throws IOException {
+        // Tag and size are two varints, up to 5 bytes each. If there are fewer bytes left in the
+        // window, don't try to parse them
+        if (windowBytes - posInWindow < 10) {
+            return null;
+        }
+        windowBuf.reset();
+        windowBuf.limit(windowBytes);
+        final int tag = windowBuf.getVarInt(posInWindow, false);
+        if (tag
+                != ((FIELD_DATAFILE_ITEMS.number() << TAG_FIELD_OFFSET)
+                        | ProtoConstants.WIRE_TYPE_DELIMITED.ordinal())) {
+            throw new IOException(
+                    "Unknown data item tag: tag=" + tag + " file=" + getIndex() + " off=" + byteOffsetInFile);
+        }
+        final int sizeOfTag = ProtoWriterTools.sizeOfUnsignedVarInt32(tag);
+        final int size = windowBuf.getVarInt(posInWindow + sizeOfTag, false);
+        final int itemStart = posInWindow + sizeOfTag + ProtoWriterTools.sizeOfUnsignedVarInt32(size);
+        if (itemStart + size > windowBytes) {
+            return null;
+        }
+        windowBuf.position(itemStart);
+        windowBuf.limit(itemStart + size);
+        return windowBuf;
+    }
+
     // Testing support
 
     int getFileChannelsCount() {
         return fileChannelsCount.get();
     }
+
+    int getMappedWindowsCount() {
+        final AtomicReferenceArray<MappedWindow> windows = mmapWindows;
+        int count = 0;
+        if (windows != null) {
+            for (int i = 0; i < windows.length(); i++) {
+                if (windows.get(i) != null) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
 }
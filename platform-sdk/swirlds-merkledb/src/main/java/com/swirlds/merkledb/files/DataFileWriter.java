@@ -67,6 +67,9 @@ public final class DataFileWriter implements AutoCloseable {
 
     private final long dataBufferSize;
 
+    /** The number of data items written to the file so far */
+    private long itemsCount = 0;
+
     private boolean closed = false;
 
     /**
@@ -207,6 +210,8 @@ public final class DataFileWriter implements AutoCloseable {
                     + (getCurrentFilePosition() - fileOffset));
         }
 
+        itemsCount++;
+
         // return the offset where we wrote the data
         return DataFileCommon.dataLocation(metadata.getIndex(), fileOffset);
     }
@@ -226,6 +231,11 @@ public final class DataFileWriter implements AutoCloseable {
         // release all the resources
         MemoryUtils.closeMmapBuffer(mappedDataBuffer);
 
+        // now the number of data items is known, update it in the header. The header size doesn't
+        // change, see DataFileMetadata for details
+        metadata.setItemsCount(itemsCount);
+        writeHeader();
+
         fileChannel.truncate(totalFileSize);
         bufferPositionInFile = totalFileSize;
 
@@ -9,11 +9,13 @@ import com.swirlds.merkledb.KeyRange;
 import com.swirlds.merkledb.Snapshotable;
 import com.swirlds.merkledb.collections.LongList;
 import com.swirlds.merkledb.config.MerkleDbConfig;
+import com.swirlds.merkledb.files.DataFileCollection.DataItemConsumer;
 import com.swirlds.merkledb.files.DataFileCollection.LoadedDataCallback;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.LongSummaryStatistics;
 import java.util.function.Consumer;
 import org.apache.logging.log4j.LogManager;
@@ -72,6 +74,13 @@ public class MemoryIndexDiskKeyValueStore implements AutoCloseable, Snapshotable
         Files.createDirectories(storeDir);
         // create file collection
         fileCollection = new DataFileCollection(config, storeDir, storeName, legacyStoreName, loadedDataCallback);
+        // The index is either loaded from disk or rebuilt from data files at this point
+        try {
+            fileCollection.countLiveItems(index);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while counting live data items in " + storeName, e);
+        }
     }
 
     /**
@@ -82,10 +91,27 @@ public class MemoryIndexDiskKeyValueStore implements AutoCloseable, Snapshotable
      * @param max max valid key, inclusive
      */
     public void updateValidKeyRange(final long min, final long max) {
+        // Index entries outside the new range are dropped, data items they point to are no longer live
+        final long oldMin = index.getMinValidIndex();
+        final long oldMax = index.getMaxValidIndex();
+        if (oldMax >= 0) {
+            if (max < 0) {
+                dropLiveItems(oldMin, oldMax);
+            } else {
+                dropLiveItems(oldMin, Math.min(min - 1, oldMax));
+                dropLiveItems(Math.max(max + 1, oldMin), oldMax);
+            }
+        }
         // By calling `updateMinValidIndex` we compact the index if it's applicable.
         index.updateValidRange(min, max);
     }
 
+    private void dropLiveItems(final long fromKey, final long toKey) {
+        for (long key = Math.max(fromKey, 0); key <= toKey; key++) {
+            fileCollection.updateLiveItems(index.get(key), 0);
+        }
+    }
+
     /**
      * Start a writing session ready for calls to put(). Make sure to update the valid key range
      * using {@link #updateValidKeyRange(long, long)} before this method is called.
@@ -108,7 +134,9 @@ public class MemoryIndexDiskKeyValueStore implements AutoCloseable, Snapshotable
             throws IOException {
         final long dataLocation = fileCollection.storeDataItem(dataItemWriter, dataItemSize);
         // store data location in index
+        final long oldDataLocation = index.get(key);
         index.put(key, dataLocation);
+        fileCollection.updateLiveItems(oldDataLocation, dataLocation);
     }
 
     /**
@@ -163,6 +191,34 @@ public class MemoryIndexDiskKeyValueStore implements AutoCloseable, Snapshotable
         return fileCollection.readDataItemUsingIndex(index, key);
     }
 
+    /**
+     * Get multiple values by reading them from disk in a batch. Keys outside the valid key range
+     * are reported as not found. See {@link DataFileCollection#readDataItemsUsingIndex} for details.
+     *
+     * @param keys The keys to find and read values for
+     * @param consumer called for every key with its index in the keys array and value bytes, or null
+     *     if the value is not found. May be called from multiple threads in parallel
+     * @throws IOException If there was a problem reading the values from file
+     */
+    public void get(final long[] keys, final DataItemConsumer consumer) throws IOException {
+        final long[] keysInRange = new long[keys.length];
+        final int[] positions = new int[keys.length];
+        int count = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (checkKeyInRange(keys[i])) {
+                keysInRange[count] = keys[i];
+                positions[count++] = i;
+            } else {
+                consumer.accept(i, null);
+            }
+        }
+        if (count == 0) {
+            return;
+        }
+        fileCollection.readDataItemsUsingIndex(
+                index, Arrays.copyOf(keysInRange, count), (i, dataItem) -> consumer.accept(positions[i], dataItem));
+    }
+
     /**
      * Close all files being used
      *
@@ -16,6 +16,7 @@ import com.hedera.pbj.runtime.io.buffer.Bytes;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -323,6 +324,50 @@ public sealed class Bucket implements Closeable permits ParsedBucket {
         out.writeBytes(bucketData);
     }
 
+    /**
+     * Iterates over all entries in this bucket and passes entry key hash codes to the given
+     * consumer. Keys and values are not parsed. Used to (re)build per-bucket lookup filters.
+     *
+     * @param action the consumer to accept entry hash codes
+     */
+    public void forEachEntryHashCode(final IntConsumer action) {
+        bucketData.resetPosition();
+        while (bucketData.hasRemaining()) {
+            final int tag = bucketData.readVarInt(false);
+            final int fieldNum = tag >> TAG_FIELD_OFFSET;
+            if (fieldNum == FIELD_BUCKET_INDEX.number()) {
+                bucketData.skip(Integer.BYTES);
+            } else if (fieldNum == FIELD_BUCKET_ENTRIES.number()) {
+                final int entrySize = bucketData.readVarInt(false);
+                final long nextEntryOffset = bucketData.position() + entrySize;
+                final long oldLimit = bucketData.limit();
+                bucketData.limit(nextEntryOffset);
+                try {
+                    while (bucketData.hasRemaining()) {
+                        final int entryTag = bucketData.readVarInt(false);
+                        final int entryFieldNum = entryTag >> TAG_FIELD_OFFSET;
+                        if (entryFieldNum == FIELD_BUCKETENTRY_HASHCODE.number()) {
+                            action.accept(bucketData.readInt());
+                            break;
+                        } else if (entryFieldNum == FIELD_BUCKETENTRY_VALUE.number()) {
+                            bucketData.skip(Long.BYTES);
+                        } else if (entryFieldNum == FIELD_BUCKETENTRY_KEYBYTES.number()) {
+                            final int entryKeyBytesSize = bucketData.readVarInt(false);
+                            bucketData.skip(entryKeyBytesSize);
+                        } else {
+                            throw new IllegalArgumentException("Unknown bucket entry field: " + entryFieldNum);
+                        }
+                    }
+                } finally {
+                    bucketData.limit(oldLimit);
+                    bucketData.position(nextEntryOffset);
+                }
+            } else {
+                throw new IllegalArgumentException("Unknown bucket field: " + fieldNum);
+            }
+        }
+    }
+
     // =================================================================================================================
     // Private API
 
@@ -0,0 +1,335 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.merkledb.files.hashmap;
+
+import static com.swirlds.logging.legacy.LogMarker.MERKLE_DB;
+
+import com.swirlds.merkledb.collections.OffHeapUser;
+import com.swirlds.merkledb.utilities.MerkleDbFileUtils;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hiero.base.utility.MemoryUtils;
+
+/**
+ * An off-heap blocked bloom filter over the keys stored in a {@link HalfDiskHashMap}. Every
+ * bucket gets its own fixed-size block of bits, so a filter block always describes exactly one
+ * bucket. This makes the filter cheap to maintain incrementally: whenever a bucket is written
+ * to disk in {@link HalfDiskHashMap#endWriting()}, its block is rebuilt from the bucket entries,
+ * which also takes care of deleted keys (classic bloom filters don't support removals).
+ *
+ * <p>Only key hash codes are added to the filter. Since all keys in a bucket share the lower
+ * bits of their hash codes, hash codes are mixed before bit positions are computed.
+ *
+ * <p>The filter never gives false negatives for keys that are visible to readers. Block updates
+ * are done in two steps, see {@link #merge(int, long[])} and {@link #replace(int, long[])}, so a
+ * reader running in parallel to a flush sees either the old or the new bucket keys in the filter,
+ * or both.
+ *
+ * <p>This class assumes a single writing thread. Reads are thread safe.
+ */
+final class BucketBloomFilter implements OffHeapUser, AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(BucketBloomFilter.class);
+
+    /** The version number for format of filter files */
+    private static final int FILE_FORMAT_VERSION = 1;
+
+    /** Filter file header size: version, number of buckets, bits per bucket */
+    private static final int FILE_HEADER_SIZE = Integer.BYTES * 3;
+
+    /** Max size of a single off-heap memory chunk, in bytes */
+    private static final int MAX_CHUNK_SIZE = 64 * 1024 * 1024;
+
+    /** Max number of bits set in a block for a single key */
+    private static final int MAX_NUM_OF_HASH_FUNCTIONS = 8;
+
+    /** Number of buckets covered by this filter, a power of two */
+    private final int numOfBuckets;
+
+    /** Number of bits in a single bucket block, a power of two and a multiple of 64 */
+    private final int bitsPerBucket;
+
+    /** Number of longs in a single bucket block */
+    private final int longsPerBucket;
+
+    /** Number of bits to set / check for every key */
+    private final int numOfHashFunctions;
+
+    /** Number of bucket blocks in a single memory chunk */
+    private final int bucketsPerChunk;
+
+    /** Off-heap memory chunks */
+    private final ByteBuffer[] chunks;
+
+    /** Indicates whether this filter is closed, and its off-heap memory is released */
+    private volatile boolean closed = false;
+
+    /** Number of lookups answered by this filter without reading a bucket from disk */
+    private final LongAdder avoidedReads = new LongAdder();
+
+    /** Number of lookups passed by this filter, but the key wasn't found in the bucket */
+    private final LongAdder falsePositives = new LongAdder();
+
+    /**
+     * Creates a new empty filter.
+     *
+     * @param numOfBuckets the number of buckets in the map, must be a power of two
+     * @param bitsPerBucket the number of filter bits per bucket, must be a power of two and at least 64
+     * @param expectedEntriesPerBucket the expected average number of entries in a bucket
+     */
+    BucketBloomFilter(final int numOfBuckets, final int bitsPerBucket, final long expectedEntriesPerBucket) {
+        if (Integer.bitCount(numOfBuckets) != 1) {
+            throw new IllegalArgumentException("Number of buckets must be a power of two: " + numOfBuckets);
+        }
+        if ((Integer.bitCount(bitsPerBucket) != 1) || (bitsPerBucket < Long.SIZE)) {
+            throw new IllegalArgumentException(
+                    "Bits per bucket must be a power of two and at least " + Long.SIZE + ": " + bitsPerBucket);
+        }
+        this.numOfBuckets = numOfBuckets;
+        this.bitsPerBucket = bitsPerBucket;
+        this.longsPerBucket = bitsPerBucket / Long.SIZE;
+        // Optimal number of hash functions is (bits per key) * ln(2)
+        final double bitsPerKey = (double) bitsPerBucket / Math.max(1, expectedEntriesPerBucket);
+        final long optimalNumOfHashFunctions = Math.round(bitsPerKey * Math.log(2));
+        this.numOfHashFunctions = (int) Math.max(1, Math.min(MAX_NUM_OF_HASH_FUNCTIONS, optimalNumOfHashFunctions));
+        final int bytesPerBucket = longsPerBucket * Long.BYTES;
+        this.bucketsPerChunk = Math.min(numOfBuckets, MAX_CHUNK_SIZE / bytesPerBucket);
+        final int numOfChunks = numOfBuckets / bucketsPerChunk;
+        this.chunks = new ByteBuffer[numOfChunks];
+        for (int i = 0; i < numOfChunks; i++) {
+            final ByteBuffer chunk = ByteBuffer.allocateDirect(bucketsPerChunk * bytesPerBucket);
+            chunk.order(ByteOrder.nativeOrder());
+            chunks[i] = chunk;
+        }
+    }
+
+    /**
+     * Checks if a key with the given hash code may be present in the given bucket. If this
+     * method returns {@code false}, the key is definitely not in the bucket. If the filter is
+     * closed, this method always returns {@code true}.
+     *
+     * @param bucketIndex the bucket index
+     * @param keyHashCode the key hash code
+     * @return whether the key may be present in the bucket
+     */
+    boolean mightContain(final int bucketIndex, final int keyHashCode) {
+        if (closed) {
+            return true;
+        }
+        final ByteBuffer chunk = chunks[bucketIndex / bucketsPerChunk];
+        final long blockOffset = (long) (bucketIndex % bucketsPerChunk) * longsPerBucket * Long.BYTES;
+        final long hash = mix(keyHashCode);
+        final int h1 = (int) hash;
+        final int h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < numOfHashFunctions; i++) {
+            final int bit = (h1 + i * h2) & (bitsPerBucket - 1);
+            final long word = MemoryUtils.getLongVolatile(chunk, blockOffset + (long) (bit >>> 6) * Long.BYTES);
+            if ((word & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Computes filter block bits for all entries in the given bucket. The bits can then be
+     * applied to the filter using {@link #merge(int, long[])} and {@link #replace(int, long[])}.
+     *
+     * @param bucket the bucket, may be null, which means an empty bucket
+     * @return filter block bits
+     */
+    long[] computeBlock(@Nullable final Bucket bucket) {
+        final long[] block = new long[longsPerBucket];
+        if (bucket != null) {
+            bucket.forEachEntryHashCode(keyHashCode -> {
+                final long hash = mix(keyHashCode);
+                final int h1 = (int) hash;
+                final int h2 = (int) (hash >>> 32) | 1;
+                for (int i = 0; i < numOfHashFunctions; i++) {
+                    final int bit = (h1 + i * h2) & (bitsPerBucket - 1);
+                    block[bit >>> 6] |= 1L << bit;
+                }
+            });
+        }
+        return block;
+    }
+
+    /**
+     * Adds the given bits to the filter block for the given bucket. Existing bits are preserved.
+     * This method is called before a new version of the bucket is made visible to readers, so
+     * both old and new bucket keys pass the filter.
+     *
+     * @param bucketIndex the bucket index
+     * @param block the bits to add
+     */
+    void merge(final int bucketIndex, @NonNull final long[] block) {
+        final ByteBuffer chunk = chunks[bucketIndex / bucketsPerChunk];
+        final long blockOffset = (long) (bucketIndex % bucketsPerChunk) * longsPerBucket * Long.BYTES;
+        for (int i = 0; i < longsPerBucket; i++) {
+            final long offset = blockOffset + (long) i * Long.BYTES;
+            final long word = MemoryUtils.getLongVolatile(chunk, offset);
+            if ((word | block[i]) != word) {
+                MemoryUtils.putLongVolatile(chunk, offset, word | block[i]);
+            }
+        }
+    }
+
+    /**
+     * Replaces the filter block for the given bucket with the given bits. This method is called
+     * after a new version of the bucket is made visible to readers, it clears bits set for keys
+     * that are no longer in the bucket.
+     *
+     * @param bucketIndex the bucket index
+     * @param block the new block bits
+     */
+    void replace(final int bucketIndex, @NonNull final long[] block) {
+        final ByteBuffer chunk = chunks[bucketIndex / bucketsPerChunk];
+        final long blockOffset = (long) (bucketIndex % bucketsPerChunk) * longsPerBucket * Long.BYTES;
+        for (int i = 0; i < longsPerBucket; i++) {
+            MemoryUtils.putLongVolatile(chunk, blockOffset + (long) i * Long.BYTES, block[i]);
+        }
+    }
+
+    /**
+     * Clears all filter blocks.
+     */
+    void clear() {
+        for (final ByteBuffer chunk : chunks) {
+            MemoryUtils.setMemory(chunk, 0, chunk.capacity(), (byte) 0);
+        }
+    }
+
+    /** Increments the number of disk reads avoided by this filter. */
+    void countAvoidedRead() {
+        avoidedReads.increment();
+    }
+
+    /** Increments the number of false positive filter checks. */
+    void countFalsePositive() {
+        falsePositives.increment();
+    }
+
+    /**
+     * Returns the number of disk reads avoided by this filter since the last call to this method.
+     */
+    long getAndResetAvoidedReads() {
+        return avoidedReads.sumThenReset();
+    }
+
+    /**
+     * Returns the number of false positive filter checks since the last call to this method.
+     */
+    long getAndResetFalsePositives() {
+        return falsePositives.sumThenReset();
+    }
+
+    /**
+     * Writes this filter to the given file. The file must not exist.
+     *
+     * @param file the file to write to
+     * @throws IOException if an I/O error occurs
+     */
+    void writeToFile(@NonNull final Path file) throws IOException {
+        try (final FileChannel fc = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            final ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE);
+            header.putInt(FILE_FORMAT_VERSION);
+            header.putInt(numOfBuckets);
+            header.putInt(bitsPerBucket);
+            header.flip();
+            MerkleDbFileUtils.completelyWrite(fc, header);
+            for (final ByteBuffer chunk : chunks) {
+                // Slice so we don't mess with the byte buffer pointers
+                MerkleDbFileUtils.completelyWrite(fc, chunk.slice(0, chunk.capacity()));
+            }
+            fc.force(true);
+        }
+    }
+
+    /**
+     * Loads filter bits from the given file. If the file doesn't exist, or it was written for a
+     * different number of buckets or bits per bucket, this method returns {@code false}, and
+     * the filter needs to be rebuilt from bucket data.
+     *
+     * @param file the file to read from
+     * @return whether the filter was loaded
+     * @throws IOException if an I/O error occurs
+     */
+    boolean readFromFile(@NonNull final Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return false;
+        }
+        try (final FileChannel fc = FileChannel.open(file, StandardOpenOption.READ)) {
+            final ByteBuffer header = MerkleDbFileUtils.readFromFileChannel(fc, FILE_HEADER_SIZE);
+            final int fileVersion = header.getInt();
+            final int fileNumOfBuckets = header.getInt();
+            final int fileBitsPerBucket = header.getInt();
+            if ((fileVersion != FILE_FORMAT_VERSION)
+                    || (fileNumOfBuckets != numOfBuckets)
+                    || (fileBitsPerBucket != bitsPerBucket)) {
+                logger.info(
+                        MERKLE_DB.getMarker(),
+                        "Bucket filter file {} is not compatible: version={} buckets={} bits={}",
+                        file,
+                        fileVersion,
+                        fileNumOfBuckets,
+                        fileBitsPerBucket);
+                return false;
+            }
+            for (final ByteBuffer chunk : chunks) {
+                final ByteBuffer buf = chunk.slice(0, chunk.capacity());
+                if (MerkleDbFileUtils.completelyRead(fc, buf) != chunk.capacity()) {
+                    logger.warn(MERKLE_DB.getMarker(), "Bucket filter file {} is truncated", file);
+                    clear();
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getOffHeapConsumption() {
+        return (long) chunks.length * chunks[0].capacity();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (final ByteBuffer chunk : chunks) {
+            MemoryUtils.closeDirectByteBuffer(chunk);
+        }
+    }
+
+    /**
+     * Mixes a key hash code to a 64-bit value. All keys in a bucket share their lower hash code
+     * bits, so hash codes can't be used as filter bit positions directly.
+     */
+    private static long mix(final int keyHashCode) {
+        // MurmurHash3 64-bit finalizer
+        long h = keyHashCode;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -13,25 +13,32 @@ import com.swirlds.merkledb.Snapshotable;
 import com.swirlds.merkledb.collections.CASableLongIndex;
 import com.swirlds.merkledb.collections.LongList;
 import com.swirlds.merkledb.collections.LongListDisk;
+import com.swirlds.merkledb.collections.LongListMapped;
 import com.swirlds.merkledb.collections.LongListOffHeap;
 import com.swirlds.merkledb.collections.OffHeapUser;
 import com.swirlds.merkledb.config.MerkleDbConfig;
 import com.swirlds.merkledb.files.DataFileCollection;
-import com.swirlds.merkledb.files.DataFileCollection.LoadedDataCallback;
+import com.swirlds.merkledb.files.DataFileCollection.ConcurrentLoadedDataCallback;
 import com.swirlds.merkledb.files.DataFileReader;
 import com.swirlds.merkledb.files.MemoryIndexDiskKeyValueStore;
+import com.swirlds.merkledb.files.hashmap.ParsedBucket.BucketEntry;
 import com.swirlds.virtualmap.datasource.VirtualLeafBytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.LongSummaryStatistics;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ForkJoinPool;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.RecursiveAction;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -63,6 +70,8 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
     private static final String METADATA_FILENAME_SUFFIX = "_metadata.hdhm";
     /** Bucket index file name suffix with extension */
     private static final String BUCKET_INDEX_FILENAME_SUFFIX = "_bucket_index.ll";
+    /** Bucket bloom filter file name suffix with extension */
+    private static final String BUCKET_FILTER_FILENAME_SUFFIX = "_bucket_filter.bf";
     /**
      * A marker to indicate that a value should be deleted from the map, or that there is
      * no old value to compare against in putIfEqual/deleteIfEqual
@@ -103,6 +112,13 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
 
     /** Bucket pool used by this HDHM */
     private final ReusableBucketPool bucketPool;
+
+    /**
+     * Optional off-heap filter to answer lookups for absent keys without reading buckets from
+     * disk. Null, if disabled in MerkleDb config
+     */
+    @Nullable
+    private final BucketBloomFilter bucketFilter;
     /** Store for session data during a writing transaction */
     private IntObjectHashMap<BucketMutation> oneTransactionsData = null;
 
@@ -209,7 +225,7 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
         // create bucket pool
         this.bucketPool = new ReusableBucketPool(Bucket::new);
         // load or create new
-        LoadedDataCallback loadedDataCallback;
+        ConcurrentLoadedDataCallback loadedDataCallback;
         if (Files.exists(storeDir)) {
             // load metadata
             Path metaDataFile = storeDir.resolve(storeName + METADATA_FILENAME_SUFFIX);
@@ -247,19 +263,19 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
             // load or rebuild index
             final boolean forceIndexRebuilding = merkleDbConfig.indexRebuildingEnforced();
             if (Files.exists(indexFile) && !forceIndexRebuilding) {
-                bucketIndexToBucketLocation = preferDiskBasedIndex
-                        ? new LongListDisk(indexFile, numOfBuckets, configuration)
-                        : new LongListOffHeap(indexFile, numOfBuckets, configuration);
+                bucketIndexToBucketLocation =
+                        createBucketIndex(indexFile, numOfBuckets, preferDiskBasedIndex, configuration);
                 loadedDataCallback = null;
             } else {
                 // create new index and setup call back to rebuild
-                bucketIndexToBucketLocation = preferDiskBasedIndex
-                        ? new LongListDisk(numOfBuckets, configuration)
-                        : new LongListOffHeap(numOfBuckets, configuration);
-                loadedDataCallback = (dataLocation, bucketData) -> {
+                bucketIndexToBucketLocation =
+                        createBucketIndex(null, numOfBuckets, preferDiskBasedIndex, configuration);
+                // Data files may be scanned in parallel, the highest ranked data location wins
+                loadedDataCallback = (dataLocation, bucketData, dataLocationRank) -> {
                     final Bucket bucket = bucketPool.getBucket();
                     bucket.readFrom(bucketData);
-                    bucketIndexToBucketLocation.put(bucket.getBucketIndex(), dataLocation);
+                    bucketIndexToBucketLocation.putIfHigherRank(
+                            bucket.getBucketIndex(), dataLocation, dataLocationRank);
                 };
             }
         } else {
@@ -270,9 +286,7 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
             // numOfBuckets is the nearest power of two greater than minimumBuckets with a min of 2
             numOfBuckets = Math.max(Integer.highestOneBit(minimumBuckets) * 2, 2);
             // create new index
-            bucketIndexToBucketLocation = preferDiskBasedIndex
-                    ? new LongListDisk(numOfBuckets, configuration)
-                    : new LongListOffHeap(numOfBuckets, configuration);
+            bucketIndexToBucketLocation = createBucketIndex(null, numOfBuckets, preferDiskBasedIndex, configuration);
             // we are new so no need for a loadedDataCallback
             loadedDataCallback = null;
             // write metadata
@@ -289,6 +303,59 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
         fileCollection = new DataFileCollection(
                 // Need: propagate MerkleDb merkleDbConfig from the database
                 merkleDbConfig, storeDir, storeName, legacyStoreName, loadedDataCallback);
+        try {
+            fileCollection.countLiveItems(bucketIndexToBucketLocation);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while counting live buckets in " + storeName, e);
+        }
+        // create bucket filter, load it from disk or rebuild from bucket data files
+        if (merkleDbConfig.halfDiskHashMapBloomFilterEnabled()) {
+            bucketFilter = new BucketBloomFilter(
+                    numOfBuckets,
+                    merkleDbConfig.halfDiskHashMapBloomFilterBitsPerBucket(),
+                    GOOD_AVERAGE_BUCKET_ENTRY_COUNT);
+            final Path filterFile = storeDir.resolve(storeName + BUCKET_FILTER_FILENAME_SUFFIX);
+            // If the index is rebuilt, the filter may be out of sync with the index, rebuild it too
+            if ((loadedDataCallback != null) || !bucketFilter.readFromFile(filterFile)) {
+                rebuildBucketFilter();
+            }
+        } else {
+            bucketFilter = null;
+        }
+    }
+
+    /**
+     * Creates a new bucket index, or loads it from a file. If enabled with {@link
+     * MerkleDbConfig#longListMmapEnabled()}, the index is memory mapped. Otherwise it's either disk
+     * based or off-heap, depending on whether disk based indices are preferred.
+     *
+     * @param file the file to load the index from, or null to create an empty index
+     * @param capacity the index capacity
+     * @param preferDiskBasedIndex whether disk based indices are preferred
+     * @param configuration platform configuration
+     * @return the index
+     * @throws IOException if the index can't be loaded from the file
+     */
+    private static LongList createBucketIndex(
+            @Nullable final Path file,
+            final long capacity,
+            final boolean preferDiskBasedIndex,
+            @NonNull final Configuration configuration)
+            throws IOException {
+        if (configuration.getConfigData(MerkleDbConfig.class).longListMmapEnabled()) {
+            return (file != null)
+                    ? new LongListMapped(file, capacity, configuration)
+                    : new LongListMapped(capacity, configuration);
+        } else if (preferDiskBasedIndex) {
+            return (file != null)
+                    ? new LongListDisk(file, capacity, configuration)
+                    : new LongListDisk(capacity, configuration);
+        } else {
+            return (file != null)
+                    ? new LongListOffHeap(file, capacity, configuration)
+                    : new LongListOffHeap(capacity, configuration);
+        }
     }
 
     private void writeMetadata(final Path dir) throws IOException {
@@ -321,83 +388,202 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
                 storeName,
                 firstLeafPath,
                 lastLeafPath);
-        // If no stale bucket entries are found, no need to create a new bucket data file
-        final AtomicBoolean newDataFile = new AtomicBoolean(false);
+        final long start = System.currentTimeMillis();
         final AtomicLong liveEntries = new AtomicLong(0);
-        for (int i = 0; i < numOfBuckets; i++) {
-            final long bucketId = i;
-            final long bucketDataLocation = bucketIndexToBucketLocation.get(bucketId);
-            if (bucketDataLocation <= 0) {
-                continue;
+        // Buckets are checked in parallel, but this map only supports a single writing thread, so
+        // stale entries are collected here and deleted after all buckets are checked
+        final Queue<BucketEntry> entriesToDelete = new ConcurrentLinkedQueue<>();
+        final ForkJoinPool pool = new ForkJoinPool(merkleDbConfig.indexRebuildingParallelism());
+        try {
+            pool.invoke(new RepairBucketsTask(
+                    0, numOfBuckets, firstLeafPath, lastLeafPath, store, liveEntries, entriesToDelete));
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            pool.shutdown();
+        }
+        // If no stale bucket entries are found, no need to create a new bucket data file
+        if (!entriesToDelete.isEmpty()) {
+            startWriting();
+            for (final BucketEntry entry : entriesToDelete) {
+                delete(entry.getKeyBytes(), entry.getHashCode());
             }
-            final BufferedData bucketData =
-                    fileCollection.readDataItemUsingIndex(bucketIndexToBucketLocation, bucketId);
-            if (bucketData == null) {
-                logger.warn("Delete bucket (not found): {}, dataLocation={}", bucketId, bucketDataLocation);
+            endWriting();
+        }
+        // Some stale buckets may have been removed from the index above, make sure the
+        // filter is in sync with the index
+        rebuildBucketFilter();
+        logger.info(
+                MERKLE_DB.getMarker(),
+                "HDHM {} is rebuilt in {} ms, {} stale entries deleted",
+                storeName,
+                System.currentTimeMillis() - start,
+                entriesToDelete.size());
+        final long expectedEntries = lastLeafPath - firstLeafPath + 1;
+        if (liveEntries.get() != expectedEntries) {
+            throw new IOException(
+                    "HDHM repair failed, expected keys = " + expectedEntries + ", actual = " + liveEntries.get());
+        }
+    }
+
+    /**
+     * Checks all entries in a single bucket, see {@link #repair(long, long, MemoryIndexDiskKeyValueStore)}.
+     * Stale buckets are removed from the index right away, stale entries are added to the provided
+     * queue to be deleted later. May be called concurrently for different buckets.
+     */
+    private void repairBucket(
+            final int bucketId,
+            final long firstLeafPath,
+            final long lastLeafPath,
+            final MemoryIndexDiskKeyValueStore store,
+            final AtomicLong liveEntries,
+            final Queue<BucketEntry> entriesToDelete)
+            throws IOException {
+        final long bucketDataLocation = bucketIndexToBucketLocation.get(bucketId);
+        if (bucketDataLocation <= 0) {
+            return;
+        }
+        final BufferedData bucketData = fileCollection.readDataItemUsingIndex(bucketIndexToBucketLocation, bucketId);
+        if (bucketData == null) {
+            logger.warn("Delete bucket (not found): {}, dataLocation={}", bucketId, bucketDataLocation);
+            bucketIndexToBucketLocation.remove(bucketId);
+            fileCollection.updateLiveItems(bucketDataLocation, 0);
+            return;
+        }
+        try (final ParsedBucket bucket = new ParsedBucket()) {
+            bucket.readFrom(bucketData);
+            if (bucket.getBucketIndex() != bucketId) {
+                logger.warn(MERKLE_DB.getMarker(), "Delete bucket (stale): {}", bucketId);
                 bucketIndexToBucketLocation.remove(bucketId);
-                continue;
+                fileCollection.updateLiveItems(bucketDataLocation, 0);
+                return;
             }
-            try (final ParsedBucket bucket = new ParsedBucket()) {
-                bucket.readFrom(bucketData);
-                if (bucket.getBucketIndex() != bucketId) {
-                    logger.warn(MERKLE_DB.getMarker(), "Delete bucket (stale): {}", bucketId);
-                    bucketIndexToBucketLocation.remove(bucketId);
-                    continue;
-                }
-                bucket.forEachEntry(entry -> {
-                    final Bytes keyBytes = entry.getKeyBytes();
-                    final long path = entry.getValue();
-                    try {
-                        boolean removeKey = true;
-                        if ((path < firstLeafPath) || (path > lastLeafPath)) {
-                            logger.warn(
-                                    MERKLE_DB.getMarker(), "Delete key (path range): key={}, path={}", keyBytes, path);
-                        } else {
-                            final BufferedData recordBytes = store.get(path);
-                            if (recordBytes == null) {
-                                throw new IOException("Record not found in pathToKeyValue store, path=" + path);
-                            }
-                            final VirtualLeafBytes record = VirtualLeafBytes.parseFrom(recordBytes);
-                            if (!record.keyBytes().equals(keyBytes)) {
-                                logger.warn(
-                                        MERKLE_DB.getMarker(),
-                                        "Delete key (stale): path={}, expected={}, actual={}",
-                                        path,
-                                        record.keyBytes(),
-                                        keyBytes);
-                            } else {
-                                removeKey = false;
-                            }
+            bucket.forEachEntry(entry -> {
+                final Bytes keyBytes = entry.getKeyBytes();
+                final long path = entry.getValue();
+                try {
+                    boolean removeKey = true;
+                    if ((path < firstLeafPath) || (path > lastLeafPath)) {
+                        logger.warn(MERKLE_DB.getMarker(), "Delete key (path range): key={}, path={}", keyBytes, path);
+                    } else {
+                        final BufferedData recordBytes = store.get(path);
+                        if (recordBytes == null) {
+                            throw new IOException("Record not found in pathToKeyValue store, path=" + path);
                         }
-                        if (removeKey) {
-                            if (newDataFile.compareAndSet(false, true)) {
-                                startWriting();
-                            }
-                            delete(keyBytes, entry.getHashCode());
+                        final VirtualLeafBytes record = VirtualLeafBytes.parseFrom(recordBytes);
+                        if (!record.keyBytes().equals(keyBytes)) {
+                            logger.warn(
+                                    MERKLE_DB.getMarker(),
+                                    "Delete key (stale): path={}, expected={}, actual={}",
+                                    path,
+                                    record.keyBytes(),
+                                    keyBytes);
                         } else {
-                            liveEntries.incrementAndGet();
+                            removeKey = false;
                         }
-                    } catch (final Exception e) {
-                        logger.error(
-                                MERKLE_DB.getMarker(),
-                                "Exception while processing bucket entry, bucket={}, key={} path={}",
-                                bucketId,
-                                keyBytes,
-                                path,
-                                e);
                     }
-                });
+                    if (removeKey) {
+                        entriesToDelete.add(entry);
+                    } else {
+                        liveEntries.incrementAndGet();
+                    }
+                } catch (final Exception e) {
+                    logger.error(
+                            MERKLE_DB.getMarker(),
+                            "Exception while processing bucket entry, bucket={}, key={} path={}",
+                            bucketId,
+                            keyBytes,
+                            path,
+                            e);
+                }
+            });
+        }
+    }
+
+    /**
+     * A fork-join task to check a range of buckets during repair. The range is split in halves, till
+     * it's small enough to be checked by a single thread.
+     */
+    private class RepairBucketsTask extends RecursiveAction {
+
+        // Max number of buckets to check in a single task without splitting
+        private static final int BUCKETS_PER_TASK = 4096;
+
+        private final int fromBucket;
+        private final int toBucket;
+        private final long firstLeafPath;
+        private final long lastLeafPath;
+        private final MemoryIndexDiskKeyValueStore store;
+        private final AtomicLong liveEntries;
+        private final Queue<BucketEntry> entriesToDelete;
+
+        RepairBucketsTask(
+                final int fromBucket,
+                final int toBucket,
+                final long firstLeafPath,
+                final long lastLeafPath,
+                final MemoryIndexDiskKeyValueStore store,
+                final AtomicLong liveEntries,
+                final Queue<BucketEntry> entriesToDelete) {
+            this.fromBucket = fromBucket;
+            this.toBucket = toBucket;
+            this.firstLeafPath = firstLeafPath;
+            this.lastLeafPath = lastLeafPath;
+            this.store = store;
+            this.liveEntries = liveEntries;
+            this.entriesToDelete = entriesToDelete;
+        }
+
+        @Override
+        protected void compute() {
+            if (toBucket - fromBucket <= BUCKETS_PER_TASK) {
+                try {
+                    for (int i = fromBucket; i < toBucket; i++) {
+                        repairBucket(i, firstLeafPath, lastLeafPath, store, liveEntries, entriesToDelete);
+                    }
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            } else {
+                final int mid = (fromBucket + toBucket) >>> 1;
+                invokeAll(
+                        new RepairBucketsTask(
+                                fromBucket, mid, firstLeafPath, lastLeafPath, store, liveEntries, entriesToDelete),
+                        new RepairBucketsTask(
+                                mid, toBucket, firstLeafPath, lastLeafPath, store, liveEntries, entriesToDelete));
             }
         }
-        // If a new data file is created, call endWriting()
-        if (newDataFile.get()) {
-            endWriting();
+    }
+
+    /**
+     * Rebuilds the bucket filter, if enabled, from scratch using bucket data from disk. Every
+     * bucket is read from disk once.
+     *
+     * @throws IOException If an I/O error occurs
+     */
+    private void rebuildBucketFilter() throws IOException {
+        if (bucketFilter == null) {
+            return;
         }
-        final long expectedEntries = lastLeafPath - firstLeafPath + 1;
-        if (liveEntries.get() != expectedEntries) {
-            throw new IOException(
-                    "HDHM repair failed, expected keys = " + expectedEntries + ", actual = " + liveEntries.get());
+        logger.info(MERKLE_DB.getMarker(), "Rebuilding bucket filter for HDHM {}", storeName);
+        final long start = System.currentTimeMillis();
+        bucketFilter.clear();
+        for (int i = 0; i < numOfBuckets; i++) {
+            if (bucketIndexToBucketLocation.get(i) <= 0) {
+                continue;
+            }
+            try (final Bucket bucket = readBucket(i)) {
+                // Stale buckets are treated as empty, see ReadUpdateBucketTask
+                if ((bucket != null) && (bucket.getBucketIndex() == i)) {
+                    bucketFilter.replace(i, bucketFilter.computeBlock(bucket));
+                }
+            }
         }
+        logger.info(
+                MERKLE_DB.getMarker(),
+                "Bucket filter for HDHM {} is rebuilt in {} ms",
+                storeName,
+                System.currentTimeMillis() - start);
     }
 
     /** {@inheritDoc} */
@@ -406,6 +592,11 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
         Files.createDirectories(snapshotDirectory);
         // write index to file
         bucketIndexToBucketLocation.writeToFile(snapshotDirectory.resolve(storeName + BUCKET_INDEX_FILENAME_SUFFIX));
+        // write bucket filter to file. It isn't required to load the map, but it saves time
+        // to rebuild the filter on startup
+        if (bucketFilter != null) {
+            bucketFilter.writeToFile(snapshotDirectory.resolve(storeName + BUCKET_FILTER_FILENAME_SUFFIX));
+        }
         // snapshot files
         fileCollection.snapshot(snapshotDirectory);
         // write metadata
@@ -417,10 +608,44 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
      */
     @Override
     public long getOffHeapConsumption() {
+        long result = 0;
         if (bucketIndexToBucketLocation instanceof LongListOffHeap offheapIndex) {
-            return offheapIndex.getOffHeapConsumption();
+            result += offheapIndex.getOffHeapConsumption();
+        }
+        if (bucketFilter != null) {
+            result += bucketFilter.getOffHeapConsumption();
         }
-        return 0;
+        return result;
+    }
+
+    /**
+     * Returns the size of the bucket filter, in bytes, or zero if the filter is disabled.
+     *
+     * @return the bucket filter size
+     */
+    public long getBucketFilterSize() {
+        return bucketFilter != null ? bucketFilter.getOffHeapConsumption() : 0;
+    }
+
+    /**
+     * Returns the number of bucket reads avoided by the bucket filter since the last call to
+     * this method. If the filter is disabled, returns zero.
+     *
+     * @return the number of avoided bucket reads
+     */
+    public long getAndResetBucketFilterAvoidedReads() {
+        return bucketFilter != null ? bucketFilter.getAndResetAvoidedReads() : 0;
+    }
+
+    /**
+     * Returns the number of lookups passed by the bucket filter, which eventually didn't find
+     * the key in the bucket, since the last call to this method. If the filter is disabled,
+     * returns zero.
+     *
+     * @return the number of bucket filter false positives
+     */
+    public long getAndResetBucketFilterFalsePositives() {
+        return bucketFilter != null ? bucketFilter.getAndResetFalsePositives() : 0;
     }
 
     /**
@@ -444,6 +669,9 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
         // file operations still running, but the index is already closed
         fileCollection.close();
         bucketIndexToBucketLocation.close();
+        if (bucketFilter != null) {
+            bucketFilter.close();
+        }
     }
 
     // =================================================================================================================
@@ -767,14 +995,28 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
         protected boolean onExecute() throws IOException {
             try (bucket) {
                 final int bucketIndex = bucket.getBucketIndex();
+                // Bucket filter bits for the new bucket. New bits are added to the filter before
+                // the bucket is made visible in the index, and old bits are cleared after that,
+                // so concurrent readers never get false negatives
+                final long[] filterBlock = bucketFilter != null ? bucketFilter.computeBlock(bucket) : null;
                 if (bucket.isEmpty()) {
                     // bucket is missing or empty, remove it from the index
+                    final long oldBucketLocation = bucketIndexToBucketLocation.get(bucketIndex);
                     bucketIndexToBucketLocation.remove(bucketIndex);
+                    fileCollection.updateLiveItems(oldBucketLocation, 0);
                 } else {
+                    if (filterBlock != null) {
+                        bucketFilter.merge(bucketIndex, filterBlock);
+                    }
                     // save bucket
                     final long bucketLocation = fileCollection.storeDataItem(bucket::writeTo, bucket.sizeInBytes());
                     // update bucketIndexToBucketLocation
+                    final long oldBucketLocation = bucketIndexToBucketLocation.get(bucketIndex);
                     bucketIndexToBucketLocation.put(bucketIndex, bucketLocation);
+                    fileCollection.updateLiveItems(oldBucketLocation, bucketLocation);
+                }
+                if (filterBlock != null) {
+                    bucketFilter.replace(bucketIndex, filterBlock);
                 }
                 return true;
             } finally {
@@ -837,14 +1079,104 @@ public class HalfDiskHashMap implements AutoCloseable, Snapshotable, FileStatist
             throw new IllegalArgumentException("Can not get a null key");
         }
         final int bucketIndex = computeBucketIndex(keyHashCode);
+        if ((bucketFilter != null) && !bucketFilter.mightContain(bucketIndex, keyHashCode)) {
+            // The key is definitely not in the map, no need to read the bucket
+            bucketFilter.countAvoidedRead();
+            return notFoundValue;
+        }
         try (final Bucket bucket = readBucket(bucketIndex)) {
             if (bucket != null) {
-                return bucket.findValue(keyHashCode, keyBytes, notFoundValue);
+                final long value = bucket.findValue(keyHashCode, keyBytes, INVALID_VALUE);
+                if (value != INVALID_VALUE) {
+                    return value;
+                }
             }
         }
+        if (bucketFilter != null) {
+            bucketFilter.countFalsePositive();
+        }
         return notFoundValue;
     }
 
+    /**
+     * Get values for multiple keys from this map. Keys are grouped by buckets, so every bucket is
+     * read from disk only once. Buckets are read in the order of their locations on disk, see
+     * {@link DataFileCollection#readDataItemsUsingIndex} for details.
+     *
+     * @param keys the keys to get values for
+     * @param keyHashCodes the key hash codes, in the same order as the keys
+     * @param notFoundValue the value to return for keys not found in the map
+     * @return the values retrieved from the map, in the same order as the keys
+     * @throws IOException If there was a problem reading from the map
+     */
+    public long[] get(final List<Bytes> keys, final int[] keyHashCodes, final long notFoundValue)
+            throws IOException {
+        final int count = keys.size();
+        if (keyHashCodes.length != count) {
+            throw new IllegalArgumentException("Keys and key hash codes count mismatch");
+        }
+        final long[] values = new long[count];
+        Arrays.fill(values, notFoundValue);
+        // Bucket index (high 32 bits) and key index (low 32 bits) for every key to look up. When
+        // sorted, keys from the same bucket are next to each other
+        final long[] bucketAndKeyIndices = new long[count];
+        int toRead = 0;
+        for (int i = 0; i < count; i++) {
+            if (keys.get(i) == null) {
+                throw new IllegalArgumentException("Can not get a null key");
+            }
+            final int bucketIndex = computeBucketIndex(keyHashCodes[i]);
+            if ((bucketFilter != null) && !bucketFilter.mightContain(bucketIndex, keyHashCodes[i])) {
+                bucketFilter.countAvoidedRead();
+                continue;
+            }
+            bucketAndKeyIndices[toRead++] = ((long) bucketIndex << 32) | i;
+        }
+        Arrays.sort(bucketAndKeyIndices, 0, toRead);
+        // Distinct buckets to read, and ranges in the sorted array above for every bucket
+        final long[] bucketIndices = new long[toRead];
+        final int[] bucketStarts = new int[toRead + 1];
+        int numOfBucketsToRead = 0;
+        for (int k = 0; k < toRead; k++) {
+            final int bucketIndex = (int) (bucketAndKeyIndices[k] >>> 32);
+            if ((numOfBucketsToRead == 0) || (bucketIndices[numOfBucketsToRead - 1] != bucketIndex)) {
+                bucketIndices[numOfBucketsToRead] = bucketIndex;
+                bucketStarts[numOfBucketsToRead++] = k;
+            }
+        }
+        bucketStarts[numOfBucketsToRead] = toRead;
+        fileCollection.readDataItemsUsingIndex(
+                bucketIndexToBucketLocation,
+                Arrays.copyOf(bucketIndices, numOfBucketsToRead),
+                (b, bucketData) -> {
+                    if (bucketData == null) {
+                        countFalsePositives(bucketStarts[b + 1] - bucketStarts[b]);
+                        return;
+                    }
+                    try (final Bucket bucket = bucketPool.getBucket()) {
+                        bucket.readFrom(bucketData);
+                        for (int k = bucketStarts[b]; k < bucketStarts[b + 1]; k++) {
+                            final int i = (int) bucketAndKeyIndices[k];
+                            final long value = bucket.findValue(keyHashCodes[i], keys.get(i), INVALID_VALUE);
+                            if (value != INVALID_VALUE) {
+                                values[i] = value;
+                            } else {
+                                countFalsePositives(1);
+                            }
+                        }
+                    }
+                });
+        return values;
+    }
+
+    private void countFalsePositives(final int count) {
+        if (bucketFilter != null) {
+            for (int i = 0; i < count; i++) {
+                bucketFilter.countFalsePositive();
+            }
+        }
+    }
+
     private Bucket readBucket(final int bucketIndex) throws IOException {
         final BufferedData bucketData = fileCollection.readDataItemUsingIndex(bucketIndexToBucketLocation, bucketIndex);
         if (bucketData == null) {
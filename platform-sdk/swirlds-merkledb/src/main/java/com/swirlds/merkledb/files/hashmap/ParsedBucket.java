@@ -16,6 +16,7 @@ import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -150,6 +151,11 @@ public final class ParsedBucket extends Bucket {
         entries.forEach(consumer);
     }
 
+    @Override
+    public void forEachEntryHashCode(final IntConsumer action) {
+        entries.forEach(entry -> action.accept(entry.getHashCode()));
+    }
+
     public void readFrom(final ReadableSequentialData in) {
         // defaults
         bucketIndex = 0;
@@ -9,6 +9,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import com.swirlds.common.io.utility.LegacyTemporaryFileBuilder;
 import com.swirlds.config.api.Configuration;
 import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.merkledb.collections.LongListMapped;
+import com.swirlds.merkledb.collections.LongListOffHeap;
 import com.swirlds.merkledb.config.MerkleDbConfig;
 import com.swirlds.virtualmap.datasource.VirtualDataSource;
 import java.io.IOException;
@@ -87,6 +89,7 @@ class MerkleDbBuilderTest {
             final Configuration configuration = new TestConfigBuilder().getOrCreateConfig();
             final MerkleDbConfig merkleDbConfig = configuration.getConfigData(MerkleDbConfig.class);
             assertFalse(merkleDbDataSource.isPreferDiskBasedIndexes());
+            assertTrue(merkleDbDataSource.getPathToDiskLocationLeafNodes() instanceof LongListOffHeap);
             assertEquals(merkleDbConfig.maxNumOfKeys(), merkleDbDataSource.getMaxNumberOfKeys());
             assertEquals(merkleDbConfig.hashesRamToDiskThreshold(), merkleDbDataSource.getHashesRamToDiskThreshold());
             // set explicitly above
@@ -122,4 +125,26 @@ class MerkleDbBuilderTest {
             }
         }
     }
+
+    @Test
+    @DisplayName("Test memory mapped indices")
+    public void testMemoryMappedIndices() throws IOException {
+        final Configuration configuration = new TestConfigBuilder()
+                .withValue("merkleDb.longListMmapEnabled", true)
+                .getOrCreateConfig();
+        final MerkleDbTableConfig tableConfig = createTableConfig();
+        final MerkleDbDataSourceBuilder builder =
+                new MerkleDbDataSourceBuilder(testDirectory.resolve("mmapDatabasePath"), tableConfig, configuration);
+        VirtualDataSource dataSource = null;
+        try {
+            dataSource = builder.build("test4", false);
+            final MerkleDbDataSource merkleDbDataSource = (MerkleDbDataSource) dataSource;
+            assertTrue(merkleDbDataSource.getPathToDiskLocationInternalNodes() instanceof LongListMapped);
+            assertTrue(merkleDbDataSource.getPathToDiskLocationLeafNodes() instanceof LongListMapped);
+        } finally {
+            if (dataSource != null) {
+                dataSource.close();
+            }
+        }
+    }
 }
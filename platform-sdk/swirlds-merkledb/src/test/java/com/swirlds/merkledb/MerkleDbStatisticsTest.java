@@ -90,6 +90,12 @@ class MerkleDbStatisticsTest {
         assertDoesNotThrow(() -> statistics.setOffHeapObjectKeyBucketsIndexMb(42));
         assertDoesNotThrow(() -> statistics.setOffHeapHashesListMb(42));
         assertDoesNotThrow(() -> statistics.setOffHeapDataSourceMb(42));
+        assertDoesNotThrow(() -> statistics.setLeafKeysBloomFilterSizeMb(42));
+        assertDoesNotThrow(() -> statistics.countLeafKeysBloomFilterAvoidedReads(42));
+        assertDoesNotThrow(() -> statistics.setLeafKeysBloomFilterFalsePositiveRate(0.01));
+        assertDoesNotThrow(() -> statistics.countLeafRecordCacheHits(42));
+        assertDoesNotThrow(() -> statistics.countLeafRecordCacheMisses(42));
+        assertDoesNotThrow(() -> statistics.countLeafRecordCacheEvictions(42));
     }
 
     @Test
@@ -0,0 +1,112 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.merkledb;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.virtualmap.datasource.VirtualLeafBytes;
+import org.junit.jupiter.api.Test;
+
+class SetAssociativeLeafRecordCacheTest {
+
+    private static Bytes key(final int i) {
+        return Bytes.wrap(new byte[] {(byte) (i >>> 24), (byte) (i >>> 16), (byte) (i >>> 8), (byte) i});
+    }
+
+    private static VirtualLeafBytes record(final int i) {
+        final Bytes key = key(i);
+        return new VirtualLeafBytes(i, key, key.hashCode(), key);
+    }
+
+    /** Emulates MerkleDbDataSource access: look up the key, put it to the cache on miss */
+    private static void access(final LeafRecordCache cache, final int i) {
+        final Bytes key = key(i);
+        if (cache.get(key, key.hashCode()) == null) {
+            cache.put(key.hashCode(), record(i));
+        }
+    }
+
+    private static boolean contains(final SetAssociativeLeafRecordCache cache, final int i) {
+        final Bytes key = key(i);
+        return cache.get(key, key.hashCode()) != null;
+    }
+
+    @Test
+    void invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new SetAssociativeLeafRecordCache(0, 4));
+        assertThrows(IllegalArgumentException.class, () -> new SetAssociativeLeafRecordCache(1024, 0));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new SetAssociativeLeafRecordCache(1024, SetAssociativeLeafRecordCache.MAX_WAYS + 1));
+    }
+
+    @Test
+    void putGetInvalidate() {
+        final SetAssociativeLeafRecordCache cache = new SetAssociativeLeafRecordCache(1024, 4);
+        final Bytes key = key(1);
+        assertNull(cache.get(key, key.hashCode()), "Empty cache must not contain any keys");
+        cache.put(key.hashCode(), record(1));
+        final VirtualLeafBytes cached = cache.get(key, key.hashCode());
+        assertNotNull(cached, "Key must be found in the cache");
+        assertEquals(record(1), cached, "Wrong cached record");
+        // Update
+        final VirtualLeafBytes updated = new VirtualLeafBytes(2, key, key.hashCode(), null);
+        cache.put(key.hashCode(), updated);
+        assertEquals(updated, cache.get(key, key.hashCode()), "Cached record must be updated");
+        // Invalidate
+        cache.invalidate(key, key.hashCode());
+        assertNull(cache.get(key, key.hashCode()), "Key must be removed from the cache");
+        assertEquals(2, cache.getAndResetHits(), "Wrong number of hits");
+        assertEquals(2, cache.getAndResetMisses(), "Wrong number of misses");
+        assertEquals(0, cache.getAndResetHits(), "Hits must be reset");
+    }
+
+    @Test
+    void hotKeysDontEvictEachOther() {
+        // A single set of two entries, all keys are mapped to it
+        final SetAssociativeLeafRecordCache cache = new SetAssociativeLeafRecordCache(2, 2);
+        for (int i = 0; i < 100; i++) {
+            access(cache, 1);
+            access(cache, 2);
+        }
+        assertEquals(2, cache.getAndResetMisses(), "Only the first access to every key must be a miss");
+        assertEquals(0, cache.getAndResetEvictions(), "No evictions expected");
+    }
+
+    @Test
+    void scanDoesntEvictHotKeys() {
+        final int hotKeys = 8;
+        // A single set, all keys are mapped to it
+        final SetAssociativeLeafRecordCache cache = new SetAssociativeLeafRecordCache(hotKeys, hotKeys);
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < hotKeys; i++) {
+                access(cache, i);
+            }
+        }
+        // One-off scan, shorter than sketch reset period, so hot key frequencies aren't halved
+        for (int i = 1000; i < 1030; i++) {
+            access(cache, i);
+        }
+        for (int i = 0; i < hotKeys; i++) {
+            assertTrue(contains(cache, i), "Hot key " + i + " must stay in the cache");
+        }
+    }
+
+    @Test
+    void newHotKeyIsAdmitted() {
+        final SetAssociativeLeafRecordCache cache = new SetAssociativeLeafRecordCache(4, 4);
+        for (int i = 0; i < 4; i++) {
+            access(cache, i);
+        }
+        // A new key, accessed more often than the cached ones, must eventually replace one of them
+        for (int round = 0; round < 5; round++) {
+            access(cache, 100);
+        }
+        assertTrue(contains(cache, 100), "New hot key must be admitted");
+        assertEquals(1, cache.getAndResetEvictions(), "One entry must be evicted");
+    }
+}
@@ -39,7 +39,9 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
 import java.util.function.LongConsumer;
+import java.util.function.LongUnaryOperator;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.MethodOrderer;
@@ -260,6 +262,51 @@ abstract class AbstractLongListTest<T extends AbstractLongList<?>> {
         }
     }
 
+    @Test
+    void testPutIfGreater() {
+        try (final LongList longList = createLongList(NUM_LONGS_PER_CHUNK, MAX_LONGS, 0)) {
+            longList.updateValidRange(0, MAX_LONGS - 1);
+            assertTrue(longList.putIfGreater(1, 10), "Value should be put to an empty index");
+            assertEquals(10, longList.get(1));
+            assertFalse(longList.putIfGreater(1, 5), "Smaller value should not be put");
+            assertFalse(longList.putIfGreater(1, 10), "Equal value should not be put");
+            assertEquals(10, longList.get(1));
+            assertTrue(longList.putIfGreater(1, 11), "Greater value should be put");
+            assertEquals(11, longList.get(1));
+            assertThrows(IllegalArgumentException.class, () -> longList.putIfGreater(1, IMPERMISSIBLE_VALUE));
+        }
+    }
+
+    @Test
+    void testPutIfGreaterConcurrently() {
+        try (final LongList longList = createLongList(NUM_LONGS_PER_CHUNK, MAX_LONGS, 0)) {
+            longList.updateValidRange(0, MAX_LONGS - 1);
+            // Many threads put values for the same few indices in no particular order, the greatest
+            // value must win
+            IntStream.rangeClosed(1, SAMPLE_SIZE).parallel().forEach(value -> longList.putIfGreater(value % 10, value));
+            assertEquals(SAMPLE_SIZE, longList.get(0));
+            for (int i = 1; i < 10; i++) {
+                assertEquals(SAMPLE_SIZE - 10 + i, longList.get(i));
+            }
+        }
+    }
+
+    @Test
+    void testPutIfHigherRank() {
+        try (final LongList longList = createLongList(NUM_LONGS_PER_CHUNK, MAX_LONGS, 0)) {
+            longList.updateValidRange(0, MAX_LONGS - 1);
+            // Smaller values have higher ranks
+            final LongUnaryOperator rank = value -> -value;
+            assertTrue(longList.putIfHigherRank(1, 10, rank), "Value should be put to an empty index");
+            assertEquals(10, longList.get(1));
+            assertFalse(longList.putIfHigherRank(1, 11, rank), "Lower ranked value should not be put");
+            assertFalse(longList.putIfHigherRank(1, 10, rank), "Equally ranked value should not be put");
+            assertEquals(10, longList.get(1));
+            assertTrue(longList.putIfHigherRank(1, 9, rank), "Higher ranked value should be put");
+            assertEquals(9, longList.get(1));
+        }
+    }
+
     @Test
     void testInsertAtTheEndOfTheListCustomConfigured() {
         final int MAX_LONGS = 10;
@@ -664,6 +711,9 @@ abstract class AbstractLongListTest<T extends AbstractLongList<?>> {
     static LongListWriterFactory diskWriterFactory = new LongListWriterFactory(
             LongListDisk.class.getSimpleName(),
             () -> new LongListDisk(NUM_LONGS_PER_CHUNK, MAX_LONGS, 0, CONFIGURATION));
+    static LongListWriterFactory mappedWriterFactory = new LongListWriterFactory(
+            LongListMapped.class.getSimpleName(),
+            () -> new LongListMapped(NUM_LONGS_PER_CHUNK, MAX_LONGS, 0, CONFIGURATION));
 
     /**
      * Factories (named BiFunctions) for reconstructing different {@link AbstractLongList}
@@ -694,6 +744,14 @@ abstract class AbstractLongListTest<T extends AbstractLongList<?>> {
                     throw new RuntimeException(e);
                 }
             });
+    static LongListReaderFactory mappedReaderFactory =
+            new LongListReaderFactory(LongListMapped.class.getSimpleName(), (file, a) -> {
+                try {
+                    return new LongListMapped(file, (int) a.get(0).longValue(), a.get(1), a.get(2), CONFIGURATION);
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            });
 
     /**
      * Generates a stream of writer-reader argument pairs for testing cross-compatibility
@@ -0,0 +1,81 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.merkledb.collections;
+
+import static com.swirlds.merkledb.test.fixtures.MerkleDbTestUtils.CONFIGURATION;
+
+import com.swirlds.config.api.Configuration;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.provider.Arguments;
+
+public class LongListMappedTest extends AbstractLongListTest<LongListMapped> {
+
+    @Override
+    protected LongListMapped createLongList(long capacity, Configuration config) {
+        return new LongListMapped(capacity, config);
+    }
+
+    @Override
+    protected LongListMapped createLongList(
+            final int longsPerChunk, final long capacity, final long reservedBufferLength) {
+        return new LongListMapped(longsPerChunk, capacity, reservedBufferLength, CONFIGURATION);
+    }
+
+    @Override
+    protected LongListMapped createLongList(
+            final Path file, final int longsPerChunk, final long capacity, final long reservedBufferLength)
+            throws IOException {
+        return new LongListMapped(file, longsPerChunk, capacity, reservedBufferLength, CONFIGURATION);
+    }
+
+    /**
+     * Provides a stream of writer-reader pairs specifically for the {@link LongListMapped} implementation.
+     * The writer is always {@link LongListMapped}, and it is paired with four reader implementations
+     * (heap, off-heap, disk-based, and memory mapped). This allows for testing whether data written by
+     * the {@link LongListMapped} can be correctly read back by all supported long list implementations.
+     *
+     * @return a stream of argument pairs, each containing a {@link LongListMapped} writer
+     *         and one of the supported reader implementations
+     */
+    static Stream<Arguments> longListWriterReaderPairsProvider() {
+        return Stream.concat(
+                longListWriterBasedPairsProvider(mappedWriterFactory),
+                Stream.of(Arguments.of(mappedWriterFactory, mappedReaderFactory)));
+    }
+
+    /**
+     * Provides a stream of writer paired with two reader implementations for testing
+     * cross-compatibility.
+     * <p>
+     * Used for {@link AbstractLongListTest#testUpdateMinToTheLowerEnd}
+     *
+     * @return a stream of arguments containing a writer and two readers.
+     */
+    static Stream<Arguments> longListWriterSecondReaderPairsProvider() {
+        return longListWriterSecondReaderPairsProviderBase(longListWriterReaderPairsProvider());
+    }
+
+    /**
+     * Provides writer-reader pairs combined with range configurations for testing.
+     * <p>
+     * Used for {@link AbstractLongListTest#testWriteReadRangeElement}
+     *
+     * @return a stream of arguments for range-based parameterized tests
+     */
+    static Stream<Arguments> longListWriterReaderRangePairsProvider() {
+        return longListWriterReaderRangePairsProviderBase(longListWriterReaderPairsProvider());
+    }
+
+    /**
+     * Provides writer-reader pairs combined with chunk offset configurations (second set) for testing.
+     * <p>
+     * Used for {@link AbstractLongListTest#testPersistListWithNonZeroMinValidIndex}
+     * and {@link AbstractLongListTest#testPersistShrunkList}
+     *
+     * @return a stream of arguments for chunk offset based parameterized tests
+     */
+    static Stream<Arguments> longListWriterReaderOffsetPairsProvider() {
+        return longListWriterReaderOffsetPairsProviderBase(longListWriterReaderPairsProvider());
+    }
+}
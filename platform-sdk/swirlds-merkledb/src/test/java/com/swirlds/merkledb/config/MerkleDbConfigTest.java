@@ -34,4 +34,21 @@ class MerkleDbConfigTest {
         // then
         Assertions.assertEquals(1, configViolationException.getViolations().size());
     }
+
+    @Test
+    public void testHalfDiskHashMapBloomFilterBitsPerBucketViolation() {
+        // given
+        final ConfigurationBuilder configurationBuilder = ConfigurationBuilder.create()
+                .withConfigDataTypes(MerkleDbConfig.class)
+                .withSources(new SimpleConfigSource("merkleDb.halfDiskHashMapBloomFilterBitsPerBucket", 100));
+
+        // when
+        final ConfigViolationException configViolationException = Assertions.assertThrows(
+                ConfigViolationException.class,
+                () -> configurationBuilder.build(),
+                "A violation should cancel the initialization");
+
+        // then
+        Assertions.assertEquals(1, configViolationException.getViolations().size());
+    }
 }
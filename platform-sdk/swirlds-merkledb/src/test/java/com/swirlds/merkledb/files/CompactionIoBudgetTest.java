@@ -0,0 +1,94 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.merkledb.files;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class CompactionIoBudgetTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void unlimitedBudget() {
+        final CompactionIoBudget budget = new CompactionIoBudget(0, 0, Duration.ZERO, Duration.ofSeconds(1));
+        final long now = System.nanoTime();
+        assertEquals(0, budget.reserve(Long.MAX_VALUE / 2, Long.MAX_VALUE / 2, now));
+        assertEquals(0, budget.reserve(Long.MAX_VALUE / 2, Long.MAX_VALUE / 2, now));
+    }
+
+    @Test
+    void burstWithinBudget() {
+        final CompactionIoBudget budget = new CompactionIoBudget(1000, 1000, Duration.ZERO, Duration.ofSeconds(1));
+        final long now = System.nanoTime();
+        // The buckets are initially full, one second of tokens can be taken without waiting
+        assertEquals(0, budget.reserve(600, 600, now));
+        assertEquals(0, budget.reserve(400, 400, now));
+    }
+
+    @Test
+    void overBudgetWaits() {
+        final CompactionIoBudget budget = new CompactionIoBudget(1000, 1000, Duration.ZERO, Duration.ofSeconds(1));
+        final long now = System.nanoTime();
+        assertEquals(0, budget.reserve(1000, 1000, now));
+        // 500 bytes over the budget is half a second of debt
+        assertEquals(SECOND / 2, budget.reserve(500, 500, now));
+        // After the debt is paid back, the buckets are empty
+        assertEquals(SECOND / 10, budget.reserve(100, 100, now + SECOND / 2));
+    }
+
+    @Test
+    void readAndWriteBudgetsAreIndependent() {
+        final CompactionIoBudget budget = new CompactionIoBudget(1000, 4000, Duration.ZERO, Duration.ofSeconds(1));
+        final long now = System.nanoTime();
+        // The read bucket is empty, the write bucket still has tokens
+        assertEquals(0, budget.reserve(1000, 1000, now));
+        assertEquals(0, budget.reserve(0, 3000, now));
+        // Both buckets are empty
+        assertEquals(SECOND, budget.reserve(1000, 0, now));
+        // One second later, the read debt is paid back, and the write bucket is full
+        assertEquals(SECOND / 2, budget.reserve(0, 6000, now + SECOND));
+    }
+
+    @Test
+    void bucketsDontOverflow() {
+        final CompactionIoBudget budget = new CompactionIoBudget(1000, 1000, Duration.ZERO, Duration.ofSeconds(1));
+        final long now = System.nanoTime();
+        // Idle for a long time, but the buckets can only hold one second of tokens
+        assertEquals(SECOND, budget.reserve(2000, 2000, now + 100 * SECOND));
+    }
+
+    @Test
+    void backOff() {
+        final CompactionIoBudget budget = new CompactionIoBudget(0, 0, Duration.ZERO, Duration.ofSeconds(1));
+        final long now = System.nanoTime();
+        assertEquals(0, budget.backOffWaitNanos(now));
+        budget.backOff(SECOND, now);
+        assertEquals(SECOND, budget.backOffWaitNanos(now));
+        assertEquals(SECOND / 2, budget.backOffWaitNanos(now + SECOND / 2));
+        assertEquals(0, budget.backOffWaitNanos(now + 2 * SECOND));
+        // Shorter back off doesn't cut a longer one
+        budget.backOff(SECOND / 10, now);
+        assertEquals(SECOND, budget.backOffWaitNanos(now));
+    }
+
+    @Test
+    void slowFlushTriggersBackOff() {
+        final CompactionIoBudget budget =
+                new CompactionIoBudget(0, 0, Duration.ofMillis(100), Duration.ofSeconds(10));
+        budget.reportFlushLatency("test", TimeUnit.MILLISECONDS.toNanos(50));
+        assertEquals(0, budget.backOffWaitNanos(System.nanoTime()));
+        budget.reportFlushLatency("test", TimeUnit.MILLISECONDS.toNanos(200));
+        assertTrue(budget.backOffWaitNanos(System.nanoTime()) > SECOND);
+    }
+
+    @Test
+    void noBackOffIfDisabled() {
+        final CompactionIoBudget budget = new CompactionIoBudget(0, 0, Duration.ZERO, Duration.ofSeconds(10));
+        budget.reportFlushLatency("test", TimeUnit.SECONDS.toNanos(100));
+        assertEquals(0, budget.backOffWaitNanos(System.nanoTime()));
+    }
+}
@@ -2,6 +2,7 @@
 package com.swirlds.merkledb.files;
 
 import static com.swirlds.merkledb.files.DataFileCompactor.compactionPlan;
+import static com.swirlds.merkledb.files.DataFileCompactor.garbageCompactionPlan;
 import static java.util.Collections.emptyList;
 import static org.hiero.base.utility.test.fixtures.RandomUtils.nextInt;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -142,4 +143,20 @@ class DataFileCompactorTest {
                 compactionPlan(Arrays.asList(firstLevel1, secondLevel1, secondLevel2), 3, 5);
         assertEquals(0, result.size());
     }
+
+    @Test
+    void testGarbageCompactionPlan() {
+        when(initialLevel1.getGarbageRatio()).thenReturn(0.1);
+        when(firstLevel1.getGarbageRatio()).thenReturn(0.5);
+        when(secondLevel1.getGarbageRatio()).thenReturn(0.9);
+        List<? extends DataFileReader> result =
+                garbageCompactionPlan(Arrays.asList(initialLevel1, firstLevel1, secondLevel1), 0.5);
+        assertEquals(List.of(firstLevel1, secondLevel1), result);
+    }
+
+    @Test
+    void testGarbageCompactionPlan_disabled() {
+        when(secondLevel1.getGarbageRatio()).thenReturn(1.0);
+        assertEquals(0, garbageCompactionPlan(List.of(secondLevel1), 0).size());
+    }
 }
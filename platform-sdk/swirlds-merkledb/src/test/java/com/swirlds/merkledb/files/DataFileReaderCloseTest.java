@@ -6,6 +6,8 @@ import static com.swirlds.merkledb.test.fixtures.MerkleDbTestUtils.CONFIGURATION
 
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
 import com.swirlds.common.io.utility.LegacyTemporaryFileBuilder;
+import com.swirlds.config.api.ConfigurationBuilder;
+import com.swirlds.config.extensions.sources.SimpleConfigSource;
 import com.swirlds.merkledb.collections.LongList;
 import com.swirlds.merkledb.collections.LongListOffHeap;
 import com.swirlds.merkledb.config.MerkleDbConfig;
@@ -141,4 +143,50 @@ class DataFileReaderCloseTest {
             }
         }
     }
+
+    @Test
+    void mmapReadAfterCloseTest() throws IOException {
+        final Path dir = LegacyTemporaryFileBuilder.buildTemporaryDirectory("mmapReadAfterCloseTest", CONFIGURATION);
+        final MerkleDbConfig dbConfig = ConfigurationBuilder.create()
+                .withConfigDataType(MerkleDbConfig.class)
+                .withSources(new SimpleConfigSource("merkleDb.dataFileMmapReadsEnabled", true))
+                .withSources(new SimpleConfigSource("merkleDb.dataFileMmapWindowSize", 1024 * 1024))
+                .build()
+                .getConfigData(MerkleDbConfig.class);
+        final DataFileCollection mmapCollection = new DataFileCollection(dbConfig, dir, "mmap", null);
+        // Enough items to span multiple mapped windows
+        final int COUNT = 200_000;
+        final LongList index = new LongListOffHeap(COUNT / 10, COUNT, COUNT / 10);
+        index.updateValidRange(0, COUNT - 1);
+        mmapCollection.startWriting();
+        for (int i = 0; i < COUNT; i++) {
+            final int fi = i;
+            index.put(
+                    i,
+                    mmapCollection.storeDataItem(
+                            o -> {
+                                o.writeLong(fi);
+                                o.writeLong(fi + 1);
+                            },
+                            2 * Long.BYTES));
+        }
+        //noinspection resource
+        mmapCollection.endWriting(0, COUNT - 1);
+        final DataFileReader reader = mmapCollection.getAllCompletedFiles().get(0);
+        for (int i = 0; i < COUNT; i++) {
+            final BufferedData itemBytes = mmapCollection.readDataItem(index.get(i));
+            Assertions.assertNotNull(itemBytes);
+            Assertions.assertEquals(i, itemBytes.readLong());
+            Assertions.assertEquals(i + 1, itemBytes.readLong());
+        }
+        Assertions.assertTrue(reader.getMappedWindowsCount() > 1, "Items must be read from multiple windows");
+        // Data items are copied out of mapped windows, they must stay valid after the reader is closed
+        final BufferedData lastItem = mmapCollection.readDataItem(index.get(COUNT - 1));
+        mmapCollection.close();
+        Assertions.assertEquals(0, reader.getMappedWindowsCount(), "Windows must be unmapped on close");
+        Assertions.assertNull(reader.readDataItem(index.get(0)), "Closed reader must not return data items");
+        Assertions.assertEquals(COUNT - 1, lastItem.getLong(0));
+        Assertions.assertEquals(COUNT, lastItem.getLong(Long.BYTES));
+        index.close();
+    }
 }
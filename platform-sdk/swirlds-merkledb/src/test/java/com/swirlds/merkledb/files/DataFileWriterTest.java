@@ -95,6 +95,24 @@ class DataFileWriterTest {
         verifyFileSize(bytesData.length);
     }
 
+    @Test
+    public void itemsCountIsStoredInMetadata() throws IOException {
+        BufferedData data = BufferedData.wrap("test".getBytes());
+        for (int i = 0; i < 3; i++) {
+            dataFileWriter.storeDataItem(data);
+            data.flip();
+        }
+        assertEquals(0, dataFileWriter.getMetadata().getItemsCount(), "Items count is unknown till the file is closed");
+        dataFileWriter.close();
+
+        assertEquals(3, dataFileWriter.getMetadata().getItemsCount(), "Unexpected items count");
+        assertEquals(
+                3,
+                DataFileMetadata.readFromFile(dataFileWriter.getPath()).getItemsCount(),
+                "Unexpected items count loaded from file");
+        verifyFileSize(data.length() * 3);
+    }
+
     private void verifyFileSize(int dataLength) throws IOException {
         int fileSize = (int) Files.size(dataFileWriter.getPath());
         int dataSize = ProtoWriterTools.sizeOfDelimited(FIELD_DATAFILE_ITEMS, dataLength);
@@ -0,0 +1,199 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.merkledb.files;
+
+import static com.swirlds.merkledb.test.fixtures.MerkleDbTestUtils.CONFIGURATION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import com.swirlds.config.api.Configuration;
+import com.swirlds.config.api.ConfigurationBuilder;
+import com.swirlds.config.extensions.sources.SimpleConfigSource;
+import com.swirlds.merkledb.collections.LongList;
+import com.swirlds.merkledb.collections.LongListHeap;
+import com.swirlds.merkledb.config.MerkleDbConfig;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests that data files of a {@link MemoryIndexDiskKeyValueStore} keep track of how many of their
+ * data items are referenced from the store index, and that compaction uses it.
+ */
+class MemoryIndexDiskKeyValueStoreLiveItemsTest {
+
+    private static final String STORE_NAME = "MemoryIndexDiskKeyValueStoreLiveItemsTest";
+
+    /** Configuration with garbage ratio driven compaction enabled */
+    private static final Configuration GARBAGE_COMPACTION_CONFIGURATION = ConfigurationBuilder.create()
+            .withConfigDataType(MerkleDbConfig.class)
+            .withSources(new SimpleConfigSource("merkleDb.compactionGarbageRatioThreshold", 0.5))
+            .build();
+
+    /** Temporary directory provided by JUnit */
+    @SuppressWarnings("unused")
+    @TempDir
+    Path testDirectory;
+
+    private LongList index;
+
+    private MemoryIndexDiskKeyValueStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        index = new LongListHeap(1000, CONFIGURATION);
+        store = createStore(CONFIGURATION);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        store.close();
+        index.close();
+    }
+
+    private MemoryIndexDiskKeyValueStore createStore(final Configuration configuration) throws IOException {
+        return new MemoryIndexDiskKeyValueStore(
+                configuration.getConfigData(MerkleDbConfig.class), testDirectory, STORE_NAME, null, null, index);
+    }
+
+    /**
+     * Writes a new data file with values for the given range of keys.
+     */
+    private DataFileReader writeBatch(final long firstKey, final long lastKey, final long value) throws IOException {
+        store.updateValidKeyRange(0, 99);
+        store.startWriting();
+        for (long key = firstKey; key <= lastKey; key++) {
+            final long k = key;
+            store.put(
+                    key,
+                    out -> {
+                        out.writeLong(k);
+                        out.writeLong(value);
+                    },
+                    2 * Long.BYTES);
+        }
+        return store.endWriting();
+    }
+
+    private void checkValues(final long firstKey, final long lastKey, final long value) throws IOException {
+        for (long key = firstKey; key <= lastKey; key++) {
+            final BufferedData dataItem = store.get(key);
+            assertNotNull(dataItem, "Data item should be found for key " + key);
+            assertEquals(key, dataItem.readLong(), "Unexpected key");
+            assertEquals(value, dataItem.readLong(), "Unexpected value for key " + key);
+        }
+    }
+
+    private Map<Integer, Long> liveItemsByFileIndex() {
+        return store.getFileCollection().getAllCompletedFiles().stream()
+                .collect(Collectors.toMap(
+                        DataFileReader::getIndex, DataFileReader::getLiveItems, (a, b) -> a, TreeMap::new));
+    }
+
+    @Test
+    void putsAndOverwrites() throws IOException {
+        final DataFileReader first = writeBatch(0, 99, 1);
+        assertEquals(100, first.getLiveItems(), "All items in a new file are live");
+        assertEquals(0.0, first.getGarbageRatio(), "A new file has no garbage");
+
+        final DataFileReader second = writeBatch(0, 29, 2);
+        assertEquals(70, first.getLiveItems(), "Overwritten items are no longer live");
+        assertEquals(0.3, first.getGarbageRatio(), 1e-9, "Unexpected garbage ratio");
+        assertEquals(30, second.getLiveItems(), "All items in a new file are live");
+
+        final DataFileReader third = writeBatch(30, 39, 3);
+        assertEquals(60, first.getLiveItems(), "Overwritten items are no longer live");
+        assertEquals(30, second.getLiveItems(), "Items in other files are not affected");
+        assertEquals(10, third.getLiveItems(), "All items in a new file are live");
+        // Only the first file has garbage, and it's the largest one
+        final double garbageRatio = store.getFileCollection().getGarbageRatio();
+        assertTrue((garbageRatio > 0.2) && (garbageRatio < 0.4), "Unexpected garbage ratio of the collection");
+    }
+
+    @Test
+    void validKeyRangeChangesDropLiveItems() throws IOException {
+        final DataFileReader reader = writeBatch(0, 99, 1);
+
+        // Keys 0 to 9 and 90 to 99 are no longer valid
+        store.updateValidKeyRange(10, 89);
+        assertEquals(80, reader.getLiveItems(), "Items out of the valid key range are no longer live");
+
+        // Keys 10 to 19 are no longer valid, the range is extended, but the new keys have no values yet
+        store.updateValidKeyRange(20, 120);
+        assertEquals(70, reader.getLiveItems(), "Items out of the valid key range are no longer live");
+
+        // No keys are valid
+        store.updateValidKeyRange(-1, -1);
+        assertEquals(0, reader.getLiveItems(), "All items are dropped");
+        assertEquals(1.0, reader.getGarbageRatio(), "All items are garbage");
+    }
+
+    @Test
+    void liveItemsAreCountedAfterRestart() throws IOException {
+        writeBatch(0, 99, 1);
+        writeBatch(0, 49, 2);
+        writeBatch(40, 59, 3);
+        final Map<Integer, Long> liveItemsBeforeRestart = liveItemsByFileIndex();
+        assertEquals(List.of(40L, 40L, 20L), List.copyOf(liveItemsBeforeRestart.values()), "Unexpected live items");
+
+        // Live item counts are not stored in files, they are counted using the index on load
+        store.close();
+        store = createStore(CONFIGURATION);
+        assertEquals(liveItemsBeforeRestart, liveItemsByFileIndex(), "Live items should be the same after restart");
+        checkValues(0, 39, 2);
+        checkValues(40, 59, 3);
+        checkValues(60, 99, 1);
+    }
+
+    @Test
+    void compactionPicksHighGarbageFile() throws Exception {
+        final DataFileReader first = writeBatch(0, 99, 1);
+        final DataFileReader second = writeBatch(0, 79, 2);
+        assertEquals(0.8, first.getGarbageRatio(), 1e-9, "Unexpected garbage ratio");
+
+        // There are not enough files for a level compaction, and garbage compaction is disabled by default
+        final DataFileCompactor defaultCompactor = new DataFileCompactor(
+                CONFIGURATION.getConfigData(MerkleDbConfig.class),
+                STORE_NAME,
+                store.getFileCollection(),
+                index,
+                null,
+                null,
+                null,
+                null);
+        assertFalse(defaultCompactor.compact(), "Nothing should be compacted by default");
+
+        final DataFileCompactor garbageCompactor = new DataFileCompactor(
+                GARBAGE_COMPACTION_CONFIGURATION.getConfigData(MerkleDbConfig.class),
+                STORE_NAME,
+                store.getFileCollection(),
+                index,
+                null,
+                null,
+                null,
+                null);
+        assertTrue(garbageCompactor.compact(), "The file with mostly garbage should be compacted");
+
+        final List<DataFileReader> files = store.getFileCollection().getAllCompletedFiles();
+        assertEquals(2, files.size(), "Only the file with mostly garbage should be replaced");
+        assertFalse(files.contains(first), "The file with mostly garbage should be compacted");
+        assertTrue(files.contains(second), "The file without garbage should not be compacted");
+        final DataFileReader compacted = files.stream().filter(f -> f != second).findFirst().orElseThrow();
+        assertEquals(20, compacted.getMetadata().getItemsCount(), "Only live items should be copied");
+        assertEquals(20, compacted.getLiveItems(), "All copied items are live");
+        assertEquals(80, second.getLiveItems(), "Items in other files are not affected");
+        checkValues(0, 79, 2);
+        checkValues(80, 99, 1);
+
+        assertFalse(garbageCompactor.compact(), "Nothing else should be compacted");
+    }
+}
@@ -5,12 +5,18 @@ import static com.swirlds.merkledb.test.fixtures.MerkleDbTestUtils.CONFIGURATION
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.config.api.Configuration;
+import com.swirlds.config.api.ConfigurationBuilder;
+import com.swirlds.config.extensions.sources.SimpleConfigSource;
 import com.swirlds.merkledb.collections.LongList;
 import com.swirlds.merkledb.collections.LongListHeap;
 import com.swirlds.merkledb.config.MerkleDbConfig;
+import com.swirlds.merkledb.files.DataFileCollection;
 import com.swirlds.merkledb.files.DataFileCompactor;
+import com.swirlds.merkledb.files.DataFileReader;
 import com.swirlds.merkledb.files.MemoryIndexDiskKeyValueStore;
 import com.swirlds.merkledb.test.fixtures.ExampleLongKeyFixedSize;
 import com.swirlds.merkledb.test.fixtures.files.FilesTestType;
@@ -28,6 +34,12 @@ import org.junit.jupiter.params.provider.EnumSource;
 @SuppressWarnings({"SameParameterValue", "unchecked"})
 class HalfDiskHashMapTest {
 
+    /** Configuration with half disk hash map bucket filters enabled */
+    private static final Configuration BUCKET_FILTER_CONFIGURATION = ConfigurationBuilder.create()
+            .withConfigDataType(MerkleDbConfig.class)
+            .withSources(new SimpleConfigSource("merkleDb.halfDiskHashMapBloomFilterEnabled", true))
+            .build();
+
     /** Temporary directory provided by JUnit */
     @SuppressWarnings("unused")
     @TempDir
@@ -275,6 +287,102 @@ class HalfDiskHashMapTest {
         assertThrows(IOException.class, () -> map.repair(2, 4, kv));
     }
 
+    @ParameterizedTest
+    @EnumSource(FilesTestType.class)
+    void bucketFilterNoFalseNegatives(FilesTestType testType) throws Exception {
+        final Path storeDir = tempDirPath.resolve("BucketFilter_" + testType.name());
+        final Path snapshotDir = tempDirPath.resolve("BucketFilterSnapshot_" + testType.name());
+        final int count = 10_000;
+        final HalfDiskHashMap map =
+                new HalfDiskHashMap(BUCKET_FILTER_CONFIGURATION, count, storeDir, "HalfDiskHashMapTest", null, false);
+        assertTrue(map.getBucketFilterSize() > 0, "Bucket filter should be enabled");
+        createSomeData(testType, map, 0, count, 1);
+        checkData(testType, map, 0, count, 1);
+        // Absent keys must not be found, most of them should be rejected by the filter
+        for (int i = count; i < count * 2; i++) {
+            final VirtualKey key = testType.createVirtualLongKey(i);
+            assertEquals(-1, map.get(testType.keySerializer.toBytes(key), key.hashCode(), -1));
+        }
+        final long avoidedReads = map.getAndResetBucketFilterAvoidedReads();
+        final long falsePositives = map.getAndResetBucketFilterFalsePositives();
+        assertEquals(count, avoidedReads + falsePositives);
+        assertTrue(avoidedReads > falsePositives, "Too many false positives: " + falsePositives);
+        // Deleted keys must not be found
+        map.startWriting();
+        for (int i = 0; i < count; i += 2) {
+            final VirtualKey key = testType.createVirtualLongKey(i);
+            map.delete(testType.keySerializer.toBytes(key), key.hashCode());
+        }
+        map.endWriting();
+        for (int i = 0; i < count; i++) {
+            final VirtualKey key = testType.createVirtualLongKey(i);
+            final long expected = (i % 2 == 0) ? -1 : i;
+            assertEquals(expected, map.get(testType.keySerializer.toBytes(key), key.hashCode(), -1));
+        }
+        // Filter is persisted in snapshots and loaded back
+        map.snapshot(snapshotDir);
+        map.close();
+        try (final HalfDiskHashMap mapFromSnapshot = new HalfDiskHashMap(
+                BUCKET_FILTER_CONFIGURATION, count, snapshotDir, "HalfDiskHashMapTest", null, false)) {
+            for (int i = 0; i < count; i++) {
+                final VirtualKey key = testType.createVirtualLongKey(i);
+                final long expected = (i % 2 == 0) ? -1 : i;
+                assertEquals(expected, mapFromSnapshot.get(testType.keySerializer.toBytes(key), key.hashCode(), -1));
+            }
+        }
+    }
+
+    @Test
+    void liveBucketsAreCounted() throws Exception {
+        final FilesTestType testType = FilesTestType.fixed;
+        final Path storeDir = tempDirPath.resolve("LiveBuckets");
+        final Path snapshotDir = tempDirPath.resolve("LiveBucketsSnapshot");
+        final HalfDiskHashMap map =
+                new HalfDiskHashMap(CONFIGURATION, 1000, storeDir, "HalfDiskHashMapTest", null, false);
+        createSomeData(testType, map, 0, 1000, 1);
+        final DataFileReader first = map.getFileCollection().getAllCompletedFiles().getFirst();
+        final long bucketCount = first.getMetadata().getItemsCount();
+        assertTrue(bucketCount > 1, "Buckets should be written");
+        assertEquals(bucketCount, first.getLiveItems(), "All buckets in a new file are live");
+
+        // Only the buckets of the updated keys are written to the new file
+        createSomeData(testType, map, 0, 10, 2);
+        final DataFileReader second = map.getFileCollection().getAllCompletedFiles().stream()
+                .filter(f -> f != first)
+                .findFirst()
+                .orElseThrow();
+        final long updatedBucketCount = second.getMetadata().getItemsCount();
+        assertTrue(updatedBucketCount < bucketCount, "Not all buckets should be updated");
+        assertEquals(updatedBucketCount, second.getLiveItems(), "All buckets in a new file are live");
+        assertEquals(bucketCount - updatedBucketCount, first.getLiveItems(), "Updated buckets are no longer live");
+
+        // Live buckets are counted using the bucket index, when the map is loaded
+        map.snapshot(snapshotDir);
+        try (final HalfDiskHashMap mapFromSnapshot =
+                new HalfDiskHashMap(CONFIGURATION, 1000, snapshotDir, "HalfDiskHashMapTest", null, false)) {
+            assertEquals(
+                    bucketCount,
+                    countLiveItems(mapFromSnapshot.getFileCollection()),
+                    "Live buckets should be the same after load");
+        }
+
+        // Buckets, which become empty, are removed from the index
+        map.startWriting();
+        for (int i = 0; i < 1000; i++) {
+            final VirtualKey key = testType.createVirtualLongKey(i);
+            map.delete(testType.keySerializer.toBytes(key), key.hashCode());
+        }
+        map.endWriting();
+        assertEquals(0, countLiveItems(map.getFileCollection()), "No buckets should be live");
+        map.close();
+    }
+
+    private static long countLiveItems(final DataFileCollection fileCollection) {
+        return fileCollection.getAllCompletedFiles().stream()
+                .mapToLong(DataFileReader::getLiveItems)
+                .sum();
+    }
+
     private static void printTestUpdate(long start, long count, String msg) {
         long took = System.currentTimeMillis() - start;
         double timeSeconds = (double) took / 1000d;
@@ -58,6 +58,7 @@ class DataSourceValidatorTest {
                             Stream.empty());
 
                     assertTrue(validator.validate());
+                    assertTrue(validator.validate(4), "Parallel validation must give the same result");
                 });
     }
 
@@ -83,6 +84,7 @@ class DataSourceValidatorTest {
                             Stream.empty(),
                             Stream.empty());
                     assertFalse(validator.validate());
+                    assertFalse(validator.validate(4), "Parallel validation must give the same result");
                 });
     }
 }
@@ -14,6 +14,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.base.function.CheckedConsumer;
 import com.swirlds.base.units.UnitConstants;
 import com.swirlds.common.config.StateCommonConfig;
@@ -42,6 +43,7 @@ import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Random;
@@ -235,6 +237,69 @@ class MerkleDbDataSourceTest {
         });
     }
 
+    @ParameterizedTest
+    @MethodSource("provideParameters")
+    void batchLoadLeavesAndHashes(final TestType testType, final int hashesRamToDiskThreshold) throws IOException {
+        final int count = 10_000;
+        final KeySerializer keySerializer = testType.dataType().getKeySerializer();
+        final ValueSerializer valueSerializer = testType.dataType().getValueSerializer();
+        createAndApplyDataSource(
+                testDirectory, "batchLoad", testType, count, hashesRamToDiskThreshold, dataSource -> {
+                    dataSource.saveRecords(
+                            count - 1,
+                            count * 2 - 2,
+                            IntStream.range(0, count * 2 - 1)
+                                    .mapToObj(MerkleDbDataSourceTest::createVirtualInternalRecord),
+                            IntStream.range(count - 1, count * 2 - 1)
+                                    .mapToObj(i -> testType.dataType().createVirtualLeafRecord(i))
+                                    .map(r -> r.toBytes(keySerializer, valueSerializer)),
+                            Stream.empty());
+                    // Keys in random order, some of them are not in the data source
+                    final List<Integer> ids = new ArrayList<>(
+                            IntStream.range(count - 1, count * 2 + 99).boxed().toList());
+                    Collections.shuffle(ids, RANDOM);
+                    final List<Bytes> keyBytes = new ArrayList<>(ids.size());
+                    final int[] keyHashCodes = new int[ids.size()];
+                    for (int k = 0; k < ids.size(); k++) {
+                        final VirtualKey key = testType.dataType().createVirtualLongKey(ids.get(k));
+                        keyBytes.add(keySerializer.toBytes(key));
+                        keyHashCodes[k] = key.hashCode();
+                    }
+                    final List<VirtualLeafBytes> leaves = dataSource.loadLeafRecords(keyBytes, keyHashCodes);
+                    assertEquals(ids.size(), leaves.size(), "Wrong number of loaded leaves");
+                    for (int k = 0; k < ids.size(); k++) {
+                        final int id = ids.get(k);
+                        if (id < count * 2 - 1) {
+                            assertEqualsAndPrint(
+                                    testType.dataType()
+                                            .createVirtualLeafRecord(id)
+                                            .toBytes(keySerializer, valueSerializer),
+                                    leaves.get(k));
+                        } else {
+                            assertNull(leaves.get(k), "Leaf for key " + id + " must not be found");
+                        }
+                    }
+                    // Load again, now some leaves are in the leaf records cache
+                    assertEquals(leaves, dataSource.loadLeafRecords(keyBytes, keyHashCodes), "Leaves mismatch");
+
+                    // Hashes, in random order, some are out of range
+                    final long[] paths = ids.stream().mapToLong(Integer::longValue).toArray();
+                    final Hash[] hashes = dataSource.loadHashes(paths);
+                    for (int k = 0; k < paths.length; k++) {
+                        final long path = paths[k];
+                        if (path < count * 2 - 1) {
+                            assertEquals(hash((int) path), hashes[k], "Wrong hash for path " + path);
+                        } else {
+                            assertNull(hashes[k], "Hash for path " + path + " must not be found");
+                        }
+                    }
+                    assertThrows(
+                            IllegalArgumentException.class,
+                            () -> dataSource.loadHashes(new long[] {1, -1}),
+                            "Loading a negative path should fail");
+                });
+    }
+
     @ParameterizedTest
     @EnumSource(TestType.class)
     void updateLeaves(final TestType testType) throws IOException, InterruptedException {
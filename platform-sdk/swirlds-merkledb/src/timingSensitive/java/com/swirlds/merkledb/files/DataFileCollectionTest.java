@@ -171,6 +171,40 @@ class DataFileCollectionTest {
         checkData(fileCollectionMap.get(testType), storedOffsetsMap.get(testType), testType, 0, 1000, 10_000);
     }
 
+    @Order(3)
+    @ParameterizedTest
+    @EnumSource(FilesTestType.class)
+    void checkBatchRead(final FilesTestType testType) throws IOException {
+        final DataFileCollection fileCollection = fileCollectionMap.get(testType);
+        final LongListHeap storedOffsets = storedOffsetsMap.get(testType);
+        // Keys in reverse order across all files, plus a few keys not in the index
+        final long[] keys = new long[1010];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = keys.length - 1 - i;
+        }
+        final long[][] read = new long[keys.length][];
+        fileCollection.readDataItemsUsingIndex(storedOffsets, keys, (index, dataItem) -> {
+            if (dataItem != null) {
+                final long[] dataItemLongs = new long[Math.toIntExact(dataItem.remaining() / Long.BYTES)];
+                for (int j = 0; j < dataItemLongs.length; j++) {
+                    dataItemLongs[j] = dataItem.readLong();
+                }
+                read[index] = dataItemLongs;
+            }
+        });
+        for (int i = 0; i < keys.length; i++) {
+            final int key = (int) keys[i];
+            if (key >= 1000) {
+                assertNull(read[i], "No data item expected for key " + key);
+                continue;
+            }
+            final long[] expected = (testType == FilesTestType.fixed)
+                    ? new long[] {key, key + 10_000}
+                    : getVariableSizeDataForI(key, 10_000);
+            assertEquals(Arrays.toString(expected), Arrays.toString(read[i]), "unexpected dataItem value");
+        }
+    }
+
     @Order(4)
     @ParameterizedTest
     @EnumSource(FilesTestType.class)
@@ -699,6 +733,104 @@ class DataFileCollectionTest {
         }
     }
 
+    @Test
+    void parallelIndexRebuild() throws Exception {
+        final Path dir = tempFileDir.resolve("parallelIndexRebuild");
+        final DataFileCollection fileCollection = new DataFileCollection(MERKLE_DB_CONFIG, dir, "test", null);
+        final LongListHeap expectedIndex = new LongListHeap(5000, Integer.MAX_VALUE, 0);
+        expectedIndex.updateValidRange(0, 1000);
+        // Every file overwrites a half of the keys written to the previous file
+        for (int f = 0; f < 10; f++) {
+            fileCollection.startWriting();
+            for (int i = f * 50; i < f * 50 + 100; i++) {
+                expectedIndex.put(i, storeDataItem(fileCollection, new long[] {i, f}));
+            }
+            fileCollection.endWriting(0, 1000);
+        }
+        fileCollection.close();
+
+        final LongListHeap index = new LongListHeap(5000, Integer.MAX_VALUE, 0);
+        index.updateValidRange(0, 1000);
+        final DataFileCollection.ConcurrentLoadedDataCallback callback =
+                (dataLocation, data, rank) -> index.putIfHigherRank(data.readLong(), dataLocation, rank);
+        final DataFileCollection reopened = new DataFileCollection(MERKLE_DB_CONFIG, dir, "test", callback);
+        try {
+            for (int i = 0; i < 550; i++) {
+                assertEquals(expectedIndex.get(i), index.get(i), "Latest data location must win, key=" + i);
+            }
+            final DataFileCollection.IndexRebuildStats stats = reopened.getIndexRebuildStats();
+            assertNotNull(stats, "Index rebuild stats must be available");
+            assertEquals(10, stats.dataFiles());
+            assertEquals(1000, stats.dataItems());
+        } finally {
+            reopened.close();
+            index.close();
+            expectedIndex.close();
+        }
+    }
+
+    /**
+     * A compacted file gets the creation date of the newest file it's compacted from, so a file,
+     * which was flushed while compaction was in progress, may have a lower file index, but newer
+     * data than the compacted file. Index rebuild must resolve conflicts by file creation dates
+     * rather than by file indices.
+     */
+    @Test
+    void parallelIndexRebuildAfterCompaction() throws Exception {
+        final Path dir = tempFileDir.resolve("parallelIndexRebuildAfterCompaction");
+        final DataFileCollection fileCollection = new DataFileCollection(MERKLE_DB_CONFIG, dir, "test", null);
+        final LongListHeap expectedIndex = new LongListHeap(5000, Integer.MAX_VALUE, 0);
+        expectedIndex.updateValidRange(0, 99);
+        for (int f = 0; f < 2; f++) {
+            fileCollection.startWriting();
+            for (int i = 0; i < 100; i++) {
+                expectedIndex.put(i, storeDataItem(fileCollection, new long[] {i, f}));
+            }
+            fileCollection.endWriting(0, 99);
+        }
+        final List<DataFileReader> filesToCompact = fileCollection.getAllCompletedFiles();
+        MILLISECONDS.sleep(10);
+
+        // A flush starts before compaction, but writes its data items after the items are compacted
+        fileCollection.startWriting();
+        final DataFileCompactor compactor =
+                new DataFileCompactor(MERKLE_DB_CONFIG, "test", fileCollection, expectedIndex, null, null, null, null) {
+                    @Override
+                    int getMinNumberOfFilesToCompact() {
+                        return 2;
+                    }
+                };
+        final List<Path> compactedFiles = compactor.compactFiles(expectedIndex, filesToCompact, 1);
+        assertEquals(1, compactedFiles.size(), "Two files should be compacted to one");
+        for (int i = 0; i < 50; i++) {
+            expectedIndex.put(i, storeDataItem(fileCollection, new long[] {i, 2}));
+        }
+        final DataFileReader flushed = fileCollection.endWriting(0, 99);
+        final DataFileReader compacted = fileCollection.getAllCompletedFiles().stream()
+                .filter(r -> r.getPath().equals(compactedFiles.getFirst()))
+                .findFirst()
+                .orElseThrow();
+        assertTrue(compacted.getIndex() > flushed.getIndex(), "Compacted file should have a greater index");
+        assertTrue(compacted.compareTo(flushed) < 0, "Compacted file should be older than the flushed file");
+        fileCollection.close();
+
+        final LongListHeap index = new LongListHeap(5000, Integer.MAX_VALUE, 0);
+        index.updateValidRange(0, 99);
+        final DataFileCollection.ConcurrentLoadedDataCallback callback =
+                (dataLocation, data, rank) -> index.putIfHigherRank(data.readLong(), dataLocation, rank);
+        final DataFileCollection reopened = new DataFileCollection(MERKLE_DB_CONFIG, dir, "test", callback);
+        try {
+            for (int i = 0; i < 100; i++) {
+                assertEquals(expectedIndex.get(i), index.get(i), "Latest data item must win, key=" + i);
+                assertEquals(i < 50 ? 2 : 1, readDataItem(reopened, index.get(i))[1], "Wrong value, key=" + i);
+            }
+        } finally {
+            reopened.close();
+            index.close();
+            expectedIndex.close();
+        }
+    }
+
     /**
      * This test emulates scenario in which compaction is interrupted by thread interruption. This event shouldn't be
      * reported as an error in the logs.
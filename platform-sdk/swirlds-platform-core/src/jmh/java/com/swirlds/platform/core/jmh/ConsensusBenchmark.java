@@ -4,8 +4,10 @@ package com.swirlds.platform.core.jmh;
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.test.fixtures.WeightGenerators;
 import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
 import com.swirlds.platform.Consensus;
 import com.swirlds.platform.ConsensusImpl;
+import com.swirlds.platform.consensus.ConsensusConfig_;
 import com.swirlds.platform.internal.EventImpl;
 import com.swirlds.platform.metrics.NoOpConsensusMetrics;
 import com.swirlds.platform.test.fixtures.event.emitter.EventEmitterBuilder;
@@ -31,9 +33,13 @@ import org.openjdk.jmh.infra.Blackhole;
 @Warmup(iterations = 1, time = 1)
 @Measurement(iterations = 3, time = 10)
 public class ConsensusBenchmark {
-    @Param({"39"})
+    @Param({"39", "40", "100", "300"})
     public int numNodes;
 
+    /** if true, consensus metadata is stored in a compact arena rather than in events */
+    @Param({"false", "true"})
+    public boolean compactMetadata;
+
     @Param({"100000"})
     public int numEvents;
 
@@ -45,8 +51,11 @@ public class ConsensusBenchmark {
 
     @Setup(Level.Iteration)
     public void setup() {
-        final PlatformContext platformContext =
-                TestPlatformContextBuilder.create().build();
+        final PlatformContext platformContext = TestPlatformContextBuilder.create()
+                .withConfiguration(new TestConfigBuilder()
+                        .withValue(ConsensusConfig_.COMPACT_METADATA, compactMetadata)
+                        .getOrCreateConfig())
+                .build();
         final StandardEventEmitter emitter = EventEmitterBuilder.newBuilder()
                 .setRandomSeed(seed)
                 .setNumNodes(numNodes)
@@ -36,7 +36,12 @@ public class PcesWriterBenchmark {
     @Param({"OUTPUT_STREAM", "FILE_CHANNEL", "FILE_CHANNEL_SYNC"})
     public PcesFileWriterType pcesFileWriterType;
 
+    /** The number of events written per sync by {@link #writeEventGroupCommit()} */
+    @Param({"16"})
+    public int groupCommitSize;
+
     private PlatformEvent event;
+    private int eventsSinceSync;
     private Path directory;
     private PcesMutableFile mutableFile;
 
@@ -84,4 +89,18 @@ public class PcesWriterBenchmark {
         mutableFile.writeEvent(event);
         mutableFile.sync();
     }
+
+    /**
+     * Emulates the group commit mode of the inline PCES writer, which syncs once for a batch of events.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void writeEventGroupCommit() throws IOException {
+        mutableFile.writeEvent(event);
+        if (++eventsSinceSync >= groupCommitSize) {
+            mutableFile.sync();
+            eventsSinceSync = 0;
+        }
+    }
 }
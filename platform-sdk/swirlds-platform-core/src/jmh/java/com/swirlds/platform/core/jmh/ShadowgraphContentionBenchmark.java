@@ -0,0 +1,170 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.core.jmh;
+
+import com.swirlds.common.test.fixtures.Randotron;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.platform.gossip.NoOpIntakeEventCounter;
+import com.swirlds.platform.gossip.shadowgraph.ReservedEventWindow;
+import com.swirlds.platform.gossip.shadowgraph.ShadowEvent;
+import com.swirlds.platform.gossip.shadowgraph.Shadowgraph;
+import com.swirlds.platform.gossip.shadowgraph.ShadowgraphInsertionException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.hiero.base.crypto.Hash;
+import org.hiero.consensus.model.event.AncientMode;
+import org.hiero.consensus.model.event.PlatformEvent;
+import org.hiero.consensus.model.hashgraph.EventWindow;
+import org.hiero.consensus.model.node.NodeId;
+import org.hiero.consensus.model.test.fixtures.event.TestingEventBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures contention on the {@link Shadowgraph} when many peers sync against it while events are inserted. One
+ * thread inserts events and advances the event window, the other threads each simulate a sync with a peer: reserve the
+ * event window, get the tips, look up the peer's tips and search for their ancestors, like the
+ * {@code ShadowgraphSynchronizer} does.
+ *
+ * <p>The number of peers defaults to 16, one less than the default number of sync permits. It can be changed with the
+ * JMH thread group option, e.g. {@code -tg 1,32} for one inserter and 32 peers.</p>
+ */
+@State(Scope.Group)
+@Fork(value = 1)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 10)
+public class ShadowgraphContentionBenchmark {
+
+    /**
+     * The number of rounds an event stays in the shadowgraph before it expires.
+     */
+    private static final long ROUNDS_NON_EXPIRED = 26;
+
+    @Param({"0"})
+    public long seed;
+
+    @Param({"16"})
+    public int numNodes;
+
+    @Param({"100000"})
+    public int numEvents;
+
+    private PlatformEvent[] events;
+    private Shadowgraph shadowgraph;
+
+    /**
+     * The index of the next event to insert. Only accessed by the inserting thread.
+     */
+    private int nextEvent;
+
+    /**
+     * The number of events inserted since the graph was last cleared, read by the peers to pick known events.
+     */
+    private volatile int insertedEvents;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Randotron random = Randotron.create(seed);
+        events = new PlatformEvent[numEvents];
+        final PlatformEvent[] latestByCreator = new PlatformEvent[numNodes];
+        for (int i = 0; i < numEvents; i++) {
+            // every node creates one event per round, with an other parent from a random node
+            final int creator = i % numNodes;
+            final int otherCreator = (creator + 1 + random.nextInt(numNodes - 1)) % numNodes;
+            final PlatformEvent event = new TestingEventBuilder(random)
+                    .setCreatorId(NodeId.of(creator))
+                    .setSelfParent(latestByCreator[creator])
+                    .setOtherParent(latestByCreator[otherCreator])
+                    .setBirthRound(birthRound(i))
+                    .setAppTransactionCount(0)
+                    .setSystemTransactionCount(0)
+                    .build();
+            latestByCreator[creator] = event;
+            events[i] = event;
+        }
+
+        shadowgraph = new Shadowgraph(
+                TestPlatformContextBuilder.create().build(), numNodes, new NoOpIntakeEventCounter());
+        restart();
+    }
+
+    private long birthRound(final int eventIndex) {
+        return 1 + eventIndex / numNodes;
+    }
+
+    /**
+     * Clear the graph and start inserting from the first event again.
+     */
+    private void restart() {
+        shadowgraph.clear();
+        shadowgraph.updateEventWindow(EventWindow.getGenesisEventWindow(AncientMode.BIRTH_ROUND_THRESHOLD));
+        nextEvent = 0;
+        insertedEvents = 0;
+    }
+
+    @Benchmark
+    @Group("sync")
+    @GroupThreads(1)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void insert() throws ShadowgraphInsertionException {
+        if (nextEvent == events.length) {
+            restart();
+        }
+        final PlatformEvent event = events[nextEvent];
+        shadowgraph.addEvent(event);
+        nextEvent++;
+        insertedEvents = nextEvent;
+
+        if (nextEvent % numNodes == 0) {
+            // the round of this event is complete, advance the event window
+            final long round = birthRound(nextEvent - 1);
+            final long threshold = Math.max(1, round - ROUNDS_NON_EXPIRED);
+            shadowgraph.updateEventWindow(
+                    new EventWindow(round, round + 1, threshold, threshold, AncientMode.BIRTH_ROUND_THRESHOLD));
+        }
+    }
+
+    @Benchmark
+    @Group("sync")
+    @GroupThreads(16)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void peerSync(final Blackhole bh) {
+        try (final ReservedEventWindow reservation = shadowgraph.reserve()) {
+            bh.consume(reservation.getEventWindow());
+            final List<ShadowEvent> myTips = shadowgraph.getTips();
+
+            // the peer's tips are recent events that we already have
+            final int inserted = insertedEvents;
+            final List<Hash> theirTipHashes = new ArrayList<>(numNodes);
+            for (int i = 0; i < numNodes && inserted > 0; i++) {
+                final int index = Math.max(0, inserted - 1 - ThreadLocalRandom.current().nextInt(4 * numNodes));
+                theirTipHashes.add(events[index].getHash());
+            }
+            final List<ShadowEvent> theirTips = shadowgraph.shadows(theirTipHashes).stream()
+                    .filter(Objects::nonNull)
+                    .toList();
+
+            final Set<ShadowEvent> knownAncestors = shadowgraph.findAncestors(theirTips, e -> true);
+            final Set<ShadowEvent> sendSet = shadowgraph.findAncestors(myTips, e -> !knownAncestors.contains(e));
+            bh.consume(sendSet);
+        }
+    }
+}
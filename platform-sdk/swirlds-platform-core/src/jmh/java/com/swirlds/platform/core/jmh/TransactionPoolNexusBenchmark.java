@@ -0,0 +1,85 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.core.jmh;
+
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.common.test.fixtures.Randotron;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.hiero.consensus.event.creator.impl.pool.TransactionPoolNexus;
+import org.hiero.consensus.model.status.PlatformStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures contention on the {@link TransactionPoolNexus} when many ingest threads submit application transactions
+ * while the event creator takes transactions to put into events. 32 threads submit transactions, one thread takes
+ * them, like the event creator does.
+ *
+ * <p>The number of submitting threads can be changed with the JMH thread group option, e.g. {@code -tg 64,1} for
+ * 64 submitting threads.</p>
+ */
+@State(Scope.Group)
+@Fork(value = 1)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 10)
+public class TransactionPoolNexusBenchmark {
+
+    @Param({"0"})
+    public long seed;
+
+    @Param({"256"})
+    public int transactionSize;
+
+    private TransactionPoolNexus nexus;
+
+    /**
+     * A few different transactions to submit. Contents don't matter, only sizes do.
+     */
+    private Bytes[] transactions;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Randotron random = Randotron.create(seed);
+        transactions = new Bytes[64];
+        for (int i = 0; i < transactions.length; i++) {
+            transactions[i] = Bytes.wrap(random.nextByteArray(transactionSize));
+        }
+        nexus = new TransactionPoolNexus(TestPlatformContextBuilder.create().build());
+        nexus.updatePlatformStatus(PlatformStatus.ACTIVE);
+    }
+
+    @Benchmark
+    @Group("pool")
+    @GroupThreads(32)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public boolean submit() {
+        final Bytes transaction = transactions[(int) (Thread.currentThread().threadId() % transactions.length)];
+        // Transactions are rejected if the event creator can't keep up, that's still a submission
+        return nexus.submitApplicationTransaction(transaction);
+    }
+
+    @Benchmark
+    @Group("pool")
+    @GroupThreads(1)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void createEvent(final Blackhole bh) {
+        final List<Bytes> eventTransactions = nexus.getTransactions();
+        bh.consume(eventTransactions);
+    }
+}
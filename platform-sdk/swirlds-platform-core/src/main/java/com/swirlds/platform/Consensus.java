@@ -2,6 +2,7 @@
 package com.swirlds.platform;
 
 import com.hedera.hapi.platform.state.ConsensusSnapshot;
+import com.swirlds.platform.consensus.ConsensusMetadataStore;
 import com.swirlds.platform.consensus.ConsensusRounds;
 import com.swirlds.platform.internal.EventImpl;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -59,6 +60,15 @@ public interface Consensus {
      */
     ConsensusRounds getRounds();
 
+    /**
+     * Retrieves the store of the consensus metadata of events. Depending on the configuration, the metadata may not be
+     * stored in the events themselves, so it must always be read through this store.
+     *
+     * @return the consensus metadata store
+     */
+    @NonNull
+    ConsensusMetadataStore getMetadataStore();
+
     /**
      * @return the latest round for which fame has been decided
      */
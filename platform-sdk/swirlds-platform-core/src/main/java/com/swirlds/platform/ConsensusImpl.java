@@ -19,11 +19,14 @@ import com.swirlds.logging.legacy.LogMarker;
 import com.swirlds.platform.consensus.AncestorSearch;
 import com.swirlds.platform.consensus.CandidateWitness;
 import com.swirlds.platform.consensus.ConsensusConfig;
+import com.swirlds.platform.consensus.ConsensusMetadataArena;
+import com.swirlds.platform.consensus.ConsensusMetadataStore;
 import com.swirlds.platform.consensus.ConsensusRounds;
 import com.swirlds.platform.consensus.ConsensusSorter;
 import com.swirlds.platform.consensus.ConsensusUtils;
 import com.swirlds.platform.consensus.CountingVote;
 import com.swirlds.platform.consensus.DeGen;
+import com.swirlds.platform.consensus.EventConsensusMetadataStore;
 import com.swirlds.platform.consensus.InitJudges;
 import com.swirlds.platform.consensus.RoundElections;
 import com.swirlds.platform.event.EventUtils;
@@ -34,10 +37,10 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -166,9 +169,11 @@ public class ConsensusImpl implements Consensus {
     /**
      * recently added events. this list is used for recalculating metadata once a new round is
      * decided. as soon as events reach consensus or become stale, they are discarded from this
-     * list.
+     * list. most events are removed from the head of the queue, which an array deque handles without copying.
      */
-    private final List<EventImpl> recentEvents = new LinkedList<>();
+    private final ArrayDeque<EventImpl> recentEvents = new ArrayDeque<>();
+    /** stores the memoized lastSee and stronglySeeP results and the votes of events */
+    private final ConsensusMetadataStore metadata;
     /** stores all round information */
     private final ConsensusRounds rounds;
     /**
@@ -226,6 +231,9 @@ public class ConsensusImpl implements Consensus {
         this.roster = roster;
         this.rosterTotalWeight = RosterUtils.computeTotalWeight(roster);
         this.rosterIndicesMap = RosterUtils.toIndicesMap(roster);
+        this.metadata = config.compactMetadata()
+                ? new ConsensusMetadataArena(roster.rosterEntries().size())
+                : new EventConsensusMetadataStore();
 
         this.ancientMode = platformContext
                 .getConfiguration()
@@ -263,6 +271,7 @@ public class ConsensusImpl implements Consensus {
     /** Reset this instance to a state of a newly created instance */
     private void reset() {
         recentEvents.clear();
+        metadata.reset();
         rounds.reset();
         numConsensus = 0;
         lastConsensusTime = null;
@@ -367,6 +376,7 @@ public class ConsensusImpl implements Consensus {
 
             if (insertedEvent.isConsensus() || ancient(insertedEvent)) {
                 insertedEvent.clearMetadata();
+                metadata.release(insertedEvent);
 
                 // all events that are consensus or ancient have a round of -infinity
                 insertedEvent.setRoundCreated(ConsensusConstants.ROUND_NEGATIVE_INFINITY);
@@ -376,6 +386,7 @@ public class ConsensusImpl implements Consensus {
 
             // for all other events, we need to recalculate its round and metadata
             insertedEvent.clearMetadata();
+            metadata.clearMetadata(insertedEvent);
             insertedEvent.setRoundCreated(ConsensusConstants.ROUND_UNDEFINED);
 
             final ConsensusRound consensusRound = calculateAndVote(insertedEvent);
@@ -383,6 +394,8 @@ public class ConsensusImpl implements Consensus {
                 return consensusRound;
             }
         }
+        // all remaining events have their metadata recalculated, memory of the removed events can be reclaimed
+        metadata.compact();
         return null;
     }
 
@@ -520,7 +533,7 @@ public class ConsensusImpl implements Consensus {
      */
     private void voteInAllElections(@NonNull final EventImpl votingWitness) {
         final RoundElections roundElections = rounds.getElectionRound();
-        votingWitness.initVoting(roundElections.numElections());
+        metadata.initVoting(votingWitness, roundElections.numElections());
         final long diff = round(votingWitness) - roundElections.getRound();
         if (diff <= 0) {
             // this should never happen, but just in case
@@ -530,7 +543,7 @@ public class ConsensusImpl implements Consensus {
             for (final Iterator<CandidateWitness> it = roundElections.undecidedWitnesses(); it.hasNext(); ) {
                 final CandidateWitness candidateWitness = it.next();
                 final boolean firstVote = firstVote(votingWitness, candidateWitness.getWitness());
-                votingWitness.setVote(candidateWitness, firstVote);
+                metadata.setVote(votingWitness, candidateWitness, firstVote);
                 logVote(votingWitness, candidateWitness, "first", diff);
             }
             return;
@@ -563,12 +576,12 @@ public class ConsensusImpl implements Consensus {
             }
 
             // a normal round. Vote with the majority of those you strongly see
-            votingWitness.setVote(candidateWitness, countingVote.getVote());
+            metadata.setVote(votingWitness, candidateWitness, countingVote.getVote());
             logVote(votingWitness, candidateWitness, "counting", diff);
             // If you strongly see a supermajority one way, then decide that way.
             if (countingVote.isSupermajority()) {
                 // we've decided one famous event. Set it as famous.
-                candidateWitness.fameDecided(votingWitness.getVote(candidateWitness));
+                candidateWitness.fameDecided(metadata.getVote(votingWitness, candidateWitness));
                 if (roundElections.isDecided()) {
                     // this round has been decided
                     consensusMetrics.lastFamousInRound(candidateWitness.getWitness());
@@ -606,7 +619,7 @@ public class ConsensusImpl implements Consensus {
         long noWeight = 0; // total weight of all members voting yes
         for (final EventImpl w : stronglySeen) {
             final long weight = getWeight(w.getCreatorId());
-            if (w.getVote(candidateWitness)) {
+            if (metadata.getVote(w, candidateWitness)) {
                 yesWeight += weight;
             } else {
                 noWeight += weight;
@@ -652,7 +665,7 @@ public class ConsensusImpl implements Consensus {
                 ? countingVote.getVote()
                 : ConsensusUtils.coin(votingWitness.getBaseEvent().getSignature());
 
-        votingWitness.setVote(candidateWitness, vote);
+        metadata.setVote(votingWitness, candidateWitness, vote);
     }
 
     /** Logs the outcome of voting */
@@ -667,7 +680,7 @@ public class ConsensusImpl implements Consensus {
                     "Witness {} voted on {}. vote:{} type:{} diff:{}",
                     votingWitness.shortString(),
                     candidateWitness.getWitness().shortString(),
-                    votingWitness.getVote(candidateWitness),
+                    metadata.getVote(votingWitness, candidateWitness),
                     votingType,
                     diff);
         }
@@ -989,21 +1002,21 @@ public class ConsensusImpl implements Consensus {
         if (notRelevantForConsensus(x)) {
             return null;
         }
-        if (x.sizeLastSee() != 0) { // return memoized answer, if available
-            return x.getLastSee((int) m);
+        if (metadata.hasLastSee(x)) { // return memoized answer, if available
+            return metadata.getLastSee(x, (int) m);
         }
         // memoize answers for all choices of m, then return answer for just this m
         numMembers = roster.rosterEntries().size();
-        x.initLastSee(numMembers);
+        metadata.initLastSee(x, numMembers);
 
         op = otherParent(x);
         sp = selfParent(x);
 
         for (int mm = 0; mm < numMembers; mm++) {
             if (creatorIndexEquals(x, mm)) {
-                x.setLastSee(mm, x);
+                metadata.setLastSee(x, mm, x);
             } else if (sp == null && op == null) {
-                x.setLastSee(mm, null);
+                metadata.setLastSee(x, mm, null);
             } else {
                 final EventImpl lsop = lastSee(op, mm);
                 final EventImpl lssp = lastSee(sp, mm);
@@ -1012,13 +1025,13 @@ public class ConsensusImpl implements Consensus {
                 final long lsopGen = lsop == null ? DeGen.GENERATION_UNDEFINED : lsop.getDeGen();
                 final long lsspGen = lssp == null ? DeGen.GENERATION_UNDEFINED : lssp.getDeGen();
                 if ((round(lsop) > round(lssp)) || ((lsopGen > lsspGen) && (firstSee(op, mm) == firstSee(sp, mm)))) {
-                    x.setLastSee(mm, lsop);
+                    metadata.setLastSee(x, mm, lsop);
                 } else {
-                    x.setLastSee(mm, lssp);
+                    metadata.setLastSee(x, mm, lssp);
                 }
             }
         }
-        return x.getLastSee((int) m);
+        return metadata.getLastSee(x, (int) m);
     }
 
     /**
@@ -1063,8 +1076,8 @@ public class ConsensusImpl implements Consensus {
         if (notRelevantForConsensus(x)) {
             return null;
         }
-        if (x.sizeStronglySeeP() != 0) { // return memoized answer, if available
-            return x.getStronglySeeP((int) m);
+        if (metadata.hasStronglySeeP(x)) { // return memoized answer, if available
+            return metadata.getStronglySeeP(x, (int) m);
         }
         // calculate the answer, and remember it for next time
         // find and memoize answers for all choices of m, then return answer for just this m
@@ -1075,17 +1088,17 @@ public class ConsensusImpl implements Consensus {
         final long prsp = parentRound(sp); // parent round of self parent of x
         final long prop = parentRound(op); // parent round of other parent of x
 
-        x.initStronglySeeP(numMembers);
+        metadata.initStronglySeeP(x, numMembers);
         for (int mm = 0; mm < numMembers; mm++) {
             if (stronglySeeP(sp, mm) != null && prx == prsp) {
-                x.setStronglySeeP(mm, stronglySeeP(sp, mm));
+                metadata.setStronglySeeP(x, mm, stronglySeeP(sp, mm));
             } else if (stronglySeeP(op, mm) != null && prx == prop) {
-                x.setStronglySeeP(mm, stronglySeeP(op, mm));
+                metadata.setStronglySeeP(x, mm, stronglySeeP(op, mm));
             } else {
                 // the canonical witness by mm that is seen by x thru someone else
                 final EventImpl st = seeThru(x, mm, mm);
                 if (round(st) != prx) { // ignore if the canonical is in the wrong round, or doesn't exist
-                    x.setStronglySeeP(mm, null);
+                    metadata.setStronglySeeP(x, mm, null);
                 } else {
                     long weight = 0;
                     for (int m3 = 0; m3 < numMembers; m3++) {
@@ -1096,14 +1109,14 @@ public class ConsensusImpl implements Consensus {
                     if (Threshold.SUPER_MAJORITY.isSatisfiedBy(
                             weight, rosterTotalWeight)) { // strongly see supermajority of
                         // intermediates
-                        x.setStronglySeeP(mm, st);
+                        metadata.setStronglySeeP(x, mm, st);
                     } else {
-                        x.setStronglySeeP(mm, null);
+                        metadata.setStronglySeeP(x, mm, null);
                     }
                 }
             }
         }
-        return x.getStronglySeeP((int) m);
+        return metadata.getStronglySeeP(x, (int) m);
     }
 
     /**
@@ -1335,4 +1348,9 @@ public class ConsensusImpl implements Consensus {
     public ConsensusRounds getRounds() {
         return rounds;
     }
+
+    @Override
+    public @NonNull ConsensusMetadataStore getMetadataStore() {
+        return metadata;
+    }
 }
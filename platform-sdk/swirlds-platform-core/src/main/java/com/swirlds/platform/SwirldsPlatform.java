@@ -269,10 +269,12 @@ public class SwirldsPlatform implements Platform {
         final PcesReplayer pcesReplayer = new PcesReplayer(
                 platformContext,
                 platformWiring.getPcesReplayerEventOutput(),
+                platformWiring.getPcesReplayerTrustedEventHashesOutput(),
                 platformWiring::flushIntakePipeline,
                 platformWiring::flushTransactionHandler,
                 () -> latestImmutableStateNexus.getState("PCES replay"),
-                () -> isLessThan(blocks.model().getUnhealthyDuration(), replayHealthThreshold));
+                () -> isLessThan(blocks.model().getUnhealthyDuration(), replayHealthThreshold),
+                platformStateFacade);
 
         initializeState(this, platformContext, initialState, consensusStateEventHandler, platformStateFacade);
 
@@ -0,0 +1,379 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.consensus;
+
+import com.swirlds.common.utility.RandomAccessDeque;
+import com.swirlds.platform.internal.EventImpl;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Arrays;
+
+/**
+ * A {@link ConsensusMetadataStore} that keeps the metadata of all events in pages of primitive arrays, instead of
+ * arrays of references inside each event.
+ *
+ * <p>Each event that needs metadata is given a dense index, stored in {@link EventImpl#getMetadataIndex()}. Indices
+ * are assigned in the order metadata is first needed, which follows the order events are added to consensus, and so
+ * their rounds. An index refers to a row in a page. For each row, a page holds the lastSee and stronglySeeP results
+ * for every member as {@code int} offsets to the index of the event referred to, and the votes of the event as bits
+ * of {@code long} words. For large rosters, this keeps the data read by the lastSee, stronglySeeP and voting loops
+ * contiguous in memory, and avoids allocating two arrays of references per event.
+ *
+ * <p>Events that reach consensus or become stale are released. Once all events in the oldest pages are released, and
+ * no remaining event refers to them, these pages are dropped by {@link #compact()}. This happens as rounds become
+ * ancient.
+ *
+ * <p>This class is not thread safe, just like {@link com.swirlds.platform.ConsensusImpl}.
+ */
+public class ConsensusMetadataArena implements ConsensusMetadataStore {
+    /** the number of rows in a page */
+    static final int PAGE_SIZE = 256;
+    /** the offset stored for a reference to no event */
+    private static final int NULL_REF = Integer.MIN_VALUE;
+    /** the number of votes stored in a single word */
+    private static final int VOTES_PER_WORD = Long.SIZE;
+
+    /** the event of the row is in consensus, its metadata will be calculated */
+    private static final byte LIVE = 1;
+    /** lastSee is memoized for the row */
+    private static final byte LAST_SEE = 2;
+    /** stronglySeeP is memoized for the row */
+    private static final byte STRONGLY_SEE_P = 4;
+
+    /** the number of members in the roster */
+    private final int numMembers;
+    /** all pages, the first one holds the row with the index {@link #firstIndex} */
+    private final RandomAccessDeque<Page> pages = new RandomAccessDeque<>();
+    /** the index of the first row in the first page */
+    private long firstIndex = 0;
+    /** the index assigned to the next event */
+    private long nextIndex = 0;
+    /** the number of vote words stored for each row */
+    private int voteWords = 1;
+
+    /**
+     * @param numMembers the number of members in the roster
+     */
+    public ConsensusMetadataArena(final int numMembers) {
+        if (numMembers <= 0) {
+            throw new IllegalArgumentException("The number of members must be positive");
+        }
+        this.numMembers = numMembers;
+    }
+
+    /** A page of rows */
+    private static final class Page {
+        /** the event of each row */
+        private final EventImpl[] events = new EventImpl[PAGE_SIZE];
+        /** the metadata flags of each row */
+        private final byte[] flags = new byte[PAGE_SIZE];
+        /** the lowest index referred to by each row, or its own index */
+        private final long[] minRef = new long[PAGE_SIZE];
+        /** lastSee of each row, offsets to the indices of the events referred to, numMembers entries per row */
+        private final int[] lastSee;
+        /** stronglySeeP of each row, offsets to the indices of the events referred to, numMembers entries per row */
+        private final int[] stronglySeeP;
+        /** votes of each row, voteWords entries per row */
+        private long[] votes;
+        /** the number of live rows */
+        private int liveRows = 0;
+
+        private Page(final int numMembers, final int voteWords) {
+            lastSee = new int[PAGE_SIZE * numMembers];
+            stronglySeeP = new int[PAGE_SIZE * numMembers];
+            votes = new long[PAGE_SIZE * voteWords];
+        }
+    }
+
+    @Override
+    public boolean hasLastSee(@NonNull final EventImpl x) {
+        return hasFlag(x, LAST_SEE);
+    }
+
+    @Override
+    public @Nullable EventImpl getLastSee(@NonNull final EventImpl x, final int m) {
+        final long index = existingRow(x);
+        return dereference(index, page(index).lastSee[slot(index) * numMembers + m]);
+    }
+
+    @Override
+    public void initLastSee(@NonNull final EventImpl x, final int numMembers) {
+        checkNumMembers(numMembers);
+        final long index = liveRow(x);
+        final Page page = page(index);
+        final int slot = slot(index);
+        page.flags[slot] |= LAST_SEE;
+        Arrays.fill(page.lastSee, slot * numMembers, (slot + 1) * numMembers, NULL_REF);
+    }
+
+    @Override
+    public void setLastSee(@NonNull final EventImpl x, final int m, @Nullable final EventImpl event) {
+        final long index = existingRow(x);
+        page(index).lastSee[slot(index) * numMembers + m] = reference(index, event);
+    }
+
+    @Override
+    public boolean hasStronglySeeP(@NonNull final EventImpl x) {
+        return hasFlag(x, STRONGLY_SEE_P);
+    }
+
+    @Override
+    public @Nullable EventImpl getStronglySeeP(@NonNull final EventImpl x, final int m) {
+        final long index = existingRow(x);
+        return dereference(index, page(index).stronglySeeP[slot(index) * numMembers + m]);
+    }
+
+    @Override
+    public void initStronglySeeP(@NonNull final EventImpl x, final int numMembers) {
+        checkNumMembers(numMembers);
+        final long index = liveRow(x);
+        final Page page = page(index);
+        final int slot = slot(index);
+        page.flags[slot] |= STRONGLY_SEE_P;
+        Arrays.fill(page.stronglySeeP, slot * numMembers, (slot + 1) * numMembers, NULL_REF);
+    }
+
+    @Override
+    public void setStronglySeeP(@NonNull final EventImpl x, final int m, @Nullable final EventImpl event) {
+        final long index = existingRow(x);
+        page(index).stronglySeeP[slot(index) * numMembers + m] = reference(index, event);
+    }
+
+    @Override
+    public void initVoting(@NonNull final EventImpl x, final int numWitnesses) {
+        final int words = (numWitnesses + VOTES_PER_WORD - 1) / VOTES_PER_WORD;
+        if (words > voteWords) {
+            growVotes(words);
+        }
+        final long index = liveRow(x);
+        final int slot = slot(index);
+        Arrays.fill(page(index).votes, slot * voteWords, (slot + 1) * voteWords, 0L);
+    }
+
+    @Override
+    public boolean getVote(@NonNull final EventImpl x, @NonNull final CandidateWitness witness) {
+        final long index = row(x);
+        final int electionIndex = witness.getElectionIndex();
+        if (index < 0 || electionIndex >= voteWords * VOTES_PER_WORD) {
+            return false;
+        }
+        final long word = page(index).votes[slot(index) * voteWords + electionIndex / VOTES_PER_WORD];
+        return (word & (1L << (electionIndex % VOTES_PER_WORD))) != 0;
+    }
+
+    @Override
+    public void setVote(@NonNull final EventImpl x, @NonNull final CandidateWitness witness, final boolean vote) {
+        final long index = existingRow(x);
+        final int electionIndex = witness.getElectionIndex();
+        final long[] votes = page(index).votes;
+        final int word = slot(index) * voteWords + electionIndex / VOTES_PER_WORD;
+        final long bit = 1L << (electionIndex % VOTES_PER_WORD);
+        if (vote) {
+            votes[word] |= bit;
+        } else {
+            votes[word] &= ~bit;
+        }
+    }
+
+    @Override
+    public void clearMetadata(@NonNull final EventImpl x) {
+        final long index = row(x);
+        if (index < 0) {
+            return;
+        }
+        final Page page = page(index);
+        final int slot = slot(index);
+        page.flags[slot] &= ~(LAST_SEE | STRONGLY_SEE_P);
+        page.minRef[slot] = index;
+    }
+
+    @Override
+    public void release(@NonNull final EventImpl x) {
+        final long index = row(x);
+        if (index < 0) {
+            return;
+        }
+        final Page page = page(index);
+        final int slot = slot(index);
+        if ((page.flags[slot] & LIVE) != 0) {
+            page.liveRows--;
+        }
+        // votes are kept, they may still be read through references from other rows
+        page.flags[slot] = 0;
+        page.minRef[slot] = index;
+    }
+
+    @Override
+    public void compact() {
+        // the lowest index that is live or referred to by a live row
+        long lowWater = nextIndex;
+        for (int p = 0; p < pages.size(); p++) {
+            final Page page = pages.get(p);
+            if (page.liveRows == 0) {
+                continue;
+            }
+            for (int slot = 0; slot < PAGE_SIZE; slot++) {
+                if ((page.flags[slot] & LIVE) != 0) {
+                    lowWater = Math.min(lowWater, page.minRef[slot]);
+                }
+            }
+        }
+        while (pages.size() > 0 && firstIndex + PAGE_SIZE <= lowWater) {
+            pages.removeFirst();
+            firstIndex += PAGE_SIZE;
+        }
+    }
+
+    @Override
+    public void reset() {
+        pages.clear();
+        // indices are never reused, so indices stored in events from before the reset are never valid
+        nextIndex = (nextIndex + PAGE_SIZE - 1) / PAGE_SIZE * PAGE_SIZE;
+        firstIndex = nextIndex;
+    }
+
+    /**
+     * @return the number of pages currently held
+     */
+    int numPages() {
+        return pages.size();
+    }
+
+    /**
+     * Find the row of an event
+     *
+     * @param x the event
+     * @return the index of the row, or -1 if the event has no row
+     */
+    private long row(@NonNull final EventImpl x) {
+        final long index = x.getMetadataIndex();
+        if (index < firstIndex || index >= nextIndex) {
+            return -1;
+        }
+        return page(index).events[slot(index)] == x ? index : -1;
+    }
+
+    /**
+     * Find the row of an event that must have one
+     *
+     * @param x the event
+     * @return the index of the row
+     */
+    private long existingRow(@NonNull final EventImpl x) {
+        final long index = row(x);
+        if (index < 0) {
+            throw new IllegalStateException("No consensus metadata for event " + x.shortString());
+        }
+        return index;
+    }
+
+    /**
+     * Find the row of an event, creating it if it doesn't exist, and mark it as live
+     *
+     * @param x the event
+     * @return the index of the row
+     */
+    private long liveRow(@NonNull final EventImpl x) {
+        long index = row(x);
+        if (index < 0) {
+            index = allocate(x);
+        }
+        final Page page = page(index);
+        final int slot = slot(index);
+        if ((page.flags[slot] & LIVE) == 0) {
+            page.flags[slot] |= LIVE;
+            page.liveRows++;
+        }
+        return index;
+    }
+
+    /**
+     * Create a new row for an event. The row is not live.
+     *
+     * @param x the event
+     * @return the index of the new row
+     */
+    private long allocate(@NonNull final EventImpl x) {
+        if (nextIndex == firstIndex + (long) pages.size() * PAGE_SIZE) {
+            pages.addLast(new Page(numMembers, voteWords));
+        }
+        final long index = nextIndex++;
+        final Page page = page(index);
+        final int slot = slot(index);
+        page.events[slot] = x;
+        page.minRef[slot] = index;
+        x.setMetadataIndex(index);
+        return index;
+    }
+
+    private boolean hasFlag(@NonNull final EventImpl x, final byte flag) {
+        final long index = row(x);
+        return index >= 0 && (page(index).flags[slot(index)] & flag) != 0;
+    }
+
+    /**
+     * Create a reference from a row to an event
+     *
+     * @param index the index of the row referring to the event
+     * @param event the event referred to
+     * @return the offset to store in the row
+     */
+    private int reference(final long index, @Nullable final EventImpl event) {
+        if (event == null) {
+            return NULL_REF;
+        }
+        long target = row(event);
+        if (target < 0) {
+            target = allocate(event);
+        }
+        final Page page = page(index);
+        final int slot = slot(index);
+        page.minRef[slot] = Math.min(page.minRef[slot], target);
+        return Math.toIntExact(index - target);
+    }
+
+    /**
+     * Resolve a reference stored in a row
+     *
+     * @param index  the index of the row
+     * @param offset the offset stored in the row
+     * @return the event referred to
+     */
+    private @Nullable EventImpl dereference(final long index, final int offset) {
+        if (offset == NULL_REF) {
+            return null;
+        }
+        final long target = index - offset;
+        return page(target).events[slot(target)];
+    }
+
+    private @NonNull Page page(final long index) {
+        return pages.get((int) ((index - firstIndex) / PAGE_SIZE));
+    }
+
+    private static int slot(final long index) {
+        return (int) (index % PAGE_SIZE);
+    }
+
+    private void checkNumMembers(final int numMembers) {
+        if (numMembers != this.numMembers) {
+            throw new IllegalArgumentException(
+                    "Expected %d members, got %d".formatted(this.numMembers, numMembers));
+        }
+    }
+
+    /**
+     * Increase the number of vote words stored for each row, keeping all existing votes
+     *
+     * @param words the new number of words
+     */
+    private void growVotes(final int words) {
+        for (final Page page : pages) {
+            final long[] votes = new long[PAGE_SIZE * words];
+            for (int slot = 0; slot < PAGE_SIZE; slot++) {
+                System.arraycopy(page.votes, slot * voteWords, votes, slot * words, voteWords);
+            }
+            page.votes = votes;
+        }
+        voteWords = words;
+    }
+}
@@ -0,0 +1,126 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.consensus;
+
+import com.swirlds.platform.internal.EventImpl;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Stores the per-event consensus metadata whose size grows with the number of members in the roster: the memoized
+ * results of the lastSee and stronglySeeP functions from SWIRLDS-TR-2020-01, and the votes of witnesses in fame
+ * elections.
+ *
+ * <p>Results returned by a store must be exactly the values previously set, so switching between implementations never
+ * changes the outcome of consensus.
+ */
+public interface ConsensusMetadataStore {
+
+    /**
+     * @param x the event
+     * @return true if lastSee is memoized for the event
+     */
+    boolean hasLastSee(@NonNull EventImpl x);
+
+    /**
+     * @param x the event
+     * @param m the roster index of the creator
+     * @return the memoized last ancestor of x created by m
+     */
+    @Nullable
+    EventImpl getLastSee(@NonNull EventImpl x, int m);
+
+    /**
+     * Prepare to memoize lastSee for the event
+     *
+     * @param x          the event
+     * @param numMembers the number of members in the roster
+     */
+    void initLastSee(@NonNull EventImpl x, int numMembers);
+
+    /**
+     * Memoize the last ancestor of x created by m
+     *
+     * @param x     the event
+     * @param m     the roster index of the creator
+     * @param event the last ancestor of x created by m
+     */
+    void setLastSee(@NonNull EventImpl x, int m, @Nullable EventImpl event);
+
+    /**
+     * @param x the event
+     * @return true if stronglySeeP is memoized for the event
+     */
+    boolean hasStronglySeeP(@NonNull EventImpl x);
+
+    /**
+     * @param x the event
+     * @param m the roster index of the creator
+     * @return the memoized witness created by m in the parent round of x that x strongly sees
+     */
+    @Nullable
+    EventImpl getStronglySeeP(@NonNull EventImpl x, int m);
+
+    /**
+     * Prepare to memoize stronglySeeP for the event
+     *
+     * @param x          the event
+     * @param numMembers the number of members in the roster
+     */
+    void initStronglySeeP(@NonNull EventImpl x, int numMembers);
+
+    /**
+     * Memoize the witness created by m in the parent round of x that x strongly sees
+     *
+     * @param x     the event
+     * @param m     the roster index of the creator
+     * @param event the strongly seen witness
+     */
+    void setStronglySeeP(@NonNull EventImpl x, int m, @Nullable EventImpl event);
+
+    /**
+     * Initialize the votes of a witness, all votes are set to NO
+     *
+     * @param x            the voting witness
+     * @param numWitnesses the number of witnesses being voted on
+     */
+    void initVoting(@NonNull EventImpl x, int numWitnesses);
+
+    /**
+     * @param x       the voting witness
+     * @param witness the witness being voted on
+     * @return true if it's a YES vote, false if it's a NO vote
+     */
+    boolean getVote(@NonNull EventImpl x, @NonNull CandidateWitness witness);
+
+    /**
+     * @param x       the voting witness
+     * @param witness the witness being voted on
+     * @param vote    true if it's a YES vote, false if it's a NO vote
+     */
+    void setVote(@NonNull EventImpl x, @NonNull CandidateWitness witness, boolean vote);
+
+    /**
+     * Forget the memoized lastSee and stronglySeeP of an event, so they are recalculated. Votes are kept. This is
+     * called together with {@link EventImpl#clearMetadata()}.
+     *
+     * @param x the event
+     */
+    void clearMetadata(@NonNull EventImpl x);
+
+    /**
+     * Called when an event has reached consensus or became stale, and its metadata will not be calculated again.
+     * Like {@link #clearMetadata(EventImpl)}, but also allows the store to reclaim the memory used by the event.
+     *
+     * @param x the event
+     */
+    void release(@NonNull EventImpl x);
+
+    /**
+     * Called by consensus once all recent events have their metadata recalculated after a round was decided. A store
+     * may use it to reclaim memory of released events.
+     */
+    void compact();
+
+    /** Remove all metadata, consensus is being reset */
+    void reset();
+}
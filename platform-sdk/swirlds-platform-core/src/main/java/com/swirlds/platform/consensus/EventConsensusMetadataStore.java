@@ -0,0 +1,88 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.consensus;
+
+import com.swirlds.platform.internal.EventImpl;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * A {@link ConsensusMetadataStore} that keeps the metadata in arrays inside each {@link EventImpl}. The arrays are
+ * cleared by {@link EventImpl#clearMetadata()}.
+ */
+public class EventConsensusMetadataStore implements ConsensusMetadataStore {
+
+    @Override
+    public boolean hasLastSee(@NonNull final EventImpl x) {
+        return x.sizeLastSee() != 0;
+    }
+
+    @Override
+    public @Nullable EventImpl getLastSee(@NonNull final EventImpl x, final int m) {
+        return x.getLastSee(m);
+    }
+
+    @Override
+    public void initLastSee(@NonNull final EventImpl x, final int numMembers) {
+        x.initLastSee(numMembers);
+    }
+
+    @Override
+    public void setLastSee(@NonNull final EventImpl x, final int m, @Nullable final EventImpl event) {
+        x.setLastSee(m, event);
+    }
+
+    @Override
+    public boolean hasStronglySeeP(@NonNull final EventImpl x) {
+        return x.sizeStronglySeeP() != 0;
+    }
+
+    @Override
+    public @Nullable EventImpl getStronglySeeP(@NonNull final EventImpl x, final int m) {
+        return x.getStronglySeeP(m);
+    }
+
+    @Override
+    public void initStronglySeeP(@NonNull final EventImpl x, final int numMembers) {
+        x.initStronglySeeP(numMembers);
+    }
+
+    @Override
+    public void setStronglySeeP(@NonNull final EventImpl x, final int m, @Nullable final EventImpl event) {
+        x.setStronglySeeP(m, event);
+    }
+
+    @Override
+    public void initVoting(@NonNull final EventImpl x, final int numWitnesses) {
+        x.initVoting(numWitnesses);
+    }
+
+    @Override
+    public boolean getVote(@NonNull final EventImpl x, @NonNull final CandidateWitness witness) {
+        return x.getVote(witness);
+    }
+
+    @Override
+    public void setVote(@NonNull final EventImpl x, @NonNull final CandidateWitness witness, final boolean vote) {
+        x.setVote(witness, vote);
+    }
+
+    @Override
+    public void clearMetadata(@NonNull final EventImpl x) {
+        // cleared by EventImpl.clearMetadata()
+    }
+
+    @Override
+    public void release(@NonNull final EventImpl x) {
+        // cleared by EventImpl.clearMetadata()
+    }
+
+    @Override
+    public void compact() {
+        // nothing to compact
+    }
+
+    @Override
+    public void reset() {
+        // nothing is stored outside events
+    }
+}
@@ -114,6 +114,12 @@ public class CommonPcesWriter {
      */
     private final PcesFileWriterType pcesFileWriterType;
 
+    /**
+     * If true then files are synced before they are closed. Needed for {@link FileSyncOption#GROUP_COMMIT}, where the
+     * events of a batch that has not been synced yet may be in a file that is about to be closed.
+     */
+    private final boolean syncOnClose;
+
     /**
      * Constructor
      *
@@ -134,6 +140,7 @@ public class CommonPcesWriter {
         minimumSpan = pcesConfig.minimumSpan();
         preferredFileSizeMegabytes = pcesConfig.preferredFileSizeMegabytes();
         pcesFileWriterType = pcesConfig.pcesFileWriterType();
+        syncOnClose = pcesConfig.inlinePcesSyncOption() == FileSyncOption.GROUP_COMMIT;
 
         averageSpanUtilization = new LongRunningAverage(pcesConfig.spanUtilizationRunningAverageLength());
 
@@ -212,6 +219,9 @@ public class CommonPcesWriter {
             if (!bootstrapMode) {
                 averageSpanUtilization.add(previousSpan);
             }
+            if (syncOnClose) {
+                currentMutableFile.sync();
+            }
             currentMutableFile.close();
 
             fileManager.finishedWritingFile(currentMutableFile);
@@ -1,10 +1,15 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.swirlds.platform.event.preconsensus;
 
+import com.swirlds.base.time.Time;
 import com.swirlds.common.context.PlatformContext;
+import com.swirlds.platform.wiring.NoInput;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import org.hiero.consensus.model.event.PlatformEvent;
 import org.hiero.consensus.model.hashgraph.EventWindow;
@@ -14,6 +19,40 @@ public class DefaultInlinePcesWriter implements InlinePcesWriter {
     private final CommonPcesWriter commonPcesWriter;
     private final NodeId selfId;
     private final FileSyncOption fileSyncOption;
+    private final Time time;
+    private final PcesMetrics metrics;
+
+    /**
+     * The maximum time, in nanoseconds, an event waits for its batch to be synced in group commit mode.
+     */
+    private final long groupCommitMaxDelayNanos;
+
+    /**
+     * The number of bytes after which a batch is synced in group commit mode.
+     */
+    private final long groupCommitMaxBytes;
+
+    /**
+     * Events that have been written but not synced yet, in the order they were written. Only used in group commit
+     * mode. May also contain ancient events, which are not written, to keep the order of the events passed on.
+     */
+    private final List<PlatformEvent> pendingEvents = new ArrayList<>();
+
+    /**
+     * Events that are durable but have not been returned yet, in the order they were written. Only used in group
+     * commit mode.
+     */
+    private final List<PlatformEvent> durableEvents = new ArrayList<>();
+
+    /**
+     * The number of bytes written since the last sync.
+     */
+    private long pendingBytes;
+
+    /**
+     * The time, in nanoseconds, the oldest pending event was written at.
+     */
+    private long oldestPendingEventTime;
 
     /**
      * Constructor
@@ -29,10 +68,12 @@ public class DefaultInlinePcesWriter implements InlinePcesWriter {
         Objects.requireNonNull(fileManager, "fileManager is required");
         this.commonPcesWriter = new CommonPcesWriter(platformContext, fileManager);
         this.selfId = Objects.requireNonNull(selfId, "selfId is required");
-        this.fileSyncOption = platformContext
-                .getConfiguration()
-                .getConfigData(PcesConfig.class)
-                .inlinePcesSyncOption();
+        final PcesConfig pcesConfig = platformContext.getConfiguration().getConfigData(PcesConfig.class);
+        this.fileSyncOption = pcesConfig.inlinePcesSyncOption();
+        this.groupCommitMaxDelayNanos = pcesConfig.inlinePcesGroupCommitMaxDelay().toNanos();
+        this.groupCommitMaxBytes = pcesConfig.inlinePcesGroupCommitMaxBytes();
+        this.time = platformContext.getTime();
+        this.metrics = new PcesMetrics(platformContext.getMetrics());
     }
 
     @Override
@@ -46,12 +87,16 @@ public class DefaultInlinePcesWriter implements InlinePcesWriter {
     @NonNull
     @Override
     public PlatformEvent writeEvent(@NonNull PlatformEvent event) {
+        if (fileSyncOption == FileSyncOption.GROUP_COMMIT) {
+            throw new IllegalStateException("Events must be written with writeEvents() when group commit is used");
+        }
+
         // if we aren't streaming new events yet, assume that the given event is already durable
         if (!commonPcesWriter.isStreamingNewEvents()) {
             return event;
         }
 
-        if (commonPcesWriter.getFileType().selectIndicator(event) < commonPcesWriter.getNonAncientBoundary()) {
+        if (isAncient(event)) {
             // don't do anything with ancient events
             return event;
         }
@@ -72,12 +117,63 @@ public class DefaultInlinePcesWriter implements InlinePcesWriter {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public List<PlatformEvent> writeEvents(@NonNull final List<PlatformEvent> events) {
+        try {
+            for (final PlatformEvent event : events) {
+                // events that aren't written are durable already, but must stay behind events that are not durable yet
+                if (!commonPcesWriter.isStreamingNewEvents() || isAncient(event)) {
+                    if (pendingEvents.isEmpty()) {
+                        durableEvents.add(event);
+                    } else {
+                        pendingEvents.add(event);
+                    }
+                } else {
+                    writeEventInBatch(event);
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return releaseDurableEvents();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public List<PlatformEvent> checkGroupCommitDelay(@NonNull final List<Instant> times) {
+        if (!pendingEvents.isEmpty() && time.nanoTime() - oldestPendingEventTime >= groupCommitMaxDelayNanos) {
+            syncPendingBatch();
+        }
+        return releaseDurableEvents();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @NonNull
+    @Override
+    public List<PlatformEvent> syncPendingEvents(@NonNull final List<NoInput> requests) {
+        syncPendingBatch();
+        return releaseDurableEvents();
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public void registerDiscontinuity(@NonNull Long newOriginRound) {
-        commonPcesWriter.registerDiscontinuity(newOriginRound);
+        // Pending events are synced when the file is closed, they are passed on with the next output
+        final boolean fileClosed = commonPcesWriter.registerDiscontinuity(newOriginRound);
+        if (fileClosed) {
+            markPendingEventsDurable();
+        }
     }
 
     /**
@@ -92,4 +188,86 @@ public class DefaultInlinePcesWriter implements InlinePcesWriter {
     public void setMinimumAncientIdentifierToStore(@NonNull final Long minimumAncientIdentifierToStore) {
         commonPcesWriter.setMinimumAncientIdentifierToStore(minimumAncientIdentifierToStore);
     }
+
+    /**
+     * Check if an event is ancient, in which case it is not written.
+     *
+     * @param event the event
+     * @return true if the event is ancient
+     */
+    private boolean isAncient(@NonNull final PlatformEvent event) {
+        return commonPcesWriter.getFileType().selectIndicator(event) < commonPcesWriter.getNonAncientBoundary();
+    }
+
+    /**
+     * Write an event in group commit mode. The batch is synced if it is due, otherwise the event is held back until a
+     * later sync.
+     *
+     * @param event the event to write
+     */
+    private void writeEventInBatch(@NonNull final PlatformEvent event) throws IOException {
+        if (commonPcesWriter.prepareOutputStream(event)) {
+            // the previous file was synced when it was closed
+            markPendingEventsDurable();
+        }
+
+        final PcesMutableFile file = commonPcesWriter.getCurrentMutableFile();
+        final long sizeBefore = file.fileSize();
+        file.writeEvent(event);
+        pendingBytes += file.fileSize() - sizeBefore;
+
+        final long now = time.nanoTime();
+        if (pendingEvents.isEmpty()) {
+            oldestPendingEventTime = now;
+        }
+        pendingEvents.add(event);
+
+        if (pendingBytes >= groupCommitMaxBytes || now - oldestPendingEventTime >= groupCommitMaxDelayNanos) {
+            syncPendingBatch();
+        }
+    }
+
+    /**
+     * Sync the current file, making all pending events durable.
+     */
+    private void syncPendingBatch() {
+        if (pendingEvents.isEmpty()) {
+            return;
+        }
+        final PcesMutableFile file = commonPcesWriter.getCurrentMutableFile();
+        if (file != null) {
+            final long start = time.nanoTime();
+            try {
+                file.sync();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            metrics.updateGroupCommitMetrics(pendingEvents.size(), (time.nanoTime() - start) / 1_000);
+        }
+        markPendingEventsDurable();
+    }
+
+    /**
+     * Move all pending events to the durable events. Must only be called once the pending events are durable.
+     */
+    private void markPendingEventsDurable() {
+        durableEvents.addAll(pendingEvents);
+        pendingEvents.clear();
+        pendingBytes = 0;
+    }
+
+    /**
+     * Return the events that are durable and have not been returned yet.
+     *
+     * @return the durable events, in the order they were written
+     */
+    @NonNull
+    private List<PlatformEvent> releaseDurableEvents() {
+        if (durableEvents.isEmpty()) {
+            return List.of();
+        }
+        final List<PlatformEvent> released = List.copyOf(durableEvents);
+        durableEvents.clear();
+        return released;
+    }
 }
@@ -16,5 +16,12 @@ public enum FileSyncOption {
     /**
      * Never sync the file. The data will be guaranteed to be written to disk when the file is closed.
      */
-    DONT_SYNC
+    DONT_SYNC,
+    /**
+     * Sync the file once for a batch of events. Events are held back until the batch they are part of has been synced,
+     * so they are as durable as with {@link #EVERY_EVENT}. A batch is synced once its oldest event has waited for
+     * {@link PcesConfig#inlinePcesGroupCommitMaxDelay()}, or once it holds
+     * {@link PcesConfig#inlinePcesGroupCommitMaxBytes()} bytes, whichever comes first.
+     */
+    GROUP_COMMIT
 }
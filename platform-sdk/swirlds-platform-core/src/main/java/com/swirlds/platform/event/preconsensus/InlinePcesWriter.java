@@ -2,13 +2,20 @@
 package com.swirlds.platform.event.preconsensus;
 
 import com.swirlds.component.framework.component.InputWireLabel;
+import com.swirlds.platform.wiring.NoInput;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Instant;
+import java.util.List;
 import org.hiero.consensus.model.event.PlatformEvent;
 import org.hiero.consensus.model.hashgraph.EventWindow;
 
 /**
  * This object is responsible for writing preconsensus events to disk. It
  * writes events to disk and then outputs them once it ensures they are durable.
+ * <p>
+ * Events are written with {@link #writeEvent(PlatformEvent)}, unless {@link FileSyncOption#GROUP_COMMIT} is used. In
+ * that case they are written with {@link #writeEvents(List)}, and events made durable by a group commit are returned
+ * as lists, which are passed on one event at a time.
  */
 public interface InlinePcesWriter {
 
@@ -21,7 +28,8 @@ public interface InlinePcesWriter {
     void beginStreamingNewEvents();
 
     /**
-     * Write an event to the stream.
+     * Write an event to the stream. Must not be used if {@link FileSyncOption#GROUP_COMMIT} is used, see
+     * {@link #writeEvents(List)}.
      *
      * @param event the event to be written
      * @return the event written
@@ -30,6 +38,38 @@ public interface InlinePcesWriter {
     @NonNull
     PlatformEvent writeEvent(@NonNull PlatformEvent event);
 
+    /**
+     * Write events to the stream if {@link FileSyncOption#GROUP_COMMIT} is used. Events are synced in batches, and
+     * are held back until their batch is durable.
+     *
+     * @param events the events to be written
+     * @return the events that became durable, in the order they were written
+     */
+    @InputWireLabel("events to write")
+    @NonNull
+    List<PlatformEvent> writeEvents(@NonNull List<PlatformEvent> events);
+
+    /**
+     * Sync the events written since the last sync if the oldest of them has waited for the maximum group commit delay.
+     * Only has an effect if {@link FileSyncOption#GROUP_COMMIT} is used.
+     *
+     * @param times the current times, one per heartbeat
+     * @return the events that became durable, in the order they were written
+     */
+    @InputWireLabel("heartbeat")
+    @NonNull
+    List<PlatformEvent> checkGroupCommitDelay(@NonNull List<Instant> times);
+
+    /**
+     * Sync all events written since the last sync. Only has an effect if {@link FileSyncOption#GROUP_COMMIT} is used.
+     *
+     * @param requests the sync requests
+     * @return the events that became durable, in the order they were written
+     */
+    @InputWireLabel("sync pending events")
+    @NonNull
+    List<PlatformEvent> syncPendingEvents(@NonNull List<NoInput> requests);
+
     /**
      * Inform the preconsensus event writer that a discontinuity has occurred in the preconsensus event stream.
      *
@@ -1,12 +1,15 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.swirlds.platform.event.preconsensus;
 
+import com.swirlds.platform.wiring.NoInput;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Instant;
+import java.util.List;
 import org.hiero.consensus.model.event.PlatformEvent;
 import org.hiero.consensus.model.hashgraph.EventWindow;
 
 /**
- * A no-op implementation of {@link InlinePcesWriter} that does nothing, just returns the event it receives.
+ * A no-op implementation of {@link InlinePcesWriter} that does nothing, just returns the events it receives.
  */
 public class NoOpInlinePcesWriter implements InlinePcesWriter {
     @Override
@@ -18,6 +21,24 @@ public class NoOpInlinePcesWriter implements InlinePcesWriter {
         return event;
     }
 
+    @NonNull
+    @Override
+    public List<PlatformEvent> writeEvents(@NonNull final List<PlatformEvent> events) {
+        return events;
+    }
+
+    @NonNull
+    @Override
+    public List<PlatformEvent> checkGroupCommitDelay(@NonNull final List<Instant> times) {
+        return List.of();
+    }
+
+    @NonNull
+    @Override
+    public List<PlatformEvent> syncPendingEvents(@NonNull final List<NoInput> requests) {
+        return List.of();
+    }
+
     @Override
     public void registerDiscontinuity(@NonNull final Long newOriginRound) {}
 
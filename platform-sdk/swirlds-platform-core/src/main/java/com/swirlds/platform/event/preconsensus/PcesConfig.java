@@ -55,8 +55,10 @@ import java.time.Duration;
  *                                             {@link
  *                                             com.swirlds.common.config.StateCommonConfig#savedStateDirectory()}.
  * @param replayQueueSize                      the size of the queue used for holding preconsensus events that are
- *                                             waiting to be replayed
- * @param replayHashPoolSize                   the number of threads used for hashing events during replay
+ *                                             waiting to be replayed. With {@code pipelinedReplay}, this is the number
+ *                                             of events read ahead of the intake pipeline.
+ * @param replayHashPoolSize                   the number of threads used for hashing events during replay, if
+ *                                             {@code pipelinedReplay} is enabled
  * @param copyRecentStreamToStateSnapshots     if true, then copy recent PCES files into the saved state snapshot
  *                                             directories every time we take a state snapshot. The files copied are
  *                                             guaranteed to contain all non-ancient events w.r.t. the state snapshot.
@@ -74,6 +76,25 @@ import java.time.Duration;
  * @param maxEventReplayFrequency              the maximum number of events that can be replayed per second
  * @param inlinePcesSyncOption                 when to sync the preconsensus event file to disk (applies only to inline
  *                                             PCES)
+ * @param pcesFileWriterType                   the type of writer used to write preconsensus event files
+ * @param inlinePcesGroupCommitMaxDelay        if {@link FileSyncOption#GROUP_COMMIT} is used, the maximum amount of
+ *                                             time an event waits for its batch to be synced. This is also the period
+ *                                             at which the writer checks whether a batch is due, so an event may wait
+ *                                             up to twice this long if no further events arrive.
+ * @param inlinePcesGroupCommitMaxBytes        if {@link FileSyncOption#GROUP_COMMIT} is used, a batch is synced as
+ *                                             soon as this many bytes have been written since the last sync. Group
+ *                                             commit should be used with a writer type that does not sync every
+ *                                             write, i.e. not {@link PcesFileWriterType#FILE_CHANNEL_SYNC}.
+ * @param pipelinedReplay                      if true, then preconsensus events are read, decoded and hashed on
+ *                                             dedicated threads ahead of being replayed, and replayed events bypass
+ *                                             the event hasher. Replay is usually limited by
+ *                                             {@code maxEventReplayFrequency}, so this should be combined with
+ *                                             {@code limitReplayFrequency = false}.
+ * @param trustReplayedEventSignatures         if true, then the signatures of events replayed from the preconsensus
+ *                                             event stream are not verified, if the events are ancestors of the
+ *                                             judges recorded in the starting state. The replay reads events ahead
+ *                                             until these judges are found, and holds them in memory. Signatures of
+ *                                             all other events are verified.
  */
 @ConfigData("event.preconsensus")
 public record PcesConfig(
@@ -98,4 +119,8 @@ public record PcesConfig(
         @ConfigProperty(defaultValue = "true") boolean limitReplayFrequency,
         @ConfigProperty(defaultValue = "5000") int maxEventReplayFrequency,
         @ConfigProperty(defaultValue = "EVERY_EVENT") FileSyncOption inlinePcesSyncOption,
-        @ConfigProperty(defaultValue = "FILE_CHANNEL_SYNC") PcesFileWriterType pcesFileWriterType) {}
+        @ConfigProperty(defaultValue = "FILE_CHANNEL_SYNC") PcesFileWriterType pcesFileWriterType,
+        @ConfigProperty(defaultValue = "5ms") Duration inlinePcesGroupCommitMaxDelay,
+        @Min(1) @ConfigProperty(defaultValue = "1048576") int inlinePcesGroupCommitMaxBytes,
+        @ConfigProperty(defaultValue = "false") boolean pipelinedReplay,
+        @ConfigProperty(defaultValue = "false") boolean trustReplayedEventSignatures) {}
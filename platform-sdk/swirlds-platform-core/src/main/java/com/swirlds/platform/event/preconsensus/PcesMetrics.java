@@ -87,6 +87,13 @@ public class PcesMetrics {
     private static final Counter.Config PCES_BUFFER_EXPANSIONS_COUNTER = new Counter.Config(
                     CATEGORY, "pcesBufferExpansionCounter")
             .withDescription("How many times the write buffer needed to be expanded");
+    private static final RunningAverageMetric.Config PCES_GROUP_COMMIT_BATCH_SIZE = new RunningAverageMetric.Config(
+                    CATEGORY, "pcesGroupCommitBatchSize")
+            .withDescription("The average number of events made durable by a single sync in group commit mode");
+    private static final RunningAverageMetric.Config PCES_GROUP_COMMIT_SYNC_LATENCY = new RunningAverageMetric.Config(
+                    CATEGORY, "pcesGroupCommitSyncLatency")
+            .withUnit("microseconds")
+            .withDescription("The average duration of a sync in group commit mode");
 
     /**
      * Construct preconsensus event metrics.
@@ -113,6 +120,8 @@ public class PcesMetrics {
         metrics.getOrCreate(PcesMetrics.PCES_AVG_WRITE_DURATION);
         metrics.getOrCreate(PcesMetrics.PCES_AVG_TOTAL_WRITE_DURATION);
         metrics.getOrCreate(PcesMetrics.PCES_BUFFER_EXPANSIONS_COUNTER);
+        metrics.getOrCreate(PcesMetrics.PCES_GROUP_COMMIT_BATCH_SIZE);
+        metrics.getOrCreate(PcesMetrics.PCES_GROUP_COMMIT_SYNC_LATENCY);
     }
 
     /**
@@ -189,4 +198,15 @@ public class PcesMetrics {
         if (stats.totalExpansions() > 0)
             metrics.getOrCreate(PcesMetrics.PCES_BUFFER_EXPANSIONS_COUNTER).add(stats.totalExpansions());
     }
+
+    /**
+     * Updates the metrics with a batch synced in group commit mode
+     *
+     * @param batchSize          the number of events in the batch
+     * @param syncDurationMicros the duration of the sync, in microseconds
+     */
+    public void updateGroupCommitMetrics(final int batchSize, final long syncDurationMicros) {
+        metrics.getOrCreate(PcesMetrics.PCES_GROUP_COMMIT_BATCH_SIZE).update(batchSize);
+        metrics.getOrCreate(PcesMetrics.PCES_GROUP_COMMIT_SYNC_LATENCY).update(syncDurationMicros);
+    }
 }
@@ -0,0 +1,170 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.event.preconsensus;
+
+import static com.swirlds.common.threading.manager.AdHocThreadManager.getStaticThreadManager;
+
+import com.swirlds.common.io.IOIterator;
+import com.swirlds.common.threading.framework.config.ThreadConfiguration;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.IOException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.hiero.consensus.crypto.DefaultEventHasher;
+import org.hiero.consensus.crypto.EventHasher;
+import org.hiero.consensus.model.event.PlatformEvent;
+
+/**
+ * Reads events from another iterator on a dedicated thread, and hashes them on a pool of threads, ahead of the events
+ * being consumed. Events are returned hashed, in the same order as the wrapped iterator returns them.
+ *
+ * <p>Reading and decoding events from files, and hashing them, is the part of the PCES replay that does not depend on
+ * other events. This iterator lets that work run ahead on other cores while the intake pipeline and consensus work on
+ * previous events. At most {@code readAheadSize} events are read ahead of the consumer.
+ *
+ * <p>This iterator must be closed, to stop its threads if not all events are consumed.
+ */
+public class PcesReadAheadIterator implements IOIterator<PlatformEvent>, AutoCloseable {
+
+    /** Marks the end of the events */
+    private static final CompletableFuture<PlatformEvent> END = CompletableFuture.completedFuture(null);
+
+    private final IOIterator<PlatformEvent> source;
+    private final EventHasher eventHasher = new DefaultEventHasher();
+
+    /** Events read ahead, in the order they were read. Each event is available once it is hashed. */
+    private final BlockingQueue<CompletableFuture<PlatformEvent>> events;
+
+    private final ExecutorService hashPool;
+    private final Thread reader;
+
+    private PlatformEvent next;
+    private boolean done = false;
+
+    /**
+     * Create an iterator and start reading events.
+     *
+     * @param source        the iterator to read events from
+     * @param readAheadSize the maximum number of events read ahead of the consumer
+     * @param hashPoolSize  the number of threads used for hashing events
+     */
+    public PcesReadAheadIterator(
+            @NonNull final IOIterator<PlatformEvent> source, final int readAheadSize, final int hashPoolSize) {
+        this.source = Objects.requireNonNull(source);
+        if (readAheadSize < 1) {
+            throw new IllegalArgumentException("readAheadSize must be positive");
+        }
+        if (hashPoolSize < 1) {
+            throw new IllegalArgumentException("hashPoolSize must be positive");
+        }
+        events = new ArrayBlockingQueue<>(readAheadSize);
+        hashPool = Executors.newFixedThreadPool(
+                hashPoolSize,
+                new ThreadConfiguration(getStaticThreadManager())
+                        .setComponent("preconsensus")
+                        .setThreadName("replay-hasher")
+                        .buildFactory());
+        reader = new ThreadConfiguration(getStaticThreadManager())
+                .setComponent("preconsensus")
+                .setThreadName("replay-reader")
+                .setRunnable(this::readEvents)
+                .build(true);
+    }
+
+    /**
+     * Read all events from the source iterator, and schedule them for hashing. Runs on the reader thread.
+     */
+    private void readEvents() {
+        try {
+            while (source.hasNext()) {
+                final PlatformEvent event = source.next();
+                events.put(CompletableFuture.supplyAsync(() -> eventHasher.hashEvent(event), hashPool));
+            }
+            events.put(END);
+        } catch (final IOException e) {
+            putFailure(e);
+        } catch (final InterruptedException e) {
+            // the iterator was closed
+            Thread.currentThread().interrupt();
+        } catch (final RuntimeException e) {
+            putFailure(e);
+        }
+    }
+
+    /**
+     * Pass a failure of the reader thread to the consumer, after all events read before the failure.
+     *
+     * @param failure the failure
+     */
+    private void putFailure(@NonNull final Exception failure) {
+        try {
+            events.put(CompletableFuture.failedFuture(failure));
+        } catch (final InterruptedException e) {
+            // the iterator was closed
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Wait for the next event to be read and hashed.
+     *
+     * @return the next event, or null if there are no more events
+     */
+    @Nullable
+    private PlatformEvent takeNext() throws IOException {
+        try {
+            return events.take().join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("interrupted while waiting for the next event", e);
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof final IOException ioException) {
+                throw ioException;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext() throws IOException {
+        if (next == null && !done) {
+            next = takeNext();
+            done = next == null;
+        }
+        return next != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @NonNull
+    public PlatformEvent next() throws IOException {
+        if (!hasNext()) {
+            throw new NoSuchElementException("iterator is empty, can not get next element");
+        }
+        try {
+            return next;
+        } finally {
+            next = null;
+        }
+    }
+
+    /**
+     * Stop reading and hashing events.
+     */
+    @Override
+    public void close() {
+        reader.interrupt();
+        hashPool.shutdownNow();
+    }
+}
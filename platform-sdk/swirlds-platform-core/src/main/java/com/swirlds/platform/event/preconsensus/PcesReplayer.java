@@ -6,12 +6,14 @@ import static com.swirlds.common.units.TimeUnit.UNIT_MILLISECONDS;
 import static com.swirlds.logging.legacy.LogMarker.STARTUP;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
+import com.hedera.hapi.platform.state.ConsensusSnapshot;
 import com.swirlds.base.time.Time;
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.formatting.UnitFormatter;
 import com.swirlds.common.io.IOIterator;
 import com.swirlds.common.utility.throttle.RateLimiter;
 import com.swirlds.component.framework.wires.output.StandardOutputWire;
+import com.swirlds.platform.state.service.PlatformStateFacade;
 import com.swirlds.platform.state.signed.ReservedSignedState;
 import com.swirlds.platform.wiring.NoInput;
 import edu.umd.cs.findbugs.annotations.NonNull;
@@ -20,10 +22,24 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.hiero.base.crypto.Hash;
+import org.hiero.consensus.crypto.DefaultEventHasher;
+import org.hiero.consensus.crypto.EventHasher;
+import org.hiero.consensus.model.event.EventDescriptorWrapper;
 import org.hiero.consensus.model.event.PlatformEvent;
 
 /**
@@ -35,12 +51,14 @@ public class PcesReplayer {
     private final Time time;
 
     private final StandardOutputWire<PlatformEvent> eventOutputWire;
+    private final StandardOutputWire<Set<Hash>> trustedEventHashesOutputWire;
 
     private final Runnable flushIntake;
     private final Runnable flushTransactionHandling;
 
     private final Supplier<ReservedSignedState> latestImmutableState;
     private final Supplier<Boolean> isSystemHealthy;
+    private final PlatformStateFacade platformStateFacade;
 
     private final PcesConfig config;
 
@@ -49,26 +67,33 @@ public class PcesReplayer {
      *
      * @param context                  the platform context
      * @param eventOutputWire          the wire to put events on, to be replayed
+     * @param trustedEventHashesOutputWire the wire to put the hashes of replayed events on, whose signatures don't
+     *                                 need to be verified
      * @param flushIntake              a runnable that flushes the intake pipeline
      * @param flushTransactionHandling a runnable that flushes the transaction handling pipeline
      * @param latestImmutableState     a supplier of the latest immutable state
      * @param isSystemHealthy          a supplier that returns true if the system is healthy and false if the system is
      *                                 overwhelmed
+     * @param platformStateFacade      the facade to read the consensus snapshot of the starting state
      */
     public PcesReplayer(
             final @NonNull PlatformContext context,
             final @NonNull StandardOutputWire<PlatformEvent> eventOutputWire,
+            final @NonNull StandardOutputWire<Set<Hash>> trustedEventHashesOutputWire,
             final @NonNull Runnable flushIntake,
             final @NonNull Runnable flushTransactionHandling,
             final @NonNull Supplier<ReservedSignedState> latestImmutableState,
-            final @NonNull Supplier<Boolean> isSystemHealthy) {
+            final @NonNull Supplier<Boolean> isSystemHealthy,
+            final @NonNull PlatformStateFacade platformStateFacade) {
 
         this.time = context.getTime();
         this.eventOutputWire = Objects.requireNonNull(eventOutputWire);
+        this.trustedEventHashesOutputWire = Objects.requireNonNull(trustedEventHashesOutputWire);
         this.flushIntake = Objects.requireNonNull(flushIntake);
         this.flushTransactionHandling = Objects.requireNonNull(flushTransactionHandling);
         this.latestImmutableState = Objects.requireNonNull(latestImmutableState);
         this.isSystemHealthy = Objects.requireNonNull(isSystemHealthy);
+        this.platformStateFacade = Objects.requireNonNull(platformStateFacade);
 
         this.config = context.getConfiguration().getConfigData(PcesConfig.class);
     }
@@ -131,7 +156,8 @@ public class PcesReplayer {
     }
 
     /**
-     * Replays preconsensus events from disk.
+     * Replays preconsensus events from disk. If {@link PcesConfig#pipelinedReplay()} is enabled, events are read and
+     * hashed ahead on other threads, and the events put on the output wire are already hashed.
      *
      * @param eventIterator an iterator over the events in the preconsensus stream
      * @return a trigger object indicating when the replay is complete
@@ -139,17 +165,38 @@ public class PcesReplayer {
     @NonNull
     public NoInput replayPces(@NonNull final IOIterator<PlatformEvent> eventIterator) {
         Objects.requireNonNull(eventIterator);
+        if (!config.pipelinedReplay()) {
+            return replayEvents(eventIterator);
+        }
+        try (final PcesReadAheadIterator readAheadIterator =
+                new PcesReadAheadIterator(eventIterator, config.replayQueueSize(), config.replayHashPoolSize())) {
+            return replayEvents(readAheadIterator);
+        }
+    }
 
+    /**
+     * Replays events from the given iterator.
+     *
+     * @param eventIterator an iterator over the events to replay
+     * @return a trigger object indicating when the replay is complete
+     */
+    @NonNull
+    private NoInput replayEvents(@NonNull final IOIterator<PlatformEvent> eventIterator) {
         final Instant start = time.now();
         final Instant timestampBeforeReplay;
         final long roundBeforeReplay;
+        final ConsensusSnapshot snapshotBeforeReplay;
         try (final ReservedSignedState startState = latestImmutableState.get()) {
             if (startState == null || startState.isNull()) {
                 timestampBeforeReplay = null;
                 roundBeforeReplay = -1;
+                snapshotBeforeReplay = null;
             } else {
                 timestampBeforeReplay = startState.get().getConsensusTimestamp();
                 roundBeforeReplay = startState.get().getRound();
+                snapshotBeforeReplay = config.trustReplayedEventSignatures()
+                        ? platformStateFacade.consensusSnapshotOf(startState.get().getState())
+                        : null;
             }
         }
 
@@ -158,7 +205,10 @@ public class PcesReplayer {
         int eventCount = 0;
         int transactionCount = 0;
         try {
-            while (eventIterator.hasNext()) {
+            final IOIterator<PlatformEvent> replayIterator = snapshotBeforeReplay == null
+                    ? eventIterator
+                    : trustJudgeAncestors(eventIterator, snapshotBeforeReplay);
+            while (replayIterator.hasNext()) {
                 // If the system is not keeping up with the rate at which we are replaying PCES, we need to wait
                 // until it catches up before we can continue.
                 waitUntilHealthy();
@@ -167,7 +217,7 @@ public class PcesReplayer {
                     continue;
                 }
 
-                final PlatformEvent event = eventIterator.next();
+                final PlatformEvent event = replayIterator.next();
 
                 eventCount++;
                 transactionCount += event.getTransactionCount();
@@ -188,6 +238,80 @@ public class PcesReplayer {
         return NoInput.getInstance();
     }
 
+    /**
+     * Reads events until all judges of the snapshot round are read, and puts the hashes of these judges and all their
+     * ancestors on the trusted event hashes output wire. The saved state records the judge hashes, and the hash of an
+     * event covers the hashes of its parents, so these events are exactly the ones the saved state was built from, and
+     * their signatures were verified before. Signatures of all other events are verified as usual.
+     *
+     * <p>The events read are held in memory until they are replayed. Reading stops early if an event born more than
+     * one round after the snapshot round is read, since the judges are expected before it.
+     *
+     * @param eventIterator the iterator over the events to replay
+     * @param snapshot      the consensus snapshot of the state the replay starts from
+     * @return an iterator over the events to replay, starting with the events read
+     * @throws IOException if the events can't be read
+     */
+    @NonNull
+    private IOIterator<PlatformEvent> trustJudgeAncestors(
+            @NonNull final IOIterator<PlatformEvent> eventIterator, @NonNull final ConsensusSnapshot snapshot)
+            throws IOException {
+        final Set<Hash> judgeHashes = snapshot.judgeHashes().isEmpty()
+                ? snapshot.judgeIds().stream()
+                        .map(judge -> new Hash(judge.judgeHash()))
+                        .collect(Collectors.toSet())
+                : snapshot.judgeHashes().stream().map(Hash::new).collect(Collectors.toSet());
+
+        final EventHasher eventHasher = new DefaultEventHasher();
+        final Set<Hash> judgesToRead = new HashSet<>(judgeHashes);
+        final List<PlatformEvent> events = new ArrayList<>();
+        final Map<Hash, PlatformEvent> eventsByHash = new HashMap<>();
+        while (!judgesToRead.isEmpty() && eventIterator.hasNext()) {
+            final PlatformEvent event = eventIterator.next();
+            if (event.getHash() == null) {
+                eventHasher.hashEvent(event);
+            }
+            events.add(event);
+            eventsByHash.put(event.getHash(), event);
+            judgesToRead.remove(event.getHash());
+            if (event.getBirthRound() > snapshot.round() + 1) {
+                break;
+            }
+        }
+
+        final Set<Hash> trustedHashes = new HashSet<>();
+        final Deque<Hash> hashesToVisit = new ArrayDeque<>(judgeHashes);
+        while (!hashesToVisit.isEmpty()) {
+            final PlatformEvent event = eventsByHash.get(hashesToVisit.pop());
+            if (event == null || !trustedHashes.add(event.getHash())) {
+                continue;
+            }
+            for (final EventDescriptorWrapper parent : event.getAllParents()) {
+                hashesToVisit.push(parent.hash());
+            }
+        }
+        logger.info(
+                STARTUP.getMarker(),
+                "Signatures of {} of the first {} replayed preconsensus events are covered by the judges of round {}",
+                commaSeparatedNumber(trustedHashes.size()),
+                commaSeparatedNumber(events.size()),
+                snapshot.round());
+        trustedEventHashesOutputWire.forward(trustedHashes);
+
+        final Iterator<PlatformEvent> readEvents = events.iterator();
+        return new IOIterator<>() {
+            @Override
+            public boolean hasNext() throws IOException {
+                return readEvents.hasNext() || eventIterator.hasNext();
+            }
+
+            @Override
+            public PlatformEvent next() throws IOException {
+                return readEvents.hasNext() ? readEvents.next() : eventIterator.next();
+            }
+        };
+    }
+
     /**
      * Blocks until the system is in a healthy state. An unhealthy state is caused by the backlog of work growing too
      * large.
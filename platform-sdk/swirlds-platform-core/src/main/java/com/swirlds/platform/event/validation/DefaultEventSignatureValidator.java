@@ -20,8 +20,10 @@ import java.security.cert.X509Certificate;
 import java.time.Duration;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.hiero.base.crypto.Hash;
 import org.hiero.consensus.config.EventConfig;
 import org.hiero.consensus.model.event.PlatformEvent;
 import org.hiero.consensus.model.hashgraph.EventWindow;
@@ -80,6 +82,12 @@ public class DefaultEventSignatureValidator implements EventSignatureValidator {
             .withUnit("events");
     private final LongAccumulator validationFailedAccumulator;
 
+    /**
+     * Hashes of replayed events whose signatures are not verified, because the state the replay starts from was built
+     * from these events. Cleared at the end of the PCES replay.
+     */
+    private Set<Hash> trustedReplayedEventHashes = Set.of();
+
     /**
      * Constructor
      *
@@ -186,6 +194,10 @@ public class DefaultEventSignatureValidator implements EventSignatureValidator {
             return false;
         }
 
+        if (trustedReplayedEventHashes.contains(event.getHash())) {
+            return true;
+        }
+
         final boolean isSignatureValid =
                 signatureVerifier.verifySignature(event.getHash().getBytes(), event.getSignature(), publicKey);
 
@@ -239,4 +251,20 @@ public class DefaultEventSignatureValidator implements EventSignatureValidator {
         this.previousRosterMap = RosterUtils.toMap(rosterUpdate.previousRoster());
         this.currentRosterMap = RosterUtils.toMap(rosterUpdate.currentRoster());
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void trustReplayedEvents(@NonNull final Set<Hash> eventHashes) {
+        this.trustedReplayedEventHashes = Objects.requireNonNull(eventHashes);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void signalEndOfPcesReplay() {
+        trustedReplayedEventHashes = Set.of();
+    }
 }
@@ -4,6 +4,8 @@ package com.swirlds.platform.event.validation;
 import com.swirlds.component.framework.component.InputWireLabel;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Set;
+import org.hiero.base.crypto.Hash;
 import org.hiero.consensus.model.event.PlatformEvent;
 import org.hiero.consensus.model.hashgraph.EventWindow;
 
@@ -37,4 +39,20 @@ public interface EventSignatureValidator {
      */
     @InputWireLabel("RosterUpdate")
     void updateRosters(@NonNull final RosterUpdate rosterUpdate);
+
+    /**
+     * Set the hashes of events replayed from the preconsensus event stream whose signatures don't need to be verified,
+     * because the state the replay starts from was built from these events. Other events are verified as usual.
+     *
+     * @param eventHashes the hashes of the trusted events
+     */
+    @InputWireLabel("trusted replayed event hashes")
+    void trustReplayedEvents(@NonNull final Set<Hash> eventHashes);
+
+    /**
+     * Signal that all preconsensus events have been replayed. All events received after this point come from other
+     * sources than the preconsensus event stream.
+     */
+    @InputWireLabel("end of PCES replay")
+    void signalEndOfPcesReplay();
 }
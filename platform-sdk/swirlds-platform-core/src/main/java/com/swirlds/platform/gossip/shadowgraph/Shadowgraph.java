@@ -14,7 +14,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -22,6 +21,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
@@ -37,6 +37,19 @@ import org.hiero.consensus.model.hashgraph.EventWindow;
 /**
  * The primary purpose of the shadowgraph is to unlink events when it is safe to do so. In order to decide when it is
  * safe to unlink an event, it allows for batches of events (by ancient indicator) to be reserved.
+ *
+ * <p>The shadowgraph is read concurrently by all gossip threads, while events are added and expired by a single
+ * thread. Methods that modify the graph are synchronized with each other. Queries, like {@link #getTips()},
+ * {@link #shadows(List)} and {@link #findAncestors(Iterable, Predicate)}, and the common case of {@link #reserve()},
+ * do not take a lock, so syncs with different peers do not wait for each other or for insertion:</p>
+ * <ul>
+ *     <li>events are looked up by hash in a concurrent map</li>
+ *     <li>events are grouped into a concurrent segment per ancient indicator, which is dropped as a whole when it
+ *     expires</li>
+ *     <li>the tips are published as an immutable snapshot after every modification</li>
+ *     <li>a reservation is an epoch that gossip threads join with a single atomic operation, see
+ *     {@link ShadowgraphReservation}</li>
+ * </ul>
  */
 public class Shadowgraph implements Clearable {
 
@@ -50,7 +63,7 @@ public class Shadowgraph implements Clearable {
     /**
      * The shadowgraph represented in a map from has to shadow event.
      */
-    private final HashMap<Hash, ShadowEvent> hashToShadowEvent;
+    private final Map<Hash, ShadowEvent> hashToShadowEvent;
 
     /**
      * Map from ancient indicator to all shadow events with that ancient indicator.
@@ -58,20 +71,32 @@ public class Shadowgraph implements Clearable {
     private final Map<Long /* ancient indicator */, Set<ShadowEvent>> indicatorToShadowEvent;
 
     /**
-     * The set of all tips for the shadowgraph. A tip is an event with no self child (could have other children)
+     * The set of all tips for the shadowgraph. A tip is an event with no self child (could have other children). Only
+     * accessed while holding the lock, readers use {@link #tipsSnapshot}.
      */
     private final HashSet<ShadowEvent> tips;
 
+    /**
+     * An immutable copy of {@link #tips}, published after every modification of the tips.
+     */
+    private volatile List<ShadowEvent> tipsSnapshot = List.of();
+
     /**
      * The oldest ancient indicator that has not yet been expired
      */
-    private long oldestUnexpiredIndicator;
+    private volatile long oldestUnexpiredIndicator;
 
     /**
-     * The list of all currently reserved indicators and their number of reservations.
+     * The list of all currently reserved indicators and their number of reservations. Only accessed while holding the
+     * lock.
      */
     private final LinkedList<ShadowgraphReservation> reservationList;
 
+    /**
+     * The most recently created reservation, joined by {@link #reserve()} without taking the lock.
+     */
+    private volatile ShadowgraphReservation latestReservation;
+
     /**
      * Encapsulates metrics for the shadowgraph.
      */
@@ -90,7 +115,7 @@ public class Shadowgraph implements Clearable {
     /**
      * The most recent event window we know about.
      */
-    private EventWindow eventWindow;
+    private volatile EventWindow eventWindow;
 
     /**
      * For each peer, track the number of events in the intake pipeline prior to the shadowgraph.
@@ -118,8 +143,8 @@ public class Shadowgraph implements Clearable {
         this.numberOfNodes = numberOfNodes;
         this.intakeEventCounter = Objects.requireNonNull(intakeEventCounter);
         tips = new HashSet<>();
-        hashToShadowEvent = new HashMap<>();
-        indicatorToShadowEvent = new HashMap<>();
+        hashToShadowEvent = new ConcurrentHashMap<>();
+        indicatorToShadowEvent = new ConcurrentHashMap<>();
         reservationList = new LinkedList<>();
     }
 
@@ -145,9 +170,11 @@ public class Shadowgraph implements Clearable {
         oldestUnexpiredIndicator = ancientMode.getGenesisIndicator();
         disconnectShadowEvents();
         tips.clear();
+        tipsSnapshot = List.of();
         hashToShadowEvent.clear();
         indicatorToShadowEvent.clear();
         reservationList.clear();
+        latestReservation = null;
     }
 
     /**
@@ -163,10 +190,33 @@ public class Shadowgraph implements Clearable {
      * Increase the reservation count for the ancient indicator currently held by {@code expireBelow}. A reservation
      * prevents events that have an ancient indicator not less than the threshold from being unlinked.
      *
+     * <p>If the latest reservation is against the current expired threshold, it is joined without taking the lock.
+     * This is safe because a reservation is only retired while it has no holders, and a retired reservation can not be
+     * joined, so the expired threshold can not move past a joined reservation.</p>
+     *
+     * @return the reservation instance, must be closed when the reservation is no longer needed
+     */
+    @NonNull
+    public ReservedEventWindow reserve() {
+        final EventWindow currentEventWindow = eventWindow;
+        final ShadowgraphReservation lastReservation = latestReservation;
+        if (currentEventWindow != null
+                && lastReservation != null
+                && lastReservation.getReservedThreshold() == currentEventWindow.expiredThreshold()
+                && lastReservation.tryIncrementReservations()) {
+            return new ReservedEventWindow(currentEventWindow, lastReservation);
+        }
+        return reserveWithLock();
+    }
+
+    /**
+     * Reserve the current expired threshold while holding the lock, creating a new reservation if the latest one can
+     * not be reused.
+     *
      * @return the reservation instance, must be closed when the reservation is no longer needed
      */
     @NonNull
-    public synchronized ReservedEventWindow reserve() {
+    private synchronized ReservedEventWindow reserveWithLock() {
         if (reservationList.isEmpty()) {
             // If we are not currently holding any reservations, we need to create a new one.
             return new ReservedEventWindow(eventWindow, newReservation());
@@ -179,13 +229,12 @@ public class Shadowgraph implements Clearable {
         final long previouslyReservedThreshold = lastReservation.getReservedThreshold();
         final long thresholdWeWantToReserve = eventWindow.expiredThreshold();
 
-        if (previouslyReservedThreshold == thresholdWeWantToReserve) {
+        if (previouslyReservedThreshold == thresholdWeWantToReserve && lastReservation.tryIncrementReservations()) {
 
             // The latest reservation is against the same expired threshold that we currently want to reserve.
             // We can reuse that reservation instead of creating a new one. We still need to package that
             // reservation with the most recent eventWindow we know about.
 
-            lastReservation.incrementReservations();
             return new ReservedEventWindow(eventWindow, lastReservation);
         } else {
 
@@ -200,7 +249,7 @@ public class Shadowgraph implements Clearable {
      * Get the latest event window known to the shadowgraph.
      */
     @NonNull
-    public synchronized EventWindow getEventWindow() {
+    public EventWindow getEventWindow() {
         return eventWindow;
     }
 
@@ -212,8 +261,8 @@ public class Shadowgraph implements Clearable {
      * @deprecated still used by tests, planned for removal. Do not add new uses.
      */
     @Deprecated(forRemoval = true)
-    public synchronized boolean isHashInGraph(final Hash hash) {
-        return hashToShadowEvent.containsKey(hash);
+    public boolean isHashInGraph(final Hash hash) {
+        return shadow(hash) != null;
     }
 
     /**
@@ -227,9 +276,9 @@ public class Shadowgraph implements Clearable {
      *     <li>adding events to the the graph does not affect ancestors</li>
      *     <li>checks for expired parent events are atomic</li>
      * </ol>
-     * <p>Note: This method is always accessed after a call to a synchronized {@link Shadowgraph} method, like
-     * {@link #getTips()}, which acts as a memory gate and causes the calling thread to read the latest values for all
-     * variables from memory, including {@link ShadowEvent} links.</p>
+     * <p>Note: This method is always accessed after a call to a {@link Shadowgraph} method, like {@link #getTips()},
+     * that reads the published tips or the concurrent hash index. This acts as a memory gate and causes the calling
+     * thread to read the latest values for all variables from memory, including {@link ShadowEvent} links.</p>
      *
      * @param events    the event to find ancestors of
      * @param predicate determines whether or not to add the ancestor to the return list
@@ -310,7 +359,7 @@ public class Shadowgraph implements Clearable {
      */
     @Deprecated(forRemoval = true)
     @NonNull
-    public synchronized Collection<PlatformEvent> findByAncientIndicator(
+    public Collection<PlatformEvent> findByAncientIndicator(
             final long lowerBound, final long upperBound, @NonNull final Predicate<PlatformEvent> predicate) {
         final List<PlatformEvent> result = new ArrayList<>();
         if (lowerBound >= upperBound) {
@@ -375,13 +424,18 @@ public class Shadowgraph implements Clearable {
 
         final long minimumIndicatorToKeep = Math.min(eventWindow.expiredThreshold(), oldestReservedIndicator);
 
+        boolean expiredAny = false;
         while (oldestUnexpiredIndicator < minimumIndicatorToKeep) {
             final Set<ShadowEvent> shadowsToExpire = indicatorToShadowEvent.remove(oldestUnexpiredIndicator);
             if (shadowsToExpire != null) {
                 shadowsToExpire.forEach(this::expire);
+                expiredAny = true;
             }
             oldestUnexpiredIndicator++;
         }
+        if (expiredAny) {
+            publishTips();
+        }
     }
 
     /**
@@ -399,14 +453,14 @@ public class Shadowgraph implements Clearable {
             final ShadowgraphReservation reservation = iterator.next();
             final long reservedIndicator = reservation.getReservedThreshold();
 
-            if (reservation.getReservationCount() > 0) {
+            if (reservedIndicator < eventWindow.expiredThreshold() && reservation.tryRetire()) {
+                // If the number of reservations is 0 and the indicator should be expired, remove the
+                // reservation. Once retired, it can no longer be joined by a concurrent call to reserve().
+                iterator.remove();
+            } else if (reservation.getReservationCount() > 0) {
                 // As soon as we find a reserved indicator, stop iterating
                 oldestReservedIndicator = reservation.getReservedThreshold();
                 break;
-            } else if (reservedIndicator < eventWindow.expiredThreshold()) {
-                // If the number of reservations is 0 and the
-                // indicator should be expired, remove the reservation
-                iterator.remove();
             } else {
                 // If the expireBelow indicator is reached, stop
                 // because no more indicators should be expired
@@ -437,7 +491,7 @@ public class Shadowgraph implements Clearable {
      * @throws IllegalArgumentException if {@code otherParentsDescriptors} contains more than one event descriptor
      */
     @Nullable
-    private synchronized ShadowEvent shadow(@NonNull final List<EventDescriptorWrapper> otherParentsDescriptors) {
+    private ShadowEvent shadow(@NonNull final List<EventDescriptorWrapper> otherParentsDescriptors) {
         if (otherParentsDescriptors.isEmpty()) {
             return null;
         }
@@ -456,7 +510,7 @@ public class Shadowgraph implements Clearable {
      * @return the shadow event that references an event, or null is {@code e} is null
      */
     @Nullable
-    public synchronized ShadowEvent shadow(@Nullable final EventDescriptorWrapper e) {
+    public ShadowEvent shadow(@Nullable final EventDescriptorWrapper e) {
         if (e == null) {
             return null;
         }
@@ -470,7 +524,7 @@ public class Shadowgraph implements Clearable {
      * @param hashes The event hashes to get shadow events for
      * @return the shadow events that reference the events with the given hashes
      */
-    public synchronized List<ShadowEvent> shadows(final List<Hash> hashes) {
+    public List<ShadowEvent> shadows(final List<Hash> hashes) {
         Objects.requireNonNull(hashes);
         final List<ShadowEvent> shadows = new ArrayList<>(hashes.size());
         for (final Hash hash : hashes) {
@@ -486,7 +540,7 @@ public class Shadowgraph implements Clearable {
      * @return the hashgraph event, if there is one in {@code this} shadowgraph, else `null`
      */
     @Nullable
-    public synchronized PlatformEvent hashgraphEvent(@Nullable final Hash h) {
+    public PlatformEvent hashgraphEvent(@Nullable final Hash h) {
         final ShadowEvent shadow = shadow(h);
         if (shadow == null) {
             return null;
@@ -502,8 +556,8 @@ public class Shadowgraph implements Clearable {
      * @return an unmodifiable copy of the tips
      */
     @NonNull
-    public synchronized List<ShadowEvent> getTips() {
-        return new ArrayList<>(tips);
+    public List<ShadowEvent> getTips() {
+        return new ArrayList<>(tipsSnapshot);
     }
 
     /**
@@ -526,6 +580,7 @@ public class Shadowgraph implements Clearable {
                 final ShadowEvent s = insert(event);
                 tips.add(s);
                 tips.remove(s.getSelfParent());
+                publishTips();
 
                 if (numberOfNodes > 0 && tips.size() > numberOfNodes && tips.size() > tipsBefore) {
                     // It is possible that we have more tips than nodes even if there is no fork.
@@ -575,11 +630,21 @@ public class Shadowgraph implements Clearable {
     private ShadowgraphReservation newReservation() {
         final ShadowgraphReservation reservation = new ShadowgraphReservation(eventWindow.expiredThreshold());
         reservationList.addLast(reservation);
+        latestReservation = reservation;
         return reservation;
     }
 
-    private ShadowEvent shadow(final Hash h) {
-        return hashToShadowEvent.get(h);
+    /**
+     * Publish a copy of the current tips to readers. Must be called while holding the lock.
+     */
+    private void publishTips() {
+        tipsSnapshot = List.copyOf(tips);
+    }
+
+    @Nullable
+    private ShadowEvent shadow(@Nullable final Hash h) {
+        // the concurrent map does not permit null keys
+        return h == null ? null : hashToShadowEvent.get(h);
     }
 
     /**
@@ -587,8 +652,8 @@ public class Shadowgraph implements Clearable {
      * @return the event that has the hash provided, or null if none exists
      */
     @Nullable
-    public synchronized PlatformEvent getEvent(@Nullable final Hash hash) {
-        final ShadowEvent shadowEvent = hashToShadowEvent.get(hash);
+    public PlatformEvent getEvent(@Nullable final Hash hash) {
+        final ShadowEvent shadowEvent = shadow(hash);
         return shadowEvent == null ? null : shadowEvent.getEvent();
     }
 
@@ -609,10 +674,9 @@ public class Shadowgraph implements Clearable {
         hashToShadowEvent.put(se.getEventBaseHash(), se);
 
         final long ancientIndicator = ancientMode.selectIndicator(event);
-        if (!indicatorToShadowEvent.containsKey(ancientIndicator)) {
-            indicatorToShadowEvent.put(ancientIndicator, new HashSet<>());
-        }
-        indicatorToShadowEvent.get(ancientIndicator).add(se);
+        indicatorToShadowEvent
+                .computeIfAbsent(ancientIndicator, indicator -> ConcurrentHashMap.newKeySet())
+                .add(se);
 
         return se;
     }
@@ -9,6 +9,10 @@ import org.hiero.consensus.model.event.AncientMode;
  * current {@link AncientMode andient mode}). It is used to determine when it is safe to
  * expire events in a given ancient indicator. Reservations are made by gossip threads inside {@link Shadowgraph}.
  * Ancient indicators that have at least one reservation may not have any of its events expired.
+ *
+ * <p>A reservation acts as an epoch: gossip threads join the latest reservation without taking the shadowgraph's
+ * lock, and the shadowgraph retires a reservation once it has no holders and its threshold has been expired. A retired
+ * reservation can not be joined again, so a gossip thread that loses the race retries with a newer reservation.
  */
 public final class ShadowgraphReservation implements AutoCloseable {
 
@@ -19,7 +23,12 @@ public final class ShadowgraphReservation implements AutoCloseable {
     private final long reservedThreshold;
 
     /**
-     * The number of reservations on this ancient indicator.
+     * The value of {@link #reservationCount} once this reservation has been retired.
+     */
+    private static final int RETIRED = -1;
+
+    /**
+     * The number of reservations on this ancient indicator, or {@link #RETIRED} if this reservation has been retired.
      */
     private final AtomicInteger reservationCount;
 
@@ -35,10 +44,28 @@ public final class ShadowgraphReservation implements AutoCloseable {
     }
 
     /**
-     * Increments the number of reservations on this ancient indicator.
+     * Increments the number of reservations on this ancient indicator, unless this reservation has been retired.
+     *
+     * @return true if the number of reservations was incremented, false if this reservation has been retired
+     */
+    public boolean tryIncrementReservations() {
+        int count = reservationCount.get();
+        while (count != RETIRED) {
+            if (reservationCount.compareAndSet(count, count + 1)) {
+                return true;
+            }
+            count = reservationCount.get();
+        }
+        return false;
+    }
+
+    /**
+     * Retires this reservation if there are no current reservations. A retired reservation can not be incremented.
+     *
+     * @return true if this reservation was retired, false if there is at least one current reservation
      */
-    public void incrementReservations() {
-        reservationCount.incrementAndGet();
+    public boolean tryRetire() {
+        return reservationCount.get() == RETIRED || reservationCount.compareAndSet(0, RETIRED);
     }
 
     /**
@@ -47,7 +74,7 @@ public final class ShadowgraphReservation implements AutoCloseable {
      * @return number of reservations
      */
     public int getReservationCount() {
-        return reservationCount.get();
+        return Math.max(0, reservationCount.get());
     }
 
     /**
@@ -9,13 +9,16 @@ import com.swirlds.common.context.PlatformContext;
 import com.swirlds.config.api.Configuration;
 import com.swirlds.platform.Consensus;
 import com.swirlds.platform.ConsensusImpl;
+import com.swirlds.platform.consensus.CandidateWitness;
 import com.swirlds.platform.consensus.ConsensusConfig;
+import com.swirlds.platform.consensus.ConsensusMetadataStore;
 import com.swirlds.platform.consensus.RoundCalculationUtils;
 import com.swirlds.platform.event.linking.SimpleLinker;
 import com.swirlds.platform.internal.EventImpl;
 import com.swirlds.platform.metrics.NoOpConsensusMetrics;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -142,6 +145,41 @@ public class GuiEventStorage {
         return linker.getNonAncientEvents();
     }
 
+    /**
+     * Get the vote of a witness in the election of a candidate witness. Votes are read through the consensus metadata
+     * store, since they may not be stored in the event.
+     *
+     * @param event     the voting witness
+     * @param candidate the witness being voted on
+     * @return true if it's a YES vote, false if it's a NO vote or the event has no votes
+     */
+    public synchronized boolean getVote(@NonNull final EventImpl event, @NonNull final CandidateWitness candidate) {
+        return consensus.getMetadataStore().getVote(event, candidate);
+    }
+
+    /**
+     * Get the witnesses of the parent round of an event that the event strongly sees. They are read through the
+     * consensus metadata store, since they may not be stored in the event.
+     *
+     * @param event      the event
+     * @param numMembers the number of members in the roster
+     * @return the strongly seen witnesses, empty if they are not calculated for the event
+     */
+    public synchronized @NonNull List<EventImpl> getStronglySeen(@NonNull final EventImpl event, final int numMembers) {
+        final ConsensusMetadataStore metadataStore = consensus.getMetadataStore();
+        if (!metadataStore.hasStronglySeeP(event)) {
+            return List.of();
+        }
+        final List<EventImpl> stronglySeen = new ArrayList<>();
+        for (int m = 0; m < numMembers; m++) {
+            final EventImpl witness = metadataStore.getStronglySeeP(event, m);
+            if (witness != null) {
+                stronglySeen.add(witness);
+            }
+        }
+        return stronglySeen;
+    }
+
     /**
      * @return the last round that reached consensus
      */
@@ -1,12 +1,12 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.swirlds.platform.gui.hashgraph.internal;
 
+import com.swirlds.platform.gui.hashgraph.HashgraphGuiSource;
 import com.swirlds.platform.internal.EventImpl;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
@@ -14,12 +14,20 @@ import java.util.Objects;
  * This class is responsible for selecting events by clicking in the GUI.
  */
 public class EventSelector implements MouseListener {
+    private final HashgraphGuiSource hashgraphSource;
     private EventImpl selectedEvent = null;
     private final List<EventImpl> stronglySeen = new ArrayList<>();
 
     private PictureMetadata metadata = null;
     private List<EventImpl> eventsInPicture = List.of();
 
+    /**
+     * @param hashgraphSource the source of the events and their consensus metadata
+     */
+    public EventSelector(@NonNull final HashgraphGuiSource hashgraphSource) {
+        this.hashgraphSource = Objects.requireNonNull(hashgraphSource);
+    }
+
     /**
      * Set the metadata needed to locate the position of an event in the picture.
      *
@@ -81,11 +89,8 @@ public class EventSelector implements MouseListener {
                     selectedEvent = null;
                 } else {
                     selectedEvent = e;
-                    if (selectedEvent.getStronglySeeP() != null) {
-                        Arrays.stream(selectedEvent.getStronglySeeP())
-                                .filter(Objects::nonNull)
-                                .forEach(stronglySeen::add);
-                    }
+                    final int numMembers = hashgraphSource.getAddressBook().getSize();
+                    stronglySeen.addAll(hashgraphSource.getEventStorage().getStronglySeen(selectedEvent, numMembers));
                 }
                 return;
             }
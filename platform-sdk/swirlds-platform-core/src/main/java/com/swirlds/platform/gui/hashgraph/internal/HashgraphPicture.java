@@ -62,7 +62,7 @@ public class HashgraphPicture extends JPanel {
     public HashgraphPicture(final HashgraphGuiSource hashgraphSource, final HashgraphPictureOptions options) {
         this.hashgraphSource = hashgraphSource;
         this.options = options;
-        this.selector = new EventSelector();
+        this.selector = new EventSelector(hashgraphSource);
         this.addMouseListener(selector);
         createMetadata();
     }
@@ -283,7 +283,7 @@ public class HashgraphPicture extends JPanel {
                             consensus.getRounds().getElectionRound().undecidedWitnesses();
                     it.hasNext(); ) {
                 final CandidateWitness candidateWitnessI = it.next();
-                String vote = event.getVote(candidateWitnessI) ? "T" : "F";
+                String vote = hashgraphSource.getEventStorage().getVote(event, candidateWitnessI) ? "T" : "F";
                 // showing T or F from true/false for readability on the picture
                 s += vote
                         // showing first two characters from the hash of the witness
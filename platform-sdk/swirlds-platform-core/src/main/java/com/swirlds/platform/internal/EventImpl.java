@@ -88,6 +88,12 @@ public class EventImpl implements Clearable {
     /** The deterministic generation, see {@link DeGen} */
     private int deGen = 0;
 
+    /**
+     * The index of this event's metadata in a {@link com.swirlds.platform.consensus.ConsensusMetadataArena}, or -1 if
+     * the metadata is stored in this event
+     */
+    private long metadataIndex = -1;
+
     public EventImpl(
             @NonNull final PlatformEvent platformEvent,
             @Nullable final EventImpl selfParent,
@@ -384,6 +390,22 @@ public class EventImpl implements Clearable {
         this.roundCreated = roundCreated;
     }
 
+    /**
+     * @return the index of this event's metadata in a {@link com.swirlds.platform.consensus.ConsensusMetadataArena},
+     *     or -1 if it has none
+     */
+    public long getMetadataIndex() {
+        return metadataIndex;
+    }
+
+    /**
+     * @param metadataIndex the index of this event's metadata in a
+     *     {@link com.swirlds.platform.consensus.ConsensusMetadataArena}
+     */
+    public void setMetadataIndex(final long metadataIndex) {
+        this.metadataIndex = metadataIndex;
+    }
+
     /**
      * Initialize the voting array
      *
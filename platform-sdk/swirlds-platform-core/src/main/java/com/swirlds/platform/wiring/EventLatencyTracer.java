@@ -0,0 +1,291 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.wiring;
+
+import static com.swirlds.logging.legacy.LogMarker.INTAKE_EVENT;
+
+import com.swirlds.base.time.Time;
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.common.utility.throttle.RateLimitedLogger;
+import com.swirlds.metrics.api.LongAccumulator;
+import com.swirlds.metrics.api.Metrics;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hiero.consensus.model.event.EventTrace;
+import org.hiero.consensus.model.event.PlatformEvent;
+import org.hiero.consensus.model.hashgraph.ConsensusRound;
+
+/**
+ * Traces a sample of the events received via gossip through the stages of the platform wiring. When a traced event
+ * leaves a stage, its {@link EventTrace} is stamped with a monotonic timestamp. The time between an event leaving the
+ * previous stage and leaving a stage is reported per stage as metrics, and the traces of events that take longer than
+ * {@link EventTracingConfig#slowEventThreshold()} from the first stage to the last are logged.
+ * <p>
+ * Stages must be added in the order events pass through them, before any data flows through the wiring. The first
+ * stage starts traces, and the last stage completes them. Events that are discarded before the last stage (e.g.
+ * duplicates or stale events) are never completed.
+ */
+public class EventLatencyTracer {
+
+    private static final Logger logger = LogManager.getLogger(EventLatencyTracer.class);
+
+    private static final String CATEGORY = "platform";
+
+    /**
+     * The maximum number of consensus rounds waiting to be handled. Rounds stop being handled after a freeze, so old
+     * rounds are discarded once this limit is reached. Rounds that are dropped when the platform is cleared are
+     * discarded by {@link #clear()}.
+     */
+    private static final int MAX_PENDING_ROUNDS = 1024;
+
+    private final Metrics metrics;
+    private final Time time;
+    private final int sampleInterval;
+    private final long slowEventThresholdNanos;
+    private final RateLimitedLogger slowEventLogger;
+
+    private final List<String> stageNames = new ArrayList<>();
+
+    /**
+     * The average latency of each stage except the first, indexed by stage minus one.
+     */
+    private final List<RunningAverageMetric> averageStageLatencies = new ArrayList<>();
+
+    /**
+     * The maximum latency of each stage except the first, indexed by stage minus one.
+     */
+    private final List<LongAccumulator> maxStageLatencies = new ArrayList<>();
+
+    private static final RunningAverageMetric.Config AVERAGE_TOTAL_LATENCY_CONFIG = new RunningAverageMetric.Config(
+                    CATEGORY, "eventLatency_total")
+            .withUnit("microseconds")
+            .withDescription("the average time from the first stage to the last stage of traced events");
+    private final RunningAverageMetric averageTotalLatency;
+
+    private static final LongAccumulator.Config MAX_TOTAL_LATENCY_CONFIG = new LongAccumulator.Config(
+                    CATEGORY, "eventLatencyMax_total")
+            .withAccumulator(Math::max)
+            .withInitialValue(0)
+            .withUnit("microseconds")
+            .withDescription("the maximum time from the first stage to the last stage of traced events");
+    private final LongAccumulator maxTotalLatency;
+
+    /**
+     * The number of events that have passed the first stage, used for sampling.
+     */
+    private final AtomicLong eventCount = new AtomicLong();
+
+    /**
+     * The traced events of each non-empty consensus round that has not yet been handled, in consensus order.
+     */
+    private final BlockingQueue<List<PlatformEvent>> pendingRounds = new LinkedBlockingQueue<>(MAX_PENDING_ROUNDS);
+
+    /**
+     * Constructor.
+     *
+     * @param platformContext the platform context
+     */
+    public EventLatencyTracer(@NonNull final PlatformContext platformContext) {
+        final EventTracingConfig config =
+                platformContext.getConfiguration().getConfigData(EventTracingConfig.class);
+        if (config.sampleInterval() < 1) {
+            throw new IllegalArgumentException("sampleInterval must be positive");
+        }
+        this.metrics = platformContext.getMetrics();
+        this.time = platformContext.getTime();
+        this.sampleInterval = config.sampleInterval();
+        this.slowEventThresholdNanos = config.slowEventThreshold().toNanos();
+        this.slowEventLogger = new RateLimitedLogger(logger, time, config.slowEventLogPeriod());
+
+        averageTotalLatency = metrics.getOrCreate(AVERAGE_TOTAL_LATENCY_CONFIG);
+        maxTotalLatency = metrics.getOrCreate(MAX_TOTAL_LATENCY_CONFIG);
+    }
+
+    /**
+     * Add a stage, after all previously added stages.
+     *
+     * @param name the name of the stage
+     * @return the index of the stage
+     */
+    public int addStage(@NonNull final String name) {
+        Objects.requireNonNull(name);
+        final int stage = stageNames.size();
+        stageNames.add(name);
+        if (stage > 0) {
+            averageStageLatencies.add(metrics.getOrCreate(new RunningAverageMetric.Config(
+                            CATEGORY, "eventLatency_" + name)
+                    .withUnit("microseconds")
+                    .withDescription("the average time traced events spend between leaving the previous stage and "
+                            + "leaving " + name)));
+            maxStageLatencies.add(metrics.getOrCreate(new LongAccumulator.Config(CATEGORY, "eventLatencyMax_" + name)
+                    .withAccumulator(Math::max)
+                    .withInitialValue(0)
+                    .withUnit("microseconds")
+                    .withDescription("the maximum time traced events spend between leaving the previous stage and "
+                            + "leaving " + name)));
+        }
+        return stage;
+    }
+
+    /**
+     * Called when an event leaves a stage. If this is the first stage, then a trace is started for a sample of the
+     * events. Otherwise, the stage is stamped if the event is traced.
+     *
+     * @param stage the index of the stage
+     * @param event the event
+     */
+    public void traceEvent(final int stage, @NonNull final PlatformEvent event) {
+        if (stage == 0) {
+            startTrace(event);
+        } else {
+            stamp(stage, event);
+        }
+    }
+
+    /**
+     * Called when a consensus round leaves a stage. Stamps the stage for all traced events in the round, and remembers
+     * them until the round is handled.
+     *
+     * @param stage the index of the stage
+     * @param round the consensus round
+     */
+    public void traceRound(final int stage, @NonNull final ConsensusRound round) {
+        if (round.isEmpty()) {
+            // empty rounds are not handled, so they must not be matched with a handled round
+            return;
+        }
+        final List<PlatformEvent> tracedEvents = new ArrayList<>();
+        for (final PlatformEvent event : round.getConsensusEvents()) {
+            if (event.getTrace() != null) {
+                stamp(stage, event);
+                tracedEvents.add(event);
+            }
+        }
+        while (!pendingRounds.offer(tracedEvents)) {
+            pendingRounds.poll();
+        }
+    }
+
+    /**
+     * Called when the oldest non-empty consensus round passed to {@link #traceRound(int, ConsensusRound)} leaves a
+     * stage. Stamps the stage for all traced events in that round.
+     *
+     * @param stage the index of the stage
+     */
+    public void traceHandledRound(final int stage) {
+        final List<PlatformEvent> tracedEvents = pendingRounds.poll();
+        if (tracedEvents != null) {
+            for (final PlatformEvent event : tracedEvents) {
+                stamp(stage, event);
+            }
+        }
+    }
+
+    /**
+     * Forget all consensus rounds that have not yet been handled. Must be called when the platform is cleared, e.g.
+     * before a reconnect, since rounds that were waiting to be handled at that time will never be handled.
+     */
+    public void clear() {
+        pendingRounds.clear();
+    }
+
+    /**
+     * Start a trace for the event if it is sampled.
+     *
+     * @param event the event
+     */
+    private void startTrace(@NonNull final PlatformEvent event) {
+        if (eventCount.getAndIncrement() % sampleInterval != 0) {
+            return;
+        }
+        final EventTrace trace = new EventTrace(stageNames.size());
+        trace.stamp(0, time.nanoTime());
+        event.setTrace(trace);
+    }
+
+    /**
+     * Stamp a stage of the event's trace, if it has one, and record the latency of the stage.
+     *
+     * @param stage the index of the stage
+     * @param event the event
+     */
+    private void stamp(final int stage, @NonNull final PlatformEvent event) {
+        final EventTrace trace = event.getTrace();
+        if (trace == null) {
+            return;
+        }
+        final long now = time.nanoTime();
+        if (!trace.stamp(stage, now)) {
+            return;
+        }
+
+        // stages that dropped or bypassed the event are not stamped, so measure from the last stage that was
+        for (int previousStage = stage - 1; previousStage >= 0; previousStage--) {
+            final long previous = trace.getTimestamp(previousStage);
+            if (previous != EventTrace.NOT_STAMPED) {
+                final long latencyMicros = (now - previous) / 1_000;
+                averageStageLatencies.get(stage - 1).update(latencyMicros);
+                maxStageLatencies.get(stage - 1).update(latencyMicros);
+                break;
+            }
+        }
+
+        if (stage == stageNames.size() - 1) {
+            completeTrace(event, trace, now);
+        }
+    }
+
+    /**
+     * Record the total latency of a trace that reached the last stage, and log it if it is slow.
+     *
+     * @param event the event
+     * @param trace the trace of the event
+     * @param now   the time the event left the last stage
+     */
+    private void completeTrace(@NonNull final PlatformEvent event, @NonNull final EventTrace trace, final long now) {
+        final long totalNanos = now - trace.getTimestamp(0);
+        averageTotalLatency.update(totalNanos / 1_000);
+        maxTotalLatency.update(totalNanos / 1_000);
+
+        if (slowEventThresholdNanos > 0 && totalNanos >= slowEventThresholdNanos) {
+            slowEventLogger.warn(
+                    INTAKE_EVENT.getMarker(),
+                    "Event {} took {} ms from {} to {}: {}",
+                    event.getDescriptor(),
+                    totalNanos / 1_000_000,
+                    stageNames.getFirst(),
+                    stageNames.getLast(),
+                    formatTrace(trace));
+        }
+    }
+
+    /**
+     * Describe the time at which each stamped stage was left, relative to the first stage.
+     *
+     * @param trace the trace
+     * @return a description of the trace
+     */
+    @NonNull
+    String formatTrace(@NonNull final EventTrace trace) {
+        final long start = trace.getTimestamp(0);
+        final StringBuilder sb = new StringBuilder();
+        for (int stage = 0; stage < trace.getStageCount(); stage++) {
+            final long timestamp = trace.getTimestamp(stage);
+            if (timestamp == EventTrace.NOT_STAMPED) {
+                continue;
+            }
+            if (!sb.isEmpty()) {
+                sb.append(", ");
+            }
+            sb.append(stageNames.get(stage)).append(" +").append((timestamp - start) / 1_000).append("us");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,23 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.wiring;
+
+import com.swirlds.config.api.ConfigData;
+import com.swirlds.config.api.ConfigProperty;
+import java.time.Duration;
+
+/**
+ * Configuration for sampled end-to-end latency tracing of events.
+ *
+ * @param enabled            if true, then a sample of the events received via gossip is traced through the platform
+ *                           wiring, and the latency of each stage is reported as metrics
+ * @param sampleInterval     one out of this many events received via gossip is traced
+ * @param slowEventThreshold if a traced event takes longer than this from gossip receipt until it is handled, then its
+ *                           trace is logged. Zero disables logging of slow traces.
+ * @param slowEventLogPeriod the minimum amount of time between logged slow traces
+ */
+@ConfigData("eventTracing")
+public record EventTracingConfig(
+        @ConfigProperty(defaultValue = "false") boolean enabled,
+        @ConfigProperty(defaultValue = "1000") int sampleInterval,
+        @ConfigProperty(defaultValue = "10s") Duration slowEventThreshold,
+        @ConfigProperty(defaultValue = "1m") Duration slowEventLogPeriod) {}
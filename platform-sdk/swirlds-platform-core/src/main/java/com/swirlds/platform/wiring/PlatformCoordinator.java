@@ -150,6 +150,10 @@ public class PlatformCoordinator {
         eventSignatureValidatorWiring.flush();
         orphanBufferWiring.flush();
         if (pcesInlineWriterWiring != null) {
+            // Events held back for a group commit must be released before the writer is flushed
+            pcesInlineWriterWiring
+                    .getBatchInputWire(InlinePcesWriter::syncPendingEvents)
+                    .inject(NoInput.getInstance());
             pcesInlineWriterWiring.flush();
         }
         gossipWiring.flush();
@@ -16,9 +16,12 @@ import com.swirlds.common.io.IOIterator;
 import com.swirlds.common.stream.RunningEventHashOverride;
 import com.swirlds.component.framework.component.ComponentWiring;
 import com.swirlds.component.framework.model.WiringModel;
+import com.swirlds.component.framework.schedulers.TaskScheduler;
 import com.swirlds.component.framework.schedulers.builders.TaskSchedulerConfiguration;
+import com.swirlds.component.framework.schedulers.builders.TaskSchedulerType;
 import com.swirlds.component.framework.transformers.RoutableData;
 import com.swirlds.component.framework.transformers.WireFilter;
+import com.swirlds.component.framework.wires.input.BindableInputWire;
 import com.swirlds.component.framework.wires.input.InputWire;
 import com.swirlds.component.framework.wires.output.OutputWire;
 import com.swirlds.component.framework.wires.output.StandardOutputWire;
@@ -34,7 +37,9 @@ import com.swirlds.platform.event.branching.BranchDetector;
 import com.swirlds.platform.event.branching.BranchReporter;
 import com.swirlds.platform.event.deduplication.EventDeduplicator;
 import com.swirlds.platform.event.orphan.OrphanBuffer;
+import com.swirlds.platform.event.preconsensus.FileSyncOption;
 import com.swirlds.platform.event.preconsensus.InlinePcesWriter;
+import com.swirlds.platform.event.preconsensus.PcesConfig;
 import com.swirlds.platform.event.preconsensus.PcesReplayer;
 import com.swirlds.platform.event.resubmitter.TransactionResubmitter;
 import com.swirlds.platform.event.stream.ConsensusEventStream;
@@ -70,10 +75,13 @@ import com.swirlds.platform.wiring.components.PcesReplayerWiring;
 import com.swirlds.platform.wiring.components.RunningEventHashOverrideWiring;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.Set;
 import java.util.function.Function;
+import org.hiero.base.crypto.Hash;
 import org.hiero.consensus.config.EventConfig;
 import org.hiero.consensus.crypto.EventHasher;
 import org.hiero.consensus.event.creator.impl.EventCreationManager;
@@ -147,6 +155,11 @@ public class PlatformWiring {
     private final ComponentWiring<BranchDetector, PlatformEvent> branchDetectorWiring;
     private final ComponentWiring<BranchReporter, Void> branchReporterWiring;
 
+    /**
+     * Traces events through the wiring, or null if event tracing is disabled.
+     */
+    private EventLatencyTracer eventLatencyTracer;
+
     /**
      * Constructor.
      *
@@ -340,59 +353,152 @@ public class PlatformWiring {
     }
 
     /**
-     * Wire the components together.
+     * A stage of the event intake pipeline.
+     *
+     * @param name   the name of the stage, which is the name of its scheduler
+     * @param input  the input wire events enter the stage through, or null for the first stage
+     * @param output the output wire events leave the stage through
      */
-    private void wire() {
-        /*
-         * When the birth round migration shim is active, the path should be:
-         *   -> EventHasher -> BirthRoundMigrationShim -> InternalEventValidator ->
-         * When the shim is not active, the path should be:
-         *   -> EventHasher -> InternalEventValidator ->
-         */
+    private record IntakeStage(
+            @NonNull String name, @Nullable InputWire<PlatformEvent> input, @NonNull OutputWire<PlatformEvent> output) {
 
-        final InputWire<PlatformEvent> hasherInputWire =
-                eventHasherWiring.getInputWire(EventHasher::hashEvent, "unhashed event");
-        gossipWiring.getEventOutput().solderTo(hasherInputWire);
+        IntakeStage(@NonNull final InputWire<PlatformEvent> input, @NonNull final OutputWire<PlatformEvent> output) {
+            this(input.getTaskSchedulerName(), input, output);
+        }
+    }
 
+    /**
+     * Lists the stages of the event intake pipeline, in the order events pass through them. {@link #wire()} solders
+     * each stage to the next one, and the {@link EventLatencyTracer} traces the same stages, so they can't get out of
+     * sync when components are added to or removed from the pipeline.
+     * <p>
+     * When the birth round migration shim is active, the path is:
+     *   -> EventHasher -> BirthRoundMigrationShim -> InternalEventValidator ->
+     * When the shim is not active, the path is:
+     *   -> EventHasher -> InternalEventValidator ->
+     *
+     * @return the stages of the event intake pipeline
+     */
+    @NonNull
+    private List<IntakeStage> intakeStages() {
+        final List<IntakeStage> stages = new ArrayList<>();
+        final OutputWire<PlatformEvent> gossipEventOutput = gossipWiring.getEventOutput();
+        stages.add(new IntakeStage(gossipEventOutput.getName(), null, gossipEventOutput));
+        stages.add(new IntakeStage(
+                eventHasherWiring.getInputWire(EventHasher::hashEvent, "unhashed event"),
+                eventHasherWiring.getOutputWire()));
         if (birthRoundMigrationShimWiring != null) {
-            eventHasherWiring
-                    .getOutputWire()
-                    .solderTo(birthRoundMigrationShimWiring.getInputWire(BirthRoundMigrationShim::migrateEvent));
-            birthRoundMigrationShimWiring
-                    .getOutputWire()
-                    .solderTo(internalEventValidatorWiring.getInputWire(InternalEventValidator::validateEvent));
-        } else {
-            eventHasherWiring
-                    .getOutputWire()
-                    .solderTo(internalEventValidatorWiring.getInputWire(InternalEventValidator::validateEvent));
+            stages.add(new IntakeStage(
+                    birthRoundMigrationShimWiring.getInputWire(BirthRoundMigrationShim::migrateEvent),
+                    birthRoundMigrationShimWiring.getOutputWire()));
         }
+        stages.add(new IntakeStage(
+                internalEventValidatorWiring.getInputWire(InternalEventValidator::validateEvent),
+                internalEventValidatorWiring.getOutputWire()));
+        stages.add(new IntakeStage(
+                eventDeduplicatorWiring.getInputWire(EventDeduplicator::handleEvent),
+                eventDeduplicatorWiring.getOutputWire()));
+        stages.add(new IntakeStage(
+                eventSignatureValidatorWiring.getInputWire(EventSignatureValidator::validateSignature),
+                eventSignatureValidatorWiring.getOutputWire()));
+        stages.add(new IntakeStage(
+                orphanBufferWiring.getInputWire(OrphanBuffer::handleEvent), orphanBufferWiring.getSplitOutput()));
+        stages.add(new IntakeStage(pcesInlineWriterEventInput(), pcesInlineWriterWiring.getOutputWire()));
+        return stages;
+    }
 
-        internalEventValidatorWiring
-                .getOutputWire()
-                .solderTo(eventDeduplicatorWiring.getInputWire(EventDeduplicator::handleEvent));
-        eventDeduplicatorWiring
-                .getOutputWire()
-                .solderTo(eventSignatureValidatorWiring.getInputWire(EventSignatureValidator::validateSignature));
-        eventSignatureValidatorWiring
-                .getOutputWire()
-                .solderTo(orphanBufferWiring.getInputWire(OrphanBuffer::handleEvent));
+    /**
+     * Get the input wire events are written to the PCES through. With group commit, events are written in batches, and
+     * events made durable by a batch are passed on one at a time.
+     *
+     * @return the input wire of the inline PCES writer for events
+     */
+    @NonNull
+    private InputWire<PlatformEvent> pcesInlineWriterEventInput() {
+        if (platformContext.getConfiguration().getConfigData(PcesConfig.class).inlinePcesSyncOption()
+                == FileSyncOption.GROUP_COMMIT) {
+            return pcesInlineWriterWiring.getBatchInputWire(InlinePcesWriter::writeEvents);
+        }
+        return pcesInlineWriterWiring.getInputWire(InlinePcesWriter::writeEvent);
+    }
+
+    /**
+     * If event tracing is enabled, solder the outputs of the event intake stages, consensus and the transaction
+     * handler to an {@link EventLatencyTracer}. This must be done before the outputs are soldered to the next stage,
+     * so that an event is stamped before it is passed on. Stages are named after their schedulers, which are the
+     * names of the vertices in the wiring flowchart.
+     *
+     * @param intakeStages the stages of the event intake pipeline, in the order events pass through them
+     */
+    private void wireEventLatencyTracer(@NonNull final List<IntakeStage> intakeStages) {
+        if (!platformContext.getConfiguration().getConfigData(EventTracingConfig.class).enabled()) {
+            return;
+        }
+        final EventLatencyTracer tracer = new EventLatencyTracer(platformContext);
+        eventLatencyTracer = tracer;
+        final TaskScheduler<Void> scheduler = model.<Void>schedulerBuilder("eventLatencyTracer")
+                .withType(TaskSchedulerType.DIRECT_THREADSAFE)
+                .build();
+
+        for (final IntakeStage intakeStage : intakeStages) {
+            final int stage = tracer.addStage(intakeStage.name());
+            final BindableInputWire<PlatformEvent, Void> inputWire = scheduler.buildInputWire(intakeStage.name());
+            inputWire.bindConsumer(event -> tracer.traceEvent(stage, event));
+            intakeStage.output().solderTo(inputWire);
+        }
+
+        final OutputWire<ConsensusRound> consensusRoundOutputWire = consensusEngineWiring.getSplitOutput();
+        final int consensusStage = tracer.addStage(consensusEngineWiring.getSchedulerName());
+        final BindableInputWire<ConsensusRound, Void> consensusInputWire =
+                scheduler.buildInputWire(consensusEngineWiring.getSchedulerName());
+        consensusInputWire.bindConsumer(round -> tracer.traceRound(consensusStage, round));
+        consensusRoundOutputWire.solderTo(consensusInputWire);
+
+        // The transaction handler has an output for each non-empty round it handles, in consensus order
+        final OutputWire<TransactionHandlerResult> handledRoundOutputWire = transactionHandlerWiring.getOutputWire();
+        final int handledStage = tracer.addStage(transactionHandlerWiring.getSchedulerName());
+        final BindableInputWire<TransactionHandlerResult, Void> handledInputWire =
+                scheduler.buildInputWire(transactionHandlerWiring.getSchedulerName());
+        handledInputWire.bindConsumer(result -> tracer.traceHandledRound(handledStage));
+        handledRoundOutputWire.solderTo(handledInputWire);
+    }
+
+    /**
+     * Wire the components together.
+     */
+    private void wire() {
+        final List<IntakeStage> intakeStages = intakeStages();
+        wireEventLatencyTracer(intakeStages);
+        for (int i = 1; i < intakeStages.size(); i++) {
+            intakeStages.get(i - 1).output().solderTo(Objects.requireNonNull(intakeStages.get(i).input()));
+        }
+
+        // events replayed from the PCES enter either at the hasher or at the stage right after it
+        final InputWire<PlatformEvent> hasherInputWire =
+                eventHasherWiring.getInputWire(EventHasher::hashEvent, "unhashed event");
+        final InputWire<PlatformEvent> hashedEventInputWire = Objects.requireNonNull(intakeStages.get(2).input());
         final OutputWire<PlatformEvent> splitOrphanBufferOutput = orphanBufferWiring.getSplitOutput();
+        final OutputWire<PlatformEvent> pcesInlineWriterOutput = pcesInlineWriterWiring.getOutputWire();
 
-        splitOrphanBufferOutput.solderTo(pcesInlineWriterWiring.getInputWire(InlinePcesWriter::writeEvent));
+        final PcesConfig pcesConfig = platformContext.getConfiguration().getConfigData(PcesConfig.class);
+        if (pcesConfig.inlinePcesSyncOption() == FileSyncOption.GROUP_COMMIT) {
+            // Make sure that a batch of events is synced even if no further events arrive
+            model.buildHeartbeatWire(pcesConfig.inlinePcesGroupCommitMaxDelay())
+                    .solderTo(pcesInlineWriterWiring.getBatchInputWire(InlinePcesWriter::checkGroupCommitDelay), OFFER);
+        }
 
         // Make sure that an event is persisted before being sent to consensus. This avoids the situation where we
         // reach consensus with events that might be lost due to a crash
-        pcesInlineWriterWiring.getOutputWire().solderTo(consensusEngineWiring.getInputWire(ConsensusEngine::addEvent));
+        pcesInlineWriterOutput.solderTo(consensusEngineWiring.getInputWire(ConsensusEngine::addEvent));
 
         // Make sure events are persisted before being gossipped. This prevents accidental branching in the case
         // where an event is created, gossipped, and then the node crashes before the event is persisted.
         // After restart, a node will not be aware of this event, so it can create a branch
-        pcesInlineWriterWiring.getOutputWire().solderTo(gossipWiring.getEventInput(), INJECT);
+        pcesInlineWriterOutput.solderTo(gossipWiring.getEventInput(), INJECT);
 
         // Avoid using events as parents before they are persisted
-        pcesInlineWriterWiring
-                .getOutputWire()
-                .solderTo(eventCreationManagerWiring.getInputWire(EventCreationManager::registerEvent));
+        pcesInlineWriterOutput.solderTo(
+                eventCreationManagerWiring.getInputWire(EventCreationManager::registerEvent));
 
         model.getHealthMonitorWire()
                 .solderTo(eventCreationManagerWiring.getInputWire(EventCreationManager::reportUnhealthyDuration));
@@ -489,7 +595,15 @@ public class PlatformWiring {
 
         solderEventWindow();
 
-        pcesReplayerWiring.eventOutput().solderTo(hasherInputWire);
+        if (pcesConfig.pipelinedReplay()) {
+            // the replayer hashes events ahead of time
+            pcesReplayerWiring.eventOutput().solderTo(hashedEventInputWire);
+        } else {
+            pcesReplayerWiring.eventOutput().solderTo(hasherInputWire);
+        }
+        pcesReplayerWiring
+                .trustedEventHashesOutput()
+                .solderTo(eventSignatureValidatorWiring.getInputWire(EventSignatureValidator::trustReplayedEvents));
 
         final OutputWire<ConsensusRound> consensusRoundOutputWire = consensusEngineWiring.getSplitOutput();
 
@@ -644,6 +758,7 @@ public class PlatformWiring {
         eventWindowManagerWiring.getInputWire(EventWindowManager::updateEventWindow);
         orphanBufferWiring.getInputWire(OrphanBuffer::clear);
         pcesInlineWriterWiring.getInputWire(InlinePcesWriter::registerDiscontinuity);
+        pcesInlineWriterWiring.getBatchInputWire(InlinePcesWriter::syncPendingEvents);
         stateSignatureCollectorWiring.getInputWire(StateSignatureCollector::clear);
         issDetectorWiring.getInputWire(IssDetector::overridingState);
         issDetectorWiring.getInputWire(IssDetector::signalEndOfPreconsensusReplay);
@@ -787,6 +902,17 @@ public class PlatformWiring {
         return pcesReplayerWiring.eventOutput();
     }
 
+    /**
+     * Get the output wire that the replayer uses to pass the hashes of replayed events, whose signatures don't need to
+     * be verified, to the event signature validator.
+     *
+     * @return the output wire for the hashes of trusted replayed events
+     */
+    @NonNull
+    public StandardOutputWire<Set<Hash>> getPcesReplayerTrustedEventHashesOutput() {
+        return pcesReplayerWiring.trustedEventHashesOutput();
+    }
+
     /**
      * Get the input wire that the hashlogger uses to accept the signed state.
      *
@@ -872,12 +998,15 @@ public class PlatformWiring {
     }
 
     /**
-     * Signal the end of the preconsensus replay to the ISS detector.
+     * Signal the end of the preconsensus replay to the ISS detector and the event signature validator.
      */
     public void signalEndOfPcesReplay() {
         issDetectorWiring
                 .getInputWire(IssDetector::signalEndOfPreconsensusReplay)
                 .put(NoInput.getInstance());
+        eventSignatureValidatorWiring
+                .getInputWire(EventSignatureValidator::signalEndOfPcesReplay)
+                .put(NoInput.getInstance());
     }
 
     /**
@@ -970,5 +1099,9 @@ public class PlatformWiring {
      */
     public void clear() {
         platformCoordinator.clear();
+        if (eventLatencyTracer != null) {
+            // Rounds that were squelched or flushed will never be handled
+            eventLatencyTracer.clear();
+        }
     }
 }
@@ -14,6 +14,8 @@ import com.swirlds.component.framework.wires.output.StandardOutputWire;
 import com.swirlds.platform.event.preconsensus.PcesReplayer;
 import com.swirlds.platform.wiring.NoInput;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Set;
+import org.hiero.base.crypto.Hash;
 import org.hiero.consensus.model.event.PlatformEvent;
 
 /**
@@ -23,11 +25,14 @@ import org.hiero.consensus.model.event.PlatformEvent;
  * @param doneStreamingPcesOutputWire the output wire which indicates that PCES replay is complete
  * @param eventOutput                 the secondary output wire, for events to be passed into the intake pipeline during
  *                                    replay
+ * @param trustedEventHashesOutput    the secondary output wire, for the hashes of replayed events whose signatures
+ *                                    don't need to be verified
  */
 public record PcesReplayerWiring(
         @NonNull InputWire<IOIterator<PlatformEvent>> pcesIteratorInputWire,
         @NonNull OutputWire<NoInput> doneStreamingPcesOutputWire,
-        @NonNull StandardOutputWire<PlatformEvent> eventOutput) {
+        @NonNull StandardOutputWire<PlatformEvent> eventOutput,
+        @NonNull StandardOutputWire<Set<Hash>> trustedEventHashesOutput) {
 
     /**
      * Create a new instance of this wiring.
@@ -45,6 +50,7 @@ public record PcesReplayerWiring(
         return new PcesReplayerWiring(
                 taskScheduler.buildInputWire("event files to replay"),
                 taskScheduler.getOutputWire(),
+                taskScheduler.buildSecondaryOutputWire(),
                 taskScheduler.buildSecondaryOutputWire());
     }
 
@@ -0,0 +1,163 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.consensus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.test.fixtures.WeightGenerators;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.common.utility.IntReference;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.platform.ConsensusImpl;
+import com.swirlds.platform.internal.EventImpl;
+import com.swirlds.platform.metrics.NoOpConsensusMetrics;
+import com.swirlds.platform.test.fixtures.event.emitter.EventEmitterBuilder;
+import com.swirlds.platform.test.fixtures.event.emitter.StandardEventEmitter;
+import java.util.ArrayList;
+import java.util.List;
+import org.hiero.consensus.model.hashgraph.ConsensusRound;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ConsensusMetadataArenaTest {
+
+    private static List<EventImpl> emitEvents(final int numNodes, final int numEvents) {
+        final StandardEventEmitter emitter = EventEmitterBuilder.newBuilder()
+                .setRandomSeed(0)
+                .setNumNodes(numNodes)
+                .setWeightGenerator(WeightGenerators.BALANCED)
+                .build();
+        return emitter.emitEvents(numEvents);
+    }
+
+    private static List<ConsensusRound> calculateConsensus(
+            final int numNodes, final int numEvents, final boolean compactMetadata) {
+        final PlatformContext platformContext = TestPlatformContextBuilder.create()
+                .withConfiguration(new TestConfigBuilder()
+                        .withValue(ConsensusConfig_.COMPACT_METADATA, compactMetadata)
+                        .getOrCreateConfig())
+                .build();
+        final StandardEventEmitter emitter = EventEmitterBuilder.newBuilder()
+                .setRandomSeed(0)
+                .setNumNodes(numNodes)
+                .setWeightGenerator(WeightGenerators.BALANCED)
+                .build();
+        final List<EventImpl> events = emitter.emitEvents(numEvents);
+        final ConsensusImpl consensus = new ConsensusImpl(
+                platformContext,
+                new NoOpConsensusMetrics(),
+                emitter.getGraphGenerator().getRoster());
+        final List<ConsensusRound> rounds = new ArrayList<>();
+        for (final EventImpl event : events) {
+            rounds.addAll(consensus.addEvent(event));
+        }
+        return rounds;
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {4, 40, 100})
+    @DisplayName("Consensus with compact metadata matches consensus with metadata stored in events")
+    void sameConsensus(final int numNodes) {
+        final int numEvents = 50 * numNodes;
+        final List<ConsensusRound> expected = calculateConsensus(numNodes, numEvents, false);
+        final List<ConsensusRound> actual = calculateConsensus(numNodes, numEvents, true);
+
+        assertThat(expected).isNotEmpty();
+        assertThat(actual).hasSameSizeAs(expected);
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(actual.get(i).getRoundNum()).isEqualTo(expected.get(i).getRoundNum());
+            // events are equal only if their consensus timestamps and orders are equal
+            assertThat(actual.get(i).getConsensusEvents())
+                    .isEqualTo(expected.get(i).getConsensusEvents());
+            assertThat(actual.get(i).getSnapshot()).isEqualTo(expected.get(i).getSnapshot());
+        }
+    }
+
+    @Test
+    @DisplayName("Metadata is stored and read back")
+    void storeMetadata() {
+        final List<EventImpl> events = emitEvents(4, 3);
+        final EventImpl x = events.get(2);
+        final ConsensusMetadataArena arena = new ConsensusMetadataArena(4);
+
+        assertThat(arena.hasLastSee(x)).isFalse();
+        arena.initLastSee(x, 4);
+        arena.setLastSee(x, 0, x);
+        arena.setLastSee(x, 1, events.get(0));
+        arena.setLastSee(x, 2, null);
+        arena.setLastSee(x, 3, events.get(1));
+        assertThat(arena.hasLastSee(x)).isTrue();
+        assertThat(arena.hasStronglySeeP(x)).isFalse();
+        assertThat(arena.getLastSee(x, 0)).isSameAs(x);
+        assertThat(arena.getLastSee(x, 1)).isSameAs(events.get(0));
+        assertThat(arena.getLastSee(x, 2)).isNull();
+        assertThat(arena.getLastSee(x, 3)).isSameAs(events.get(1));
+
+        arena.initStronglySeeP(x, 4);
+        arena.setStronglySeeP(x, 1, events.get(1));
+        assertThat(arena.getStronglySeeP(x, 0)).isNull();
+        assertThat(arena.getStronglySeeP(x, 1)).isSameAs(events.get(1));
+
+        arena.clearMetadata(x);
+        assertThat(arena.hasLastSee(x)).isFalse();
+        assertThat(arena.hasStronglySeeP(x)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Votes are stored for any number of elections")
+    void storeVotes() {
+        final EventImpl x = emitEvents(4, 1).getFirst();
+        final ConsensusMetadataArena arena = new ConsensusMetadataArena(4);
+        final CandidateWitness first = new CandidateWitness(x, new IntReference(0), 0);
+        final CandidateWitness last = new CandidateWitness(x, new IntReference(0), 99);
+
+        assertThat(arena.getVote(x, first)).isFalse();
+        arena.initVoting(x, 1);
+        arena.setVote(x, first, true);
+        assertThat(arena.getVote(x, first)).isTrue();
+        assertThat(arena.getVote(x, last)).isFalse();
+
+        // more elections than fit in the current vote words
+        arena.initVoting(x, 100);
+        assertThat(arena.getVote(x, first)).isFalse();
+        arena.setVote(x, last, true);
+        assertThat(arena.getVote(x, last)).isTrue();
+        arena.setVote(x, last, false);
+        assertThat(arena.getVote(x, last)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Pages are dropped once released and no longer referenced")
+    void compact() {
+        final int numEvents = 2 * ConsensusMetadataArena.PAGE_SIZE + 1;
+        final List<EventImpl> events = emitEvents(4, numEvents);
+        final ConsensusMetadataArena arena = new ConsensusMetadataArena(4);
+        for (final EventImpl event : events) {
+            arena.initLastSee(event, 4);
+            arena.setLastSee(event, 0, event);
+        }
+        assertThat(arena.numPages()).isEqualTo(3);
+
+        // the last event refers to the first one, so all pages are kept
+        final EventImpl last = events.getLast();
+        arena.setLastSee(last, 1, events.getFirst());
+        for (int i = 0; i < numEvents - 1; i++) {
+            arena.release(events.get(i));
+        }
+        arena.compact();
+        assertThat(arena.numPages()).isEqualTo(3);
+        assertThat(arena.getLastSee(last, 1)).isSameAs(events.getFirst());
+
+        // once the reference is gone, only the page of the last event is kept
+        arena.clearMetadata(last);
+        arena.compact();
+        assertThat(arena.numPages()).isEqualTo(1);
+        assertThat(arena.hasLastSee(events.getFirst())).isFalse();
+
+        // released events get new rows if their metadata is needed again
+        arena.initLastSee(events.getFirst(), 4);
+        assertThat(arena.hasLastSee(events.getFirst())).isTrue();
+    }
+}
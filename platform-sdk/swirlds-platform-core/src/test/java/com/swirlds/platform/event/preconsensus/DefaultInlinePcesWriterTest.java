@@ -2,6 +2,9 @@
 package com.swirlds.platform.event.preconsensus;
 
 import static org.hiero.consensus.model.event.AncientMode.BIRTH_ROUND_THRESHOLD;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.swirlds.base.test.fixtures.time.FakeTime;
 import com.swirlds.common.context.PlatformContext;
@@ -9,10 +12,12 @@ import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
 import com.swirlds.config.api.Configuration;
 import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
 import com.swirlds.platform.test.fixtures.event.PcesWriterTestUtils;
+import com.swirlds.platform.wiring.NoInput;
 import com.swirlds.platform.test.fixtures.event.generator.StandardGraphGenerator;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -23,6 +28,7 @@ import org.hiero.consensus.model.event.AncientMode;
 import org.hiero.consensus.model.event.PlatformEvent;
 import org.hiero.consensus.model.node.NodeId;
 import org.hiero.consensus.model.test.fixtures.hashgraph.EventWindowBuilder;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
@@ -144,4 +150,81 @@ class DefaultInlinePcesWriterTest {
 
         PcesWriterTestUtils.verifyStream(selfId, events, platformContext, 0, ancientMode);
     }
+
+    @ParameterizedTest
+    @EnumSource(AncientMode.class)
+    void groupCommitTest(final AncientMode ancientMode) throws Exception {
+        final Configuration configuration = new TestConfigBuilder()
+                .withValue(PcesConfig_.DATABASE_DIRECTORY, tempDir.toString())
+                .withValue(EventConfig_.USE_BIRTH_ROUND_ANCIENT_THRESHOLD, ancientMode == BIRTH_ROUND_THRESHOLD)
+                .withValue(PcesConfig_.INLINE_PCES_SYNC_OPTION, FileSyncOption.GROUP_COMMIT.name())
+                .withValue(PcesConfig_.PCES_FILE_WRITER_TYPE, PcesFileWriterType.FILE_CHANNEL.name())
+                .withValue(PcesConfig_.INLINE_PCES_GROUP_COMMIT_MAX_DELAY, "1h")
+                .withValue(PcesConfig_.INLINE_PCES_GROUP_COMMIT_MAX_BYTES, 4096)
+                .getOrCreateConfig();
+        final PlatformContext platformContext = buildContext(configuration);
+        final Random random = RandomUtils.getRandomPrintSeed();
+        final StandardGraphGenerator generator = PcesWriterTestUtils.buildGraphGenerator(platformContext, random);
+
+        final List<PlatformEvent> events = new LinkedList<>();
+        for (int i = 0; i < numEvents; i++) {
+            events.add(generator.generateEventWithoutIndex().getBaseEvent());
+        }
+
+        final PcesFileTracker pcesFiles = new PcesFileTracker(ancientMode);
+        final PcesFileManager fileManager = new PcesFileManager(platformContext, pcesFiles, selfId, 0);
+        final DefaultInlinePcesWriter writer = new DefaultInlinePcesWriter(platformContext, fileManager, selfId);
+
+        writer.beginStreamingNewEvents();
+        final List<PlatformEvent> releasedEvents = new ArrayList<>();
+        int emptyOutputs = 0;
+        for (final PlatformEvent event : events) {
+            final List<PlatformEvent> output = writer.writeEvents(List.of(event));
+            if (output.isEmpty()) {
+                emptyOutputs++;
+            }
+            releasedEvents.addAll(output);
+        }
+        releasedEvents.addAll(writer.syncPendingEvents(List.of(NoInput.getInstance())));
+
+        assertTrue(emptyOutputs > 0, "events should have been held back for a batch");
+        assertEquals(events, releasedEvents, "all events should be released in order");
+        assertTrue(writer.syncPendingEvents(List.of(NoInput.getInstance())).isEmpty());
+
+        // forces the writer to close the current file so that we can verify the stream
+        writer.registerDiscontinuity(1L);
+
+        PcesWriterTestUtils.verifyStream(selfId, events, platformContext, 0, ancientMode);
+    }
+
+    @Test
+    void groupCommitDelayTest() throws Exception {
+        final FakeTime time = new FakeTime();
+        final Configuration configuration = new TestConfigBuilder()
+                .withValue(PcesConfig_.DATABASE_DIRECTORY, tempDir.toString())
+                .withValue(PcesConfig_.INLINE_PCES_SYNC_OPTION, FileSyncOption.GROUP_COMMIT.name())
+                .withValue(PcesConfig_.PCES_FILE_WRITER_TYPE, PcesFileWriterType.FILE_CHANNEL.name())
+                .withValue(EventConfig_.USE_BIRTH_ROUND_ANCIENT_THRESHOLD, false)
+                .withValue(PcesConfig_.INLINE_PCES_GROUP_COMMIT_MAX_DELAY, "10ms")
+                .getOrCreateConfig();
+        final PlatformContext platformContext = TestPlatformContextBuilder.create()
+                .withConfiguration(configuration)
+                .withTime(time)
+                .build();
+        final StandardGraphGenerator generator =
+                PcesWriterTestUtils.buildGraphGenerator(platformContext, RandomUtils.getRandomPrintSeed());
+        final PcesFileManager fileManager =
+                new PcesFileManager(platformContext, new PcesFileTracker(AncientMode.GENERATION_THRESHOLD), selfId, 0);
+        final DefaultInlinePcesWriter writer = new DefaultInlinePcesWriter(platformContext, fileManager, selfId);
+        writer.beginStreamingNewEvents();
+
+        final PlatformEvent event = generator.generateEventWithoutIndex().getBaseEvent();
+        assertThrows(IllegalStateException.class, () -> writer.writeEvent(event));
+        assertTrue(writer.writeEvents(List.of(event)).isEmpty());
+        assertTrue(writer.checkGroupCommitDelay(List.of(time.now())).isEmpty());
+
+        time.tick(Duration.ofMillis(10));
+        assertEquals(List.of(event), writer.checkGroupCommitDelay(List.of(time.now())));
+        assertTrue(writer.checkGroupCommitDelay(List.of(time.now())).isEmpty());
+    }
 }
@@ -0,0 +1,108 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.event.preconsensus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.common.io.IOIterator;
+import com.swirlds.common.test.fixtures.Randotron;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.hiero.base.crypto.Hash;
+import org.hiero.base.crypto.test.fixtures.CryptoRandomUtils;
+import org.hiero.consensus.crypto.DefaultEventHasher;
+import org.hiero.consensus.model.event.PlatformEvent;
+import org.hiero.consensus.model.test.fixtures.event.TestingEventBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link PcesReadAheadIterator} class
+ */
+@DisplayName("PcesReadAheadIterator Tests")
+class PcesReadAheadIteratorTests {
+
+    /**
+     * Create an iterator over the given events, that throws an exception after the last event if requested.
+     */
+    private static IOIterator<PlatformEvent> ioIterator(
+            final List<PlatformEvent> events, final boolean throwAfterLastEvent) {
+        final Iterator<PlatformEvent> eventIterator = events.iterator();
+        return new IOIterator<>() {
+            @Override
+            public boolean hasNext() throws IOException {
+                if (!eventIterator.hasNext() && throwAfterLastEvent) {
+                    throw new IOException("corrupted file");
+                }
+                return eventIterator.hasNext();
+            }
+
+            @Override
+            public PlatformEvent next() {
+                return eventIterator.next();
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Events are returned hashed and in order")
+    void eventsInOrder() throws IOException {
+        final Randotron random = Randotron.create();
+        final List<PlatformEvent> events = new ArrayList<>();
+        final List<Hash> expectedHashes = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            final PlatformEvent event = new TestingEventBuilder(random).build();
+            expectedHashes.add(new DefaultEventHasher().hashEvent(event).getHash());
+            event.setHash(CryptoRandomUtils.randomHash(random));
+            events.add(event);
+        }
+
+        try (final PcesReadAheadIterator iterator = new PcesReadAheadIterator(ioIterator(events, false), 16, 4)) {
+            for (int i = 0; i < events.size(); i++) {
+                assertTrue(iterator.hasNext());
+                final PlatformEvent event = iterator.next();
+                assertSame(events.get(i), event);
+                assertEquals(expectedHashes.get(i), event.getHash());
+            }
+            assertFalse(iterator.hasNext());
+            assertThrows(NoSuchElementException.class, iterator::next);
+        }
+    }
+
+    @Test
+    @DisplayName("Read failures are thrown after the events read before them")
+    void readFailure() throws IOException {
+        final Randotron random = Randotron.create();
+        final List<PlatformEvent> events = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            events.add(new TestingEventBuilder(random).build());
+        }
+
+        try (final PcesReadAheadIterator iterator = new PcesReadAheadIterator(ioIterator(events, true), 4, 2)) {
+            for (final PlatformEvent expected : events) {
+                assertSame(expected, iterator.next());
+            }
+            assertThrows(IOException.class, iterator::hasNext);
+        }
+    }
+
+    @Test
+    @DisplayName("Closing the iterator before all events are consumed")
+    void earlyClose() throws IOException {
+        final Randotron random = Randotron.create();
+        final List<PlatformEvent> events = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            events.add(new TestingEventBuilder(random).build());
+        }
+
+        final PcesReadAheadIterator iterator = new PcesReadAheadIterator(ioIterator(events, false), 4, 2);
+        assertSame(events.getFirst(), iterator.next());
+        iterator.close();
+    }
+}
@@ -7,9 +7,15 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.hedera.hapi.platform.state.ConsensusSnapshot;
+import com.hedera.hapi.platform.state.JudgeId;
+
 import com.swirlds.base.test.fixtures.time.FakeTime;
 import com.swirlds.common.context.PlatformContext;
 import com.swirlds.common.io.IOIterator;
@@ -17,20 +23,24 @@ import com.swirlds.common.test.fixtures.Randotron;
 import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
 import com.swirlds.component.framework.wires.output.StandardOutputWire;
 import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.platform.state.service.PlatformStateFacade;
 import com.swirlds.platform.state.signed.ReservedSignedState;
 import com.swirlds.platform.state.signed.SignedState;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
+import org.hiero.base.crypto.Hash;
 import org.hiero.consensus.model.event.PlatformEvent;
 import org.hiero.consensus.model.test.fixtures.event.TestingEventBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 
 /**
  * Tests for the {@link PcesReplayer} class
@@ -41,12 +51,14 @@ class PcesReplayerTests {
     private PlatformContext rateLimitedContext;
     private FakeTime time;
     private StandardOutputWire<PlatformEvent> eventOutputWire;
+    private StandardOutputWire<Set<Hash>> trustedEventHashesOutputWire;
     private AtomicInteger eventOutputCount;
     private AtomicBoolean flushIntakeCalled;
     private Runnable flushIntake;
     private AtomicBoolean flushTransactionHandlingCalled;
     private Runnable flushTransactionHandling;
     private Supplier<ReservedSignedState> latestImmutableStateSupplier;
+    private PlatformStateFacade platformStateFacade;
     private IOIterator<PlatformEvent> ioIterator;
 
     private final int eventCount = 100;
@@ -57,6 +69,8 @@ class PcesReplayerTests {
 
         eventOutputWire = mock(StandardOutputWire.class);
         eventOutputCount = new AtomicInteger(0);
+        trustedEventHashesOutputWire = mock(StandardOutputWire.class);
+        platformStateFacade = mock(PlatformStateFacade.class);
 
         // whenever an event is forwarded to the output wire, increment the count
         doAnswer(invocation -> {
@@ -88,8 +102,12 @@ class PcesReplayerTests {
             events.add(event);
         }
 
+        ioIterator = iteratorOf(events);
+    }
+
+    private static IOIterator<PlatformEvent> iteratorOf(final List<PlatformEvent> events) {
         final Iterator<PlatformEvent> eventIterator = events.iterator();
-        ioIterator = new IOIterator<>() {
+        return new IOIterator<>() {
             @Override
             public boolean hasNext() {
                 return eventIterator.hasNext();
@@ -116,16 +134,100 @@ class PcesReplayerTests {
         final PcesReplayer replayer = new PcesReplayer(
                 platformContext,
                 eventOutputWire,
+                trustedEventHashesOutputWire,
+                flushIntake,
+                flushTransactionHandling,
+                latestImmutableStateSupplier,
+                () -> true,
+                platformStateFacade);
+
+        replayer.replayPces(ioIterator);
+
+        assertEquals(eventCount, eventOutputCount.get());
+        assertTrue(flushIntakeCalled.get());
+        assertTrue(flushTransactionHandlingCalled.get());
+    }
+
+    @Test
+    @DisplayName("Test pipelined replay")
+    void testPipelinedReplay() {
+        final TestConfigBuilder configBuilder = new TestConfigBuilder()
+                .withValue(PcesConfig_.LIMIT_REPLAY_FREQUENCY, false)
+                .withValue(PcesConfig_.PIPELINED_REPLAY, true);
+
+        final PlatformContext platformContext = TestPlatformContextBuilder.create()
+                .withTime(time)
+                .withConfiguration(configBuilder.getOrCreateConfig())
+                .build();
+
+        final PcesReplayer replayer = new PcesReplayer(
+                platformContext,
+                eventOutputWire,
+                trustedEventHashesOutputWire,
                 flushIntake,
                 flushTransactionHandling,
                 latestImmutableStateSupplier,
-                () -> true);
+                () -> true,
+                platformStateFacade);
 
         replayer.replayPces(ioIterator);
 
         assertEquals(eventCount, eventOutputCount.get());
         assertTrue(flushIntakeCalled.get());
         assertTrue(flushTransactionHandlingCalled.get());
+        verify(trustedEventHashesOutputWire, never()).forward(any());
+    }
+
+    @Test
+    @DisplayName("Only ancestors of the starting state's judges are trusted")
+    void testTrustedReplayedEvents() {
+        final TestConfigBuilder configBuilder = new TestConfigBuilder()
+                .withValue(PcesConfig_.LIMIT_REPLAY_FREQUENCY, false)
+                .withValue(PcesConfig_.TRUST_REPLAYED_EVENT_SIGNATURES, true);
+
+        final PlatformContext platformContext = TestPlatformContextBuilder.create()
+                .withTime(time)
+                .withConfiguration(configBuilder.getOrCreateConfig())
+                .build();
+
+        final Randotron random = Randotron.create();
+        final PlatformEvent ancestor = new TestingEventBuilder(random).setBirthRound(1).build();
+        final PlatformEvent unrelated = new TestingEventBuilder(random).setBirthRound(1).build();
+        final PlatformEvent judge = new TestingEventBuilder(random)
+                .setSelfParent(ancestor)
+                .setBirthRound(1)
+                .build();
+        final PlatformEvent descendant = new TestingEventBuilder(random)
+                .setSelfParent(judge)
+                .setOtherParent(unrelated)
+                .setBirthRound(2)
+                .build();
+        final ConsensusSnapshot snapshot = ConsensusSnapshot.newBuilder()
+                .round(1)
+                .judgeIds(List.of(new JudgeId(judge.getCreatorId().id(), judge.getHash().getBytes())))
+                .build();
+        when(platformStateFacade.consensusSnapshotOf(any())).thenReturn(snapshot);
+
+        final PcesReplayer replayer = new PcesReplayer(
+                platformContext,
+                eventOutputWire,
+                trustedEventHashesOutputWire,
+                flushIntake,
+                flushTransactionHandling,
+                latestImmutableStateSupplier,
+                () -> true,
+                platformStateFacade);
+
+        replayer.replayPces(iteratorOf(List.of(ancestor, unrelated, judge, descendant)));
+
+        // trusted hashes are sent before the first event, and all events are replayed in order
+        final InOrder inOrder = inOrder(trustedEventHashesOutputWire, eventOutputWire);
+        inOrder.verify(trustedEventHashesOutputWire).forward(Set.of(ancestor.getHash(), judge.getHash()));
+        inOrder.verify(eventOutputWire).forward(ancestor);
+        inOrder.verify(eventOutputWire).forward(unrelated);
+        inOrder.verify(eventOutputWire).forward(judge);
+        inOrder.verify(eventOutputWire).forward(descendant);
+        assertTrue(flushIntakeCalled.get());
     }
 
     @Test
@@ -143,10 +245,12 @@ class PcesReplayerTests {
         final PcesReplayer replayer = new PcesReplayer(
                 platformContext,
                 eventOutputWire,
+                trustedEventHashesOutputWire,
                 flushIntake,
                 flushTransactionHandling,
                 latestImmutableStateSupplier,
-                () -> true);
+                () -> true,
+                platformStateFacade);
 
         final Thread thread = new Thread(() -> {
             replayer.replayPces(ioIterator);
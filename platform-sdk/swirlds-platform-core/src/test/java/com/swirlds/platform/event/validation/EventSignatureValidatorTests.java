@@ -22,6 +22,7 @@ import com.swirlds.platform.gossip.IntakeEventCounter;
 import com.swirlds.platform.test.fixtures.crypto.PreGeneratedX509Certs;
 import java.security.cert.CertificateEncodingException;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 import org.hiero.consensus.config.EventConfig;
 import org.hiero.consensus.config.EventConfig_;
@@ -212,6 +213,37 @@ class EventSignatureValidatorTests {
         assertEquals(1, exitedIntakePipelineCount.get());
     }
 
+    @Test
+    @DisplayName("Signatures of trusted replayed events are not verified")
+    void trustReplayedEvents() {
+        final EventSignatureValidator validator = new DefaultEventSignatureValidator(
+                platformContext, falseVerifier, defaultVersion, null, currentRoster, intakeEventCounter);
+
+        final PlatformEvent trustedEvent = new TestingEventBuilder(random)
+                .setCreatorId(NodeId.of(currentNodeRosterEntry.nodeId()))
+                .setSoftwareVersion(defaultVersion)
+                .build();
+        final PlatformEvent otherEvent = new TestingEventBuilder(random)
+                .setCreatorId(NodeId.of(currentNodeRosterEntry.nodeId()))
+                .setSoftwareVersion(defaultVersion)
+                .build();
+        final PlatformEvent unknownCreatorEvent = new TestingEventBuilder(random)
+                .setCreatorId(NodeId.of(previousNodeRosterEntry.nodeId()))
+                .setSoftwareVersion(defaultVersion)
+                .build();
+        validator.trustReplayedEvents(Set.of(trustedEvent.getHash(), unknownCreatorEvent.getHash()));
+
+        // only the signatures of trusted events are skipped, and the roster is still checked
+        assertNotEquals(null, validator.validateSignature(trustedEvent));
+        assertNull(validator.validateSignature(otherEvent));
+        assertNull(validator.validateSignature(unknownCreatorEvent));
+        assertEquals(2, exitedIntakePipelineCount.get());
+
+        validator.signalEndOfPcesReplay();
+        assertNull(validator.validateSignature(trustedEvent));
+        assertEquals(3, exitedIntakePipelineCount.get());
+    }
+
     @ParameterizedTest
     @ValueSource(booleans = {true, false})
     @DisplayName("Ancient events are discarded")
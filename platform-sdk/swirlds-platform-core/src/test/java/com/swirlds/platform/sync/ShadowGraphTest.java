@@ -34,6 +34,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -420,6 +422,55 @@ class ShadowgraphTest {
         assertEventsBelowGenAreExpired(FIRST_GENERATION + 2);
     }
 
+    /**
+     * Tests that reservations made concurrently with event expiry are honoured, i.e. events that are not expired with
+     * respect to a held reservation stay in the shadow graph while the reservation is held.
+     */
+    @Test
+    void testConcurrentReservationsWithExpiry() throws InterruptedException {
+        initShadowgraph(RandomUtils.getRandomPrintSeed(), 1000, 4);
+
+        final AtomicBoolean done = new AtomicBoolean(false);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final List<Thread> syncThreads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            final Thread thread = new Thread(() -> {
+                try {
+                    while (!done.get()) {
+                        try (final ReservedEventWindow reservation = shadowgraph.reserve()) {
+                            final long reservedThreshold = reservation.getEventWindow().expiredThreshold();
+                            final Set<ShadowEvent> ancestors =
+                                    shadowgraph.findAncestors(shadowgraph.getTips(), e -> true);
+                            for (final ShadowEvent ancestor : ancestors) {
+                                if (ancestor.getEvent().getGeneration() >= reservedThreshold) {
+                                    assertTrue(
+                                            shadowgraph.isHashInGraph(ancestor.getEventBaseHash()),
+                                            "Events that are reserved should not be expired.");
+                                }
+                            }
+                        }
+                    }
+                } catch (final Throwable t) {
+                    failure.compareAndSet(null, t);
+                }
+            });
+            syncThreads.add(thread);
+            thread.start();
+        }
+
+        for (long gen = FIRST_GENERATION; gen <= maxGen; gen++) {
+            shadowgraph.updateEventWindow(EventWindowBuilder.generationMode()
+                    .setExpiredThreshold(gen)
+                    .build());
+        }
+
+        done.set(true);
+        for (final Thread thread : syncThreads) {
+            thread.join(10_000);
+        }
+        assertNull(failure.get(), "Concurrent syncs should not fail");
+    }
+
     @Test
     void testShadow() {
         initShadowgraph(RandomUtils.getRandomPrintSeed(), 0, 4);
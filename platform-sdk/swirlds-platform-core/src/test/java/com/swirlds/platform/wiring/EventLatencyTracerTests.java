@@ -0,0 +1,170 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.platform.wiring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.swirlds.base.test.fixtures.time.FakeTime;
+import com.swirlds.common.context.PlatformContext;
+import com.swirlds.common.test.fixtures.Randotron;
+import com.swirlds.common.test.fixtures.platform.TestPlatformContextBuilder;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.hiero.consensus.model.event.EventTrace;
+import org.hiero.consensus.model.event.PlatformEvent;
+import org.hiero.consensus.model.hashgraph.ConsensusRound;
+import org.hiero.consensus.model.test.fixtures.event.TestingEventBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link EventLatencyTracer} class
+ */
+@DisplayName("EventLatencyTracer Tests")
+class EventLatencyTracerTests {
+
+    private final FakeTime time = new FakeTime();
+
+    private EventLatencyTracer buildTracer(final int sampleInterval) {
+        final PlatformContext platformContext = TestPlatformContextBuilder.create()
+                .withConfiguration(new TestConfigBuilder()
+                        .withValue(EventTracingConfig_.ENABLED, true)
+                        .withValue(EventTracingConfig_.SAMPLE_INTERVAL, sampleInterval)
+                        .getOrCreateConfig())
+                .withTime(time)
+                .build();
+        return new EventLatencyTracer(platformContext);
+    }
+
+    private static ConsensusRound round(final List<PlatformEvent> events) {
+        final ConsensusRound round = mock(ConsensusRound.class);
+        when(round.getConsensusEvents()).thenReturn(events);
+        when(round.isEmpty()).thenReturn(events.isEmpty());
+        return round;
+    }
+
+    @Test
+    @DisplayName("Only a sample of the events is traced")
+    void sampling() {
+        final Randotron random = Randotron.create();
+        final EventLatencyTracer tracer = buildTracer(3);
+        tracer.addStage("first");
+        tracer.addStage("second");
+
+        for (int i = 0; i < 9; i++) {
+            final PlatformEvent event = new TestingEventBuilder(random).build();
+            tracer.traceEvent(0, event);
+            if (i % 3 == 0) {
+                assertNotNull(event.getTrace());
+            } else {
+                assertNull(event.getTrace());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Stages are stamped once, and stages that were skipped are not stamped")
+    void stamping() {
+        final EventLatencyTracer tracer = buildTracer(1);
+        final int first = tracer.addStage("first");
+        final int second = tracer.addStage("second");
+        final int third = tracer.addStage("third");
+
+        final PlatformEvent event = new TestingEventBuilder(Randotron.create()).build();
+        tracer.traceEvent(first, event);
+        final EventTrace trace = event.getTrace();
+        assertNotNull(trace);
+        final long start = trace.getTimestamp(first);
+
+        time.tick(Duration.ofMillis(5));
+        tracer.traceEvent(third, event);
+        time.tick(Duration.ofMillis(5));
+        tracer.traceEvent(third, event);
+
+        assertEquals(EventTrace.NOT_STAMPED, trace.getTimestamp(second));
+        assertEquals(start + Duration.ofMillis(5).toNanos(), trace.getTimestamp(third));
+        assertEquals("first +0us, third +5000us", tracer.formatTrace(trace));
+    }
+
+    @Test
+    @DisplayName("Handled rounds are matched with non-empty consensus rounds in order")
+    void handledRounds() {
+        final Randotron random = Randotron.create();
+        final EventLatencyTracer tracer = buildTracer(1);
+        final int gossip = tracer.addStage("gossip");
+        final int consensus = tracer.addStage("consensus");
+        final int handled = tracer.addStage("handled");
+
+        final List<PlatformEvent> firstRoundEvents = new ArrayList<>();
+        final List<PlatformEvent> secondRoundEvents = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            final PlatformEvent event = new TestingEventBuilder(random).build();
+            tracer.traceEvent(gossip, event);
+            (i < 2 ? firstRoundEvents : secondRoundEvents).add(event);
+        }
+        // an event that was not traced
+        secondRoundEvents.add(new TestingEventBuilder(random).build());
+
+        time.tick(Duration.ofMillis(1));
+        tracer.traceRound(consensus, round(firstRoundEvents));
+        tracer.traceRound(consensus, round(List.of()));
+        tracer.traceRound(consensus, round(secondRoundEvents));
+
+        time.tick(Duration.ofMillis(1));
+        tracer.traceHandledRound(handled);
+
+        for (final PlatformEvent event : firstRoundEvents) {
+            assertEquals(
+                    event.getTrace().getTimestamp(gossip) + Duration.ofMillis(2).toNanos(),
+                    event.getTrace().getTimestamp(handled));
+        }
+        for (final PlatformEvent event : secondRoundEvents.subList(0, 2)) {
+            assertEquals(
+                    event.getTrace().getTimestamp(gossip) + Duration.ofMillis(1).toNanos(),
+                    event.getTrace().getTimestamp(consensus));
+            assertEquals(EventTrace.NOT_STAMPED, event.getTrace().getTimestamp(handled));
+        }
+
+        time.tick(Duration.ofMillis(1));
+        tracer.traceHandledRound(handled);
+        for (final PlatformEvent event : secondRoundEvents.subList(0, 2)) {
+            assertEquals(
+                    event.getTrace().getTimestamp(gossip) + Duration.ofMillis(3).toNanos(),
+                    event.getTrace().getTimestamp(handled));
+        }
+        assertNull(secondRoundEvents.getLast().getTrace());
+    }
+
+    @Test
+    @DisplayName("Rounds that are pending when the tracer is cleared are not matched with handled rounds")
+    void clearPendingRounds() {
+        final Randotron random = Randotron.create();
+        final EventLatencyTracer tracer = buildTracer(1);
+        final int gossip = tracer.addStage("gossip");
+        final int consensus = tracer.addStage("consensus");
+        final int handled = tracer.addStage("handled");
+
+        final PlatformEvent droppedEvent = new TestingEventBuilder(random).build();
+        final PlatformEvent event = new TestingEventBuilder(random).build();
+        tracer.traceEvent(gossip, droppedEvent);
+        tracer.traceEvent(gossip, event);
+
+        // the first round is dropped by a reconnect before it is handled
+        tracer.traceRound(consensus, round(List.of(droppedEvent)));
+        tracer.clear();
+        tracer.traceRound(consensus, round(List.of(event)));
+
+        time.tick(Duration.ofMillis(1));
+        tracer.traceHandledRound(handled);
+
+        assertEquals(EventTrace.NOT_STAMPED, droppedEvent.getTrace().getTimestamp(handled));
+        assertEquals(
+                event.getTrace().getTimestamp(gossip) + Duration.ofMillis(1).toNanos(),
+                event.getTrace().getTimestamp(handled));
+    }
+}
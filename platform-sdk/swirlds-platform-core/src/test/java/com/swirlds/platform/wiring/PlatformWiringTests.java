@@ -73,6 +73,18 @@ class PlatformWiringTests {
                                 .autoDiscoverExtensions()
                                 .withValue("platformWiring.inlinePces", "true")
                                 .build())
+                        .build(),
+                TestPlatformContextBuilder.create()
+                        .withConfiguration(ConfigurationBuilder.create()
+                                .autoDiscoverExtensions()
+                                .withValue("eventTracing.enabled", "true")
+                                .build())
+                        .build(),
+                TestPlatformContextBuilder.create()
+                        .withConfiguration(ConfigurationBuilder.create()
+                                .autoDiscoverExtensions()
+                                .withValue("event.preconsensus.inlinePcesSyncOption", "GROUP_COMMIT")
+                                .build())
                         .build());
     }
 
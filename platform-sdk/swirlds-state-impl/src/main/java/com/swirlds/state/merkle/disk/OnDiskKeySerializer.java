@@ -6,11 +6,13 @@ import com.hedera.pbj.runtime.ParseException;
 import com.hedera.pbj.runtime.io.ReadableSequentialData;
 import com.hedera.pbj.runtime.io.WritableSequentialData;
 import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.virtualmap.VirtualMap;
 import com.swirlds.virtualmap.serialize.KeySerializer;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Objects;
 import org.hiero.base.io.SelfSerializable;
 
@@ -129,6 +131,17 @@ public final class OnDiskKeySerializer<K> implements KeySerializer<OnDiskKey<K>>
         }
     }
 
+    @Override
+    public Bytes toBytes(@NonNull final OnDiskKey<K> key) {
+        assert codec != null;
+        // Called on every virtual map lookup, use a reusable buffer rather than a byte array stream
+        try {
+            return OnDiskSerialization.toBytes(codec, key.getKey());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     // Key deserialization
 
     @Override
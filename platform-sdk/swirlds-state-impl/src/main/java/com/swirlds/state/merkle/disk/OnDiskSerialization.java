@@ -0,0 +1,57 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.state.merkle.disk;
+
+import com.hedera.pbj.runtime.Codec;
+import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.io.IOException;
+
+/**
+ * Serialization utilities for on-disk keys and values.
+ *
+ * <p>Keys and values are converted to bytes on every virtual map lookup, when a virtual map copy is
+ * hashed, and when it's flushed to disk. Instead of writing to a growing {@code ByteArrayOutputStream}
+ * and copying its contents, this class writes objects to a reusable thread-local buffer of the
+ * exact size reported by the codec, and copies the result out once.
+ */
+final class OnDiskSerialization {
+
+    /** Initial size of thread-local buffers */
+    private static final int INITIAL_BUFFER_SIZE = 4 * 1024;
+
+    /** Objects larger than this are serialized to one-off buffers, to not keep large buffers per thread */
+    private static final int MAX_REUSED_BUFFER_SIZE = 1024 * 1024;
+
+    private static final ThreadLocal<BufferedData> BUFFER =
+            ThreadLocal.withInitial(() -> BufferedData.allocate(INITIAL_BUFFER_SIZE));
+
+    private OnDiskSerialization() {}
+
+    /**
+     * Serializes the given object using the given codec.
+     *
+     * @param codec the codec
+     * @param object the object to serialize
+     * @return the serialized bytes
+     * @param <T> the object type
+     * @throws IOException if the codec fails to write the object
+     */
+    @NonNull
+    static <T> Bytes toBytes(@NonNull final Codec<T> codec, @NonNull final T object) throws IOException {
+        final int size = codec.measureRecord(object);
+        BufferedData buffer = BUFFER.get();
+        if (buffer.capacity() < size) {
+            if (size > MAX_REUSED_BUFFER_SIZE) {
+                buffer = BufferedData.allocate(size);
+            } else {
+                buffer = BufferedData.allocate(Math.min(MAX_REUSED_BUFFER_SIZE, 2 * size));
+                BUFFER.set(buffer);
+            }
+        }
+        buffer.reset();
+        codec.write(object, buffer);
+        buffer.position(0);
+        return buffer.readBytes(size);
+    }
+}
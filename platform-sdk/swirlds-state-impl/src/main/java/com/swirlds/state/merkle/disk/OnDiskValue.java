@@ -2,10 +2,11 @@
 package com.swirlds.state.merkle.disk;
 
 import static com.swirlds.state.merkle.StateUtils.readFromStream;
-import static com.swirlds.state.merkle.StateUtils.writeToStream;
 import static java.util.Objects.requireNonNull;
 
 import com.hedera.pbj.runtime.Codec;
+import com.hedera.pbj.runtime.ParseException;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.virtualmap.VirtualValue;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -21,6 +22,12 @@ import org.hiero.base.io.streams.SerializableDataOutputStream;
  * terms of business objects, and this one implementation of {@link VirtualValue} is used for all
  * types of values.
  *
+ * <p>Values read from disk are not parsed eagerly. Instead, they keep the serialized bytes, and
+ * the business object is only parsed on the first call to {@link #getValue()}. Values that are
+ * never accessed, e.g. leaves moved around in the virtual tree when new leaves are added, are
+ * never parsed at all. Serialized bytes are also kept once the value is serialized for hashing,
+ * so the value isn't serialized again when flushed to disk.
+ *
  * @param <V> The type of the value (business object) held in this merkel data structure
  */
 public class OnDiskValue<V> implements VirtualValue {
@@ -33,6 +40,13 @@ public class OnDiskValue<V> implements VirtualValue {
     private final long classId;
     private final Codec<V> codec;
     private V value;
+
+    /**
+     * Serialized value. Either read from disk, in which case {@link #value} is parsed lazily, or
+     * computed when the value is serialized for the first time. Reset when the value is changed
+     */
+    private Bytes bytes;
+
     private boolean immutable = false;
 
     // Default constructor is for deserialization
@@ -51,10 +65,24 @@ public class OnDiskValue<V> implements VirtualValue {
         this.value = requireNonNull(value);
     }
 
+    /**
+     * Creates a value from either the business object, or its serialized bytes, or both. Used by
+     * {@link OnDiskValueSerializer} to create values from bytes without parsing them.
+     */
+    OnDiskValue(
+            final long classId,
+            @NonNull final Codec<V> codec,
+            @Nullable final V value,
+            @Nullable final Bytes bytes) {
+        this(classId, codec);
+        this.value = value;
+        this.bytes = bytes;
+    }
+
     /** {@inheritDoc} */
     @Override
     public VirtualValue copy() {
-        final var copy = new OnDiskValue<>(classId, requireNonNull(codec), value);
+        final var copy = new OnDiskValue<>(classId, requireNonNull(codec), value, bytes);
         this.immutable = true;
         return copy;
     }
@@ -71,7 +99,7 @@ public class OnDiskValue<V> implements VirtualValue {
         if (isImmutable()) {
             return this;
         } else {
-            final var copy = new OnDiskValue<>(classId, requireNonNull(codec), value);
+            final var copy = new OnDiskValue<>(classId, requireNonNull(codec), value, bytes);
             copy.immutable = true;
             return copy;
         }
@@ -83,7 +111,10 @@ public class OnDiskValue<V> implements VirtualValue {
         if (codec == null) {
             throw new IllegalStateException("Cannot serialize on-disk value, null metadata / codec");
         }
-        writeToStream(out, codec, value);
+        // Same format as StateUtils.writeToStream(), but reuses serialized bytes, if available
+        final Bytes valueBytes = getBytes();
+        out.writeInt((int) valueBytes.length());
+        valueBytes.writeTo(out);
     }
 
     /** {@inheritDoc} */
@@ -93,6 +124,7 @@ public class OnDiskValue<V> implements VirtualValue {
             throw new IllegalStateException("Cannot deserialize on-disk value, null metadata / codec");
         }
         value = readFromStream(in, codec);
+        bytes = null;
     }
 
     /** {@inheritDoc} */
@@ -114,7 +146,37 @@ public class OnDiskValue<V> implements VirtualValue {
      */
     @Nullable
     public V getValue() {
-        return value;
+        V v = value;
+        if ((v == null) && (bytes != null)) {
+            // Concurrent readers may parse the same bytes more than once, which is harmless, since
+            // business objects are immutable
+            try {
+                v = codec.parse(bytes.toReadableSequentialData());
+            } catch (final ParseException e) {
+                throw new RuntimeException(e);
+            }
+            value = v;
+        }
+        return v;
+    }
+
+    /**
+     * Gets the serialized value. Bytes are computed on the first call, unless the value was created
+     * from bytes, and then reused till the value is changed.
+     *
+     * @return The serialized value
+     */
+    @NonNull
+    Bytes getBytes() throws IOException {
+        Bytes b = bytes;
+        if (b == null) {
+            if (codec == null) {
+                throw new IllegalStateException("Cannot serialize on-disk value, null metadata / codec");
+            }
+            b = OnDiskSerialization.toBytes(codec, requireNonNull(value));
+            bytes = b;
+        }
+        return b;
     }
 
     /**
@@ -125,5 +187,6 @@ public class OnDiskValue<V> implements VirtualValue {
     public void setValue(@Nullable final V value) {
         throwIfImmutable();
         this.value = requireNonNull(value);
+        this.bytes = null;
     }
 }
@@ -5,15 +5,20 @@ import com.hedera.pbj.runtime.Codec;
 import com.hedera.pbj.runtime.ParseException;
 import com.hedera.pbj.runtime.io.ReadableSequentialData;
 import com.hedera.pbj.runtime.io.WritableSequentialData;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.virtualmap.serialize.ValueSerializer;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Objects;
 
 /**
  * An implementation of {@link ValueSerializer}, required by the {@link
  * com.swirlds.virtualmap.VirtualMap} for creating new {@link OnDiskValue}s.
  *
+ * <p>Values created from bytes, see {@link #fromBytes(Bytes)}, are not parsed until accessed.
+ * Values that already have serialized bytes are written as is, without serializing them again.
+ *
  * @param <V> The type of the value in the virtual map
  */
 public final class OnDiskValueSerializer<V> implements ValueSerializer<OnDiskValue<V>> {
@@ -76,7 +81,11 @@ public final class OnDiskValueSerializer<V> implements ValueSerializer<OnDiskVal
     @Override
     public int getSerializedSize(OnDiskValue<V> value) {
         assert codec != null;
-        return codec.measureRecord(value.getValue());
+        try {
+            return (int) value.getBytes().length();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     @Override
@@ -89,12 +98,22 @@ public final class OnDiskValueSerializer<V> implements ValueSerializer<OnDiskVal
         assert codec != null;
         // Future work: https://github.com/hashgraph/pbj/issues/73
         try {
-            codec.write(value.getValue(), out);
+            out.writeBytes(value.getBytes());
         } catch (final IOException e) {
             throw new RuntimeException(e);
         }
     }
 
+    @Override
+    public Bytes toBytes(@NonNull final OnDiskValue<V> value) {
+        assert codec != null;
+        try {
+            return value.getBytes();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     // Value deserialization
 
     @Override
@@ -108,4 +127,11 @@ public final class OnDiskValueSerializer<V> implements ValueSerializer<OnDiskVal
             throw new RuntimeException(e);
         }
     }
+
+    @Override
+    public OnDiskValue<V> fromBytes(@NonNull final Bytes bytes) {
+        assert codec != null;
+        // The value is parsed on first access
+        return new OnDiskValue<>(valueClassId, codec, null, bytes);
+    }
 }
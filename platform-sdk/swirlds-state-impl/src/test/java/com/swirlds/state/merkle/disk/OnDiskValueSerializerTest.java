@@ -0,0 +1,59 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.state.merkle.disk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.pbj.runtime.io.buffer.BufferedData;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import com.swirlds.state.test.fixtures.merkle.MerkleTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OnDiskValueSerializerTest extends MerkleTestBase {
+
+    private OnDiskValueSerializer<String> serializer;
+
+    @BeforeEach
+    void setUp() {
+        serializer = new OnDiskValueSerializer<>(
+                onDiskValueSerializerClassId(FRUIT_STATE_KEY), onDiskValueClassId(FRUIT_STATE_KEY), STRING_CODEC);
+    }
+
+    @Test
+    @DisplayName("Values serialized to bytes can be read back")
+    void roundTrip() {
+        final var value = new OnDiskValue<>(onDiskValueClassId(FRUIT_STATE_KEY), STRING_CODEC, APPLE);
+        final Bytes bytes = serializer.toBytes(value);
+        assertThat(bytes.length()).isEqualTo(serializer.getSerializedSize(value));
+        assertThat(serializer.fromBytes(bytes).getValue()).isEqualTo(APPLE);
+        assertThat(serializer.deserialize(bytes.toReadableSequentialData()).getValue())
+                .isEqualTo(APPLE);
+    }
+
+    @Test
+    @DisplayName("Values created from bytes are written back without serializing them again")
+    void bytesReused() {
+        final Bytes bytes = serializer.toBytes(
+                new OnDiskValue<>(onDiskValueClassId(FRUIT_STATE_KEY), STRING_CODEC, BANANA));
+        final var value = serializer.fromBytes(bytes);
+        assertThat(serializer.toBytes(value)).isSameAs(bytes);
+        assertThat(serializer.getSerializedSize(value)).isEqualTo(bytes.length());
+
+        final BufferedData out = BufferedData.allocate((int) bytes.length());
+        serializer.serialize(value, out);
+        out.flip();
+        assertThat(out.readBytes((int) bytes.length())).isEqualTo(bytes);
+    }
+
+    @Test
+    @DisplayName("Changing a value resets its serialized bytes")
+    void setValueResetsBytes() {
+        final Bytes bytes = serializer.toBytes(
+                new OnDiskValue<>(onDiskValueClassId(FRUIT_STATE_KEY), STRING_CODEC, CHERRY));
+        final var value = serializer.fromBytes(bytes);
+        value.setValue(DATE);
+        assertThat(value.getValue()).isEqualTo(DATE);
+        assertThat(serializer.fromBytes(serializer.toBytes(value)).getValue()).isEqualTo(DATE);
+    }
+}
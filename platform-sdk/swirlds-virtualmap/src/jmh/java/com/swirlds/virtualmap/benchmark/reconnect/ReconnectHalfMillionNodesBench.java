@@ -1,6 +1,10 @@
 // SPDX-License-Identifier: Apache-2.0
 package com.swirlds.virtualmap.benchmark.reconnect;
 
+import com.swirlds.config.api.Configuration;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.virtualmap.config.VirtualMapConfig_;
+import com.swirlds.virtualmap.config.VirtualMapReconnectMode;
 import com.swirlds.virtualmap.test.fixtures.TestKey;
 import com.swirlds.virtualmap.test.fixtures.TestValue;
 import java.io.FileNotFoundException;
@@ -12,6 +16,7 @@ import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -20,6 +25,19 @@ import org.openjdk.jmh.annotations.State;
 @State(Scope.Thread)
 public class ReconnectHalfMillionNodesBench extends VirtualMapReconnectBenchBase {
 
+    /**
+     * The reconnect mode. Only {@link VirtualMapReconnectMode#PULL_TWO_PHASE_PESSIMISTIC} supports
+     * multiple teachers, other modes only use the primary teacher.
+     */
+    @Param({VirtualMapReconnectMode.PULL_TWO_PHASE_PESSIMISTIC})
+    public String reconnectMode;
+
+    /**
+     * The number of teachers to reconnect from in parallel.
+     */
+    @Param({"1", "2", "4"})
+    public int teacherCount;
+
     private static final Map<TestKey, TestValue> testTeacherMap = new HashMap<>();
     private static final Map<TestKey, TestValue> testLearnerMap = new HashMap<>();
 
@@ -45,6 +63,18 @@ public class ReconnectHalfMillionNodesBench extends VirtualMapReconnectBenchBase
         testLearnerMap.entrySet().forEach(e -> learnerMap.put(e.getKey(), e.getValue()));
     }
 
+    @Override
+    protected Configuration createConfiguration() {
+        return new TestConfigBuilder()
+                .withValue(VirtualMapConfig_.RECONNECT_MODE, reconnectMode)
+                .getOrCreateConfig();
+    }
+
+    @Override
+    protected int getTeacherCount() {
+        return teacherCount;
+    }
+
     @Benchmark
     public void reconnectHalfMillionNodes() throws Exception {
         super.reconnect();
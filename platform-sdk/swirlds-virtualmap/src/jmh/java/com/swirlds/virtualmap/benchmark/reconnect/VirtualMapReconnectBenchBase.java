@@ -5,12 +5,14 @@ import static com.swirlds.common.test.fixtures.io.ResourceLoader.loadLog4jContex
 import static com.swirlds.virtualmap.test.fixtures.VirtualMapTestUtils.CONFIGURATION;
 
 import com.swirlds.common.merkle.MerkleInternal;
+import com.swirlds.common.merkle.MerkleNode;
 import com.swirlds.common.merkle.synchronization.config.ReconnectConfig;
 import com.swirlds.common.merkle.synchronization.config.ReconnectConfig_;
 import com.swirlds.common.merkle.synchronization.task.QueryResponse;
 import com.swirlds.common.test.fixtures.merkle.dummy.DummyMerkleInternal;
 import com.swirlds.common.test.fixtures.merkle.dummy.DummyMerkleLeaf;
 import com.swirlds.common.test.fixtures.merkle.util.MerkleTestUtils;
+import com.swirlds.config.api.Configuration;
 import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
 import com.swirlds.virtualmap.VirtualMap;
 import com.swirlds.virtualmap.config.VirtualMapConfig;
@@ -39,6 +41,12 @@ import org.junit.jupiter.api.Assertions;
  */
 public abstract class VirtualMapReconnectBenchBase {
 
+    /**
+     * The configuration of virtual maps, including the maps created on the learner side during
+     * reconnect, see {@link #createConfiguration()}.
+     */
+    private static volatile Configuration configuration = CONFIGURATION;
+
     protected VirtualMap<TestKey, TestValue> teacherMap;
     protected VirtualMap<TestKey, TestValue> learnerMap;
     protected VirtualDataSourceBuilder teacherBuilder;
@@ -55,13 +63,29 @@ public abstract class VirtualMapReconnectBenchBase {
         return new InMemoryBuilder();
     }
 
+    /**
+     * Create the configuration of virtual maps, e.g. to choose the reconnect mode.
+     */
+    protected Configuration createConfiguration() {
+        return CONFIGURATION;
+    }
+
+    /**
+     * The number of teachers to reconnect from. Additional teachers are only used by reconnect
+     * modes, which support them.
+     */
+    protected int getTeacherCount() {
+        return 1;
+    }
+
     protected void setupEach() {
+        configuration = createConfiguration();
         teacherBuilder = createBuilder();
         learnerBuilder = createBuilder();
         teacherMap = new VirtualMap<>(
-                "Teacher", TestKeySerializer.INSTANCE, TestValueSerializer.INSTANCE, teacherBuilder, CONFIGURATION);
+                "Teacher", TestKeySerializer.INSTANCE, TestValueSerializer.INSTANCE, teacherBuilder, configuration);
         learnerMap = new VirtualMap<>(
-                "Learner", TestKeySerializer.INSTANCE, TestValueSerializer.INSTANCE, learnerBuilder, CONFIGURATION);
+                "Learner", TestKeySerializer.INSTANCE, TestValueSerializer.INSTANCE, learnerBuilder, configuration);
     }
 
     protected static void startup() throws ConstructableRegistryException, FileNotFoundException {
@@ -73,11 +97,11 @@ public abstract class VirtualMapReconnectBenchBase {
         registry.registerConstructable(new ClassConstructorPair(QueryResponse.class, QueryResponse::new));
         registry.registerConstructable(new ClassConstructorPair(DummyMerkleInternal.class, DummyMerkleInternal::new));
         registry.registerConstructable(new ClassConstructorPair(DummyMerkleLeaf.class, DummyMerkleLeaf::new));
-        registry.registerConstructable(new ClassConstructorPair(VirtualMap.class, () -> new VirtualMap(CONFIGURATION)));
+        registry.registerConstructable(new ClassConstructorPair(VirtualMap.class, () -> new VirtualMap(configuration)));
         registry.registerConstructable(new ClassConstructorPair(VirtualMapState.class, VirtualMapState::new));
         registry.registerConstructable(new ClassConstructorPair(
                 VirtualRootNode.class,
-                () -> new VirtualRootNode<>(CONFIGURATION.getConfigData(VirtualMapConfig.class))));
+                () -> new VirtualRootNode<>(configuration.getConfigData(VirtualMapConfig.class))));
         registry.registerConstructable(new ClassConstructorPair(TestKey.class, TestKey::new));
         registry.registerConstructable(new ClassConstructorPair(TestValue.class, TestValue::new));
     }
@@ -94,7 +118,11 @@ public abstract class VirtualMapReconnectBenchBase {
         final VirtualMap<TestKey, TestValue> copy = teacherMap.copy();
         final MerkleInternal learnerTree = createTreeForMap(learnerMap);
         try {
-            final var node = MerkleTestUtils.hashAndTestSynchronization(learnerTree, teacherTree, reconnectConfig);
+            final int teacherCount = getTeacherCount();
+            final MerkleNode node = teacherCount == 1
+                    ? MerkleTestUtils.hashAndTestSynchronization(learnerTree, teacherTree, reconnectConfig)
+                    : MerkleTestUtils.hashAndTestMultiTeacherSynchronization(
+                            learnerTree, teacherTree, teacherCount - 1, reconnectConfig);
             node.release();
             final VirtualRoot root = learnerMap.getRight();
             Assertions.assertTrue(root.isHashed(), "Learner root node must be hashed");
@@ -0,0 +1,90 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.cache; // NOSONAR: Needed to benchmark internal classes
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares per-round garbage produced by {@link VirtualNodeCache} path indexes: the old
+ * {@code ConcurrentHashMap<Long, ...>} vs. {@link ConcurrentLongObjectMap}. A single benchmark
+ * operation emulates a round: a copy dirties {@code dirtyPaths} paths, then the paths are looked
+ * up, then the copy is released and all its paths are purged from the index.
+ * <p>
+ * Run with the GC profiler to see allocations per round, e.g.
+ * {@code -prof gc}, and check {@code gc.alloc.rate.norm} values.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+public class PathIndexBench {
+
+    @Param({"1000000"})
+    public int dirtyPaths;
+
+    /** Values are shared, so only index allocations are measured */
+    private static final Object VALUE = new Object();
+
+    private ConcurrentHashMap<Long, Object> boxedIndex;
+    private ConcurrentLongObjectMap<Object> longIndex;
+
+    /** Paths dirtied in every round, the first path is shifted every round */
+    private long firstPath = 0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // Indexes are shared by all copies in a cache chain and live as long as the chain
+        boxedIndex = new ConcurrentHashMap<>();
+        longIndex = new ConcurrentLongObjectMap<>();
+    }
+
+    @Benchmark
+    public void boxedPathIndexRound(final Blackhole blackhole) {
+        final long first = nextFirstPath();
+        for (long path = first; path < first + dirtyPaths; path++) {
+            boxedIndex.compute(path, (k, v) -> VALUE);
+        }
+        for (long path = first; path < first + dirtyPaths; path++) {
+            blackhole.consume(boxedIndex.get(path));
+        }
+        for (long path = first; path < first + dirtyPaths; path++) {
+            boxedIndex.compute(path, (k, v) -> null);
+        }
+    }
+
+    @Benchmark
+    public void longPathIndexRound(final Blackhole blackhole) {
+        final long first = nextFirstPath();
+        for (long path = first; path < first + dirtyPaths; path++) {
+            longIndex.compute(path, v -> VALUE);
+        }
+        for (long path = first; path < first + dirtyPaths; path++) {
+            blackhole.consume(longIndex.get(path));
+        }
+        for (long path = first; path < first + dirtyPaths; path++) {
+            longIndex.compute(path, v -> null);
+        }
+    }
+
+    private long nextFirstPath() {
+        // Paths beyond the Long cache range, as in real trees
+        final long first = firstPath;
+        firstPath = (firstPath + dirtyPaths / 2) % (1L << 40);
+        return first + 1024;
+    }
+}
@@ -24,9 +24,11 @@ import com.swirlds.virtualmap.datasource.VirtualDataSourceBuilder;
 import com.swirlds.virtualmap.internal.merkle.VirtualMapState;
 import com.swirlds.virtualmap.internal.merkle.VirtualRootNode;
 import com.swirlds.virtualmap.internal.merkle.VirtualStateAccessorImpl;
+import com.swirlds.virtualmap.internal.pipeline.VirtualFlushCoordinator;
 import com.swirlds.virtualmap.serialize.KeySerializer;
 import com.swirlds.virtualmap.serialize.ValueSerializer;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.FileInputStream;
@@ -162,13 +164,33 @@ public final class VirtualMap<K extends VirtualKey, V extends VirtualValue> exte
     @NonNull
     private final Configuration configuration;
 
+    /**
+     * Coordinator of flushes of this map and other maps of the same platform. If null, flushes of
+     * this map aren't coordinated with other maps.
+     */
+    @Nullable
+    private final VirtualFlushCoordinator flushCoordinator;
+
     /**
      * Required by the {@link RuntimeConstructable} contract.
      * This can <strong>only</strong> be called as part of serialization and reconnect, not for normal use.
      */
     public VirtualMap(final @NonNull Configuration configuration) {
+        this(configuration, null);
+    }
+
+    /**
+     * Required by the {@link RuntimeConstructable} contract.
+     * This can <strong>only</strong> be called as part of serialization and reconnect, not for normal use.
+     *
+     * @param configuration platform configuration
+     * @param flushCoordinator flush coordinator, or null to not coordinate flushes with other maps
+     */
+    public VirtualMap(
+            final @NonNull Configuration configuration, final @Nullable VirtualFlushCoordinator flushCoordinator) {
         requireNonNull(configuration);
         this.configuration = configuration;
+        this.flushCoordinator = flushCoordinator;
         registryRecord = RuntimeObjectRegistry.createRecord(getClass());
     }
 
@@ -187,7 +209,28 @@ public final class VirtualMap<K extends VirtualKey, V extends VirtualValue> exte
             final ValueSerializer<V> valueSerializer,
             final VirtualDataSourceBuilder dataSourceBuilder,
             final @NonNull Configuration configuration) {
-        this(configuration);
+        this(label, keySerializer, valueSerializer, dataSourceBuilder, configuration, null);
+    }
+
+    /**
+     * Create a new {@link VirtualMap}, which coordinates its flushes with other maps using the
+     * given flush coordinator.
+     *
+     * @param label
+     * 		A label to give the virtual map. This label is used by the data source and cannot be null.
+     * @param dataSourceBuilder
+     * 		The data source builder. Must not be null.
+     * @param configuration platform configuration
+     * @param flushCoordinator flush coordinator, or null to not coordinate flushes with other maps
+     */
+    public VirtualMap(
+            final String label,
+            final KeySerializer<K> keySerializer,
+            final ValueSerializer<V> valueSerializer,
+            final VirtualDataSourceBuilder dataSourceBuilder,
+            final @NonNull Configuration configuration,
+            final @Nullable VirtualFlushCoordinator flushCoordinator) {
+        this(configuration, flushCoordinator);
         setChild(ChildIndices.MAP_STATE_CHILD_INDEX, new VirtualMapState(requireNonNull(label)));
         setChild(
                 ChildIndices.VIRTUAL_ROOT_CHILD_INDEX,
@@ -195,7 +238,8 @@ public final class VirtualMap<K extends VirtualKey, V extends VirtualValue> exte
                         keySerializer,
                         valueSerializer,
                         requireNonNull(dataSourceBuilder),
-                        requireNonNull(configuration.getConfigData(VirtualMapConfig.class))));
+                        requireNonNull(configuration.getConfigData(VirtualMapConfig.class)),
+                        flushCoordinator));
     }
 
     /**
@@ -205,7 +249,7 @@ public final class VirtualMap<K extends VirtualKey, V extends VirtualValue> exte
      * 		must not be null.
      */
     private VirtualMap(final VirtualMap<K, V> source) {
-        this(source.configuration);
+        this(source.configuration, source.flushCoordinator);
         setChild(ChildIndices.MAP_STATE_CHILD_INDEX, source.getState().copy());
         setChild(ChildIndices.VIRTUAL_ROOT_CHILD_INDEX, source.getRoot().copy());
     }
@@ -377,7 +421,8 @@ public final class VirtualMap<K extends VirtualKey, V extends VirtualValue> exte
                 (final MerkleDataInputStream stream) -> {
                     virtualMapState.setValue(stream.readSerializable());
                     virtualRootNode.setValue(
-                            new VirtualRootNode<>(configuration.getConfigData(VirtualMapConfig.class)));
+                            new VirtualRootNode<>(
+                                    configuration.getConfigData(VirtualMapConfig.class), flushCoordinator));
                     virtualRootNode.getValue().deserialize(stream, inputFile.getParent(), stream.readInt());
                     return null;
                 });
@@ -489,4 +534,15 @@ public final class VirtualMap<K extends VirtualKey, V extends VirtualValue> exte
     public void warm(final K key) {
         root.warm(key);
     }
+
+    /**
+     * Same as {@link #warm(VirtualKey)}, but for multiple keys at once. Loading keys in a batch
+     * may be significantly faster than loading them one by one, as the data source can read
+     * the records from disk in a more efficient order.
+     *
+     * @param keys keys of the leaves to warm
+     */
+    public void warm(final List<K> keys) {
+        root.warm(keys);
+    }
 }
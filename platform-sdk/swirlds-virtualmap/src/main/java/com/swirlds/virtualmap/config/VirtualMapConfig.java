@@ -23,12 +23,21 @@ import java.time.Duration;
  * @param virtualHasherChunkHeight
  *      The number of ranks minus one to handle in a single virtual hasher task. That is, when height is
  *      1, every task takes 2 inputs. Height 2 corresponds to tasks with 4 inputs. And so on.
+ * @param incrementalHashingBatchSize
+ *      If positive, hashes of dirty leaves of a mutable virtual map copy are computed in background while
+ *      the copy is still being modified, in batches of this number of leaves. When the copy is hashed,
+ *      only leaves changed since their background hashes were computed are hashed again. If zero, all
+ *      dirty leaves are hashed when the copy is hashed.
  * @param reconnectMode
  *      Reconnect mode. For the list of accepted values, see {@link VirtualMapReconnectMode}.
  * @param reconnectFlushInterval
  *      During reconnect, virtual nodes are periodically flushed to disk after they are hashed. This
  *      interval indicates the number of nodes to hash before they are flushed to disk. If zero, all
  *      hashed nodes are flushed in the end of reconnect hashing only.
+ * @param reconnectCheckpointPath
+ *      The directory to store reconnect checkpoints in. If a learner reconnect in a pull mode fails, the virtual
+ *      map received so far is saved to this directory, and the next reconnect to the same teacher map continues
+ *      from it rather than from the original map. If empty, reconnect checkpoints are disabled.
  * @param percentCleanerThreads
  * 		Gets the percentage (from 0.0 to 100.0) of available processors to devote to cache
  * 		cleaner threads. Ignored if an explicit number of threads is given via {@code virtualMap.numCleanerThreads}.
@@ -61,6 +70,23 @@ import java.time.Duration;
  *      Virtual root family throttle threshold. When estimated size of all unreleased copies of the same virtual
  *      root exceeds this threshold, virtual pipeline starts applying backpressure on creating new root copies.
  *      If the threshold is set to zero, this backpressure mechanism is not used.
+ * @param maxConcurrentFlushes
+ *      The max number of virtual root copy flushes, across all virtual maps, running concurrently. If more copies
+ *      are ready to flush, their pipelines wait, and the largest copies are flushed first. If set to zero, flushes
+ *      are not coordinated across virtual maps, which is the default. While a pipeline waits for a flush permit,
+ *      its copies are neither flushed nor merged, so waiting may increase memory usage and trigger {@link
+ *      #familyThrottleThreshold} backpressure.
+ * @param concurrentFlushSizeBudget
+ *      The max total estimated size of virtual root copies, across all virtual maps, flushed concurrently. A single
+ *      flush is always allowed regardless of its size. If set to zero, only {@link #maxConcurrentFlushes} is used.
+ * @param nodeCacheMemoryBudget
+ *      The max total estimated size of virtual node caches of all virtual maps. When exceeded, the virtual map
+ *      with the largest caches flushes its oldest copy, even if the copy isn't marked to flush. If set to zero,
+ *      which is the default, copies are flushed based on {@link #copyFlushThreshold} and {@link #flushInterval}
+ *      only.
+ * @param maxFlushWait
+ *      Virtual pipelines waiting for a flush permit longer than this are given permits in the order of their
+ *      requests rather than by copy size, so small copies are not starved by large ones.
  * @param preferredFlushQueueSize
  * 		The preferred maximum number of virtual maps waiting to be flushed. If more maps than this number are awaiting
  * 		flushing then slow down fast copies of the virtual map so that flushing can catch up.
@@ -75,8 +101,10 @@ public record VirtualMapConfig(
         @Min(0) @Max(100) @ConfigProperty(defaultValue = "50.0")
                 double percentHashThreads, // FUTURE WORK: We need to add min/max support for double values
         @Min(1) @Max(64) @ConfigProperty(defaultValue = "3") int virtualHasherChunkHeight,
+        @Min(0) @ConfigProperty(defaultValue = "0") int incrementalHashingBatchSize,
         @ConfigProperty(defaultValue = PUSH) String reconnectMode,
         @Min(0) @ConfigProperty(defaultValue = "500000") int reconnectFlushInterval,
+        @ConfigProperty(defaultValue = "") String reconnectCheckpointPath,
         @Min(0) @Max(100) @ConfigProperty(defaultValue = "25.0")
                 double percentCleanerThreads, // FUTURE WORK: We need to add min/max support for double values
         @Min(-1) @ConfigProperty(defaultValue = "-1") int numCleanerThreads,
@@ -88,6 +116,10 @@ public record VirtualMapConfig(
         @Min(1) @ConfigProperty(defaultValue = "20") int flushInterval,
         @ConfigProperty(defaultValue = "200000000") long copyFlushThreshold,
         @ConfigProperty(defaultValue = "2000000000") long familyThrottleThreshold,
+        @Min(0) @ConfigProperty(defaultValue = "0") int maxConcurrentFlushes,
+        @Min(0) @ConfigProperty(defaultValue = "400000000") long concurrentFlushSizeBudget,
+        @Min(0) @ConfigProperty(defaultValue = "0") long nodeCacheMemoryBudget,
+        @ConfigProperty(defaultValue = "2s") Duration maxFlushWait,
         @ConfigProperty(defaultValue = "10000") int preferredFlushQueueSize,
         @ConfigProperty(defaultValue = "200ms") Duration flushThrottleStepSize,
         @ConfigProperty(defaultValue = "5s") Duration maximumFlushThrottlePeriod) {
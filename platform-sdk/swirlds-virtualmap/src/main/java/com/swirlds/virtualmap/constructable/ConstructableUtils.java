@@ -6,6 +6,7 @@ import com.swirlds.virtualmap.VirtualMap;
 import com.swirlds.virtualmap.config.VirtualMapConfig;
 import com.swirlds.virtualmap.internal.cache.VirtualNodeCache;
 import com.swirlds.virtualmap.internal.merkle.VirtualRootNode;
+import com.swirlds.virtualmap.internal.pipeline.VirtualFlushCoordinator;
 import org.hiero.base.constructable.ClassConstructorPair;
 import org.hiero.base.constructable.ConstructableRegistry;
 import org.hiero.base.constructable.ConstructableRegistryException;
@@ -18,13 +19,30 @@ public final class ConstructableUtils {
     private ConstructableUtils() {}
 
     /**
-     * Add Virtual Map classes to the constructable registry which need the configuration.
+     * Add Virtual Map classes to the constructable registry which need the configuration. A new
+     * flush coordinator is created, and all virtual maps created by the registry coordinate their
+     * flushes using it.
      * @param configuration configuration
      */
     public static void registerVirtualMapConstructables(Configuration configuration)
             throws ConstructableRegistryException {
+        registerVirtualMapConstructables(
+                configuration,
+                new VirtualFlushCoordinator(configuration.getConfigData(VirtualMapConfig.class)));
+    }
+
+    /**
+     * Add Virtual Map classes to the constructable registry which need the configuration. All
+     * virtual maps created by the registry coordinate their flushes using the given coordinator.
+     * @param configuration configuration
+     * @param flushCoordinator flush coordinator
+     */
+    public static void registerVirtualMapConstructables(
+            Configuration configuration, VirtualFlushCoordinator flushCoordinator)
+            throws ConstructableRegistryException {
         ConstructableRegistry.getInstance()
-                .registerConstructable(new ClassConstructorPair(VirtualMap.class, () -> new VirtualMap(configuration)));
+                .registerConstructable(new ClassConstructorPair(
+                        VirtualMap.class, () -> new VirtualMap(configuration, flushCoordinator)));
         ConstructableRegistry.getInstance()
                 .registerConstructable(new ClassConstructorPair(
                         VirtualNodeCache.class,
@@ -32,6 +50,7 @@ public final class ConstructableUtils {
         ConstructableRegistry.getInstance()
                 .registerConstructable(new ClassConstructorPair(
                         VirtualRootNode.class,
-                        () -> new VirtualRootNode(configuration.getConfigData(VirtualMapConfig.class))));
+                        () -> new VirtualRootNode(
+                                configuration.getConfigData(VirtualMapConfig.class), flushCoordinator)));
     }
 }
@@ -9,6 +9,8 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
 import org.hiero.base.crypto.Hash;
 import org.hiero.base.io.streams.SerializableDataOutputStream;
@@ -134,6 +136,27 @@ public interface VirtualDataSource {
     @Nullable
     VirtualLeafBytes loadLeafRecord(final Bytes keyBytes, final int keyHashCode) throws IOException;
 
+    /**
+     * Load virtual record bytes for multiple leaf nodes by keys. Implementations may read the
+     * records from disk in an order, which is more efficient than one by one reads in the order
+     * of keys. The default implementation just loads the records one by one.
+     *
+     * @param keyBytes the key bytes for leaves
+     * @param keyHashCodes the key hash codes, in the same order as the keys
+     * @return a list of leaf records in the same order as the keys; an element is null, if no
+     *      record was stored for the corresponding key
+     * @throws IOException if there was a problem reading leaf records
+     */
+    @NonNull
+    default List<VirtualLeafBytes> loadLeafRecords(
+            @NonNull final List<Bytes> keyBytes, @NonNull final int[] keyHashCodes) throws IOException {
+        final List<VirtualLeafBytes> leafRecords = new ArrayList<>(keyBytes.size());
+        for (int i = 0; i < keyBytes.size(); i++) {
+            leafRecords.add(loadLeafRecord(keyBytes.get(i), keyHashCodes[i]));
+        }
+        return leafRecords;
+    }
+
     /**
      * Load virtual record bytes for a leaf node by path. If the path is outside the current
      * data source's leaf path range, this method returns {@code null}.
@@ -173,6 +196,25 @@ public interface VirtualDataSource {
     @Nullable
     Hash loadHash(final long path) throws IOException;
 
+    /**
+     * Load virtual node hashes for multiple paths. Implementations may read the hashes from disk
+     * in an order, which is more efficient than one by one reads in the order of paths. The
+     * default implementation just loads the hashes one by one.
+     *
+     * @param paths virtual node paths
+     * @return an array of hashes in the same order as the paths; an element is null, if the
+     *      corresponding path is outside [0, last leaf path] range, or the hash is not stored
+     * @throws IOException If there was a problem loading hashes from data source
+     */
+    @NonNull
+    default Hash[] loadHashes(@NonNull final long[] paths) throws IOException {
+        final Hash[] hashes = new Hash[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            hashes[i] = loadHash(paths[i]);
+        }
+        return hashes;
+    }
+
     /**
      * Load a virtual node hash by path and, if found, write it to the specified output stream. This
      * method helps avoid (de)serialization overhead during reconnects on the teacher side. Instead of
@@ -137,7 +137,8 @@ public record VirtualLeafBytes(long path, @NonNull Bytes keyBytes, int keyHashCo
     /**
      * Convert this bytes object to a virtual leaf record. The record will contain a key and
      * a value, which are parsed from this object's {@code keyBytes} and {@code valueBytes}
-     * bytes using the provided key and value serializers.
+     * bytes using the provided key and value serializers. Serializers may defer parsing until
+     * the key or the value is accessed, see {@link com.swirlds.virtualmap.serialize.BaseSerializer#fromBytes}.
      *
      * @param keySerializer the key serializer to parse keyBytes
      * @param valueSerializer the value serializer to parse valueBytes
@@ -149,8 +150,8 @@ public record VirtualLeafBytes(long path, @NonNull Bytes keyBytes, int keyHashCo
             final KeySerializer<K> keySerializer, final ValueSerializer<V> valueSerializer) {
         return new VirtualLeafRecord<>(
                 path,
-                keySerializer.deserialize(keyBytes.toReadableSequentialData()),
-                valueBytes != null ? valueSerializer.deserialize(valueBytes.toReadableSequentialData()) : null);
+                keySerializer.fromBytes(keyBytes),
+                valueBytes != null ? valueSerializer.fromBytes(valueBytes) : null);
     }
 
     @Override
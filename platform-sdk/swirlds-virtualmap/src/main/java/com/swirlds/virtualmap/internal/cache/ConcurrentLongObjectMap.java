@@ -0,0 +1,290 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.UnaryOperator;
+
+/**
+ * A concurrent hash map with primitive long keys, optimized for use by the {@link VirtualNodeCache}
+ * path indexes.
+ * <p>
+ * Compared to a {@code ConcurrentHashMap<Long, V>}, this map doesn't allocate anything per entry:
+ * no boxed keys and no hash table nodes. Keys and values are stored in two parallel arrays, and
+ * collisions are resolved with linear probing (open addressing). This matters a lot for virtual
+ * node caches, where millions of dirty paths are added to and then purged from the indexes every
+ * round.
+ * <p>
+ * The map is split into a fixed number of segments, each segment has its own table. Reads are
+ * lock-free. Writes ({@link #put(long, Object)} and {@link #compute(long, UnaryOperator)}) lock the
+ * segment the key belongs to, so writes to different segments are executed in parallel. When a
+ * segment table needs to grow or shrink, a new table is created and published, the old table is
+ * never modified after that, so concurrent readers always see a consistent table.
+ * <p>
+ * Removed entries are marked with a tombstone in the values array, their keys are kept in place
+ * until the segment table is rebuilt. This way a key is never moved within a table, and lock-free
+ * readers can't miss a key because of concurrent removals.
+ * <p>
+ * {@link #EMPTY_KEY} is reserved and may not be used as a key. Null values are not permitted.
+ *
+ * @param <V>
+ * 		the value type
+ */
+final class ConcurrentLongObjectMap<V> {
+
+    /** A key value to mark empty table slots. It can't be used as a key */
+    static final long EMPTY_KEY = Long.MIN_VALUE;
+
+    /** A value to mark removed entries */
+    private static final Object TOMBSTONE = new Object();
+
+    /** Number of segments, must be a power of two */
+    private static final int NUM_SEGMENTS = 64;
+
+    /** Segment index is taken from the highest bits of key hash codes */
+    private static final int SEGMENT_SHIFT = Integer.SIZE - Integer.numberOfTrailingZeros(NUM_SEGMENTS);
+
+    /** Initial and min table capacity in a segment, must be a power of two */
+    private static final int MIN_SEGMENT_CAPACITY = 16;
+
+    /**
+     * A segment table. Keys and values arrays are published together via {@link Segment#table}.
+     */
+    private static final class Table {
+        private final AtomicLongArray keys;
+        private final AtomicReferenceArray<Object> values;
+        private final int mask;
+
+        Table(final int capacity) {
+            keys = new AtomicLongArray(capacity);
+            for (int i = 0; i < capacity; i++) {
+                keys.setPlain(i, EMPTY_KEY);
+            }
+            values = new AtomicReferenceArray<>(capacity);
+            mask = capacity - 1;
+        }
+
+        int capacity() {
+            return mask + 1;
+        }
+
+        /**
+         * Returns the table slot the key is stored in, or the first empty slot in the key's probe
+         * sequence, if the key isn't in the table.
+         */
+        int slot(final long key, final int hash) {
+            int i = hash & mask;
+            for (; ; ) {
+                final long k = keys.get(i);
+                if ((k == key) || (k == EMPTY_KEY)) {
+                    return i;
+                }
+                i = (i + 1) & mask;
+            }
+        }
+    }
+
+    private static final class Segment {
+        /** Current table. Replaced under the segment lock when the table is rebuilt */
+        private volatile Table table = new Table(MIN_SEGMENT_CAPACITY);
+
+        /** Number of entries in this segment, excluding removed ones. Updated under the segment lock */
+        private volatile int size = 0;
+
+        /** Number of used slots in the table, including removed entries. Updated under the segment lock */
+        private int used = 0;
+    }
+
+    /**
+     * A consumer of map entries, see {@link #forEach(EntryConsumer)}.
+     *
+     * @param <V>
+     * 		the value type
+     * @param <E>
+     * 		the type of exception thrown by the consumer
+     */
+    @FunctionalInterface
+    interface EntryConsumer<V, E extends Exception> {
+        void accept(long key, V value) throws E;
+    }
+
+    private final Segment[] segments;
+
+    /**
+     * Create a new empty map.
+     */
+    ConcurrentLongObjectMap() {
+        segments = new Segment[NUM_SEGMENTS];
+        for (int i = 0; i < NUM_SEGMENTS; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    /**
+     * Returns the value for the given key, or null if the map doesn't contain the key. This method
+     * may be called concurrently from multiple threads, and it never blocks.
+     *
+     * @param key
+     * 		the key
+     * @return the value, or null
+     */
+    @SuppressWarnings("unchecked")
+    V get(final long key) {
+        final int hash = hash(key);
+        final Table table = segments[hash >>> SEGMENT_SHIFT].table;
+        final int slot = table.slot(key, hash);
+        // Values are always set before keys, so if the key is found, the value is there, too
+        final Object value = (table.keys.get(slot) == key) ? table.values.get(slot) : null;
+        return (value == TOMBSTONE) ? null : (V) value;
+    }
+
+    /**
+     * Associates the given value with the given key.
+     *
+     * @param key
+     * 		the key, must not be {@link #EMPTY_KEY}
+     * @param value
+     * 		the value, must not be null
+     */
+    void put(final long key, final V value) {
+        if (value == null) {
+            throw new NullPointerException("Null values are not permitted");
+        }
+        compute(key, v -> value);
+    }
+
+    /**
+     * Computes a new value for the given key, the same way as {@code ConcurrentHashMap.compute()}.
+     * The remapping function is called with the current value, or null if there is no value for
+     * the key. If the function returns null, the key is removed from the map. The whole operation
+     * is atomic. The function is called under a lock, so it must be short and must not update this
+     * map.
+     *
+     * @param key
+     * 		the key, must not be {@link #EMPTY_KEY}
+     * @param remapping
+     * 		the function to compute a new value
+     * @return the new value associated with the key, or null if none
+     */
+    @SuppressWarnings("unchecked")
+    V compute(final long key, final UnaryOperator<V> remapping) {
+        if (key == EMPTY_KEY) {
+            throw new IllegalArgumentException("Key " + key + " is reserved");
+        }
+        final int hash = hash(key);
+        final Segment segment = segments[hash >>> SEGMENT_SHIFT];
+        synchronized (segment) {
+            Table table = segment.table;
+            int slot = table.slot(key, hash);
+            final boolean found = table.keys.get(slot) == key;
+            final Object current = found ? table.values.get(slot) : null;
+            final V oldValue = (current == TOMBSTONE) ? null : (V) current;
+            final V newValue = remapping.apply(oldValue);
+            if (newValue == null) {
+                if (oldValue != null) {
+                    table.values.set(slot, TOMBSTONE);
+                    segment.size--;
+                    // Shrink the table, if most of its entries are removed
+                    if ((table.capacity() > MIN_SEGMENT_CAPACITY) && (segment.size < table.capacity() / 8)) {
+                        rebuild(segment, segment.size);
+                    }
+                }
+                return null;
+            }
+            if (found) {
+                if (oldValue == null) {
+                    segment.size++;
+                }
+                table.values.set(slot, newValue);
+                return newValue;
+            }
+            // A new key. Keep at least a quarter of slots empty, so probe sequences are short
+            if ((segment.used + 1) > table.capacity() / 4 * 3) {
+                table = rebuild(segment, segment.size + 1);
+                slot = table.slot(key, hash);
+            }
+            table.values.set(slot, newValue);
+            table.keys.set(slot, key);
+            segment.size++;
+            segment.used++;
+            return newValue;
+        }
+    }
+
+    /**
+     * Returns the number of entries in the map. If the map is updated concurrently, the result
+     * is an estimate.
+     *
+     * @return the number of entries
+     */
+    int size() {
+        int size = 0;
+        for (final Segment segment : segments) {
+            size += segment.size;
+        }
+        return size;
+    }
+
+    /**
+     * Calls the consumer for every entry in the map. If the map is updated concurrently, updates
+     * may or may not be visible to the consumer.
+     *
+     * @param consumer
+     * 		the consumer
+     * @param <E>
+     * 		the type of exception thrown by the consumer
+     * @throws E
+     * 		if the consumer throws
+     */
+    @SuppressWarnings("unchecked")
+    <E extends Exception> void forEach(final EntryConsumer<V, E> consumer) throws E {
+        for (final Segment segment : segments) {
+            final Table table = segment.table;
+            for (int i = 0; i < table.capacity(); i++) {
+                final long key = table.keys.get(i);
+                if (key == EMPTY_KEY) {
+                    continue;
+                }
+                final Object value = table.values.get(i);
+                if (value != TOMBSTONE) {
+                    consumer.accept(key, (V) value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a new table for the given segment, big enough to store the given number of entries,
+     * copies all not removed entries to it, and publishes the new table. Must be called under the
+     * segment lock.
+     */
+    private static Table rebuild(final Segment segment, final int expectedSize) {
+        final Table oldTable = segment.table;
+        // Entries take up to a half of the new table, so it doesn't need to be rebuilt again soon
+        final int capacity = Math.max(MIN_SEGMENT_CAPACITY, Integer.highestOneBit(Math.max(1, expectedSize)) << 2);
+        final Table newTable = new Table(capacity);
+        int used = 0;
+        for (int i = 0; i < oldTable.capacity(); i++) {
+            final long key = oldTable.keys.get(i);
+            if (key == EMPTY_KEY) {
+                continue;
+            }
+            final Object value = oldTable.values.get(i);
+            if (value != TOMBSTONE) {
+                final int slot = newTable.slot(key, hash(key));
+                newTable.values.setPlain(slot, value);
+                newTable.keys.setPlain(slot, key);
+                used++;
+            }
+        }
+        segment.used = used;
+        // Volatile write, all plain writes above are visible to readers of the new table
+        segment.table = newTable;
+        return newTable;
+    }
+
+    private static int hash(final long key) {
+        final long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
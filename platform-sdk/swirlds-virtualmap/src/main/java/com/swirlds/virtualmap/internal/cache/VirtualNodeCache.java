@@ -21,6 +21,7 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
 import java.util.Comparator;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -212,17 +213,18 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
 
     /**
      * A shared index of paths to leaves, via {@link Mutation}s. Works the same as {@link #keyToDirtyLeafIndex}.
+     * Paths are primitive longs, so no boxed keys are created for dirty paths.
      * <p>
      * <strong>ONE PER CHAIN OF CACHES</strong>.
      */
-    private final Map<Long, Mutation<Long, K>> pathToDirtyLeafIndex;
+    private final ConcurrentLongObjectMap<PathMutation<K>> pathToDirtyLeafIndex;
 
     /**
      * A shared index of paths to internals, via {@link Mutation}s. Works the same as {@link #keyToDirtyLeafIndex}.
      * <p>
      * <strong>ONE PER CHAIN OF CACHES</strong>.
      */
-    private final Map<Long, Mutation<Long, Hash>> pathToDirtyHashIndex;
+    private final ConcurrentLongObjectMap<PathMutation<Hash>> pathToDirtyHashIndex;
 
     /**
      * Whether this instance is released. A released cache is often the last in the
@@ -268,7 +270,7 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
      * <p>
      * <strong>ONE PER CACHE INSTANCE</strong>.
      */
-    private volatile ConcurrentArray<Mutation<Long, K>> dirtyLeafPaths = new ConcurrentArray<>();
+    private volatile ConcurrentArray<PathMutation<K>> dirtyLeafPaths = new ConcurrentArray<>();
 
     /**
      * A set of all modifications to node hashes that occurred in this version of the cache.
@@ -278,7 +280,7 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
      * <p>
      * <strong>ONE PER CACHE INSTANCE</strong>.
      */
-    private volatile ConcurrentArray<Mutation<Long, Hash>> dirtyHashes = new ConcurrentArray<>();
+    private volatile ConcurrentArray<PathMutation<Hash>> dirtyHashes = new ConcurrentArray<>();
 
     /**
      * Indicates if this virtual cache instance contains mutations from older cache versions
@@ -334,8 +336,8 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
      */
     public VirtualNodeCache(final @NonNull VirtualMapConfig virtualMapConfig, long fastCopyVersion) {
         this.keyToDirtyLeafIndex = new ConcurrentHashMap<>();
-        this.pathToDirtyLeafIndex = new ConcurrentHashMap<>();
-        this.pathToDirtyHashIndex = new ConcurrentHashMap<>();
+        this.pathToDirtyLeafIndex = new ConcurrentLongObjectMap<>();
+        this.pathToDirtyHashIndex = new ConcurrentLongObjectMap<>();
         this.releaseLock = new ReentrantLock();
         this.lastReleased = new AtomicLong(-1L);
         this.fastCopyVersion.set(fastCopyVersion);
@@ -451,8 +453,8 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
         // Fire off the cleaning threads to go and clear out data in the indexes that doesn't need
         // to be there anymore.
         purge(dirtyLeaves, keyToDirtyLeafIndex, virtualMapConfig);
-        purge(dirtyLeafPaths, pathToDirtyLeafIndex, virtualMapConfig);
-        purge(dirtyHashes, pathToDirtyHashIndex, virtualMapConfig);
+        purgePaths(dirtyLeafPaths, pathToDirtyLeafIndex, virtualMapConfig);
+        purgePaths(dirtyHashes, pathToDirtyHashIndex, virtualMapConfig);
 
         dirtyLeaves = null;
         dirtyLeafPaths = null;
@@ -733,7 +735,7 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
         // Note that the mutations in pathToDirtyLeafIndex contain the *path* as the key,
         // and a leaf record *key* as the value. Thus, we look up a mutation first in the
         // pathToDirtyLeafIndex, get the leaf key, and then lookup based on that key.
-        final Mutation<Long, K> mutation = lookup(pathToDirtyLeafIndex.get(path));
+        final PathMutation<K> mutation = lookup(pathToDirtyLeafIndex.get(path));
         // If mutation is null (path is unknown), return null regardless of forModify
         if (mutation == null) {
             return null;
@@ -956,7 +958,7 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
             return null;
         }
 
-        final Mutation<Long, Hash> mutation = lookup(pathToDirtyHashIndex.get(path));
+        final PathMutation<Hash> mutation = lookup(pathToDirtyHashIndex.get(path));
 
         // Always return null if there is no mutation regardless of forModify
         if ((mutation == null) || (mutation.value == NULL_HASH)) {
@@ -1000,10 +1002,10 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
         // Mark obsolete mutations to filter later
         filterMutations(dirtyHashes, virtualMapConfig);
         return dirtyHashes.stream()
-                .filter(mutation -> mutation.key <= lastLeafPath)
+                .filter(mutation -> mutation.path <= lastLeafPath)
                 .filter(mutation -> !mutation.isFiltered())
                 .map(mutation ->
-                        new VirtualHashRecord(mutation.key, mutation.value != NULL_HASH ? mutation.value : null));
+                        new VirtualHashRecord(mutation.path, mutation.value != NULL_HASH ? mutation.value : null));
     }
 
     /**
@@ -1085,9 +1087,9 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
     public VirtualNodeCache<K, V> snapshot() {
         synchronized (lastReleased) {
             final VirtualNodeCache<K, V> newSnapshot = new VirtualNodeCache<>(virtualMapConfig);
-            setMapSnapshotAndArray(
+            setPathMapSnapshotAndArray(
                     this.pathToDirtyHashIndex, newSnapshot.pathToDirtyHashIndex, newSnapshot.dirtyHashes);
-            setMapSnapshotAndArray(
+            setPathMapSnapshotAndArray(
                     this.pathToDirtyLeafIndex, newSnapshot.pathToDirtyLeafIndex, newSnapshot.dirtyLeafPaths);
             setMapSnapshotAndArray(this.keyToDirtyLeafIndex, newSnapshot.keyToDirtyLeafIndex, newSnapshot.dirtyLeaves);
             newSnapshot.snapshot.set(true);
@@ -1181,14 +1183,14 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
     private <V1> void updatePaths(
             final V1 value,
             final long path,
-            final Map<Long, Mutation<Long, V1>> index,
-            final ConcurrentArray<Mutation<Long, V1>> dirtyPaths) {
-        index.compute(path, (key, mutation) -> {
+            final ConcurrentLongObjectMap<PathMutation<V1>> index,
+            final ConcurrentArray<PathMutation<V1>> dirtyPaths) {
+        index.compute(path, mutation -> {
             // If there is no mutation or the mutation isn't for this version, then we need to create a new mutation.
             // Note that this code DEPENDS on hashing only a single round at a time. VirtualPipeline
             // enforces this constraint.
-            Mutation<Long, V1> nextMutation = mutation;
-            Mutation<Long, V1> previousMutation = null;
+            PathMutation<V1> nextMutation = mutation;
+            PathMutation<V1> previousMutation = null;
             while (nextMutation != null && nextMutation.version > fastCopyVersion.get()) {
                 previousMutation = nextMutation;
                 nextMutation = nextMutation.next;
@@ -1197,7 +1199,7 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
                 // It must be that there is *NO* mutation in the dirtyPaths for this cache version.
                 // I don't have an easy way to assert it programmatically, but by inspection, it must be true.
                 // Create a mutation for this version pointing to the next oldest mutation (if any).
-                nextMutation = new Mutation<>(nextMutation, path, value, fastCopyVersion.get());
+                nextMutation = new PathMutation<>(nextMutation, path, value, fastCopyVersion.get());
                 nextMutation.setDeleted(value == null);
                 // Hold a reference to this newest mutation in this cache
                 dirtyPaths.add(nextMutation);
@@ -1224,12 +1226,10 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
      *
      * @param mutation
      * 		The mutation list, can be null.
-     * @param <K1> The key type held by the mutation. Either a Key or a path.
-     * @param <V1>>
-     * 		The value type held by the mutation. It will be either a Key, leaf record, or a hash.
+     * @param <M> The mutation type. Either a key or a path mutation.
      * @return null if the mutation could be found, or the mutation.
      */
-    private <K1, V1> Mutation<K1, V1> lookup(Mutation<K1, V1> mutation) {
+    private <M extends AbstractMutation<M, ?>> M lookup(M mutation) {
         // Walk the list of values until we find the best match for our version
         for (; ; ) {
             // If mutation is null, then there is nothing else to look for. We're done.
@@ -1304,19 +1304,49 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
             @NonNull final VirtualMapConfig virtualMapConfig) {
         array.parallelTraverse(
                 getCleaningPool(virtualMapConfig),
-                element -> index.compute(element.key, (key, mutation) -> {
-                    if (mutation == null || element.equals(mutation)) {
-                        // Already removed for a more recent mutation
-                        return null;
-                    }
-                    for (Mutation<K, V> m = mutation; m.next != null; m = m.next) {
-                        if (element.equals(m.next)) {
-                            m.next = null;
-                            break;
-                        }
-                    }
-                    return mutation;
-                }));
+                element -> index.compute(element.key, (key, mutation) -> purgeMutation(element, mutation)));
+    }
+
+    /**
+     * The same as {@link #purge(ConcurrentArray, Map, VirtualMapConfig)}, but for path indexes.
+     *
+     * @param index
+     * 		The path index to look through for entries to purge
+     * @param <V>
+     * 		The value type referenced by the mutation list
+     */
+    private static <V> void purgePaths(
+            final ConcurrentArray<PathMutation<V>> array,
+            final ConcurrentLongObjectMap<PathMutation<V>> index,
+            @NonNull final VirtualMapConfig virtualMapConfig) {
+        array.parallelTraverse(
+                getCleaningPool(virtualMapConfig),
+                element -> index.compute(element.path, mutation -> purgeMutation(element, mutation)));
+    }
+
+    /**
+     * Removes the given mutation and all older mutations from a mutation list.
+     *
+     * @param element
+     * 		The mutation to remove
+     * @param mutation
+     * 		The mutation list, can be null
+     * @param <M>
+     * 		The mutation type. Either a key or a path mutation.
+     * @return The mutation list after removal, or null if the list is empty
+     */
+    private static <M extends AbstractMutation<M, ?>> M purgeMutation(final M element, final M mutation) {
+        if (mutation == null || element.equals(mutation)) {
+            // Already removed for a more recent mutation
+            return null;
+        }
+        for (M m = mutation; m.next != null; m = m.next) {
+            if (element.equals(m.next)) {
+                m.next = null;
+                break;
+            }
+        }
+        return mutation;
     }
 
     /**
@@ -1332,17 +1362,15 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
      * BE AWARE: this method is called from the other NON-static method with providing the configuration.
      *
      * @param array the list of mutations to process
-     * @param <K>
-     * 		The key type used in the index
-     * @param <V>
-     * 		The value type referenced by the mutation list
+     * @param <M>
+     * 		The mutation type. Either a key or a path mutation.
      */
-    private static <K, V> void filterMutations(
-            final ConcurrentArray<Mutation<K, V>> array, @NonNull final VirtualMapConfig virtualMapConfig) {
-        final Consumer<Mutation<K, V>> action = mutation -> {
+    private static <M extends AbstractMutation<M, ?>> void filterMutations(
+            final ConcurrentArray<M> array, @NonNull final VirtualMapConfig virtualMapConfig) {
+        final Consumer<M> action = mutation -> {
             // local variable is required because mutation.next can be changed by another thread to null
             // see https://github.com/hashgraph/hedera-services/issues/7046 for the context
-            final Mutation<K, V> nextMutation = mutation.next;
+            final M nextMutation = mutation.next;
             if (nextMutation != null) {
                 nextMutation.setFiltered();
             }
@@ -1378,22 +1406,58 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
             final Map<K2, Mutation<K2, L2>> src,
             final Map<K2, Mutation<K2, L2>> dst,
             final ConcurrentArray<Mutation<K2, L2>> array) {
-        final long accepted = fastCopyVersion.get();
-        final long rejected = lastReleased.get();
         for (final Map.Entry<K2, Mutation<K2, L2>> entry : src.entrySet()) {
-            Mutation<K2, L2> mutation = entry.getValue();
-
-            while (mutation != null && mutation.version > accepted) {
-                mutation = mutation.next;
+            final Mutation<K2, L2> mutation = snapshotMutation(entry.getValue());
+            if (mutation != null) {
+                dst.put(entry.getKey(), mutation);
+                array.add(mutation);
             }
+        }
+    }
 
-            if (mutation == null || mutation.version <= rejected) {
-                continue;
+    /**
+     * The same as {@link #setMapSnapshotAndArray(Map, Map, ConcurrentArray)}, but for path indexes.
+     *
+     * @param src
+     * 		Path index that contains the original mutations
+     * @param dst
+     * 		Path index that acts as the destination of mutations
+     * @param <L2>
+     * 		Value type
+     */
+    private <L2> void setPathMapSnapshotAndArray(
+            final ConcurrentLongObjectMap<PathMutation<L2>> src,
+            final ConcurrentLongObjectMap<PathMutation<L2>> dst,
+            final ConcurrentArray<PathMutation<L2>> array) {
+        src.forEach((path, value) -> {
+            final PathMutation<L2> mutation = snapshotMutation(value);
+            if (mutation != null) {
+                dst.put(path, mutation);
+                array.add(mutation);
             }
+        });
+    }
 
-            dst.put(entry.getKey(), mutation);
-            array.add(mutation);
+    /**
+     * Finds the latest mutation in a mutation list to include to a snapshot, with version less
+     * than or equal to the {@code fastCopyVersion}, but greater than the last released version.
+     *
+     * @param mutation
+     * 		The mutation list
+     * @param <M>
+     * 		The mutation type. Either a key or a path mutation.
+     * @return The mutation to include to a snapshot, or null if there is no such mutation
+     */
+    private <M extends AbstractMutation<M, ?>> M snapshotMutation(M mutation) {
+        final long accepted = fastCopyVersion.get();
+        final long rejected = lastReleased.get();
+        while (mutation != null && mutation.version > accepted) {
+            mutation = mutation.next;
+        }
+        if (mutation == null || mutation.version <= rejected) {
+            return null;
         }
+        return mutation;
     }
 
     /**
@@ -1407,12 +1471,12 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
      * 		If something fails.
      */
     private void serializePathToDirtyHashIndex(
-            final Map<Long, Mutation<Long, Hash>> map, final SerializableDataOutputStream out) throws IOException {
+            final ConcurrentLongObjectMap<PathMutation<Hash>> map, final SerializableDataOutputStream out)
+            throws IOException {
         assert snapshot.get() : "Only snapshots can be serialized";
         out.writeInt(map.size());
-        for (final Map.Entry<Long, Mutation<Long, Hash>> entry : map.entrySet()) {
-            out.writeLong(entry.getKey());
-            final Mutation<Long, Hash> mutation = entry.getValue();
+        map.forEach((path, mutation) -> {
+            out.writeLong(path);
             assert mutation != null : "Mutations cannot be null in a snapshot";
             assert mutation.version <= this.fastCopyVersion.get()
                     : "Trying to serialize pathToDirtyInternalIndex with a version ahead";
@@ -1421,7 +1485,7 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
             if (!mutation.isDeleted()) {
                 out.writeSerializable(mutation.value, true);
             }
-        }
+        });
     }
 
     /**
@@ -1435,7 +1499,9 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
      * 		In case of trouble.
      */
     private void deserializePathToDirtyHashIndex(
-            final Map<Long, Mutation<Long, Hash>> map, final SerializableDataInputStream in, final int version)
+            final ConcurrentLongObjectMap<PathMutation<Hash>> map,
+            final SerializableDataInputStream in,
+            final int version)
             throws IOException {
         final int sizeOfMap = in.readInt();
         for (int index = 0; index < sizeOfMap; index++) {
@@ -1450,7 +1516,7 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
                 }
                 hash = in.readSerializable();
             }
-            final Mutation<Long, Hash> mutation = new Mutation<>(null, key, hash, mutationVersion);
+            final PathMutation<Hash> mutation = new PathMutation<>(null, key, hash, mutationVersion);
             mutation.setDeleted(isDeleted);
             map.put(key, mutation);
             dirtyHashes.add(mutation);
@@ -1468,12 +1534,12 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
      * 		If something fails.
      */
     private void serializePathToDirtyLeafIndex(
-            final Map<Long, Mutation<Long, K>> map, final SerializableDataOutputStream out) throws IOException {
+            final ConcurrentLongObjectMap<PathMutation<K>> map, final SerializableDataOutputStream out)
+            throws IOException {
         assert snapshot.get() : "Only snapshots can be serialized";
         out.writeInt(map.size());
-        for (final Map.Entry<Long, Mutation<Long, K>> entry : map.entrySet()) {
-            out.writeLong(entry.getKey());
-            final Mutation<Long, K> mutation = entry.getValue();
+        map.forEach((path, mutation) -> {
+            out.writeLong(path);
             assert mutation != null : "Mutations cannot be null in a snapshot";
             assert mutation.version <= this.fastCopyVersion.get()
                     : "Trying to serialize pathToDirtyLeafIndex with a version ahead";
@@ -1481,7 +1547,7 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
             out.writeSerializable(mutation.value, true);
             out.writeLong(mutation.version);
             out.writeBoolean(mutation.isDeleted());
-        }
+        });
     }
 
     /**
@@ -1495,15 +1561,16 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
      * 		In case of trouble.
      */
     private void deserializePathToDirtyLeafIndex(
-            final Map<Long, Mutation<Long, K>> map, final SerializableDataInputStream in) throws IOException {
+            final ConcurrentLongObjectMap<PathMutation<K>> map, final SerializableDataInputStream in)
+            throws IOException {
         final int sizeOfMap = in.readInt();
         for (int index = 0; index < sizeOfMap; index++) {
-            final Long path = in.readLong();
+            final long path = in.readLong();
             final K key = in.readSerializable();
             final long mutationVersion = in.readLong();
             final boolean deleted = in.readBoolean();
 
-            final Mutation<Long, K> mutation = new Mutation<>(null, path, key, mutationVersion);
+            final PathMutation<K> mutation = new PathMutation<>(null, path, key, mutationVersion);
             mutation.setDeleted(deleted);
             map.put(path, mutation);
             dirtyLeafPaths.add(mutation);
@@ -1591,14 +1658,13 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
     /**
      * A mutation. Mutations are linked together within the mutation list. Each mutation
      * has a pointer to the next oldest mutation in the list.
-     * @param <K> The key type of data held by the mutation.
+     * @param <M> The type of mutations in the list.
      * @param <V> The type of data held by the mutation.
      */
-    private static final class Mutation<K, V> {
-        private volatile Mutation<K, V> next;
-        private final long version; // The version of the cache that owns this mutation
-        private final K key;
-        private volatile V value;
+    private abstract static class AbstractMutation<M extends AbstractMutation<M, V>, V> {
+        volatile M next;
+        final long version; // The version of the cache that owns this mutation
+        volatile V value;
         private volatile byte flags = 0;
 
         // A bit in the flags field, which indicates whether this mutation is for a deleted op
@@ -1607,9 +1673,8 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
         // into resulting stream of dirty hashes / leaves
         private static final int FLAG_BIT_FILTERED = 1;
 
-        Mutation(Mutation<K, V> next, K key, V value, long version) {
+        AbstractMutation(M next, V value, long version) {
             this.next = next;
-            this.key = key;
             this.value = value;
             this.version = version;
         }
@@ -1642,6 +1707,49 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
         void setFiltered() {
             setFlag(FLAG_BIT_FILTERED, true);
         }
+
+        /**
+         * Get the key of this mutation, for debug output only.
+         */
+        abstract Object debugKey();
+    }
+
+    /**
+     * A mutation in a mutation list for a leaf key.
+     * @param <K> The key type of data held by the mutation.
+     * @param <V> The type of data held by the mutation.
+     */
+    private static final class Mutation<K, V> extends AbstractMutation<Mutation<K, V>, V> {
+        final K key;
+
+        Mutation(Mutation<K, V> next, K key, V value, long version) {
+            super(next, value, version);
+            this.key = key;
+        }
+
+        @Override
+        Object debugKey() {
+            return key;
+        }
+    }
+
+    /**
+     * A mutation in a mutation list for a path. The path is stored as a primitive, so path
+     * mutations don't allocate boxed keys.
+     * @param <V> The type of data held by the mutation. Either a leaf key or a hash.
+     */
+    private static final class PathMutation<V> extends AbstractMutation<PathMutation<V>, V> {
+        final long path;
+
+        PathMutation(PathMutation<V> next, long path, V value, long version) {
+            super(next, value, version);
+            this.path = path;
+        }
+
+        @Override
+        Object debugKey() {
+            return path;
+        }
     }
 
     /**
@@ -1658,22 +1766,22 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
         builder.append("===================================\n");
         builder.append(toDebugStringChain()).append("\n");
         //noinspection unchecked
-        builder.append(toDebugStringIndex("keyToDirtyLeafIndex", (Map<Object, Mutation>) (Object) keyToDirtyLeafIndex))
+        builder.append(toDebugStringIndex(
+                        "keyToDirtyLeafIndex", (Map<Object, AbstractMutation>) (Object) keyToDirtyLeafIndex))
                 .append("\n");
         //noinspection unchecked
-        builder.append(toDebugStringIndex(
-                        "pathToDirtyLeafIndex", (Map<Object, Mutation>) (Object) pathToDirtyLeafIndex))
+        builder.append(toDebugStringIndex("pathToDirtyLeafIndex", toDebugMap(pathToDirtyLeafIndex)))
                 .append("\n");
         //noinspection unchecked
-        builder.append(toDebugStringIndex(
-                        "pathToDirtyHashIndex", (Map<Object, Mutation>) (Object) pathToDirtyHashIndex))
+        builder.append(toDebugStringIndex("pathToDirtyHashIndex", toDebugMap(pathToDirtyHashIndex)))
                 .append("\n");
         //noinspection unchecked
-        builder.append(toDebugStringArray("dirtyLeaves", (ConcurrentArray<Mutation>) (Object) dirtyLeaves));
+        builder.append(toDebugStringArray("dirtyLeaves", (ConcurrentArray<AbstractMutation>) (Object) dirtyLeaves));
         //noinspection unchecked
-        builder.append(toDebugStringArray("dirtyLeafPaths", (ConcurrentArray<Mutation>) (Object) dirtyLeafPaths));
+        builder.append(
+                toDebugStringArray("dirtyLeafPaths", (ConcurrentArray<AbstractMutation>) (Object) dirtyLeafPaths));
         //noinspection unchecked
-        builder.append(toDebugStringArray("dirtyHashes", (ConcurrentArray<Mutation>) (Object) dirtyHashes));
+        builder.append(toDebugStringArray("dirtyHashes", (ConcurrentArray<AbstractMutation>) (Object) dirtyHashes));
         return builder.toString();
     }
 
@@ -1699,8 +1807,16 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
         return builder.toString();
     }
 
+    @SuppressWarnings("rawtypes")
+    private static Map<Object, AbstractMutation> toDebugMap(
+            final ConcurrentLongObjectMap<? extends AbstractMutation> index) {
+        final Map<Object, AbstractMutation> map = new TreeMap<>();
+        index.forEach(map::put);
+        return map;
+    }
+
     private String toDebugStringIndex(
-            final String indexName, @SuppressWarnings("rawtypes") final Map<Object, Mutation> index) {
+            final String indexName, @SuppressWarnings("rawtypes") final Map<Object, AbstractMutation> index) {
         final StringBuilder builder = new StringBuilder();
         builder.append(indexName).append(":\n");
 
@@ -1708,7 +1824,7 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
             builder.append("\t").append(key).append(":==> ");
             while (mutation != null) {
                 builder.append("[")
-                        .append(mutation.key)
+                        .append(mutation.debugKey())
                         .append(",")
                         .append(mutation.value)
                         .append(",")
@@ -1726,7 +1842,7 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
     }
 
     private String toDebugStringArray(
-            final String name, @SuppressWarnings("rawtypes") final ConcurrentArray<Mutation> arr) {
+            final String name, @SuppressWarnings("rawtypes") final ConcurrentArray<AbstractMutation> arr) {
         final StringBuilder builder = new StringBuilder();
         builder.append(name).append(":\n");
 
@@ -1734,7 +1850,7 @@ public final class VirtualNodeCache<K extends VirtualKey, V extends VirtualValue
         for (int i = 0; i < size; i++) {
             final var mutation = arr.get(i);
             builder.append("\t")
-                    .append(mutation.key)
+                    .append(mutation.debugKey())
                     .append(",")
                     .append(mutation.value)
                     .append(",")
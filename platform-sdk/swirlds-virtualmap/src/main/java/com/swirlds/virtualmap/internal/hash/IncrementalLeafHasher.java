@@ -0,0 +1,157 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.hash;
+
+import static com.swirlds.logging.legacy.LogMarker.EXCEPTION;
+
+import com.swirlds.virtualmap.VirtualKey;
+import com.swirlds.virtualmap.VirtualValue;
+import com.swirlds.virtualmap.config.VirtualMapConfig;
+import com.swirlds.virtualmap.datasource.VirtualLeafRecord;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hiero.base.crypto.Cryptography;
+import org.hiero.base.crypto.CryptographyProvider;
+import org.hiero.base.crypto.Hash;
+
+/**
+ * Computes hashes of dirty leaves of a mutable virtual map copy in background, while the copy is
+ * still being modified, so {@link VirtualHasher} doesn't have to compute them when the copy is
+ * hashed. Leaf hashes are the most expensive part of virtual map hashing, since every leaf has
+ * to be serialized first.
+ *
+ * <p>Every leaf record put to the copy is reported using {@link #leafUpdated(VirtualLeafRecord)}.
+ * Once {@link VirtualMapConfig#incrementalHashingBatchSize()} leaves are reported, they are
+ * hashed in a background task. Leaf hashes depend on leaf paths and values, which may change
+ * while the copy is modified. Paths change, e.g. when new leaves are added. Values change when
+ * a key is put again, and the virtual node cache updates the value of the existing dirty leaf
+ * record rather than replacing the record. To make sure a precomputed hash is never used for a
+ * leaf that changed after it was hashed, every hash is stored along with the leaf record
+ * instance, path, and value instance it was computed for. When the copy is hashed, {@link
+ * #getLeafHash(VirtualLeafRecord)} only returns a precomputed hash, if the dirty leaf is the
+ * same record instance with the same path and the same value instance. Leaf values must not be
+ * modified in place once put to a virtual map.
+ *
+ * <p>Internal node hashes are not precomputed, since the tree shape changes while the copy is
+ * modified. They are still computed by {@link VirtualHasher} when the copy is hashed.
+ *
+ * @param <K> the {@link VirtualKey} type
+ * @param <V> the {@link VirtualValue} type
+ */
+public final class IncrementalLeafHasher<K extends VirtualKey, V extends VirtualValue> {
+
+    private static final Logger logger = LogManager.getLogger(IncrementalLeafHasher.class);
+
+    private static final Cryptography CRYPTOGRAPHY = CryptographyProvider.getInstance();
+
+    /**
+     * A leaf hash, along with the leaf record, path, and value it was computed for.
+     */
+    private record LeafHash<K extends VirtualKey, V extends VirtualValue>(
+            VirtualLeafRecord<K, V> leaf, long path, V value, Hash hash) {}
+
+    // The number of reported leaves to hash in a single background task
+    private final int batchSize;
+
+    // Leaves reported, but not hashed yet
+    private final Queue<VirtualLeafRecord<K, V>> pendingLeaves = new ConcurrentLinkedQueue<>();
+
+    // The number of leaves reported so far
+    private final AtomicLong reportedCount = new AtomicLong(0);
+
+    // Precomputed leaf hashes, by leaf key
+    private final Map<K, LeafHash<K, V>> leafHashes = new ConcurrentHashMap<>();
+
+    // Set when the copy is about to be hashed. No background tasks are started after that
+    private final AtomicBoolean stopped = new AtomicBoolean(false);
+
+    /**
+     * Creates a new incremental leaf hasher.
+     *
+     * @param batchSize the number of reported leaves to hash in a single background task
+     */
+    public IncrementalLeafHasher(final int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Reports a leaf record put to the mutable virtual map copy. Must not be called after
+     * {@link #stop()}.
+     *
+     * @param leaf the leaf record
+     */
+    public void leafUpdated(@NonNull final VirtualLeafRecord<K, V> leaf) {
+        pendingLeaves.add(leaf);
+        // Every batchSize-th reported leaf starts a new background task
+        if ((reportedCount.incrementAndGet() % batchSize == 0) && !stopped.get()) {
+            ForkJoinPool.commonPool().execute(this::hashBatch);
+        }
+    }
+
+    private void hashBatch() {
+        try {
+            for (int i = 0; (i < batchSize) && !stopped.get(); i++) {
+                final VirtualLeafRecord<K, V> leaf = pendingLeaves.poll();
+                if (leaf == null) {
+                    break;
+                }
+                // Leaf paths and values may be changed concurrently. Hash a record with a fixed path
+                // and value, so the hash is guaranteed to match the path and value it's stored with
+                final long path = leaf.getPath();
+                final V value = leaf.getValue();
+                final Hash hash = CRYPTOGRAPHY.digestSync(new VirtualLeafRecord<>(path, leaf.getKey(), value));
+                leafHashes.put(leaf.getKey(), new LeafHash<>(leaf, path, value, hash));
+            }
+        } catch (final Exception e) {
+            // Not fatal, all leaves not hashed in background will be hashed by the virtual hasher
+            logger.error(EXCEPTION.getMarker(), "Failed to hash leaves in background", e);
+        }
+    }
+
+    /**
+     * Stops background hashing. Called when the copy is about to be hashed. Leaves reported, but
+     * not hashed yet, are left for {@link VirtualHasher}.
+     */
+    public void stop() {
+        stopped.set(true);
+        pendingLeaves.clear();
+    }
+
+    /**
+     * Returns a precomputed hash for the given dirty leaf, or {@code null} if the hash wasn't
+     * computed, or if the leaf has changed since it was computed.
+     *
+     * @param leaf the dirty leaf
+     * @return the leaf hash, or null
+     */
+    @Nullable
+    public Hash getLeafHash(@NonNull final VirtualLeafRecord<K, V> leaf) {
+        final LeafHash<K, V> leafHash = leafHashes.get(leaf.getKey());
+        if ((leafHash == null)
+                || (leafHash.leaf() != leaf)
+                || (leafHash.path() != leaf.getPath())
+                || (leafHash.value() != leaf.getValue())) {
+            return null;
+        }
+        return leafHash.hash();
+    }
+
+    /**
+     * Releases all precomputed hashes. Called after the copy is hashed.
+     */
+    public void clear() {
+        stop();
+        leafHashes.clear();
+    }
+}
@@ -15,6 +15,7 @@ import com.swirlds.virtualmap.internal.Path;
 import com.swirlds.virtualmap.internal.merkle.VirtualInternalNode;
 import com.swirlds.virtualmap.internal.merkle.VirtualRootNode;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -22,6 +23,7 @@ import java.util.Objects;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 import java.util.function.LongFunction;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -67,6 +69,13 @@ public final class VirtualHasher<K extends VirtualKey, V extends VirtualValue> {
      */
     private VirtualHashListener<K, V> listener;
 
+    /**
+     * A function to look up leaf hashes precomputed in background, see {@link IncrementalLeafHasher}.
+     * May return null, if a leaf hash isn't precomputed. This function is stored in a class field
+     * to avoid passing it as an arg to every hashing task.
+     */
+    private Function<VirtualLeafRecord<K, V>, Hash> leafHashReader;
+
     /**
      * An instance of {@link Cryptography} used to hash leaves. This should be a static final
      * field, but it doesn't work very well as platform configs aren't loaded at the time when
@@ -186,7 +195,8 @@ public final class VirtualHasher<K extends VirtualKey, V extends VirtualValue> {
         protected boolean onExecute() {
             final Hash hash;
             if (leaf != null) {
-                hash = CRYPTOGRAPHY.digestSync(leaf);
+                final Hash precomputedHash = (leafHashReader != null) ? leafHashReader.apply(leaf) : null;
+                hash = (precomputedHash != null) ? precomputedHash : CRYPTOGRAPHY.digestSync(leaf);
                 listener.onLeafHashed(leaf);
                 listener.onNodeHashed(path, hash);
             } else {
@@ -262,6 +272,30 @@ public final class VirtualHasher<K extends VirtualKey, V extends VirtualValue> {
             final long lastLeafPath,
             VirtualHashListener<K, V> listener,
             final @NonNull VirtualMapConfig virtualMapConfig) {
+        return hash(hashReader, null, sortedDirtyLeaves, firstLeafPath, lastLeafPath, listener, virtualMapConfig);
+    }
+
+    /**
+     * Same as {@link #hash(LongFunction, Iterator, long, long, VirtualHashListener, VirtualMapConfig)},
+     * but dirty leaf hashes are first looked up using the given function, and only computed if
+     * the function returns null.
+     *
+     * @param hashReader A function to read hashes for clean paths
+     * @param leafHashReader A function to look up precomputed dirty leaf hashes. May be null
+     * @param sortedDirtyLeaves A stream of leaf records, sorted by path
+     * @param firstLeafPath First leaf path
+     * @param lastLeafPath Last leaf path
+     * @param listener Hash listener. May be null
+     * @param virtualMapConfig VirtualMap config
+     */
+    public Hash hash(
+            final LongFunction<Hash> hashReader,
+            @Nullable final Function<VirtualLeafRecord<K, V>, Hash> leafHashReader,
+            final Iterator<VirtualLeafRecord<K, V>> sortedDirtyLeaves,
+            final long firstLeafPath,
+            final long lastLeafPath,
+            VirtualHashListener<K, V> listener,
+            final @NonNull VirtualMapConfig virtualMapConfig) {
         requireNonNull(virtualMapConfig);
 
         // We don't want to include null checks everywhere, so let the listener be NoopListener if null
@@ -290,6 +324,7 @@ public final class VirtualHasher<K extends VirtualKey, V extends VirtualValue> {
         }
 
         this.hashReader = hashReader;
+        this.leafHashReader = leafHashReader;
         this.listener = listener;
 
         // Algo v6. This version is task based, where every task is responsible for hashing a small
@@ -493,6 +528,7 @@ public final class VirtualHasher<K extends VirtualKey, V extends VirtualValue> {
         listener.onHashingCompleted();
 
         this.hashReader = null;
+        this.leafHashReader = null;
         this.listener = null;
 
         return resultTask.ins[0];
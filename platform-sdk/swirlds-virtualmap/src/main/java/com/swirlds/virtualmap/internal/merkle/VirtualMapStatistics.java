@@ -52,6 +52,8 @@ public class VirtualMapStatistics {
     private LongAccumulator flushDurationMs;
     /** The number of virtual root node copy flushes to data source */
     private Counter flushCount;
+    /** The average time to wait for a flush permit from the node-wide flush coordinator, ms */
+    private LongAccumulator flushPermitWaitMs;
     /** The average time to hash virtual map copy, ms */
     private LongAccumulator hashDurationMs;
 
@@ -142,6 +144,10 @@ public class VirtualMapStatistics {
         flushCount = metrics.getOrCreate(
                 new Counter.Config(STAT_CATEGORY, VMAP_PREFIX + LIFECYCLE_PREFIX + "flushCount_" + label)
                         .withDescription("Virtual root copy flush count, " + label));
+        flushPermitWaitMs = buildLongAccumulator(
+                metrics,
+                VMAP_PREFIX + LIFECYCLE_PREFIX + "flushPermitWaitMs_" + label,
+                "Virtual root copy flush permit wait time, " + label + ", ms");
         hashDurationMs = buildLongAccumulator(
                 metrics,
                 VMAP_PREFIX + LIFECYCLE_PREFIX + "hashDurationMs_" + label,
@@ -264,6 +270,17 @@ public class VirtualMapStatistics {
         }
     }
 
+    /**
+     * Record how long a virtual root copy waited for a flush permit.
+     *
+     * @param waitMs flush permit wait time, ms
+     */
+    public void recordFlushPermitWait(final long waitMs) {
+        if (this.flushPermitWaitMs != null) {
+            this.flushPermitWaitMs.update(waitMs);
+        }
+    }
+
     /**
      * Record a virtual root copy is hashed, and hash duration is as specified.
      *
@@ -25,6 +25,7 @@ import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.TimeUnit.MINUTES;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
+import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.swirlds.common.io.ExternalSelfSerializable;
 import com.swirlds.common.merkle.MerkleInternal;
 import com.swirlds.common.merkle.MerkleNode;
@@ -55,14 +56,17 @@ import com.swirlds.virtualmap.datasource.VirtualLeafRecord;
 import com.swirlds.virtualmap.internal.RecordAccessor;
 import com.swirlds.virtualmap.internal.VirtualStateAccessor;
 import com.swirlds.virtualmap.internal.cache.VirtualNodeCache;
+import com.swirlds.virtualmap.internal.hash.IncrementalLeafHasher;
 import com.swirlds.virtualmap.internal.hash.VirtualHashListener;
 import com.swirlds.virtualmap.internal.hash.VirtualHasher;
+import com.swirlds.virtualmap.internal.pipeline.VirtualFlushCoordinator;
 import com.swirlds.virtualmap.internal.pipeline.VirtualPipeline;
 import com.swirlds.virtualmap.internal.pipeline.VirtualRoot;
 import com.swirlds.virtualmap.internal.reconnect.ConcurrentBlockingIterator;
 import com.swirlds.virtualmap.internal.reconnect.LearnerPullVirtualTreeView;
 import com.swirlds.virtualmap.internal.reconnect.LearnerPushVirtualTreeView;
 import com.swirlds.virtualmap.internal.reconnect.NodeTraversalOrder;
+import com.swirlds.virtualmap.internal.reconnect.ReconnectCheckpoint;
 import com.swirlds.virtualmap.internal.reconnect.ReconnectHashLeafFlusher;
 import com.swirlds.virtualmap.internal.reconnect.ReconnectHashListener;
 import com.swirlds.virtualmap.internal.reconnect.ReconnectNodeRemover;
@@ -79,6 +83,10 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.channels.ClosedByInterruptException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
@@ -86,10 +94,12 @@ import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hiero.base.constructable.ConstructableClass;
+import org.hiero.base.crypto.Cryptography;
 import org.hiero.base.crypto.DigestType;
 import org.hiero.base.crypto.Hash;
 import org.hiero.base.io.streams.SerializableDataInputStream;
@@ -243,6 +253,12 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
      */
     private final VirtualHasher<K, V> hasher;
 
+    /**
+     * Computes dirty leaf hashes of this copy in background, while the copy is mutable. Null, if
+     * {@link VirtualMapConfig#incrementalHashingBatchSize()} is zero. Every copy has its own instance.
+     */
+    private final IncrementalLeafHasher<K, V> incrementalLeafHasher;
+
     /**
      * The {@link VirtualPipeline}, shared across all copies of a given {@link VirtualRootNode}, maintains the
      * lifecycle of the nodes, making sure they are merged or flushed or hashed in order and according to the
@@ -251,6 +267,13 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
      */
     private VirtualPipeline<K, V> pipeline;
 
+    /**
+     * The coordinator of flushes of this virtual root's pipeline and pipelines of other virtual roots.
+     * If null, the pipeline is created with its own coordinator, and its flushes aren't coordinated
+     * with other virtual roots. Only used when the pipeline is created.
+     */
+    private VirtualFlushCoordinator flushCoordinator;
+
     /**
      * Hash of this root node. If null, the node isn't hashed yet.
      */
@@ -321,6 +344,26 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
      */
     private VirtualRootNode<K, V> originalMap;
 
+    /**
+     * During reconnect as a learner, the records and the state of the tree to start reconnect from. It's
+     * either the original map, or a reconnect checkpoint, if there is one.
+     */
+    private RecordAccessor<K, V> startingRecords;
+
+    private VirtualStateAccessor startingState;
+
+    /**
+     * During reconnect as a learner, the data source restored from a reconnect checkpoint, or null if
+     * reconnect is started from the original map.
+     */
+    private VirtualDataSource checkpointDataSource;
+
+    /**
+     * During reconnect as a learner, the hash of this virtual map on the teacher, or null if unknown.
+     * Reconnect checkpoints are only saved and restored, if the hash is known.
+     */
+    private Hash reconnectTargetHash;
+
     private ReconnectHashLeafFlusher<K, V> reconnectFlusher;
 
     private ReconnectNodeRemover<K, V> nodeRemover;
@@ -342,10 +385,25 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
      * @param virtualMapConfig virtual map platform configuration
      */
     public VirtualRootNode(final @NonNull VirtualMapConfig virtualMapConfig) {
+        this(virtualMapConfig, null);
+    }
+
+    /**
+     * Creates a new empty root node, which coordinates its flushes using the given coordinator.
+     * This constructor is used for deserialization and reconnects, not for normal use.
+     *
+     * @param virtualMapConfig virtual map platform configuration
+     * @param flushCoordinator flush coordinator, or null to not coordinate flushes with other maps
+     */
+    public VirtualRootNode(
+            final @NonNull VirtualMapConfig virtualMapConfig,
+            final @Nullable VirtualFlushCoordinator flushCoordinator) {
         requireNonNull(virtualMapConfig);
+        this.flushCoordinator = flushCoordinator;
         this.fastCopyVersion = 0;
         // Hasher is required during reconnects
         this.hasher = new VirtualHasher<>();
+        this.incrementalLeafHasher = createIncrementalLeafHasher(virtualMapConfig);
         this.virtualMapConfig = virtualMapConfig;
         this.flushThreshold.set(virtualMapConfig.copyFlushThreshold());
         // All other fields are initialized in postInit()
@@ -365,8 +423,29 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
             final @NonNull ValueSerializer<V> valueSerializer,
             final @NonNull VirtualDataSourceBuilder dataSourceBuilder,
             final @NonNull VirtualMapConfig virtualMapConfig) {
+        this(keySerializer, valueSerializer, dataSourceBuilder, virtualMapConfig, null);
+    }
+
+    /**
+     * Creates a new root node using the provided data source builder to create node's
+     * virtual data source, and the provided coordinator to coordinate its flushes.
+     *
+     * @param keySerializer virtual key serializer, must not be null
+     * @param valueSerializer virtual value serializer, must not be null
+     * @param dataSourceBuilder data source builder, must not be null
+     * @param virtualMapConfig virtual map platform configuration
+     * @param flushCoordinator flush coordinator, or null to not coordinate flushes with other maps
+     */
+    public VirtualRootNode(
+            final @NonNull KeySerializer<K> keySerializer,
+            final @NonNull ValueSerializer<V> valueSerializer,
+            final @NonNull VirtualDataSourceBuilder dataSourceBuilder,
+            final @NonNull VirtualMapConfig virtualMapConfig,
+            final @Nullable VirtualFlushCoordinator flushCoordinator) {
         this.fastCopyVersion = 0;
+        this.flushCoordinator = flushCoordinator;
         this.hasher = new VirtualHasher<>();
+        this.incrementalLeafHasher = createIncrementalLeafHasher(virtualMapConfig);
         this.virtualMapConfig = requireNonNull(virtualMapConfig);
         this.flushThreshold.set(virtualMapConfig.copyFlushThreshold());
         this.keySerializer = requireNonNull(keySerializer);
@@ -392,6 +471,7 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
         this.dataSource = source.dataSource;
         this.cache = source.cache.copy();
         this.hasher = source.hasher;
+        this.incrementalLeafHasher = createIncrementalLeafHasher(source.virtualMapConfig);
         this.reconnectHashingFuture = null;
         this.reconnectHashingStarted = null;
         this.reconnectIterator = null;
@@ -399,6 +479,7 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
         this.fullyReconnectedState = null;
         this.maxSizeReachedTriggeringWarning = source.maxSizeReachedTriggeringWarning;
         this.pipeline = source.pipeline;
+        this.flushCoordinator = source.flushCoordinator;
         this.flushThreshold.set(source.flushThreshold.get());
         this.statistics = source.statistics;
         this.virtualMapConfig = source.virtualMapConfig;
@@ -410,6 +491,12 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
         // All other fields are initialized in postInit()
     }
 
+    private static <K extends VirtualKey, V extends VirtualValue> IncrementalLeafHasher<K, V>
+            createIncrementalLeafHasher(final VirtualMapConfig virtualMapConfig) {
+        final int batchSize = virtualMapConfig.incrementalHashingBatchSize();
+        return batchSize > 0 ? new IncrementalLeafHasher<>(batchSize) : null;
+    }
+
     /**
      * Sets the {@link VirtualStateAccessor}. This method is called when this root node
      * is added as a child to its virtual map. It happens when virtual maps are created
@@ -446,7 +533,9 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
         // At this point in time the copy knows if it should be flushed or merged, and so it is safe
         // to register with the pipeline.
         if (pipeline == null) {
-            pipeline = new VirtualPipeline<>(virtualMapConfig, state.getLabel());
+            pipeline = (flushCoordinator != null)
+                    ? new VirtualPipeline<>(virtualMapConfig, state.getLabel(), flushCoordinator)
+                    : new VirtualPipeline<>(virtualMapConfig, state.getLabel());
         }
         pipeline.registerCopy(this);
     }
@@ -877,6 +966,7 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
 
             final VirtualLeafRecord<K, V> leaf = new VirtualLeafRecord<>(path, key, value);
             cache.putLeaf(leaf);
+            reportLeafUpdated(leaf);
             statistics.countUpdatedEntities();
         } finally {
             assert currentModifyingThreadRef.compareAndSet(Thread.currentThread(), null);
@@ -1319,6 +1409,11 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
         // Make sure the cache is immutable for leaf changes but mutable for internal node changes
         cache.prepareForHashing();
 
+        // No more leaf changes, stop hashing leaves in background
+        if (incrementalLeafHasher != null) {
+            incrementalLeafHasher.stop();
+        }
+
         // Compute the root hash of the virtual tree
         final VirtualHashListener<K, V> hashListener = new VirtualHashListener<>() {
             @Override
@@ -1328,6 +1423,7 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
         };
         Hash virtualHash = hasher.hash(
                 records::findHash,
+                (incrementalLeafHasher != null) ? incrementalLeafHasher::getLeafHash : null,
                 cache.dirtyLeavesForHash(state.getFirstLeafPath(), state.getLastLeafPath())
                         .iterator(),
                 state.getFirstLeafPath(),
@@ -1340,6 +1436,10 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
             virtualHash = (rootHash != null) ? rootHash : hasher.emptyRootHash();
         }
 
+        if (incrementalLeafHasher != null) {
+            incrementalLeafHasher.clear();
+        }
+
         // There are no remaining changes to be made to the cache, so we can seal it.
         cache.seal();
 
@@ -1442,10 +1542,19 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
     /**
      * {@inheritDoc}
      */
-    @SuppressWarnings("unchecked")
     @Override
     public void setupWithOriginalNode(final MerkleNode originalNode) {
+        setupWithOriginalNode(originalNode, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public void setupWithOriginalNode(final MerkleNode originalNode, @Nullable final Hash teacherHash) {
         assert originalNode instanceof VirtualRootNode : "The original node was not a VirtualRootNode!";
+        reconnectTargetHash = teacherHash;
 
         // NOTE: If we're reconnecting, then the old tree is toast. We hold onto the originalMap to
         // restart from that position again in the future if needed, but we're never going to use
@@ -1457,6 +1566,10 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
 
         this.keySerializer = originalMap.keySerializer;
         this.valueSerializer = originalMap.valueSerializer;
+        if (flushCoordinator == null) {
+            // The reconnected map replaces the original map, so it's coordinated with the same maps
+            flushCoordinator = originalMap.flushCoordinator;
+        }
 
         reconnectState = new ReconnectState(-1, -1);
         reconnectRecords = originalMap.pipeline.pausePipelineAndRun("copy", () -> {
@@ -1466,6 +1579,28 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
             // helpful and will just burn resources.
             originalMap.dataSource.stopAndDisableBackgroundCompaction();
 
+            // If a previous reconnect failed and left a checkpoint, continue from there
+            checkpointDataSource = restoreReconnectCheckpoint(originalMap.getState().getLabel());
+            if (checkpointDataSource != null) {
+                this.dataSource = dataSourceBuilder.copy(checkpointDataSource, true, false);
+                startingState = new ReconnectState(
+                        checkpointDataSource.getFirstLeafPath(), checkpointDataSource.getLastLeafPath());
+                startingRecords = new RecordAccessorImpl<>(
+                        startingState,
+                        new VirtualNodeCache<K, V>(virtualMapConfig).snapshot(),
+                        keySerializer,
+                        valueSerializer,
+                        checkpointDataSource);
+                return new RecordAccessorImpl<>(
+                        reconnectState,
+                        new VirtualNodeCache<K, V>(virtualMapConfig).snapshot(),
+                        keySerializer,
+                        valueSerializer,
+                        dataSource);
+            }
+            startingState = originalMap.getState();
+            startingRecords = originalMap.getRecords();
+
             // Take a snapshot, and use the snapshot database as my data source
             this.dataSource = dataSourceBuilder.copy(originalMap.dataSource, true, false);
 
@@ -1493,6 +1628,88 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
         statistics = originalMap.statistics;
     }
 
+    /**
+     * Restores a data source from the reconnect checkpoint for the given label, if reconnect
+     * checkpoints are enabled and there is a valid checkpoint.
+     *
+     * @param label the virtual map label
+     * @return the restored data source, or null if there is no valid checkpoint
+     */
+    @Nullable
+    private VirtualDataSource restoreReconnectCheckpoint(@NonNull final String label) {
+        final Path checkpointsDirectory = getReconnectCheckpointsDirectory();
+        if (checkpointsDirectory == null) {
+            return null;
+        }
+        try {
+            final ReconnectCheckpoint checkpoint = ReconnectCheckpoint.load(checkpointsDirectory, label);
+            if (checkpoint == null) {
+                return null;
+            }
+            if (!checkpoint.targetHash().equals(reconnectTargetHash)) {
+                // The checkpoint was made for a different teacher tree, e.g. an older state
+                logger.info(
+                        RECONNECT.getMarker(),
+                        "VirtualMap@{} reconnect checkpoint is for another target {}, starting from the original map",
+                        getRoute(),
+                        checkpoint.targetHash());
+                deleteReconnectCheckpoint(checkpointsDirectory, label);
+                return null;
+            }
+            final VirtualDataSource restored = checkpoint.restore(dataSourceBuilder, label);
+            logger.info(
+                    RECONNECT.getMarker(),
+                    "VirtualMap@{} continues reconnect from checkpoint {}, leaf paths [{}, {}], root hash {}",
+                    getRoute(),
+                    checkpoint.directory(),
+                    checkpoint.firstLeafPath(),
+                    checkpoint.lastLeafPath(),
+                    checkpoint.rootHash());
+            return restored;
+        } catch (final IOException e) {
+            logger.warn(
+                    RECONNECT.getMarker(),
+                    "VirtualMap@{} failed to restore reconnect checkpoint, starting from the original map",
+                    getRoute(),
+                    e);
+            deleteReconnectCheckpoint(checkpointsDirectory, label);
+            return null;
+        }
+    }
+
+    /**
+     * Returns the directory to store reconnect checkpoints in, or null if checkpoints are disabled.
+     * Checkpoints are only supported in pull reconnect modes.
+     */
+    @Nullable
+    private Path getReconnectCheckpointsDirectory() {
+        final String checkpointPath = virtualMapConfig.reconnectCheckpointPath();
+        if (checkpointPath.isBlank() || VirtualMapReconnectMode.PUSH.equals(virtualMapConfig.reconnectMode())) {
+            return null;
+        }
+        return Path.of(checkpointPath);
+    }
+
+    private void deleteReconnectCheckpoint(@NonNull final Path checkpointsDirectory, @NonNull final String label) {
+        try {
+            ReconnectCheckpoint.delete(checkpointsDirectory, label);
+        } catch (final IOException e) {
+            logger.warn(RECONNECT.getMarker(), "VirtualMap@{} failed to delete reconnect checkpoint", getRoute(), e);
+        }
+    }
+
+    private void closeCheckpointDataSource() {
+        if (checkpointDataSource == null) {
+            return;
+        }
+        try {
+            checkpointDataSource.close();
+        } catch (final IOException e) {
+            logger.warn(RECONNECT.getMarker(), "VirtualMap@{} failed to close checkpoint data source", getRoute(), e);
+        }
+        checkpointDataSource = null;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1508,8 +1725,8 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
     public LearnerTreeView<Long> buildLearnerView(
             final ReconnectConfig reconnectConfig, @NonNull final ReconnectMapStats mapStats) {
         assert originalMap != null;
-        // During reconnect we want to look up state from the original records
-        final VirtualStateAccessor originalState = originalMap.getState();
+        // During reconnect we want to look up state from the original (or checkpoint) records
+        final VirtualStateAccessor originalState = startingState;
         reconnectFlusher = new ReconnectHashLeafFlusher<>(
                 keySerializer,
                 valueSerializer,
@@ -1517,19 +1734,19 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
                 virtualMapConfig.reconnectFlushInterval(),
                 statistics);
         nodeRemover = new ReconnectNodeRemover<>(
-                originalMap.getRecords(),
+                startingRecords,
                 originalState.getFirstLeafPath(),
                 originalState.getLastLeafPath(),
                 reconnectFlusher);
         return switch (virtualMapConfig.reconnectMode()) {
             case VirtualMapReconnectMode.PUSH -> new LearnerPushVirtualTreeView<>(
-                    reconnectConfig, this, originalMap.records, originalState, reconnectState, nodeRemover, mapStats);
+                    reconnectConfig, this, startingRecords, originalState, reconnectState, nodeRemover, mapStats);
             case VirtualMapReconnectMode.PULL_TOP_TO_BOTTOM -> {
                 final NodeTraversalOrder topToBottom = new TopToBottomTraversalOrder();
                 yield new LearnerPullVirtualTreeView<>(
                         reconnectConfig,
                         this,
-                        originalMap.records,
+                        startingRecords,
                         originalState,
                         reconnectState,
                         nodeRemover,
@@ -1541,7 +1758,7 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
                 yield new LearnerPullVirtualTreeView<>(
                         reconnectConfig,
                         this,
-                        originalMap.records,
+                        startingRecords,
                         originalState,
                         reconnectState,
                         nodeRemover,
@@ -1629,6 +1846,9 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
             }
             nodeRemover = null;
             originalMap = null;
+            startingRecords = null;
+            startingState = null;
+            closeCheckpointDataSource();
             logger.info(RECONNECT.getMarker(), "call postInit()");
             postInit(fullyReconnectedState);
         } catch (ExecutionException e) {
@@ -1642,6 +1862,125 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
         logger.info(RECONNECT.getMarker(), "endLearnerReconnect() complete");
     }
 
+    /**
+     * Called on the learner, when the reconnect failed. If reconnect checkpoints are enabled, and
+     * the tree received so far was hashed, it's saved as a checkpoint, so the next reconnect can
+     * continue from it.
+     */
+    public void abortLearnerReconnect() {
+        closeCheckpointDataSource();
+        final Path checkpointsDirectory = getReconnectCheckpointsDirectory();
+        if (checkpointsDirectory == null) {
+            return;
+        }
+        if (reconnectTargetHash == null) {
+            logger.warn(
+                    RECONNECT.getMarker(),
+                    "VirtualMap@{} reconnect target is unknown, no reconnect checkpoint is saved",
+                    getRoute());
+            return;
+        }
+        if ((originalMap != null) || !isHashed()) {
+            logger.warn(
+                    RECONNECT.getMarker(),
+                    "VirtualMap@{} is not hashed after failed reconnect, no reconnect checkpoint is saved",
+                    getRoute());
+            return;
+        }
+        final long firstLeafPath = dataSource.getFirstLeafPath();
+        final long lastLeafPath = dataSource.getLastLeafPath();
+        if (lastLeafPath <= 0) {
+            // Nothing is received, nothing to continue from
+            return;
+        }
+        try {
+            final Hash checkpointHash = rehashReconnectCheckpoint(firstLeafPath, lastLeafPath);
+            final ReconnectCheckpoint checkpoint = ReconnectCheckpoint.save(
+                    checkpointsDirectory,
+                    state.getLabel(),
+                    dataSourceBuilder,
+                    dataSource,
+                    firstLeafPath,
+                    lastLeafPath,
+                    checkpointHash,
+                    reconnectTargetHash);
+            logger.info(
+                    RECONNECT.getMarker(),
+                    "VirtualMap@{} saved reconnect checkpoint {}, leaf paths [{}, {}], root hash {}",
+                    getRoute(),
+                    checkpoint.directory(),
+                    checkpoint.firstLeafPath(),
+                    checkpoint.lastLeafPath(),
+                    checkpoint.rootHash());
+        } catch (final IOException | UncheckedIOException e) {
+            logger.warn(RECONNECT.getMarker(), "VirtualMap@{} failed to save reconnect checkpoint", getRoute(), e);
+            deleteReconnectCheckpoint(checkpointsDirectory, state.getLabel());
+        }
+    }
+
+    /**
+     * Rehashes the whole tree in the data source, before it's saved as a reconnect checkpoint. After
+     * a failed reconnect, some hashes in the data source may not match the leaves below them. For
+     * example, hashes copied from the original map refer to original leaves, which may have been
+     * moved or removed, or the leaf path range may have changed. Every hash is recomputed from the
+     * leaves in the data source. Leaf paths with no leaf, or with a stale leaf, whose key is at a
+     * different path now, get {@link Cryptography#NULL_HASH}, which never matches the teacher's hash
+     * of an existing node, so these paths and all their parents are requested again.
+     *
+     * @param firstLeafPath the first leaf path of the tree
+     * @param lastLeafPath the last leaf path of the tree
+     * @return the root hash of the rehashed tree
+     */
+    private Hash rehashReconnectCheckpoint(final long firstLeafPath, final long lastLeafPath) {
+        final ReconnectHashLeafFlusher<K, V> flusher = new ReconnectHashLeafFlusher<>(
+                keySerializer, valueSerializer, dataSource, virtualMapConfig.reconnectFlushInterval(), statistics);
+        final ReconnectHashListener<K, V> hashListener = new ReconnectHashListener<>(flusher) {
+            @Override
+            public void onLeafHashed(final VirtualLeafRecord<K, V> leaf) {
+                // Leaves are already in the data source, only hashes are updated
+            }
+        };
+        // All leaf paths are passed to the hasher, so every internal node is rehashed
+        final Iterator<VirtualLeafRecord<K, V>> leaves = LongStream.rangeClosed(firstLeafPath, lastLeafPath)
+                .mapToObj(this::loadCheckpointLeaf)
+                .iterator();
+        return hasher.hash(
+                path -> Cryptography.NULL_HASH,
+                leaf -> leaf.getKey() == null ? Cryptography.NULL_HASH : null,
+                leaves,
+                firstLeafPath,
+                lastLeafPath,
+                hashListener,
+                virtualMapConfig);
+    }
+
+    /**
+     * Loads a leaf to rehash a reconnect checkpoint. If there is no valid leaf at the given path,
+     * a leaf record with no key is returned.
+     */
+    private VirtualLeafRecord<K, V> loadCheckpointLeaf(final long path) {
+        try {
+            final VirtualLeafBytes leafBytes = dataSource.loadLeafRecord(path);
+            if ((leafBytes == null) || (dataSource.findKey(leafBytes.keyBytes(), leafBytes.keyHashCode()) != path)) {
+                return new VirtualLeafRecord<>(path, null, null);
+            }
+            return leafBytes.toRecord(keySerializer, valueSerializer);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Called on the learner, when the whole tree is received. The reconnect checkpoint, if any,
+     * isn't needed any longer.
+     */
+    public void completeLearnerReconnect() {
+        final Path checkpointsDirectory = getReconnectCheckpointsDirectory();
+        if (checkpointsDirectory != null) {
+            deleteReconnectCheckpoint(checkpointsDirectory, state.getLabel());
+        }
+    }
+
     /**
      * Loads the leaf record.
      * Lower level caches (VirtualDataSource, the OS file cache) should make subsequent value retrievals faster.
@@ -1652,6 +1991,31 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
         records.findLeafRecord(key, false);
     }
 
+    /**
+     * Loads leaf records for multiple keys in a single data source call. Keys, which are already
+     * in the node cache, are skipped. Loading keys in a batch lets the data source read records
+     * from disk in a more efficient order than one by one.
+     * @param keys keys to the leaf nodes
+     */
+    public void warm(final List<K> keys) {
+        final List<Bytes> keyBytes = new ArrayList<>(keys.size());
+        final int[] keyHashCodes = new int[keys.size()];
+        for (final K key : keys) {
+            if (cache.lookupLeafByKey(key, false) == null) {
+                keyHashCodes[keyBytes.size()] = key.hashCode();
+                keyBytes.add(keySerializer.toBytes(key));
+            }
+        }
+        if (keyBytes.isEmpty()) {
+            return;
+        }
+        try {
+            dataSource.loadLeafRecords(keyBytes, Arrays.copyOf(keyHashCodes, keyBytes.size()));
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to read leaf records from the data source by keys", e);
+        }
+    }
+
     ////////////////////////
 
     /**
@@ -1730,6 +2094,7 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
             cache.clearLeafPath(firstLeafPath);
             oldLeaf.setPath(getLeftChildPath(firstLeafPath));
             cache.putLeaf(oldLeaf);
+            reportLeafUpdated(oldLeaf);
 
             // Create a new internal node that is in the position of the old leaf and attach it to the parent
             // on the left side. Put the new item on the right side of the new parent.
@@ -1743,6 +2108,16 @@ public final class VirtualRootNode<K extends VirtualKey, V extends VirtualValue>
 
         final VirtualLeafRecord<K, V> newLeaf = new VirtualLeafRecord<>(leafPath, key, value);
         cache.putLeaf(newLeaf);
+        reportLeafUpdated(newLeaf);
+    }
+
+    /**
+     * Reports a new or moved dirty leaf to the incremental leaf hasher, if enabled.
+     */
+    private void reportLeafUpdated(final VirtualLeafRecord<K, V> leaf) {
+        if (incrementalLeafHasher != null) {
+            incrementalLeafHasher.leafUpdated(leaf);
+        }
     }
 
     @Override
@@ -0,0 +1,243 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.pipeline;
+
+import com.swirlds.virtualmap.config.VirtualMapConfig;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coordinator of virtual map flushes, usually one per node.
+ *
+ * <p>Every virtual map family has its own {@link VirtualPipeline}, which decides on its own when
+ * to flush. Without coordination, flushes of all maps, e.g. accounts, token relations, NFTs,
+ * and contract storage, compete for disk in uncoordinated bursts and may all happen in the same
+ * round. This class schedules flushes of all pipelines against two shared budgets:
+ *
+ * <ul>
+ *     <li>a disk budget: the number of flushes running concurrently, and the total estimated
+ *     size of these flushes, are limited. A single flush is always allowed, regardless of its
+ *     size. When the limit is reached, pipelines wait for a flush permit on their lifecycle
+ *     threads. When a permit is available, the pipeline with the largest copy to flush gets it
+ *     first, unless some pipelines have been waiting for longer than a configured time, in which
+ *     case the pipeline that has been waiting the longest gets it first</li>
+ *     <li>a memory budget: every pipeline reports the total size of its virtual node caches. When
+ *     the total size of all caches exceeds the budget, the pipeline with the largest caches is
+ *     asked to flush its oldest copy, even if the copy isn't marked to flush. This spreads flushes
+ *     over time rather than waiting for all caches to reach their flush thresholds</li>
+ * </ul>
+ *
+ * <p>Flushes are only coordinated across pipelines that share the same coordinator. A single
+ * coordinator is created per platform, when virtual map classes are registered in the constructable
+ * registry, see {@link com.swirlds.virtualmap.constructable.ConstructableUtils}, and is passed to
+ * all virtual maps created by the registry.
+ *
+ * <p>Pipelines must always release acquired permits, typically in a {@code finally} block.
+ */
+public final class VirtualFlushCoordinator {
+
+    // How often waiting threads re-check if their flush permits can be granted
+    private static final long POLL_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    // The max number of flushes running concurrently. Zero means flushes are not limited
+    private final int maxConcurrentFlushes;
+
+    // The max total estimated size of flushes running concurrently. Zero means no limit
+    private final long concurrentFlushSizeBudget;
+
+    // The max total size of virtual node caches of all pipelines. Zero means no limit
+    private final long nodeCacheMemoryBudget;
+
+    // Pipelines waiting for a flush permit longer than this get it first
+    private final long maxFlushWaitNanos;
+
+    // Flush permits requested, but not granted yet. Guarded by this
+    private final List<FlushPermit> waiting = new ArrayList<>();
+
+    // The number of flushes in progress. Guarded by this
+    private int activeFlushes = 0;
+
+    // The total estimated size of flushes in progress. Guarded by this
+    private long activeFlushesSize = 0;
+
+    // Virtual node cache sizes reported by pipelines
+    private final Map<Object, Long> cacheSizes = new ConcurrentHashMap<>();
+
+    /**
+     * A permit to flush a virtual root copy.
+     *
+     * @param size estimated size of the copy to flush
+     * @param requestedNanos the time the permit was requested, as returned by System.nanoTime()
+     */
+    public record FlushPermit(long size, long requestedNanos) {}
+
+    /**
+     * Creates a new flush coordinator with the flush budgets from the given config.
+     *
+     * @param config virtual map config
+     */
+    public VirtualFlushCoordinator(@NonNull final VirtualMapConfig config) {
+        this(
+                config.maxConcurrentFlushes(),
+                config.concurrentFlushSizeBudget(),
+                config.nodeCacheMemoryBudget(),
+                config.maxFlushWait());
+    }
+
+    /**
+     * Creates a new flush coordinator.
+     *
+     * @param maxConcurrentFlushes the max number of flushes running concurrently, or zero to not
+     *                             limit flushes at all
+     * @param concurrentFlushSizeBudget the max total estimated size of flushes running
+     *                                  concurrently, zero for no limit
+     * @param nodeCacheMemoryBudget the max total size of virtual node caches of all pipelines,
+     *                              zero to never flush copies early
+     * @param maxFlushWait pipelines waiting for a flush permit longer than this get it first
+     */
+    VirtualFlushCoordinator(
+            final int maxConcurrentFlushes,
+            final long concurrentFlushSizeBudget,
+            final long nodeCacheMemoryBudget,
+            @NonNull final Duration maxFlushWait) {
+        this.maxConcurrentFlushes = maxConcurrentFlushes;
+        this.concurrentFlushSizeBudget = concurrentFlushSizeBudget;
+        this.nodeCacheMemoryBudget = nodeCacheMemoryBudget;
+        this.maxFlushWaitNanos = maxFlushWait.toNanos();
+    }
+
+    /**
+     * Blocks the current thread until a flush of the given size is allowed to start.
+     *
+     * @param size estimated size of the copy to flush
+     * @return the flush permit, must be released using {@link #release(FlushPermit)}
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public synchronized FlushPermit acquire(final long size) throws InterruptedException {
+        final FlushPermit permit = new FlushPermit(Math.max(0, size), System.nanoTime());
+        if (maxConcurrentFlushes > 0) {
+            waiting.add(permit);
+            try {
+                while (!canStart(permit)) {
+                    // Waiting permits may become overdue, so wake up periodically to re-check
+                    TimeUnit.NANOSECONDS.timedWait(this, POLL_INTERVAL_NANOS);
+                }
+            } finally {
+                // Permits are records, compare by identity
+                waiting.removeIf(p -> p == permit);
+                // Other waiting permits may be next in line now
+                notifyAll();
+            }
+        }
+        activeFlushes++;
+        activeFlushesSize += permit.size();
+        return permit;
+    }
+
+    /**
+     * Releases a flush permit, when the flush is complete or failed.
+     *
+     * @param permit the permit to release
+     */
+    public synchronized void release(@NonNull final FlushPermit permit) {
+        activeFlushes--;
+        activeFlushesSize -= permit.size();
+        notifyAll();
+    }
+
+    /**
+     * Checks if a waiting flush permit can be granted. Must be called under the lock.
+     */
+    private boolean canStart(final FlushPermit permit) {
+        if (nextInLine(System.nanoTime()) != permit) {
+            return false;
+        }
+        if (activeFlushes == 0) {
+            // A single flush is always allowed
+            return true;
+        }
+        return (activeFlushes < maxConcurrentFlushes)
+                && ((concurrentFlushSizeBudget <= 0)
+                        || (activeFlushesSize + permit.size() <= concurrentFlushSizeBudget));
+    }
+
+    /**
+     * Returns the waiting permit to grant next: the one that has been waiting the longest, if it
+     * has been waiting longer than the configured time, or the one with the largest size
+     * otherwise. Must be called under the lock.
+     */
+    private FlushPermit nextInLine(final long nowNanos) {
+        FlushPermit oldest = null;
+        FlushPermit largest = null;
+        for (final FlushPermit permit : waiting) {
+            if ((oldest == null) || (permit.requestedNanos() - oldest.requestedNanos() < 0)) {
+                oldest = permit;
+            }
+            if ((largest == null) || (permit.size() > largest.size())) {
+                largest = permit;
+            }
+        }
+        if ((oldest != null) && (nowNanos - oldest.requestedNanos() >= maxFlushWaitNanos)) {
+            return oldest;
+        }
+        return largest;
+    }
+
+    /**
+     * Reports the total size of virtual node caches of a pipeline.
+     *
+     * @param pipeline the pipeline
+     * @param size the total cache size, in bytes
+     */
+    public void reportCacheSize(@NonNull final Object pipeline, final long size) {
+        cacheSizes.put(pipeline, Math.max(0, size));
+    }
+
+    /**
+     * Removes all information about the given pipeline from this coordinator. Called when the
+     * pipeline is shut down.
+     *
+     * @param pipeline the pipeline
+     */
+    public void unregister(@NonNull final Object pipeline) {
+        cacheSizes.remove(pipeline);
+    }
+
+    /**
+     * Checks if the given pipeline should flush its oldest copy, even if the copy isn't marked
+     * to flush. This is the case when the total size of all virtual node caches exceeds the
+     * memory budget, and the pipeline has the largest caches.
+     *
+     * @param pipeline the pipeline
+     * @return whether the pipeline should flush its oldest copy
+     */
+    public boolean shouldFlushEarly(@NonNull final Object pipeline) {
+        if (nodeCacheMemoryBudget <= 0) {
+            return false;
+        }
+        final long ownSize = cacheSizes.getOrDefault(pipeline, 0L);
+        if (ownSize == 0) {
+            return false;
+        }
+        long totalSize = 0;
+        for (final long size : cacheSizes.values()) {
+            if (size > ownSize) {
+                // Another pipeline has larger caches, it will be asked to flush first
+                return false;
+            }
+            totalSize += size;
+        }
+        return totalSize > nodeCacheMemoryBudget;
+    }
+
+    /**
+     * Returns the number of flushes in progress.
+     */
+    synchronized int getActiveFlushes() {
+        return activeFlushes;
+    }
+}
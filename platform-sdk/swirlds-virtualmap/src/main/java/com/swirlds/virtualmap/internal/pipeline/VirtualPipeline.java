@@ -153,10 +153,28 @@ public class VirtualPipeline<K extends VirtualKey, V extends VirtualValue> {
     private final VirtualMapStatistics statistics;
 
     /**
-     * Create a new pipeline for a family of fast copies on a virtual root.
+     * Coordinator of flushes of this pipeline and all other pipelines sharing the coordinator.
+     */
+    private final VirtualFlushCoordinator flushCoordinator;
+
+    /**
+     * Create a new pipeline for a family of fast copies on a virtual root. The pipeline has its own
+     * flush coordinator, so its flushes are not coordinated with other pipelines.
      */
     public VirtualPipeline(@NonNull final VirtualMapConfig config, @NonNull final String label) {
+        this(config, label, new VirtualFlushCoordinator(config));
+    }
+
+    /**
+     * Create a new pipeline for a family of fast copies on a virtual root, with flushes coordinated
+     * by the given flush coordinator.
+     */
+    public VirtualPipeline(
+            @NonNull final VirtualMapConfig config,
+            @NonNull final String label,
+            @NonNull final VirtualFlushCoordinator flushCoordinator) {
         this.config = Objects.requireNonNull(config);
+        this.flushCoordinator = Objects.requireNonNull(flushCoordinator);
         copies = new PipelineList<>();
         unhashedCopies = new ConcurrentLinkedDeque<>();
 
@@ -443,6 +461,16 @@ public class VirtualPipeline<K extends VirtualKey, V extends VirtualValue> {
                 && (copy.isDestroyed() || copy.isDetached()); // destroyed or detached
     }
 
+    /**
+     * Check if this copy should be flushed, even if it isn't marked to flush, because the node-wide
+     * virtual node cache memory budget is exceeded, and this pipeline has the largest caches. Only
+     * the oldest copy may be flushed this way.
+     */
+    private boolean shouldBeFlushedEarly(final VirtualRoot<K, V> copy) {
+        return (copy.isDestroyed() || copy.isDetached()) // destroyed or detached
+                && flushCoordinator.shouldFlushEarly(this);
+    }
+
     /**
      * Total estimated size of all copies currently registered in this pipeline.
      *
@@ -462,18 +490,35 @@ public class VirtualPipeline<K extends VirtualKey, V extends VirtualValue> {
     }
 
     /**
-     * Try to flush a copy. Hash it if necessary.
+     * Try to flush a copy. Hash it if necessary. The flush doesn't start until the node-wide flush
+     * coordinator allows it.
      *
      * @param copy the copy to flush
+     * @return true if the copy was flushed, false if the thread was interrupted while waiting for
+     *      a flush permit
      */
-    private void flush(final VirtualRoot<K, V> copy) {
+    private boolean flush(final VirtualRoot<K, V> copy) {
         if (copy.isFlushed()) {
             throw new IllegalStateException("copy is already flushed");
         }
         if (!copy.isHashed()) {
             hashCopy(copy);
         }
-        copy.flush();
+        final long waitStart = System.currentTimeMillis();
+        final VirtualFlushCoordinator.FlushPermit permit;
+        try {
+            permit = flushCoordinator.acquire(copy.estimatedSize());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        statistics.recordFlushPermitWait(System.currentTimeMillis() - waitStart);
+        try {
+            copy.flush();
+        } finally {
+            flushCoordinator.release(permit);
+        }
+        return true;
     }
 
     /**
@@ -527,9 +572,12 @@ public class VirtualPipeline<K extends VirtualKey, V extends VirtualValue> {
             if (!copy.isImmutable()) {
                 break;
             }
-            if ((next == copies.getFirst()) && shouldBeFlushed(copy)) {
+            if ((next == copies.getFirst()) && (shouldBeFlushed(copy) || shouldBeFlushedEarly(copy))) {
                 logger.debug(VIRTUAL_MERKLE_STATS.getMarker(), "Flush {}", copy.getFastCopyVersion());
-                flush(copy);
+                if (!flush(copy)) {
+                    // Interrupted while waiting for a flush permit
+                    break;
+                }
                 copies.remove(next);
             } else if (canBeMerged(next)) {
                 assert !copy.isMerged();
@@ -540,6 +588,9 @@ public class VirtualPipeline<K extends VirtualKey, V extends VirtualValue> {
             statistics.setPipelineSize(copies.getSize());
             final long totalSize = currentTotalSize();
             statistics.setNodeCacheSize(totalSize);
+            if (alive) {
+                flushCoordinator.reportCacheSize(this, totalSize);
+            }
             next = next.getNext();
         }
     }
@@ -564,6 +615,7 @@ public class VirtualPipeline<K extends VirtualKey, V extends VirtualValue> {
      */
     private synchronized void shutdown(final boolean immediately) {
         alive = false;
+        flushCoordinator.unregister(this);
         if (!executorService.isShutdown()) {
             if (immediately) {
                 executorService.shutdownNow();
@@ -5,6 +5,7 @@ import static com.swirlds.logging.legacy.LogMarker.RECONNECT;
 
 import com.swirlds.common.merkle.synchronization.utility.MerkleSynchronizationException;
 import com.swirlds.common.threading.pool.StandardWorkGroup;
+import java.io.IOException;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
@@ -31,6 +32,9 @@ public class LearnerPullVirtualTreeReceiveTask {
     private final SerializableDataInputStream in;
     private final LearnerPullVirtualTreeView view;
 
+    // The index of the teacher to receive responses from, 0 for the primary teacher
+    private final int teacher;
+
     // Indicates if the learner sender task is done sending all requests to the teacher
     private final AtomicBoolean senderIsFinished;
 
@@ -50,6 +54,8 @@ public class LearnerPullVirtualTreeReceiveTask {
      * 		the input stream, this object is responsible for closing this when finished
      * @param view
      * 		the view to be used when touching the merkle tree
+     * @param teacher
+     * 		the index of the teacher to receive responses from, 0 for the primary teacher
      * @param senderIsFinished
      * 		becomes true once the sending thread has finished
      */
@@ -57,12 +63,14 @@ public class LearnerPullVirtualTreeReceiveTask {
             final StandardWorkGroup workGroup,
             final SerializableDataInputStream in,
             final LearnerPullVirtualTreeView view,
+            final int teacher,
             final AtomicBoolean senderIsFinished,
             final AtomicLong expectedResponses,
             final CountDownLatch rootResponseReceived) {
         this.workGroup = workGroup;
         this.in = in;
         this.view = view;
+        this.teacher = teacher;
         this.senderIsFinished = senderIsFinished;
         this.expectedResponses = expectedResponses;
         this.rootResponseReceived = rootResponseReceived;
@@ -73,31 +81,40 @@ public class LearnerPullVirtualTreeReceiveTask {
     }
 
     private void run() {
-        try (view) {
-            boolean finished = senderIsFinished.get();
-            boolean responseExpected = expectedResponses.get() > 0;
-
-            while (!finished || responseExpected) {
-                if (responseExpected) {
-                    final PullVirtualTreeResponse response = new PullVirtualTreeResponse(view);
-                    // the learner tree is notified about the new response in deserialize() method below
-                    response.deserialize(in, 0);
-                    view.getMapStats().incrementTransfersFromTeacher();
-                    logger.debug(RECONNECT.getMarker(), "Learner receive path: " + response.getPath());
-                    if (response.getPath() == 0) {
-                        rootResponseReceived.countDown();
-                    }
-                    expectedResponses.decrementAndGet();
-                } else {
-                    Thread.onSpinWait();
-                }
-
-                finished = senderIsFinished.get();
-                responseExpected = expectedResponses.get() > 0;
+        try {
+            try {
+                receive();
+            } finally {
+                // The view is closed when receiving tasks for all teachers are finished
+                view.receiverFinished(teacher);
             }
-            logger.debug(RECONNECT.getMarker(), "Learner receive done");
         } catch (final Exception ex) {
             throw new MerkleSynchronizationException("Exception in the learner's receiving task", ex);
         }
     }
+
+    private void receive() throws IOException {
+        boolean finished = senderIsFinished.get();
+        boolean responseExpected = expectedResponses.get() > 0;
+
+        while (!finished || responseExpected) {
+            if (responseExpected) {
+                final PullVirtualTreeResponse response = new PullVirtualTreeResponse(view, teacher);
+                // the learner tree is notified about the new response in deserialize() method below
+                response.deserialize(in, 0);
+                view.getMapStats().incrementTransfersFromTeacher();
+                logger.debug(RECONNECT.getMarker(), "Learner receive path: " + response.getPath());
+                if (response.getPath() == 0) {
+                    rootResponseReceived.countDown();
+                }
+                expectedResponses.decrementAndGet();
+            } else {
+                Thread.onSpinWait();
+            }
+
+            finished = senderIsFinished.get();
+            responseExpected = expectedResponses.get() > 0;
+        }
+        logger.debug(RECONNECT.getMarker(), "Learner receive done");
+    }
 }
@@ -22,7 +22,9 @@ import org.hiero.base.crypto.Hash;
  *
  * <p>The very first request to send is for path 0 (virtual root node). A response to this request
  * is waited for before any other requests are sent, because root node response contains virtual
- * tree path range on the teacher side.
+ * tree path range on the teacher side. If nodes are requested from multiple teachers, only the
+ * primary teacher is asked for the root node, tasks for additional teachers just wait for its
+ * response.
  *
  * <p>After the root response has been received, this task keeps sending requests according to
  * the provided {@link NodeTraversalOrder}. After the next path to request is {@link
@@ -40,6 +42,11 @@ public class LearnerPullVirtualTreeSendTask {
     private final LearnerPullVirtualTreeView view;
     private final NodeTraversalOrder traversalOrder;
 
+    // The index of the teacher to send requests to. Only the primary teacher (index 0) is asked
+    // for the root node, requests to additional teachers are only sent after the root response
+    // from the primary teacher is received
+    private final int teacher;
+
     // Indicates if the learner sender task is done sending all requests to the teacher
     private final AtomicBoolean senderIsFinished;
 
@@ -64,6 +71,10 @@ public class LearnerPullVirtualTreeSendTask {
      * 		the output stream, this object is responsible for closing this when finished
      * @param view
      * 		the view to be used when touching the merkle tree
+     * @param teacher
+     * 		the index of the teacher to send requests to, 0 for the primary teacher
+     * @param traversalOrder
+     * 		the traversal order to request nodes from this teacher in
      * @param senderIsFinished
      * 		becomes true once the sending thread has finished
      * @param responsesExpected
@@ -75,6 +86,7 @@ public class LearnerPullVirtualTreeSendTask {
             final StandardWorkGroup workGroup,
             final AsyncOutputStream<PullVirtualTreeRequest> out,
             final LearnerPullVirtualTreeView view,
+            final int teacher,
             final NodeTraversalOrder traversalOrder,
             final AtomicBoolean senderIsFinished,
             final CountDownLatch rootResponseReceived,
@@ -82,6 +94,7 @@ public class LearnerPullVirtualTreeSendTask {
         this.workGroup = workGroup;
         this.out = out;
         this.view = view;
+        this.teacher = teacher;
         this.traversalOrder = traversalOrder;
         this.senderIsFinished = senderIsFinished;
         this.rootResponseReceived = rootResponseReceived;
@@ -96,10 +109,12 @@ public class LearnerPullVirtualTreeSendTask {
 
     private void run() {
         try (out) {
-            // Send a request for the root node first. The response will contain virtual tree path range
-            out.sendAsync(new PullVirtualTreeRequest(Path.ROOT_PATH, new Hash()));
-            view.getMapStats().incrementTransfersFromLearner();
-            responsesExpected.incrementAndGet();
+            if (teacher == 0) {
+                // Send a request for the root node first. The response will contain virtual tree path range
+                out.sendAsync(new PullVirtualTreeRequest(Path.ROOT_PATH, view.getRootRequestHash()));
+                view.getMapStats().incrementTransfersFromLearner();
+                responsesExpected.incrementAndGet();
+            }
             if (!rootResponseReceived.await(rootResponseTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
                 throw new MerkleSynchronizationException("Timed out waiting for root node response from the teacher");
             }
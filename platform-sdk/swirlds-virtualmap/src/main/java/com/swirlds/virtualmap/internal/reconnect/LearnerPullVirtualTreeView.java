@@ -6,10 +6,12 @@ import static com.swirlds.virtualmap.internal.Path.ROOT_PATH;
 import com.swirlds.common.io.streams.MerkleDataInputStream;
 import com.swirlds.common.io.streams.MerkleDataOutputStream;
 import com.swirlds.common.merkle.MerkleNode;
+import com.swirlds.common.merkle.route.MerkleRoute;
 import com.swirlds.common.merkle.synchronization.LearningSynchronizer;
 import com.swirlds.common.merkle.synchronization.config.ReconnectConfig;
 import com.swirlds.common.merkle.synchronization.stats.ReconnectMapStats;
 import com.swirlds.common.merkle.synchronization.streams.AsyncOutputStream;
+import com.swirlds.common.merkle.synchronization.streams.TeacherStreams;
 import com.swirlds.common.merkle.synchronization.task.ExpectedLesson;
 import com.swirlds.common.merkle.synchronization.task.ReconnectNodeCount;
 import com.swirlds.common.merkle.synchronization.utility.MerkleSynchronizationException;
@@ -24,10 +26,13 @@ import com.swirlds.virtualmap.internal.VirtualStateAccessor;
 import com.swirlds.virtualmap.internal.merkle.VirtualRootNode;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import org.hiero.base.crypto.Cryptography;
@@ -44,6 +49,13 @@ import org.hiero.base.io.streams.SerializableDataOutputStream;
  * <p>This implementation is supposed to work with {@link TeacherPullVirtualTreeView} on the
  * teacher side.
  *
+ * <p>If the learning synchronizer has additional teachers, and the traversal order can be
+ * partitioned, nodes are requested from all teachers in parallel. Every teacher is asked for
+ * a disjoint part of the tree by its own traversal order. Before that, additional teachers are
+ * asked for their virtual map root hash, and the primary teacher's root hash is checked against
+ * it, so all teachers are known to send the same tree. Leaves received from all teachers are
+ * merged into ascending path order by a {@link ReconnectLeafMerger} before they are hashed.
+ *
  * @param <K>
  * 		The key
  * @param <V>
@@ -52,6 +64,11 @@ import org.hiero.base.io.streams.SerializableDataOutputStream;
 public final class LearnerPullVirtualTreeView<K extends VirtualKey, V extends VirtualValue>
         extends VirtualTreeViewBase<K, V> implements LearnerTreeView<Long> {
 
+    /**
+     * The max number of dirty leaves buffered per teacher to merge leaves from multiple teachers.
+     */
+    private static final int LEAF_MERGE_BUFFER_SIZE = 100_000;
+
     /**
      * Reconnect configuration.
      */
@@ -77,6 +94,29 @@ public final class LearnerPullVirtualTreeView<K extends VirtualKey, V extends Vi
      */
     private final NodeTraversalOrder traversalOrder;
 
+    /**
+     * Node traversal orders used to request nodes from every teacher, the primary teacher first.
+     * If nodes are only requested from one teacher, it's just {@link #traversalOrder}.
+     */
+    private List<NodeTraversalOrder> traversalOrders;
+
+    /**
+     * Merges leaves received from multiple teachers. Null, if nodes are requested from one teacher.
+     */
+    private ReconnectLeafMerger<K, V> leafMerger;
+
+    /**
+     * The virtual map root hash reported by additional teachers. Null, if nodes are requested from
+     * one teacher.
+     */
+    private Hash additionalTeachersRootHash;
+
+    /**
+     * The number of receiving tasks, which haven't finished yet. The view is closed when the last
+     * one is finished.
+     */
+    private final AtomicInteger activeReceivers = new AtomicInteger();
+
     private final ReconnectMapStats mapStats;
 
     /**
@@ -130,29 +170,98 @@ public final class LearnerPullVirtualTreeView<K extends VirtualKey, V extends Vi
             final AtomicReference<Long> reconstructedRoot) {
         this.nodeCount = learningSynchronizer;
 
-        final AsyncOutputStream<PullVirtualTreeRequest> out =
-                learningSynchronizer.buildOutputStream(workGroup, outputStream);
-        out.start();
+        final List<TeacherStreams> additionalTeachers = learningSynchronizer.getAdditionalTeachers();
+        List<NodeTraversalOrder> orders = traversalOrder.partition(1 + additionalTeachers.size());
+        if (orders.isEmpty()) {
+            // The traversal order can't be partitioned, request all nodes from the primary teacher
+            orders = List.of(traversalOrder);
+        }
+        traversalOrders = orders;
+        final int teacherCount = orders.size();
+        final List<TeacherStreams> teachers = new ArrayList<>(teacherCount);
+        teachers.add(new TeacherStreams(inputStream, outputStream));
+        teachers.addAll(additionalTeachers.subList(0, teacherCount - 1));
+        if (teacherCount > 1) {
+            additionalTeachersRootHash = requestFromAdditionalTeachers(teachers.subList(1, teacherCount));
+            leafMerger = new ReconnectLeafMerger<>(teacherCount, LEAF_MERGE_BUFFER_SIZE, root::handleReconnectLeaf);
+        }
+        activeReceivers.set(teacherCount);
+        reconstructedRoot.set(0L);
 
-        final AtomicBoolean senderIsFinished = new AtomicBoolean();
         final CountDownLatch rootResponseReceived = new CountDownLatch(1);
-        final AtomicLong expectedResponses = new AtomicLong(0);
+        for (int i = 0; i < teacherCount; i++) {
+            final AsyncOutputStream<PullVirtualTreeRequest> out =
+                    learningSynchronizer.buildOutputStream(workGroup, teachers.get(i).out());
+            out.start();
+
+            final AtomicBoolean senderIsFinished = new AtomicBoolean();
+            final AtomicLong expectedResponses = new AtomicLong(0);
+
+            final LearnerPullVirtualTreeReceiveTask learnerReceiveTask = new LearnerPullVirtualTreeReceiveTask(
+                    workGroup,
+                    teachers.get(i).in(),
+                    this,
+                    i,
+                    senderIsFinished,
+                    expectedResponses,
+                    rootResponseReceived);
+            learnerReceiveTask.exec();
+            final LearnerPullVirtualTreeSendTask learnerSendTask = new LearnerPullVirtualTreeSendTask(
+                    reconnectConfig,
+                    workGroup,
+                    out,
+                    this,
+                    i,
+                    orders.get(i),
+                    senderIsFinished,
+                    rootResponseReceived,
+                    expectedResponses);
+            learnerSendTask.exec();
+        }
+    }
 
-        final LearnerPullVirtualTreeReceiveTask learnerReceiveTask = new LearnerPullVirtualTreeReceiveTask(
-                workGroup, inputStream, this, senderIsFinished, expectedResponses, rootResponseReceived);
-        learnerReceiveTask.exec();
-        reconstructedRoot.set(0L);
-        assert traversalOrder != null;
-        final LearnerPullVirtualTreeSendTask learnerSendTask = new LearnerPullVirtualTreeSendTask(
-                reconnectConfig,
-                workGroup,
-                out,
-                this,
-                traversalOrder,
-                senderIsFinished,
-                rootResponseReceived,
-                expectedResponses);
-        learnerSendTask.exec();
+    /**
+     * Asks additional teachers to send this virtual map, and reads their root hashes. All
+     * additional teachers must report the same hash.
+     *
+     * @param teachers the additional teachers
+     * @return the virtual map root hash reported by the additional teachers
+     */
+    private Hash requestFromAdditionalTeachers(final List<TeacherStreams> teachers) {
+        final MerkleRoute route = root.getRoute();
+        try {
+            for (final TeacherStreams teacher : teachers) {
+                teacher.out().writeSerializable(route, true);
+                teacher.out().flush();
+            }
+            Hash rootHash = null;
+            for (final TeacherStreams teacher : teachers) {
+                final Hash hash = teacher.in().readSerializable(false, Hash::new);
+                if (hash == null) {
+                    throw new MerkleSynchronizationException(
+                            "An additional teacher has no hash for the virtual map at route " + route);
+                }
+                if ((rootHash != null) && !rootHash.equals(hash)) {
+                    throw new MerkleSynchronizationException(
+                            "Additional teachers have different hashes for the virtual map at route " + route);
+                }
+                rootHash = hash;
+            }
+            return rootHash;
+        } catch (final IOException e) {
+            throw new MerkleSynchronizationException("Failed to request the virtual map from additional teachers", e);
+        }
+    }
+
+    /**
+     * Returns the hash to send in the root node request to the primary teacher. If there are
+     * additional teachers, it's their root hash, so the primary teacher's response tells if its
+     * hash is the same.
+     *
+     * @return the hash to send in the root node request
+     */
+    Hash getRootRequestHash() {
+        return additionalTeachersRootHash != null ? additionalTeachersRootHash : new Hash();
     }
 
     /**
@@ -178,19 +287,27 @@ public final class LearnerPullVirtualTreeView<K extends VirtualKey, V extends Vi
      * @param in the input stream to read from
      * @param path the virtual path
      * @param isClean indicates that the node with the given path is the same on the learner and teacher
+     * @param teacher the index of the teacher the node is received from, 0 for the primary teacher
      * @throws IOException if an I/O error occurs
      */
-    public void readNode(final SerializableDataInputStream in, final long path, final boolean isClean)
+    public void readNode(
+            final SerializableDataInputStream in, final long path, final boolean isClean, final int teacher)
             throws IOException {
         if (path == Path.ROOT_PATH) {
             final long firstLeafPath = in.readLong();
             final long lastLeafPath = in.readLong();
             if (firstNodeResponse) {
+                if ((additionalTeachersRootHash != null) && !isClean) {
+                    throw new MerkleSynchronizationException(
+                            "The primary teacher's virtual map hash differs from additional teachers' hash");
+                }
                 reconnectState.setFirstLeafPath(firstLeafPath);
                 reconnectState.setLastLeafPath(lastLeafPath);
                 root.prepareReconnectHashing(firstLeafPath, lastLeafPath);
                 nodeRemover.setPathInformation(firstLeafPath, lastLeafPath);
-                traversalOrder.start(firstLeafPath, lastLeafPath, nodeCount);
+                for (final NodeTraversalOrder order : traversalOrders) {
+                    order.start(firstLeafPath, lastLeafPath, nodeCount);
+                }
                 firstNodeResponse = false;
                 if (lastLeafPath <= 0) {
                     return;
@@ -199,19 +316,40 @@ public final class LearnerPullVirtualTreeView<K extends VirtualKey, V extends Vi
         }
         assert !firstNodeResponse : "Root node must be the first node received from the teacher";
         final boolean isLeaf = isLeaf(path);
-        traversalOrder.nodeReceived(path, isClean);
+        traversalOrders.get(teacher).nodeReceived(path, isClean);
 
         if (isLeaf) {
+            VirtualLeafRecord<K, V> leaf = null;
             if (!isClean) {
-                final VirtualLeafRecord<K, V> leaf = in.readSerializable(false, VirtualLeafRecord::new);
+                leaf = in.readSerializable(false, VirtualLeafRecord::new);
                 mapStats.incrementLeafData(1, 0);
                 assert path == leaf.getPath();
                 nodeRemover.newLeafNode(path, leaf.getKey());
+            }
+            if (leafMerger != null) {
+                // Clean leaves are passed to the merger, too, so it knows the teacher's progress
+                leafMerger.leafReceived(teacher, path, leaf);
+            } else if (leaf != null) {
                 root.handleReconnectLeaf(leaf); // may block if hashing is slower than ingest
             }
         }
     }
 
+    /**
+     * Called by a receiving task when it's finished. When the last receiving task is finished,
+     * this view is closed.
+     *
+     * @param teacher the index of the teacher the task received nodes from
+     */
+    void receiverFinished(final int teacher) {
+        if (leafMerger != null) {
+            leafMerger.partitionFinished(teacher);
+        }
+        if (activeReceivers.decrementAndGet() == 0) {
+            close();
+        }
+    }
+
     /**
      * Returns the ReconnectMapStats object.
      * @return the ReconnectMapStats object.
@@ -306,7 +444,15 @@ public final class LearnerPullVirtualTreeView<K extends VirtualKey, V extends Vi
      */
     @Override
     public void initialize() {
-        // no-op
+        root.completeLearnerReconnect();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void abort() {
+        root.abortLearnerReconnect();
     }
 
     /**
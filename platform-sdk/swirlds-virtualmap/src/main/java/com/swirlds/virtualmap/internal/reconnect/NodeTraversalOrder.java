@@ -2,6 +2,7 @@
 package com.swirlds.virtualmap.internal.reconnect;
 
 import com.swirlds.common.merkle.synchronization.task.ReconnectNodeCount;
+import java.util.List;
 
 public interface NodeTraversalOrder {
 
@@ -32,4 +33,17 @@ public interface NodeTraversalOrder {
      * @param isClean indicates if the node at the given path matches the corresponding node on the teacher
      */
     void nodeReceived(final long path, final boolean isClean);
+
+    /**
+     * Splits this traversal order into the given number of traversal orders, which request disjoint
+     * sets of nodes, to request nodes from multiple teachers in parallel. Each of the returned orders
+     * is started and notified about received nodes independently. Leaves requested by every returned
+     * order must still be in ascending path order. This method must be called before {@link #start}.
+     *
+     * @param partitionCount the number of partitions, at least 1
+     * @return the partitioned traversal orders, or an empty list if this order cannot be partitioned
+     */
+    default List<NodeTraversalOrder> partition(final int partitionCount) {
+        return partitionCount == 1 ? List.of(this) : List.of();
+    }
 }
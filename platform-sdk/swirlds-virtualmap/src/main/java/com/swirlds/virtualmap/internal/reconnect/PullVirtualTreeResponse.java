@@ -32,6 +32,9 @@ public class PullVirtualTreeResponse implements SelfSerializable {
     // Only used on the learner side
     private final LearnerPullVirtualTreeView learnerView;
 
+    // Only used on the learner side, the index of the teacher the response is received from
+    private final int teacher;
+
     // Virtual node path
     private long path;
 
@@ -47,6 +50,7 @@ public class PullVirtualTreeResponse implements SelfSerializable {
     public PullVirtualTreeResponse() {
         teacherView = null;
         learnerView = null;
+        teacher = 0;
     }
 
     /**
@@ -59,6 +63,7 @@ public class PullVirtualTreeResponse implements SelfSerializable {
             final Hash teacherHash) {
         this.teacherView = teacherView;
         this.learnerView = null;
+        this.teacher = 0;
         this.path = path;
         this.learnerHash = learnerHash;
         assert learnerHash != null;
@@ -71,10 +76,13 @@ public class PullVirtualTreeResponse implements SelfSerializable {
      *
      * @param learnerTreeView
      * 		the learner's view
+     * @param teacher
+     * 		the index of the teacher the response is received from, 0 for the primary teacher
      */
-    public PullVirtualTreeResponse(final LearnerPullVirtualTreeView learnerTreeView) {
+    public PullVirtualTreeResponse(final LearnerPullVirtualTreeView learnerTreeView, final int teacher) {
         this.teacherView = null;
         this.learnerView = learnerTreeView;
+        this.teacher = teacher;
     }
 
     /**
@@ -97,7 +105,7 @@ public class PullVirtualTreeResponse implements SelfSerializable {
         assert learnerView != null;
         path = in.readLong();
         final boolean isClean = in.read() == 0;
-        learnerView.readNode(in, path, isClean);
+        learnerView.readNode(in, path, isClean, teacher);
         if (learnerView.isLeaf(path)) {
             learnerView.getMapStats().incrementLeafHashes(1, isClean ? 1 : 0);
         } else {
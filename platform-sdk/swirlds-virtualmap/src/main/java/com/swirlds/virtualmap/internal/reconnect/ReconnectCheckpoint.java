@@ -0,0 +1,180 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.reconnect;
+
+import static com.swirlds.common.io.utility.FileUtils.deleteDirectory;
+import static com.swirlds.common.io.utility.FileUtils.executeAndRename;
+import static com.swirlds.common.io.utility.FileUtils.writeAndFlush;
+import static com.swirlds.virtualmap.internal.Path.ROOT_PATH;
+
+import com.swirlds.virtualmap.datasource.VirtualDataSource;
+import com.swirlds.virtualmap.datasource.VirtualDataSourceBuilder;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import org.hiero.base.crypto.Hash;
+import org.hiero.base.io.streams.SerializableDataInputStream;
+
+/**
+ * A reconnect checkpoint: a snapshot of a virtual map, which was partially received by a learner
+ * during a failed reconnect, and can be used as a starting point for the next reconnect.
+ *
+ * <p>When a reconnect fails, all leaves received so far have already been flushed to the new
+ * data source. Before the data source is saved, the whole tree is rehashed from the leaves it
+ * contains, since hashes copied from the original map may not match the leaves after a partial
+ * reconnect, for example, if the leaf path range was changed. Leaf paths with no valid leaf get
+ * a hash, which never matches the teacher's hash. If the next reconnect starts from this tree
+ * rather than the original one, all subtrees received in the failed reconnect have the same
+ * hashes as on the teacher and are skipped, so the next reconnect continues where the failed one
+ * stopped. The traversal frontier and received path ranges don't need to be stored separately,
+ * they are encoded in the hashes of the snapshot.
+ *
+ * <p>A checkpoint is only used to reconnect to the same teacher tree as the failed reconnect.
+ * The hash of the teacher's tree, the reconnect target, is stored with the checkpoint. If the
+ * next reconnect has a different target, for example, because the teacher has a newer state,
+ * the checkpoint is discarded.
+ *
+ * <p>Checkpoints are stored in a directory per virtual map label. Every directory contains a
+ * data source snapshot and a metadata file with the leaf path range, the root hash of the
+ * snapshot, and the target hash. Checkpoint directories are written atomically, and the root
+ * hash is used to verify the data source when the checkpoint is loaded.
+ *
+ * @param directory the checkpoint directory
+ * @param firstLeafPath the first leaf path of the checkpoint tree
+ * @param lastLeafPath the last leaf path of the checkpoint tree
+ * @param rootHash the root hash of the checkpoint tree
+ * @param targetHash the hash of the teacher's tree the failed reconnect was receiving
+ */
+public record ReconnectCheckpoint(
+        @NonNull Path directory,
+        long firstLeafPath,
+        long lastLeafPath,
+        @NonNull Hash rootHash,
+        @NonNull Hash targetHash) {
+
+    private static final String DATA_DIRECTORY = "data";
+    private static final String METADATA_FILE = "checkpoint.bin";
+    private static final String TMP_SUFFIX = ".tmp";
+    private static final int VERSION = 2;
+
+    /**
+     * Constructor.
+     */
+    public ReconnectCheckpoint {
+        Objects.requireNonNull(directory, "directory must not be null");
+        Objects.requireNonNull(rootHash, "rootHash must not be null");
+        Objects.requireNonNull(targetHash, "targetHash must not be null");
+    }
+
+    /**
+     * Save a checkpoint for the given virtual map. An existing checkpoint for the map, if any,
+     * is replaced. The data source must not be modified while this method is running.
+     *
+     * @param checkpointsDirectory the base directory of all checkpoints
+     * @param label the virtual map label
+     * @param dataSourceBuilder the builder to snapshot the data source with
+     * @param dataSource the data source with the partially received virtual map
+     * @param firstLeafPath the first leaf path of the map
+     * @param lastLeafPath the last leaf path of the map
+     * @param rootHash the root hash of the map
+     * @param targetHash the hash of the teacher's map the failed reconnect was receiving
+     * @return the saved checkpoint
+     * @throws IOException if an I/O error occurred
+     */
+    @NonNull
+    public static ReconnectCheckpoint save(
+            @NonNull final Path checkpointsDirectory,
+            @NonNull final String label,
+            @NonNull final VirtualDataSourceBuilder dataSourceBuilder,
+            @NonNull final VirtualDataSource dataSource,
+            final long firstLeafPath,
+            final long lastLeafPath,
+            @NonNull final Hash rootHash,
+            @NonNull final Hash targetHash)
+            throws IOException {
+        Objects.requireNonNull(dataSourceBuilder, "dataSourceBuilder must not be null");
+        Objects.requireNonNull(dataSource, "dataSource must not be null");
+        final Path directory = checkpointsDirectory.resolve(label);
+        final Path tmpDirectory = checkpointsDirectory.resolve(label + TMP_SUFFIX);
+        delete(checkpointsDirectory, label);
+        executeAndRename(directory, tmpDirectory, tmp -> {
+            dataSourceBuilder.snapshot(tmp.resolve(DATA_DIRECTORY), dataSource);
+            writeAndFlush(tmp.resolve(METADATA_FILE), out -> {
+                out.writeInt(VERSION);
+                out.writeLong(firstLeafPath);
+                out.writeLong(lastLeafPath);
+                out.writeSerializable(rootHash, false);
+                out.writeSerializable(targetHash, false);
+            });
+        });
+        return new ReconnectCheckpoint(directory, firstLeafPath, lastLeafPath, rootHash, targetHash);
+    }
+
+    /**
+     * Load the checkpoint for the given virtual map.
+     *
+     * @param checkpointsDirectory the base directory of all checkpoints
+     * @param label the virtual map label
+     * @return the checkpoint, or null if there is no checkpoint for the map
+     * @throws IOException if an I/O error occurred, or the checkpoint is corrupted
+     */
+    @Nullable
+    public static ReconnectCheckpoint load(@NonNull final Path checkpointsDirectory, @NonNull final String label)
+            throws IOException {
+        final Path directory = checkpointsDirectory.resolve(label);
+        final Path metadataFile = directory.resolve(METADATA_FILE);
+        if (!Files.exists(metadataFile)) {
+            return null;
+        }
+        try (final SerializableDataInputStream in =
+                new SerializableDataInputStream(new BufferedInputStream(Files.newInputStream(metadataFile)))) {
+            final int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported reconnect checkpoint version: " + version);
+            }
+            final long firstLeafPath = in.readLong();
+            final long lastLeafPath = in.readLong();
+            final Hash rootHash = in.readSerializable(false, Hash::new);
+            final Hash targetHash = in.readSerializable(false, Hash::new);
+            return new ReconnectCheckpoint(directory, firstLeafPath, lastLeafPath, rootHash, targetHash);
+        }
+    }
+
+    /**
+     * Delete the checkpoint for the given virtual map, if any.
+     *
+     * @param checkpointsDirectory the base directory of all checkpoints
+     * @param label the virtual map label
+     * @throws IOException if an I/O error occurred
+     */
+    public static void delete(@NonNull final Path checkpointsDirectory, @NonNull final String label)
+            throws IOException {
+        deleteDirectory(checkpointsDirectory.resolve(label));
+        deleteDirectory(checkpointsDirectory.resolve(label + TMP_SUFFIX));
+    }
+
+    /**
+     * Create a new data source with the contents of this checkpoint. The checkpoint files are
+     * copied, so the checkpoint isn't affected by any changes to the returned data source.
+     *
+     * @param dataSourceBuilder the builder to restore the data source with
+     * @param label the virtual map label
+     * @return the restored data source
+     * @throws IOException if the restored data source doesn't match the checkpoint metadata
+     */
+    @NonNull
+    public VirtualDataSource restore(
+            @NonNull final VirtualDataSourceBuilder dataSourceBuilder, @NonNull final String label) throws IOException {
+        final VirtualDataSource dataSource = dataSourceBuilder.restore(label, directory.resolve(DATA_DIRECTORY));
+        if ((dataSource.getFirstLeafPath() != firstLeafPath)
+                || (dataSource.getLastLeafPath() != lastLeafPath)
+                || !rootHash.equals(dataSource.loadHash(ROOT_PATH))) {
+            dataSource.close();
+            throw new IOException("Reconnect checkpoint data doesn't match its metadata: " + directory);
+        }
+        return dataSource;
+    }
+}
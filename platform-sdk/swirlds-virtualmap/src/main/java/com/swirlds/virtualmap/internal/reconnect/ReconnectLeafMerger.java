@@ -0,0 +1,151 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.reconnect;
+
+import com.swirlds.common.merkle.synchronization.utility.MerkleSynchronizationException;
+import com.swirlds.virtualmap.VirtualKey;
+import com.swirlds.virtualmap.VirtualValue;
+import com.swirlds.virtualmap.datasource.VirtualLeafRecord;
+import com.swirlds.virtualmap.internal.Path;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Merges leaves received from multiple teachers in parallel into a single stream of leaves in
+ * ascending path order, as expected by the virtual hasher on the learner side.
+ *
+ * <p>Every partition (teacher) reports received leaves, both clean and dirty, in ascending path
+ * order. The last reported path is the partition's watermark: the partition will never report
+ * a leaf at or below it again. A dirty leaf is passed to the consumer when all other partitions
+ * are either finished, or have their watermarks above the leaf path.
+ *
+ * <p>Dirty leaves waiting to be passed to the consumer are buffered per partition. If the buffer
+ * of a partition is full, the partition's receiving thread is blocked until some of its leaves
+ * are consumed. This can't deadlock: the leaf with the lowest path in all buffers is only waiting
+ * for partitions with empty buffers, and partitions with empty buffers are never blocked.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public class ReconnectLeafMerger<K extends VirtualKey, V extends VirtualValue> {
+
+    private final ArrayDeque<VirtualLeafRecord<K, V>>[] buffers;
+    private final long[] watermarks;
+    private final boolean[] finished;
+    private final int bufferCapacity;
+    private final Consumer<VirtualLeafRecord<K, V>> consumer;
+
+    /**
+     * Create a new leaf merger.
+     *
+     * @param partitionCount the number of partitions (teachers) to merge leaves from
+     * @param bufferCapacity the max number of dirty leaves to buffer per partition
+     * @param consumer the consumer of the merged leaves
+     */
+    @SuppressWarnings("unchecked")
+    public ReconnectLeafMerger(
+            final int partitionCount,
+            final int bufferCapacity,
+            @NonNull final Consumer<VirtualLeafRecord<K, V>> consumer) {
+        if (partitionCount < 1) {
+            throw new IllegalArgumentException("Partition count must be positive: " + partitionCount);
+        }
+        if (bufferCapacity < 1) {
+            throw new IllegalArgumentException("Buffer capacity must be positive: " + bufferCapacity);
+        }
+        this.buffers = new ArrayDeque[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            buffers[i] = new ArrayDeque<>();
+        }
+        this.watermarks = new long[partitionCount];
+        Arrays.fill(watermarks, Path.INVALID_PATH);
+        this.finished = new boolean[partitionCount];
+        this.bufferCapacity = bufferCapacity;
+        this.consumer = Objects.requireNonNull(consumer);
+    }
+
+    /**
+     * Report a leaf received by the given partition. Leaves must be reported in ascending path
+     * order for every partition. May block, if the partition's buffer is full.
+     *
+     * @param partition the partition
+     * @param path the leaf path
+     * @param leaf the leaf record, if the leaf is dirty, or null if the leaf is clean
+     */
+    public synchronized void leafReceived(
+            final int partition, final long path, @Nullable final VirtualLeafRecord<K, V> leaf) {
+        assert !finished[partition] : "Partition " + partition + " is already finished";
+        assert path > watermarks[partition] : "Leaves must be reported in ascending path order";
+        watermarks[partition] = path;
+        if (leaf != null) {
+            final ArrayDeque<VirtualLeafRecord<K, V>> buffer = buffers[partition];
+            while (buffer.size() >= bufferCapacity) {
+                consumeReadyLeaves();
+                if (buffer.size() < bufferCapacity) {
+                    break;
+                }
+                try {
+                    wait();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new MerkleSynchronizationException("Interrupted while waiting to merge a leaf", e);
+                }
+            }
+            buffer.addLast(leaf);
+        }
+        consumeReadyLeaves();
+    }
+
+    /**
+     * Mark the given partition as finished. No more leaves can be reported by this partition.
+     * Buffered leaves of all partitions are consumed, once all partitions are finished.
+     *
+     * @param partition the partition
+     */
+    public synchronized void partitionFinished(final int partition) {
+        finished[partition] = true;
+        consumeReadyLeaves();
+    }
+
+    /**
+     * Pass all leaves, which can't be preceded by any leaf reported in the future, to the
+     * consumer, and wake up partitions waiting for buffer space.
+     */
+    private void consumeReadyLeaves() {
+        boolean consumed = false;
+        while (true) {
+            int minPartition = -1;
+            long minPath = Long.MAX_VALUE;
+            for (int i = 0; i < buffers.length; i++) {
+                final VirtualLeafRecord<K, V> head = buffers[i].peekFirst();
+                if ((head != null) && (head.getPath() < minPath)) {
+                    minPartition = i;
+                    minPath = head.getPath();
+                }
+            }
+            if (minPartition < 0) {
+                break;
+            }
+            if (!isReady(minPartition, minPath)) {
+                break;
+            }
+            consumer.accept(buffers[minPartition].pollFirst());
+            consumed = true;
+        }
+        if (consumed) {
+            notifyAll();
+        }
+    }
+
+    private boolean isReady(final int partition, final long path) {
+        for (int i = 0; i < buffers.length; i++) {
+            if ((i != partition) && !finished[i] && (watermarks[i] < path)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -108,8 +108,10 @@ public class ReconnectNodeRemover<K extends VirtualKey, V extends VirtualValue>
             // no-op if new first leaf path is less or equal to old first leaf path
             for (long path = oldFirstLeafPath; path < Math.min(newFirstLeafPath, oldLastLeafPath + 1); path++) {
                 final VirtualLeafRecord<K, V> oldRecord = oldRecords.findLeafRecord(path, false);
-                assert oldRecord != null;
-                flusher.deleteLeaf(oldRecord);
+                // A tree restored from a reconnect checkpoint may have no leaves at some leaf paths
+                if (oldRecord != null) {
+                    flusher.deleteLeaf(oldRecord);
+                }
             }
         }
     }
@@ -138,7 +140,6 @@ public class ReconnectNodeRemover<K extends VirtualKey, V extends VirtualValue>
         // No-op if newLastLeafPath is greater or equal to oldLastLeafPath
         for (long p = firstOldStalePath; p <= oldLastLeafPath; p++) {
             final VirtualLeafRecord<K, V> oldExtraLeafRecord = oldRecords.findLeafRecord(p, false);
-            assert oldExtraLeafRecord != null || p < oldFirstLeafPath;
             if (oldExtraLeafRecord != null) {
                 flusher.deleteLeaf(oldExtraLeafRecord);
             }
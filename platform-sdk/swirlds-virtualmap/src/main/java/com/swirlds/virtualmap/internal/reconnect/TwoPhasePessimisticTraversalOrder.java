@@ -5,7 +5,9 @@ import static com.swirlds.virtualmap.internal.Path.ROOT_PATH;
 
 import com.swirlds.common.merkle.synchronization.task.ReconnectNodeCount;
 import com.swirlds.virtualmap.internal.Path;
+import java.util.ArrayList;
 import java.util.Deque;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -39,6 +41,12 @@ import java.util.concurrent.atomic.AtomicReferenceArray;
  * sent (but responses may not have been recorded). At this phase, all leaves are traversed
  * from the first leaf path to the last leaf path, skipping paths with clean parents. At
  * this step some clean leaves may be sent redundantly, too.
+ *
+ * <p>This order can be {@link #partition(int) partitioned} to request nodes from multiple
+ * teachers in parallel. Chunks are assigned to partitions round-robin, and every partition
+ * requests internal nodes and then leaves only in its own chunks. All partitions share the
+ * set of clean nodes, so a clean node received by one partition lets other partitions skip
+ * its sub-tree, too.
  */
 public class TwoPhasePessimisticTraversalOrder implements NodeTraversalOrder {
 
@@ -47,7 +55,14 @@ public class TwoPhasePessimisticTraversalOrder implements NodeTraversalOrder {
     private long reconnectFirstLeafPath;
     private long reconnectLastLeafPath;
 
-    private final Set<Long> cleanNodes = ConcurrentHashMap.newKeySet();
+    // Clean internal nodes. Shared between all partitions
+    private final Set<Long> cleanNodes;
+
+    // The index of this partition and the number of partitions, if nodes are requested from
+    // multiple teachers in parallel. A chunk belongs to a partition, if the chunk index modulo
+    // partition count is equal to the partition index
+    private final int partition;
+    private final int partitionCount;
 
     // Number of parent node chunks processed in parallel in phase 1
     private int chunkCount;
@@ -83,7 +98,34 @@ public class TwoPhasePessimisticTraversalOrder implements NodeTraversalOrder {
     // Used during phase 2
     private long lastLeafPath = Path.INVALID_PATH;
 
-    public TwoPhasePessimisticTraversalOrder() {}
+    public TwoPhasePessimisticTraversalOrder() {
+        this(0, 1, ConcurrentHashMap.newKeySet());
+    }
+
+    private TwoPhasePessimisticTraversalOrder(
+            final int partition, final int partitionCount, final Set<Long> cleanNodes) {
+        this.partition = partition;
+        this.partitionCount = partitionCount;
+        this.cleanNodes = cleanNodes;
+    }
+
+    @Override
+    public List<NodeTraversalOrder> partition(final int partitionCount) {
+        if (partitionCount < 1) {
+            throw new IllegalArgumentException("Partition count must be positive: " + partitionCount);
+        }
+        if (this.partitionCount != 1) {
+            throw new IllegalStateException("The traversal order is already partitioned");
+        }
+        if (partitionCount == 1) {
+            return List.of(this);
+        }
+        final List<NodeTraversalOrder> partitions = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            partitions.add(new TwoPhasePessimisticTraversalOrder(i, partitionCount, cleanNodes));
+        }
+        return partitions;
+    }
 
     @Override
     public void start(final long firstLeafPath, final long lastLeafPath, final ReconnectNodeCount nodeCount) {
@@ -184,6 +226,9 @@ public class TwoPhasePessimisticTraversalOrder implements NodeTraversalOrder {
         if (lastLeafPath == -1) {
             for (int i = 0; i < chunkCount; i++) {
                 final int chunk = (lastSentPathChunk + 1 + i) % chunkCount;
+                if (chunk % partitionCount != partition) {
+                    continue;
+                }
                 // Check the queue first. If not empty, return a path from there (if not clean)
                 final Deque<Long> toCheck = chunkNextToCheckPaths.get(chunk);
                 result = toCheck.isEmpty() ? Path.INVALID_PATH : toCheck.pollFirst();
@@ -231,11 +276,48 @@ public class TwoPhasePessimisticTraversalOrder implements NodeTraversalOrder {
         if ((path > reconnectLastLeafPath) || (reconnectFirstLeafPath < 0)) {
             return Path.INVALID_PATH;
         }
-        long result = skipCleanPaths(path, reconnectLastLeafPath);
+        // Skip clean leaves and leaves in chunks of other partitions. Both skips only move forward,
+        // repeat until neither of them moves the path
+        long result = path;
+        long previous;
+        do {
+            previous = result;
+            result = skipCleanPaths(result, reconnectLastLeafPath);
+            if (result != Path.INVALID_PATH) {
+                result = skipOtherPartitionPaths(result);
+            }
+        } while ((result != Path.INVALID_PATH) && (result != previous));
         assert (result == Path.INVALID_PATH) || (result >= reconnectFirstLeafPath);
         return lastLeafPath = result;
     }
 
+    /**
+     * If the given leaf path is in a chunk of another partition, skip to the first path of the
+     * next chunk of this partition at the same rank, or to the first path of the next rank. If
+     * the skipped path is beyond the last leaf path, Path.INVALID_PATH is returned
+     */
+    private long skipOtherPartitionPaths(final long path) {
+        if (partitionCount == 1) {
+            return path;
+        }
+        if (chunkCount == 0) {
+            // No chunks, all leaves belong to the first partition
+            return partition == 0 ? path : Path.INVALID_PATH;
+        }
+        final int rank = Path.getRank(path);
+        final int chunkHeight = rank - chunksStopRank;
+        final long firstPathAtRank = Path.getLeftGrandChildPath(0, rank);
+        final int chunk = (int) ((path - firstPathAtRank) >> chunkHeight);
+        if (chunk % partitionCount == partition) {
+            return path;
+        }
+        final int nextChunk = chunk + Math.floorMod(partition - chunk, partitionCount);
+        final long result = (nextChunk < chunkCount)
+                ? firstPathAtRank + ((long) nextChunk << chunkHeight)
+                : Path.getLeftGrandChildPath(0, rank + 1);
+        return (result <= reconnectLastLeafPath) ? result : Path.INVALID_PATH;
+    }
+
     private int getPathChunk(long path) {
         int rank = Path.getRank(path);
         if (rank < chunksStopRank) {
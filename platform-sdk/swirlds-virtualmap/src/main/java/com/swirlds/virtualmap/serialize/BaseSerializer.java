@@ -106,6 +106,14 @@ public interface BaseSerializer<T> {
      */
     T deserialize(@NonNull final ReadableSequentialData in);
 
+    /**
+     * Creates a data item from bytes previously produced by {@link #toBytes(Object)}. Implementations
+     * may keep the bytes in the returned item and parse them lazily, on first access. Since the bytes
+     * are then referenced by the item, they must not be modified by the caller.
+     *
+     * @param b The bytes containing the data item in protobuf format
+     * @return Deserialized data item
+     */
     default T fromBytes(@NonNull final Bytes b) {
         return deserialize(b.toReadableSequentialData());
     }
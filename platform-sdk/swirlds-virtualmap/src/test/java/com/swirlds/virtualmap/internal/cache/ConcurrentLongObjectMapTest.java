@@ -0,0 +1,115 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentLongObjectMapTest {
+
+    @Test
+    @Tags({@Tag("VirtualMerkle"), @Tag("VirtualNodeCache")})
+    @DisplayName("Put, get, and remove entries")
+    void putGetRemove() {
+        final ConcurrentLongObjectMap<String> map = new ConcurrentLongObjectMap<>();
+        assertNull(map.get(1), "Empty map must not contain any keys");
+        map.put(1, "one");
+        map.put(-2, "minus two");
+        assertEquals("one", map.get(1), "Wrong value");
+        assertEquals("minus two", map.get(-2), "Negative keys must be supported");
+        assertEquals(2, map.size(), "Wrong size");
+        map.put(1, "uno");
+        assertEquals("uno", map.get(1), "Value must be replaced");
+        assertEquals(2, map.size(), "Replacing a value must not change the size");
+        assertNull(map.compute(1, v -> null), "Null must be returned for removed keys");
+        assertNull(map.get(1), "Key must be removed");
+        assertEquals(1, map.size(), "Wrong size after removal");
+        map.put(1, "one again");
+        assertEquals("one again", map.get(1), "Removed key must be added again");
+    }
+
+    @Test
+    @Tags({@Tag("VirtualMerkle"), @Tag("VirtualNodeCache")})
+    @DisplayName("Compute gets the current value")
+    void compute() {
+        final ConcurrentLongObjectMap<String> map = new ConcurrentLongObjectMap<>();
+        assertEquals("a", map.compute(7, v -> (v == null) ? "a" : v + "a"), "Wrong initial value");
+        assertEquals("aa", map.compute(7, v -> (v == null) ? "a" : v + "a"), "Wrong computed value");
+        assertEquals("aa", map.get(7), "Wrong value");
+        // Removing an absent key is a no-op
+        assertNull(map.compute(8, v -> null), "Absent key must not be added");
+        assertEquals(1, map.size(), "Wrong size");
+    }
+
+    @Test
+    @Tags({@Tag("VirtualMerkle"), @Tag("VirtualNodeCache")})
+    @DisplayName("Reserved key and null values are not permitted")
+    void invalidArguments() {
+        final ConcurrentLongObjectMap<String> map = new ConcurrentLongObjectMap<>();
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> map.put(ConcurrentLongObjectMap.EMPTY_KEY, "empty"),
+                "Reserved key must not be accepted");
+        assertThrows(NullPointerException.class, () -> map.put(1, null), "Null values must not be accepted");
+        assertNull(map.get(ConcurrentLongObjectMap.EMPTY_KEY), "Reserved key is never in the map");
+    }
+
+    @Test
+    @Tags({@Tag("VirtualMerkle"), @Tag("VirtualNodeCache")})
+    @DisplayName("Map grows and shrinks")
+    void growAndShrink() {
+        final ConcurrentLongObjectMap<Long> map = new ConcurrentLongObjectMap<>();
+        final int count = 100_000;
+        for (long i = 0; i < count; i++) {
+            map.put(i, i * 2);
+        }
+        assertEquals(count, map.size(), "Wrong size");
+        for (long i = 0; i < count; i++) {
+            assertEquals(i * 2, map.get(i), "Wrong value");
+        }
+        // Remove all odd keys, and then all but the last few even keys
+        for (long i = 1; i < count; i += 2) {
+            map.compute(i, v -> null);
+        }
+        for (long i = 0; i < count - 10; i += 2) {
+            map.compute(i, v -> null);
+        }
+        assertEquals(5, map.size(), "Wrong size after removals");
+        final Map<Long, Long> remaining = new HashMap<>();
+        map.forEach(remaining::put);
+        assertEquals(
+                Map.of(99_990L, 199_980L, 99_992L, 199_984L, 99_994L, 199_988L, 99_996L, 199_992L, 99_998L, 199_996L),
+                remaining,
+                "Wrong remaining entries");
+    }
+
+    @Test
+    @Tags({@Tag("VirtualMerkle"), @Tag("VirtualNodeCache")})
+    @DisplayName("Concurrent updates and reads")
+    void concurrentUpdates() {
+        final ConcurrentLongObjectMap<Long> map = new ConcurrentLongObjectMap<>();
+        final int threads = 8;
+        final int perThread = 50_000;
+        // Every thread increments counters for all keys, and reads its own keys
+        IntStream.range(0, threads).parallel().forEach(t -> {
+            for (long i = 0; i < perThread; i++) {
+                map.compute(i, v -> (v == null) ? 1 : v + 1);
+                final long own = (long) perThread * (t + 1) + i;
+                map.put(own, own);
+                assertEquals(own, map.get(own), "Own key must be visible");
+            }
+        });
+        assertEquals(perThread * (threads + 1), map.size(), "Wrong size");
+        for (long i = 0; i < perThread; i++) {
+            assertEquals((long) threads, map.get(i), "All increments must be applied");
+        }
+    }
+}
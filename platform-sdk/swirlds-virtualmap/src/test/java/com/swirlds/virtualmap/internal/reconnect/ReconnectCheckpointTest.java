@@ -0,0 +1,153 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.reconnect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.swirlds.virtualmap.datasource.VirtualDataSource;
+import com.swirlds.virtualmap.datasource.VirtualDataSourceBuilder;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hiero.base.crypto.DigestType;
+import org.hiero.base.crypto.Hash;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ReconnectCheckpointTest {
+
+    private static final String LABEL = "vm";
+
+    private static final Hash TARGET_HASH = hash(9);
+
+    @TempDir
+    Path checkpointsDirectory;
+
+    @Test
+    @DisplayName("No checkpoint")
+    void noCheckpoint() throws IOException {
+        assertNull(ReconnectCheckpoint.load(checkpointsDirectory, LABEL));
+    }
+
+    @Test
+    @DisplayName("Save and load checkpoint")
+    void saveAndLoad() throws IOException {
+        final VirtualDataSourceBuilder builder = snapshottingBuilder();
+        final ReconnectCheckpoint saved = save(builder, 5, 10, hash(1));
+        assertTrue(Files.exists(saved.directory().resolve("data").resolve("snapshot")));
+        assertFalse(Files.exists(checkpointsDirectory.resolve(LABEL + ".tmp")));
+
+        final ReconnectCheckpoint loaded = ReconnectCheckpoint.load(checkpointsDirectory, LABEL);
+        assertEquals(saved, loaded);
+        assertEquals(5, loaded.firstLeafPath());
+        assertEquals(10, loaded.lastLeafPath());
+        assertEquals(hash(1), loaded.rootHash());
+        assertEquals(TARGET_HASH, loaded.targetHash());
+    }
+
+    @Test
+    @DisplayName("Save replaces existing checkpoint")
+    void saveReplaces() throws IOException {
+        final VirtualDataSourceBuilder builder = snapshottingBuilder();
+        save(builder, 5, 10, hash(1));
+        save(builder, 7, 14, hash(2));
+
+        final ReconnectCheckpoint loaded = ReconnectCheckpoint.load(checkpointsDirectory, LABEL);
+        assertNotNull(loaded);
+        assertEquals(7, loaded.firstLeafPath());
+        assertEquals(14, loaded.lastLeafPath());
+        assertEquals(hash(2), loaded.rootHash());
+    }
+
+    @Test
+    @DisplayName("Delete checkpoint")
+    void delete() throws IOException {
+        final VirtualDataSourceBuilder builder = snapshottingBuilder();
+        save(builder, 5, 10, hash(1));
+        ReconnectCheckpoint.delete(checkpointsDirectory, LABEL);
+        assertNull(ReconnectCheckpoint.load(checkpointsDirectory, LABEL));
+        assertFalse(Files.exists(checkpointsDirectory.resolve(LABEL)));
+    }
+
+    @Test
+    @DisplayName("Restore checkpoint data source")
+    void restore() throws IOException {
+        final VirtualDataSourceBuilder builder = snapshottingBuilder();
+        final ReconnectCheckpoint checkpoint = save(builder, 5, 10, hash(1));
+        final VirtualDataSource restored = dataSource(5, 10, hash(1));
+        when(builder.restore(eq(LABEL), eq(checkpoint.directory().resolve("data")))).thenReturn(restored);
+
+        assertSame(restored, checkpoint.restore(builder, LABEL));
+    }
+
+    @Test
+    @DisplayName("Restore fails if data doesn't match metadata")
+    void restoreMismatch() throws IOException {
+        final VirtualDataSourceBuilder builder = snapshottingBuilder();
+        final ReconnectCheckpoint checkpoint = save(builder, 5, 10, hash(1));
+        final VirtualDataSource restored = dataSource(5, 10, hash(2));
+        when(builder.restore(any(), any())).thenReturn(restored);
+
+        assertThrows(IOException.class, () -> checkpoint.restore(builder, LABEL));
+        verify(restored).close();
+    }
+
+    private ReconnectCheckpoint save(
+            final VirtualDataSourceBuilder builder, final long firstLeafPath, final long lastLeafPath, final Hash hash)
+            throws IOException {
+        return ReconnectCheckpoint.save(
+                checkpointsDirectory,
+                LABEL,
+                builder,
+                mock(VirtualDataSource.class),
+                firstLeafPath,
+                lastLeafPath,
+                hash,
+                TARGET_HASH);
+    }
+
+    private static VirtualDataSourceBuilder snapshottingBuilder() {
+        final VirtualDataSourceBuilder builder = mock(VirtualDataSourceBuilder.class);
+        doAnswer(invocation -> {
+                    final Path destination = invocation.getArgument(0);
+                    Files.createDirectories(destination);
+                    Files.createFile(destination.resolve("snapshot"));
+                    return null;
+                })
+                .when(builder)
+                .snapshot(any(), any());
+        return builder;
+    }
+
+    private static VirtualDataSource dataSource(final long firstLeafPath, final long lastLeafPath, final Hash rootHash)
+            throws IOException {
+        final VirtualDataSource dataSource = mock(VirtualDataSource.class);
+        when(dataSource.getFirstLeafPath()).thenReturn(firstLeafPath);
+        when(dataSource.getLastLeafPath()).thenReturn(lastLeafPath);
+        when(dataSource.loadHash(0)).thenReturn(rootHash);
+        return dataSource;
+    }
+
+    private static Hash hash(final int h) {
+        final int len = DigestType.SHA_384.digestLength();
+        final byte[] bytes = new byte[len];
+        final ByteBuffer buf = ByteBuffer.wrap(bytes);
+        for (int i = 0; i < len; i += Integer.BYTES) {
+            buf.putInt(h);
+        }
+        return new Hash(bytes);
+    }
+}
@@ -0,0 +1,94 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.reconnect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.virtualmap.datasource.VirtualLeafRecord;
+import com.swirlds.virtualmap.test.fixtures.TestKey;
+import com.swirlds.virtualmap.test.fixtures.TestValue;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+
+class ReconnectLeafMergerTest {
+
+    private static VirtualLeafRecord<TestKey, TestValue> leaf(final long path) {
+        return new VirtualLeafRecord<>(path, new TestKey(path), new TestValue(path));
+    }
+
+    @Test
+    @Tags({@Tag("Reconnect")})
+    @DisplayName("Leaves are only consumed when no other partition can report a lower path")
+    void leavesAreConsumedInPathOrder() {
+        final List<Long> consumed = new ArrayList<>();
+        final ReconnectLeafMerger<TestKey, TestValue> merger =
+                new ReconnectLeafMerger<>(2, 10, leaf -> consumed.add(leaf.getPath()));
+
+        merger.leafReceived(1, 12, leaf(12));
+        assertEquals(List.of(), consumed, "Partition 0 may still report a lower path");
+        merger.leafReceived(0, 10, leaf(10));
+        assertEquals(List.of(10L), consumed, "Leaf 10 is the lowest path");
+        // A clean leaf moves the watermark of partition 0 beyond 12
+        merger.leafReceived(0, 13, null);
+        assertEquals(List.of(10L, 12L), consumed, "Partition 0 can't report paths below 13 anymore");
+        merger.leafReceived(0, 14, leaf(14));
+        assertEquals(List.of(10L, 12L), consumed, "Partition 1 may still report path 13");
+        merger.partitionFinished(1);
+        assertEquals(List.of(10L, 12L, 14L), consumed, "Partition 1 is finished");
+        merger.partitionFinished(0);
+    }
+
+    @Test
+    @Tags({@Tag("Reconnect")})
+    @DisplayName("Leaves received concurrently by multiple partitions are merged in path order")
+    void concurrentPartitionsAreMerged() throws InterruptedException {
+        final int partitionCount = 4;
+        final int leafCount = 100_000;
+        final Random random = new Random(42);
+        // Assign leaf paths to partitions in runs, like chunks are assigned to partitions
+        final List<List<Long>> partitionPaths = new ArrayList<>();
+        for (int i = 0; i < partitionCount; i++) {
+            partitionPaths.add(new ArrayList<>());
+        }
+        for (long path = 0; path < leafCount; path++) {
+            partitionPaths.get((int) ((path / 64) % partitionCount)).add(path);
+        }
+
+        final List<Long> consumed = Collections.synchronizedList(new ArrayList<>());
+        final ReconnectLeafMerger<TestKey, TestValue> merger =
+                new ReconnectLeafMerger<>(partitionCount, 16, leaf -> consumed.add(leaf.getPath()));
+        final List<Thread> threads = new ArrayList<>();
+        int dirtyLeafCount = 0;
+        for (int i = 0; i < partitionCount; i++) {
+            final int partition = i;
+            final boolean[] clean = new boolean[leafCount];
+            for (int j = 0; j < leafCount; j++) {
+                clean[j] = random.nextInt(4) == 0;
+            }
+            for (final long path : partitionPaths.get(partition)) {
+                dirtyLeafCount += clean[(int) path] ? 0 : 1;
+            }
+            threads.add(new Thread(() -> {
+                for (final long path : partitionPaths.get(partition)) {
+                    merger.leafReceived(partition, path, clean[(int) path] ? null : leaf(path));
+                }
+                merger.partitionFinished(partition);
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(dirtyLeafCount, consumed.size(), "All dirty leaves, and only them, must be consumed");
+        for (int i = 1; i < consumed.size(); i++) {
+            assertTrue(consumed.get(i - 1) < consumed.get(i), "Leaves must be consumed in ascending order");
+        }
+    }
+}
@@ -0,0 +1,69 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.reconnect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.common.merkle.synchronization.task.ReconnectNodeCount;
+import com.swirlds.virtualmap.internal.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class TwoPhasePessimisticTraversalOrderTest {
+
+    private static final ReconnectNodeCount NO_OP_NODE_COUNT = new ReconnectNodeCount() {
+        @Override
+        public void incrementLeafCount() {}
+
+        @Override
+        public void incrementRedundantLeafCount() {}
+
+        @Override
+        public void incrementInternalCount() {}
+
+        @Override
+        public void incrementRedundantInternalCount() {}
+    };
+
+    @ParameterizedTest
+    @CsvSource({"1, 10", "1, 10000", "2, 10", "2, 10000", "3, 10000", "4, 100000"})
+    @Tags({@Tag("Reconnect")})
+    @DisplayName("Partitions request every leaf exactly once, in ascending order")
+    void partitionsRequestDisjointLeaves(final int partitionCount, final int leafCount) throws InterruptedException {
+        final long firstLeafPath = leafCount - 1;
+        final long lastLeafPath = 2L * leafCount - 2;
+        final List<NodeTraversalOrder> partitions = new TwoPhasePessimisticTraversalOrder().partition(partitionCount);
+        assertEquals(partitionCount, partitions.size(), "Unexpected number of partitions");
+
+        final Set<Long> requestedLeaves = new HashSet<>();
+        for (final NodeTraversalOrder partition : partitions) {
+            partition.start(firstLeafPath, lastLeafPath, NO_OP_NODE_COUNT);
+        }
+        for (final NodeTraversalOrder partition : partitions) {
+            final List<Long> leaves = new ArrayList<>();
+            long path = partition.getNextPathToSend();
+            while (path != Path.INVALID_PATH) {
+                // All nodes are dirty, so no sub-trees can be skipped
+                partition.nodeReceived(path, false);
+                if (path >= firstLeafPath) {
+                    leaves.add(path);
+                }
+                path = partition.getNextPathToSend();
+            }
+            for (int i = 1; i < leaves.size(); i++) {
+                assertTrue(leaves.get(i - 1) < leaves.get(i), "Leaves must be requested in ascending order");
+            }
+            for (final long leaf : leaves) {
+                assertTrue(requestedLeaves.add(leaf), "Leaf " + leaf + " is requested by multiple partitions");
+            }
+        }
+        assertEquals(leafCount, requestedLeaves.size(), "All leaves must be requested");
+    }
+}
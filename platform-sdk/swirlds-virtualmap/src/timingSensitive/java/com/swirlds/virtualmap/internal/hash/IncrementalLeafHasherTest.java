@@ -0,0 +1,106 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.hash;
+
+import static com.swirlds.common.test.fixtures.AssertionUtils.assertEventuallyTrue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.swirlds.virtualmap.datasource.VirtualLeafRecord;
+import com.swirlds.virtualmap.test.fixtures.TestKey;
+import com.swirlds.virtualmap.test.fixtures.TestValue;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.hiero.base.utility.test.fixtures.tags.TestComponentTags;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link IncrementalLeafHasher}.
+ */
+class IncrementalLeafHasherTest extends VirtualHasherTestBase {
+
+    private static List<VirtualLeafRecord<TestKey, TestValue>> reportLeaves(
+            final IncrementalLeafHasher<TestKey, TestValue> leafHasher, final int count) {
+        final List<VirtualLeafRecord<TestKey, TestValue>> leaves = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final VirtualLeafRecord<TestKey, TestValue> leaf =
+                    new VirtualLeafRecord<>(count + i, new TestKey(i), new TestValue(i));
+            leaves.add(leaf);
+            leafHasher.leafUpdated(leaf);
+        }
+        return leaves;
+    }
+
+    private static void awaitHashed(
+            final IncrementalLeafHasher<TestKey, TestValue> leafHasher,
+            final List<VirtualLeafRecord<TestKey, TestValue>> leaves) {
+        assertEventuallyTrue(
+                () -> leaves.stream().allMatch(leaf -> leafHasher.getLeafHash(leaf) != null),
+                Duration.ofSeconds(5),
+                "All leaves must be hashed in background");
+    }
+
+    @Test
+    @Tag(TestComponentTags.VMAP)
+    @DisplayName("Batch size must be positive")
+    void invalidBatchSize() {
+        assertThrows(IllegalArgumentException.class, () -> new IncrementalLeafHasher<>(0));
+    }
+
+    @Test
+    @Tag(TestComponentTags.VMAP)
+    @DisplayName("Precomputed leaf hashes match leaf digests")
+    void precomputedHashesMatch() {
+        final IncrementalLeafHasher<TestKey, TestValue> leafHasher = new IncrementalLeafHasher<>(4);
+        final List<VirtualLeafRecord<TestKey, TestValue>> leaves = reportLeaves(leafHasher, 16);
+        awaitHashed(leafHasher, leaves);
+        leafHasher.stop();
+        for (final VirtualLeafRecord<TestKey, TestValue> leaf : leaves) {
+            assertEquals(CRYPTO.digestSync(leaf), leafHasher.getLeafHash(leaf), "Wrong precomputed hash");
+        }
+        leafHasher.clear();
+        assertNull(leafHasher.getLeafHash(leaves.get(0)), "Hashes must be released on clear");
+    }
+
+    @Test
+    @Tag(TestComponentTags.VMAP)
+    @DisplayName("Precomputed leaf hashes are not used for changed leaves")
+    void changedLeavesNotUsed() {
+        final IncrementalLeafHasher<TestKey, TestValue> leafHasher = new IncrementalLeafHasher<>(3);
+        final List<VirtualLeafRecord<TestKey, TestValue>> leaves = reportLeaves(leafHasher, 3);
+        awaitHashed(leafHasher, leaves);
+        leafHasher.stop();
+
+        // The leaf is moved to a different path
+        final VirtualLeafRecord<TestKey, TestValue> moved = leaves.get(0);
+        moved.setPath(moved.getPath() + 10);
+        assertNull(leafHasher.getLeafHash(moved), "Moved leaf must not use the precomputed hash");
+
+        // The leaf is replaced with a new record with the same key
+        final VirtualLeafRecord<TestKey, TestValue> old = leaves.get(1);
+        final VirtualLeafRecord<TestKey, TestValue> replaced =
+                new VirtualLeafRecord<>(old.getPath(), old.getKey(), new TestValue(100));
+        assertNull(leafHasher.getLeafHash(replaced), "Replaced leaf must not use the precomputed hash");
+
+        // The leaf value is updated in the same record, like the virtual node cache does when a key
+        // is put again in the same copy
+        final VirtualLeafRecord<TestKey, TestValue> updated = leaves.get(2);
+        updated.setValue(new TestValue(200));
+        assertNull(leafHasher.getLeafHash(updated), "Updated leaf must not use the precomputed hash");
+    }
+
+    @Test
+    @Tag(TestComponentTags.VMAP)
+    @DisplayName("Incomplete batches are left for the virtual hasher")
+    void incompleteBatchNotHashed() {
+        final IncrementalLeafHasher<TestKey, TestValue> leafHasher = new IncrementalLeafHasher<>(100);
+        final List<VirtualLeafRecord<TestKey, TestValue>> leaves = reportLeaves(leafHasher, 10);
+        leafHasher.stop();
+        for (final VirtualLeafRecord<TestKey, TestValue> leaf : leaves) {
+            assertNull(leafHasher.getLeafHash(leaf), "Leaves in an incomplete batch must not be hashed");
+        }
+    }
+}
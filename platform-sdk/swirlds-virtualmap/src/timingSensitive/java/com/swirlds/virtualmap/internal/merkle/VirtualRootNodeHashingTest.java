@@ -9,10 +9,15 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import com.swirlds.common.merkle.MerkleInternal;
 import com.swirlds.common.merkle.impl.PartialBinaryMerkleInternal;
 import com.swirlds.common.test.fixtures.merkle.TestMerkleCryptoFactory;
+import com.swirlds.config.api.Configuration;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.virtualmap.config.VirtualMapConfig_;
 import com.swirlds.virtualmap.test.fixtures.DummyVirtualStateAccessor;
 import com.swirlds.virtualmap.test.fixtures.TestKey;
 import com.swirlds.virtualmap.test.fixtures.TestValue;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 import org.hiero.base.crypto.Hash;
 import org.hiero.base.utility.test.fixtures.tags.TestComponentTags;
 import org.junit.jupiter.api.DisplayName;
@@ -172,6 +177,39 @@ class VirtualRootNodeHashingTest {
         root1.release();
     }
 
+    @Test
+    @Tag(TestComponentTags.VMAP)
+    @DisplayName("Keys put again after incremental hashing are hashed with new values")
+    void incrementalHashingOverwrittenKeys() {
+        final Configuration incrementalConfig = new TestConfigBuilder()
+                .withValue(VirtualMapConfig_.INCREMENTAL_HASHING_BATCH_SIZE, 10)
+                .getOrCreateConfig();
+        final VirtualRootNode<TestKey, TestValue> incremental = createRoot(incrementalConfig);
+        final VirtualRootNode<TestKey, TestValue> reference = createRoot();
+
+        for (int i = 0; i < 100; i++) {
+            incremental.put(new TestKey(i), new TestValue(i));
+            reference.put(new TestKey(i), new TestValue(i));
+        }
+        // Let all complete batches be hashed in background
+        ForkJoinPool.commonPool().awaitQuiescence(5, TimeUnit.SECONDS);
+
+        // Fewer keys than a batch are put again, so the updated leaves aren't hashed in background
+        for (int i = 0; i < 3; i++) {
+            incremental.put(new TestKey(i), new TestValue(1000 + i));
+            reference.put(new TestKey(i), new TestValue(1000 + i));
+        }
+
+        final VirtualRootNode<TestKey, TestValue> incrementalCopy = incremental.copy();
+        final VirtualRootNode<TestKey, TestValue> referenceCopy = reference.copy();
+        assertEquals(reference.getHash(), incremental.getHash(), "Incremental hashing should produce the same hash");
+
+        incremental.release();
+        incrementalCopy.release();
+        reference.release();
+        referenceCopy.release();
+    }
+
     /**
      * A simple merkle internal implementation used to validate basic VM hashing
      */
@@ -62,7 +62,16 @@ class DummyVirtualRoot<K extends VirtualKey, V extends VirtualValue> extends Par
     private final VirtualMapStatistics statistics;
 
     public DummyVirtualRoot(final String label, VirtualMapConfig virtualMapConfig) {
-        pipeline = new VirtualPipeline<>(virtualMapConfig, label);
+        this(label, new VirtualPipeline<>(virtualMapConfig, label));
+    }
+
+    public DummyVirtualRoot(
+            final String label, VirtualMapConfig virtualMapConfig, VirtualFlushCoordinator flushCoordinator) {
+        this(label, new VirtualPipeline<>(virtualMapConfig, label, flushCoordinator));
+    }
+
+    private DummyVirtualRoot(final String label, final VirtualPipeline<K, V> pipeline) {
+        this.pipeline = pipeline;
         flushLatch = new CountDownLatch(1);
         mergeLatch = new CountDownLatch(1);
         statistics = new VirtualMapStatistics(label);
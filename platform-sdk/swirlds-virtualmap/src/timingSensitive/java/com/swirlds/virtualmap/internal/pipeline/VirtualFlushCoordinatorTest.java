@@ -0,0 +1,156 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.pipeline;
+
+import static com.swirlds.common.test.fixtures.AssertionUtils.assertEventuallyTrue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.virtualmap.config.VirtualMapConfig;
+import com.swirlds.virtualmap.internal.pipeline.VirtualFlushCoordinator.FlushPermit;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VirtualFlushCoordinatorTest {
+
+    private static Thread acquireAndRecord(
+            final VirtualFlushCoordinator coordinator, final long size, final List<Long> order) {
+        final Thread thread = new Thread(() -> {
+            try {
+                final FlushPermit permit = coordinator.acquire(size);
+                order.add(size);
+                coordinator.release(permit);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        thread.start();
+        return thread;
+    }
+
+    @Test
+    @DisplayName("Flushes are not coordinated with the default config")
+    void disabledByDefault() throws InterruptedException {
+        final VirtualMapConfig config =
+                new TestConfigBuilder().getOrCreateConfig().getConfigData(VirtualMapConfig.class);
+        final VirtualFlushCoordinator coordinator = new VirtualFlushCoordinator(config);
+        final Object pipeline = new Object();
+        coordinator.reportCacheSize(pipeline, Long.MAX_VALUE);
+        assertFalse(coordinator.shouldFlushEarly(pipeline), "Copies should not be flushed early by default");
+        final FlushPermit permit1 = coordinator.acquire(1_000_000_000L);
+        final FlushPermit permit2 = coordinator.acquire(1_000_000_000L);
+        assertEquals(2, coordinator.getActiveFlushes());
+        coordinator.release(permit1);
+        coordinator.release(permit2);
+    }
+
+    @Test
+    @DisplayName("Flushes are not limited if disabled")
+    void disabled() throws InterruptedException {
+        final VirtualFlushCoordinator coordinator = new VirtualFlushCoordinator(0, 0, 0, Duration.ofSeconds(1));
+        final FlushPermit permit1 = coordinator.acquire(100);
+        final FlushPermit permit2 = coordinator.acquire(100);
+        final FlushPermit permit3 = coordinator.acquire(100);
+        assertEquals(3, coordinator.getActiveFlushes());
+        coordinator.release(permit1);
+        coordinator.release(permit2);
+        coordinator.release(permit3);
+        assertEquals(0, coordinator.getActiveFlushes());
+    }
+
+    @Test
+    @DisplayName("A single flush is always allowed, even if over the size budget")
+    void singleFlushOverBudget() throws InterruptedException {
+        final VirtualFlushCoordinator coordinator = new VirtualFlushCoordinator(2, 100, 0, Duration.ofSeconds(1));
+        final FlushPermit permit = coordinator.acquire(1000);
+        assertEquals(1, coordinator.getActiveFlushes());
+        coordinator.release(permit);
+    }
+
+    @Test
+    @DisplayName("Concurrent flushes are limited by count and size")
+    void concurrentFlushesLimited() throws InterruptedException {
+        final VirtualFlushCoordinator coordinator = new VirtualFlushCoordinator(2, 100, 0, Duration.ofSeconds(10));
+        final FlushPermit permit1 = coordinator.acquire(50);
+        final FlushPermit permit2 = coordinator.acquire(50);
+        final List<Long> order = new CopyOnWriteArrayList<>();
+        // Both the count and the size budget are exhausted
+        final Thread thread = acquireAndRecord(coordinator, 10, order);
+        TimeUnit.MILLISECONDS.sleep(100);
+        assertTrue(order.isEmpty(), "Third flush must wait");
+        coordinator.release(permit1);
+        thread.join(TimeUnit.SECONDS.toMillis(5));
+        assertEquals(List.of(10L), order);
+        coordinator.release(permit2);
+        assertEquals(0, coordinator.getActiveFlushes());
+    }
+
+    @Test
+    @DisplayName("Largest flushes go first")
+    void largestFirst() throws InterruptedException {
+        final VirtualFlushCoordinator coordinator = new VirtualFlushCoordinator(1, 0, 0, Duration.ofSeconds(10));
+        final FlushPermit permit = coordinator.acquire(1);
+        final List<Long> order = new CopyOnWriteArrayList<>();
+        final Thread small = acquireAndRecord(coordinator, 10, order);
+        final Thread large = acquireAndRecord(coordinator, 1000, order);
+        final Thread medium = acquireAndRecord(coordinator, 100, order);
+        // Wait till all threads are blocked in acquire()
+        assertEventuallyTrue(
+                () -> small.getState() == Thread.State.TIMED_WAITING
+                        && large.getState() == Thread.State.TIMED_WAITING
+                        && medium.getState() == Thread.State.TIMED_WAITING,
+                Duration.ofSeconds(5),
+                "Threads must be waiting for permits");
+        coordinator.release(permit);
+        small.join(TimeUnit.SECONDS.toMillis(5));
+        large.join(TimeUnit.SECONDS.toMillis(5));
+        medium.join(TimeUnit.SECONDS.toMillis(5));
+        assertEquals(List.of(1000L, 100L, 10L), order);
+    }
+
+    @Test
+    @DisplayName("Flushes waiting too long go first")
+    void oldestFirstWhenOverdue() throws InterruptedException {
+        final VirtualFlushCoordinator coordinator = new VirtualFlushCoordinator(1, 0, 0, Duration.ofMillis(200));
+        final FlushPermit permit = coordinator.acquire(1);
+        final List<Long> order = new CopyOnWriteArrayList<>();
+        final Thread small = acquireAndRecord(coordinator, 10, order);
+        assertEventuallyTrue(
+                () -> small.getState() == Thread.State.TIMED_WAITING,
+                Duration.ofSeconds(5),
+                "Thread must be waiting for a permit");
+        TimeUnit.MILLISECONDS.sleep(300);
+        final Thread large = acquireAndRecord(coordinator, 1000, order);
+        assertEventuallyTrue(
+                () -> large.getState() == Thread.State.TIMED_WAITING,
+                Duration.ofSeconds(5),
+                "Thread must be waiting for a permit");
+        coordinator.release(permit);
+        small.join(TimeUnit.SECONDS.toMillis(5));
+        large.join(TimeUnit.SECONDS.toMillis(5));
+        assertEquals(List.of(10L, 1000L), order);
+    }
+
+    @Test
+    @DisplayName("Pipeline with the largest caches flushes early when over memory budget")
+    void flushEarly() {
+        final VirtualFlushCoordinator coordinator = new VirtualFlushCoordinator(0, 0, 1000, Duration.ofSeconds(1));
+        final Object pipeline1 = new Object();
+        final Object pipeline2 = new Object();
+        coordinator.reportCacheSize(pipeline1, 400);
+        coordinator.reportCacheSize(pipeline2, 500);
+        assertFalse(coordinator.shouldFlushEarly(pipeline1));
+        assertFalse(coordinator.shouldFlushEarly(pipeline2));
+        coordinator.reportCacheSize(pipeline2, 700);
+        assertFalse(coordinator.shouldFlushEarly(pipeline1), "Only the largest pipeline should flush early");
+        assertTrue(coordinator.shouldFlushEarly(pipeline2));
+        coordinator.unregister(pipeline2);
+        assertFalse(coordinator.shouldFlushEarly(pipeline1));
+        assertFalse(coordinator.shouldFlushEarly(pipeline2));
+    }
+}
@@ -696,6 +696,26 @@ class VirtualPipelineTests {
         assertTrue(afterCopy.isFlushed());
     }
 
+    @Test
+    @Tag(TestComponentTags.VMAP)
+    @DisplayName("Flushes wait for permits from the given flush coordinator")
+    void flushCoordinatorPermits() throws InterruptedException {
+        final VirtualFlushCoordinator coordinator = new VirtualFlushCoordinator(1, 0, 0, Duration.ofSeconds(10));
+        // Another flush is in progress, and only one flush is allowed at a time
+        final VirtualFlushCoordinator.FlushPermit permit = coordinator.acquire(1);
+        final DummyVirtualRoot<VirtualKey, VirtualValue> copy =
+                new DummyVirtualRoot<>("flushCoordinatorPermits", config, coordinator);
+        copy.setShouldBeFlushed(true);
+        final DummyVirtualRoot<VirtualKey, VirtualValue> mutableCopy = copy.copy();
+        copy.release();
+        MILLISECONDS.sleep(200);
+        assertFalse(copy.isFlushed(), "Copy should not be flushed without a flush permit");
+        coordinator.release(permit);
+        copy.waitUntilFlushed();
+        assertTrue(copy.isFlushed(), "Copy should be flushed by now");
+        mutableCopy.release();
+    }
+
     @Test
     @Tag(TestComponentTags.VMAP)
     @DisplayName("Undestroyed Copy Blocks Flushes")
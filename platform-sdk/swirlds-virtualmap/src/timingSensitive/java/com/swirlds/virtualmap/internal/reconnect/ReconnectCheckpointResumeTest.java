@@ -0,0 +1,264 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.reconnect;
+
+import static com.swirlds.virtualmap.test.fixtures.VirtualMapTestUtils.CONFIGURATION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.common.merkle.synchronization.config.ReconnectConfig;
+import com.swirlds.common.merkle.synchronization.stats.ReconnectMapStats;
+import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
+import com.swirlds.virtualmap.config.VirtualMapConfig;
+import com.swirlds.virtualmap.config.VirtualMapConfig_;
+import com.swirlds.virtualmap.config.VirtualMapReconnectMode;
+import com.swirlds.virtualmap.datasource.VirtualDataSource;
+import com.swirlds.virtualmap.datasource.VirtualLeafRecord;
+import com.swirlds.virtualmap.internal.merkle.VirtualRootNode;
+import com.swirlds.virtualmap.test.fixtures.DummyVirtualStateAccessor;
+import com.swirlds.virtualmap.test.fixtures.InMemoryBuilder;
+import com.swirlds.virtualmap.test.fixtures.TestKey;
+import com.swirlds.virtualmap.test.fixtures.TestKeySerializer;
+import com.swirlds.virtualmap.test.fixtures.TestValue;
+import com.swirlds.virtualmap.test.fixtures.TestValueSerializer;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.hiero.base.crypto.Hash;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests that a learner reconnect, which failed after part of the tree was received, continues
+ * from the reconnect checkpoint it left, and ends up with the same tree as a reconnect that
+ * didn't fail.
+ */
+@Tag("VirtualMerkle")
+class ReconnectCheckpointResumeTest {
+
+    private static final int LEAF_COUNT = 100;
+
+    private static final ReconnectConfig RECONNECT_CONFIG =
+            new TestConfigBuilder().getOrCreateConfig().getConfigData(ReconnectConfig.class);
+
+    @TempDir
+    private Path checkpointsDirectory;
+
+    /**
+     * Mutable copies of the teacher and learner trees, released after the test.
+     */
+    private final List<VirtualRootNode<TestKey, TestValue>> copies = new ArrayList<>();
+
+    @Test
+    @DisplayName("Aborted learner reconnect resumes from its checkpoint")
+    void abortedReconnectResumesFromCheckpoint() {
+        final VirtualMapConfig checkpointConfig = checkpointConfig();
+        final VirtualMapConfig noCheckpointConfig = CONFIGURATION.getConfigData(VirtualMapConfig.class);
+
+        // The learner has the same keys as the teacher, at the same paths, but with different values
+        final VirtualRootNode<TestKey, TestValue> teacher = createTree(new InMemoryBuilder(), "teacher");
+        final VirtualRootNode<TestKey, TestValue> learner = createTree(new CheckpointBuilder(), "learner");
+        final long firstLeafPath = teacher.getState().getFirstLeafPath();
+        final long lastLeafPath = teacher.getState().getLastLeafPath();
+        final long middleLeafPath = firstLeafPath + LEAF_COUNT / 2;
+
+        // An uninterrupted reconnect, for reference
+        final VirtualRootNode<TestKey, TestValue> uninterrupted =
+                startReconnect(noCheckpointConfig, learner, teacher, teacher.getHash());
+        sendLeaves(uninterrupted, teacher, firstLeafPath, lastLeafPath);
+        uninterrupted.endLearnerReconnect();
+        assertEquals(teacher.getHash(), uninterrupted.getHash(), "Reconnected tree should match the teacher");
+
+        // The first attempt only receives half of the leaves before it fails
+        final VirtualRootNode<TestKey, TestValue> aborted =
+                startReconnect(checkpointConfig, learner, teacher, teacher.getHash());
+        sendLeaves(aborted, teacher, firstLeafPath, middleLeafPath - 1);
+        aborted.endLearnerReconnect();
+        aborted.abortLearnerReconnect();
+        assertTrue(
+                Files.isDirectory(checkpointsDirectory.resolve(learner.getState().getLabel())),
+                "Aborted reconnect should leave a checkpoint");
+
+        // The second attempt starts from the checkpoint, so only the rest of the leaves are needed
+        final VirtualRootNode<TestKey, TestValue> resumed =
+                startReconnect(checkpointConfig, learner, teacher, teacher.getHash());
+        sendLeaves(resumed, teacher, middleLeafPath, lastLeafPath);
+        resumed.endLearnerReconnect();
+        resumed.completeLearnerReconnect();
+        assertFalse(
+                Files.exists(checkpointsDirectory.resolve(learner.getState().getLabel())),
+                "Completed reconnect should delete the checkpoint");
+
+        final Hash expectedHash = uninterrupted.getHash();
+        assertEquals(expectedHash, resumed.getHash(), "Resumed reconnect should produce the same tree");
+        assertEquals(firstLeafPath, resumed.getState().getFirstLeafPath(), "First leaf path should match");
+        assertEquals(lastLeafPath, resumed.getState().getLastLeafPath(), "Last leaf path should match");
+        for (int i = 0; i < LEAF_COUNT; i++) {
+            final TestKey key = new TestKey(i);
+            assertEquals(uninterrupted.get(key), resumed.get(key), "Values should match for key " + i);
+        }
+
+        uninterrupted.release();
+        aborted.release();
+        resumed.release();
+        learner.release();
+        teacher.release();
+        copies.forEach(VirtualRootNode::release);
+    }
+
+    /**
+     * Creates a hashed immutable tree with {@link #LEAF_COUNT} leaves. Keys are the same in all
+     * trees, while values are prefixed with the given string.
+     */
+    private VirtualRootNode<TestKey, TestValue> createTree(final InMemoryBuilder builder, final String valuePrefix) {
+        final VirtualRootNode<TestKey, TestValue> root = new VirtualRootNode<>(
+                TestKeySerializer.INSTANCE,
+                TestValueSerializer.INSTANCE,
+                builder,
+                CONFIGURATION.getConfigData(VirtualMapConfig.class));
+        root.postInit(new DummyVirtualStateAccessor());
+        for (int i = 0; i < LEAF_COUNT; i++) {
+            root.put(new TestKey(i), new TestValue(valuePrefix + i));
+        }
+        final VirtualRootNode<TestKey, TestValue> copy = root.copy();
+        copy.postInit(root.getState());
+        copies.add(copy);
+        root.getHash();
+        return root;
+    }
+
+    @Test
+    @DisplayName("Checkpoint for another target isn't used")
+    void checkpointForAnotherTargetIsDeleted() {
+        final VirtualMapConfig checkpointConfig = checkpointConfig();
+        final VirtualRootNode<TestKey, TestValue> teacher = createTree(new InMemoryBuilder(), "teacher");
+        final VirtualRootNode<TestKey, TestValue> otherTeacher = createTree(new InMemoryBuilder(), "other");
+        final VirtualRootNode<TestKey, TestValue> learner = createTree(new CheckpointBuilder(), "learner");
+        final long firstLeafPath = teacher.getState().getFirstLeafPath();
+        final long lastLeafPath = teacher.getState().getLastLeafPath();
+        final long middleLeafPath = firstLeafPath + LEAF_COUNT / 2;
+        final Path checkpointDirectory = checkpointsDirectory.resolve(learner.getState().getLabel());
+
+        // The first attempt fails after half of the leaves are received from the other teacher
+        final VirtualRootNode<TestKey, TestValue> aborted =
+                startReconnect(checkpointConfig, learner, otherTeacher, otherTeacher.getHash());
+        sendLeaves(aborted, otherTeacher, firstLeafPath, middleLeafPath - 1);
+        aborted.endLearnerReconnect();
+        aborted.abortLearnerReconnect();
+        assertTrue(Files.isDirectory(checkpointDirectory), "Aborted reconnect should leave a checkpoint");
+
+        // The next attempt is for a different teacher tree, it must start from the original map
+        final VirtualRootNode<TestKey, TestValue> next =
+                startReconnect(checkpointConfig, learner, teacher, teacher.getHash());
+        assertFalse(Files.exists(checkpointDirectory), "Checkpoint for another target should be deleted");
+        sendLeaves(next, teacher, firstLeafPath, lastLeafPath);
+        next.endLearnerReconnect();
+        next.completeLearnerReconnect();
+        assertEquals(teacher.getHash(), next.getHash(), "Reconnected tree should match the teacher");
+
+        aborted.release();
+        next.release();
+        learner.release();
+        otherTeacher.release();
+        teacher.release();
+        copies.forEach(VirtualRootNode::release);
+    }
+
+    @Test
+    @DisplayName("No checkpoint is saved if the target is unknown")
+    void noCheckpointForUnknownTarget() {
+        final VirtualRootNode<TestKey, TestValue> teacher = createTree(new InMemoryBuilder(), "teacher");
+        final VirtualRootNode<TestKey, TestValue> learner = createTree(new CheckpointBuilder(), "learner");
+        final long firstLeafPath = teacher.getState().getFirstLeafPath();
+
+        final VirtualRootNode<TestKey, TestValue> aborted = startReconnect(checkpointConfig(), learner, teacher, null);
+        sendLeaves(aborted, teacher, firstLeafPath, firstLeafPath + LEAF_COUNT / 2 - 1);
+        aborted.endLearnerReconnect();
+        aborted.abortLearnerReconnect();
+        assertFalse(
+                Files.exists(checkpointsDirectory.resolve(learner.getState().getLabel())),
+                "No checkpoint should be saved without a target");
+
+        aborted.release();
+        learner.release();
+        teacher.release();
+        copies.forEach(VirtualRootNode::release);
+    }
+
+    private VirtualMapConfig checkpointConfig() {
+        return new TestConfigBuilder()
+                .withValue(VirtualMapConfig_.RECONNECT_MODE, VirtualMapReconnectMode.PULL_TOP_TO_BOTTOM)
+                .withValue(VirtualMapConfig_.RECONNECT_CHECKPOINT_PATH, checkpointsDirectory.toString())
+                .getOrCreateConfig()
+                .getConfigData(VirtualMapConfig.class);
+    }
+
+    /**
+     * Does what the learner view does before the first leaf is received from the teacher.
+     */
+    private static VirtualRootNode<TestKey, TestValue> startReconnect(
+            final VirtualMapConfig config,
+            final VirtualRootNode<TestKey, TestValue> learner,
+            final VirtualRootNode<TestKey, TestValue> teacher,
+            @Nullable final Hash targetHash) {
+        final VirtualRootNode<TestKey, TestValue> root = new VirtualRootNode<>(config);
+        root.setupWithOriginalNode(learner, targetHash);
+        final DummyVirtualStateAccessor state = new DummyVirtualStateAccessor();
+        state.setFirstLeafPath(teacher.getState().getFirstLeafPath());
+        state.setLastLeafPath(teacher.getState().getLastLeafPath());
+        root.postInit(state);
+        root.buildLearnerView(RECONNECT_CONFIG, new ReconnectMapStats() {});
+        root.prepareReconnectHashing(
+                teacher.getState().getFirstLeafPath(), teacher.getState().getLastLeafPath());
+        return root;
+    }
+
+    private static void sendLeaves(
+            final VirtualRootNode<TestKey, TestValue> root,
+            final VirtualRootNode<TestKey, TestValue> teacher,
+            final long fromPath,
+            final long toPath) {
+        for (long path = fromPath; path <= toPath; path++) {
+            final VirtualLeafRecord<TestKey, TestValue> leaf = teacher.getRecords().findLeafRecord(path, false);
+            root.handleReconnectLeaf(new VirtualLeafRecord<>(path, leaf.getKey(), leaf.getValue()));
+        }
+    }
+
+    /**
+     * Keeps snapshots in memory like {@link InMemoryBuilder}, but finds them by an id file in the
+     * snapshot directory, so snapshots can be found after their directories are moved, like
+     * snapshots on disk.
+     */
+    private static final class CheckpointBuilder extends InMemoryBuilder {
+
+        private static final String ID_FILE = "snapshot.id";
+
+        @Override
+        public void snapshot(final Path to, final VirtualDataSource snapshotMe) {
+            final String id = UUID.randomUUID().toString();
+            super.snapshot(Path.of(id), snapshotMe);
+            try {
+                Files.createDirectories(to);
+                Files.writeString(to.resolve(ID_FILE), id);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public VirtualDataSource restore(final String label, final Path from) {
+            try {
+                return super.restore(label, Path.of(Files.readString(from.resolve(ID_FILE))));
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
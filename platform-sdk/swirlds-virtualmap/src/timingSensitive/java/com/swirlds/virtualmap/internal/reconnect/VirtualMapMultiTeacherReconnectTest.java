@@ -0,0 +1,191 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.reconnect;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.swirlds.common.io.streams.MerkleDataOutputStream;
+import com.swirlds.common.merkle.MerkleInternal;
+import com.swirlds.common.merkle.MerkleNode;
+import com.swirlds.common.merkle.synchronization.utility.MerkleSynchronizationException;
+import com.swirlds.common.test.fixtures.io.BreakingOutputStream;
+import com.swirlds.common.test.fixtures.merkle.util.MerkleTestUtils;
+import com.swirlds.config.api.Configuration;
+import com.swirlds.virtualmap.VirtualMap;
+import com.swirlds.virtualmap.config.VirtualMapReconnectMode;
+import com.swirlds.virtualmap.datasource.VirtualDataSourceBuilder;
+import com.swirlds.virtualmap.test.fixtures.InMemoryBuilder;
+import com.swirlds.virtualmap.test.fixtures.TestKey;
+import com.swirlds.virtualmap.test.fixtures.TestKeySerializer;
+import com.swirlds.virtualmap.test.fixtures.TestValue;
+import com.swirlds.virtualmap.test.fixtures.TestValueSerializer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiFunction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Reconnect tests with multiple teachers. Nodes are requested from all teachers in parallel, every teacher
+ * serves its own partition of the tree.
+ */
+@DisplayName("Virtual Map Multi Teacher Reconnect Test")
+class VirtualMapMultiTeacherReconnectTest extends VirtualMapReconnectTestBase {
+
+    private static final int LEAF_COUNT = 10_000;
+
+    /**
+     * The number of bytes a broken teacher sends. It's enough to send the virtual map root hash and
+     * some nodes, but not the whole partition
+     */
+    private static final long BYTES_BEFORE_BREAK = 20_000;
+
+    private Configuration configuration;
+
+    @Override
+    protected VirtualDataSourceBuilder createBuilder() {
+        return new InMemoryBuilder();
+    }
+
+    @BeforeEach
+    void setupMaps() throws Exception {
+        configuration = useReconnectMode(VirtualMapReconnectMode.PULL_TWO_PHASE_PESSIMISTIC);
+        for (int i = 0; i < LEAF_COUNT; i++) {
+            teacherMap.put(new TestKey(i), new TestValue(i));
+        }
+        for (int i = 0; i < LEAF_COUNT; i += 2) {
+            learnerMap.put(new TestKey(i), new TestValue(i));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3})
+    @Tags({@Tag("VirtualMerkle"), @Tag("Reconnect")})
+    @DisplayName("Partitions are received from all teachers")
+    void multipleTeachers(final int additionalTeachers) throws Exception {
+        final MerkleInternal teacherTree = createTreeForMap(teacherMap);
+        final VirtualMap<TestKey, TestValue> copy = teacherMap.copy();
+        final MerkleInternal learnerTree = createTreeForMap(learnerMap);
+        try {
+            reconnect(learnerTree, Collections.nCopies(additionalTeachers + 1, teacherTree), (i, out) -> out);
+        } finally {
+            teacherTree.release();
+            learnerTree.release();
+            copy.release();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2})
+    @Tags({@Tag("VirtualMerkle"), @Tag("Reconnect")})
+    @DisplayName("A teacher fails in the middle of its partition")
+    void teacherFailsMidPartition(final int brokenTeacher) throws Exception {
+        final MerkleInternal teacherTree = createTreeForMap(teacherMap);
+        final VirtualMap<TestKey, TestValue> copy = teacherMap.copy();
+        final MerkleInternal learnerTree = createTreeForMap(learnerMap);
+        try {
+            final List<MerkleNode> teacherTrees = Collections.nCopies(3, teacherTree);
+            final List<BreakingOutputStream> brokenStreams = new ArrayList<>();
+            assertThrows(
+                    MerkleSynchronizationException.class,
+                    () -> reconnect(learnerTree, teacherTrees, (i, out) -> {
+                        if (i != brokenTeacher) {
+                            return out;
+                        }
+                        final BreakingOutputStream broken = new BreakingOutputStream(out, BYTES_BEFORE_BREAK);
+                        brokenStreams.add(broken);
+                        return new MerkleDataOutputStream(broken);
+                    }),
+                    "Reconnect should fail, if a teacher fails");
+            assertTrue(brokenStreams.get(0).isBroken(), "The teacher should fail during reconnect");
+
+            // The learner state is intact, another attempt with working teachers succeeds
+            reconnect(learnerTree, teacherTrees, (i, out) -> out);
+        } finally {
+            teacherTree.release();
+            learnerTree.release();
+            copy.release();
+        }
+    }
+
+    @Test
+    @Tags({@Tag("VirtualMerkle"), @Tag("Reconnect")})
+    @DisplayName("Additional teachers have a different map than the primary teacher")
+    void primaryTeacherHashMismatch() throws Exception {
+        final VirtualMap<TestKey, TestValue> otherMap = createOtherTeacherMap();
+        final MerkleInternal teacherTree = createTreeForMap(teacherMap);
+        final VirtualMap<TestKey, TestValue> copy = teacherMap.copy();
+        final MerkleInternal otherTree = createTreeForMap(otherMap);
+        final VirtualMap<TestKey, TestValue> otherCopy = otherMap.copy();
+        final MerkleInternal learnerTree = createTreeForMap(learnerMap);
+        try {
+            assertThrows(
+                    MerkleSynchronizationException.class,
+                    () -> reconnect(learnerTree, List.of(teacherTree, otherTree, otherTree), (i, out) -> out),
+                    "Reconnect should fail, if the primary teacher's map hash differs");
+
+            reconnect(learnerTree, List.of(teacherTree, teacherTree, teacherTree), (i, out) -> out);
+        } finally {
+            teacherTree.release();
+            otherTree.release();
+            learnerTree.release();
+            copy.release();
+            otherCopy.release();
+        }
+    }
+
+    @Test
+    @Tags({@Tag("VirtualMerkle"), @Tag("Reconnect")})
+    @DisplayName("Additional teachers have different maps")
+    void additionalTeachersHashMismatch() throws Exception {
+        final VirtualMap<TestKey, TestValue> otherMap = createOtherTeacherMap();
+        final MerkleInternal teacherTree = createTreeForMap(teacherMap);
+        final VirtualMap<TestKey, TestValue> copy = teacherMap.copy();
+        final MerkleInternal otherTree = createTreeForMap(otherMap);
+        final VirtualMap<TestKey, TestValue> otherCopy = otherMap.copy();
+        final MerkleInternal learnerTree = createTreeForMap(learnerMap);
+        try {
+            assertThrows(
+                    MerkleSynchronizationException.class,
+                    () -> reconnect(learnerTree, List.of(teacherTree, teacherTree, otherTree), (i, out) -> out),
+                    "Reconnect should fail, if additional teachers' map hashes differ");
+
+            reconnect(learnerTree, List.of(teacherTree, teacherTree, teacherTree), (i, out) -> out);
+        } finally {
+            teacherTree.release();
+            otherTree.release();
+            learnerTree.release();
+            copy.release();
+            otherCopy.release();
+        }
+    }
+
+    /**
+     * Creates a map, which is almost the same as the teacher map, but has one different value.
+     */
+    private VirtualMap<TestKey, TestValue> createOtherTeacherMap() {
+        final VirtualMap<TestKey, TestValue> otherMap = new VirtualMap<>(
+                "Teacher", TestKeySerializer.INSTANCE, TestValueSerializer.INSTANCE, createBuilder(), configuration);
+        for (int i = 0; i < LEAF_COUNT; i++) {
+            otherMap.put(new TestKey(i), new TestValue(i == LEAF_COUNT / 2 ? -1 : i));
+        }
+        return otherMap;
+    }
+
+    private void reconnect(
+            final MerkleInternal learnerTree,
+            final List<? extends MerkleNode> teacherTrees,
+            final BiFunction<Integer, MerkleDataOutputStream, MerkleDataOutputStream> teacherOutputs)
+            throws Exception {
+        final MerkleNode node = MerkleTestUtils.hashAndTestMultiTeacherSynchronization(
+                learnerTree, teacherTrees, teacherOutputs, reconnectConfig);
+        node.release();
+        assertTrue(learnerMap.getRight().isHashed(), "Learner root node must be hashed");
+    }
+}
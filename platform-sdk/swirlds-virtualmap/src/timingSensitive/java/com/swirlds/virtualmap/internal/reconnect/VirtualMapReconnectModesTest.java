@@ -0,0 +1,76 @@
+// SPDX-License-Identifier: Apache-2.0
+package com.swirlds.virtualmap.internal.reconnect;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+
+import com.swirlds.virtualmap.config.VirtualMapReconnectMode;
+import com.swirlds.virtualmap.datasource.VirtualDataSourceBuilder;
+import com.swirlds.virtualmap.test.fixtures.InMemoryBuilder;
+import com.swirlds.virtualmap.test.fixtures.TestKey;
+import com.swirlds.virtualmap.test.fixtures.TestValue;
+import org.hiero.base.constructable.ConstructableRegistryException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Reconnect tests, which run in every virtual map reconnect mode.
+ */
+@DisplayName("Virtual Map Reconnect Modes Test")
+class VirtualMapReconnectModesTest extends VirtualMapReconnectTestBase {
+
+    private static final int LEAF_COUNT = 1_000;
+
+    @Override
+    protected VirtualDataSourceBuilder createBuilder() {
+        return new InMemoryBuilder();
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                VirtualMapReconnectMode.PUSH,
+                VirtualMapReconnectMode.PULL_TOP_TO_BOTTOM,
+                VirtualMapReconnectMode.PULL_TWO_PHASE_PESSIMISTIC
+            })
+    @Tags({@Tag("VirtualMerkle"), @Tag("Reconnect")})
+    @DisplayName("Learner slightly behind the teacher")
+    void learnerSlightlyBehind(final String reconnectMode) throws ConstructableRegistryException {
+        useReconnectMode(reconnectMode);
+        for (int i = 0; i < LEAF_COUNT; i++) {
+            teacherMap.put(new TestKey(i), new TestValue(i));
+            learnerMap.put(new TestKey(i), new TestValue(i));
+        }
+        // A few changes the learner missed: updates, removals, and new leaves
+        for (int i = 0; i < LEAF_COUNT; i += 100) {
+            teacherMap.put(new TestKey(i), new TestValue(LEAF_COUNT + i));
+        }
+        for (int i = 50; i < LEAF_COUNT; i += 200) {
+            teacherMap.remove(new TestKey(i));
+        }
+        for (int i = LEAF_COUNT; i < LEAF_COUNT + 10; i++) {
+            teacherMap.put(new TestKey(i), new TestValue(i));
+        }
+        assertDoesNotThrow(this::reconnect, "Should not throw a Exception");
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                VirtualMapReconnectMode.PUSH,
+                VirtualMapReconnectMode.PULL_TOP_TO_BOTTOM,
+                VirtualMapReconnectMode.PULL_TWO_PHASE_PESSIMISTIC
+            })
+    @Tags({@Tag("VirtualMerkle"), @Tag("Reconnect")})
+    @DisplayName("Learner equal to the teacher")
+    void learnerEqualToTeacher(final String reconnectMode) throws ConstructableRegistryException {
+        useReconnectMode(reconnectMode);
+        for (int i = 0; i < LEAF_COUNT; i++) {
+            teacherMap.put(new TestKey(i), new TestValue(i));
+            learnerMap.put(new TestKey(i), new TestValue(i));
+        }
+        assertDoesNotThrow(this::reconnect, "Should not throw a Exception");
+    }
+}
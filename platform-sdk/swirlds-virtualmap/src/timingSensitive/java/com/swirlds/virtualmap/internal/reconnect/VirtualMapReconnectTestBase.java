@@ -15,10 +15,12 @@ import com.swirlds.common.merkle.synchronization.task.QueryResponse;
 import com.swirlds.common.test.fixtures.merkle.dummy.DummyMerkleInternal;
 import com.swirlds.common.test.fixtures.merkle.dummy.DummyMerkleLeaf;
 import com.swirlds.common.test.fixtures.merkle.util.MerkleTestUtils;
+import com.swirlds.config.api.Configuration;
 import com.swirlds.config.extensions.test.fixtures.TestConfigBuilder;
 import com.swirlds.metrics.api.Metrics;
 import com.swirlds.virtualmap.VirtualMap;
 import com.swirlds.virtualmap.config.VirtualMapConfig;
+import com.swirlds.virtualmap.config.VirtualMapConfig_;
 import com.swirlds.virtualmap.datasource.VirtualDataSource;
 import com.swirlds.virtualmap.datasource.VirtualDataSourceBuilder;
 import com.swirlds.virtualmap.datasource.VirtualHashRecord;
@@ -46,6 +48,7 @@ import org.hiero.base.constructable.ConstructableRegistryException;
 import org.hiero.base.crypto.Hash;
 import org.hiero.base.io.streams.SerializableDataInputStream;
 import org.hiero.base.io.streams.SerializableDataOutputStream;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 
@@ -112,9 +115,41 @@ public abstract class VirtualMapReconnectTestBase {
         registry.registerConstructable(new ClassConstructorPair(TestValue.class, TestValue::new));
         registry.registerConstructable(new ClassConstructorPair(BrokenBuilder.class, BrokenBuilder::new));
         registry.registerConstructable(new ClassConstructorPair(VirtualMapState.class, VirtualMapState::new));
-        registry.registerConstructable(new ClassConstructorPair(VirtualMap.class, () -> new VirtualMap(CONFIGURATION)));
+        registerVirtualMapConstructables(CONFIGURATION);
+    }
+
+    /**
+     * Re-creates the teacher and learner maps to use the given reconnect mode. The learner map is created by the
+     * constructable registry during reconnect, so the registry is set up to create maps with the mode, too.
+     *
+     * @param reconnectMode the reconnect mode
+     * @return the configuration with the reconnect mode
+     */
+    protected Configuration useReconnectMode(final String reconnectMode) throws ConstructableRegistryException {
+        final Configuration configuration = new TestConfigBuilder()
+                .withValue(VirtualMapConfig_.RECONNECT_MODE, reconnectMode)
+                .getOrCreateConfig();
+        teacherMap.release();
+        learnerMap.release();
+        teacherMap = new VirtualMap<>(
+                "Teacher", TestKeySerializer.INSTANCE, TestValueSerializer.INSTANCE, teacherBuilder, configuration);
+        learnerMap = new VirtualMap<>(
+                "Learner", TestKeySerializer.INSTANCE, TestValueSerializer.INSTANCE, learnerBuilder, configuration);
+        registerVirtualMapConstructables(configuration);
+        return configuration;
+    }
+
+    private static void registerVirtualMapConstructables(final Configuration configuration)
+            throws ConstructableRegistryException {
+        final ConstructableRegistry registry = ConstructableRegistry.getInstance();
+        registry.registerConstructable(new ClassConstructorPair(VirtualMap.class, () -> new VirtualMap(configuration)));
         registry.registerConstructable(new ClassConstructorPair(
-                VirtualRootNode.class, () -> new VirtualRootNode(CONFIGURATION.getConfigData(VirtualMapConfig.class))));
+                VirtualRootNode.class, () -> new VirtualRootNode(configuration.getConfigData(VirtualMapConfig.class))));
+    }
+
+    @AfterEach
+    void restoreConstructables() throws ConstructableRegistryException {
+        registerVirtualMapConstructables(CONFIGURATION);
     }
 
     protected MerkleInternal createTreeForMap(VirtualMap<TestKey, TestValue> map) {